@@ -28,6 +28,8 @@ package dev.ludovic.netlib.arpack;
 public interface ARPACK {
 
   public static final String ALLOW_NATIVE_ARPACK = "dev.ludovic.netlib.arpack.allowNative";
+  public static final String NATIVE_CACHE_DIR = "dev.ludovic.netlib.arpack.nativeCacheDir";
+  public static final String FFM_ARPACK = "dev.ludovic.netlib.arpack.ffm";
 
   public static ARPACK getInstance() {
     return InstanceBuilder.arpack();
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.arpack;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.netlib.util.doubleW;
+import org.netlib.util.intW;
+
+// Computes a few eigenvalues and eigenvectors of a symmetric linear operator
+// with dsaupd and dseupd, running their reverse communication loop. The
+// workspaces are allocated once for a given n, nev, and ncv, and reused by
+// every call to solve, so an EigenSolver isn't safe to use from multiple
+// threads at once. Different EigenSolvers created without an explicit ARPACK
+// each get their own JavaARPACK session and can solve concurrently.
+public final class EigenSolver {
+
+  private final ARPACK arpack;
+  private final int n, nev, ncv;
+  private int maxIterations = 300;
+
+  private final double[] resid;
+  private final double[] v;
+  private final double[] workd;
+  private final double[] workl;
+  private final int[] iparam = new int[11];
+  private final int[] ipntr = new int[11];
+  private final boolean[] select;
+  private final double[] d;
+  private final double[] z;
+  private double[] temp;
+
+  public EigenSolver(int n, int nev) {
+    this(JavaARPACK.newSession(), n, nev, Math.min(n, Math.max(2 * nev + 1, 20)));
+  }
+
+  public EigenSolver(ARPACK arpack, int n, int nev, int ncv) {
+    this.arpack = Objects.requireNonNull(arpack);
+    if (nev <= 0 || nev >= n) {
+      throw new IllegalArgumentException("nev must be in (0, n), got nev = " + nev + " for n = " + n);
+    }
+    if (ncv <= nev || ncv > n) {
+      throw new IllegalArgumentException("ncv must be in (nev, n], got ncv = " + ncv + " for nev = " + nev + " and n = " + n);
+    }
+    this.n = n;
+    this.nev = nev;
+    this.ncv = ncv;
+    resid = new double[n];
+    v = new double[n * ncv];
+    workd = new double[3 * n];
+    workl = new double[ncv * (ncv + 8)];
+    select = new boolean[ncv];
+    d = new double[nev];
+    z = new double[n * nev];
+  }
+
+  public int n() {
+    return n;
+  }
+
+  public int nev() {
+    return nev;
+  }
+
+  public int ncv() {
+    return ncv;
+  }
+
+  // The maximum number of implicit restarts, 300 by default
+  public EigenSolver setMaxIterations(int maxIterations) {
+    if (maxIterations <= 0) {
+      throw new IllegalArgumentException("maxIterations must be positive, got " + maxIterations);
+    }
+    this.maxIterations = maxIterations;
+    return this;
+  }
+
+  // Computes the nev eigenvalues of a selected by which ("LA", "SA", "LM",
+  // "SM", or "BE") to the relative accuracy tol, with 0 for the machine
+  // precision, and their eigenvectors
+  public Result solve(LinearOperator a, String which, double tol) {
+    return solve(a, which, tol, true);
+  }
+
+  public Result solve(LinearOperator a, String which, double tol, boolean vectors) {
+    Objects.requireNonNull(a);
+    return run("I", 1, 0.0, a, null, null, which, tol, vectors);
+  }
+
+  // Computes the nev eigenvalues selected by which of the generalized problem
+  // A * x = lambda * B * x, with B symmetric positive definite and binv
+  // computing inv(B) * x, typically a positive definite Factorization of B.
+  // The eigenvectors are then B-orthonormal.
+  public Result solveGeneralized(LinearOperator a, LinearOperator b, LinearOperator binv, String which, double tol) {
+    return solveGeneralized(a, b, binv, which, tol, true);
+  }
+
+  public Result solveGeneralized(LinearOperator a, LinearOperator b, LinearOperator binv, String which, double tol, boolean vectors) {
+    Objects.requireNonNull(a);
+    Objects.requireNonNull(b);
+    Objects.requireNonNull(binv);
+    return run("G", 2, 0.0, a, b, binv, which, tol, vectors);
+  }
+
+  // Computes the nev eigenvalues of A closest to sigma with which = "LM", with
+  // shifted computing inv(A - sigma * I) * x, typically a Factorization of
+  // A - sigma * I which is then only factored once for all iterations
+  public Result solveShiftInvert(LinearOperator shifted, double sigma, String which, double tol) {
+    return solveShiftInvert(shifted, sigma, which, tol, true);
+  }
+
+  public Result solveShiftInvert(LinearOperator shifted, double sigma, String which, double tol, boolean vectors) {
+    Objects.requireNonNull(shifted);
+    return run("I", 3, sigma, shifted, null, null, which, tol, vectors);
+  }
+
+  // Computes the nev eigenvalues of A * x = lambda * B * x closest to sigma
+  // with which = "LM", with B symmetric positive semi-definite and shifted
+  // computing inv(A - sigma * B) * x. The eigenvectors are then B-orthonormal.
+  public Result solveShiftInvert(LinearOperator shifted, LinearOperator b, double sigma, String which, double tol) {
+    return solveShiftInvert(shifted, b, sigma, which, tol, true);
+  }
+
+  public Result solveShiftInvert(LinearOperator shifted, LinearOperator b, double sigma, String which, double tol, boolean vectors) {
+    Objects.requireNonNull(shifted);
+    Objects.requireNonNull(b);
+    return run("G", 3, sigma, shifted, b, null, which, tol, vectors);
+  }
+
+  // op is A in modes 1 and 2, and inv(A - sigma * B) in mode 3
+  private Result run(String bmat, int mode, double sigma, LinearOperator op, LinearOperator b, LinearOperator binv, String which, double tol, boolean vectors) {
+    Objects.requireNonNull(which);
+
+    intW ido = new intW(0);
+    intW info = new intW(0);
+    Arrays.fill(iparam, 0);
+    iparam[0] = 1; // exact shifts
+    iparam[2] = maxIterations;
+    iparam[6] = mode;
+    doubleW tolW = new doubleW(tol);
+
+    while (true) {
+      arpack.dsaupd(ido, bmat, n, which, nev, tolW, resid, ncv, v, n, iparam, ipntr, workd, workl, workl.length, info);
+      int x = ipntr[0] - 1, y = ipntr[1] - 1;
+      if (ido.val == -1 || ido.val == 1) {
+        if (mode == 2) {
+          // y = inv(B) * A * x, leaving A * x in x
+          op.apply(workd, x, workd, y);
+          System.arraycopy(workd, y, workd, x, n);
+          binv.apply(workd, x, workd, y);
+        } else if (mode == 3 && b != null) {
+          // y = inv(A - sigma * B) * B * x, with B * x already in workd for ido = 1
+          if (ido.val == 1) {
+            op.apply(workd, ipntr[2] - 1, workd, y);
+          } else {
+            if (temp == null) {
+              temp = new double[n];
+            }
+            b.apply(workd, x, temp, 0);
+            op.apply(temp, 0, workd, y);
+          }
+        } else {
+          op.apply(workd, x, workd, y);
+        }
+      } else if (ido.val == 2) {
+        b.apply(workd, x, workd, y);
+      } else if (ido.val == 99) {
+        break;
+      } else {
+        throw new IllegalStateException("dsaupd requested unsupported operation ido = " + ido.val);
+      }
+    }
+    // info = 1 means maxIterations was reached, the converged eigenvalues are still returned
+    if (info.val != 0 && info.val != 1) {
+      throw new IllegalStateException("dsaupd failed with info = " + info.val);
+    }
+
+    int iterations = iparam[2];
+    int operations = iparam[8];
+    intW nconv = new intW(nev);
+    arpack.dseupd(vectors, "A", select, d, z, n, sigma, bmat, n, which, nconv, tolW.val, resid, ncv, v, n, iparam, ipntr, workd, workl, workl.length, info);
+    if (info.val != 0) {
+      throw new IllegalStateException("dseupd failed with info = " + info.val);
+    }
+
+    // iparam[4] holds the number of converged Ritz values
+    int converged = Math.min(iparam[4], nev);
+    return sorted(converged, vectors, iterations, operations);
+  }
+
+  // dseupd returns the eigenvalues in an order that depends on which, sort them in ascending order
+  private Result sorted(int converged, boolean vectors, int iterations, int operations) {
+    Integer[] order = new Integer[converged];
+    for (int k = 0; k < converged; k++) {
+      order[k] = k;
+    }
+    Arrays.sort(order, (i, j) -> Double.compare(d[i], d[j]));
+
+    double[] values = new double[converged];
+    double[] x = vectors ? new double[n * converged] : null;
+    for (int k = 0; k < converged; k++) {
+      values[k] = d[order[k]];
+      if (vectors) {
+        System.arraycopy(z, order[k] * n, x, k * n, n);
+      }
+    }
+    return new Result(values, x, iterations, operations);
+  }
+
+  public static final class Result {
+
+    private final double[] values;
+    private final double[] vectors;
+    private final int iterations;
+    private final int operations;
+
+    Result(double[] values, double[] vectors, int iterations, int operations) {
+      this.values = values;
+      this.vectors = vectors;
+      this.iterations = iterations;
+      this.operations = operations;
+    }
+
+    // The converged eigenvalues in ascending order, fewer than nev if maxIterations was reached
+    public double[] values() {
+      return values;
+    }
+
+    // The eigenvectors as the columns of an n by values().length matrix, or null if not requested
+    public double[] vectors() {
+      return vectors;
+    }
+
+    // The number of implicit restarts
+    public int iterations() {
+      return iterations;
+    }
+
+    // The number of calls to the operator
+    public int operations() {
+      return operations;
+    }
+  }
+}
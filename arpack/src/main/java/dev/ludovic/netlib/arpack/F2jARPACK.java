@@ -25,7 +25,7 @@
 
 package dev.ludovic.netlib.arpack;
 
-final class F2jARPACK extends AbstractARPACK implements JavaARPACK {
+class F2jARPACK extends AbstractARPACK implements JavaARPACK {
 
   private static final F2jARPACK instance = new F2jARPACK();
 
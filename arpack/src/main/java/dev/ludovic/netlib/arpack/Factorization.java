@@ -0,0 +1,219 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.arpack;
+
+import java.util.Objects;
+
+import dev.ludovic.netlib.lapack.LAPACK;
+
+import org.netlib.util.intW;
+
+// A factored n by n matrix, typically A - sigma * B for a shift-invert
+// EigenSolver. The matrix is copied and factored once when created, and
+// every apply only runs the triangular solves, computing y = inv(A) * x.
+// The factored matrix is never modified, so a Factorization can be shared
+// between threads.
+public final class Factorization implements LinearOperator {
+
+  private enum Kind { GENERAL, SYMMETRIC, POSITIVE_DEFINITE, BAND, POSITIVE_DEFINITE_BAND }
+
+  private final LAPACK lapack;
+  private final Kind kind;
+  private final String uplo;
+  private final int n, kl, ku, lda;
+  private final double[] a;
+  private final int[] ipiv;
+
+  private Factorization(LAPACK lapack, Kind kind, String uplo, int n, int kl, int ku, double[] a, int lda, int[] ipiv) {
+    this.lapack = lapack;
+    this.kind = kind;
+    this.uplo = uplo;
+    this.n = n;
+    this.kl = kl;
+    this.ku = ku;
+    this.a = a;
+    this.lda = lda;
+    this.ipiv = ipiv;
+  }
+
+  // Factors the n by n matrix a with dgetrf
+  public static Factorization general(int n, double[] a, int lda) {
+    return general(LAPACK.getInstance(), n, a, lda);
+  }
+
+  public static Factorization general(LAPACK lapack, int n, double[] a, int lda) {
+    double[] lu = copy(n, a, lda);
+    int[] ipiv = new int[n];
+    intW info = new intW(0);
+    lapack.dgetrf(n, n, lu, 0, n, ipiv, 0, info);
+    check("dgetrf", info, "singular");
+    return new Factorization(lapack, Kind.GENERAL, null, n, 0, 0, lu, n, ipiv);
+  }
+
+  // Factors the symmetric, possibly indefinite, n by n matrix a, of which only
+  // the uplo triangle is referenced, with dsytrf
+  public static Factorization symmetric(String uplo, int n, double[] a, int lda) {
+    return symmetric(LAPACK.getInstance(), uplo, n, a, lda);
+  }
+
+  public static Factorization symmetric(LAPACK lapack, String uplo, int n, double[] a, int lda) {
+    double[] ldl = copy(n, a, lda);
+    int[] ipiv = new int[n];
+    intW info = new intW(0);
+    double[] work = new double[1];
+    lapack.dsytrf(uplo, n, ldl, 0, n, ipiv, 0, work, 0, -1, info);
+    work = new double[Math.max(1, (int) Math.ceil(work[0]))];
+    lapack.dsytrf(uplo, n, ldl, 0, n, ipiv, 0, work, 0, work.length, info);
+    check("dsytrf", info, "singular");
+    return new Factorization(lapack, Kind.SYMMETRIC, uplo, n, 0, 0, ldl, n, ipiv);
+  }
+
+  // Factors the symmetric positive definite n by n matrix a, of which only
+  // the uplo triangle is referenced, with dpotrf
+  public static Factorization positiveDefinite(String uplo, int n, double[] a, int lda) {
+    return positiveDefinite(LAPACK.getInstance(), uplo, n, a, lda);
+  }
+
+  public static Factorization positiveDefinite(LAPACK lapack, String uplo, int n, double[] a, int lda) {
+    double[] llt = copy(n, a, lda);
+    intW info = new intW(0);
+    lapack.dpotrf(uplo, n, llt, 0, n, info);
+    check("dpotrf", info, "not positive definite");
+    return new Factorization(lapack, Kind.POSITIVE_DEFINITE, uplo, n, 0, 0, llt, n, null);
+  }
+
+  // Factors the n by n band matrix with kl subdiagonals and ku superdiagonals
+  // stored in ab as for dgbmv, A(i, j) in ab[ku + i - j + j * ldab], with dgbtrf
+  public static Factorization band(int n, int kl, int ku, double[] ab, int ldab) {
+    return band(LAPACK.getInstance(), n, kl, ku, ab, ldab);
+  }
+
+  public static Factorization band(LAPACK lapack, int n, int kl, int ku, double[] ab, int ldab) {
+    checkBand(n, kl, ku, ab, ldab);
+    // dgbtrf needs kl more rows for the fill-in of the partial pivoting
+    int ldlu = 2 * kl + ku + 1;
+    double[] lu = new double[ldlu * n];
+    for (int j = 0; j < n; j++) {
+      System.arraycopy(ab, j * ldab, lu, kl + j * ldlu, kl + ku + 1);
+    }
+    int[] ipiv = new int[n];
+    intW info = new intW(0);
+    lapack.dgbtrf(n, n, kl, ku, lu, 0, ldlu, ipiv, 0, info);
+    check("dgbtrf", info, "singular");
+    return new Factorization(lapack, Kind.BAND, null, n, kl, ku, lu, ldlu, ipiv);
+  }
+
+  // Factors the symmetric positive definite n by n band matrix with kd
+  // super- or subdiagonals stored in ab as for dsbmv with dpbtrf
+  public static Factorization positiveDefiniteBand(String uplo, int n, int kd, double[] ab, int ldab) {
+    return positiveDefiniteBand(LAPACK.getInstance(), uplo, n, kd, ab, ldab);
+  }
+
+  public static Factorization positiveDefiniteBand(LAPACK lapack, String uplo, int n, int kd, double[] ab, int ldab) {
+    checkBand(n, 0, kd, ab, ldab);
+    double[] llt = new double[(kd + 1) * n];
+    for (int j = 0; j < n; j++) {
+      System.arraycopy(ab, j * ldab, llt, j * (kd + 1), kd + 1);
+    }
+    intW info = new intW(0);
+    lapack.dpbtrf(uplo, n, kd, llt, 0, kd + 1, info);
+    check("dpbtrf", info, "not positive definite");
+    return new Factorization(lapack, Kind.POSITIVE_DEFINITE_BAND, uplo, n, 0, kd, llt, kd + 1, null);
+  }
+
+  public int n() {
+    return n;
+  }
+
+  // Computes y = inv(A) * x, x and y may be the same elements
+  @Override
+  public void apply(double[] x, int offsetx, double[] y, int offsety) {
+    if (x != y || offsetx != offsety) {
+      System.arraycopy(x, offsetx, y, offsety, n);
+    }
+    solve(y, offsety);
+  }
+
+  // Overwrites the n elements of b starting at offsetb with inv(A) * b
+  public void solve(double[] b, int offsetb) {
+    intW info = new intW(0);
+    String routine = null;
+    switch (kind) {
+    case GENERAL:
+      lapack.dgetrs("N", n, 1, a, 0, lda, ipiv, 0, b, offsetb, n, info);
+      routine = "dgetrs";
+      break;
+    case SYMMETRIC:
+      lapack.dsytrs(uplo, n, 1, a, 0, lda, ipiv, 0, b, offsetb, n, info);
+      routine = "dsytrs";
+      break;
+    case POSITIVE_DEFINITE:
+      lapack.dpotrs(uplo, n, 1, a, 0, lda, b, offsetb, n, info);
+      routine = "dpotrs";
+      break;
+    case BAND:
+      lapack.dgbtrs("N", n, kl, ku, 1, a, 0, lda, ipiv, 0, b, offsetb, n, info);
+      routine = "dgbtrs";
+      break;
+    case POSITIVE_DEFINITE_BAND:
+      lapack.dpbtrs(uplo, n, ku, 1, a, 0, lda, b, offsetb, n, info);
+      routine = "dpbtrs";
+      break;
+    }
+    // The solves only fail on an illegal argument, leaving b undefined
+    if (info.val != 0) {
+      throw new IllegalStateException(routine + " failed with info = " + info.val);
+    }
+  }
+
+  private static double[] copy(int n, double[] a, int lda) {
+    Objects.requireNonNull(a);
+    if (n <= 0 || lda < n || a.length < lda * (n - 1) + n) {
+      throw new IllegalArgumentException("a must be an n by n matrix with lda >= n, got n = " + n + " and lda = " + lda);
+    }
+    double[] copy = new double[n * n];
+    for (int j = 0; j < n; j++) {
+      System.arraycopy(a, j * lda, copy, j * n, n);
+    }
+    return copy;
+  }
+
+  private static void checkBand(int n, int kl, int ku, double[] ab, int ldab) {
+    Objects.requireNonNull(ab);
+    if (n <= 0 || kl < 0 || ku < 0 || ldab < kl + ku + 1 || ab.length < ldab * (n - 1) + kl + ku + 1) {
+      throw new IllegalArgumentException("ab must be an n by n band matrix with ldab >= kl + ku + 1, got n = " + n + ", kl = " + kl + ", ku = " + ku + ", and ldab = " + ldab);
+    }
+  }
+
+  private static void check(String routine, intW info, String reason) {
+    if (info.val > 0) {
+      throw new IllegalArgumentException("matrix is " + reason + ", " + routine + " returned info = " + info.val);
+    }
+    if (info.val < 0) {
+      throw new IllegalStateException(routine + " failed with info = " + info.val);
+    }
+  }
+}
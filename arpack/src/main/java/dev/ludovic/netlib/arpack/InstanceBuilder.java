@@ -56,6 +56,19 @@ final class InstanceBuilder {
   }
 
   private static NativeARPACK initializeNative() {
+    String[] fullVersion = System.getProperty("java.version").split("[+.\\-]+", 2);
+    int major = Integer.parseInt(fullVersion[0]);
+    // Opt-in until the FFM binding is built, tested, and benchmarked on JDK 22+
+    if (major >= 22 && Boolean.getBoolean(ARPACK.FFM_ARPACK)) {
+      // FFMARPACK is only compiled on JDK 22+ (see the ffm profile), hence the lookup by name
+      String ffm = "dev.ludovic.netlib.arpack.FFMARPACK";
+      try {
+        log.finest("trying to return java 22 instance");
+        return (NativeARPACK)Class.forName(ffm).getMethod("getInstance").invoke(null);
+      } catch (Throwable t) {
+        log.log(Level.FINE, "Failed to load implementation from: " + ffm, t);
+      }
+    }
     try {
       return JNIARPACK.getInstance();
     } catch (Throwable t) {
@@ -25,15 +25,9 @@
 
 package dev.ludovic.netlib.arpack;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.UncheckedIOException;
-import java.nio.file.FileSystems;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.FileAttribute;
-import java.nio.file.attribute.PosixFilePermissions;
+
+import dev.ludovic.netlib.blas.NativeLibraryCache;
 
 final class JNIARPACK extends AbstractARPACK implements NativeARPACK {
 
@@ -59,23 +53,10 @@ final class JNIARPACK extends AbstractARPACK implements NativeARPACK {
     String libExtension = osName.equals("macos") ? ".dylib" : isWindows ? ".dll" : ".so";
     String libName = libPrefix + libExtension;
 
-    FileAttribute<?>[] attrs = FileSystems.getDefault()
-        .supportedFileAttributeViews().contains("posix")
-        ? new FileAttribute<?>[]{ PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwxr-x---")) }
-        : new FileAttribute<?>[0];
-
-    Path temp;
-    try (InputStream resource = this.getClass().getClassLoader().getResourceAsStream(
-            String.format("resources/native/%s-%s/%s", osName, osArch, libName))) {
-      assert resource != null;
-      Files.copy(resource, temp = Files.createTempFile(libPrefix, libExtension, attrs),
-                  StandardCopyOption.REPLACE_EXISTING);
-      temp.toFile().deleteOnExit();
-    } catch (IOException e) {
-      throw new UncheckedIOException("Unable to load native implementation", e);
-    }
+    Path lib = NativeLibraryCache.extract(this.getClass().getClassLoader(),
+        String.format("resources/native/%s-%s/%s", osName, osArch, libName), libPrefix, libExtension, ARPACK.NATIVE_CACHE_DIR);
 
-    System.load(temp.toString());
+    System.load(lib.toString());
   }
 
   public static NativeARPACK getInstance() {
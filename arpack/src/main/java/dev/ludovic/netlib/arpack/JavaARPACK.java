@@ -25,9 +25,20 @@
 
 package dev.ludovic.netlib.arpack;
 
+import dev.ludovic.netlib.blas.JavaBLAS;
+
 public interface JavaARPACK extends ARPACK {
 
   public static JavaARPACK getInstance() {
     return InstanceBuilder.javaArpack();
   }
+
+  // A new instance that keeps the state of the reverse communication routines
+  // to itself instead of sharing it with every other instance, so that solves
+  // driven through different sessions can run concurrently. A session still
+  // drives only one solve at a time. Its operations on the Arnoldi vectors run
+  // on JavaBLAS.
+  public static JavaARPACK newSession() {
+    return new ReentrantARPACK(JavaBLAS.getInstance());
+  }
 }
@@ -0,0 +1,2568 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.arpack;
+
+import java.util.Arrays;
+
+import dev.ludovic.netlib.blas.BLAS;
+
+import org.netlib.util.doubleW;
+import org.netlib.util.floatW;
+import org.netlib.util.intW;
+
+// A Java ARPACK whose saved state lives in the instance instead of static
+// fields, and whose work on the Arnoldi vectors runs on a given BLAS. The
+// routines that keep Fortran SAVE variables between calls (_getv0, _saitr,
+// _saup2, _saupd, _naitr, _napps, _naup2, and _naupd) are ported from
+// org.netlib.arpack with those variables moved to fields, as are the operation
+// counters that _saupd and _naupd report in iparam, and so is _sapps. Their
+// BLAS calls, among which the reorthogonalization of the residual against V
+// and the update of V at every implicit restart, go through blas. The other
+// routines only work on ncv by ncv matrices or run once per solve, and are
+// inherited from F2jARPACK; _neigh and _neupd still share LAPACK scratch space
+// between sessions.
+//
+// Each instance is a session: solves driven through different instances don't
+// interfere with each other and can run concurrently, but a single instance
+// can only drive one solve at a time.
+final class ReentrantARPACK extends F2jARPACK {
+
+  // Initializing these here also runs the first-call initialization of
+  // org.netlib.lapack.[DS]lamch once, under the class initialization lock
+  private static final double dsafmin = org.netlib.lapack.Dlamch.dlamch("safmin");
+  private static final double dunfl = org.netlib.lapack.Dlamch.dlamch("safe minimum");
+  private static final double dulp = org.netlib.lapack.Dlamch.dlamch("precision");
+  private static final double depsmch = org.netlib.lapack.Dlamch.dlamch("Epsilon-Machine");
+  private static final float ssafmin = org.netlib.lapack.Slamch.slamch("safmin");
+  private static final float sunfl = org.netlib.lapack.Slamch.slamch("safe minimum");
+  private static final float sulp = org.netlib.lapack.Slamch.slamch("precision");
+  private static final float sepsmch = org.netlib.lapack.Slamch.slamch("Epsilon-Machine");
+
+  // org.netlib.lapack.[DS]laln2 keeps its scratch arrays in static fields, so
+  // the routines that reach it through [ds]trevc, _neigh and _neupd, only run
+  // in one session at a time
+  private static final Object laln2 = new Object();
+
+  // The counters of the timing common block that end up in iparam(9:11)
+  private int nopx, nbx, nrorth, nitref, nrstrt;
+
+  private static final class Dgetv0State {
+    final int[] iseed = {1, 3, 5, 7};
+    boolean first, orth;
+    int iter;
+    double rnorm0;
+  }
+
+  private static final class DsaitrState {
+    boolean orth1, orth2, rstart, step3, step4;
+    final intW ierr = new intW(0);
+    int ipj, irj, ivj, iter, itry, j;
+    double rnorm1, wnorm;
+  }
+
+  private static final class Dsaup2State {
+    boolean cnorm, getv0, initv, update, ushift;
+    int iter, kplusp, nev0, np0;
+    final intW nconv = new intW(0);
+    final doubleW rnorm = new doubleW(0.0);
+    double eps23;
+  }
+
+  private static final class DsaupdState {
+    int bounds, ih, iq, ishift, iw, ldh, ldq, mode, ritz;
+    final intW mxiter = new intW(0);
+    final intW nev0 = new intW(0);
+    final intW np = new intW(0);
+  }
+
+  private static final class DnaitrState {
+    boolean first = true;
+    boolean orth1, orth2, rstart, step3, step4;
+    final intW ierr = new intW(0);
+    int ipj, irj, ivj, iter, itry, j;
+    double betaj, rnorm1, smlnum, wnorm;
+  }
+
+  private static final class DnappsState {
+    boolean first = true;
+    double smlnum;
+  }
+
+  private static final class Dnaup2State {
+    boolean cnorm, getv0, initv, update, ushift;
+    int iter, nev0, np0, numcnv;
+    final intW kplusp = new intW(0);
+    final intW nconv = new intW(0);
+    final doubleW rnorm = new doubleW(0.0);
+    double eps23;
+  }
+
+  private static final class DnaupdState {
+    int bounds, ih, iq, ishift, iw, ldh, ldq, mode, ritzi, ritzr;
+    final intW mxiter = new intW(0);
+    final intW nev0 = new intW(0);
+    final intW np = new intW(0);
+  }
+
+  private static final class Sgetv0State {
+    final int[] iseed = {1, 3, 5, 7};
+    boolean first, orth;
+    int iter;
+    float rnorm0;
+  }
+
+  private static final class SsaitrState {
+    boolean orth1, orth2, rstart, step3, step4;
+    final intW ierr = new intW(0);
+    int ipj, irj, ivj, iter, itry, j;
+    float rnorm1, wnorm;
+  }
+
+  private static final class Ssaup2State {
+    boolean cnorm, getv0, initv, update, ushift;
+    int iter, kplusp, nev0, np0;
+    final intW nconv = new intW(0);
+    final floatW rnorm = new floatW(0.0f);
+    float eps23;
+  }
+
+  private static final class SsaupdState {
+    int bounds, ih, iq, ishift, iw, ldh, ldq, mode, ritz;
+    final intW mxiter = new intW(0);
+    final intW nev0 = new intW(0);
+    final intW np = new intW(0);
+  }
+
+  private static final class SnaitrState {
+    boolean first = true;
+    boolean orth1, orth2, rstart, step3, step4;
+    final intW ierr = new intW(0);
+    int ipj, irj, ivj, iter, itry, j;
+    float betaj, rnorm1, smlnum, wnorm;
+  }
+
+  private static final class SnappsState {
+    boolean first = true;
+    float smlnum;
+  }
+
+  private static final class Snaup2State {
+    boolean cnorm, getv0, initv, update, ushift;
+    int iter, nev0, np0, numcnv;
+    final intW kplusp = new intW(0);
+    final intW nconv = new intW(0);
+    final floatW rnorm = new floatW(0.0f);
+    float eps23;
+  }
+
+  private static final class SnaupdState {
+    int bounds, ih, iq, ishift, iw, ldh, ldq, mode, ritzi, ritzr;
+    final intW mxiter = new intW(0);
+    final intW nev0 = new intW(0);
+    final intW np = new intW(0);
+  }
+
+  private final Dgetv0State dgetv0State = new Dgetv0State();
+  private final DsaitrState dsaitrState = new DsaitrState();
+  private final Dsaup2State dsaup2State = new Dsaup2State();
+  private final DsaupdState dsaupdState = new DsaupdState();
+  private final DnaitrState dnaitrState = new DnaitrState();
+  private final DnappsState dnappsState = new DnappsState();
+  private final Dnaup2State dnaup2State = new Dnaup2State();
+  private final DnaupdState dnaupdState = new DnaupdState();
+  private final Sgetv0State sgetv0State = new Sgetv0State();
+  private final SsaitrState ssaitrState = new SsaitrState();
+  private final Ssaup2State ssaup2State = new Ssaup2State();
+  private final SsaupdState ssaupdState = new SsaupdState();
+  private final SnaitrState snaitrState = new SnaitrState();
+  private final SnappsState snappsState = new SnappsState();
+  private final Snaup2State snaup2State = new Snaup2State();
+  private final SnaupdState snaupdState = new SnaupdState();
+
+  private final BLAS blas;
+
+  ReentrantARPACK(BLAS blas) {
+    this.blas = blas;
+  }
+
+  protected void dgetv0K(intW ido, String bmat, int itry, boolean initv, int n, int j, double[] v, int offsetv, int ldv, double[] resid, int offsetresid, doubleW rnorm, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, intW ierr) {
+    Dgetv0State s = dgetv0State;
+    if (ido.val == 0) {
+      ierr.val = 0;
+      s.iter = 0;
+      s.first = false;
+      s.orth = false;
+      if (!initv) {
+        org.netlib.lapack.Dlarnv.dlarnv(2, s.iseed, 0, n, resid, offsetresid);
+      }
+      if (bmat.startsWith("G")) {
+        nopx += 1;
+        ipntr[offsetipntr] = 1;
+        ipntr[offsetipntr + 1] = n + 1;
+        blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd, 1);
+        ido.val = -1;
+        return;
+      }
+    }
+    if (!s.first && !s.orth) {
+      s.first = true;
+      if (bmat.startsWith("G")) {
+        nbx += 1;
+        blas.dcopy(n, workd, offsetworkd + n, 1, resid, offsetresid, 1);
+        ipntr[offsetipntr] = n + 1;
+        ipntr[offsetipntr + 1] = 1;
+        ido.val = 2;
+        return;
+      } else if (bmat.startsWith("I")) {
+        blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd, 1);
+      }
+    }
+    if (s.first) {
+      s.first = false;
+      s.rnorm0 = dnorm(bmat, n, resid, offsetresid, workd, offsetworkd, s.rnorm0);
+      rnorm.val = s.rnorm0;
+      if (j == 1) {
+        ido.val = 99;
+        return;
+      }
+      s.orth = true;
+      if (dgetv0Orthogonalize(ido, bmat, n, j, v, offsetv, ldv, resid, offsetresid, ipntr, offsetipntr, workd, offsetworkd)) {
+        return;
+      }
+    }
+    for (;;) {
+      rnorm.val = dnorm(bmat, n, resid, offsetresid, workd, offsetworkd, rnorm.val);
+      if (rnorm.val > 0.717f * s.rnorm0) {
+        break;
+      }
+      s.iter += 1;
+      if (s.iter > 5) {
+        Arrays.fill(resid, offsetresid, offsetresid + n, 0.0);
+        rnorm.val = 0.0;
+        ierr.val = -1;
+        break;
+      }
+      s.rnorm0 = rnorm.val;
+      if (dgetv0Orthogonalize(ido, bmat, n, j, v, offsetv, ldv, resid, offsetresid, ipntr, offsetipntr, workd, offsetworkd)) {
+        return;
+      }
+    }
+    ido.val = 99;
+  }
+
+  // Orthogonalizes resid against the first j - 1 columns of v, and returns
+  // true if the caller has to compute B * resid before dgetv0 can continue
+  private boolean dgetv0Orthogonalize(intW ido, String bmat, int n, int j, double[] v, int offsetv, int ldv, double[] resid, int offsetresid, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd) {
+    blas.dgemv("T", n, j - 1, 1.0, v, offsetv, ldv, workd, offsetworkd, 1, 0.0, workd, offsetworkd + n, 1);
+    blas.dgemv("N", n, j - 1, -1.0, v, offsetv, ldv, workd, offsetworkd + n, 1, 1.0, resid, offsetresid, 1);
+    if (bmat.startsWith("G")) {
+      nbx += 1;
+      blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd + n, 1);
+      ipntr[offsetipntr] = n + 1;
+      ipntr[offsetipntr + 1] = 1;
+      ido.val = 2;
+      return true;
+    } else if (bmat.startsWith("I")) {
+      blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd, 1);
+    }
+    return false;
+  }
+
+  // The B-norm of resid, given B * resid in workd; keeps norm for an unknown bmat
+  private double dnorm(String bmat, int n, double[] resid, int offsetresid, double[] workd, int offsetworkd, double norm) {
+    if (bmat.startsWith("G")) {
+      return Math.sqrt(Math.abs(blas.ddot(n, resid, offsetresid, 1, workd, offsetworkd, 1)));
+    } else if (bmat.startsWith("I")) {
+      return blas.dnrm2(n, resid, offsetresid, 1);
+    }
+    return norm;
+  }
+
+  protected void dsaitrK(intW ido, String bmat, int n, int k, int np, int mode, double[] resid, int offsetresid, doubleW rnorm, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, intW info) {
+    DsaitrState s = dsaitrState;
+    if (ido.val == 0) {
+      info.val = 0;
+      s.step3 = false;
+      s.step4 = false;
+      s.rstart = false;
+      s.orth1 = false;
+      s.orth2 = false;
+      s.j = k + 1;
+      s.ipj = 1;
+      s.irj = s.ipj + n;
+      s.ivj = s.irj + n;
+    }
+    int label = s.step3 ? 50 : s.step4 ? 60 : s.orth1 ? 70 : s.orth2 ? 90 : s.rstart ? 30 : 1000;
+    for (;;) {
+      int vj = offsetv + (s.j - 1) * ldv;
+      int hj1 = offseth + s.j - 1;
+      int hj2 = hj1 + ldh;
+      switch (label) {
+      case 1000:
+        if (rnorm.val > 0.0) {
+          label = 40;
+          continue;
+        }
+        nrstrt += 1;
+        s.itry = 1;
+      case 20:
+        s.rstart = true;
+        ido.val = 0;
+      case 30:
+        dgetv0K(ido, bmat, s.itry, false, n, s.j, v, offsetv, ldv, resid, offsetresid, rnorm, ipntr, offsetipntr, workd, offsetworkd, s.ierr);
+        if (ido.val != 99) {
+          return;
+        }
+        if (s.ierr.val < 0) {
+          s.itry += 1;
+          if (s.itry <= 3) {
+            label = 20;
+            continue;
+          }
+          info.val = s.j - 1;
+          ido.val = 99;
+          return;
+        }
+      case 40:
+        blas.dcopy(n, resid, offsetresid, 1, v, vj, 1);
+        if (rnorm.val >= dsafmin) {
+          double temp1 = 1.0 / rnorm.val;
+          blas.dscal(n, temp1, v, vj, 1);
+          blas.dscal(n, temp1, workd, offsetworkd + s.ipj - 1, 1);
+        } else {
+          intW infol = new intW(0);
+          org.netlib.lapack.Dlascl.dlascl("General", 0, 0, rnorm.val, 1.0, n, 1, v, vj, n, infol);
+          org.netlib.lapack.Dlascl.dlascl("General", 0, 0, rnorm.val, 1.0, n, 1, workd, offsetworkd + s.ipj - 1, n, infol);
+        }
+        s.step3 = true;
+        nopx += 1;
+        blas.dcopy(n, v, vj, 1, workd, offsetworkd + s.ivj - 1, 1);
+        ipntr[offsetipntr] = s.ivj;
+        ipntr[offsetipntr + 1] = s.irj;
+        ipntr[offsetipntr + 2] = s.ipj;
+        ido.val = 1;
+        return;
+      case 50:
+        s.step3 = false;
+        blas.dcopy(n, workd, offsetworkd + s.irj - 1, 1, resid, offsetresid, 1);
+        if (mode == 2) {
+          label = 65;
+          continue;
+        }
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          s.step4 = true;
+          ipntr[offsetipntr] = s.irj;
+          ipntr[offsetipntr + 1] = s.ipj;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd + s.ipj - 1, 1);
+        }
+      case 60:
+        s.step4 = false;
+      case 65:
+        if (mode == 2) {
+          s.wnorm = Math.sqrt(Math.abs(blas.ddot(n, resid, offsetresid, 1, workd, offsetworkd + s.ivj - 1, 1)));
+        } else {
+          s.wnorm = dnorm(bmat, n, resid, offsetresid, workd, offsetworkd + s.ipj - 1, s.wnorm);
+        }
+        blas.dgemv("T", n, s.j, 1.0, v, offsetv, ldv, workd, offsetworkd + (mode != 2 ? s.ipj : s.ivj) - 1, 1, 0.0, workd, offsetworkd + s.irj - 1, 1);
+        blas.dgemv("N", n, s.j, -1.0, v, offsetv, ldv, workd, offsetworkd + s.irj - 1, 1, 1.0, resid, offsetresid, 1);
+        h[hj2] = workd[offsetworkd + s.irj + s.j - 2];
+        h[hj1] = s.j == 1 || s.rstart ? 0.0 : rnorm.val;
+        s.orth1 = true;
+        s.iter = 0;
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd + s.irj - 1, 1);
+          ipntr[offsetipntr] = s.irj;
+          ipntr[offsetipntr + 1] = s.ipj;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd + s.ipj - 1, 1);
+        }
+      case 70:
+        s.orth1 = false;
+        rnorm.val = dnorm(bmat, n, resid, offsetresid, workd, offsetworkd + s.ipj - 1, rnorm.val);
+        if (rnorm.val > 0.717f * s.wnorm) {
+          label = 100;
+          continue;
+        }
+        nrorth += 1;
+      case 80:
+        blas.dgemv("T", n, s.j, 1.0, v, offsetv, ldv, workd, offsetworkd + s.ipj - 1, 1, 0.0, workd, offsetworkd + s.irj - 1, 1);
+        blas.dgemv("N", n, s.j, -1.0, v, offsetv, ldv, workd, offsetworkd + s.irj - 1, 1, 1.0, resid, offsetresid, 1);
+        if (s.j == 1 || s.rstart) {
+          h[hj1] = 0.0;
+        }
+        h[hj2] = h[hj2] + workd[offsetworkd + s.irj + s.j - 2];
+        s.orth2 = true;
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd + s.irj - 1, 1);
+          ipntr[offsetipntr] = s.irj;
+          ipntr[offsetipntr + 1] = s.ipj;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd + s.ipj - 1, 1);
+        }
+      case 90:
+        s.rnorm1 = dnorm(bmat, n, resid, offsetresid, workd, offsetworkd + s.ipj - 1, s.rnorm1);
+        if (s.rnorm1 > 0.717f * rnorm.val) {
+          rnorm.val = s.rnorm1;
+        } else {
+          nitref += 1;
+          rnorm.val = s.rnorm1;
+          s.iter += 1;
+          if (s.iter <= 1) {
+            label = 80;
+            continue;
+          }
+          Arrays.fill(resid, offsetresid, offsetresid + n, 0.0);
+          rnorm.val = 0.0;
+        }
+      case 100:
+        s.rstart = false;
+        s.orth2 = false;
+        if (h[hj1] < 0.0) {
+          h[hj1] = -h[hj1];
+          if (s.j < k + np) {
+            blas.dscal(n, -1.0, v, vj + ldv, 1);
+          } else {
+            blas.dscal(n, -1.0, resid, offsetresid, 1);
+          }
+        }
+        s.j += 1;
+        if (s.j > k + np) {
+          ido.val = 99;
+          return;
+        }
+        label = 1000;
+      }
+    }
+  }
+
+  protected void dsappsK(int n, int kev, int np, double[] shift, int offsetshift, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] resid, int offsetresid, double[] q, int offsetq, int ldq, double[] workd, int offsetworkd) {
+    int kplusp = kev + np;
+    org.netlib.lapack.Dlaset.dlaset("All", kplusp, kplusp, 0.0, 1.0, q, offsetq, ldq);
+    if (np == 0) {
+      return;
+    }
+    doubleW c = new doubleW(0.0), s = new doubleW(0.0), r = new doubleW(0.0);
+    // H is stored as its subdiagonal in h(:, 1) and its diagonal in h(:, 2)
+    int itop = 1;
+    for (int jj = 1; jj <= np; jj++) {
+      int istart = itop;
+      int iend;
+      do {
+        // Looks for a negligible subdiagonal element to split H
+        iend = kplusp;
+        for (int i = istart; i <= kplusp - 1; i++) {
+          double big = Math.abs(h[offseth + (i - 1) + ldh]) + Math.abs(h[offseth + i + ldh]);
+          if (h[offseth + i] <= depsmch * big) {
+            h[offseth + i] = 0.0;
+            iend = i;
+            break;
+          }
+        }
+        if (istart < iend) {
+          // Chases the bulge created by the shift down the block with Givens rotations
+          double f = h[offseth + (istart - 1) + ldh] - shift[offsetshift + jj - 1];
+          double g = h[offseth + istart];
+          org.netlib.lapack.Dlartg.dlartg(f, g, c, s, r);
+          double a1 = c.val * h[offseth + (istart - 1) + ldh] + s.val * h[offseth + istart];
+          double a2 = c.val * h[offseth + istart] + s.val * h[offseth + istart + ldh];
+          double a4 = c.val * h[offseth + istart + ldh] - s.val * h[offseth + istart];
+          double a3 = c.val * h[offseth + istart] - s.val * h[offseth + (istart - 1) + ldh];
+          h[offseth + (istart - 1) + ldh] = c.val * a1 + s.val * a2;
+          h[offseth + istart + ldh] = c.val * a4 - s.val * a3;
+          h[offseth + istart] = c.val * a3 + s.val * a4;
+          for (int j = 1; j <= Math.min(istart + jj, kplusp); j++) {
+            double t = c.val * q[offsetq + (j - 1) + (istart - 1) * ldq] + s.val * q[offsetq + (j - 1) + istart * ldq];
+            q[offsetq + (j - 1) + istart * ldq] = -s.val * q[offsetq + (j - 1) + (istart - 1) * ldq] + c.val * q[offsetq + (j - 1) + istart * ldq];
+            q[offsetq + (j - 1) + (istart - 1) * ldq] = t;
+          }
+          for (int i = istart + 1; i <= iend - 1; i++) {
+            f = h[offseth + (i - 1)];
+            g = s.val * h[offseth + i];
+            h[offseth + i] = c.val * h[offseth + i];
+            org.netlib.lapack.Dlartg.dlartg(f, g, c, s, r);
+            if (r.val < 0.0) {
+              r.val = -r.val;
+              c.val = -c.val;
+              s.val = -s.val;
+            }
+            h[offseth + (i - 1)] = r.val;
+            a1 = c.val * h[offseth + (i - 1) + ldh] + s.val * h[offseth + i];
+            a2 = c.val * h[offseth + i] + s.val * h[offseth + i + ldh];
+            a3 = c.val * h[offseth + i] - s.val * h[offseth + (i - 1) + ldh];
+            a4 = c.val * h[offseth + i + ldh] - s.val * h[offseth + i];
+            h[offseth + (i - 1) + ldh] = c.val * a1 + s.val * a2;
+            h[offseth + i + ldh] = c.val * a4 - s.val * a3;
+            h[offseth + i] = c.val * a3 + s.val * a4;
+            for (int j = 1; j <= Math.min(i + jj, kplusp); j++) {
+              double t = c.val * q[offsetq + (j - 1) + (i - 1) * ldq] + s.val * q[offsetq + (j - 1) + i * ldq];
+              q[offsetq + (j - 1) + i * ldq] = -s.val * q[offsetq + (j - 1) + (i - 1) * ldq] + c.val * q[offsetq + (j - 1) + i * ldq];
+              q[offsetq + (j - 1) + (i - 1) * ldq] = t;
+            }
+          }
+        }
+        istart = iend + 1;
+        // Makes the subdiagonal element at the end of the block nonnegative
+        if (h[offseth + (iend - 1)] < 0.0) {
+          h[offseth + (iend - 1)] = -h[offseth + (iend - 1)];
+          blas.dscal(kplusp, -1.0, q, offsetq + (iend - 1) * ldq, 1);
+        }
+      } while (iend < kplusp);
+
+      // Skips the blocks at the top that are already split off
+      for (int i = itop; i <= kplusp - 1; i++) {
+        if (h[offseth + i] > 0.0) {
+          break;
+        }
+        itop = itop + 1;
+      }
+    }
+
+    for (int i = itop; i <= kplusp - 1; i++) {
+      double big = Math.abs(h[offseth + (i - 1) + ldh]) + Math.abs(h[offseth + i + ldh]);
+      if (h[offseth + i] <= depsmch * big) {
+        h[offseth + i] = 0.0;
+      }
+    }
+
+    // Computes the kev + 1 first columns of V * Q into V
+    if (h[offseth + kev] > 0.0) {
+      blas.dgemv("N", n, kplusp, 1.0, v, offsetv, ldv, q, offsetq + kev * ldq, 1, 0.0, workd, offsetworkd + n, 1);
+    }
+    for (int i = 1; i <= kev; i++) {
+      blas.dgemv("N", n, kplusp - i + 1, 1.0, v, offsetv, ldv, q, offsetq + (kev - i) * ldq, 1, 0.0, workd, offsetworkd, 1);
+      blas.dcopy(n, workd, offsetworkd, 1, v, offsetv + (kplusp - i) * ldv, 1);
+    }
+    org.netlib.lapack.Dlacpy.dlacpy("All", n, kev, v, offsetv + np * ldv, ldv, v, offsetv, ldv);
+    if (h[offseth + kev] > 0.0) {
+      blas.dcopy(n, workd, offsetworkd + n, 1, v, offsetv + kev * ldv, 1);
+    }
+
+    // Updates the residual vector to r = sigmak * r + betak * v(:, kev + 1)
+    blas.dscal(n, q[offsetq + (kplusp - 1) + (kev - 1) * ldq], resid, offsetresid, 1);
+    if (h[offseth + kev] > 0.0) {
+      blas.daxpy(n, h[offseth + kev], v, offsetv + kev * ldv, 1, resid, offsetresid, 1);
+    }
+  }
+
+  protected void dsaup2K(intW ido, String bmat, int n, String which, intW nev, intW np, double tol, double[] resid, int offsetresid, int mode, int iupd, int ishift, intW mxiter, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, intW info) {
+    Dsaup2State s = dsaup2State;
+    if (ido.val == 0) {
+      s.eps23 = Math.pow(org.netlib.lapack.Dlamch.dlamch("Epsilon-Machine"), 2.0 / 3.0);
+      s.nev0 = nev.val;
+      s.np0 = np.val;
+      s.kplusp = s.nev0 + s.np0;
+      s.nconv.val = 0;
+      s.iter = 0;
+      s.getv0 = true;
+      s.update = false;
+      s.ushift = false;
+      s.cnorm = false;
+      s.initv = info.val != 0;
+      info.val = 0;
+    }
+    if (s.getv0) {
+      dgetv0K(ido, bmat, 1, s.initv, n, 1, v, offsetv, ldv, resid, offsetresid, s.rnorm, ipntr, offsetipntr, workd, offsetworkd, info);
+      if (ido.val != 99) {
+        return;
+      }
+      if (s.rnorm.val == 0.0) {
+        info.val = -9;
+        ido.val = 99;
+        return;
+      }
+      s.getv0 = false;
+      ido.val = 0;
+    }
+    int label = s.update ? 20 : s.ushift ? 50 : s.cnorm ? 100 : 10;
+    for (;;) {
+      switch (label) {
+      case 10:
+        dsaitrK(ido, bmat, n, 0, s.nev0, mode, resid, offsetresid, s.rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+        if (ido.val != 99) {
+          return;
+        }
+        if (info.val > 0) {
+          np.val = info.val;
+          mxiter.val = s.iter;
+          info.val = -9999;
+          ido.val = 99;
+          return;
+        }
+      case 1000:
+        s.iter += 1;
+        np.val = s.kplusp - nev.val;
+        ido.val = 0;
+      case 20:
+        s.update = true;
+        dsaitrK(ido, bmat, n, nev.val, np.val, mode, resid, offsetresid, s.rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+        if (ido.val != 99) {
+          return;
+        }
+        if (info.val > 0) {
+          np.val = info.val;
+          mxiter.val = s.iter;
+          info.val = -9999;
+          ido.val = 99;
+          return;
+        }
+        s.update = false;
+        intW ierr = new intW(0);
+        dseigtK(s.rnorm.val, s.kplusp, h, offseth, ldh, ritz, offsetritz, bounds, offsetbounds, workl, offsetworkl, ierr);
+        if (ierr.val != 0) {
+          info.val = -8;
+          ido.val = 99;
+          return;
+        }
+        blas.dcopy(s.kplusp, ritz, offsetritz, 1, workl, offsetworkl + s.kplusp, 1);
+        blas.dcopy(s.kplusp, bounds, offsetbounds, 1, workl, offsetworkl + 2 * s.kplusp, 1);
+        nev.val = s.nev0;
+        np.val = s.np0;
+        dsgetsK(ishift, which, nev, np, ritz, offsetritz, bounds, offsetbounds, workl, offsetworkl);
+        blas.dcopy(nev.val, bounds, offsetbounds + np.val, 1, workl, offsetworkl + np.val, 1);
+        dsconvK(nev.val, ritz, offsetritz + np.val, workl, offsetworkl + np.val, tol, s.nconv);
+        for (int j = 0, nptemp = np.val; j < nptemp; j++) {
+          if (bounds[offsetbounds + j] == 0.0) {
+            np.val -= 1;
+            nev.val += 1;
+          }
+        }
+        if (s.nconv.val >= s.nev0 || s.iter > mxiter.val || np.val == 0) {
+          if (which.startsWith("BE")) {
+            dsortrK("SA", true, s.kplusp, ritz, offsetritz, bounds, offsetbounds);
+            int nevd2 = s.nev0 / 2;
+            int nevm2 = s.nev0 - nevd2;
+            if (nev.val > 1) {
+              int swap = Math.max(s.kplusp - nevd2 + 1, s.kplusp - np.val + 1) - 1;
+              blas.dswap(Math.min(nevd2, np.val), ritz, offsetritz + nevm2, 1, ritz, offsetritz + swap, 1);
+              blas.dswap(Math.min(nevd2, np.val), bounds, offsetbounds + nevm2, 1, bounds, offsetbounds + swap, 1);
+            }
+          } else {
+            String wprime = "";
+            if (which.startsWith("LM")) wprime = "SM";
+            if (which.startsWith("SM")) wprime = "LM";
+            if (which.startsWith("LA")) wprime = "SA";
+            if (which.startsWith("SA")) wprime = "LA";
+            dsortrK(wprime, true, s.kplusp, ritz, offsetritz, bounds, offsetbounds);
+          }
+          for (int j = 0; j < s.nev0; j++) {
+            bounds[offsetbounds + j] = bounds[offsetbounds + j] / Math.max(s.eps23, Math.abs(ritz[offsetritz + j]));
+          }
+          dsortrK("LA", true, s.nev0, bounds, offsetbounds, ritz, offsetritz);
+          for (int j = 0; j < s.nev0; j++) {
+            bounds[offsetbounds + j] = bounds[offsetbounds + j] * Math.max(s.eps23, Math.abs(ritz[offsetritz + j]));
+          }
+          dsortrK(which.startsWith("BE") ? "LA" : which, true, s.nconv.val, ritz, offsetritz, bounds, offsetbounds);
+          h[offseth] = s.rnorm.val;
+          if (s.iter > mxiter.val && s.nconv.val < nev.val) {
+            info.val = 1;
+          }
+          if (np.val == 0 && s.nconv.val < s.nev0) {
+            info.val = 2;
+          }
+          np.val = s.nconv.val;
+          mxiter.val = s.iter;
+          nev.val = s.nconv.val;
+          ido.val = 99;
+          return;
+        } else if (s.nconv.val < nev.val && ishift == 1) {
+          int nevbef = nev.val;
+          nev.val = nev.val + Math.min(s.nconv.val, np.val / 2);
+          if (nev.val == 1 && s.kplusp >= 6) {
+            nev.val = s.kplusp / 2;
+          } else if (nev.val == 1 && s.kplusp > 2) {
+            nev.val = 2;
+          }
+          np.val = s.kplusp - nev.val;
+          if (nevbef < nev.val) {
+            dsgetsK(ishift, which, nev, np, ritz, offsetritz, bounds, offsetbounds, workl, offsetworkl);
+          }
+        }
+        if (ishift == 0) {
+          s.ushift = true;
+          ido.val = 3;
+          return;
+        }
+      case 50:
+        s.ushift = false;
+        if (ishift == 0) {
+          blas.dcopy(np.val, workl, offsetworkl, 1, ritz, offsetritz, 1);
+        }
+        dsappsK(n, nev.val, np.val, ritz, offsetritz, v, offsetv, ldv, h, offseth, ldh, resid, offsetresid, q, offsetq, ldq, workd, offsetworkd);
+        s.cnorm = true;
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd + n, 1);
+          ipntr[offsetipntr] = n + 1;
+          ipntr[offsetipntr + 1] = 1;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd, 1);
+        }
+      case 100:
+        s.rnorm.val = dnorm(bmat, n, resid, offsetresid, workd, offsetworkd, s.rnorm.val);
+        s.cnorm = false;
+        label = 1000;
+      }
+    }
+  }
+
+  protected void dsaupdK(intW ido, String bmat, int n, String which, int nev, doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, intW info) {
+    DsaupdState s = dsaupdState;
+    if (ido.val == 0) {
+      nopx = nbx = nrorth = nitref = nrstrt = 0;
+      int ierr = 0;
+      s.ishift = iparam[offsetiparam];
+      s.mxiter.val = iparam[offsetiparam + 2];
+      s.mode = iparam[offsetiparam + 6];
+      if (n <= 0) {
+        ierr = -1;
+      } else if (nev <= 0) {
+        ierr = -2;
+      } else if (ncv <= nev || ncv > n) {
+        ierr = -3;
+      }
+      if (s.mxiter.val <= 0) {
+        ierr = -4;
+      }
+      if (!which.startsWith("LM") && !which.startsWith("SM") && !which.startsWith("LA") && !which.startsWith("SA") && !which.startsWith("BE")) {
+        ierr = -5;
+      }
+      if (!bmat.startsWith("I") && !bmat.startsWith("G")) {
+        ierr = -6;
+      }
+      if (lworkl < ncv * ncv + 8 * ncv) {
+        ierr = -7;
+      }
+      if (s.mode < 1 || s.mode > 5) {
+        ierr = -10;
+      } else if (s.mode == 1 && bmat.startsWith("G")) {
+        ierr = -11;
+      } else if (s.ishift < 0 || s.ishift > 1) {
+        ierr = -12;
+      } else if (nev == 1 && which.startsWith("BE")) {
+        ierr = -13;
+      }
+      if (ierr != 0) {
+        info.val = ierr;
+        ido.val = 99;
+        return;
+      }
+      if (tol.val <= 0.0) {
+        tol.val = org.netlib.lapack.Dlamch.dlamch("EpsMach");
+      }
+      s.np.val = ncv - nev;
+      s.nev0.val = nev;
+      Arrays.fill(workl, offsetworkl, offsetworkl + ncv * ncv + 8 * ncv, 0.0);
+      s.ldh = ncv;
+      s.ldq = ncv;
+      s.ih = 1;
+      s.ritz = s.ih + 2 * s.ldh;
+      s.bounds = s.ritz + ncv;
+      s.iq = s.bounds + ncv;
+      s.iw = s.iq + ncv * ncv;
+      ipntr[offsetipntr + 3] = s.iw + 3 * ncv;
+      ipntr[offsetipntr + 4] = s.ih;
+      ipntr[offsetipntr + 5] = s.ritz;
+      ipntr[offsetipntr + 6] = s.bounds;
+      ipntr[offsetipntr + 10] = s.iw;
+    }
+    dsaup2K(ido, bmat, n, which, s.nev0, s.np, tol.val, resid, offsetresid, s.mode, 1, s.ishift, s.mxiter, v, offsetv, ldv, workl, offsetworkl + s.ih - 1, s.ldh, workl, offsetworkl + s.ritz - 1, workl, offsetworkl + s.bounds - 1, workl, offsetworkl + s.iq - 1, s.ldq, workl, offsetworkl + s.iw - 1, ipntr, offsetipntr, workd, offsetworkd, info);
+    if (ido.val == 3) {
+      iparam[offsetiparam + 7] = s.np.val;
+    }
+    if (ido.val != 99) {
+      return;
+    }
+    iparam[offsetiparam + 2] = s.mxiter.val;
+    iparam[offsetiparam + 4] = s.np.val;
+    iparam[offsetiparam + 8] = nopx;
+    iparam[offsetiparam + 9] = nbx;
+    iparam[offsetiparam + 10] = nrorth;
+    if (info.val == 2) {
+      info.val = 3;
+    }
+  }
+
+  protected void dnaitrK(intW ido, String bmat, int n, int k, int np, int nb, double[] resid, int offsetresid, doubleW rnorm, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, intW info) {
+    DnaitrState s = dnaitrState;
+    if (s.first) {
+      s.first = false;
+      s.smlnum = dunfl * (n / dulp);
+    }
+    if (ido.val == 0) {
+      info.val = 0;
+      s.step3 = false;
+      s.step4 = false;
+      s.rstart = false;
+      s.orth1 = false;
+      s.orth2 = false;
+      s.j = k + 1;
+      s.ipj = 1;
+      s.irj = s.ipj + n;
+      s.ivj = s.irj + n;
+    }
+    int label = s.step3 ? 50 : s.step4 ? 60 : s.orth1 ? 70 : s.orth2 ? 90 : s.rstart ? 30 : 1000;
+    for (;;) {
+      int vj = offsetv + (s.j - 1) * ldv;
+      int hj = offseth + (s.j - 1) * ldh;
+      switch (label) {
+      case 1000:
+        s.betaj = rnorm.val;
+        if (rnorm.val > 0.0) {
+          label = 40;
+          continue;
+        }
+        s.betaj = 0.0;
+        nrstrt += 1;
+        s.itry = 1;
+      case 20:
+        s.rstart = true;
+        ido.val = 0;
+      case 30:
+        dgetv0K(ido, bmat, s.itry, false, n, s.j, v, offsetv, ldv, resid, offsetresid, rnorm, ipntr, offsetipntr, workd, offsetworkd, s.ierr);
+        if (ido.val != 99) {
+          return;
+        }
+        if (s.ierr.val < 0) {
+          s.itry += 1;
+          if (s.itry <= 3) {
+            label = 20;
+            continue;
+          }
+          info.val = s.j - 1;
+          ido.val = 99;
+          return;
+        }
+      case 40:
+        blas.dcopy(n, resid, offsetresid, 1, v, vj, 1);
+        if (rnorm.val >= dunfl) {
+          double temp1 = 1.0 / rnorm.val;
+          blas.dscal(n, temp1, v, vj, 1);
+          blas.dscal(n, temp1, workd, offsetworkd + s.ipj - 1, 1);
+        } else {
+          intW infol = new intW(0);
+          org.netlib.lapack.Dlascl.dlascl("General", 0, 0, rnorm.val, 1.0, n, 1, v, vj, n, infol);
+          org.netlib.lapack.Dlascl.dlascl("General", 0, 0, rnorm.val, 1.0, n, 1, workd, offsetworkd + s.ipj - 1, n, infol);
+        }
+        s.step3 = true;
+        nopx += 1;
+        blas.dcopy(n, v, vj, 1, workd, offsetworkd + s.ivj - 1, 1);
+        ipntr[offsetipntr] = s.ivj;
+        ipntr[offsetipntr + 1] = s.irj;
+        ipntr[offsetipntr + 2] = s.ipj;
+        ido.val = 1;
+        return;
+      case 50:
+        s.step3 = false;
+        blas.dcopy(n, workd, offsetworkd + s.irj - 1, 1, resid, offsetresid, 1);
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          s.step4 = true;
+          ipntr[offsetipntr] = s.irj;
+          ipntr[offsetipntr + 1] = s.ipj;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd + s.ipj - 1, 1);
+        }
+      case 60:
+        s.step4 = false;
+        s.wnorm = dnorm(bmat, n, resid, offsetresid, workd, offsetworkd + s.ipj - 1, s.wnorm);
+        blas.dgemv("T", n, s.j, 1.0, v, offsetv, ldv, workd, offsetworkd + s.ipj - 1, 1, 0.0, h, hj, 1);
+        blas.dgemv("N", n, s.j, -1.0, v, offsetv, ldv, h, hj, 1, 1.0, resid, offsetresid, 1);
+        if (s.j > 1) {
+          h[hj + s.j - 1 - ldh] = s.betaj;
+        }
+        s.orth1 = true;
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd + s.irj - 1, 1);
+          ipntr[offsetipntr] = s.irj;
+          ipntr[offsetipntr + 1] = s.ipj;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd + s.ipj - 1, 1);
+        }
+      case 70:
+        s.orth1 = false;
+        rnorm.val = dnorm(bmat, n, resid, offsetresid, workd, offsetworkd + s.ipj - 1, rnorm.val);
+        if (rnorm.val > 0.717f * s.wnorm) {
+          label = 100;
+          continue;
+        }
+        s.iter = 0;
+        nrorth += 1;
+      case 80:
+        blas.dgemv("T", n, s.j, 1.0, v, offsetv, ldv, workd, offsetworkd + s.ipj - 1, 1, 0.0, workd, offsetworkd + s.irj - 1, 1);
+        blas.dgemv("N", n, s.j, -1.0, v, offsetv, ldv, workd, offsetworkd + s.irj - 1, 1, 1.0, resid, offsetresid, 1);
+        blas.daxpy(s.j, 1.0, workd, offsetworkd + s.irj - 1, 1, h, hj, 1);
+        s.orth2 = true;
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd + s.irj - 1, 1);
+          ipntr[offsetipntr] = s.irj;
+          ipntr[offsetipntr + 1] = s.ipj;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd + s.ipj - 1, 1);
+        }
+      case 90:
+        s.rnorm1 = dnorm(bmat, n, resid, offsetresid, workd, offsetworkd + s.ipj - 1, s.rnorm1);
+        if (s.rnorm1 > 0.717f * rnorm.val) {
+          rnorm.val = s.rnorm1;
+        } else {
+          nitref += 1;
+          rnorm.val = s.rnorm1;
+          s.iter += 1;
+          if (s.iter <= 1) {
+            label = 80;
+            continue;
+          }
+          Arrays.fill(resid, offsetresid, offsetresid + n, 0.0);
+          rnorm.val = 0.0;
+        }
+      case 100:
+        s.rstart = false;
+        s.orth2 = false;
+        s.j += 1;
+        if (s.j > k + np) {
+          ido.val = 99;
+          for (int i = Math.max(1, k); i <= k + np - 1; i++) {
+            int hii = offseth + (i - 1) + (i - 1) * ldh;
+            double tst1 = Math.abs(h[hii]) + Math.abs(h[hii + 1 + ldh]);
+            if (tst1 == 0.0) {
+              tst1 = org.netlib.lapack.Dlanhs.dlanhs("1", k + np, h, offseth, ldh, workd, offsetworkd + n);
+            }
+            if (Math.abs(h[hii + 1]) <= Math.max(dulp * tst1, s.smlnum)) {
+              h[hii + 1] = 0.0;
+            }
+          }
+          return;
+        }
+        label = 1000;
+      }
+    }
+  }
+
+  protected void dnappsK(int n, intW kev, int np, double[] shiftr, int offsetshiftr, double[] shifti, int offsetshifti, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] resid, int offsetresid, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, double[] workd, int offsetworkd) {
+    DnappsState s = dnappsState;
+    if (s.first) {
+      s.smlnum = dunfl * (n / dulp);
+      s.first = false;
+    }
+    int kplusp = kev.val + np;
+    org.netlib.lapack.Dlaset.dlaset("All", kplusp, kplusp, 0.0, 1.0, q, offsetq, ldq);
+    if (np == 0) {
+      return;
+    }
+    doubleW c = new doubleW(0.0), sn = new doubleW(0.0), r = new doubleW(0.0), tau = new doubleW(0.0), alpha = new doubleW(0.0);
+    double[] u = new double[3];
+    boolean cconj = false;
+    for (int jj = 1; jj <= np; jj++) {
+      double sigmar = shiftr[offsetshiftr + jj - 1];
+      double sigmai = shifti[offsetshifti + jj - 1];
+      if (cconj) {
+        // the second shift of a complex conjugate pair was applied with the first
+        cconj = false;
+        continue;
+      } else if (jj < np && Math.abs(sigmai) > 0.0) {
+        cconj = true;
+      } else if (jj == np && Math.abs(sigmai) > 0.0) {
+        // the last shift is complex but its conjugate is not in the list
+        kev.val = kev.val + 1;
+        continue;
+      }
+      int istart = 1;
+      int iend;
+      do {
+        // Looks for a negligible subdiagonal element to split H
+        iend = kplusp;
+        for (int i = istart; i <= kplusp - 1; i++) {
+          double tst1 = Math.abs(h[offseth + (i - 1) + (i - 1) * ldh]) + Math.abs(h[offseth + i + i * ldh]);
+          if (tst1 == 0.0) {
+            tst1 = org.netlib.lapack.Dlanhs.dlanhs("1", kplusp - jj + 1, h, offseth, ldh, workl, offsetworkl);
+          }
+          if (Math.abs(h[offseth + i + (i - 1) * ldh]) <= Math.max(dulp * tst1, s.smlnum)) {
+            iend = i;
+            h[offseth + i + (i - 1) * ldh] = 0.0;
+            break;
+          }
+        }
+        if (istart == iend || (istart + 1 == iend && Math.abs(sigmai) > 0.0)) {
+          // a 1x1 block, or a 2x2 block with a complex shift, is left as is
+        } else if (Math.abs(sigmai) <= 0.0) {
+          // A real shift, applied with a chain of Givens rotations
+          double h11 = h[offseth + (istart - 1) + (istart - 1) * ldh];
+          double h21 = h[offseth + istart + (istart - 1) * ldh];
+          double f = h11 - sigmar;
+          double g = h21;
+          for (int i = istart; i <= iend - 1; i++) {
+            org.netlib.lapack.Dlartg.dlartg(f, g, c, sn, r);
+            if (i > istart) {
+              if (r.val < 0.0) {
+                r.val = -r.val;
+                c.val = -c.val;
+                sn.val = -sn.val;
+              }
+              h[offseth + (i - 1) + (i - 2) * ldh] = r.val;
+              h[offseth + i + (i - 2) * ldh] = 0.0;
+            }
+            for (int j = i; j <= kplusp; j++) {
+              double t = c.val * h[offseth + (i - 1) + (j - 1) * ldh] + sn.val * h[offseth + i + (j - 1) * ldh];
+              h[offseth + i + (j - 1) * ldh] = -sn.val * h[offseth + (i - 1) + (j - 1) * ldh] + c.val * h[offseth + i + (j - 1) * ldh];
+              h[offseth + (i - 1) + (j - 1) * ldh] = t;
+            }
+            for (int j = 1; j <= Math.min(i + 2, iend); j++) {
+              double t = c.val * h[offseth + (j - 1) + (i - 1) * ldh] + sn.val * h[offseth + (j - 1) + i * ldh];
+              h[offseth + (j - 1) + i * ldh] = -sn.val * h[offseth + (j - 1) + (i - 1) * ldh] + c.val * h[offseth + (j - 1) + i * ldh];
+              h[offseth + (j - 1) + (i - 1) * ldh] = t;
+            }
+            for (int j = 1; j <= Math.min(i + jj, kplusp); j++) {
+              double t = c.val * q[offsetq + (j - 1) + (i - 1) * ldq] + sn.val * q[offsetq + (j - 1) + i * ldq];
+              q[offsetq + (j - 1) + i * ldq] = -sn.val * q[offsetq + (j - 1) + (i - 1) * ldq] + c.val * q[offsetq + (j - 1) + i * ldq];
+              q[offsetq + (j - 1) + (i - 1) * ldq] = t;
+            }
+            if (i < iend - 1) {
+              f = h[offseth + i + (i - 1) * ldh];
+              g = h[offseth + (i + 1) + (i - 1) * ldh];
+            }
+          }
+        } else {
+          // A complex conjugate pair of shifts, applied as a double shift with
+          // Householder reflectors
+          double h11 = h[offseth + (istart - 1) + (istart - 1) * ldh];
+          double h21 = h[offseth + istart + (istart - 1) * ldh];
+          double h12 = h[offseth + (istart - 1) + istart * ldh];
+          double h22 = h[offseth + istart + istart * ldh];
+          double h32 = h[offseth + (istart + 1) + istart * ldh];
+          double s2 = 2.0 * sigmar;
+          double t = org.netlib.lapack.Dlapy2.dlapy2(sigmar, sigmai);
+          u[0] = (h11 * (h11 - s2) + t * t) / h21 + h12;
+          u[1] = h11 + h22 - s2;
+          u[2] = h32;
+          for (int i = istart; i <= iend - 1; i++) {
+            int nr = Math.min(3, iend - i + 1);
+            alpha.val = u[0];
+            org.netlib.lapack.Dlarfg.dlarfg(nr, alpha, u, 1, 1, tau);
+            u[0] = alpha.val;
+            if (i > istart) {
+              h[offseth + (i - 1) + (i - 2) * ldh] = u[0];
+              h[offseth + i + (i - 2) * ldh] = 0.0;
+              if (i < iend - 1) {
+                h[offseth + (i + 1) + (i - 2) * ldh] = 0.0;
+              }
+            }
+            u[0] = 1.0;
+            org.netlib.lapack.Dlarf.dlarf("Left", nr, kplusp - i + 1, u, 0, 1, tau.val, h, offseth + (i - 1) + (i - 1) * ldh, ldh, workl, offsetworkl);
+            int ir = Math.min(i + 3, iend);
+            org.netlib.lapack.Dlarf.dlarf("Right", ir, nr, u, 0, 1, tau.val, h, offseth + (i - 1) * ldh, ldh, workl, offsetworkl);
+            org.netlib.lapack.Dlarf.dlarf("Right", kplusp, nr, u, 0, 1, tau.val, q, offsetq + (i - 1) * ldq, ldq, workl, offsetworkl);
+            if (i < iend - 1) {
+              u[0] = h[offseth + i + (i - 1) * ldh];
+              u[1] = h[offseth + (i + 1) + (i - 1) * ldh];
+              if (i < iend - 2) {
+                u[2] = h[offseth + (i + 2) + (i - 1) * ldh];
+              }
+            }
+          }
+        }
+        istart = iend + 1;
+      } while (iend < kplusp);
+    }
+
+    // Makes the subdiagonal of the updated H nonnegative
+    for (int j = 1; j <= kev.val; j++) {
+      if (h[offseth + j + (j - 1) * ldh] < 0.0) {
+        blas.dscal(kplusp - j + 1, -1.0, h, offseth + j + (j - 1) * ldh, ldh);
+        blas.dscal(Math.min(j + 2, kplusp), -1.0, h, offseth + j * ldh, 1);
+        blas.dscal(Math.min(j + np + 1, kplusp), -1.0, q, offsetq + j * ldq, 1);
+      }
+    }
+    for (int i = 1; i <= kev.val; i++) {
+      double tst1 = Math.abs(h[offseth + (i - 1) + (i - 1) * ldh]) + Math.abs(h[offseth + i + i * ldh]);
+      if (tst1 == 0.0) {
+        tst1 = org.netlib.lapack.Dlanhs.dlanhs("1", kev.val, h, offseth, ldh, workl, offsetworkl);
+      }
+      if (h[offseth + i + (i - 1) * ldh] <= Math.max(dulp * tst1, s.smlnum)) {
+        h[offseth + i + (i - 1) * ldh] = 0.0;
+      }
+    }
+
+    // Computes the kev + 1 first columns of V * Q into V
+    if (h[offseth + kev.val + (kev.val - 1) * ldh] > 0.0) {
+      blas.dgemv("N", n, kplusp, 1.0, v, offsetv, ldv, q, offsetq + kev.val * ldq, 1, 0.0, workd, offsetworkd + n, 1);
+    }
+    for (int i = 1; i <= kev.val; i++) {
+      blas.dgemv("N", n, kplusp - i + 1, 1.0, v, offsetv, ldv, q, offsetq + (kev.val - i) * ldq, 1, 0.0, workd, offsetworkd, 1);
+      blas.dcopy(n, workd, offsetworkd, 1, v, offsetv + (kplusp - i) * ldv, 1);
+    }
+    org.netlib.lapack.Dlacpy.dlacpy("A", n, kev.val, v, offsetv + (kplusp - kev.val) * ldv, ldv, v, offsetv, ldv);
+    if (h[offseth + kev.val + (kev.val - 1) * ldh] > 0.0) {
+      blas.dcopy(n, workd, offsetworkd + n, 1, v, offsetv + kev.val * ldv, 1);
+    }
+
+    // Updates the residual vector to r = sigmak * r + betak * v(:, kev + 1)
+    blas.dscal(n, q[offsetq + (kplusp - 1) + (kev.val - 1) * ldq], resid, offsetresid, 1);
+    if (h[offseth + kev.val + (kev.val - 1) * ldh] > 0.0) {
+      blas.daxpy(n, h[offseth + kev.val + (kev.val - 1) * ldh], v, offsetv + kev.val * ldv, 1, resid, offsetresid, 1);
+    }
+  }
+
+  protected void dnaup2K(intW ido, String bmat, int n, String which, intW nev, intW np, double tol, double[] resid, int offsetresid, int mode, int iupd, int ishift, intW mxiter, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, intW info) {
+    Dnaup2State s = dnaup2State;
+    if (ido.val == 0) {
+      s.eps23 = Math.pow(org.netlib.lapack.Dlamch.dlamch("Epsilon-Machine"), 2.0 / 3.0);
+      s.nev0 = nev.val;
+      s.np0 = np.val;
+      s.kplusp.val = nev.val + np.val;
+      s.nconv.val = 0;
+      s.iter = 0;
+      s.getv0 = true;
+      s.update = false;
+      s.ushift = false;
+      s.cnorm = false;
+      s.initv = info.val != 0;
+      info.val = 0;
+    }
+    if (s.getv0) {
+      dgetv0K(ido, bmat, 1, s.initv, n, 1, v, offsetv, ldv, resid, offsetresid, s.rnorm, ipntr, offsetipntr, workd, offsetworkd, info);
+      if (ido.val != 99) {
+        return;
+      }
+      if (s.rnorm.val == 0.0) {
+        info.val = -9;
+        ido.val = 99;
+        return;
+      }
+      s.getv0 = false;
+      ido.val = 0;
+    }
+    int label = s.update ? 20 : s.ushift ? 50 : s.cnorm ? 100 : 10;
+    for (;;) {
+      int kplusp = s.kplusp.val;
+      switch (label) {
+      case 10:
+        dnaitrK(ido, bmat, n, 0, nev.val, mode, resid, offsetresid, s.rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+        if (ido.val != 99) {
+          return;
+        }
+        if (info.val > 0) {
+          np.val = info.val;
+          mxiter.val = s.iter;
+          info.val = -9999;
+          ido.val = 99;
+          return;
+        }
+      case 1000:
+        s.iter += 1;
+        np.val = kplusp - nev.val;
+        ido.val = 0;
+      case 20:
+        s.update = true;
+        dnaitrK(ido, bmat, n, nev.val, np.val, mode, resid, offsetresid, s.rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+        if (ido.val != 99) {
+          return;
+        }
+        if (info.val > 0) {
+          np.val = info.val;
+          mxiter.val = s.iter;
+          info.val = -9999;
+          ido.val = 99;
+          return;
+        }
+        s.update = false;
+        intW ierr = new intW(0);
+        dneighK(s.rnorm.val, s.kplusp, h, offseth, ldh, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ierr);
+        if (ierr.val != 0) {
+          info.val = -8;
+          ido.val = 99;
+          return;
+        }
+        blas.dcopy(kplusp, ritzr, offsetritzr, 1, workl, offsetworkl + kplusp * kplusp, 1);
+        blas.dcopy(kplusp, ritzi, offsetritzi, 1, workl, offsetworkl + kplusp * kplusp + kplusp, 1);
+        blas.dcopy(kplusp, bounds, offsetbounds, 1, workl, offsetworkl + kplusp * kplusp + 2 * kplusp, 1);
+        nev.val = s.nev0;
+        np.val = s.np0;
+        s.numcnv = nev.val;
+        dngetsK(ishift, which, nev, np, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, workl, offsetworkl, workl, offsetworkl + np.val);
+        if (nev.val == s.nev0 + 1) {
+          s.numcnv = s.nev0 + 1;
+        }
+        blas.dcopy(nev.val, bounds, offsetbounds + np.val, 1, workl, offsetworkl + 2 * np.val, 1);
+        dnconvK(nev.val, ritzr, offsetritzr + np.val, ritzi, offsetritzi + np.val, workl, offsetworkl + 2 * np.val, tol, s.nconv);
+        for (int j = 0, nptemp = np.val; j < nptemp; j++) {
+          if (bounds[offsetbounds + j] == 0.0) {
+            np.val -= 1;
+            nev.val += 1;
+          }
+        }
+        if (s.nconv.val >= s.numcnv || s.iter > mxiter.val || np.val == 0) {
+          h[offseth + 2] = s.rnorm.val;
+          String wprime = "";
+          if (which.startsWith("LM")) wprime = "SR";
+          if (which.startsWith("SM")) wprime = "LR";
+          if (which.startsWith("LR")) wprime = "SM";
+          if (which.startsWith("SR")) wprime = "LM";
+          if (which.startsWith("LI")) wprime = "SM";
+          if (which.startsWith("SI")) wprime = "LM";
+          dsortcK(wprime, true, kplusp, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds);
+          if (which.startsWith("LM")) wprime = "SM";
+          if (which.startsWith("SM")) wprime = "LM";
+          if (which.startsWith("LR")) wprime = "SR";
+          if (which.startsWith("SR")) wprime = "LR";
+          if (which.startsWith("LI")) wprime = "SI";
+          if (which.startsWith("SI")) wprime = "LI";
+          dsortcK(wprime, true, kplusp, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds);
+          for (int j = 0; j < s.numcnv; j++) {
+            bounds[offsetbounds + j] = bounds[offsetbounds + j] / Math.max(s.eps23, org.netlib.lapack.Dlapy2.dlapy2(ritzr[offsetritzr + j], ritzi[offsetritzi + j]));
+          }
+          dsortcK("LR", true, s.numcnv, bounds, offsetbounds, ritzr, offsetritzr, ritzi, offsetritzi);
+          for (int j = 0; j < s.numcnv; j++) {
+            bounds[offsetbounds + j] = bounds[offsetbounds + j] * Math.max(s.eps23, org.netlib.lapack.Dlapy2.dlapy2(ritzr[offsetritzr + j], ritzi[offsetritzi + j]));
+          }
+          dsortcK(which, true, s.nconv.val, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds);
+          if (s.iter > mxiter.val && s.nconv.val < s.numcnv) {
+            info.val = 1;
+          }
+          if (np.val == 0 && s.nconv.val < s.numcnv) {
+            info.val = 2;
+          }
+          np.val = s.nconv.val;
+          mxiter.val = s.iter;
+          nev.val = s.numcnv;
+          ido.val = 99;
+          return;
+        } else if (s.nconv.val < s.numcnv && ishift == 1) {
+          int nevbef = nev.val;
+          nev.val = nev.val + Math.min(s.nconv.val, np.val / 2);
+          if (nev.val == 1 && kplusp >= 6) {
+            nev.val = kplusp / 2;
+          } else if (nev.val == 1 && kplusp > 3) {
+            nev.val = 2;
+          }
+          np.val = kplusp - nev.val;
+          if (nevbef < nev.val) {
+            dngetsK(ishift, which, nev, np, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, workl, offsetworkl, workl, offsetworkl + np.val);
+          }
+        }
+        if (ishift == 0) {
+          s.ushift = true;
+          ido.val = 3;
+          return;
+        }
+      case 50:
+        s.ushift = false;
+        if (ishift == 0) {
+          blas.dcopy(np.val, workl, offsetworkl, 1, ritzr, offsetritzr, 1);
+          blas.dcopy(np.val, workl, offsetworkl + np.val, 1, ritzi, offsetritzi, 1);
+        }
+        dnappsK(n, nev, np.val, ritzr, offsetritzr, ritzi, offsetritzi, v, offsetv, ldv, h, offseth, ldh, resid, offsetresid, q, offsetq, ldq, workl, offsetworkl, workd, offsetworkd);
+        s.cnorm = true;
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd + n, 1);
+          ipntr[offsetipntr] = n + 1;
+          ipntr[offsetipntr + 1] = 1;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.dcopy(n, resid, offsetresid, 1, workd, offsetworkd, 1);
+        }
+      case 100:
+        s.rnorm.val = dnorm(bmat, n, resid, offsetresid, workd, offsetworkd, s.rnorm.val);
+        s.cnorm = false;
+        label = 1000;
+      }
+    }
+  }
+
+  protected void dnaupdK(intW ido, String bmat, int n, String which, int nev, doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, intW info) {
+    DnaupdState s = dnaupdState;
+    if (ido.val == 0) {
+      nopx = nbx = nrorth = nitref = nrstrt = 0;
+      int ierr = 0;
+      s.ishift = iparam[offsetiparam];
+      s.mxiter.val = iparam[offsetiparam + 2];
+      s.mode = iparam[offsetiparam + 6];
+      if (n <= 0) {
+        ierr = -1;
+      } else if (nev <= 0) {
+        ierr = -2;
+      } else if (ncv <= nev + 1 || ncv > n) {
+        ierr = -3;
+      } else if (s.mxiter.val <= 0) {
+        ierr = 4;
+      } else if (!which.startsWith("LM") && !which.startsWith("SM") && !which.startsWith("LR") && !which.startsWith("SR") && !which.startsWith("LI") && !which.startsWith("SI")) {
+        ierr = -5;
+      } else if (!bmat.startsWith("I") && !bmat.startsWith("G")) {
+        ierr = -6;
+      } else if (lworkl < 3 * ncv * ncv + 6 * ncv) {
+        ierr = -7;
+      } else if (s.mode < 1 || s.mode > 4) {
+        ierr = -10;
+      } else if (s.mode == 1 && bmat.startsWith("G")) {
+        ierr = -11;
+      } else if (s.ishift < 0 || s.ishift > 1) {
+        ierr = -12;
+      }
+      if (ierr != 0) {
+        info.val = ierr;
+        ido.val = 99;
+        return;
+      }
+      if (tol.val <= 0.0) {
+        tol.val = org.netlib.lapack.Dlamch.dlamch("EpsMach");
+      }
+      s.np.val = ncv - nev;
+      s.nev0.val = nev;
+      Arrays.fill(workl, offsetworkl, offsetworkl + 3 * ncv * ncv + 6 * ncv, 0.0);
+      s.ldh = ncv;
+      s.ldq = ncv;
+      s.ih = 1;
+      s.ritzr = s.ih + s.ldh * ncv;
+      s.ritzi = s.ritzr + ncv;
+      s.bounds = s.ritzi + ncv;
+      s.iq = s.bounds + ncv;
+      s.iw = s.iq + s.ldq * ncv;
+      ipntr[offsetipntr + 3] = s.iw + ncv * ncv + 3 * ncv;
+      ipntr[offsetipntr + 4] = s.ih;
+      ipntr[offsetipntr + 5] = s.ritzr;
+      ipntr[offsetipntr + 6] = s.ritzi;
+      ipntr[offsetipntr + 7] = s.bounds;
+      ipntr[offsetipntr + 13] = s.iw;
+    }
+    dnaup2K(ido, bmat, n, which, s.nev0, s.np, tol.val, resid, offsetresid, s.mode, 1, s.ishift, s.mxiter, v, offsetv, ldv, workl, offsetworkl + s.ih - 1, s.ldh, workl, offsetworkl + s.ritzr - 1, workl, offsetworkl + s.ritzi - 1, workl, offsetworkl + s.bounds - 1, workl, offsetworkl + s.iq - 1, s.ldq, workl, offsetworkl + s.iw - 1, ipntr, offsetipntr, workd, offsetworkd, info);
+    if (ido.val == 3) {
+      iparam[offsetiparam + 7] = s.np.val;
+    }
+    if (ido.val != 99) {
+      return;
+    }
+    iparam[offsetiparam + 2] = s.mxiter.val;
+    iparam[offsetiparam + 4] = s.np.val;
+    iparam[offsetiparam + 8] = nopx;
+    iparam[offsetiparam + 9] = nbx;
+    iparam[offsetiparam + 10] = nrorth;
+    if (info.val == 2) {
+      info.val = 3;
+    }
+  }
+
+  protected void sgetv0K(intW ido, String bmat, int itry, boolean initv, int n, int j, float[] v, int offsetv, int ldv, float[] resid, int offsetresid, floatW rnorm, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, intW ierr) {
+    Sgetv0State s = sgetv0State;
+    if (ido.val == 0) {
+      ierr.val = 0;
+      s.iter = 0;
+      s.first = false;
+      s.orth = false;
+      if (!initv) {
+        org.netlib.lapack.Slarnv.slarnv(2, s.iseed, 0, n, resid, offsetresid);
+      }
+      if (bmat.startsWith("G")) {
+        nopx += 1;
+        ipntr[offsetipntr] = 1;
+        ipntr[offsetipntr + 1] = n + 1;
+        blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd, 1);
+        ido.val = -1;
+        return;
+      }
+    }
+    if (!s.first && !s.orth) {
+      s.first = true;
+      if (bmat.startsWith("G")) {
+        nbx += 1;
+        blas.scopy(n, workd, offsetworkd + n, 1, resid, offsetresid, 1);
+        ipntr[offsetipntr] = n + 1;
+        ipntr[offsetipntr + 1] = 1;
+        ido.val = 2;
+        return;
+      } else if (bmat.startsWith("I")) {
+        blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd, 1);
+      }
+    }
+    if (s.first) {
+      s.first = false;
+      s.rnorm0 = snorm(bmat, n, resid, offsetresid, workd, offsetworkd, s.rnorm0);
+      rnorm.val = s.rnorm0;
+      if (j == 1) {
+        ido.val = 99;
+        return;
+      }
+      s.orth = true;
+      if (sgetv0Orthogonalize(ido, bmat, n, j, v, offsetv, ldv, resid, offsetresid, ipntr, offsetipntr, workd, offsetworkd)) {
+        return;
+      }
+    }
+    for (;;) {
+      rnorm.val = snorm(bmat, n, resid, offsetresid, workd, offsetworkd, rnorm.val);
+      if (rnorm.val > 0.717f * s.rnorm0) {
+        break;
+      }
+      s.iter += 1;
+      if (s.iter > 5) {
+        Arrays.fill(resid, offsetresid, offsetresid + n, 0.0f);
+        rnorm.val = 0.0f;
+        ierr.val = -1;
+        break;
+      }
+      s.rnorm0 = rnorm.val;
+      if (sgetv0Orthogonalize(ido, bmat, n, j, v, offsetv, ldv, resid, offsetresid, ipntr, offsetipntr, workd, offsetworkd)) {
+        return;
+      }
+    }
+    ido.val = 99;
+  }
+
+  // See dgetv0Orthogonalize
+  private boolean sgetv0Orthogonalize(intW ido, String bmat, int n, int j, float[] v, int offsetv, int ldv, float[] resid, int offsetresid, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd) {
+    blas.sgemv("T", n, j - 1, 1.0f, v, offsetv, ldv, workd, offsetworkd, 1, 0.0f, workd, offsetworkd + n, 1);
+    blas.sgemv("N", n, j - 1, -1.0f, v, offsetv, ldv, workd, offsetworkd + n, 1, 1.0f, resid, offsetresid, 1);
+    if (bmat.startsWith("G")) {
+      nbx += 1;
+      blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd + n, 1);
+      ipntr[offsetipntr] = n + 1;
+      ipntr[offsetipntr + 1] = 1;
+      ido.val = 2;
+      return true;
+    } else if (bmat.startsWith("I")) {
+      blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd, 1);
+    }
+    return false;
+  }
+
+  // See dnorm
+  private float snorm(String bmat, int n, float[] resid, int offsetresid, float[] workd, int offsetworkd, float norm) {
+    if (bmat.startsWith("G")) {
+      return (float) Math.sqrt(Math.abs(blas.sdot(n, resid, offsetresid, 1, workd, offsetworkd, 1)));
+    } else if (bmat.startsWith("I")) {
+      return blas.snrm2(n, resid, offsetresid, 1);
+    }
+    return norm;
+  }
+
+  protected void ssaitrK(intW ido, String bmat, int n, int k, int np, int mode, float[] resid, int offsetresid, floatW rnorm, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, intW info) {
+    SsaitrState s = ssaitrState;
+    if (ido.val == 0) {
+      info.val = 0;
+      s.step3 = false;
+      s.step4 = false;
+      s.rstart = false;
+      s.orth1 = false;
+      s.orth2 = false;
+      s.j = k + 1;
+      s.ipj = 1;
+      s.irj = s.ipj + n;
+      s.ivj = s.irj + n;
+    }
+    int label = s.step3 ? 50 : s.step4 ? 60 : s.orth1 ? 70 : s.orth2 ? 90 : s.rstart ? 30 : 1000;
+    for (;;) {
+      int vj = offsetv + (s.j - 1) * ldv;
+      int hj1 = offseth + s.j - 1;
+      int hj2 = hj1 + ldh;
+      switch (label) {
+      case 1000:
+        if (rnorm.val > 0.0f) {
+          label = 40;
+          continue;
+        }
+        nrstrt += 1;
+        s.itry = 1;
+      case 20:
+        s.rstart = true;
+        ido.val = 0;
+      case 30:
+        sgetv0K(ido, bmat, s.itry, false, n, s.j, v, offsetv, ldv, resid, offsetresid, rnorm, ipntr, offsetipntr, workd, offsetworkd, s.ierr);
+        if (ido.val != 99) {
+          return;
+        }
+        if (s.ierr.val < 0) {
+          s.itry += 1;
+          if (s.itry <= 3) {
+            label = 20;
+            continue;
+          }
+          info.val = s.j - 1;
+          ido.val = 99;
+          return;
+        }
+      case 40:
+        blas.scopy(n, resid, offsetresid, 1, v, vj, 1);
+        if (rnorm.val >= ssafmin) {
+          float temp1 = 1.0f / rnorm.val;
+          blas.sscal(n, temp1, v, vj, 1);
+          blas.sscal(n, temp1, workd, offsetworkd + s.ipj - 1, 1);
+        } else {
+          intW infol = new intW(0);
+          org.netlib.lapack.Slascl.slascl("General", 0, 0, rnorm.val, 1.0f, n, 1, v, vj, n, infol);
+          org.netlib.lapack.Slascl.slascl("General", 0, 0, rnorm.val, 1.0f, n, 1, workd, offsetworkd + s.ipj - 1, n, infol);
+        }
+        s.step3 = true;
+        nopx += 1;
+        blas.scopy(n, v, vj, 1, workd, offsetworkd + s.ivj - 1, 1);
+        ipntr[offsetipntr] = s.ivj;
+        ipntr[offsetipntr + 1] = s.irj;
+        ipntr[offsetipntr + 2] = s.ipj;
+        ido.val = 1;
+        return;
+      case 50:
+        s.step3 = false;
+        blas.scopy(n, workd, offsetworkd + s.irj - 1, 1, resid, offsetresid, 1);
+        if (mode == 2) {
+          label = 65;
+          continue;
+        }
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          s.step4 = true;
+          ipntr[offsetipntr] = s.irj;
+          ipntr[offsetipntr + 1] = s.ipj;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd + s.ipj - 1, 1);
+        }
+      case 60:
+        s.step4 = false;
+      case 65:
+        if (mode == 2) {
+          s.wnorm = (float) Math.sqrt(Math.abs(blas.sdot(n, resid, offsetresid, 1, workd, offsetworkd + s.ivj - 1, 1)));
+        } else {
+          s.wnorm = snorm(bmat, n, resid, offsetresid, workd, offsetworkd + s.ipj - 1, s.wnorm);
+        }
+        blas.sgemv("T", n, s.j, 1.0f, v, offsetv, ldv, workd, offsetworkd + (mode != 2 ? s.ipj : s.ivj) - 1, 1, 0.0f, workd, offsetworkd + s.irj - 1, 1);
+        blas.sgemv("N", n, s.j, -1.0f, v, offsetv, ldv, workd, offsetworkd + s.irj - 1, 1, 1.0f, resid, offsetresid, 1);
+        h[hj2] = workd[offsetworkd + s.irj + s.j - 2];
+        h[hj1] = s.j == 1 || s.rstart ? 0.0f : rnorm.val;
+        s.orth1 = true;
+        s.iter = 0;
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd + s.irj - 1, 1);
+          ipntr[offsetipntr] = s.irj;
+          ipntr[offsetipntr + 1] = s.ipj;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd + s.ipj - 1, 1);
+        }
+      case 70:
+        s.orth1 = false;
+        rnorm.val = snorm(bmat, n, resid, offsetresid, workd, offsetworkd + s.ipj - 1, rnorm.val);
+        if (rnorm.val > 0.717f * s.wnorm) {
+          label = 100;
+          continue;
+        }
+        nrorth += 1;
+      case 80:
+        blas.sgemv("T", n, s.j, 1.0f, v, offsetv, ldv, workd, offsetworkd + s.ipj - 1, 1, 0.0f, workd, offsetworkd + s.irj - 1, 1);
+        blas.sgemv("N", n, s.j, -1.0f, v, offsetv, ldv, workd, offsetworkd + s.irj - 1, 1, 1.0f, resid, offsetresid, 1);
+        if (s.j == 1 || s.rstart) {
+          h[hj1] = 0.0f;
+        }
+        h[hj2] = h[hj2] + workd[offsetworkd + s.irj + s.j - 2];
+        s.orth2 = true;
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd + s.irj - 1, 1);
+          ipntr[offsetipntr] = s.irj;
+          ipntr[offsetipntr + 1] = s.ipj;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd + s.ipj - 1, 1);
+        }
+      case 90:
+        s.rnorm1 = snorm(bmat, n, resid, offsetresid, workd, offsetworkd + s.ipj - 1, s.rnorm1);
+        if (s.rnorm1 > 0.717f * rnorm.val) {
+          rnorm.val = s.rnorm1;
+        } else {
+          nitref += 1;
+          rnorm.val = s.rnorm1;
+          s.iter += 1;
+          if (s.iter <= 1) {
+            label = 80;
+            continue;
+          }
+          Arrays.fill(resid, offsetresid, offsetresid + n, 0.0f);
+          rnorm.val = 0.0f;
+        }
+      case 100:
+        s.rstart = false;
+        s.orth2 = false;
+        if (h[hj1] < 0.0f) {
+          h[hj1] = -h[hj1];
+          if (s.j < k + np) {
+            blas.sscal(n, -1.0f, v, vj + ldv, 1);
+          } else {
+            blas.sscal(n, -1.0f, resid, offsetresid, 1);
+          }
+        }
+        s.j += 1;
+        if (s.j > k + np) {
+          ido.val = 99;
+          return;
+        }
+        label = 1000;
+      }
+    }
+  }
+
+  protected void ssappsK(int n, int kev, int np, float[] shift, int offsetshift, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] resid, int offsetresid, float[] q, int offsetq, int ldq, float[] workd, int offsetworkd) {
+    int kplusp = kev + np;
+    org.netlib.lapack.Slaset.slaset("All", kplusp, kplusp, 0.0f, 1.0f, q, offsetq, ldq);
+    if (np == 0) {
+      return;
+    }
+    floatW c = new floatW(0.0f), s = new floatW(0.0f), r = new floatW(0.0f);
+    int itop = 1;
+    for (int jj = 1; jj <= np; jj++) {
+      int istart = itop;
+      int iend;
+      do {
+        iend = kplusp;
+        for (int i = istart; i <= kplusp - 1; i++) {
+          float big = Math.abs(h[offseth + (i - 1) + ldh]) + Math.abs(h[offseth + i + ldh]);
+          if (h[offseth + i] <= sepsmch * big) {
+            h[offseth + i] = 0.0f;
+            iend = i;
+            break;
+          }
+        }
+        if (istart < iend) {
+          float f = h[offseth + (istart - 1) + ldh] - shift[offsetshift + jj - 1];
+          float g = h[offseth + istart];
+          org.netlib.lapack.Slartg.slartg(f, g, c, s, r);
+          float a1 = c.val * h[offseth + (istart - 1) + ldh] + s.val * h[offseth + istart];
+          float a2 = c.val * h[offseth + istart] + s.val * h[offseth + istart + ldh];
+          float a4 = c.val * h[offseth + istart + ldh] - s.val * h[offseth + istart];
+          float a3 = c.val * h[offseth + istart] - s.val * h[offseth + (istart - 1) + ldh];
+          h[offseth + (istart - 1) + ldh] = c.val * a1 + s.val * a2;
+          h[offseth + istart + ldh] = c.val * a4 - s.val * a3;
+          h[offseth + istart] = c.val * a3 + s.val * a4;
+          for (int j = 1; j <= Math.min(istart + jj, kplusp); j++) {
+            float t = c.val * q[offsetq + (j - 1) + (istart - 1) * ldq] + s.val * q[offsetq + (j - 1) + istart * ldq];
+            q[offsetq + (j - 1) + istart * ldq] = -s.val * q[offsetq + (j - 1) + (istart - 1) * ldq] + c.val * q[offsetq + (j - 1) + istart * ldq];
+            q[offsetq + (j - 1) + (istart - 1) * ldq] = t;
+          }
+          for (int i = istart + 1; i <= iend - 1; i++) {
+            f = h[offseth + (i - 1)];
+            g = s.val * h[offseth + i];
+            h[offseth + i] = c.val * h[offseth + i];
+            org.netlib.lapack.Slartg.slartg(f, g, c, s, r);
+            if (r.val < 0.0f) {
+              r.val = -r.val;
+              c.val = -c.val;
+              s.val = -s.val;
+            }
+            h[offseth + (i - 1)] = r.val;
+            a1 = c.val * h[offseth + (i - 1) + ldh] + s.val * h[offseth + i];
+            a2 = c.val * h[offseth + i] + s.val * h[offseth + i + ldh];
+            a3 = c.val * h[offseth + i] - s.val * h[offseth + (i - 1) + ldh];
+            a4 = c.val * h[offseth + i + ldh] - s.val * h[offseth + i];
+            h[offseth + (i - 1) + ldh] = c.val * a1 + s.val * a2;
+            h[offseth + i + ldh] = c.val * a4 - s.val * a3;
+            h[offseth + i] = c.val * a3 + s.val * a4;
+            for (int j = 1; j <= Math.min(i + jj, kplusp); j++) {
+              float t = c.val * q[offsetq + (j - 1) + (i - 1) * ldq] + s.val * q[offsetq + (j - 1) + i * ldq];
+              q[offsetq + (j - 1) + i * ldq] = -s.val * q[offsetq + (j - 1) + (i - 1) * ldq] + c.val * q[offsetq + (j - 1) + i * ldq];
+              q[offsetq + (j - 1) + (i - 1) * ldq] = t;
+            }
+          }
+        }
+        istart = iend + 1;
+        if (h[offseth + (iend - 1)] < 0.0f) {
+          h[offseth + (iend - 1)] = -h[offseth + (iend - 1)];
+          blas.sscal(kplusp, -1.0f, q, offsetq + (iend - 1) * ldq, 1);
+        }
+      } while (iend < kplusp);
+
+      for (int i = itop; i <= kplusp - 1; i++) {
+        if (h[offseth + i] > 0.0f) {
+          break;
+        }
+        itop = itop + 1;
+      }
+    }
+
+    for (int i = itop; i <= kplusp - 1; i++) {
+      float big = Math.abs(h[offseth + (i - 1) + ldh]) + Math.abs(h[offseth + i + ldh]);
+      if (h[offseth + i] <= sepsmch * big) {
+        h[offseth + i] = 0.0f;
+      }
+    }
+
+    if (h[offseth + kev] > 0.0f) {
+      blas.sgemv("N", n, kplusp, 1.0f, v, offsetv, ldv, q, offsetq + kev * ldq, 1, 0.0f, workd, offsetworkd + n, 1);
+    }
+    for (int i = 1; i <= kev; i++) {
+      blas.sgemv("N", n, kplusp - i + 1, 1.0f, v, offsetv, ldv, q, offsetq + (kev - i) * ldq, 1, 0.0f, workd, offsetworkd, 1);
+      blas.scopy(n, workd, offsetworkd, 1, v, offsetv + (kplusp - i) * ldv, 1);
+    }
+    org.netlib.lapack.Slacpy.slacpy("All", n, kev, v, offsetv + np * ldv, ldv, v, offsetv, ldv);
+    if (h[offseth + kev] > 0.0f) {
+      blas.scopy(n, workd, offsetworkd + n, 1, v, offsetv + kev * ldv, 1);
+    }
+
+    blas.sscal(n, q[offsetq + (kplusp - 1) + (kev - 1) * ldq], resid, offsetresid, 1);
+    if (h[offseth + kev] > 0.0f) {
+      blas.saxpy(n, h[offseth + kev], v, offsetv + kev * ldv, 1, resid, offsetresid, 1);
+    }
+  }
+
+  protected void ssaup2K(intW ido, String bmat, int n, String which, intW nev, intW np, float tol, float[] resid, int offsetresid, int mode, int iupd, int ishift, intW mxiter, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, intW info) {
+    Ssaup2State s = ssaup2State;
+    if (ido.val == 0) {
+      s.eps23 = (float) Math.pow(org.netlib.lapack.Slamch.slamch("Epsilon-Machine"), 2.0f / 3.0f);
+      s.nev0 = nev.val;
+      s.np0 = np.val;
+      s.kplusp = s.nev0 + s.np0;
+      s.nconv.val = 0;
+      s.iter = 0;
+      s.getv0 = true;
+      s.update = false;
+      s.ushift = false;
+      s.cnorm = false;
+      s.initv = info.val != 0;
+      info.val = 0;
+    }
+    if (s.getv0) {
+      sgetv0K(ido, bmat, 1, s.initv, n, 1, v, offsetv, ldv, resid, offsetresid, s.rnorm, ipntr, offsetipntr, workd, offsetworkd, info);
+      if (ido.val != 99) {
+        return;
+      }
+      if (s.rnorm.val == 0.0f) {
+        info.val = -9;
+        ido.val = 99;
+        return;
+      }
+      s.getv0 = false;
+      ido.val = 0;
+    }
+    int label = s.update ? 20 : s.ushift ? 50 : s.cnorm ? 100 : 10;
+    for (;;) {
+      switch (label) {
+      case 10:
+        ssaitrK(ido, bmat, n, 0, s.nev0, mode, resid, offsetresid, s.rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+        if (ido.val != 99) {
+          return;
+        }
+        if (info.val > 0) {
+          np.val = info.val;
+          mxiter.val = s.iter;
+          info.val = -9999;
+          ido.val = 99;
+          return;
+        }
+      case 1000:
+        s.iter += 1;
+        np.val = s.kplusp - nev.val;
+        ido.val = 0;
+      case 20:
+        s.update = true;
+        ssaitrK(ido, bmat, n, nev.val, np.val, mode, resid, offsetresid, s.rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+        if (ido.val != 99) {
+          return;
+        }
+        if (info.val > 0) {
+          np.val = info.val;
+          mxiter.val = s.iter;
+          info.val = -9999;
+          ido.val = 99;
+          return;
+        }
+        s.update = false;
+        intW ierr = new intW(0);
+        sseigtK(s.rnorm.val, s.kplusp, h, offseth, ldh, ritz, offsetritz, bounds, offsetbounds, workl, offsetworkl, ierr);
+        if (ierr.val != 0) {
+          info.val = -8;
+          ido.val = 99;
+          return;
+        }
+        blas.scopy(s.kplusp, ritz, offsetritz, 1, workl, offsetworkl + s.kplusp, 1);
+        blas.scopy(s.kplusp, bounds, offsetbounds, 1, workl, offsetworkl + 2 * s.kplusp, 1);
+        nev.val = s.nev0;
+        np.val = s.np0;
+        ssgetsK(ishift, which, nev, np, ritz, offsetritz, bounds, offsetbounds, workl, offsetworkl);
+        blas.scopy(nev.val, bounds, offsetbounds + np.val, 1, workl, offsetworkl + np.val, 1);
+        ssconvK(nev.val, ritz, offsetritz + np.val, workl, offsetworkl + np.val, tol, s.nconv);
+        for (int j = 0, nptemp = np.val; j < nptemp; j++) {
+          if (bounds[offsetbounds + j] == 0.0f) {
+            np.val -= 1;
+            nev.val += 1;
+          }
+        }
+        if (s.nconv.val >= s.nev0 || s.iter > mxiter.val || np.val == 0) {
+          if (which.startsWith("BE")) {
+            ssortrK("SA", true, s.kplusp, ritz, offsetritz, bounds, offsetbounds);
+            int nevd2 = s.nev0 / 2;
+            int nevm2 = s.nev0 - nevd2;
+            if (nev.val > 1) {
+              int swap = Math.max(s.kplusp - nevd2 + 1, s.kplusp - np.val + 1) - 1;
+              blas.sswap(Math.min(nevd2, np.val), ritz, offsetritz + nevm2, 1, ritz, offsetritz + swap, 1);
+              blas.sswap(Math.min(nevd2, np.val), bounds, offsetbounds + nevm2, 1, bounds, offsetbounds + swap, 1);
+            }
+          } else {
+            String wprime = "";
+            if (which.startsWith("LM")) wprime = "SM";
+            if (which.startsWith("SM")) wprime = "LM";
+            if (which.startsWith("LA")) wprime = "SA";
+            if (which.startsWith("SA")) wprime = "LA";
+            ssortrK(wprime, true, s.kplusp, ritz, offsetritz, bounds, offsetbounds);
+          }
+          for (int j = 0; j < s.nev0; j++) {
+            bounds[offsetbounds + j] = bounds[offsetbounds + j] / Math.max(s.eps23, Math.abs(ritz[offsetritz + j]));
+          }
+          ssortrK("LA", true, s.nev0, bounds, offsetbounds, ritz, offsetritz);
+          for (int j = 0; j < s.nev0; j++) {
+            bounds[offsetbounds + j] = bounds[offsetbounds + j] * Math.max(s.eps23, Math.abs(ritz[offsetritz + j]));
+          }
+          ssortrK(which.startsWith("BE") ? "LA" : which, true, s.nconv.val, ritz, offsetritz, bounds, offsetbounds);
+          h[offseth] = s.rnorm.val;
+          if (s.iter > mxiter.val && s.nconv.val < nev.val) {
+            info.val = 1;
+          }
+          if (np.val == 0 && s.nconv.val < s.nev0) {
+            info.val = 2;
+          }
+          np.val = s.nconv.val;
+          mxiter.val = s.iter;
+          nev.val = s.nconv.val;
+          ido.val = 99;
+          return;
+        } else if (s.nconv.val < nev.val && ishift == 1) {
+          int nevbef = nev.val;
+          nev.val = nev.val + Math.min(s.nconv.val, np.val / 2);
+          if (nev.val == 1 && s.kplusp >= 6) {
+            nev.val = s.kplusp / 2;
+          } else if (nev.val == 1 && s.kplusp > 2) {
+            nev.val = 2;
+          }
+          np.val = s.kplusp - nev.val;
+          if (nevbef < nev.val) {
+            ssgetsK(ishift, which, nev, np, ritz, offsetritz, bounds, offsetbounds, workl, offsetworkl);
+          }
+        }
+        if (ishift == 0) {
+          s.ushift = true;
+          ido.val = 3;
+          return;
+        }
+      case 50:
+        s.ushift = false;
+        if (ishift == 0) {
+          blas.scopy(np.val, workl, offsetworkl, 1, ritz, offsetritz, 1);
+        }
+        ssappsK(n, nev.val, np.val, ritz, offsetritz, v, offsetv, ldv, h, offseth, ldh, resid, offsetresid, q, offsetq, ldq, workd, offsetworkd);
+        s.cnorm = true;
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd + n, 1);
+          ipntr[offsetipntr] = n + 1;
+          ipntr[offsetipntr + 1] = 1;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd, 1);
+        }
+      case 100:
+        s.rnorm.val = snorm(bmat, n, resid, offsetresid, workd, offsetworkd, s.rnorm.val);
+        s.cnorm = false;
+        label = 1000;
+      }
+    }
+  }
+
+  protected void ssaupdK(intW ido, String bmat, int n, String which, int nev, floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, intW info) {
+    SsaupdState s = ssaupdState;
+    if (ido.val == 0) {
+      nopx = nbx = nrorth = nitref = nrstrt = 0;
+      int ierr = 0;
+      s.ishift = iparam[offsetiparam];
+      s.mxiter.val = iparam[offsetiparam + 2];
+      s.mode = iparam[offsetiparam + 6];
+      if (n <= 0) {
+        ierr = -1;
+      } else if (nev <= 0) {
+        ierr = -2;
+      } else if (ncv <= nev || ncv > n) {
+        ierr = -3;
+      }
+      if (s.mxiter.val <= 0) {
+        ierr = -4;
+      }
+      if (!which.startsWith("LM") && !which.startsWith("SM") && !which.startsWith("LA") && !which.startsWith("SA") && !which.startsWith("BE")) {
+        ierr = -5;
+      }
+      if (!bmat.startsWith("I") && !bmat.startsWith("G")) {
+        ierr = -6;
+      }
+      if (lworkl < ncv * ncv + 8 * ncv) {
+        ierr = -7;
+      }
+      if (s.mode < 1 || s.mode > 5) {
+        ierr = -10;
+      } else if (s.mode == 1 && bmat.startsWith("G")) {
+        ierr = -11;
+      } else if (s.ishift < 0 || s.ishift > 1) {
+        ierr = -12;
+      } else if (nev == 1 && which.startsWith("BE")) {
+        ierr = -13;
+      }
+      if (ierr != 0) {
+        info.val = ierr;
+        ido.val = 99;
+        return;
+      }
+      if (tol.val <= 0.0f) {
+        tol.val = org.netlib.lapack.Slamch.slamch("EpsMach");
+      }
+      s.np.val = ncv - nev;
+      s.nev0.val = nev;
+      Arrays.fill(workl, offsetworkl, offsetworkl + ncv * ncv + 8 * ncv, 0.0f);
+      s.ldh = ncv;
+      s.ldq = ncv;
+      s.ih = 1;
+      s.ritz = s.ih + 2 * s.ldh;
+      s.bounds = s.ritz + ncv;
+      s.iq = s.bounds + ncv;
+      s.iw = s.iq + ncv * ncv;
+      ipntr[offsetipntr + 3] = s.iw + 3 * ncv;
+      ipntr[offsetipntr + 4] = s.ih;
+      ipntr[offsetipntr + 5] = s.ritz;
+      ipntr[offsetipntr + 6] = s.bounds;
+      ipntr[offsetipntr + 10] = s.iw;
+    }
+    ssaup2K(ido, bmat, n, which, s.nev0, s.np, tol.val, resid, offsetresid, s.mode, 1, s.ishift, s.mxiter, v, offsetv, ldv, workl, offsetworkl + s.ih - 1, s.ldh, workl, offsetworkl + s.ritz - 1, workl, offsetworkl + s.bounds - 1, workl, offsetworkl + s.iq - 1, s.ldq, workl, offsetworkl + s.iw - 1, ipntr, offsetipntr, workd, offsetworkd, info);
+    if (ido.val == 3) {
+      iparam[offsetiparam + 7] = s.np.val;
+    }
+    if (ido.val != 99) {
+      return;
+    }
+    iparam[offsetiparam + 2] = s.mxiter.val;
+    iparam[offsetiparam + 4] = s.np.val;
+    iparam[offsetiparam + 8] = nopx;
+    iparam[offsetiparam + 9] = nbx;
+    iparam[offsetiparam + 10] = nrorth;
+    if (info.val == 2) {
+      info.val = 3;
+    }
+  }
+
+  protected void snaitrK(intW ido, String bmat, int n, int k, int np, int nb, float[] resid, int offsetresid, floatW rnorm, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, intW info) {
+    SnaitrState s = snaitrState;
+    if (s.first) {
+      s.first = false;
+      s.smlnum = sunfl * (n / sulp);
+    }
+    if (ido.val == 0) {
+      info.val = 0;
+      s.step3 = false;
+      s.step4 = false;
+      s.rstart = false;
+      s.orth1 = false;
+      s.orth2 = false;
+      s.j = k + 1;
+      s.ipj = 1;
+      s.irj = s.ipj + n;
+      s.ivj = s.irj + n;
+    }
+    int label = s.step3 ? 50 : s.step4 ? 60 : s.orth1 ? 70 : s.orth2 ? 90 : s.rstart ? 30 : 1000;
+    for (;;) {
+      int vj = offsetv + (s.j - 1) * ldv;
+      int hj = offseth + (s.j - 1) * ldh;
+      switch (label) {
+      case 1000:
+        s.betaj = rnorm.val;
+        if (rnorm.val > 0.0f) {
+          label = 40;
+          continue;
+        }
+        s.betaj = 0.0f;
+        nrstrt += 1;
+        s.itry = 1;
+      case 20:
+        s.rstart = true;
+        ido.val = 0;
+      case 30:
+        sgetv0K(ido, bmat, s.itry, false, n, s.j, v, offsetv, ldv, resid, offsetresid, rnorm, ipntr, offsetipntr, workd, offsetworkd, s.ierr);
+        if (ido.val != 99) {
+          return;
+        }
+        if (s.ierr.val < 0) {
+          s.itry += 1;
+          if (s.itry <= 3) {
+            label = 20;
+            continue;
+          }
+          info.val = s.j - 1;
+          ido.val = 99;
+          return;
+        }
+      case 40:
+        blas.scopy(n, resid, offsetresid, 1, v, vj, 1);
+        if (rnorm.val >= sunfl) {
+          float temp1 = 1.0f / rnorm.val;
+          blas.sscal(n, temp1, v, vj, 1);
+          blas.sscal(n, temp1, workd, offsetworkd + s.ipj - 1, 1);
+        } else {
+          intW infol = new intW(0);
+          org.netlib.lapack.Slascl.slascl("General", 0, 0, rnorm.val, 1.0f, n, 1, v, vj, n, infol);
+          org.netlib.lapack.Slascl.slascl("General", 0, 0, rnorm.val, 1.0f, n, 1, workd, offsetworkd + s.ipj - 1, n, infol);
+        }
+        s.step3 = true;
+        nopx += 1;
+        blas.scopy(n, v, vj, 1, workd, offsetworkd + s.ivj - 1, 1);
+        ipntr[offsetipntr] = s.ivj;
+        ipntr[offsetipntr + 1] = s.irj;
+        ipntr[offsetipntr + 2] = s.ipj;
+        ido.val = 1;
+        return;
+      case 50:
+        s.step3 = false;
+        blas.scopy(n, workd, offsetworkd + s.irj - 1, 1, resid, offsetresid, 1);
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          s.step4 = true;
+          ipntr[offsetipntr] = s.irj;
+          ipntr[offsetipntr + 1] = s.ipj;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd + s.ipj - 1, 1);
+        }
+      case 60:
+        s.step4 = false;
+        s.wnorm = snorm(bmat, n, resid, offsetresid, workd, offsetworkd + s.ipj - 1, s.wnorm);
+        blas.sgemv("T", n, s.j, 1.0f, v, offsetv, ldv, workd, offsetworkd + s.ipj - 1, 1, 0.0f, h, hj, 1);
+        blas.sgemv("N", n, s.j, -1.0f, v, offsetv, ldv, h, hj, 1, 1.0f, resid, offsetresid, 1);
+        if (s.j > 1) {
+          h[hj + s.j - 1 - ldh] = s.betaj;
+        }
+        s.orth1 = true;
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd + s.irj - 1, 1);
+          ipntr[offsetipntr] = s.irj;
+          ipntr[offsetipntr + 1] = s.ipj;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd + s.ipj - 1, 1);
+        }
+      case 70:
+        s.orth1 = false;
+        rnorm.val = snorm(bmat, n, resid, offsetresid, workd, offsetworkd + s.ipj - 1, rnorm.val);
+        if (rnorm.val > 0.717f * s.wnorm) {
+          label = 100;
+          continue;
+        }
+        s.iter = 0;
+        nrorth += 1;
+      case 80:
+        blas.sgemv("T", n, s.j, 1.0f, v, offsetv, ldv, workd, offsetworkd + s.ipj - 1, 1, 0.0f, workd, offsetworkd + s.irj - 1, 1);
+        blas.sgemv("N", n, s.j, -1.0f, v, offsetv, ldv, workd, offsetworkd + s.irj - 1, 1, 1.0f, resid, offsetresid, 1);
+        blas.saxpy(s.j, 1.0f, workd, offsetworkd + s.irj - 1, 1, h, hj, 1);
+        s.orth2 = true;
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd + s.irj - 1, 1);
+          ipntr[offsetipntr] = s.irj;
+          ipntr[offsetipntr + 1] = s.ipj;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd + s.ipj - 1, 1);
+        }
+      case 90:
+        s.rnorm1 = snorm(bmat, n, resid, offsetresid, workd, offsetworkd + s.ipj - 1, s.rnorm1);
+        if (s.rnorm1 > 0.717f * rnorm.val) {
+          rnorm.val = s.rnorm1;
+        } else {
+          nitref += 1;
+          rnorm.val = s.rnorm1;
+          s.iter += 1;
+          if (s.iter <= 1) {
+            label = 80;
+            continue;
+          }
+          Arrays.fill(resid, offsetresid, offsetresid + n, 0.0f);
+          rnorm.val = 0.0f;
+        }
+      case 100:
+        s.rstart = false;
+        s.orth2 = false;
+        s.j += 1;
+        if (s.j > k + np) {
+          ido.val = 99;
+          for (int i = Math.max(1, k); i <= k + np - 1; i++) {
+            int hii = offseth + (i - 1) + (i - 1) * ldh;
+            float tst1 = Math.abs(h[hii]) + Math.abs(h[hii + 1 + ldh]);
+            if (tst1 == 0.0f) {
+              tst1 = org.netlib.lapack.Slanhs.slanhs("1", k + np, h, offseth, ldh, workd, offsetworkd + n);
+            }
+            if (Math.abs(h[hii + 1]) <= Math.max(sulp * tst1, s.smlnum)) {
+              h[hii + 1] = 0.0f;
+            }
+          }
+          return;
+        }
+        label = 1000;
+      }
+    }
+  }
+
+  protected void snappsK(int n, intW kev, int np, float[] shiftr, int offsetshiftr, float[] shifti, int offsetshifti, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] resid, int offsetresid, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, float[] workd, int offsetworkd) {
+    SnappsState s = snappsState;
+    if (s.first) {
+      s.smlnum = sunfl * (n / sulp);
+      s.first = false;
+    }
+    int kplusp = kev.val + np;
+    org.netlib.lapack.Slaset.slaset("All", kplusp, kplusp, 0.0f, 1.0f, q, offsetq, ldq);
+    if (np == 0) {
+      return;
+    }
+    floatW c = new floatW(0.0f), sn = new floatW(0.0f), r = new floatW(0.0f), tau = new floatW(0.0f), alpha = new floatW(0.0f);
+    float[] u = new float[3];
+    boolean cconj = false;
+    for (int jj = 1; jj <= np; jj++) {
+      float sigmar = shiftr[offsetshiftr + jj - 1];
+      float sigmai = shifti[offsetshifti + jj - 1];
+      if (cconj) {
+        cconj = false;
+        continue;
+      } else if (jj < np && Math.abs(sigmai) > 0.0f) {
+        cconj = true;
+      } else if (jj == np && Math.abs(sigmai) > 0.0f) {
+        kev.val = kev.val + 1;
+        continue;
+      }
+      int istart = 1;
+      int iend;
+      do {
+        iend = kplusp;
+        for (int i = istart; i <= kplusp - 1; i++) {
+          float tst1 = Math.abs(h[offseth + (i - 1) + (i - 1) * ldh]) + Math.abs(h[offseth + i + i * ldh]);
+          if (tst1 == 0.0f) {
+            tst1 = org.netlib.lapack.Slanhs.slanhs("1", kplusp - jj + 1, h, offseth, ldh, workl, offsetworkl);
+          }
+          if (Math.abs(h[offseth + i + (i - 1) * ldh]) <= Math.max(sulp * tst1, s.smlnum)) {
+            iend = i;
+            h[offseth + i + (i - 1) * ldh] = 0.0f;
+            break;
+          }
+        }
+        if (istart == iend || (istart + 1 == iend && Math.abs(sigmai) > 0.0f)) {
+        } else if (Math.abs(sigmai) <= 0.0f) {
+          float h11 = h[offseth + (istart - 1) + (istart - 1) * ldh];
+          float h21 = h[offseth + istart + (istart - 1) * ldh];
+          float f = h11 - sigmar;
+          float g = h21;
+          for (int i = istart; i <= iend - 1; i++) {
+            org.netlib.lapack.Slartg.slartg(f, g, c, sn, r);
+            if (i > istart) {
+              if (r.val < 0.0f) {
+                r.val = -r.val;
+                c.val = -c.val;
+                sn.val = -sn.val;
+              }
+              h[offseth + (i - 1) + (i - 2) * ldh] = r.val;
+              h[offseth + i + (i - 2) * ldh] = 0.0f;
+            }
+            for (int j = i; j <= kplusp; j++) {
+              float t = c.val * h[offseth + (i - 1) + (j - 1) * ldh] + sn.val * h[offseth + i + (j - 1) * ldh];
+              h[offseth + i + (j - 1) * ldh] = -sn.val * h[offseth + (i - 1) + (j - 1) * ldh] + c.val * h[offseth + i + (j - 1) * ldh];
+              h[offseth + (i - 1) + (j - 1) * ldh] = t;
+            }
+            for (int j = 1; j <= Math.min(i + 2, iend); j++) {
+              float t = c.val * h[offseth + (j - 1) + (i - 1) * ldh] + sn.val * h[offseth + (j - 1) + i * ldh];
+              h[offseth + (j - 1) + i * ldh] = -sn.val * h[offseth + (j - 1) + (i - 1) * ldh] + c.val * h[offseth + (j - 1) + i * ldh];
+              h[offseth + (j - 1) + (i - 1) * ldh] = t;
+            }
+            for (int j = 1; j <= Math.min(i + jj, kplusp); j++) {
+              float t = c.val * q[offsetq + (j - 1) + (i - 1) * ldq] + sn.val * q[offsetq + (j - 1) + i * ldq];
+              q[offsetq + (j - 1) + i * ldq] = -sn.val * q[offsetq + (j - 1) + (i - 1) * ldq] + c.val * q[offsetq + (j - 1) + i * ldq];
+              q[offsetq + (j - 1) + (i - 1) * ldq] = t;
+            }
+            if (i < iend - 1) {
+              f = h[offseth + i + (i - 1) * ldh];
+              g = h[offseth + (i + 1) + (i - 1) * ldh];
+            }
+          }
+        } else {
+          float h11 = h[offseth + (istart - 1) + (istart - 1) * ldh];
+          float h21 = h[offseth + istart + (istart - 1) * ldh];
+          float h12 = h[offseth + (istart - 1) + istart * ldh];
+          float h22 = h[offseth + istart + istart * ldh];
+          float h32 = h[offseth + (istart + 1) + istart * ldh];
+          float s2 = 2.0f * sigmar;
+          float t = org.netlib.lapack.Slapy2.slapy2(sigmar, sigmai);
+          u[0] = (h11 * (h11 - s2) + t * t) / h21 + h12;
+          u[1] = h11 + h22 - s2;
+          u[2] = h32;
+          for (int i = istart; i <= iend - 1; i++) {
+            int nr = Math.min(3, iend - i + 1);
+            alpha.val = u[0];
+            org.netlib.lapack.Slarfg.slarfg(nr, alpha, u, 1, 1, tau);
+            u[0] = alpha.val;
+            if (i > istart) {
+              h[offseth + (i - 1) + (i - 2) * ldh] = u[0];
+              h[offseth + i + (i - 2) * ldh] = 0.0f;
+              if (i < iend - 1) {
+                h[offseth + (i + 1) + (i - 2) * ldh] = 0.0f;
+              }
+            }
+            u[0] = 1.0f;
+            org.netlib.lapack.Slarf.slarf("Left", nr, kplusp - i + 1, u, 0, 1, tau.val, h, offseth + (i - 1) + (i - 1) * ldh, ldh, workl, offsetworkl);
+            int ir = Math.min(i + 3, iend);
+            org.netlib.lapack.Slarf.slarf("Right", ir, nr, u, 0, 1, tau.val, h, offseth + (i - 1) * ldh, ldh, workl, offsetworkl);
+            org.netlib.lapack.Slarf.slarf("Right", kplusp, nr, u, 0, 1, tau.val, q, offsetq + (i - 1) * ldq, ldq, workl, offsetworkl);
+            if (i < iend - 1) {
+              u[0] = h[offseth + i + (i - 1) * ldh];
+              u[1] = h[offseth + (i + 1) + (i - 1) * ldh];
+              if (i < iend - 2) {
+                u[2] = h[offseth + (i + 2) + (i - 1) * ldh];
+              }
+            }
+          }
+        }
+        istart = iend + 1;
+      } while (iend < kplusp);
+    }
+
+    for (int j = 1; j <= kev.val; j++) {
+      if (h[offseth + j + (j - 1) * ldh] < 0.0f) {
+        blas.sscal(kplusp - j + 1, -1.0f, h, offseth + j + (j - 1) * ldh, ldh);
+        blas.sscal(Math.min(j + 2, kplusp), -1.0f, h, offseth + j * ldh, 1);
+        blas.sscal(Math.min(j + np + 1, kplusp), -1.0f, q, offsetq + j * ldq, 1);
+      }
+    }
+    for (int i = 1; i <= kev.val; i++) {
+      float tst1 = Math.abs(h[offseth + (i - 1) + (i - 1) * ldh]) + Math.abs(h[offseth + i + i * ldh]);
+      if (tst1 == 0.0f) {
+        tst1 = org.netlib.lapack.Slanhs.slanhs("1", kev.val, h, offseth, ldh, workl, offsetworkl);
+      }
+      if (h[offseth + i + (i - 1) * ldh] <= Math.max(sulp * tst1, s.smlnum)) {
+        h[offseth + i + (i - 1) * ldh] = 0.0f;
+      }
+    }
+
+    if (h[offseth + kev.val + (kev.val - 1) * ldh] > 0.0f) {
+      blas.sgemv("N", n, kplusp, 1.0f, v, offsetv, ldv, q, offsetq + kev.val * ldq, 1, 0.0f, workd, offsetworkd + n, 1);
+    }
+    for (int i = 1; i <= kev.val; i++) {
+      blas.sgemv("N", n, kplusp - i + 1, 1.0f, v, offsetv, ldv, q, offsetq + (kev.val - i) * ldq, 1, 0.0f, workd, offsetworkd, 1);
+      blas.scopy(n, workd, offsetworkd, 1, v, offsetv + (kplusp - i) * ldv, 1);
+    }
+    org.netlib.lapack.Slacpy.slacpy("A", n, kev.val, v, offsetv + (kplusp - kev.val) * ldv, ldv, v, offsetv, ldv);
+    if (h[offseth + kev.val + (kev.val - 1) * ldh] > 0.0f) {
+      blas.scopy(n, workd, offsetworkd + n, 1, v, offsetv + kev.val * ldv, 1);
+    }
+
+    blas.sscal(n, q[offsetq + (kplusp - 1) + (kev.val - 1) * ldq], resid, offsetresid, 1);
+    if (h[offseth + kev.val + (kev.val - 1) * ldh] > 0.0f) {
+      blas.saxpy(n, h[offseth + kev.val + (kev.val - 1) * ldh], v, offsetv + kev.val * ldv, 1, resid, offsetresid, 1);
+    }
+  }
+
+  protected void snaup2K(intW ido, String bmat, int n, String which, intW nev, intW np, float tol, float[] resid, int offsetresid, int mode, int iupd, int ishift, intW mxiter, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, intW info) {
+    Snaup2State s = snaup2State;
+    if (ido.val == 0) {
+      s.eps23 = (float) Math.pow(org.netlib.lapack.Slamch.slamch("Epsilon-Machine"), 2.0f / 3.0f);
+      s.nev0 = nev.val;
+      s.np0 = np.val;
+      s.kplusp.val = nev.val + np.val;
+      s.nconv.val = 0;
+      s.iter = 0;
+      s.getv0 = true;
+      s.update = false;
+      s.ushift = false;
+      s.cnorm = false;
+      s.initv = info.val != 0;
+      info.val = 0;
+    }
+    if (s.getv0) {
+      sgetv0K(ido, bmat, 1, s.initv, n, 1, v, offsetv, ldv, resid, offsetresid, s.rnorm, ipntr, offsetipntr, workd, offsetworkd, info);
+      if (ido.val != 99) {
+        return;
+      }
+      if (s.rnorm.val == 0.0f) {
+        info.val = -9;
+        ido.val = 99;
+        return;
+      }
+      s.getv0 = false;
+      ido.val = 0;
+    }
+    int label = s.update ? 20 : s.ushift ? 50 : s.cnorm ? 100 : 10;
+    for (;;) {
+      int kplusp = s.kplusp.val;
+      switch (label) {
+      case 10:
+        snaitrK(ido, bmat, n, 0, nev.val, mode, resid, offsetresid, s.rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+        if (ido.val != 99) {
+          return;
+        }
+        if (info.val > 0) {
+          np.val = info.val;
+          mxiter.val = s.iter;
+          info.val = -9999;
+          ido.val = 99;
+          return;
+        }
+      case 1000:
+        s.iter += 1;
+        np.val = kplusp - nev.val;
+        ido.val = 0;
+      case 20:
+        s.update = true;
+        snaitrK(ido, bmat, n, nev.val, np.val, mode, resid, offsetresid, s.rnorm, v, offsetv, ldv, h, offseth, ldh, ipntr, offsetipntr, workd, offsetworkd, info);
+        if (ido.val != 99) {
+          return;
+        }
+        if (info.val > 0) {
+          np.val = info.val;
+          mxiter.val = s.iter;
+          info.val = -9999;
+          ido.val = 99;
+          return;
+        }
+        s.update = false;
+        intW ierr = new intW(0);
+        sneighK(s.rnorm.val, s.kplusp, h, offseth, ldh, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ierr);
+        if (ierr.val != 0) {
+          info.val = -8;
+          ido.val = 99;
+          return;
+        }
+        blas.scopy(kplusp, ritzr, offsetritzr, 1, workl, offsetworkl + kplusp * kplusp, 1);
+        blas.scopy(kplusp, ritzi, offsetritzi, 1, workl, offsetworkl + kplusp * kplusp + kplusp, 1);
+        blas.scopy(kplusp, bounds, offsetbounds, 1, workl, offsetworkl + kplusp * kplusp + 2 * kplusp, 1);
+        nev.val = s.nev0;
+        np.val = s.np0;
+        s.numcnv = nev.val;
+        sngetsK(ishift, which, nev, np, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, workl, offsetworkl, workl, offsetworkl + np.val);
+        if (nev.val == s.nev0 + 1) {
+          s.numcnv = s.nev0 + 1;
+        }
+        blas.scopy(nev.val, bounds, offsetbounds + np.val, 1, workl, offsetworkl + 2 * np.val, 1);
+        snconvK(nev.val, ritzr, offsetritzr + np.val, ritzi, offsetritzi + np.val, workl, offsetworkl + 2 * np.val, tol, s.nconv);
+        for (int j = 0, nptemp = np.val; j < nptemp; j++) {
+          if (bounds[offsetbounds + j] == 0.0f) {
+            np.val -= 1;
+            nev.val += 1;
+          }
+        }
+        if (s.nconv.val >= s.numcnv || s.iter > mxiter.val || np.val == 0) {
+          h[offseth + 2] = s.rnorm.val;
+          String wprime = "";
+          if (which.startsWith("LM")) wprime = "SR";
+          if (which.startsWith("SM")) wprime = "LR";
+          if (which.startsWith("LR")) wprime = "SM";
+          if (which.startsWith("SR")) wprime = "LM";
+          if (which.startsWith("LI")) wprime = "SM";
+          if (which.startsWith("SI")) wprime = "LM";
+          ssortcK(wprime, true, kplusp, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds);
+          if (which.startsWith("LM")) wprime = "SM";
+          if (which.startsWith("SM")) wprime = "LM";
+          if (which.startsWith("LR")) wprime = "SR";
+          if (which.startsWith("SR")) wprime = "LR";
+          if (which.startsWith("LI")) wprime = "SI";
+          if (which.startsWith("SI")) wprime = "LI";
+          ssortcK(wprime, true, kplusp, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds);
+          for (int j = 0; j < s.numcnv; j++) {
+            bounds[offsetbounds + j] = bounds[offsetbounds + j] / Math.max(s.eps23, org.netlib.lapack.Slapy2.slapy2(ritzr[offsetritzr + j], ritzi[offsetritzi + j]));
+          }
+          ssortcK("LR", true, s.numcnv, bounds, offsetbounds, ritzr, offsetritzr, ritzi, offsetritzi);
+          for (int j = 0; j < s.numcnv; j++) {
+            bounds[offsetbounds + j] = bounds[offsetbounds + j] * Math.max(s.eps23, org.netlib.lapack.Slapy2.slapy2(ritzr[offsetritzr + j], ritzi[offsetritzi + j]));
+          }
+          ssortcK(which, true, s.nconv.val, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds);
+          if (s.iter > mxiter.val && s.nconv.val < s.numcnv) {
+            info.val = 1;
+          }
+          if (np.val == 0 && s.nconv.val < s.numcnv) {
+            info.val = 2;
+          }
+          np.val = s.nconv.val;
+          mxiter.val = s.iter;
+          nev.val = s.numcnv;
+          ido.val = 99;
+          return;
+        } else if (s.nconv.val < s.numcnv && ishift == 1) {
+          int nevbef = nev.val;
+          nev.val = nev.val + Math.min(s.nconv.val, np.val / 2);
+          if (nev.val == 1 && kplusp >= 6) {
+            nev.val = kplusp / 2;
+          } else if (nev.val == 1 && kplusp > 3) {
+            nev.val = 2;
+          }
+          np.val = kplusp - nev.val;
+          if (nevbef < nev.val) {
+            sngetsK(ishift, which, nev, np, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, workl, offsetworkl, workl, offsetworkl + np.val);
+          }
+        }
+        if (ishift == 0) {
+          s.ushift = true;
+          ido.val = 3;
+          return;
+        }
+      case 50:
+        s.ushift = false;
+        if (ishift == 0) {
+          blas.scopy(np.val, workl, offsetworkl, 1, ritzr, offsetritzr, 1);
+          blas.scopy(np.val, workl, offsetworkl + np.val, 1, ritzi, offsetritzi, 1);
+        }
+        snappsK(n, nev, np.val, ritzr, offsetritzr, ritzi, offsetritzi, v, offsetv, ldv, h, offseth, ldh, resid, offsetresid, q, offsetq, ldq, workl, offsetworkl, workd, offsetworkd);
+        s.cnorm = true;
+        if (bmat.startsWith("G")) {
+          nbx += 1;
+          blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd + n, 1);
+          ipntr[offsetipntr] = n + 1;
+          ipntr[offsetipntr + 1] = 1;
+          ido.val = 2;
+          return;
+        } else if (bmat.startsWith("I")) {
+          blas.scopy(n, resid, offsetresid, 1, workd, offsetworkd, 1);
+        }
+      case 100:
+        s.rnorm.val = snorm(bmat, n, resid, offsetresid, workd, offsetworkd, s.rnorm.val);
+        s.cnorm = false;
+        label = 1000;
+      }
+    }
+  }
+
+  protected void snaupdK(intW ido, String bmat, int n, String which, int nev, floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, intW info) {
+    SnaupdState s = snaupdState;
+    if (ido.val == 0) {
+      nopx = nbx = nrorth = nitref = nrstrt = 0;
+      int ierr = 0;
+      s.ishift = iparam[offsetiparam];
+      s.mxiter.val = iparam[offsetiparam + 2];
+      s.mode = iparam[offsetiparam + 6];
+      if (n <= 0) {
+        ierr = -1;
+      } else if (nev <= 0) {
+        ierr = -2;
+      } else if (ncv <= nev + 1 || ncv > n) {
+        ierr = -3;
+      } else if (s.mxiter.val <= 0) {
+        ierr = 4;
+      } else if (!which.startsWith("LM") && !which.startsWith("SM") && !which.startsWith("LR") && !which.startsWith("SR") && !which.startsWith("LI") && !which.startsWith("SI")) {
+        ierr = -5;
+      } else if (!bmat.startsWith("I") && !bmat.startsWith("G")) {
+        ierr = -6;
+      } else if (lworkl < 3 * ncv * ncv + 6 * ncv) {
+        ierr = -7;
+      } else if (s.mode < 1 || s.mode > 4) {
+        ierr = -10;
+      } else if (s.mode == 1 && bmat.startsWith("G")) {
+        ierr = -11;
+      } else if (s.ishift < 0 || s.ishift > 1) {
+        ierr = -12;
+      }
+      if (ierr != 0) {
+        info.val = ierr;
+        ido.val = 99;
+        return;
+      }
+      if (tol.val <= 0.0f) {
+        tol.val = org.netlib.lapack.Slamch.slamch("EpsMach");
+      }
+      s.np.val = ncv - nev;
+      s.nev0.val = nev;
+      Arrays.fill(workl, offsetworkl, offsetworkl + 3 * ncv * ncv + 6 * ncv, 0.0f);
+      s.ldh = ncv;
+      s.ldq = ncv;
+      s.ih = 1;
+      s.ritzr = s.ih + s.ldh * ncv;
+      s.ritzi = s.ritzr + ncv;
+      s.bounds = s.ritzi + ncv;
+      s.iq = s.bounds + ncv;
+      s.iw = s.iq + s.ldq * ncv;
+      ipntr[offsetipntr + 3] = s.iw + ncv * ncv + 3 * ncv;
+      ipntr[offsetipntr + 4] = s.ih;
+      ipntr[offsetipntr + 5] = s.ritzr;
+      ipntr[offsetipntr + 6] = s.ritzi;
+      ipntr[offsetipntr + 7] = s.bounds;
+      ipntr[offsetipntr + 13] = s.iw;
+    }
+    snaup2K(ido, bmat, n, which, s.nev0, s.np, tol.val, resid, offsetresid, s.mode, 1, s.ishift, s.mxiter, v, offsetv, ldv, workl, offsetworkl + s.ih - 1, s.ldh, workl, offsetworkl + s.ritzr - 1, workl, offsetworkl + s.ritzi - 1, workl, offsetworkl + s.bounds - 1, workl, offsetworkl + s.iq - 1, s.ldq, workl, offsetworkl + s.iw - 1, ipntr, offsetipntr, workd, offsetworkd, info);
+    if (ido.val == 3) {
+      iparam[offsetiparam + 7] = s.np.val;
+    }
+    if (ido.val != 99) {
+      return;
+    }
+    iparam[offsetiparam + 2] = s.mxiter.val;
+    iparam[offsetiparam + 4] = s.np.val;
+    iparam[offsetiparam + 8] = nopx;
+    iparam[offsetiparam + 9] = nbx;
+    iparam[offsetiparam + 10] = nrorth;
+    if (info.val == 2) {
+      info.val = 3;
+    }
+  }
+
+  protected void dneighK(double rnorm, intW n, double[] h, int offseth, int ldh, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, intW ierr) {
+    synchronized (laln2) {
+      super.dneighK(rnorm, n, h, offseth, ldh, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ierr);
+    }
+  }
+
+  protected void sneighK(float rnorm, intW n, float[] h, int offseth, int ldh, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, intW ierr) {
+    synchronized (laln2) {
+      super.sneighK(rnorm, n, h, offseth, ldh, ritzr, offsetritzr, ritzi, offsetritzi, bounds, offsetbounds, q, offsetq, ldq, workl, offsetworkl, ierr);
+    }
+  }
+
+  protected void dneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] dr, int offsetdr, double[] di, int offsetdi, double[] z, int offsetz, int ldz, double sigmar, double sigmai, double[] workev, int offsetworkev, String bmat, int n, String which, intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, intW info) {
+    synchronized (laln2) {
+      super.dneupdK(rvec, howmny, select, offsetselect, dr, offsetdr, di, offsetdi, z, offsetz, ldz, sigmar, sigmai, workev, offsetworkev, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  protected void sneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] dr, int offsetdr, float[] di, int offsetdi, float[] z, int offsetz, int ldz, float sigmar, float sigmai, float[] workev, int offsetworkev, String bmat, int n, String which, intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, intW info) {
+    synchronized (laln2) {
+      super.sneupdK(rvec, howmny, select, offsetselect, dr, offsetdr, di, offsetdi, z, offsetz, ldz, sigmar, sigmai, workev, offsetworkev, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+}
@@ -0,0 +1,1292 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.arpack;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+final class FFMARPACK extends AbstractARPACK implements NativeARPACK {
+
+  private static final FFMARPACK instance = new FFMARPACK();
+
+  private static final boolean isMacOS = "Mac OS X".equals(System.getProperty("os.name"));
+
+  private static final Linker linker = Linker.nativeLinker();
+
+  private static final SymbolLookup library = SymbolLookup.libraryLookup(nativeLib(), Arena.global());
+
+  protected FFMARPACK() {}
+
+  public static NativeARPACK getInstance() {
+    return instance;
+  }
+
+  private static String nativeLib() {
+    String nativeLibPath = System.getProperty("dev.ludovic.netlib.arpack.nativeLibPath");
+    if (nativeLibPath != null) {
+      return nativeLibPath;
+    }
+    String defaultNativeLib;
+    if (isMacOS) {
+      defaultNativeLib = "aarch64".equals(System.getProperty("os.arch")) ? "/opt/homebrew/lib/libarpack.dylib" : "/usr/local/lib/libarpack.dylib";
+    } else if (System.getProperty("os.name", "").startsWith("Windows")) {
+      defaultNativeLib = "libarpack.dll";
+    } else {
+      defaultNativeLib = "libarpack.so.2";
+    }
+    return System.getProperty("dev.ludovic.netlib.arpack.nativeLib", defaultNativeLib);
+  }
+
+  private static MemoryLayout layout(char c) {
+    switch (c) {
+    case 'A': return ValueLayout.ADDRESS;
+    case 'I': return ValueLayout.JAVA_INT;
+    case 'J': return ValueLayout.JAVA_LONG;
+    case 'F': return ValueLayout.JAVA_FLOAT;
+    case 'D': return ValueLayout.JAVA_DOUBLE;
+    default: throw new IllegalArgumentException(String.valueOf(c));
+    }
+  }
+
+  // The signature is the return type (V, I, F or D) followed by one character per argument: A for pointers
+  // and J for the Fortran hidden string lengths. Returns null if the symbol isn't in the native library.
+  private static MethodHandle downcall(String name, String signature) {
+    Optional<MemorySegment> symbol = library.find(name);
+    if (!symbol.isPresent()) {
+      return null;
+    }
+    MemoryLayout[] args = new MemoryLayout[signature.length() - 1];
+    for (int i = 0; i < args.length; i++) {
+      args[i] = layout(signature.charAt(i + 1));
+    }
+    char ret = signature.charAt(0);
+    // On macOS, the Accelerate framework returns a double rather than a float, see the matching comment in jni.c
+    boolean widen = isMacOS && ret == 'F';
+    FunctionDescriptor descriptor = ret == 'V' ? FunctionDescriptor.ofVoid(args)
+                                               : FunctionDescriptor.of(layout(widen ? 'D' : ret), args);
+    // The arguments are heap segments over the Java arrays, which the critical option passes without copying
+    // nor pinning, the equivalent of GetPrimitiveArrayCritical in jni.c
+    MethodHandle handle = linker.downcallHandle(symbol.get(), descriptor, Linker.Option.critical(true));
+    return widen ? MethodHandles.explicitCastArguments(handle, handle.type().changeReturnType(float.class)) : handle;
+  }
+
+  private static MemorySegment ref(int v) {
+    return MemorySegment.ofArray(new int[] { v });
+  }
+
+  private static MemorySegment ref(long v) {
+    return MemorySegment.ofArray(new long[] { v });
+  }
+
+  private static MemorySegment ref(float v) {
+    return MemorySegment.ofArray(new float[] { v });
+  }
+
+  private static MemorySegment ref(double v) {
+    return MemorySegment.ofArray(new double[] { v });
+  }
+
+  private static MemorySegment ref(boolean v) {
+    return MemorySegment.ofArray(new int[] { v ? 1 : 0 });
+  }
+
+  private static MemorySegment array(int[] a, int offset) {
+    return a == null ? MemorySegment.NULL : MemorySegment.ofArray(a).asSlice((long)offset * Integer.BYTES);
+  }
+
+  private static MemorySegment array(float[] a, int offset) {
+    return a == null ? MemorySegment.NULL : MemorySegment.ofArray(a).asSlice((long)offset * Float.BYTES);
+  }
+
+  private static MemorySegment array(double[] a, int offset) {
+    return a == null ? MemorySegment.NULL : MemorySegment.ofArray(a).asSlice((long)offset * Double.BYTES);
+  }
+
+  private static int[] booleans(boolean[] a) {
+    if (a == null) {
+      return null;
+    }
+    int[] r = new int[a.length];
+    for (int i = 0; i < a.length; i++) {
+      r[i] = a[i] ? 1 : 0;
+    }
+    return r;
+  }
+
+  private static byte[] cstring(String s) {
+    byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+    return Arrays.copyOf(bytes, bytes.length + 1);
+  }
+
+  private static RuntimeException rethrow(Throwable t) {
+    if (t instanceof RuntimeException) {
+      return (RuntimeException)t;
+    }
+    if (t instanceof Error) {
+      throw (Error)t;
+    }
+    return new RuntimeException(t);
+  }
+
+  private static MethodHandle dmout_;
+
+  protected void dmoutK(int lout, int m, int n, double[] a, int offseta, int lda, int idigit, String ifmt) {
+    MethodHandle handle = dmout_;
+    if (handle == null) {
+      dmout_ = handle = downcall("dmout_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(lout), ref(m), ref(n), array(a, offseta), ref(lda), ref(idigit), MemorySegment.ofArray(cstring(ifmt)), (long)ifmt.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle smout_;
+
+  protected void smoutK(int lout, int m, int n, float[] a, int offseta, int lda, int idigit, String ifmt) {
+    MethodHandle handle = smout_;
+    if (handle == null) {
+      smout_ = handle = downcall("smout_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(lout), ref(m), ref(n), array(a, offseta), ref(lda), ref(idigit), MemorySegment.ofArray(cstring(ifmt)), (long)ifmt.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dvout_;
+
+  protected void dvoutK(int lout, int n, double[] sx, int offsetsx, int idigit, String ifmt) {
+    MethodHandle handle = dvout_;
+    if (handle == null) {
+      dvout_ = handle = downcall("dvout_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(lout), ref(n), array(sx, offsetsx), ref(idigit), MemorySegment.ofArray(cstring(ifmt)), (long)ifmt.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle svout_;
+
+  protected void svoutK(int lout, int n, float[] sx, int offsetsx, int idigit, String ifmt) {
+    MethodHandle handle = svout_;
+    if (handle == null) {
+      svout_ = handle = downcall("svout_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(lout), ref(n), array(sx, offsetsx), ref(idigit), MemorySegment.ofArray(cstring(ifmt)), (long)ifmt.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle ivout_;
+
+  protected void ivoutK(int lout, int n, int[] ix, int offsetix, int idigit, String ifmt) {
+    MethodHandle handle = ivout_;
+    if (handle == null) {
+      ivout_ = handle = downcall("ivout_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(lout), ref(n), array(ix, offsetix), ref(idigit), MemorySegment.ofArray(cstring(ifmt)), (long)ifmt.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dgetv0_;
+
+  protected void dgetv0K(org.netlib.util.intW ido, String bmat, int itry, boolean initv, int n, int j, double[] v, int offsetv, int ldv, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW ierr) {
+    MethodHandle handle = dgetv0_;
+    if (handle == null) {
+      dgetv0_ = handle = downcall("dgetv0_", "VAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nido = { ido.val };
+    double[] __nrnorm = { rnorm.val };
+    int[] __nierr = { ierr.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nido), MemorySegment.ofArray(cstring(bmat)), ref(itry), ref(initv), ref(n), ref(j), array(v, offsetv), ref(ldv), array(resid, offsetresid), MemorySegment.ofArray(__nrnorm), array(ipntr, offsetipntr), array(workd, offsetworkd), MemorySegment.ofArray(__nierr), (long)bmat.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ido.val = __nido[0];
+    rnorm.val = __nrnorm[0];
+    ierr.val = __nierr[0];
+  }
+
+  private static MethodHandle sgetv0_;
+
+  protected void sgetv0K(org.netlib.util.intW ido, String bmat, int itry, boolean initv, int n, int j, float[] v, int offsetv, int ldv, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW ierr) {
+    MethodHandle handle = sgetv0_;
+    if (handle == null) {
+      sgetv0_ = handle = downcall("sgetv0_", "VAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nido = { ido.val };
+    float[] __nrnorm = { rnorm.val };
+    int[] __nierr = { ierr.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nido), MemorySegment.ofArray(cstring(bmat)), ref(itry), ref(initv), ref(n), ref(j), array(v, offsetv), ref(ldv), array(resid, offsetresid), MemorySegment.ofArray(__nrnorm), array(ipntr, offsetipntr), array(workd, offsetworkd), MemorySegment.ofArray(__nierr), (long)bmat.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ido.val = __nido[0];
+    rnorm.val = __nrnorm[0];
+    ierr.val = __nierr[0];
+  }
+
+  protected void dlaqrbK(boolean wantt, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] z, int offsetz, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void slaqrbK(boolean wantt, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] z, int offsetz, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static MethodHandle dnaitr_;
+
+  protected void dnaitrK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int nb, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
+    MethodHandle handle = dnaitr_;
+    if (handle == null) {
+      dnaitr_ = handle = downcall("dnaitr_", "VAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nido = { ido.val };
+    double[] __nrnorm = { rnorm.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nido), MemorySegment.ofArray(cstring(bmat)), ref(n), ref(k), ref(np), ref(nb), array(resid, offsetresid), MemorySegment.ofArray(__nrnorm), array(v, offsetv), ref(ldv), array(h, offseth), ref(ldh), array(ipntr, offsetipntr), array(workd, offsetworkd), MemorySegment.ofArray(__ninfo), (long)bmat.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ido.val = __nido[0];
+    rnorm.val = __nrnorm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle snaitr_;
+
+  protected void snaitrK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int nb, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
+    MethodHandle handle = snaitr_;
+    if (handle == null) {
+      snaitr_ = handle = downcall("snaitr_", "VAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nido = { ido.val };
+    float[] __nrnorm = { rnorm.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nido), MemorySegment.ofArray(cstring(bmat)), ref(n), ref(k), ref(np), ref(nb), array(resid, offsetresid), MemorySegment.ofArray(__nrnorm), array(v, offsetv), ref(ldv), array(h, offseth), ref(ldh), array(ipntr, offsetipntr), array(workd, offsetworkd), MemorySegment.ofArray(__ninfo), (long)bmat.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ido.val = __nido[0];
+    rnorm.val = __nrnorm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dnapps_;
+
+  protected void dnappsK(int n, org.netlib.util.intW kev, int np, double[] shiftr, int offsetshiftr, double[] shifti, int offsetshifti, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] resid, int offsetresid, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, double[] workd, int offsetworkd) {
+    MethodHandle handle = dnapps_;
+    if (handle == null) {
+      dnapps_ = handle = downcall("dnapps_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nkev = { kev.val };
+    try {
+      handle.invokeExact(ref(n), MemorySegment.ofArray(__nkev), ref(np), array(shiftr, offsetshiftr), array(shifti, offsetshifti), array(v, offsetv), ref(ldv), array(h, offseth), ref(ldh), array(resid, offsetresid), array(q, offsetq), ref(ldq), array(workl, offsetworkl), array(workd, offsetworkd));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    kev.val = __nkev[0];
+  }
+
+  private static MethodHandle snapps_;
+
+  protected void snappsK(int n, org.netlib.util.intW kev, int np, float[] shiftr, int offsetshiftr, float[] shifti, int offsetshifti, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] resid, int offsetresid, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, float[] workd, int offsetworkd) {
+    MethodHandle handle = snapps_;
+    if (handle == null) {
+      snapps_ = handle = downcall("snapps_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nkev = { kev.val };
+    try {
+      handle.invokeExact(ref(n), MemorySegment.ofArray(__nkev), ref(np), array(shiftr, offsetshiftr), array(shifti, offsetshifti), array(v, offsetv), ref(ldv), array(h, offseth), ref(ldh), array(resid, offsetresid), array(q, offsetq), ref(ldq), array(workl, offsetworkl), array(workd, offsetworkd));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    kev.val = __nkev[0];
+  }
+
+  private static MethodHandle dnaup2_;
+
+  protected void dnaup2K(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, double tol, double[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
+    MethodHandle handle = dnaup2_;
+    if (handle == null) {
+      dnaup2_ = handle = downcall("dnaup2_", "VAAAAAAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nido = { ido.val };
+    int[] __nnev = { nev.val };
+    int[] __nnp = { np.val };
+    int[] __nmxiter = { mxiter.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nido), MemorySegment.ofArray(cstring(bmat)), ref(n), MemorySegment.ofArray(cstring(which)), MemorySegment.ofArray(__nnev), MemorySegment.ofArray(__nnp), ref(tol), array(resid, offsetresid), ref(mode), ref(iupd), ref(ishift), MemorySegment.ofArray(__nmxiter), array(v, offsetv), ref(ldv), array(h, offseth), ref(ldh), array(ritzr, offsetritzr), array(ritzi, offsetritzi), array(bounds, offsetbounds), array(q, offsetq), ref(ldq), array(workl, offsetworkl), array(ipntr, offsetipntr), array(workd, offsetworkd), MemorySegment.ofArray(__ninfo), (long)bmat.length(), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ido.val = __nido[0];
+    nev.val = __nnev[0];
+    np.val = __nnp[0];
+    mxiter.val = __nmxiter[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle snaup2_;
+
+  protected void snaup2K(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, float tol, float[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
+    MethodHandle handle = snaup2_;
+    if (handle == null) {
+      snaup2_ = handle = downcall("snaup2_", "VAAAAAAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nido = { ido.val };
+    int[] __nnev = { nev.val };
+    int[] __nnp = { np.val };
+    int[] __nmxiter = { mxiter.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nido), MemorySegment.ofArray(cstring(bmat)), ref(n), MemorySegment.ofArray(cstring(which)), MemorySegment.ofArray(__nnev), MemorySegment.ofArray(__nnp), ref(tol), array(resid, offsetresid), ref(mode), ref(iupd), ref(ishift), MemorySegment.ofArray(__nmxiter), array(v, offsetv), ref(ldv), array(h, offseth), ref(ldh), array(ritzr, offsetritzr), array(ritzi, offsetritzi), array(bounds, offsetbounds), array(q, offsetq), ref(ldq), array(workl, offsetworkl), array(ipntr, offsetipntr), array(workd, offsetworkd), MemorySegment.ofArray(__ninfo), (long)bmat.length(), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ido.val = __nido[0];
+    nev.val = __nnev[0];
+    np.val = __nnp[0];
+    mxiter.val = __nmxiter[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dnaupd_;
+
+  protected void dnaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    MethodHandle handle = dnaupd_;
+    if (handle == null) {
+      dnaupd_ = handle = downcall("dnaupd_", "VAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nido = { ido.val };
+    double[] __ntol = { tol.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nido), MemorySegment.ofArray(cstring(bmat)), ref(n), MemorySegment.ofArray(cstring(which)), ref(nev), MemorySegment.ofArray(__ntol), array(resid, offsetresid), ref(ncv), array(v, offsetv), ref(ldv), array(iparam, offsetiparam), array(ipntr, offsetipntr), array(workd, offsetworkd), array(workl, offsetworkl), ref(lworkl), MemorySegment.ofArray(__ninfo), (long)bmat.length(), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ido.val = __nido[0];
+    tol.val = __ntol[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle snaupd_;
+
+  protected void snaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    MethodHandle handle = snaupd_;
+    if (handle == null) {
+      snaupd_ = handle = downcall("snaupd_", "VAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nido = { ido.val };
+    float[] __ntol = { tol.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nido), MemorySegment.ofArray(cstring(bmat)), ref(n), MemorySegment.ofArray(cstring(which)), ref(nev), MemorySegment.ofArray(__ntol), array(resid, offsetresid), ref(ncv), array(v, offsetv), ref(ldv), array(iparam, offsetiparam), array(ipntr, offsetipntr), array(workd, offsetworkd), array(workl, offsetworkl), ref(lworkl), MemorySegment.ofArray(__ninfo), (long)bmat.length(), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ido.val = __nido[0];
+    tol.val = __ntol[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dnconv_;
+
+  protected void dnconvK(int n, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double tol, org.netlib.util.intW nconv) {
+    MethodHandle handle = dnconv_;
+    if (handle == null) {
+      dnconv_ = handle = downcall("dnconv_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nnconv = { nconv.val };
+    try {
+      handle.invokeExact(ref(n), array(ritzr, offsetritzr), array(ritzi, offsetritzi), array(bounds, offsetbounds), ref(tol), MemorySegment.ofArray(__nnconv));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    nconv.val = __nnconv[0];
+  }
+
+  private static MethodHandle snconv_;
+
+  protected void snconvK(int n, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float tol, org.netlib.util.intW nconv) {
+    MethodHandle handle = snconv_;
+    if (handle == null) {
+      snconv_ = handle = downcall("snconv_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nnconv = { nconv.val };
+    try {
+      handle.invokeExact(ref(n), array(ritzr, offsetritzr), array(ritzi, offsetritzi), array(bounds, offsetbounds), ref(tol), MemorySegment.ofArray(__nnconv));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    nconv.val = __nnconv[0];
+  }
+
+  private static MethodHandle dsconv_;
+
+  protected void dsconvK(int n, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double tol, org.netlib.util.intW nconv) {
+    MethodHandle handle = dsconv_;
+    if (handle == null) {
+      dsconv_ = handle = downcall("dsconv_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nnconv = { nconv.val };
+    try {
+      handle.invokeExact(ref(n), array(ritz, offsetritz), array(bounds, offsetbounds), ref(tol), MemorySegment.ofArray(__nnconv));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    nconv.val = __nnconv[0];
+  }
+
+  private static MethodHandle ssconv_;
+
+  protected void ssconvK(int n, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float tol, org.netlib.util.intW nconv) {
+    MethodHandle handle = ssconv_;
+    if (handle == null) {
+      ssconv_ = handle = downcall("ssconv_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nnconv = { nconv.val };
+    try {
+      handle.invokeExact(ref(n), array(ritz, offsetritz), array(bounds, offsetbounds), ref(tol), MemorySegment.ofArray(__nnconv));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    nconv.val = __nnconv[0];
+  }
+
+  private static MethodHandle dneigh_;
+
+  protected void dneighK(double rnorm, org.netlib.util.intW n, double[] h, int offseth, int ldh, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, org.netlib.util.intW ierr) {
+    MethodHandle handle = dneigh_;
+    if (handle == null) {
+      dneigh_ = handle = downcall("dneigh_", "VAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nn = { n.val };
+    int[] __nierr = { ierr.val };
+    try {
+      handle.invokeExact(ref(rnorm), MemorySegment.ofArray(__nn), array(h, offseth), ref(ldh), array(ritzr, offsetritzr), array(ritzi, offsetritzi), array(bounds, offsetbounds), array(q, offsetq), ref(ldq), array(workl, offsetworkl), MemorySegment.ofArray(__nierr));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    n.val = __nn[0];
+    ierr.val = __nierr[0];
+  }
+
+  private static MethodHandle sneigh_;
+
+  protected void sneighK(float rnorm, org.netlib.util.intW n, float[] h, int offseth, int ldh, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, org.netlib.util.intW ierr) {
+    MethodHandle handle = sneigh_;
+    if (handle == null) {
+      sneigh_ = handle = downcall("sneigh_", "VAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nn = { n.val };
+    int[] __nierr = { ierr.val };
+    try {
+      handle.invokeExact(ref(rnorm), MemorySegment.ofArray(__nn), array(h, offseth), ref(ldh), array(ritzr, offsetritzr), array(ritzi, offsetritzi), array(bounds, offsetbounds), array(q, offsetq), ref(ldq), array(workl, offsetworkl), MemorySegment.ofArray(__nierr));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    n.val = __nn[0];
+    ierr.val = __nierr[0];
+  }
+
+  private static MethodHandle dneupd_;
+
+  protected void dneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] dr, int offsetdr, double[] di, int offsetdi, double[] z, int offsetz, int ldz, double sigmar, double sigmai, double[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    MethodHandle handle = dneupd_;
+    if (handle == null) {
+      dneupd_ = handle = downcall("dneupd_", "VAAAAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nnev = { nev.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(rvec), MemorySegment.ofArray(cstring(howmny)), array(__nselect, offsetselect), array(dr, offsetdr), array(di, offsetdi), array(z, offsetz), ref(ldz), ref(sigmar), ref(sigmai), array(workev, offsetworkev), MemorySegment.ofArray(cstring(bmat)), ref(n), MemorySegment.ofArray(cstring(which)), MemorySegment.ofArray(__nnev), ref(tol), array(resid, offsetresid), ref(ncv), array(v, offsetv), ref(ldv), array(iparam, offsetiparam), array(ipntr, offsetipntr), array(workd, offsetworkd), array(workl, offsetworkl), ref(lworkl), MemorySegment.ofArray(__ninfo), (long)howmny.length(), (long)bmat.length(), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    nev.val = __nnev[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sneupd_;
+
+  protected void sneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] dr, int offsetdr, float[] di, int offsetdi, float[] z, int offsetz, int ldz, float sigmar, float sigmai, float[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    MethodHandle handle = sneupd_;
+    if (handle == null) {
+      sneupd_ = handle = downcall("sneupd_", "VAAAAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nnev = { nev.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(rvec), MemorySegment.ofArray(cstring(howmny)), array(__nselect, offsetselect), array(dr, offsetdr), array(di, offsetdi), array(z, offsetz), ref(ldz), ref(sigmar), ref(sigmai), array(workev, offsetworkev), MemorySegment.ofArray(cstring(bmat)), ref(n), MemorySegment.ofArray(cstring(which)), MemorySegment.ofArray(__nnev), ref(tol), array(resid, offsetresid), ref(ncv), array(v, offsetv), ref(ldv), array(iparam, offsetiparam), array(ipntr, offsetipntr), array(workd, offsetworkd), array(workl, offsetworkl), ref(lworkl), MemorySegment.ofArray(__ninfo), (long)howmny.length(), (long)bmat.length(), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    nev.val = __nnev[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dngets_;
+
+  protected void dngetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] shiftr, int offsetshiftr, double[] shifti, int offsetshifti) {
+    MethodHandle handle = dngets_;
+    if (handle == null) {
+      dngets_ = handle = downcall("dngets_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nkev = { kev.val };
+    int[] __nnp = { np.val };
+    try {
+      handle.invokeExact(ref(ishift), MemorySegment.ofArray(cstring(which)), MemorySegment.ofArray(__nkev), MemorySegment.ofArray(__nnp), array(ritzr, offsetritzr), array(ritzi, offsetritzi), array(bounds, offsetbounds), array(shiftr, offsetshiftr), array(shifti, offsetshifti), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    kev.val = __nkev[0];
+    np.val = __nnp[0];
+  }
+
+  private static MethodHandle sngets_;
+
+  protected void sngetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] shiftr, int offsetshiftr, float[] shifti, int offsetshifti) {
+    MethodHandle handle = sngets_;
+    if (handle == null) {
+      sngets_ = handle = downcall("sngets_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nkev = { kev.val };
+    int[] __nnp = { np.val };
+    try {
+      handle.invokeExact(ref(ishift), MemorySegment.ofArray(cstring(which)), MemorySegment.ofArray(__nkev), MemorySegment.ofArray(__nnp), array(ritzr, offsetritzr), array(ritzi, offsetritzi), array(bounds, offsetbounds), array(shiftr, offsetshiftr), array(shifti, offsetshifti), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    kev.val = __nkev[0];
+    np.val = __nnp[0];
+  }
+
+  private static MethodHandle dsaitr_;
+
+  protected void dsaitrK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int mode, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
+    MethodHandle handle = dsaitr_;
+    if (handle == null) {
+      dsaitr_ = handle = downcall("dsaitr_", "VAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nido = { ido.val };
+    double[] __nrnorm = { rnorm.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nido), MemorySegment.ofArray(cstring(bmat)), ref(n), ref(k), ref(np), ref(mode), array(resid, offsetresid), MemorySegment.ofArray(__nrnorm), array(v, offsetv), ref(ldv), array(h, offseth), ref(ldh), array(ipntr, offsetipntr), array(workd, offsetworkd), MemorySegment.ofArray(__ninfo), (long)bmat.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ido.val = __nido[0];
+    rnorm.val = __nrnorm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssaitr_;
+
+  protected void ssaitrK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int mode, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
+    MethodHandle handle = ssaitr_;
+    if (handle == null) {
+      ssaitr_ = handle = downcall("ssaitr_", "VAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nido = { ido.val };
+    float[] __nrnorm = { rnorm.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nido), MemorySegment.ofArray(cstring(bmat)), ref(n), ref(k), ref(np), ref(mode), array(resid, offsetresid), MemorySegment.ofArray(__nrnorm), array(v, offsetv), ref(ldv), array(h, offseth), ref(ldh), array(ipntr, offsetipntr), array(workd, offsetworkd), MemorySegment.ofArray(__ninfo), (long)bmat.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ido.val = __nido[0];
+    rnorm.val = __nrnorm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsapps_;
+
+  protected void dsappsK(int n, int kev, int np, double[] shift, int offsetshift, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] resid, int offsetresid, double[] q, int offsetq, int ldq, double[] workd, int offsetworkd) {
+    MethodHandle handle = dsapps_;
+    if (handle == null) {
+      dsapps_ = handle = downcall("dsapps_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(kev), ref(np), array(shift, offsetshift), array(v, offsetv), ref(ldv), array(h, offseth), ref(ldh), array(resid, offsetresid), array(q, offsetq), ref(ldq), array(workd, offsetworkd));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle ssapps_;
+
+  protected void ssappsK(int n, int kev, int np, float[] shift, int offsetshift, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] resid, int offsetresid, float[] q, int offsetq, int ldq, float[] workd, int offsetworkd) {
+    MethodHandle handle = ssapps_;
+    if (handle == null) {
+      ssapps_ = handle = downcall("ssapps_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(kev), ref(np), array(shift, offsetshift), array(v, offsetv), ref(ldv), array(h, offseth), ref(ldh), array(resid, offsetresid), array(q, offsetq), ref(ldq), array(workd, offsetworkd));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dsaup2_;
+
+  protected void dsaup2K(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, double tol, double[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
+    MethodHandle handle = dsaup2_;
+    if (handle == null) {
+      dsaup2_ = handle = downcall("dsaup2_", "VAAAAAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nido = { ido.val };
+    int[] __nnev = { nev.val };
+    int[] __nnp = { np.val };
+    int[] __nmxiter = { mxiter.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nido), MemorySegment.ofArray(cstring(bmat)), ref(n), MemorySegment.ofArray(cstring(which)), MemorySegment.ofArray(__nnev), MemorySegment.ofArray(__nnp), ref(tol), array(resid, offsetresid), ref(mode), ref(iupd), ref(ishift), MemorySegment.ofArray(__nmxiter), array(v, offsetv), ref(ldv), array(h, offseth), ref(ldh), array(ritz, offsetritz), array(bounds, offsetbounds), array(q, offsetq), ref(ldq), array(workl, offsetworkl), array(ipntr, offsetipntr), array(workd, offsetworkd), MemorySegment.ofArray(__ninfo), (long)bmat.length(), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ido.val = __nido[0];
+    nev.val = __nnev[0];
+    np.val = __nnp[0];
+    mxiter.val = __nmxiter[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssaup2_;
+
+  protected void ssaup2K(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, float tol, float[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
+    MethodHandle handle = ssaup2_;
+    if (handle == null) {
+      ssaup2_ = handle = downcall("ssaup2_", "VAAAAAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nido = { ido.val };
+    int[] __nnev = { nev.val };
+    int[] __nnp = { np.val };
+    int[] __nmxiter = { mxiter.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nido), MemorySegment.ofArray(cstring(bmat)), ref(n), MemorySegment.ofArray(cstring(which)), MemorySegment.ofArray(__nnev), MemorySegment.ofArray(__nnp), ref(tol), array(resid, offsetresid), ref(mode), ref(iupd), ref(ishift), MemorySegment.ofArray(__nmxiter), array(v, offsetv), ref(ldv), array(h, offseth), ref(ldh), array(ritz, offsetritz), array(bounds, offsetbounds), array(q, offsetq), ref(ldq), array(workl, offsetworkl), array(ipntr, offsetipntr), array(workd, offsetworkd), MemorySegment.ofArray(__ninfo), (long)bmat.length(), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ido.val = __nido[0];
+    nev.val = __nnev[0];
+    np.val = __nnp[0];
+    mxiter.val = __nmxiter[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dseigt_;
+
+  protected void dseigtK(double rnorm, int n, double[] h, int offseth, int ldh, double[] eig, int offseteig, double[] bounds, int offsetbounds, double[] workl, int offsetworkl, org.netlib.util.intW ierr) {
+    MethodHandle handle = dseigt_;
+    if (handle == null) {
+      dseigt_ = handle = downcall("dseigt_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nierr = { ierr.val };
+    try {
+      handle.invokeExact(ref(rnorm), ref(n), array(h, offseth), ref(ldh), array(eig, offseteig), array(bounds, offsetbounds), array(workl, offsetworkl), MemorySegment.ofArray(__nierr));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ierr.val = __nierr[0];
+  }
+
+  private static MethodHandle sseigt_;
+
+  protected void sseigtK(float rnorm, int n, float[] h, int offseth, int ldh, float[] eig, int offseteig, float[] bounds, int offsetbounds, float[] workl, int offsetworkl, org.netlib.util.intW ierr) {
+    MethodHandle handle = sseigt_;
+    if (handle == null) {
+      sseigt_ = handle = downcall("sseigt_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nierr = { ierr.val };
+    try {
+      handle.invokeExact(ref(rnorm), ref(n), array(h, offseth), ref(ldh), array(eig, offseteig), array(bounds, offsetbounds), array(workl, offsetworkl), MemorySegment.ofArray(__nierr));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ierr.val = __nierr[0];
+  }
+
+  private static MethodHandle dsesrt_;
+
+  protected void dsesrtK(String which, boolean apply, int n, double[] x, int offsetx, int na, double[] a, int offseta, int lda) {
+    MethodHandle handle = dsesrt_;
+    if (handle == null) {
+      dsesrt_ = handle = downcall("dsesrt_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(which)), ref(apply), ref(n), array(x, offsetx), ref(na), array(a, offseta), ref(lda), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle ssesrt_;
+
+  protected void ssesrtK(String which, boolean apply, int n, float[] x, int offsetx, int na, float[] a, int offseta, int lda) {
+    MethodHandle handle = ssesrt_;
+    if (handle == null) {
+      ssesrt_ = handle = downcall("ssesrt_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(which)), ref(apply), ref(n), array(x, offsetx), ref(na), array(a, offseta), ref(lda), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dsaupd_;
+
+  protected void dsaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    MethodHandle handle = dsaupd_;
+    if (handle == null) {
+      dsaupd_ = handle = downcall("dsaupd_", "VAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nido = { ido.val };
+    double[] __ntol = { tol.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nido), MemorySegment.ofArray(cstring(bmat)), ref(n), MemorySegment.ofArray(cstring(which)), ref(nev), MemorySegment.ofArray(__ntol), array(resid, offsetresid), ref(ncv), array(v, offsetv), ref(ldv), array(iparam, offsetiparam), array(ipntr, offsetipntr), array(workd, offsetworkd), array(workl, offsetworkl), ref(lworkl), MemorySegment.ofArray(__ninfo), (long)bmat.length(), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ido.val = __nido[0];
+    tol.val = __ntol[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssaupd_;
+
+  protected void ssaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    MethodHandle handle = ssaupd_;
+    if (handle == null) {
+      ssaupd_ = handle = downcall("ssaupd_", "VAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nido = { ido.val };
+    float[] __ntol = { tol.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nido), MemorySegment.ofArray(cstring(bmat)), ref(n), MemorySegment.ofArray(cstring(which)), ref(nev), MemorySegment.ofArray(__ntol), array(resid, offsetresid), ref(ncv), array(v, offsetv), ref(ldv), array(iparam, offsetiparam), array(ipntr, offsetipntr), array(workd, offsetworkd), array(workl, offsetworkl), ref(lworkl), MemorySegment.ofArray(__ninfo), (long)bmat.length(), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ido.val = __nido[0];
+    tol.val = __ntol[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dseupd_;
+
+  protected void dseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] d, int offsetd, double[] z, int offsetz, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    MethodHandle handle = dseupd_;
+    if (handle == null) {
+      dseupd_ = handle = downcall("dseupd_", "VAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nnev = { nev.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(rvec), MemorySegment.ofArray(cstring(howmny)), array(__nselect, offsetselect), array(d, offsetd), array(z, offsetz), ref(ldz), ref(sigma), MemorySegment.ofArray(cstring(bmat)), ref(n), MemorySegment.ofArray(cstring(which)), MemorySegment.ofArray(__nnev), ref(tol), array(resid, offsetresid), ref(ncv), array(v, offsetv), ref(ldv), array(iparam, offsetiparam), array(ipntr, offsetipntr), array(workd, offsetworkd), array(workl, offsetworkl), ref(lworkl), MemorySegment.ofArray(__ninfo), (long)howmny.length(), (long)bmat.length(), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    nev.val = __nnev[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sseupd_;
+
+  protected void sseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] d, int offsetd, float[] z, int offsetz, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    MethodHandle handle = sseupd_;
+    if (handle == null) {
+      sseupd_ = handle = downcall("sseupd_", "VAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nnev = { nev.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(rvec), MemorySegment.ofArray(cstring(howmny)), array(__nselect, offsetselect), array(d, offsetd), array(z, offsetz), ref(ldz), ref(sigma), MemorySegment.ofArray(cstring(bmat)), ref(n), MemorySegment.ofArray(cstring(which)), MemorySegment.ofArray(__nnev), ref(tol), array(resid, offsetresid), ref(ncv), array(v, offsetv), ref(ldv), array(iparam, offsetiparam), array(ipntr, offsetipntr), array(workd, offsetworkd), array(workl, offsetworkl), ref(lworkl), MemorySegment.ofArray(__ninfo), (long)howmny.length(), (long)bmat.length(), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    nev.val = __nnev[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsgets_;
+
+  protected void dsgetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double[] shifts, int offsetshifts) {
+    MethodHandle handle = dsgets_;
+    if (handle == null) {
+      dsgets_ = handle = downcall("dsgets_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nkev = { kev.val };
+    int[] __nnp = { np.val };
+    try {
+      handle.invokeExact(ref(ishift), MemorySegment.ofArray(cstring(which)), MemorySegment.ofArray(__nkev), MemorySegment.ofArray(__nnp), array(ritz, offsetritz), array(bounds, offsetbounds), array(shifts, offsetshifts), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    kev.val = __nkev[0];
+    np.val = __nnp[0];
+  }
+
+  private static MethodHandle ssgets_;
+
+  protected void ssgetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float[] shifts, int offsetshifts) {
+    MethodHandle handle = ssgets_;
+    if (handle == null) {
+      ssgets_ = handle = downcall("ssgets_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nkev = { kev.val };
+    int[] __nnp = { np.val };
+    try {
+      handle.invokeExact(ref(ishift), MemorySegment.ofArray(cstring(which)), MemorySegment.ofArray(__nkev), MemorySegment.ofArray(__nnp), array(ritz, offsetritz), array(bounds, offsetbounds), array(shifts, offsetshifts), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    kev.val = __nkev[0];
+    np.val = __nnp[0];
+  }
+
+  private static MethodHandle dsortc_;
+
+  protected void dsortcK(String which, boolean apply, int n, double[] xreal, int offsetxreal, double[] ximag, int offsetximag, double[] y, int offsety) {
+    MethodHandle handle = dsortc_;
+    if (handle == null) {
+      dsortc_ = handle = downcall("dsortc_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(which)), ref(apply), ref(n), array(xreal, offsetxreal), array(ximag, offsetximag), array(y, offsety), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle ssortc_;
+
+  protected void ssortcK(String which, boolean apply, int n, float[] xreal, int offsetxreal, float[] ximag, int offsetximag, float[] y, int offsety) {
+    MethodHandle handle = ssortc_;
+    if (handle == null) {
+      ssortc_ = handle = downcall("ssortc_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(which)), ref(apply), ref(n), array(xreal, offsetxreal), array(ximag, offsetximag), array(y, offsety), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dsortr_;
+
+  protected void dsortrK(String which, boolean apply, int n, double[] x1, int offsetx1, double[] x2, int offsetx2) {
+    MethodHandle handle = dsortr_;
+    if (handle == null) {
+      dsortr_ = handle = downcall("dsortr_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(which)), ref(apply), ref(n), array(x1, offsetx1), array(x2, offsetx2), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle ssortr_;
+
+  protected void ssortrK(String which, boolean apply, int n, float[] x1, int offsetx1, float[] x2, int offsetx2) {
+    MethodHandle handle = ssortr_;
+    if (handle == null) {
+      ssortr_ = handle = downcall("ssortr_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(which)), ref(apply), ref(n), array(x1, offsetx1), array(x2, offsetx2), (long)which.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dstatn_;
+
+  protected void dstatnK() {
+    MethodHandle handle = dstatn_;
+    if (handle == null) {
+      dstatn_ = handle = downcall("dstatn_", "V");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact();
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle sstatn_;
+
+  protected void sstatnK() {
+    MethodHandle handle = sstatn_;
+    if (handle == null) {
+      sstatn_ = handle = downcall("sstatn_", "V");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact();
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dstats_;
+
+  protected void dstatsK() {
+    MethodHandle handle = dstats_;
+    if (handle == null) {
+      dstats_ = handle = downcall("dstats_", "V");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact();
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle sstats_;
+
+  protected void sstatsK() {
+    MethodHandle handle = sstats_;
+    if (handle == null) {
+      sstats_ = handle = downcall("sstats_", "V");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact();
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dstqrb_;
+
+  protected void dstqrbK(int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dstqrb_;
+    if (handle == null) {
+      dstqrb_ = handle = downcall("dstqrb_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), array(z, offsetz), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sstqrb_;
+
+  protected void sstqrbK(int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sstqrb_;
+    if (handle == null) {
+      sstqrb_ = handle = downcall("sstqrb_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), array(z, offsetz), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle icnteq_;
+
+  protected int icnteqK(int n, int[] array, int offsetarray, int value) {
+    MethodHandle handle = icnteq_;
+    if (handle == null) {
+      icnteq_ = handle = downcall("icnteq_", "IAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(n), array(array, offsetarray), ref(value));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle icopy_;
+
+  protected void icopyK(int n, int[] lx, int offsetlx, int incx, int[] ly, int offsetly, int incy) {
+    MethodHandle handle = icopy_;
+    if (handle == null) {
+      icopy_ = handle = downcall("icopy_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(lx, offsetlx), ref(incx), array(ly, offsetly), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle iset_;
+
+  protected void isetK(int n, int value, int[] array, int offsetarray, int inc) {
+    MethodHandle handle = iset_;
+    if (handle == null) {
+      iset_ = handle = downcall("iset_", "VAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(value), array(array, offsetarray), ref(inc));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle iswap_;
+
+  protected void iswapK(int n, int[] sx, int offsetsx, int incx, int[] sy, int offsetsy, int incy) {
+    MethodHandle handle = iswap_;
+    if (handle == null) {
+      iswap_ = handle = downcall("iswap_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(sx, offsetsx), ref(incx), array(sy, offsetsy), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle second_;
+
+  protected void secondK(org.netlib.util.floatW t) {
+    MethodHandle handle = second_;
+    if (handle == null) {
+      second_ = handle = downcall("second_", "VA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nt = { t.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nt));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    t.val = __nt[0];
+  }
+
+}
@@ -53,6 +53,7 @@ public class ARPACKTest {
       Arguments.of(Named.of("NativeARPACK", NativeARPACK.getInstance())),
       Arguments.of(Named.of("JavaARPACK", JavaARPACK.getInstance())),
       Arguments.of(Named.of("F2jARPACK", F2jARPACK.getInstance())),
+      Arguments.of(Named.of("ReentrantARPACK", JavaARPACK.newSession())),
       Arguments.of(Named.of("JNIARPACK", JNIARPACK.getInstance()))
     );
 
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.arpack;
+
+import java.util.stream.IntStream;
+
+import dev.ludovic.netlib.blas.CSRMatrix;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EigenSolverTest extends ARPACKTest {
+
+    // The 1D Laplacian tridiag(-1, 2, -1), whose eigenvalues are 2 - 2 * cos(k * pi / (n + 1))
+    static LinearOperator laplacian(int n) {
+        return (x, offsetx, y, offsety) -> {
+            for (int i = 0; i < n; i++) {
+                double r = 2.0 * x[offsetx + i];
+                if (i > 0) r -= x[offsetx + i - 1];
+                if (i < n - 1) r -= x[offsetx + i + 1];
+                y[offsety + i] = r;
+            }
+        };
+    }
+
+    static double laplacianEigenvalue(int n, int k) {
+        return 2.0 - 2.0 * Math.cos(k * Math.PI / (n + 1));
+    }
+
+    static void assertEigenpairs(LinearOperator a, int n, EigenSolver.Result result, double epsilon) {
+        double[] values = result.values();
+        double[] vectors = result.vectors();
+        double[] y = new double[n];
+        for (int k = 0; k < values.length; k++) {
+            a.apply(vectors, k * n, y, 0);
+            double norm = 0.0;
+            for (int i = 0; i < n; i++) {
+                assertEquals(values[k] * vectors[k * n + i], y[i], epsilon);
+                norm += vectors[k * n + i] * vectors[k * n + i];
+            }
+            assertEquals(1.0, norm, epsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("ARPACKImplementations")
+    void testLargestAlgebraic(ARPACK arpack) {
+        int n = 100, nev = 4;
+        LinearOperator a = laplacian(n);
+        EigenSolver solver = new EigenSolver(arpack, n, nev, 30);
+
+        EigenSolver.Result result = solver.solve(a, "LA", 1e-12);
+        assertEquals(nev, result.values().length);
+        for (int k = 0; k < nev; k++) {
+            // in ascending order
+            assertEquals(laplacianEigenvalue(n, n - nev + 1 + k), result.values()[k], 1e-10);
+        }
+        assertEigenpairs(a, n, result, 1e-8);
+        assertTrue(result.iterations() > 0);
+        assertTrue(result.operations() > 0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("ARPACKImplementations")
+    void testSmallestAlgebraic(ARPACK arpack) {
+        int n = 50, nev = 3;
+        LinearOperator a = laplacian(n);
+        EigenSolver solver = new EigenSolver(arpack, n, nev, 20).setMaxIterations(1000);
+
+        EigenSolver.Result result = solver.solve(a, "SA", 1e-12);
+        assertEquals(nev, result.values().length);
+        for (int k = 0; k < nev; k++) {
+            assertEquals(laplacianEigenvalue(n, k + 1), result.values()[k], 1e-10);
+        }
+        assertEigenpairs(a, n, result, 1e-8);
+    }
+
+    @ParameterizedTest
+    @MethodSource("ARPACKImplementations")
+    void testReuse(ARPACK arpack) {
+        int n = 100, nev = 4;
+        EigenSolver solver = new EigenSolver(arpack, n, nev, 30);
+
+        double[] first = solver.solve(laplacian(n), "LA", 1e-12).values();
+        // a different operator of the same dimension, 3 * I - L
+        LinearOperator shifted = (x, offsetx, y, offsety) -> {
+            laplacian(n).apply(x, offsetx, y, offsety);
+            for (int i = 0; i < n; i++) {
+                y[offsety + i] = 3.0 * x[offsetx + i] - y[offsety + i];
+            }
+        };
+        EigenSolver.Result second = solver.solve(shifted, "SA", 1e-12, false);
+        assertNull(second.vectors());
+        for (int k = 0; k < nev; k++) {
+            assertEquals(3.0 - first[nev - 1 - k], second.values()[k], 1e-10);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("ARPACKImplementations")
+    void testParallelOperator(ARPACK arpack) {
+        int n = 2000, nev = 4;
+        LinearOperator sequential = laplacian(n);
+        LinearOperator parallel = (x, offsetx, y, offsety) -> {
+            IntStream.range(0, n).parallel().forEach(i -> {
+                double r = 2.0 * x[offsetx + i];
+                if (i > 0) r -= x[offsetx + i - 1];
+                if (i < n - 1) r -= x[offsetx + i + 1];
+                y[offsety + i] = r;
+            });
+        };
+
+        double[] expected = new EigenSolver(arpack, n, nev, 20).setMaxIterations(20).solve(sequential, "LA", 1e-6, false).values();
+        double[] actual = new EigenSolver(arpack, n, nev, 20).setMaxIterations(20).solve(parallel, "LA", 1e-6, false).values();
+        assertArrayEquals(expected, actual, 1e-12);
+    }
+
+    // the n by n 1D Laplacian shifted by -sigma, with only its upper triangle set
+    static double[] denseLaplacian(int n, double sigma) {
+        double[] a = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            a[i + i * n] = 2.0 - sigma;
+            if (i > 0) a[i - 1 + i * n] = -1.0;
+        }
+        return a;
+    }
+
+    // the 1D mass matrix tridiag(1, 4, 1) / 6
+    static LinearOperator mass(int n) {
+        return (x, offsetx, y, offsety) -> {
+            for (int i = 0; i < n; i++) {
+                double r = 4.0 * x[offsetx + i];
+                if (i > 0) r += x[offsetx + i - 1];
+                if (i < n - 1) r += x[offsetx + i + 1];
+                y[offsety + i] = r / 6.0;
+            }
+        };
+    }
+
+    // the eigenvalues of L * x = lambda * M * x share the eigenvectors of L
+    static double generalizedEigenvalue(int n, int k) {
+        double c = Math.cos(k * Math.PI / (n + 1));
+        return (2.0 - 2.0 * c) / ((4.0 + 2.0 * c) / 6.0);
+    }
+
+    // the nev eigenvalues of the Laplacian closest to sigma, in ascending order
+    static double[] closestEigenvalues(int n, int nev, double sigma) {
+        return IntStream.rangeClosed(1, n).mapToDouble(k -> laplacianEigenvalue(n, k))
+            .boxed().sorted((x, y) -> Double.compare(Math.abs(x - sigma), Math.abs(y - sigma)))
+            .limit(nev).mapToDouble(Double::doubleValue).sorted().toArray();
+    }
+
+    static void assertGeneralizedEigenpairs(LinearOperator a, LinearOperator b, int n, EigenSolver.Result result, double epsilon) {
+        double[] values = result.values();
+        double[] vectors = result.vectors();
+        double[] ax = new double[n];
+        double[] bx = new double[n];
+        for (int k = 0; k < values.length; k++) {
+            a.apply(vectors, k * n, ax, 0);
+            b.apply(vectors, k * n, bx, 0);
+            double norm = 0.0;
+            for (int i = 0; i < n; i++) {
+                assertEquals(values[k] * bx[i], ax[i], epsilon);
+                norm += vectors[k * n + i] * bx[i];
+            }
+            // B-orthonormal
+            assertEquals(1.0, norm, epsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("ARPACKImplementations")
+    void testSparseOperator(ARPACK arpack) {
+        int n = 100, nev = 4;
+        double[] values = new double[3 * n - 2];
+        int[] colind = new int[3 * n - 2];
+        int[] rowptr = new int[n + 1];
+        for (int i = 0, k = 0; i < n; i++) {
+            if (i > 0) { values[k] = -1.0; colind[k++] = i - 1; }
+            values[k] = 2.0; colind[k++] = i;
+            if (i < n - 1) { values[k] = -1.0; colind[k++] = i + 1; }
+            rowptr[i + 1] = k;
+        }
+        CSRMatrix csr = new CSRMatrix(n, n, values, colind, rowptr);
+
+        EigenSolver.Result result = new EigenSolver(arpack, n, nev, 30).solve(csr::multiply, "LA", 1e-12);
+        for (int k = 0; k < nev; k++) {
+            assertEquals(laplacianEigenvalue(n, n - nev + 1 + k), result.values()[k], 1e-10);
+        }
+        assertEigenpairs(laplacian(n), n, result, 1e-8);
+    }
+
+    @ParameterizedTest
+    @MethodSource("ARPACKImplementations")
+    void testShiftInvert(ARPACK arpack) {
+        int n = 100, nev = 4;
+        double sigma = 1.0;
+        EigenSolver solver = new EigenSolver(arpack, n, nev, 20);
+        double[] expected = closestEigenvalues(n, nev, sigma);
+
+        // dense and indefinite
+        Factorization dense = Factorization.symmetric("U", n, denseLaplacian(n, sigma), n);
+        EigenSolver.Result result = solver.solveShiftInvert(dense, sigma, "LM", 1e-12);
+        assertArrayEquals(expected, result.values(), 1e-10);
+        assertEigenpairs(laplacian(n), n, result, 1e-8);
+        // interior eigenvalues converge in a handful of restarts
+        assertTrue(result.iterations() < 10, "iterations = " + result.iterations());
+
+        // tridiagonal
+        double[] ab = new double[3 * n];
+        for (int j = 0; j < n; j++) {
+            if (j > 0) ab[j * 3] = -1.0;
+            ab[1 + j * 3] = 2.0 - sigma;
+            if (j < n - 1) ab[2 + j * 3] = -1.0;
+        }
+        Factorization band = Factorization.band(n, 1, 1, ab, 3);
+        assertArrayEquals(expected, solver.solveShiftInvert(band, sigma, "LM", 1e-12, false).values(), 1e-10);
+    }
+
+    @ParameterizedTest
+    @MethodSource("ARPACKImplementations")
+    void testShiftInvertPositiveDefiniteBand(ARPACK arpack) {
+        int n = 100, nev = 4;
+        double sigma = -0.5;
+        double[] ab = new double[2 * n];
+        for (int j = 0; j < n; j++) {
+            if (j > 0) ab[j * 2] = -1.0;
+            ab[1 + j * 2] = 2.0 - sigma;
+        }
+        // the smallest eigenvalues, which converge slowly without the shift
+        EigenSolver.Result result = new EigenSolver(arpack, n, nev, 20)
+            .solveShiftInvert(Factorization.positiveDefiniteBand("U", n, 1, ab, 2), sigma, "LM", 1e-12);
+        assertArrayEquals(closestEigenvalues(n, nev, sigma), result.values(), 1e-10);
+        assertEigenpairs(laplacian(n), n, result, 1e-8);
+    }
+
+    @ParameterizedTest
+    @MethodSource("ARPACKImplementations")
+    void testGeneralized(ARPACK arpack) {
+        int n = 100, nev = 4;
+        LinearOperator a = laplacian(n);
+        LinearOperator b = mass(n);
+        double[] m = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            m[i + i * n] = 4.0 / 6.0;
+            if (i > 0) m[i - 1 + i * n] = 1.0 / 6.0;
+        }
+        EigenSolver solver = new EigenSolver(arpack, n, nev, 30);
+
+        EigenSolver.Result result = solver.solveGeneralized(a, b, Factorization.positiveDefinite("U", n, m, n), "LA", 1e-12);
+        for (int k = 0; k < nev; k++) {
+            assertEquals(generalizedEigenvalue(n, n - nev + 1 + k), result.values()[k], 1e-8);
+        }
+        assertGeneralizedEigenpairs(a, b, n, result, 1e-8);
+
+        // the smallest ones, closest to sigma = 0 where A - sigma * B = A is positive definite
+        result = solver.solveShiftInvert(Factorization.positiveDefinite("U", n, denseLaplacian(n, 0.0), n), b, 0.0, "LM", 1e-12);
+        for (int k = 0; k < nev; k++) {
+            assertEquals(generalizedEigenvalue(n, k + 1), result.values()[k], 1e-10);
+        }
+        assertGeneralizedEigenpairs(a, b, n, result, 1e-8);
+    }
+
+    @Test
+    void testMaxIterations() {
+        int n = 1000, nev = 4;
+        // the eigenvalues of the largest end are too close to converge in a single restart
+        EigenSolver.Result result = new EigenSolver(f2j, n, nev, 10).setMaxIterations(1).solve(laplacian(n), "LA", 1e-14);
+        assertTrue(result.values().length < nev);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new EigenSolver(f2j, 10, 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new EigenSolver(f2j, 10, 10, 10));
+        assertThrows(IllegalArgumentException.class, () -> new EigenSolver(f2j, 10, 4, 4));
+        assertThrows(IllegalArgumentException.class, () -> new EigenSolver(f2j, 10, 4, 11));
+        assertThrows(IllegalArgumentException.class, () -> new EigenSolver(f2j, 10, 4, 8).setMaxIterations(0));
+        assertThrows(IllegalArgumentException.class, () -> new EigenSolver(f2j, 10, 4, 8).solve(laplacian(10), "XX", 0.0));
+        assertThrows(NullPointerException.class, () -> new EigenSolver(f2j, 10, 4, 8).solve(null, "LA", 0.0));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.arpack;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FactorizationTest {
+
+    final static int n = 30;
+
+    // y = A * x for the n by n column-major matrix a
+    static double[] multiply(double[] a, double[] x) {
+        double[] y = new double[n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < n; i++) {
+                y[i] += a[i + j * n] * x[j];
+            }
+        }
+        return y;
+    }
+
+    static double[] random(Random rand, int size) {
+        double[] x = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = rand.nextDouble() - 0.5;
+        }
+        return x;
+    }
+
+    // the 1D Laplacian tridiag(-1, 2, -1) shifted by -sigma on its diagonal
+    static double[] laplacian(double sigma) {
+        double[] a = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            a[i + i * n] = 2.0 - sigma;
+            if (i > 0) a[i + (i - 1) * n] = a[i - 1 + i * n] = -1.0;
+        }
+        return a;
+    }
+
+    static void assertSolves(double[] a, Factorization f) {
+        Random rand = new Random(42);
+        double[] x = random(rand, n);
+        double[] y = new double[n + 2];
+        f.apply(x, 0, y, 2);
+        double[] y2 = new double[n];
+        System.arraycopy(y, 2, y2, 0, n);
+        assertArrayEquals(x, multiply(a, y2), 1e-10);
+
+        // in place
+        double[] z = x.clone();
+        f.apply(z, 0, z, 0);
+        assertArrayEquals(y2, z, 0.0);
+    }
+
+    @Test
+    void testGeneral() {
+        Random rand = new Random(42);
+        double[] a = random(rand, n * n);
+        for (int i = 0; i < n; i++) {
+            a[i + i * n] += n;
+        }
+        assertSolves(a, Factorization.general(n, a, n));
+    }
+
+    @Test
+    void testGeneralLeadingDimension() {
+        double[] a = laplacian(0.5);
+        double[] padded = new double[(n + 3) * n];
+        for (int j = 0; j < n; j++) {
+            System.arraycopy(a, j * n, padded, j * (n + 3), n);
+        }
+        assertSolves(a, Factorization.general(n, padded, n + 3));
+    }
+
+    @Test
+    void testSymmetric() {
+        // indefinite, with its eigenvalues on both sides of 1.0
+        double[] a = laplacian(1.0);
+        double[] upper = a.clone();
+        for (int j = 0; j < n; j++) {
+            for (int i = j + 1; i < n; i++) {
+                upper[i + j * n] = Double.NaN;
+            }
+        }
+        assertSolves(a, Factorization.symmetric("U", n, upper, n));
+    }
+
+    @Test
+    void testPositiveDefinite() {
+        double[] a = laplacian(0.0);
+        assertSolves(a, Factorization.positiveDefinite("L", n, a, n));
+        assertThrows(IllegalArgumentException.class, () -> Factorization.positiveDefinite("L", n, laplacian(1.0), n));
+    }
+
+    @Test
+    void testBand() {
+        Random rand = new Random(42);
+        int kl = 1, ku = 2, ldab = kl + ku + 1;
+        double[] a = new double[n * n];
+        double[] ab = new double[ldab * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = Math.max(0, j - ku); i <= Math.min(n - 1, j + kl); i++) {
+                double value = i == j ? 4.0 : rand.nextDouble() - 0.5;
+                a[i + j * n] = value;
+                ab[ku + i - j + j * ldab] = value;
+            }
+        }
+        assertSolves(a, Factorization.band(n, kl, ku, ab, ldab));
+    }
+
+    @Test
+    void testPositiveDefiniteBand() {
+        double[] a = laplacian(-0.5);
+        int kd = 1, ldab = kd + 1;
+        double[] ab = new double[ldab * n];
+        for (int j = 0; j < n; j++) {
+            ab[kd + j * ldab] = 2.5;
+            if (j > 0) ab[kd - 1 + j * ldab] = -1.0;
+        }
+        assertSolves(a, Factorization.positiveDefiniteBand("U", n, kd, ab, ldab));
+    }
+
+    @Test
+    void testSingular() {
+        assertThrows(IllegalArgumentException.class, () -> Factorization.general(n, new double[n * n], n));
+        assertThrows(IllegalArgumentException.class, () -> Factorization.symmetric("U", n, new double[n * n], n));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> Factorization.general(n, new double[n * n], n - 1));
+        assertThrows(IllegalArgumentException.class, () -> Factorization.general(n, new double[n * n - 1], n));
+        assertThrows(IllegalArgumentException.class, () -> Factorization.band(n, 1, 1, new double[2 * n], 2));
+        assertThrows(NullPointerException.class, () -> Factorization.positiveDefinite("U", n, null, n));
+    }
+}
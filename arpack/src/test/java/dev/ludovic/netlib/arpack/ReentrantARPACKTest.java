@@ -0,0 +1,522 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.arpack;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import dev.ludovic.netlib.blas.BLAS;
+
+import org.netlib.util.doubleW;
+import org.netlib.util.floatW;
+import org.netlib.util.intW;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReentrantARPACKTest extends ARPACKTest {
+
+    // The reverse communication loops of a session and of F2jARPACK are run in
+    // lockstep, from the same starting vector, and have to agree bit for bit
+    // after every call. The session then runs on the reference BLAS, which
+    // only dev.ludovic.netlib.blas can instantiate.
+    private static final BLAS f2jBlas = f2jBlas();
+
+    private static BLAS f2jBlas() {
+        try {
+            Method getInstance = Class.forName("dev.ludovic.netlib.blas.F2jBLAS").getDeclaredMethod("getInstance");
+            getInstance.setAccessible(true);
+            return (BLAS)getInstance.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static ARPACK referenceSession() {
+        return new ReentrantARPACK(f2jBlas);
+    }
+
+    private static Stream<Arguments> symmetricProblems() {
+        List<Arguments> problems = new ArrayList<>();
+        for (String which : new String[] {"LA", "SA", "LM", "SM", "BE"}) {
+            problems.add(Arguments.of("I", 1, which, 1));
+            problems.add(Arguments.of("G", 2, which, 1));
+            problems.add(Arguments.of("I", 1, which, 0));
+        }
+        return problems.stream();
+    }
+
+    private static Stream<Arguments> nonsymmetricProblems() {
+        List<Arguments> problems = new ArrayList<>();
+        for (String which : new String[] {"LM", "SM", "LR", "SR", "LI", "SI"}) {
+            problems.add(Arguments.of("I", 1, which, 1));
+            problems.add(Arguments.of("G", 2, which, 1));
+            problems.add(Arguments.of("I", 1, which, 0));
+        }
+        return problems.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("symmetricProblems")
+    void testDsaupdMatchesF2j(String bmat, int mode, String which, int ishift) {
+        assertLockstep(new DoubleRun(F2jARPACK.getInstance(), true, bmat, mode, which, ishift, 300),
+                       new DoubleRun(referenceSession(), true, bmat, mode, which, ishift, 300));
+    }
+
+    @ParameterizedTest
+    @MethodSource("nonsymmetricProblems")
+    void testDnaupdMatchesF2j(String bmat, int mode, String which, int ishift) {
+        assertLockstep(new DoubleRun(F2jARPACK.getInstance(), false, bmat, mode, which, ishift, 300),
+                       new DoubleRun(referenceSession(), false, bmat, mode, which, ishift, 300));
+    }
+
+    @ParameterizedTest
+    @MethodSource("symmetricProblems")
+    void testSsaupdMatchesF2j(String bmat, int mode, String which, int ishift) {
+        assertLockstep(new FloatRun(F2jARPACK.getInstance(), true, bmat, mode, which, ishift, 300),
+                       new FloatRun(referenceSession(), true, bmat, mode, which, ishift, 300));
+    }
+
+    @ParameterizedTest
+    @MethodSource("nonsymmetricProblems")
+    void testSnaupdMatchesF2j(String bmat, int mode, String which, int ishift) {
+        assertLockstep(new FloatRun(F2jARPACK.getInstance(), false, bmat, mode, which, ishift, 300),
+                       new FloatRun(referenceSession(), false, bmat, mode, which, ishift, 300));
+    }
+
+    // On JavaBLAS, a session rounds differently from F2jARPACK and can take a
+    // different number of restarts, but converges to the same eigenvalues
+    @ParameterizedTest
+    @MethodSource("symmetricProblems")
+    void testDsaupdOnJavaBLAS(String bmat, int mode, String which, int ishift) {
+        double[] expected = new DoubleRun(F2jARPACK.getInstance(), true, bmat, mode, which, ishift, 300).run().eigenvalues();
+        double[] actual = new DoubleRun(JavaARPACK.newSession(), true, bmat, mode, which, ishift, 300).run().eigenvalues();
+        assertArrayEquals(expected, actual, 1e-10);
+    }
+
+    // The eigenvalues of largest and smallest imaginary part of the
+    // nonsymmetric problem, and all of them in the B-norm, are too badly
+    // conditioned to compare across roundings
+    private static Stream<Arguments> wellConditionedNonsymmetricProblems() {
+        List<Arguments> problems = new ArrayList<>();
+        for (String which : new String[] {"LM", "SM", "LR", "SR"}) {
+            problems.add(Arguments.of("I", 1, which, 1));
+            problems.add(Arguments.of("I", 1, which, 0));
+        }
+        return problems.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("wellConditionedNonsymmetricProblems")
+    void testDnaupdOnJavaBLAS(String bmat, int mode, String which, int ishift) {
+        double[] expected = new DoubleRun(F2jARPACK.getInstance(), false, bmat, mode, which, ishift, 300).run().eigenvalues();
+        double[] actual = new DoubleRun(JavaARPACK.newSession(), false, bmat, mode, which, ishift, 300).run().eigenvalues();
+        assertArrayEquals(expected, actual, 1e-10);
+    }
+
+    @Test
+    void testMaxIterationsMatchesF2j() {
+        DoubleRun expected = new DoubleRun(F2jARPACK.getInstance(), true, "I", 1, "SM", 1, 2);
+        DoubleRun actual = new DoubleRun(referenceSession(), true, "I", 1, "SM", 1, 2);
+        assertLockstep(expected, actual);
+        assertEquals(1, actual.info.val);
+
+        expected = new DoubleRun(F2jARPACK.getInstance(), false, "I", 1, "SM", 1, 2);
+        actual = new DoubleRun(referenceSession(), false, "I", 1, "SM", 1, 2);
+        assertLockstep(expected, actual);
+        assertEquals(1, actual.info.val);
+    }
+
+    @Test
+    void testErrorsMatchF2j() {
+        ARPACK session = referenceSession();
+        // The arguments AbstractARPACK doesn't already reject for dsaupd, as
+        // n, nev, ncv, bmat, which, mode, maxIterations, lworkl
+        Object[][] cases = {
+            {60, 12, 12, "I", "LM", 1, 300, 0},
+            {60, 4, 5, "I", "LM", 1, 300, 0}, // only an error for dnaupd
+            {60, 4, 61, "I", "LM", 1, 300, 0},
+            {60, 4, 12, "I", "LM", 5, 300, 0},
+            {60, 4, 12, "I", "LM", 2, 300, 0},
+            {60, 4, 12, "I", "LM", 1, 0, 0},
+        };
+        for (Object[] c : cases) {
+            for (boolean symmetric : new boolean[] {true, false}) {
+                DoubleRun expected = new DoubleRun(F2jARPACK.getInstance(), symmetric, c);
+                DoubleRun actual = new DoubleRun(session, symmetric, c);
+                expected.step();
+                actual.step();
+                assertEquals(expected.ido.val, actual.ido.val);
+                assertEquals(expected.info.val, actual.info.val);
+            }
+        }
+    }
+
+    @Test
+    void testSessionsAreIndependent() {
+        // Without a starting vector, each session draws its own from the same seed
+        ARPACK session = JavaARPACK.newSession();
+        DoubleRun first = new DoubleRun(session, true, "I", 1, "LA", 1, 300);
+        first.info.val = 0;
+        first.run();
+        DoubleRun second = new DoubleRun(JavaARPACK.newSession(), true, "I", 1, "LA", 1, 300);
+        second.info.val = 0;
+        second.run();
+        assertEquals(0, second.info.val);
+        assertArrayEquals(first.workl, second.workl);
+        assertArrayEquals(first.v, second.v);
+    }
+
+    @Test
+    void testConcurrentSolves() throws Exception {
+        int threads = 8, solvesPerThread = 4;
+
+        // Every thread solves its own problems in its own session, and has to
+        // get exactly what the same sessions get running one after the other
+        double[][] expected = new double[threads * solvesPerThread][];
+        for (int t = 0; t < threads; t++) {
+            ARPACK session = JavaARPACK.newSession();
+            for (int s = 0; s < solvesPerThread; s++) {
+                expected[t * solvesPerThread + s] = problem(session, t * solvesPerThread + s).run().workl;
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<double[][]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    ARPACK session = JavaARPACK.newSession();
+                    double[][] results = new double[solvesPerThread][];
+                    for (int s = 0; s < solvesPerThread; s++) {
+                        results[s] = problem(session, thread * solvesPerThread + s).run().workl;
+                    }
+                    return results;
+                }));
+            }
+            for (int t = 0; t < threads; t++) {
+                double[][] results = futures.get(t).get();
+                for (int s = 0; s < solvesPerThread; s++) {
+                    assertArrayEquals(expected[t * solvesPerThread + s], results[s]);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testConcurrentEigenSolvers() throws Exception {
+        int threads = 8, n = 200, nev = 4;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<EigenSolver.Result>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> new EigenSolver(n, nev).solve(EigenSolverTest.laplacian(n), "LA", 1e-12)));
+            }
+            for (Future<EigenSolver.Result> future : futures) {
+                EigenSolver.Result result = future.get();
+                assertEquals(nev, result.values().length);
+                for (int k = 0; k < nev; k++) {
+                    assertEquals(EigenSolverTest.laplacianEigenvalue(n, n - nev + 1 + k), result.values()[k], 1e-10);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // Puts F2jARPACK back in the state of a fresh process, which is what a
+    // new session starts from: _getv0 draws its random vectors from a seed
+    // reset on its first call, and _naitr and _napps compute their threshold
+    // for negligible subdiagonal elements from n on their first call
+    private static void resetF2j() {
+        org.netlib.arpack.Dgetv0.inits = true;
+        org.netlib.arpack.Sgetv0.inits = true;
+        org.netlib.arpack.Dnaitr.first = true;
+        org.netlib.arpack.Snaitr.first = true;
+        org.netlib.arpack.Dnapps.first = true;
+        org.netlib.arpack.Snapps.first = true;
+    }
+
+    // Alternates between symmetric and nonsymmetric problems, with the spectrum
+    // shifted by k so that every problem is different
+    private static DoubleRun problem(ARPACK arpack, int k) {
+        DoubleRun run = new DoubleRun(arpack, k % 2 == 0, "I", 1, k % 2 == 0 ? "LA" : "LM", 1, 300);
+        run.shift = k;
+        return run;
+    }
+
+    private static void assertLockstep(DoubleRun expected, DoubleRun actual) {
+        resetF2j();
+        do {
+            expected.step();
+            actual.step();
+            assertEquals(expected.ido.val, actual.ido.val);
+            assertEquals(expected.info.val, actual.info.val);
+            assertArrayEquals(expected.ipntr, actual.ipntr);
+            assertArrayEquals(expected.iparam, actual.iparam);
+            assertArrayEquals(expected.resid, actual.resid);
+            assertArrayEquals(expected.v, actual.v);
+            assertArrayEquals(expected.workd, actual.workd);
+            assertArrayEquals(expected.workl, actual.workl);
+        } while (actual.ido.val != 99);
+    }
+
+    private static void assertLockstep(FloatRun expected, FloatRun actual) {
+        resetF2j();
+        do {
+            expected.step();
+            actual.step();
+            assertEquals(expected.ido.val, actual.ido.val);
+            assertEquals(expected.info.val, actual.info.val);
+            assertArrayEquals(expected.ipntr, actual.ipntr);
+            assertArrayEquals(expected.iparam, actual.iparam);
+            assertArrayEquals(expected.resid, actual.resid);
+            assertArrayEquals(expected.v, actual.v);
+            assertArrayEquals(expected.workd, actual.workd);
+            assertArrayEquals(expected.workl, actual.workl);
+        } while (actual.ido.val != 99);
+    }
+
+    // The symmetric problems use A = tridiag(-1, 2 + i / 10, -1), and the
+    // nonsymmetric ones A = tridiag(-2.5, 2 + i / 10, 0.5) which has complex
+    // eigenvalues. Both use B = diag(1 + i / 2n) for bmat = "G".
+    private static final class DoubleRun {
+        final ARPACK arpack;
+        final boolean symmetric;
+        final String bmat, which;
+        final int n, nev, ncv, lworkl;
+        final intW ido = new intW(0);
+        final intW info = new intW(1);
+        final doubleW tol = new doubleW(0.0);
+        final int[] iparam = new int[11];
+        final int[] ipntr = new int[14];
+        final double[] resid, v, workd, workl;
+        double shift;
+
+        DoubleRun(ARPACK arpack, boolean symmetric, String bmat, int mode, String which, int ishift, int maxIterations) {
+            this(arpack, symmetric, new Object[] {60, 4, 12, bmat, which, mode, maxIterations, 0});
+            iparam[0] = ishift;
+        }
+
+        DoubleRun(ARPACK arpack, boolean symmetric, Object[] c) {
+            this.arpack = arpack;
+            this.symmetric = symmetric;
+            n = (Integer)c[0];
+            nev = (Integer)c[1];
+            ncv = (Integer)c[2];
+            bmat = (String)c[3];
+            which = (String)c[4];
+            iparam[0] = 1;
+            iparam[6] = (Integer)c[5];
+            iparam[2] = (Integer)c[6];
+            int lw = (Integer)c[7];
+            lworkl = lw != 0 ? lw : symmetric ? ncv * (ncv + 8) : 3 * ncv * ncv + 6 * ncv;
+            resid = new double[Math.max(n, 1)];
+            for (int i = 0; i < n; i++) {
+                resid[i] = 1.0 + Math.sin(i + 1.0) / 2.0;
+            }
+            v = new double[Math.max(n, 1) * ncv];
+            workd = new double[3 * Math.max(n, 1)];
+            workl = new double[Math.max(lworkl, 1)];
+        }
+
+        void step() {
+            if (ido.val == -1 || ido.val == 1) {
+                int x = ipntr[0] - 1, y = ipntr[1] - 1;
+                multiply(x, y);
+                if (bmat.equals("G")) {
+                    // y = inv(B) * A * x, leaving A * x in x
+                    System.arraycopy(workd, y, workd, x, n);
+                    for (int i = 0; i < n; i++) {
+                        workd[y + i] = workd[x + i] / b(i);
+                    }
+                }
+            } else if (ido.val == 2) {
+                int x = ipntr[0] - 1, y = ipntr[1] - 1;
+                for (int i = 0; i < n; i++) {
+                    workd[y + i] = b(i) * workd[x + i];
+                }
+            } else if (ido.val == 3) {
+                // Use the unwanted Ritz values as shifts, with no imaginary part
+                int np = iparam[7];
+                int shifts = ipntr[symmetric ? 10 : 13] - 1;
+                for (int i = 0; i < np; i++) {
+                    workl[shifts + i] = workl[ipntr[5] - 1 + i];
+                    if (!symmetric) {
+                        workl[shifts + np + i] = 0.0;
+                    }
+                }
+            }
+            if (symmetric) {
+                arpack.dsaupd(ido, bmat, n, which, nev, tol, resid, ncv, v, n, iparam, ipntr, workd, workl, lworkl, info);
+            } else {
+                arpack.dnaupd(ido, bmat, n, which, nev, tol, resid, ncv, v, n, iparam, ipntr, workd, workl, lworkl, info);
+            }
+        }
+
+        DoubleRun run() {
+            do {
+                step();
+            } while (ido.val != 99);
+            return this;
+        }
+
+        // The converged eigenvalues in ascending order, as real and imaginary
+        // parts for the nonsymmetric problems
+        double[] eigenvalues() {
+            assertEquals(0, info.val);
+            intW nconv = new intW(nev);
+            intW ierr = new intW(0);
+            double[] d;
+            if (symmetric) {
+                d = new double[nev];
+                arpack.dseupd(false, "A", new boolean[ncv], d, new double[n * nev], n, 0.0, bmat, n, which, nconv, tol.val, resid, ncv, v, n, iparam, ipntr, workd, workl, lworkl, ierr);
+            } else {
+                double[] dr = new double[nev + 1], di = new double[nev + 1];
+                arpack.dneupd(false, "A", new boolean[ncv], dr, di, new double[n * (nev + 1)], n, 0.0, 0.0, new double[3 * ncv], bmat, n, which, nconv, tol.val, resid, ncv, v, n, iparam, ipntr, workd, workl, lworkl, ierr);
+                d = new double[2 * iparam[4]];
+                Integer[] order = new Integer[iparam[4]];
+                for (int k = 0; k < order.length; k++) {
+                    order[k] = k;
+                }
+                Arrays.sort(order, (i, j) -> dr[i] != dr[j] ? Double.compare(dr[i], dr[j]) : Double.compare(di[i], di[j]));
+                for (int k = 0; k < order.length; k++) {
+                    d[2 * k] = dr[order[k]];
+                    d[2 * k + 1] = di[order[k]];
+                }
+            }
+            assertEquals(0, ierr.val);
+            if (symmetric) {
+                Arrays.sort(d);
+            }
+            return d;
+        }
+
+        void multiply(int x, int y) {
+            double lower = symmetric ? -1.0 : -2.5, upper = symmetric ? -1.0 : 0.5;
+            for (int i = 0; i < n; i++) {
+                double r = (2.0 + i / 10.0 + shift) * workd[x + i];
+                if (i > 0) r += lower * workd[x + i - 1];
+                if (i < n - 1) r += upper * workd[x + i + 1];
+                workd[y + i] = r;
+            }
+        }
+
+        double b(int i) {
+            return 1.0 + i / (2.0 * n);
+        }
+    }
+
+    private static final class FloatRun {
+        final ARPACK arpack;
+        final boolean symmetric;
+        final String bmat, which;
+        final int n = 60, nev = 4, ncv = 12, lworkl;
+        final intW ido = new intW(0);
+        final intW info = new intW(1);
+        final floatW tol = new floatW(0.0f);
+        final int[] iparam = new int[11];
+        final int[] ipntr = new int[14];
+        final float[] resid, v, workd, workl;
+
+        FloatRun(ARPACK arpack, boolean symmetric, String bmat, int mode, String which, int ishift, int maxIterations) {
+            this.arpack = arpack;
+            this.symmetric = symmetric;
+            this.bmat = bmat;
+            this.which = which;
+            iparam[0] = ishift;
+            iparam[2] = maxIterations;
+            iparam[6] = mode;
+            lworkl = symmetric ? ncv * (ncv + 8) : 3 * ncv * ncv + 6 * ncv;
+            resid = new float[n];
+            for (int i = 0; i < n; i++) {
+                resid[i] = 1.0f + (float)Math.sin(i + 1.0) / 2.0f;
+            }
+            v = new float[n * ncv];
+            workd = new float[3 * n];
+            workl = new float[lworkl];
+        }
+
+        void step() {
+            if (ido.val == -1 || ido.val == 1) {
+                int x = ipntr[0] - 1, y = ipntr[1] - 1;
+                multiply(x, y);
+                if (bmat.equals("G")) {
+                    System.arraycopy(workd, y, workd, x, n);
+                    for (int i = 0; i < n; i++) {
+                        workd[y + i] = workd[x + i] / b(i);
+                    }
+                }
+            } else if (ido.val == 2) {
+                int x = ipntr[0] - 1, y = ipntr[1] - 1;
+                for (int i = 0; i < n; i++) {
+                    workd[y + i] = b(i) * workd[x + i];
+                }
+            } else if (ido.val == 3) {
+                int np = iparam[7];
+                int shifts = ipntr[symmetric ? 10 : 13] - 1;
+                for (int i = 0; i < np; i++) {
+                    workl[shifts + i] = workl[ipntr[5] - 1 + i];
+                    if (!symmetric) {
+                        workl[shifts + np + i] = 0.0f;
+                    }
+                }
+            }
+            if (symmetric) {
+                arpack.ssaupd(ido, bmat, n, which, nev, tol, resid, ncv, v, n, iparam, ipntr, workd, workl, lworkl, info);
+            } else {
+                arpack.snaupd(ido, bmat, n, which, nev, tol, resid, ncv, v, n, iparam, ipntr, workd, workl, lworkl, info);
+            }
+        }
+
+        void multiply(int x, int y) {
+            float lower = symmetric ? -1.0f : -2.5f, upper = symmetric ? -1.0f : 0.5f;
+            for (int i = 0; i < n; i++) {
+                float r = (2.0f + i / 10.0f) * workd[x + i];
+                if (i > 0) r += lower * workd[x + i - 1];
+                if (i < n - 1) r += upper * workd[x + i + 1];
+                workd[y + i] = r;
+            }
+        }
+
+        float b(int i) {
+            return 1.0f + i / (2.0f * n);
+        }
+    }
+}
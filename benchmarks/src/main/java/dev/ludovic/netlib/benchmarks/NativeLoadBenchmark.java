@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+// Measures the time to load the JNI bindings in a fresh JVM, with the glue
+// library extracted to a new temporary file ("temp") or reused from the cache
+// directory populated by the warmup fork ("cached")
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 20, warmups = 1)
+public class NativeLoadBenchmark {
+
+    @Param({"blas", "lapack", "arpack"})
+    public String library;
+
+    @Param({"temp", "cached"})
+    public String extraction;
+
+    private String className;
+
+    @Setup
+    public void setup() {
+        String cacheDir;
+        switch (extraction) {
+        case "temp":
+            cacheDir = "";
+            break;
+        case "cached":
+            cacheDir = Paths.get(System.getProperty("java.io.tmpdir"), "netlib-benchmark-" + System.getProperty("user.name")).toString();
+            break;
+        default: throw new IllegalArgumentException("Unknown extraction = " + extraction);
+        }
+        System.setProperty("dev.ludovic.netlib." + library + ".nativeCacheDir", cacheDir);
+        className = "dev.ludovic.netlib." + library + ".JNI" + library.toUpperCase();
+    }
+
+    @Benchmark
+    public Object load() throws ReflectiveOperationException {
+        // The bindings are package-private, loading the class runs its constructor
+        return Class.forName(className);
+    }
+}
@@ -36,7 +36,7 @@ public abstract class ARPACKBenchmark {
 
     public ARPACK arpack;
 
-    @Param({"java", "native"})
+    @Param({"java", "session", "native"})
     public String implementation;
 
     @Setup
@@ -45,6 +45,9 @@ public abstract class ARPACKBenchmark {
         case "java":
             arpack = JavaARPACK.getInstance();
             break;
+        case "session":
+            arpack = JavaARPACK.newSession();
+            break;
         case "native":
             arpack = NativeARPACK.getInstance();
             break;
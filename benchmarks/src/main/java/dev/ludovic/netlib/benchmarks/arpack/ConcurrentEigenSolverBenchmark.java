@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.arpack;
+
+import dev.ludovic.netlib.arpack.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class ConcurrentEigenSolverBenchmark {
+
+    // each solve is on its own 1D Laplacian of dimension n
+    @Param({"2000"})
+    public int n;
+
+    @Param({"6"})
+    public int nev;
+
+    @Param({"32"})
+    public int solves;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    // "session" gives every solve its own JavaARPACK session, "shared" runs
+    // every solve on the shared JavaARPACK instance under a lock, which is the
+    // only way to use it from multiple threads
+    @Param({"session", "shared"})
+    public String implementation;
+
+    public ExecutorService executor;
+    public LinearOperator laplacian;
+
+    private static final Object lock = new Object();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Executors.newFixedThreadPool(threads);
+        laplacian = (x, offsetx, y, offsety) -> {
+            for (int i = 0; i < n; i++) {
+                double r = 2.0 * x[offsetx + i];
+                if (i > 0) r -= x[offsetx + i - 1];
+                if (i < n - 1) r -= x[offsetx + i + 1];
+                y[offsety + i] = r;
+            }
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    private EigenSolver.Result solveOne() {
+        int ncv = 2 * nev + 8;
+        if (implementation.equals("session")) {
+            return new EigenSolver(JavaARPACK.newSession(), n, nev, ncv).setMaxIterations(10).solve(laplacian, "LA", 1e-8, false);
+        }
+        synchronized (lock) {
+            return new EigenSolver(JavaARPACK.getInstance(), n, nev, ncv).setMaxIterations(10).solve(laplacian, "LA", 1e-8, false);
+        }
+    }
+
+    @Benchmark
+    public void solve(Blackhole bh) throws Exception {
+        List<Future<EigenSolver.Result>> futures = new ArrayList<>(solves);
+        for (int i = 0; i < solves; i++) {
+            futures.add(executor.submit(this::solveOne));
+        }
+        for (Future<EigenSolver.Result> future : futures) {
+            bh.consume(future.get());
+        }
+    }
+}
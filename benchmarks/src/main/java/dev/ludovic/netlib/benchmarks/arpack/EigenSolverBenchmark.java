@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.arpack;
+
+import dev.ludovic.netlib.arpack.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class EigenSolverBenchmark extends ARPACKBenchmark {
+
+    // the 2D Laplacian on a grid x grid mesh, of dimension grid * grid
+    @Param({"1000"})
+    public int grid;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    @Param({"6"})
+    public int nev;
+
+    public EigenSolver solver;
+    public LinearOperator laplacian;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int n = grid * grid;
+        // the extreme eigenvalues of a 1M-dimension Laplacian are too close to converge in a
+        // reasonable time, bound the number of restarts to measure a fixed amount of work
+        solver = new EigenSolver(arpack, n, nev, 2 * nev + 8).setMaxIterations(3);
+        laplacian = (x, offsetx, y, offsety) -> {
+            IntStream rows = IntStream.range(0, grid);
+            (parallel ? rows.parallel() : rows).forEach(row -> {
+                for (int col = 0; col < grid; col++) {
+                    int i = row * grid + col;
+                    double r = 4.0 * x[offsetx + i];
+                    if (col > 0) r -= x[offsetx + i - 1];
+                    if (col < grid - 1) r -= x[offsetx + i + 1];
+                    if (row > 0) r -= x[offsetx + i - grid];
+                    if (row < grid - 1) r -= x[offsetx + i + grid];
+                    y[offsety + i] = r;
+                }
+            });
+        };
+    }
+
+    @Benchmark
+    public void solve(Blackhole bh) {
+        bh.consume(solver.solve(laplacian, "LA", 1e-8, false));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+package dev.ludovic.netlib.benchmarks.blas;
+
+import dev.ludovic.netlib.blas.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Compares a sequence of 10,000 small level 1 and level 2 operations called
+// one by one with the same sequence executed as a single BLASBatch
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class BatchBenchmark extends BLASBenchmark {
+
+    private static final int OPERATIONS = 10000;
+
+    @Param({"8", "64"})
+    public int n;
+
+    public double[] a;
+    public double[] x;
+    public double[] y;
+
+    public BLASBatch batch;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        a = randomDoubleArray(n * n);
+        // Keeps the values bounded whatever the number of iterations
+        for (int i = 0; i < a.length; i++) {
+            a[i] /= n;
+        }
+        x = randomDoubleArray(n);
+        y = randomDoubleArray(n);
+
+        batch = new BLASBatch();
+        for (int i = 0; i < OPERATIONS; i += 4) {
+            batch.daxpy(n, 0.5, x, 1, y, 1);
+            batch.dscal(n, 0.5, y, 1);
+            batch.dgemv("N", n, n, 1.0, a, n, y, 1, 0.0, x, 1);
+            batch.ddot(n, x, 1, y, 1);
+        }
+    }
+
+    @Benchmark
+    public void individual(Blackhole bh) {
+        for (int i = 0; i < OPERATIONS; i += 4) {
+            blas.daxpy(n, 0.5, x, 1, y, 1);
+            blas.dscal(n, 0.5, y, 1);
+            blas.dgemv("N", n, n, 1.0, a, n, y, 1, 0.0, x, 1);
+            bh.consume(blas.ddot(n, x, 1, y, 1));
+        }
+    }
+
+    @Benchmark
+    public void batched(Blackhole bh) {
+        bh.consume(batch.execute(blas));
+    }
+}
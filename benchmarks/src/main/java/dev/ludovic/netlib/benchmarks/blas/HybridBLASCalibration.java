@@ -0,0 +1,218 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas;
+
+import dev.ludovic.netlib.blas.*;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.function.LongUnaryOperator;
+
+// Finds, for every BLAS routine, the problem size from which the native
+// implementation is faster than the Java one, and prints them in the format
+// of blas/src/main/resources/dev/ludovic/netlib/blas/hybrid-thresholds.properties.
+//
+//   java -cp netlib-benchmarks.jar dev.ludovic.netlib.benchmarks.blas.HybridBLASCalibration > hybrid-thresholds.properties
+//
+// The output can be used as is through -Ddev.ludovic.netlib.blas.hybridThresholds.
+public class HybridBLASCalibration {
+
+    interface Call {
+        void run(BLAS blas, int n);
+    }
+
+    static final class Routine {
+        final String name;
+        final int level;
+        final LongUnaryOperator size;
+        final Call call;
+
+        Routine(String name, int level, LongUnaryOperator size, Call call) {
+            this.name = name;
+            this.level = level;
+            this.size = size;
+            this.call = call;
+        }
+    }
+
+    static final int LENGTH = (1 << 20) + (1 << 11);
+
+    static final double[] dx = new double[LENGTH], dy = new double[LENGTH], da = new double[LENGTH], db = new double[LENGTH], dc = new double[LENGTH];
+    static final float[] sx = new float[LENGTH], sy = new float[LENGTH], sa = new float[LENGTH], sb = new float[LENGTH], sc = new float[LENGTH];
+    static final double[] dparam = { -1.0, 0.6, -0.8, 0.8, 0.6 };
+    static final float[] sparam = { -1.0f, 0.6f, -0.8f, 0.8f, 0.6f };
+
+    static volatile double bh;
+
+    static final Routine[] routines = {
+        new Routine("dasum", 1, n -> n, (b, n) -> { bh = b.dasum(n, dx, 1); }),
+        new Routine("daxpy", 1, n -> n, (b, n) -> { b.daxpy(n, 1.0, dx, 1, dy, 1); }),
+        new Routine("dcopy", 1, n -> n, (b, n) -> { b.dcopy(n, dx, 1, dy, 1); }),
+        new Routine("ddot", 1, n -> n, (b, n) -> { bh = b.ddot(n, dx, 1, dy, 1); }),
+        new Routine("dnrm2", 1, n -> n, (b, n) -> { bh = b.dnrm2(n, dx, 1); }),
+        new Routine("drot", 1, n -> n, (b, n) -> { b.drot(n, dx, 1, dy, 1, 0.6, 0.8); }),
+        new Routine("drotm", 1, n -> n, (b, n) -> { b.drotm(n, dx, 1, dy, 1, dparam); }),
+        new Routine("dscal", 1, n -> n, (b, n) -> { b.dscal(n, 1.0, dx, 1); }),
+        new Routine("dswap", 1, n -> n, (b, n) -> { b.dswap(n, dx, 1, dy, 1); }),
+        new Routine("dgbmv", 2, n -> (long)n * (n / 2 + n / 2 + 1), (b, n) -> { b.dgbmv("N", n, n, n / 2, n / 2, 1.0, da, n / 2 + n / 2 + 1, dx, 1, 0.5, dy, 1); }),
+        new Routine("dgemv", 2, n -> (long)n * n, (b, n) -> { b.dgemv("N", n, n, 1.0, da, n, dx, 1, 0.5, dy, 1); }),
+        new Routine("dger", 2, n -> (long)n * n, (b, n) -> { b.dger(n, n, 1.0, dx, 1, dy, 1, da, n); }),
+        new Routine("dsbmv", 2, n -> (long)n * n, (b, n) -> { b.dsbmv("U", n, n - 1, 1.0, da, n, dx, 1, 0.5, dy, 1); }),
+        new Routine("dspmv", 2, n -> (long)n * n, (b, n) -> { b.dspmv("U", n, 1.0, da, dx, 1, 0.5, dy, 1); }),
+        new Routine("dspr", 2, n -> (long)n * n, (b, n) -> { b.dspr("U", n, 1.0, dx, 1, da); }),
+        new Routine("dspr2", 2, n -> (long)n * n, (b, n) -> { b.dspr2("U", n, 1.0, dx, 1, dy, 1, da); }),
+        new Routine("dsymv", 2, n -> (long)n * n, (b, n) -> { b.dsymv("U", n, 1.0, da, n, dx, 1, 0.5, dy, 1); }),
+        new Routine("dsyr", 2, n -> (long)n * n, (b, n) -> { b.dsyr("U", n, 1.0, dx, 1, da, n); }),
+        new Routine("dsyr2", 2, n -> (long)n * n, (b, n) -> { b.dsyr2("U", n, 1.0, dx, 1, dy, 1, da, n); }),
+        new Routine("dtbmv", 2, n -> (long)n * n, (b, n) -> { b.dtbmv("U", "N", "U", n, n - 1, da, n, dx, 1); }),
+        new Routine("dtbsv", 2, n -> (long)n * n, (b, n) -> { b.dtbsv("U", "N", "N", n, n - 1, da, n, dx, 1); }),
+        new Routine("dtpmv", 2, n -> (long)n * n, (b, n) -> { b.dtpmv("U", "N", "U", n, da, dx, 1); }),
+        new Routine("dtpsv", 2, n -> (long)n * n, (b, n) -> { b.dtpsv("U", "N", "N", n, da, dx, 1); }),
+        new Routine("dtrmv", 2, n -> (long)n * n, (b, n) -> { b.dtrmv("U", "N", "U", n, da, n, dx, 1); }),
+        new Routine("dtrsv", 2, n -> (long)n * n, (b, n) -> { b.dtrsv("U", "N", "N", n, da, n, dx, 1); }),
+        new Routine("dgemm", 3, n -> (long)n * n * n, (b, n) -> { b.dgemm("N", "N", n, n, n, 1.0, da, n, db, n, 0.5, dc, n); }),
+        new Routine("dsymm", 3, n -> (long)n * n * n, (b, n) -> { b.dsymm("L", "U", n, n, 1.0, da, n, db, n, 0.5, dc, n); }),
+        new Routine("dsyrk", 3, n -> (long)n * n * n, (b, n) -> { b.dsyrk("U", "N", n, n, 1.0, da, n, 0.5, dc, n); }),
+        new Routine("dsyr2k", 3, n -> (long)n * n * n, (b, n) -> { b.dsyr2k("U", "N", n, n, 1.0, da, n, db, n, 0.5, dc, n); }),
+        new Routine("dtrmm", 3, n -> (long)n * n * n, (b, n) -> { b.dtrmm("L", "U", "N", "U", n, n, 1.0, da, n, dc, n); }),
+        new Routine("dtrsm", 3, n -> (long)n * n * n, (b, n) -> { b.dtrsm("L", "U", "N", "N", n, n, 1.0, da, n, dc, n); }),
+        new Routine("idamax", 1, n -> n, (b, n) -> { bh = b.idamax(n, dx, 1); }),
+        new Routine("drotmg", 0, n -> 1, (b, n) -> { b.drotmg(new org.netlib.util.doubleW(2.0), new org.netlib.util.doubleW(3.0), new org.netlib.util.doubleW(4.0), 5.0, dparam); }),
+        new Routine("sasum", 1, n -> n, (b, n) -> { bh = b.sasum(n, sx, 1); }),
+        new Routine("saxpy", 1, n -> n, (b, n) -> { b.saxpy(n, 1.0f, sx, 1, sy, 1); }),
+        new Routine("scopy", 1, n -> n, (b, n) -> { b.scopy(n, sx, 1, sy, 1); }),
+        new Routine("sdot", 1, n -> n, (b, n) -> { bh = b.sdot(n, sx, 1, sy, 1); }),
+        new Routine("snrm2", 1, n -> n, (b, n) -> { bh = b.snrm2(n, sx, 1); }),
+        new Routine("srot", 1, n -> n, (b, n) -> { b.srot(n, sx, 1, sy, 1, 0.6f, 0.8f); }),
+        new Routine("srotm", 1, n -> n, (b, n) -> { b.srotm(n, sx, 1, sy, 1, sparam); }),
+        new Routine("sscal", 1, n -> n, (b, n) -> { b.sscal(n, 1.0f, sx, 1); }),
+        new Routine("sswap", 1, n -> n, (b, n) -> { b.sswap(n, sx, 1, sy, 1); }),
+        new Routine("sgbmv", 2, n -> (long)n * (n / 2 + n / 2 + 1), (b, n) -> { b.sgbmv("N", n, n, n / 2, n / 2, 1.0f, sa, n / 2 + n / 2 + 1, sx, 1, 0.5f, sy, 1); }),
+        new Routine("sgemv", 2, n -> (long)n * n, (b, n) -> { b.sgemv("N", n, n, 1.0f, sa, n, sx, 1, 0.5f, sy, 1); }),
+        new Routine("sger", 2, n -> (long)n * n, (b, n) -> { b.sger(n, n, 1.0f, sx, 1, sy, 1, sa, n); }),
+        new Routine("ssbmv", 2, n -> (long)n * n, (b, n) -> { b.ssbmv("U", n, n - 1, 1.0f, sa, n, sx, 1, 0.5f, sy, 1); }),
+        new Routine("sspmv", 2, n -> (long)n * n, (b, n) -> { b.sspmv("U", n, 1.0f, sa, sx, 1, 0.5f, sy, 1); }),
+        new Routine("sspr", 2, n -> (long)n * n, (b, n) -> { b.sspr("U", n, 1.0f, sx, 1, sa); }),
+        new Routine("sspr2", 2, n -> (long)n * n, (b, n) -> { b.sspr2("U", n, 1.0f, sx, 1, sy, 1, sa); }),
+        new Routine("ssymv", 2, n -> (long)n * n, (b, n) -> { b.ssymv("U", n, 1.0f, sa, n, sx, 1, 0.5f, sy, 1); }),
+        new Routine("ssyr", 2, n -> (long)n * n, (b, n) -> { b.ssyr("U", n, 1.0f, sx, 1, sa, n); }),
+        new Routine("ssyr2", 2, n -> (long)n * n, (b, n) -> { b.ssyr2("U", n, 1.0f, sx, 1, sy, 1, sa, n); }),
+        new Routine("stbmv", 2, n -> (long)n * n, (b, n) -> { b.stbmv("U", "N", "U", n, n - 1, sa, n, sx, 1); }),
+        new Routine("stbsv", 2, n -> (long)n * n, (b, n) -> { b.stbsv("U", "N", "N", n, n - 1, sa, n, sx, 1); }),
+        new Routine("stpmv", 2, n -> (long)n * n, (b, n) -> { b.stpmv("U", "N", "U", n, sa, sx, 1); }),
+        new Routine("stpsv", 2, n -> (long)n * n, (b, n) -> { b.stpsv("U", "N", "N", n, sa, sx, 1); }),
+        new Routine("strmv", 2, n -> (long)n * n, (b, n) -> { b.strmv("U", "N", "U", n, sa, n, sx, 1); }),
+        new Routine("strsv", 2, n -> (long)n * n, (b, n) -> { b.strsv("U", "N", "N", n, sa, n, sx, 1); }),
+        new Routine("sgemm", 3, n -> (long)n * n * n, (b, n) -> { b.sgemm("N", "N", n, n, n, 1.0f, sa, n, sb, n, 0.5f, sc, n); }),
+        new Routine("ssymm", 3, n -> (long)n * n * n, (b, n) -> { b.ssymm("L", "U", n, n, 1.0f, sa, n, sb, n, 0.5f, sc, n); }),
+        new Routine("ssyrk", 3, n -> (long)n * n * n, (b, n) -> { b.ssyrk("U", "N", n, n, 1.0f, sa, n, 0.5f, sc, n); }),
+        new Routine("ssyr2k", 3, n -> (long)n * n * n, (b, n) -> { b.ssyr2k("U", "N", n, n, 1.0f, sa, n, sb, n, 0.5f, sc, n); }),
+        new Routine("strmm", 3, n -> (long)n * n * n, (b, n) -> { b.strmm("L", "U", "N", "U", n, n, 1.0f, sa, n, sc, n); }),
+        new Routine("strsm", 3, n -> (long)n * n * n, (b, n) -> { b.strsm("L", "U", "N", "N", n, n, 1.0f, sa, n, sc, n); }),
+        new Routine("isamax", 1, n -> n, (b, n) -> { bh = b.isamax(n, sx, 1); }),
+        new Routine("srotmg", 0, n -> 1, (b, n) -> { b.srotmg(new org.netlib.util.floatW(2.0f), new org.netlib.util.floatW(3.0f), new org.netlib.util.floatW(4.0f), 5.0f, sparam); }),
+        new Routine("sdsdot", 1, n -> n, (b, n) -> { bh = b.sdsdot(n, 0.5f, sx, 1, sy, 1); })
+    };
+
+    static int[] sizes(int level) {
+        switch (level) {
+        case 0: return new int[] { 1 };
+        case 1: return new int[] { 1, 4, 16, 64, 256, 1024, 4096, 16384, 65536, 262144, 1048576 };
+        case 2: return new int[] { 1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024 };
+        case 3: return new int[] { 1, 2, 4, 8, 16, 32, 64, 128, 256 };
+        default: throw new IllegalArgumentException("Unknown level = " + level);
+        }
+    }
+
+    // Refill the inputs before each routine, the in-place ones (solves in
+    // particular) overflow the values they are run repeatedly on
+    static void fill() {
+        Random rand = new Random(0);
+        for (int i = 0; i < LENGTH; i++) {
+            dx[i] = sx[i] = rand.nextFloat();
+            dy[i] = sy[i] = rand.nextFloat();
+            da[i] = sa[i] = rand.nextFloat();
+            db[i] = sb[i] = rand.nextFloat();
+            dc[i] = sc[i] = rand.nextFloat();
+        }
+    }
+
+    // Best time per call over a few batches of at least a millisecond each
+    static double nanosPerCall(BLAS blas, Routine routine, int n) {
+        int reps = 1;
+        while (true) {
+            long start = System.nanoTime();
+            for (int i = 0; i < reps; i++) {
+                routine.call.run(blas, n);
+            }
+            if (System.nanoTime() - start > 1_000_000) {
+                break;
+            }
+            reps *= 2;
+        }
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < reps; i++) {
+                routine.call.run(blas, n);
+            }
+            best = Math.min(best, (double)(System.nanoTime() - start) / reps);
+        }
+        return best;
+    }
+
+    public static void main(String[] args) {
+        BLAS javaBlas = JavaBLAS.getInstance();
+        BLAS nativeBlas = NativeBLAS.getInstance();
+
+        System.out.println("# Problem size from which " + nativeBlas.getClass().getSimpleName() + " is faster than " + javaBlas.getClass().getSimpleName());
+        System.out.println("# Calibrated on " + LocalDate.now() + " with Java " + System.getProperty("java.version") + " on " + System.getProperty("os.name") + "/" + System.getProperty("os.arch"));
+
+        for (Routine routine : routines) {
+            fill();
+            int[] sizes = sizes(routine.level);
+            // Warm up both implementations on the sizes the dispatch cares the most about
+            for (int i = 0; i < Math.min(sizes.length, 4); i++) {
+                nanosPerCall(javaBlas, routine, sizes[i]);
+                nanosPerCall(nativeBlas, routine, sizes[i]);
+            }
+            // The threshold is the smallest size from which native is faster for all larger sizes
+            long threshold = Long.MAX_VALUE;
+            StringBuilder timings = new StringBuilder();
+            for (int i = sizes.length - 1; i >= 0; i--) {
+                double j = nanosPerCall(javaBlas, routine, sizes[i]);
+                double k = nanosPerCall(nativeBlas, routine, sizes[i]);
+                timings.insert(0, String.format(" %d:%.0f/%.0f", sizes[i], j, k));
+                if (k > j) {
+                    break;
+                }
+                threshold = routine.size.applyAsLong(sizes[i]);
+            }
+            System.err.println(routine.name + " (n:java/native ns)" + timings);
+            System.out.println(routine.name + "=" + threshold);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas;
+
+import dev.ludovic.netlib.blas.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Measures the per-call overhead of the JNI and FFM (JDK 22+) bindings on
+// sizes where the native routine itself is only a handful of instructions
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"--enable-native-access=ALL-UNNAMED"})
+public class NativeCallBenchmark {
+
+    public BLAS blas;
+
+    @Param({"jni", "ffm"})
+    public String implementation;
+
+    @Param({"1", "8", "64"})
+    public int n;
+
+    public double[] x;
+    public double[] y;
+    public double[] a;
+    public double[] b;
+    public double[] c;
+
+    @Setup
+    public void setup() {
+        switch (implementation) {
+        case "jni":
+            blas = nativeInstance("dev.ludovic.netlib.blas.JNIBLAS");
+            break;
+        case "ffm":
+            blas = nativeInstance("dev.ludovic.netlib.blas.FFMBLAS");
+            break;
+        default: throw new IllegalArgumentException("Unknown implementation = " + implementation);
+        }
+        System.out.println("implementation = " + blas.getClass().getName());
+
+        Random rand = new Random(0);
+        x = randomDoubleArray(rand, n);
+        y = randomDoubleArray(rand, n);
+        a = randomDoubleArray(rand, n * n);
+        b = randomDoubleArray(rand, n * n);
+        c = randomDoubleArray(rand, n * n);
+    }
+
+    // Both bindings are package-private, NativeBLAS.getInstance() only
+    // returns the one preferred on the running JDK
+    private static BLAS nativeInstance(String name) {
+        try {
+            java.lang.reflect.Method getInstance = Class.forName(name).getMethod("getInstance");
+            getInstance.setAccessible(true);
+            return (BLAS)getInstance.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Unable to load " + name, e);
+        }
+    }
+
+    private static double[] randomDoubleArray(Random rand, int n) {
+        double[] res = new double[n];
+        for (int i = 0; i < n; i++) {
+            res[i] = rand.nextDouble();
+        }
+        return res;
+    }
+
+    @Benchmark
+    public void ddot(Blackhole bh) {
+        bh.consume(blas.ddot(n, x, 1, y, 1));
+    }
+
+    @Benchmark
+    public void daxpy(Blackhole bh) {
+        blas.daxpy(n, 2.0, x, 1, y, 1);
+        bh.consume(y);
+    }
+
+    @Benchmark
+    public void dgemm(Blackhole bh) {
+        blas.dgemm("N", "N", n, n, n, 1.0, a, n, b, n, 0.0, c, n);
+        bh.consume(c);
+    }
+}
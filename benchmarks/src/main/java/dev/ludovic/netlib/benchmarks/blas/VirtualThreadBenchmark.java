@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas;
+
+import dev.ludovic.netlib.blas.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Measures how long a trivial virtual thread waits for a carrier thread while
+// thousands of other virtual threads run native dgemm calls, with and without
+// offloading these calls to platform threads. Requires Java 21+.
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class VirtualThreadBenchmark {
+
+    @Param({"false", "true"})
+    public boolean offload;
+
+    @Param({"1000"})
+    public int requests;
+
+    @Param({"128"})
+    public int n;
+
+    private Method startVirtualThread;
+    private Thread[] load;
+    private volatile boolean running;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        startVirtualThread = Thread.class.getMethod("startVirtualThread", Runnable.class);
+
+        // Read once when the native BLAS is loaded, which is only done below
+        System.setProperty("dev.ludovic.netlib.blas.offloadVirtualThreads", Boolean.toString(offload));
+        NativeBLAS blas = NativeBLAS.getInstance();
+        System.out.println("implementation = " + blas.getClass().getName());
+
+        Random rand = new Random(0);
+        double[] a = randomDoubleArray(rand, n * n);
+        double[] b = randomDoubleArray(rand, n * n);
+
+        running = true;
+        load = new Thread[requests];
+        for (int i = 0; i < requests; i++) {
+            load[i] = startVirtualThread(() -> {
+                double[] c = new double[n * n];
+                // One dgemm per request, then let the other requests in
+                while (running) {
+                    blas.dgemm("N", "N", n, n, n, 1.0, a, n, b, n, 0.0, c, n);
+                    Thread.yield();
+                }
+            });
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        running = false;
+        for (Thread t : load) {
+            t.join();
+        }
+    }
+
+    private Thread startVirtualThread(Runnable body) throws ReflectiveOperationException {
+        return (Thread)startVirtualThread.invoke(null, body);
+    }
+
+    private static double[] randomDoubleArray(Random rand, int n) {
+        double[] res = new double[n];
+        for (int i = 0; i < n; i++) {
+            res[i] = rand.nextDouble();
+        }
+        return res;
+    }
+
+    @Benchmark
+    public void probe() throws ReflectiveOperationException, InterruptedException {
+        startVirtualThread(() -> {}).join();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas.l2;
+
+import dev.ludovic.netlib.benchmarks.blas.BLASBenchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+public class DcsrmvBenchmark extends L2Benchmark {
+
+    @Param({"N", "T"})
+    public String trans;
+
+    @Param({"1000", "4000"})
+    public int n;
+
+    // the fraction of non-zero entries, to find the crossover with the dense dgemv
+    @Param({"0.001", "0.01", "0.1", "0.3"})
+    public double density;
+
+    public double alpha;
+    public double[] a;
+    public double[] values;
+    public int[] colind, rowptr;
+    public double[] x;
+    public double beta;
+    public double[] y, yclone;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        alpha = randomDouble();
+        a = new double[n * n];
+        rowptr = new int[n + 1];
+        int nnz = 0;
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                if (randomDouble() < density) {
+                    a[row + col * n] = randomDouble();
+                    nnz++;
+                }
+            }
+        }
+        values = new double[nnz];
+        colind = new int[nnz];
+        for (int row = 0, k = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                if (a[row + col * n] != 0.0) {
+                    values[k] = a[row + col * n];
+                    colind[k++] = col;
+                }
+            }
+            rowptr[row + 1] = k;
+        }
+        x = randomDoubleArray(n);
+        beta = randomDouble();
+        y = randomDoubleArray(n);
+    }
+
+    @Benchmark
+    public void csrmv(Blackhole bh) {
+        blas.dcsrmv(trans, n, n, alpha, values, colind, rowptr, x, beta, yclone = y.clone());
+        bh.consume(yclone);
+    }
+
+    @Benchmark
+    public void gemv(Blackhole bh) {
+        blas.dgemv(trans, n, n, alpha, a, n, x, 1, beta, yclone = y.clone(), 1);
+        bh.consume(yclone);
+    }
+}
@@ -36,11 +36,14 @@ public class DgemvBenchmark extends L2Benchmark {
     @Param({"N", "T"})
     public String trans;
 
-    @Param({"10", "1000"})
-    public int m;
+    // m x n, including tall-skinny and short-wide matrices
+    @Param({"10x10", "1000x1000", "100000x10", "10x100000"})
+    public String shape;
 
-    @Param({"10", "1000"})
-    public int n;
+    @Param({"1", "2"})
+    public int inc;
+
+    public int m, n;
 
     public double alpha;
     public double[] a;
@@ -50,16 +53,18 @@ public class DgemvBenchmark extends L2Benchmark {
 
     @Setup(Level.Trial)
     public void setup() {
+        m = Integer.parseInt(shape.split("x")[0]);
+        n = Integer.parseInt(shape.split("x")[1]);
         alpha = randomDouble();
         a = randomDoubleArray(m * n);
-        x = randomDoubleArray(trans.equals("T") ? m : n);
+        x = randomDoubleArray((trans.equals("T") ? m : n) * inc);
         beta = randomDouble();
-        y = randomDoubleArray(trans.equals("T") ? n : m);
+        y = randomDoubleArray((trans.equals("T") ? n : m) * inc);
     }
 
     @Benchmark
     public void blas(Blackhole bh) {
-        blas.dgemv(trans, m, n, alpha, a, m, x, 1, beta, yclone = y.clone(), 1);
+        blas.dgemv(trans, m, n, alpha, a, m, x, inc, beta, yclone = y.clone(), inc);
         bh.consume(yclone);
     }
 }
@@ -36,11 +36,14 @@ public class SgemvBenchmark extends L2Benchmark {
     @Param({"N", "T"})
     public String trans;
 
-    @Param({"10", "1000"})
-    public int m;
+    // m x n, including tall-skinny and short-wide matrices
+    @Param({"10x10", "1000x1000", "100000x10", "10x100000"})
+    public String shape;
 
-    @Param({"10", "1000"})
-    public int n;
+    @Param({"1", "2"})
+    public int inc;
+
+    public int m, n;
 
     public float alpha;
     public float[] a;
@@ -50,16 +53,18 @@ public class SgemvBenchmark extends L2Benchmark {
 
     @Setup(Level.Trial)
     public void setup() {
+        m = Integer.parseInt(shape.split("x")[0]);
+        n = Integer.parseInt(shape.split("x")[1]);
         alpha = randomFloat();
         a = randomFloatArray(m * n);
-        x = randomFloatArray(trans.equals("T") ? m : n);
+        x = randomFloatArray((trans.equals("T") ? m : n) * inc);
         beta = randomFloat();
-        y = randomFloatArray(trans.equals("T") ? n : m);
+        y = randomFloatArray((trans.equals("T") ? n : m) * inc);
     }
 
     @Benchmark
     public void blas(Blackhole bh) {
-        blas.sgemv(trans, m, n, alpha, a, m, x, 1, beta, yclone = y.clone(), 1);
+        blas.sgemv(trans, m, n, alpha, a, m, x, inc, beta, yclone = y.clone(), inc);
         bh.consume(yclone);
     }
 }
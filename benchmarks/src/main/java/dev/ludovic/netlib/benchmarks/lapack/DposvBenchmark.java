@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.lapack;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class DposvBenchmark extends LAPACKBenchmark {
+
+    @Param({"U", "L"})
+    public String uplo;
+
+    @Param({"10", "100", "1000"})
+    public int n;
+
+    @Param({"1", "100"})
+    public int nrhs;
+
+    public double[] a, aclone;
+    public double[] b, bclone;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // symmetric and diagonally dominant, hence positive definite
+        a = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                a[i + j * n] = a[j + i * n] = i == j ? n : randomDouble();
+            }
+        }
+        b = randomDoubleArray(n * nrhs);
+    }
+
+    @Benchmark
+    public void lapack(Blackhole bh) {
+        org.netlib.util.intW info = new org.netlib.util.intW(0);
+        lapack.dposv(uplo, n, nrhs, aclone = a.clone(), n, bclone = b.clone(), n, info);
+        bh.consume(bclone);
+        bh.consume(info);
+    }
+}
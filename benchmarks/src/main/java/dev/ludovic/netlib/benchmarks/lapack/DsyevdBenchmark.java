@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.lapack;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class DsyevdBenchmark extends LAPACKBenchmark {
+
+    @Param({"N", "V"})
+    public String jobz;
+
+    @Param({"100", "1000"})
+    public int n;
+
+    public double[] a, aclone;
+    public double[] w, work;
+    public int[] iwork;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        a = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                a[i + j * n] = a[j + i * n] = randomDouble();
+            }
+        }
+        w = new double[n];
+        // minimal size for jobz = "V", plus room for the blocked tridiagonal reduction
+        work = new double[1 + 6 * n + 2 * n * n + 64 * n];
+        iwork = new int[3 + 5 * n];
+    }
+
+    @Benchmark
+    public void lapack(Blackhole bh) {
+        org.netlib.util.intW info = new org.netlib.util.intW(0);
+        lapack.dsyevd(jobz, "U", n, aclone = a.clone(), n, w, work, work.length, iwork, iwork.length, info);
+        bh.consume(aclone);
+        bh.consume(w);
+        bh.consume(info);
+    }
+}
@@ -36,7 +36,7 @@ public abstract class LAPACKBenchmark {
 
     public LAPACK lapack;
 
-    @Param({"java", "native"})
+    @Param({"java", "f2j", "native"})
     public String implementation;
 
     @Setup
@@ -45,11 +45,27 @@ public abstract class LAPACKBenchmark {
         case "java":
             lapack = JavaLAPACK.getInstance();
             break;
+        case "f2j":
+            lapack = f2jInstance();
+            break;
         case "native":
             lapack = NativeLAPACK.getInstance();
             break;
         default: throw new IllegalArgumentException("Unknown implementation = " + implementation);
         }
+        System.out.println("implementation = " + lapack.getClass().getName());
+    }
+
+    // F2jLAPACK is not part of the public API, it is only exposed here to
+    // measure the pure-Java routines against their F2J translation
+    private static LAPACK f2jInstance() {
+        try {
+            java.lang.reflect.Method getInstance = Class.forName("dev.ludovic.netlib.lapack.F2jLAPACK").getMethod("getInstance");
+            getInstance.setAccessible(true);
+            return (LAPACK)getInstance.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Unable to load F2jLAPACK", e);
+        }
     }
 
     private final Random rand = new Random(0);
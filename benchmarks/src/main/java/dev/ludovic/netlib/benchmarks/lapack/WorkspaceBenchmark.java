@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.lapack;
+
+import org.netlib.util.intW;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Compares the usual workspace query followed by the call with a workspace
+// allocated by the caller, against the entry points without a workspace,
+// which query and allocate it natively in a single call with JNILAPACK.
+// Run with `-p implementation=native` to measure the JNI binding.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class WorkspaceBenchmark extends LAPACKBenchmark {
+
+    @Param({"dgesdd", "dsyevd", "dgeev"})
+    public String routine;
+
+    @Param({"10", "50", "200"})
+    public int n;
+
+    @Param({"caller", "native"})
+    public String workspace;
+
+    public double[] a, aclone;
+    public double[] s, u, vt, wi;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        a = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                a[i + j * n] = a[j + i * n] = randomDouble();
+            }
+        }
+        s = new double[n];
+        u = new double[n * n];
+        vt = new double[n * n];
+        wi = new double[n];
+    }
+
+    @Benchmark
+    public void lapack(Blackhole bh) {
+        intW info = new intW(0);
+        aclone = a.clone();
+        boolean caller = workspace.equals("caller");
+        double[] query = new double[1];
+        switch (routine) {
+        case "dgesdd":
+            if (caller) {
+                int[] iwork = new int[8 * n];
+                lapack.dgesdd("S", n, n, aclone, n, s, u, n, vt, n, query, -1, iwork, info);
+                lapack.dgesdd("S", n, n, aclone, n, s, u, n, vt, n, new double[(int)query[0]], (int)query[0], iwork, info);
+            } else {
+                lapack.dgesdd("S", n, n, aclone, n, s, u, n, vt, n, info);
+            }
+            break;
+        case "dsyevd":
+            if (caller) {
+                int[] iquery = new int[1];
+                lapack.dsyevd("V", "U", n, aclone, n, s, query, -1, iquery, -1, info);
+                lapack.dsyevd("V", "U", n, aclone, n, s, new double[(int)query[0]], (int)query[0], new int[iquery[0]], iquery[0], info);
+            } else {
+                lapack.dsyevd("V", "U", n, aclone, n, s, info);
+            }
+            break;
+        case "dgeev":
+            if (caller) {
+                lapack.dgeev("N", "V", n, aclone, n, s, wi, vt, 1, u, n, query, -1, info);
+                lapack.dgeev("N", "V", n, aclone, n, s, wi, vt, 1, u, n, new double[(int)query[0]], (int)query[0], info);
+            } else {
+                lapack.dgeev("N", "V", n, aclone, n, s, wi, vt, 1, u, n, info);
+            }
+            break;
+        default: throw new IllegalArgumentException("Unknown routine = " + routine);
+        }
+        bh.consume(aclone);
+        bh.consume(s);
+        bh.consume(u);
+        bh.consume(info);
+    }
+}
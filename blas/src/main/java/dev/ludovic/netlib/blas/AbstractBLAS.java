@@ -25,6 +25,10 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.Objects;
 
 abstract class AbstractBLAS implements BLAS {
@@ -52,10 +56,86 @@ abstract class AbstractBLAS implements BLAS {
     }
   }
 
+  // The sparse kernels index the vectors with colind and split the rows at
+  // rowptr without checking them, so every row must be in order and every
+  // column in range: a bad index would otherwise land in another task's slice
+  private void checkCsr(String method, int m, int n, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr) {
+    for (int row = 0; row < m; row += 1) {
+      checkArgument(method, 7, rowptr[offsetrowptr + row] <= rowptr[offsetrowptr + row + 1]);
+    }
+    for (int k = rowptr[offsetrowptr], kend = rowptr[offsetrowptr + m]; k < kend; k += 1) {
+      int col = colind[offsetcolind + k];
+      checkArgument(method, 6, 0 <= col && col < n);
+    }
+  }
+
   private <T> void requireNonNull(T obj) {
     Objects.requireNonNull(obj);
   }
 
+  // The transposition of a matrix stored in the other layout, an invalid
+  // value is returned as is for the checks to report it
+  private String transpose(String trans) {
+    if (lsame("N", trans)) {
+      return "T";
+    }
+    if (lsame("T", trans) || lsame("C", trans)) {
+      return "N";
+    }
+    return trans;
+  }
+
+  private void checkWritable(Buffer buffer) {
+    if (buffer.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+  }
+
+  // Buffer kernels default to running the array kernel, either directly on the
+  // backing array or on a copy of the buffer which is written back afterwards.
+  // Offsets are absolute indices into the buffer, its position is ignored.
+  protected static int offset(Buffer buffer, int offset) {
+    return buffer.hasArray() ? buffer.arrayOffset() + offset : offset;
+  }
+
+  protected static double[] array(DoubleBuffer buffer) {
+    if (buffer.hasArray()) {
+      return buffer.array();
+    }
+    double[] array = new double[buffer.limit()];
+    DoubleBuffer duplicate = buffer.duplicate();
+    ((Buffer)duplicate).position(0);
+    duplicate.get(array);
+    return array;
+  }
+
+  protected static void writeBack(DoubleBuffer buffer, double[] array) {
+    if (!buffer.hasArray()) {
+      DoubleBuffer duplicate = buffer.duplicate();
+      ((Buffer)duplicate).position(0);
+      duplicate.put(array);
+    }
+  }
+
+  protected static float[] array(FloatBuffer buffer) {
+    if (buffer.hasArray()) {
+      return buffer.array();
+    }
+    float[] array = new float[buffer.limit()];
+    FloatBuffer duplicate = buffer.duplicate();
+    ((Buffer)duplicate).position(0);
+    duplicate.get(array);
+    return array;
+  }
+
+  protected static void writeBack(FloatBuffer buffer, float[] array) {
+    if (!buffer.hasArray()) {
+      FloatBuffer duplicate = buffer.duplicate();
+      ((Buffer)duplicate).position(0);
+      duplicate.put(array);
+    }
+  }
+
   public double dasum(int n, double[] x, int incx) {
     if (debug) System.err.println("dasum");
     return dasum(n, x, 0, incx);
@@ -73,6 +153,25 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract double dasumK(int n, double[] x, int offsetx, int incx);
 
+  public double dasum(int n, DoubleBuffer x, int incx) {
+    if (debug) System.err.println("dasum");
+    return dasum(n, x, 0, incx);
+  }
+
+  public double dasum(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("dasum");
+    if (n <= 0) {
+      return 0.0;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    return dasumK(n, x, offsetx, incx);
+  }
+
+  protected double dasumK(int n, DoubleBuffer x, int offsetx, int incx) {
+    return dasumK(n, array(x), offset(x, offsetx), incx);
+  }
+
   public float sasum(int n, float[] x, int incx) {
     if (debug) System.err.println("sasum");
     return sasum(n, x, 0, incx);
@@ -90,6 +189,25 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract float sasumK(int n, float[] x, int offsetx, int incx);
 
+  public float sasum(int n, FloatBuffer x, int incx) {
+    if (debug) System.err.println("sasum");
+    return sasum(n, x, 0, incx);
+  }
+
+  public float sasum(int n, FloatBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("sasum");
+    if (n <= 0) {
+      return 0.0f;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    return sasumK(n, x, offsetx, incx);
+  }
+
+  protected float sasumK(int n, FloatBuffer x, int offsetx, int incx) {
+    return sasumK(n, array(x), offset(x, offsetx), incx);
+  }
+
   public void daxpy(int n, double alpha, double[] x, int incx, double[] y, int incy) {
     if (debug) System.err.println("daxpy");
     daxpy(n, alpha, x, 0, incx, y, 0, incy);
@@ -113,6 +231,34 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void daxpyK(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
 
+  public void daxpy(int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("daxpy");
+    daxpy(n, alpha, x, 0, incx, y, 0, incy);
+  }
+
+  // y += alpha * x
+  public void daxpy(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("daxpy");
+    if (n <= 0) {
+      return;
+    }
+    if (alpha == 0.0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkWritable(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void daxpyK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    double[] yarray = array(y);
+    daxpyK(n, alpha, array(x), offset(x, offsetx), incx, yarray, offset(y, offsety), incy);
+    writeBack(y, yarray);
+  }
+
   public void saxpy(int n, float alpha, float[] x, int incx, float[] y, int incy) {
     if (debug) System.err.println("saxpy");
     saxpy(n, alpha, x, 0, incx, y, 0, incy);
@@ -136,6 +282,34 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void saxpyK(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
 
+  public void saxpy(int n, float alpha, FloatBuffer x, int incx, FloatBuffer y, int incy) {
+    if (debug) System.err.println("saxpy");
+    saxpy(n, alpha, x, 0, incx, y, 0, incy);
+  }
+
+  // y += alpha * x
+  public void saxpy(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("saxpy");
+    if (n <= 0) {
+      return;
+    }
+    if (alpha == 0.0f) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkWritable(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void saxpyK(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    float[] yarray = array(y);
+    saxpyK(n, alpha, array(x), offset(x, offsetx), incx, yarray, offset(y, offsety), incy);
+    writeBack(y, yarray);
+  }
+
   public void dcopy(int n, double[] x, int incx, double[] y, int incy) {
     if (debug) System.err.println("dcopy");
     dcopy(n, x, 0, incx, y, 0, incy);
@@ -155,6 +329,30 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dcopyK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
 
+  public void dcopy(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("dcopy");
+    dcopy(n, x, 0, incx, y, 0, incy);
+  }
+
+  public void dcopy(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("dcopy");
+    if (n <= 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkWritable(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    dcopyK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void dcopyK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    double[] yarray = array(y);
+    dcopyK(n, array(x), offset(x, offsetx), incx, yarray, offset(y, offsety), incy);
+    writeBack(y, yarray);
+  }
+
   public void scopy(int n, float[] x, int incx, float[] y, int incy) {
     if (debug) System.err.println("scopy");
     scopy(n, x, 0, incx, y, 0, incy);
@@ -174,6 +372,110 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void scopyK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
 
+  public void scopy(int n, FloatBuffer x, int incx, FloatBuffer y, int incy) {
+    if (debug) System.err.println("scopy");
+    scopy(n, x, 0, incx, y, 0, incy);
+  }
+
+  public void scopy(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("scopy");
+    if (n <= 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkWritable(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    scopyK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void scopyK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    float[] yarray = array(y);
+    scopyK(n, array(x), offset(x, offsetx), incx, yarray, offset(y, offsety), incy);
+    writeBack(y, yarray);
+  }
+
+  public void dcsrmv(String trans, int m, int n, double alpha, double[] values, int[] colind, int[] rowptr, double[] x, double beta, double[] y) {
+    if (debug) System.err.println("dcsrmv");
+    dcsrmv(trans, m, n, alpha, values, 0, colind, 0, rowptr, 0, x, 0, beta, y, 0);
+  }
+
+  // y = alpha * A * x + beta * y or y = alpha * A.t * x + beta * y, for the m
+  // by n matrix A in compressed sparse rows: the entries of row i are in values
+  // and their column in colind, at indices rowptr[i] to rowptr[i + 1] - 1.
+  // A matrix in compressed sparse columns is the transpose of its arrays read
+  // as compressed sparse rows.
+  public void dcsrmv(String trans, int m, int n, double alpha, double[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, double[] x, int offsetx, double beta, double[] y, int offsety) {
+    if (debug) System.err.println("dcsrmv");
+    checkArgument("DCSRMV", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DCSRMV", 2, m >= 0);
+    checkArgument("DCSRMV", 3, n >= 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(values);
+    requireNonNull(colind);
+    requireNonNull(rowptr);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetrowptr + m, rowptr.length);
+    checkArgument("DCSRMV", 7, 0 <= rowptr[offsetrowptr] && rowptr[offsetrowptr] <= rowptr[offsetrowptr + m]);
+    if (rowptr[offsetrowptr + m] > 0) {
+      checkIndex(offsetvalues + rowptr[offsetrowptr + m] - 1, values.length);
+      checkIndex(offsetcolind + rowptr[offsetrowptr + m] - 1, colind.length);
+    }
+    checkCsr("DCSRMV", m, n, colind, offsetcolind, rowptr, offsetrowptr);
+    checkIndex(offsetx + (lsame("N", trans) ? n : m) - 1, x.length);
+    checkIndex(offsety + (lsame("N", trans) ? m : n) - 1, y.length);
+    dcsrmvK(trans, m, n, alpha, values, offsetvalues, colind, offsetcolind, rowptr, offsetrowptr, x, offsetx, beta, y, offsety);
+  }
+
+  // The native libraries don't provide any sparse routine, all the bindings run the Java one
+  protected void dcsrmvK(String trans, int m, int n, double alpha, double[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, double[] x, int offsetx, double beta, double[] y, int offsety) {
+    ((AbstractBLAS)JavaBLAS.getInstance()).dcsrmvK(trans, m, n, alpha, values, offsetvalues, colind, offsetcolind, rowptr, offsetrowptr, x, offsetx, beta, y, offsety);
+  }
+
+  public void scsrmv(String trans, int m, int n, float alpha, float[] values, int[] colind, int[] rowptr, float[] x, float beta, float[] y) {
+    if (debug) System.err.println("scsrmv");
+    scsrmv(trans, m, n, alpha, values, 0, colind, 0, rowptr, 0, x, 0, beta, y, 0);
+  }
+
+  // y = alpha * A * x + beta * y or y = alpha * A.t * x + beta * y, for the m
+  // by n matrix A in compressed sparse rows: the entries of row i are in values
+  // and their column in colind, at indices rowptr[i] to rowptr[i + 1] - 1.
+  // A matrix in compressed sparse columns is the transpose of its arrays read
+  // as compressed sparse rows.
+  public void scsrmv(String trans, int m, int n, float alpha, float[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, float[] x, int offsetx, float beta, float[] y, int offsety) {
+    if (debug) System.err.println("scsrmv");
+    checkArgument("SCSRMV", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("SCSRMV", 2, m >= 0);
+    checkArgument("SCSRMV", 3, n >= 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(values);
+    requireNonNull(colind);
+    requireNonNull(rowptr);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetrowptr + m, rowptr.length);
+    checkArgument("SCSRMV", 7, 0 <= rowptr[offsetrowptr] && rowptr[offsetrowptr] <= rowptr[offsetrowptr + m]);
+    if (rowptr[offsetrowptr + m] > 0) {
+      checkIndex(offsetvalues + rowptr[offsetrowptr + m] - 1, values.length);
+      checkIndex(offsetcolind + rowptr[offsetrowptr + m] - 1, colind.length);
+    }
+    checkCsr("SCSRMV", m, n, colind, offsetcolind, rowptr, offsetrowptr);
+    checkIndex(offsetx + (lsame("N", trans) ? n : m) - 1, x.length);
+    checkIndex(offsety + (lsame("N", trans) ? m : n) - 1, y.length);
+    scsrmvK(trans, m, n, alpha, values, offsetvalues, colind, offsetcolind, rowptr, offsetrowptr, x, offsetx, beta, y, offsety);
+  }
+
+  // The native libraries don't provide any sparse routine, all the bindings run the Java one
+  protected void scsrmvK(String trans, int m, int n, float alpha, float[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, float[] x, int offsetx, float beta, float[] y, int offsety) {
+    ((AbstractBLAS)JavaBLAS.getInstance()).scsrmvK(trans, m, n, alpha, values, offsetvalues, colind, offsetcolind, rowptr, offsetrowptr, x, offsetx, beta, y, offsety);
+  }
+
   public double ddot(int n, double[] x, int incx, double[] y, int incy) {
     if (debug) System.err.println("ddot");
     return ddot(n, x, 0, incx, y, 0, incy);
@@ -194,6 +496,28 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract double ddotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
 
+  public double ddot(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("ddot");
+    return ddot(n, x, 0, incx, y, 0, incy);
+  }
+
+  // sum(x * y)
+  public double ddot(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("ddot");
+    if (n <= 0) {
+      return 0.0;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    return ddotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected double ddotK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    return ddotK(n, array(x), offset(x, offsetx), incx, array(y), offset(y, offsety), incy);
+  }
+
   public float sdot(int n, float[] x, int incx, float[] y, int incy) {
     if (debug) System.err.println("sdot");
     return sdot(n, x, 0, incx, y, 0, incy);
@@ -214,6 +538,28 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract float sdotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
 
+  public float sdot(int n, FloatBuffer x, int incx, FloatBuffer y, int incy) {
+    if (debug) System.err.println("sdot");
+    return sdot(n, x, 0, incx, y, 0, incy);
+  }
+
+  // sum(x * y)
+  public float sdot(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("sdot");
+    if (n <= 0) {
+      return 0.0f;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    return sdotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected float sdotK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    return sdotK(n, array(x), offset(x, offsetx), incx, array(y), offset(y, offsety), incy);
+  }
+
   public float sdsdot(int n, float sb, float[] x, int incx, float[] y, int incy) {
     if (debug) System.err.println("sdsdot");
     return sdsdot(n, sb, x, 0, incx, y, 0, incy);
@@ -321,6 +667,57 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dgemmK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc);
 
+  public void dgemm(Layout layout, String transa, String transb, int m, int n, int k, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int ldc) {
+    if (debug) System.err.println("dgemm");
+    dgemm(layout, transa, transb, m, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
+  }
+
+  // c = alpha * a * b + beta * c, computed in row-major as c.t = alpha * b.t * a.t + beta * c.t
+  public void dgemm(Layout layout, String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    if (debug) System.err.println("dgemm");
+    requireNonNull(layout);
+    if (layout == Layout.COLUMN_MAJOR) {
+      dgemm(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    } else {
+      dgemm(transb, transa, n, m, k, alpha, b, offsetb, ldb, a, offseta, lda, beta, c, offsetc, ldc);
+    }
+  }
+
+  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, double beta, DoubleBuffer c, int ldc) {
+    if (debug) System.err.println("dgemm");
+    dgemm(transa, transb, m, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
+  }
+
+  // c = alpha * a * b + beta * c
+  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (debug) System.err.println("dgemm");
+    checkArgument("DGEMM", 1, lsame("T", transa) || lsame("N", transa) || lsame("C", transa));
+    checkArgument("DGEMM", 2, lsame("T", transb) || lsame("N", transb) || lsame("C", transb));
+    checkArgument("DGEMM", 3, m >= 0);
+    checkArgument("DGEMM", 4, n >= 0);
+    checkArgument("DGEMM", 5, k >= 0);
+    checkArgument("DGEMM", 8, lda >= Math.max(1, lsame("N", transa) ? m : k));
+    checkArgument("DGEMM", 10, ldb >= Math.max(1, lsame("N", transb) ? k : n));
+    checkArgument("DGEMM", 13, ldc >= Math.max(1, m));
+    if (m == 0 || n == 0 || ((alpha == 0.0 || k == 0) && beta == 1.0)) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(c);
+    checkWritable(c);
+    checkIndex(offseta + (lsame("N", transa) ? (k - 1) * lda + (m - 1) : (m - 1) * lda + (k - 1)), a.limit());
+    checkIndex(offsetb + (lsame("N", transb) ? (n - 1) * ldb + (k - 1) : (k - 1) * ldb + (n - 1)), b.limit());
+    checkIndex(offsetc + (n - 1) * ldc + (m - 1), c.limit());
+    dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    double[] carray = array(c);
+    dgemmK(transa, transb, m, n, k, alpha, array(a), offset(a, offseta), lda, array(b), offset(b, offsetb), ldb, beta, carray, offset(c, offsetc), ldc);
+    writeBack(c, carray);
+  }
+
   public void sgemm(String transa, String transb, int m, int n, int k, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int ldc) {
     if (debug) System.err.println("sgemm");
     sgemm(transa, transb, m, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
@@ -351,6 +748,57 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void sgemmK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
 
+  public void sgemm(Layout layout, String transa, String transb, int m, int n, int k, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int ldc) {
+    if (debug) System.err.println("sgemm");
+    sgemm(layout, transa, transb, m, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
+  }
+
+  // c = alpha * a * b + beta * c, computed in row-major as c.t = alpha * b.t * a.t + beta * c.t
+  public void sgemm(Layout layout, String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    if (debug) System.err.println("sgemm");
+    requireNonNull(layout);
+    if (layout == Layout.COLUMN_MAJOR) {
+      sgemm(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    } else {
+      sgemm(transb, transa, n, m, k, alpha, b, offsetb, ldb, a, offseta, lda, beta, c, offsetc, ldc);
+    }
+  }
+
+  public void sgemm(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int lda, FloatBuffer b, int ldb, float beta, FloatBuffer c, int ldc) {
+    if (debug) System.err.println("sgemm");
+    sgemm(transa, transb, m, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
+  }
+
+  // c = alpha * a * b + beta * c
+  public void sgemm(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (debug) System.err.println("sgemm");
+    checkArgument("SGEMM", 1, lsame("T", transa) || lsame("N", transa) || lsame("C", transa));
+    checkArgument("SGEMM", 2, lsame("T", transb) || lsame("N", transb) || lsame("C", transb));
+    checkArgument("SGEMM", 3, m >= 0);
+    checkArgument("SGEMM", 4, n >= 0);
+    checkArgument("SGEMM", 5, k >= 0);
+    checkArgument("SGEMM", 8, lda >= Math.max(1, lsame("N", transa) ? m : k));
+    checkArgument("SGEMM", 10, ldb >= Math.max(1, lsame("N", transb) ? k : n));
+    checkArgument("SGEMM", 13, ldc >= Math.max(1, m));
+    if (m == 0 || n == 0 || ((alpha == 0.0f || k == 0) && beta == 1.0f)) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(c);
+    checkWritable(c);
+    checkIndex(offseta + (lsame("N", transa) ? (k - 1) * lda + (m - 1) : (m - 1) * lda + (k - 1)), a.limit());
+    checkIndex(offsetb + (lsame("N", transb) ? (n - 1) * ldb + (k - 1) : (k - 1) * ldb + (n - 1)), b.limit());
+    checkIndex(offsetc + (n - 1) * ldc + (m - 1), c.limit());
+    sgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    float[] carray = array(c);
+    sgemmK(transa, transb, m, n, k, alpha, array(a), offset(a, offseta), lda, array(b), offset(b, offsetb), ldb, beta, carray, offset(c, offsetc), ldc);
+    writeBack(c, carray);
+  }
+
   public void dgemv(String trans, int m, int n, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
     if (debug) System.err.println("dgemv");
     dgemv(trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
@@ -374,18 +822,111 @@ abstract class AbstractBLAS implements BLAS {
     checkIndex(offseta + (n - 1) * lda + (m - 1), a.length);
     checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.length);
-    dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected abstract void dgemvK(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
+
+  public void dgemv(Layout layout, String trans, int m, int n, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
+    if (debug) System.err.println("dgemv");
+    dgemv(layout, trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  // y = alpha * A * x + beta * y, a row-major A being a column-major A.t
+  public void dgemv(Layout layout, String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (debug) System.err.println("dgemv");
+    requireNonNull(layout);
+    if (layout == Layout.COLUMN_MAJOR) {
+      dgemv(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else {
+      dgemv(transpose(trans), n, m, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  public void dgemv(String trans, int m, int n, double alpha, DoubleBuffer a, int lda, DoubleBuffer x, int incx, double beta, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("dgemv");
+    dgemv(trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  // y = alpha * A * x + beta * y
+  public void dgemv(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("dgemv");
+    checkArgument("DGEMV", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DGEMV", 2, m >= 0);
+    checkArgument("DGEMV", 3, n >= 0);
+    checkArgument("DGEMV", 6, lda >= Math.max(1, m));
+    checkArgument("DGEMV", 8, incx != 0);
+    checkArgument("DGEMV", 11, incy != 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkWritable(y);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.limit());
+    checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.limit());
+    dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dgemvK(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    double[] yarray = array(y);
+    dgemvK(trans, m, n, alpha, array(a), offset(a, offseta), lda, array(x), offset(x, offsetx), incx, beta, yarray, offset(y, offsety), incy);
+    writeBack(y, yarray);
+  }
+
+  public void sgemv(String trans, int m, int n, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
+    if (debug) System.err.println("sgemv");
+    sgemv(trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  // y = alpha * A * x + beta * y
+  public void sgemv(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (debug) System.err.println("sgemv");
+    checkArgument("SGEMV", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("SGEMV", 2, m >= 0);
+    checkArgument("SGEMV", 3, n >= 0);
+    checkArgument("SGEMV", 6, lda >= Math.max(1, m));
+    checkArgument("SGEMV", 8, incx != 0);
+    checkArgument("SGEMV", 11, incy != 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.length);
+    checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.length);
+    sgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
   }
 
-  protected abstract void dgemvK(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
+  protected abstract void sgemvK(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
 
-  public void sgemv(String trans, int m, int n, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
+  public void sgemv(Layout layout, String trans, int m, int n, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
+    if (debug) System.err.println("sgemv");
+    sgemv(layout, trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  // y = alpha * A * x + beta * y, a row-major A being a column-major A.t
+  public void sgemv(Layout layout, String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (debug) System.err.println("sgemv");
+    requireNonNull(layout);
+    if (layout == Layout.COLUMN_MAJOR) {
+      sgemv(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else {
+      sgemv(transpose(trans), n, m, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  public void sgemv(String trans, int m, int n, float alpha, FloatBuffer a, int lda, FloatBuffer x, int incx, float beta, FloatBuffer y, int incy) {
     if (debug) System.err.println("sgemv");
     sgemv(trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
   }
 
   // y = alpha * A * x + beta * y
-  public void sgemv(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+  public void sgemv(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
     if (debug) System.err.println("sgemv");
     checkArgument("SGEMV", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
     checkArgument("SGEMV", 2, m >= 0);
@@ -399,13 +940,18 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(x);
     requireNonNull(y);
-    checkIndex(offseta + (n - 1) * lda + (m - 1), a.length);
-    checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.length);
-    checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.length);
+    checkWritable(y);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.limit());
+    checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.limit());
     sgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
   }
 
-  protected abstract void sgemvK(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
+  protected void sgemvK(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    float[] yarray = array(y);
+    sgemvK(trans, m, n, alpha, array(a), offset(a, offseta), lda, array(x), offset(x, offsetx), incx, beta, yarray, offset(y, offsety), incy);
+    writeBack(y, yarray);
+  }
 
   // A += alpha * x * y.t
   public void dger(int m, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a, int lda) {
@@ -428,7 +974,7 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     checkIndex(offsetx + (m - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.length);
     if (alpha != 0.0) {
       dgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
     }
@@ -436,6 +982,55 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dgerK(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda);
 
+  public void dger(Layout layout, int m, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a, int lda) {
+    if (debug) System.err.println("dger");
+    dger(layout, m, n, alpha, x, 0, incx, y, 0, incy, a, 0, lda);
+  }
+
+  // A += alpha * x * y.t, computed in row-major as A.t += alpha * y * x.t
+  public void dger(Layout layout, int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    if (debug) System.err.println("dger");
+    requireNonNull(layout);
+    if (layout == Layout.COLUMN_MAJOR) {
+      dger(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    } else {
+      dger(n, m, alpha, y, offsety, incy, x, offsetx, incx, a, offseta, lda);
+    }
+  }
+
+  public void dger(int m, int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer y, int incy, DoubleBuffer a, int lda) {
+    if (debug) System.err.println("dger");
+    dger(m, n, alpha, x, 0, incx, y, 0, incy, a, 0, lda);
+  }
+
+  public void dger(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    if (debug) System.err.println("dger");
+    checkArgument("DGER", 1, m >= 0);
+    checkArgument("DGER", 2, n >= 0);
+    checkArgument("DGER", 5, incx != 0);
+    checkArgument("DGER", 7, incy != 0);
+    checkArgument("DGER", 9, lda >= Math.max(1, m));
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(a);
+    checkWritable(a);
+    checkIndex(offsetx + (m - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.limit());
+    if (alpha != 0.0) {
+      dgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  protected void dgerK(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    double[] aarray = array(a);
+    dgerK(m, n, alpha, array(x), offset(x, offsetx), incx, array(y), offset(y, offsety), incy, aarray, offset(a, offseta), lda);
+    writeBack(a, aarray);
+  }
+
   public void sger(int m, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] a, int lda) {
     if (debug) System.err.println("sger");
     sger(m, n, alpha, x, 0, incx, y, 0, incy, a, 0, lda);
@@ -456,7 +1051,7 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     checkIndex(offsetx + (m - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.length);
     if (alpha != 0.0f) {
       sgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
     }
@@ -464,6 +1059,55 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void sgerK(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda);
 
+  public void sger(Layout layout, int m, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] a, int lda) {
+    if (debug) System.err.println("sger");
+    sger(layout, m, n, alpha, x, 0, incx, y, 0, incy, a, 0, lda);
+  }
+
+  // A += alpha * x * y.t, computed in row-major as A.t += alpha * y * x.t
+  public void sger(Layout layout, int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    if (debug) System.err.println("sger");
+    requireNonNull(layout);
+    if (layout == Layout.COLUMN_MAJOR) {
+      sger(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    } else {
+      sger(n, m, alpha, y, offsety, incy, x, offsetx, incx, a, offseta, lda);
+    }
+  }
+
+  public void sger(int m, int n, float alpha, FloatBuffer x, int incx, FloatBuffer y, int incy, FloatBuffer a, int lda) {
+    if (debug) System.err.println("sger");
+    sger(m, n, alpha, x, 0, incx, y, 0, incy, a, 0, lda);
+  }
+
+  public void sger(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    if (debug) System.err.println("sger");
+    checkArgument("SGER", 1, m >= 0);
+    checkArgument("SGER", 2, n >= 0);
+    checkArgument("SGER", 5, incx != 0);
+    checkArgument("SGER", 7, incy != 0);
+    checkArgument("SGER", 9, lda >= Math.max(1, m));
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(a);
+    checkWritable(a);
+    checkIndex(offsetx + (m - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.limit());
+    if (alpha != 0.0f) {
+      sgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  protected void sgerK(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    float[] aarray = array(a);
+    sgerK(m, n, alpha, array(x), offset(x, offsetx), incx, array(y), offset(y, offsety), incy, aarray, offset(a, offseta), lda);
+    writeBack(a, aarray);
+  }
+
   public double dnrm2(int n, double[] x, int incx) {
     if (debug) System.err.println("dnrm2");
     return dnrm2(n, x, 0, incx);
@@ -487,6 +1131,31 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract double dnrm2K(int n, double[] x, int offsetx, int incx);
 
+  public double dnrm2(int n, DoubleBuffer x, int incx) {
+    if (debug) System.err.println("dnrm2");
+    return dnrm2(n, x, 0, incx);
+  }
+
+  public double dnrm2(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("dnrm2");
+    if (n <= 0) {
+      return 0.0;
+    }
+    if (incx <= 0) {
+      return 0.0;
+    }
+    if (n == 1) {
+      return Math.abs(x.get(offsetx + 0));
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    return dnrm2K(n, x, offsetx, incx);
+  }
+
+  protected double dnrm2K(int n, DoubleBuffer x, int offsetx, int incx) {
+    return dnrm2K(n, array(x), offset(x, offsetx), incx);
+  }
+
   public float snrm2(int n, float[] x, int incx) {
     if (debug) System.err.println("snrm2");
     return snrm2(n, x, 0, incx);
@@ -510,6 +1179,31 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract float snrm2K(int n, float[] x, int offsetx, int incx);
 
+  public float snrm2(int n, FloatBuffer x, int incx) {
+    if (debug) System.err.println("snrm2");
+    return snrm2(n, x, 0, incx);
+  }
+
+  public float snrm2(int n, FloatBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("snrm2");
+    if (n <= 0) {
+      return 0.0f;
+    }
+    if (incx <= 0) {
+      return 0.0f;
+    }
+    if (n == 1) {
+      return Math.abs(x.get(offsetx + 0));
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    return snrm2K(n, x, offsetx, incx);
+  }
+
+  protected float snrm2K(int n, FloatBuffer x, int offsetx, int incx) {
+    return snrm2K(n, array(x), offset(x, offsetx), incx);
+  }
+
   public void drot(int n, double[] x, int incx, double[] y, int incy, double c, double s) {
     if (debug) System.err.println("drot");
     drot(n, x, 0, incx, y, 0, incy, c, s);
@@ -750,6 +1444,35 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dscalK(int n, double alpha, double[] x, int offsetx, int incx);
 
+  public void dscal(int n, double alpha, DoubleBuffer x, int incx) {
+    if (debug) System.err.println("dscal");
+    dscal(n, alpha, x, 0, incx);
+  }
+
+  // x = alpha * x
+  public void dscal(int n, double alpha, DoubleBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("dscal");
+    if (n <= 0) {
+      return;
+    }
+    if (incx <= 0) {
+      return;
+    }
+    if (alpha == 1.0) {
+      return;
+    }
+    requireNonNull(x);
+    checkWritable(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    dscalK(n, alpha, x, offsetx, incx);
+  }
+
+  protected void dscalK(int n, double alpha, DoubleBuffer x, int offsetx, int incx) {
+    double[] xarray = array(x);
+    dscalK(n, alpha, xarray, offset(x, offsetx), incx);
+    writeBack(x, xarray);
+  }
+
   public void sscal(int n, float alpha, float[] x, int incx) {
     if (debug) System.err.println("sscal");
     sscal(n, alpha, x, 0, incx);
@@ -774,6 +1497,35 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void sscalK(int n, float alpha, float[] x, int offsetx, int incx);
 
+  public void sscal(int n, float alpha, FloatBuffer x, int incx) {
+    if (debug) System.err.println("sscal");
+    sscal(n, alpha, x, 0, incx);
+  }
+
+  // x = alpha * x
+  public void sscal(int n, float alpha, FloatBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("sscal");
+    if (n <= 0) {
+      return;
+    }
+    if (incx <= 0) {
+      return;
+    }
+    if (alpha == 1.0f) {
+      return;
+    }
+    requireNonNull(x);
+    checkWritable(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    sscalK(n, alpha, x, offsetx, incx);
+  }
+
+  protected void sscalK(int n, float alpha, FloatBuffer x, int offsetx, int incx) {
+    float[] xarray = array(x);
+    sscalK(n, alpha, xarray, offset(x, offsetx), incx);
+    writeBack(x, xarray);
+  }
+
   public void dspmv(String uplo, int n, double alpha, double[] a, double[] x, int incx, double beta, double[] y, int incy) {
     if (debug) System.err.println("dspmv");
     dspmv(uplo, n, alpha, a, 0, x, 0, incx, beta, y, 0, incy);
@@ -942,6 +1694,33 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dswapK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
 
+  public void dswap(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("dswap");
+    dswap(n, x, 0, incx, y, 0, incy);
+  }
+
+  public void dswap(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("dswap");
+    if (n <= 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkWritable(x);
+    checkWritable(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    dswapK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void dswapK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    double[] xarray = array(x);
+    double[] yarray = array(y);
+    dswapK(n, xarray, offset(x, offsetx), incx, yarray, offset(y, offsety), incy);
+    writeBack(x, xarray);
+    writeBack(y, yarray);
+  }
+
   public void sswap(int n, float[] x, int incx, float[] y, int incy) {
     if (debug) System.err.println("sswap");
     sswap(n, x, 0, incx, y, 0, incy);
@@ -961,6 +1740,33 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void sswapK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
 
+  public void sswap(int n, FloatBuffer x, int incx, FloatBuffer y, int incy) {
+    if (debug) System.err.println("sswap");
+    sswap(n, x, 0, incx, y, 0, incy);
+  }
+
+  public void sswap(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("sswap");
+    if (n <= 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkWritable(x);
+    checkWritable(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    sswapK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void sswapK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    float[] xarray = array(x);
+    float[] yarray = array(y);
+    sswapK(n, xarray, offset(x, offsetx), incx, yarray, offset(y, offsety), incy);
+    writeBack(x, xarray);
+    writeBack(y, yarray);
+  }
+
   public void dsymm(String side, String uplo, int m, int n, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int ldc) {
     if (debug) System.err.println("dsymm");
     dsymm(side, uplo, m, n, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
@@ -981,9 +1787,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(b);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.length);
-    checkIndex(offsetb + n * ldb - 1, b.length);
-    checkIndex(offsetc + n * ldc - 1, c.length);
+    checkIndex(offseta + (lsame("L", side) ? (m - 1) * lda + (m - 1) : (n - 1) * lda + (n - 1)), a.length);
+    checkIndex(offsetb + (n - 1) * ldb + (m - 1), b.length);
+    checkIndex(offsetc + (n - 1) * ldc + (m - 1), c.length);
     dsymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
   }
 
@@ -1009,9 +1815,9 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(b);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.length);
-    checkIndex(offsetb + n * ldb - 1, b.length);
-    checkIndex(offsetc + n * ldc - 1, c.length);
+    checkIndex(offseta + (lsame("L", side) ? (m - 1) * lda + (m - 1) : (n - 1) * lda + (n - 1)), a.length);
+    checkIndex(offsetb + (n - 1) * ldb + (m - 1), b.length);
+    checkIndex(offsetc + (n - 1) * ldc + (m - 1), c.length);
     ssymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
   }
 
@@ -1035,7 +1841,7 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(x);
     requireNonNull(y);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
     dsymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
@@ -1061,7 +1867,7 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(x);
     requireNonNull(y);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
     ssymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
@@ -1087,7 +1893,7 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(x);
     requireNonNull(a);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
     dsyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
   }
 
@@ -1110,7 +1916,7 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(x);
     requireNonNull(a);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
     ssyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
   }
 
@@ -1136,7 +1942,7 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
     dsyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
   }
 
@@ -1162,7 +1968,7 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
     ssyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
   }
 
@@ -1187,9 +1993,11 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(b);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("N", trans) ? k : n) * lda - 1, a.length);
-    checkIndex(offsetb + (lsame("N", trans) ? k : n) * ldb - 1, b.length);
-    checkIndex(offsetc + n * ldc - 1, c.length);
+    if (k > 0) {
+      checkIndex(offseta + (lsame("N", trans) ? (k - 1) * lda + (n - 1) : (n - 1) * lda + (k - 1)), a.length);
+      checkIndex(offsetb + (lsame("N", trans) ? (k - 1) * ldb + (n - 1) : (n - 1) * ldb + (k - 1)), b.length);
+    }
+    checkIndex(offsetc + (n - 1) * ldc + (n - 1), c.length);
     dsyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
   }
 
@@ -1214,9 +2022,11 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(b);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("N", trans) ? k : n) * lda - 1, a.length);
-    checkIndex(offsetb + (lsame("N", trans) ? k : n) * ldb - 1, b.length);
-    checkIndex(offsetc + n * ldc - 1, c.length);
+    if (k > 0) {
+      checkIndex(offseta + (lsame("N", trans) ? (k - 1) * lda + (n - 1) : (n - 1) * lda + (k - 1)), a.length);
+      checkIndex(offsetb + (lsame("N", trans) ? (k - 1) * ldb + (n - 1) : (n - 1) * ldb + (k - 1)), b.length);
+    }
+    checkIndex(offsetc + (n - 1) * ldc + (n - 1), c.length);
     ssyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
   }
 
@@ -1239,8 +2049,10 @@ abstract class AbstractBLAS implements BLAS {
       return;
     requireNonNull(a);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("N", trans) ? k : n) * lda - 1, a.length);
-    checkIndex(offsetc + n * ldc - 1, c.length);
+    if (k > 0) {
+      checkIndex(offseta + (lsame("N", trans) ? (k - 1) * lda + (n - 1) : (n - 1) * lda + (k - 1)), a.length);
+    }
+    checkIndex(offsetc + (n - 1) * ldc + (n - 1), c.length);
     dsyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
   }
 
@@ -1263,8 +2075,10 @@ abstract class AbstractBLAS implements BLAS {
       return;
     requireNonNull(a);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("N", trans) ? k : n) * lda - 1, a.length);
-    checkIndex(offsetc + n * ldc - 1, c.length);
+    if (k > 0) {
+      checkIndex(offseta + (lsame("N", trans) ? (k - 1) * lda + (n - 1) : (n - 1) * lda + (k - 1)), a.length);
+    }
+    checkIndex(offsetc + (n - 1) * ldc + (n - 1), c.length);
     ssyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
   }
 
@@ -1289,7 +2103,7 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + k, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     dtbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
   }
@@ -1315,7 +2129,7 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + k, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     stbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
   }
@@ -1341,7 +2155,7 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + k, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     dtbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
   }
@@ -1367,7 +2181,7 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + k, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     stbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
   }
@@ -1485,13 +2299,13 @@ abstract class AbstractBLAS implements BLAS {
     checkArgument("DTRMM", 6, n >= 0);
     checkArgument("DTRMM", 9, lda >= Math.max(1, lsame("L", side) ? m : n));
     checkArgument("DTRMM", 11, ldb >= Math.max(1, m));
-    if (n == 0) {
+    if (m == 0 || n == 0) {
       return;
     }
     requireNonNull(a);
     requireNonNull(b);
-    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.length);
-    checkIndex(offsetb + n * ldb - 1, b.length);
+    checkIndex(offseta + (lsame("L", side) ? (m - 1) * lda + (m - 1) : (n - 1) * lda + (n - 1)), a.length);
+    checkIndex(offsetb + (n - 1) * ldb + (m - 1), b.length);
     dtrmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
   }
 
@@ -1512,13 +2326,13 @@ abstract class AbstractBLAS implements BLAS {
     checkArgument("STRMM", 6, n >= 0);
     checkArgument("STRMM", 9, lda >= Math.max(1, lsame("L", side) ? m : n));
     checkArgument("STRMM", 11, ldb >= Math.max(1, m));
-    if (n == 0) {
+    if (m == 0 || n == 0) {
       return;
     }
     requireNonNull(a);
     requireNonNull(b);
-    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.length);
-    checkIndex(offsetb + n * ldb - 1, b.length);
+    checkIndex(offseta + (lsame("L", side) ? (m - 1) * lda + (m - 1) : (n - 1) * lda + (n - 1)), a.length);
+    checkIndex(offsetb + (n - 1) * ldb + (m - 1), b.length);
     strmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
   }
 
@@ -1542,7 +2356,7 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     dtrmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
   }
@@ -1567,7 +2381,7 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     strmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
   }
@@ -1589,13 +2403,13 @@ abstract class AbstractBLAS implements BLAS {
     checkArgument("DTRSM", 6, n >= 0);
     checkArgument("DTRSM", 9, lda >= Math.max(1, lsame("L", side) ? m : n));
     checkArgument("DTRSM", 11, ldb >= Math.max(1, m));
-    if (n == 0) {
+    if (m == 0 || n == 0) {
       return;
     }
     requireNonNull(a);
     requireNonNull(b);
-    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.length);
-    checkIndex(offsetb + n * ldb - 1, b.length);
+    checkIndex(offseta + (lsame("L", side) ? (m - 1) * lda + (m - 1) : (n - 1) * lda + (n - 1)), a.length);
+    checkIndex(offsetb + (n - 1) * ldb + (m - 1), b.length);
     dtrsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
   }
 
@@ -1616,13 +2430,13 @@ abstract class AbstractBLAS implements BLAS {
     checkArgument("STRSM", 6, n >= 0);
     checkArgument("STRSM", 9, lda >= Math.max(1, lsame("L", side) ? m : n));
     checkArgument("STRSM", 11, ldb >= Math.max(1, m));
-    if (n == 0) {
+    if (m == 0 || n == 0) {
       return;
     }
     requireNonNull(a);
     requireNonNull(b);
-    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.length);
-    checkIndex(offsetb + n * ldb - 1, b.length);
+    checkIndex(offseta + (lsame("L", side) ? (m - 1) * lda + (m - 1) : (n - 1) * lda + (n - 1)), a.length);
+    checkIndex(offsetb + (n - 1) * ldb + (m - 1), b.length);
     strsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
   }
 
@@ -1646,7 +2460,7 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     dtrsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
   }
@@ -1671,7 +2485,7 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
     strsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
   }
@@ -1702,6 +2516,32 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract int idamaxK(int n, double[] x, int offsetx, int incx);
 
+  public int idamax(int n, DoubleBuffer x, int incx) {
+    if (debug) System.err.println("idamax");
+    return idamax(n, x, 0, incx);
+  }
+
+  public int idamax(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("idamax");
+    if (n <= 0) {
+      return -1;
+    }
+    if (incx <= 0) {
+      return -1;
+    }
+    if (n == 1) {
+      return 0;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    // Fortran arrays use 1-based index
+    return idamaxK(n, x, offsetx, incx) - 1;
+  }
+
+  protected int idamaxK(int n, DoubleBuffer x, int offsetx, int incx) {
+    return idamaxK(n, array(x), offset(x, offsetx), incx);
+  }
+
   public int isamax(int n, float[] x, int incx) {
     if (debug) System.err.println("isamax");
     return isamax(n, x, 0, incx);
@@ -1726,6 +2566,37 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract int isamaxK(int n, float[] x, int offsetx, int incx);
 
+  public int isamax(int n, FloatBuffer x, int incx) {
+    if (debug) System.err.println("isamax");
+    return isamax(n, x, 0, incx);
+  }
+
+  public int isamax(int n, FloatBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("isamax");
+    if (n <= 0) {
+      return -1;
+    }
+    if (incx <= 0) {
+      return -1;
+    }
+    if (n == 1) {
+      return 0;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    // Fortran arrays use 1-based index
+    return isamaxK(n, x, offsetx, incx) - 1;
+  }
+
+  protected int isamaxK(int n, FloatBuffer x, int offsetx, int incx) {
+    return isamaxK(n, array(x), offset(x, offsetx), incx);
+  }
+
+  // Replays the operations one by one, see BLASBatch
+  protected void executeK(BLASBatch batch, double[] results) {
+    batch.replay(this, results);
+  }
+
   public boolean lsame(String ca, String cb) {
     if (debug) System.err.println("lsame");
     return ca != null && ca.regionMatches(true, 0, cb, 0, ca.length());
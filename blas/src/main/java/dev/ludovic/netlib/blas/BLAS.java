@@ -25,9 +25,16 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+
 public interface BLAS {
 
   public static final String ALLOW_NATIVE_BLAS = "dev.ludovic.netlib.blas.allowNative";
+  public static final String NATIVE_CACHE_DIR = "dev.ludovic.netlib.blas.nativeCacheDir";
+  public static final String FFM_BLAS = "dev.ludovic.netlib.blas.ffm";
+  public static final String HYBRID_BLAS = "dev.ludovic.netlib.blas.hybrid";
+  public static final String HYBRID_BLAS_THRESHOLDS = "dev.ludovic.netlib.blas.hybridThresholds";
 
   public static BLAS getInstance() {
     return InstanceBuilder.blas();
@@ -35,27 +42,49 @@ public interface BLAS {
 
   public double dasum(int n, double[] x, int incx);
   public double dasum(int n, double[] x, int offsetx, int incx);
+  public double dasum(int n, DoubleBuffer x, int incx);
+  public double dasum(int n, DoubleBuffer x, int offsetx, int incx);
 
   public float sasum(int n, float[] x, int incx);
   public float sasum(int n, float[] x, int offsetx, int incx);
+  public float sasum(int n, FloatBuffer x, int incx);
+  public float sasum(int n, FloatBuffer x, int offsetx, int incx);
 
   public void daxpy(int n, double alpha, double[] x, int incx, double[] y, int incy);
   public void daxpy(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
+  public void daxpy(int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer y, int incy);
+  public void daxpy(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
 
   public void saxpy(int n, float alpha, float[] x, int incx, float[] y, int incy);
   public void saxpy(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
+  public void saxpy(int n, float alpha, FloatBuffer x, int incx, FloatBuffer y, int incy);
+  public void saxpy(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
 
   public void dcopy(int n, double[] x, int incx, double[] y, int incy);
   public void dcopy(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
+  public void dcopy(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy);
+  public void dcopy(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
 
   public void scopy(int n, float[] x, int incx, float[] y, int incy);
   public void scopy(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
+  public void scopy(int n, FloatBuffer x, int incx, FloatBuffer y, int incy);
+  public void scopy(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
+
+  public void dcsrmv(String trans, int m, int n, double alpha, double[] values, int[] colind, int[] rowptr, double[] x, double beta, double[] y);
+  public void dcsrmv(String trans, int m, int n, double alpha, double[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, double[] x, int offsetx, double beta, double[] y, int offsety);
+
+  public void scsrmv(String trans, int m, int n, float alpha, float[] values, int[] colind, int[] rowptr, float[] x, float beta, float[] y);
+  public void scsrmv(String trans, int m, int n, float alpha, float[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, float[] x, int offsetx, float beta, float[] y, int offsety);
 
   public double ddot(int n, double[] x, int incx, double[] y, int incy);
   public double ddot(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
+  public double ddot(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy);
+  public double ddot(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
 
   public float sdot(int n, float[] x, int incx, float[] y, int incy);
   public float sdot(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
+  public float sdot(int n, FloatBuffer x, int incx, FloatBuffer y, int incy);
+  public float sdot(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
 
   public float sdsdot(int n, float sb, float[] sx, int incx, float[] sy, int incy);
   public float sdsdot(int n, float sb, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy);
@@ -68,27 +97,55 @@ public interface BLAS {
 
   public void dgemm(String transa, String transb, int m, int n, int k, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int ldc);
   public void dgemm(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc);
+  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, double beta, DoubleBuffer c, int ldc);
+  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc);
+  public void dgemm(Layout layout, String transa, String transb, int m, int n, int k, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int ldc);
+  public void dgemm(Layout layout, String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc);
 
   public void sgemm(String transa, String transb, int m, int n, int k, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int Ldc);
   public void sgemm(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int Ldc);
+  public void sgemm(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int lda, FloatBuffer b, int ldb, float beta, FloatBuffer c, int Ldc);
+  public void sgemm(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int Ldc);
+  public void sgemm(Layout layout, String transa, String transb, int m, int n, int k, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int ldc);
+  public void sgemm(Layout layout, String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
 
   public void dgemv(String trans, int m, int n, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy);
   public void dgemv(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
+  public void dgemv(String trans, int m, int n, double alpha, DoubleBuffer a, int lda, DoubleBuffer x, int incx, double beta, DoubleBuffer y, int incy);
+  public void dgemv(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy);
+  public void dgemv(Layout layout, String trans, int m, int n, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy);
+  public void dgemv(Layout layout, String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
 
   public void sgemv(String trans, int m, int n, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy);
   public void sgemv(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
+  public void sgemv(String trans, int m, int n, float alpha, FloatBuffer a, int lda, FloatBuffer x, int incx, float beta, FloatBuffer y, int incy);
+  public void sgemv(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy);
+  public void sgemv(Layout layout, String trans, int m, int n, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy);
+  public void sgemv(Layout layout, String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
 
   public void dger(int m, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a, int lda);
   public void dger(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda);
+  public void dger(int m, int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer y, int incy, DoubleBuffer a, int lda);
+  public void dger(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda);
+  public void dger(Layout layout, int m, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a, int lda);
+  public void dger(Layout layout, int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda);
 
   public void sger(int m, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] a, int lda);
   public void sger(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda);
+  public void sger(int m, int n, float alpha, FloatBuffer x, int incx, FloatBuffer y, int incy, FloatBuffer a, int lda);
+  public void sger(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda);
+  public void sger(Layout layout, int m, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] a, int lda);
+  public void sger(Layout layout, int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda);
 
   public double dnrm2(int n, double[] x, int incx);
   public double dnrm2(int n, double[] x, int offsetx, int incx);
+  public double dnrm2(int n, DoubleBuffer x, int incx);
+  public double dnrm2(int n, DoubleBuffer x, int offsetx, int incx);
 
   public float snrm2(int n, float[] x, int incx);
   public float snrm2(int n, float[] x, int offsetx, int incx);
+  public float snrm2(int n, FloatBuffer x, int incx);
+  public float snrm2(int n, FloatBuffer x, int offsetx, int incx);
 
   public void drot(int n, double[] dx, int incx, double[] dy, int incy, double c, double s);
   public void drot(int n, double[] dx, int offsetdx, int incx, double[] dy, int offsetdy, int incy, double c, double s);
@@ -120,9 +177,13 @@ public interface BLAS {
 
   public void dscal(int n, double alpha, double[] x, int incx);
   public void dscal(int n, double alpha, double[] x, int offsetx, int incx);
+  public void dscal(int n, double alpha, DoubleBuffer x, int incx);
+  public void dscal(int n, double alpha, DoubleBuffer x, int offsetx, int incx);
 
   public void sscal(int n, float alpha, float[] x, int incx);
   public void sscal(int n, float alpha, float[] x, int offsetx, int incx);
+  public void sscal(int n, float alpha, FloatBuffer x, int incx);
+  public void sscal(int n, float alpha, FloatBuffer x, int offsetx, int incx);
 
   public void dspmv(String uplo, int n, double alpha, double[] a, double[] x, int incx, double beta, double[] y, int incy);
   public void dspmv(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
@@ -144,9 +205,13 @@ public interface BLAS {
 
   public void dswap(int n, double[] x, int incx, double[] y, int incy);
   public void dswap(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
+  public void dswap(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy);
+  public void dswap(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
 
   public void sswap(int n, float[] x, int incx, float[] y, int incy);
   public void sswap(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
+  public void sswap(int n, FloatBuffer x, int incx, FloatBuffer y, int incy);
+  public void sswap(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
 
   public void dsymm(String side, String uplo, int m, int n, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int Ldc);
   public void dsymm(String side, String uplo, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int Ldc);
@@ -234,9 +299,13 @@ public interface BLAS {
 
   public int idamax(int n, double[] x, int incx);
   public int idamax(int n, double[] x, int offsetx, int incx);
+  public int idamax(int n, DoubleBuffer x, int incx);
+  public int idamax(int n, DoubleBuffer x, int offsetx, int incx);
 
   public int isamax(int n, float[] sx, int incx);
   public int isamax(int n, float[] sx, int offsetsx, int incx);
+  public int isamax(int n, FloatBuffer sx, int incx);
+  public int isamax(int n, FloatBuffer sx, int offsetsx, int incx);
 
   public boolean lsame(String ca, String cb);
 }
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+package dev.ludovic.netlib.blas;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+
+// Records a sequence of level 1 and level 2 operations on a set of arrays to
+// execute them all at once. A native implementation runs the whole sequence in
+// a single native call, pinning each array once, which saves the cost of
+// crossing into native code for every small operation; the other
+// implementations replay the operations one by one.
+//
+// Arguments are checked when an operation is recorded, the arrays themselves
+// are only read when the batch is executed, and a batch can be executed any
+// number of times. ddot and dnrm2 return the index of their result in the
+// array returned by execute. A batch is not thread-safe.
+public final class BLASBatch {
+
+  // Keep in sync with the interpreter in generator.py
+  static final int DAXPY = 1;
+  static final int DCOPY = 2;
+  static final int DSCAL = 3;
+  static final int DDOT = 4;
+  static final int DNRM2 = 5;
+  static final int DGEMV = 6;
+  static final int DGER = 7;
+
+  private final ArrayList<double[]> arrays = new ArrayList<>();
+  private final IdentityHashMap<double[], Integer> indices = new IdentityHashMap<>();
+  private double[][] arraysSnapshot;
+
+  private int[] program = new int[64];
+  private int length = 0;
+  private double[] scalars = new double[16];
+  private int scalarsLength = 0;
+  private int operations = 0;
+  private int results = 0;
+  private long size = 0;
+
+  public BLASBatch() {}
+
+  private void checkArgument(String method, int arg, boolean check) {
+    if (!check) {
+      throw new IllegalArgumentException(String.format("** On entry to '%s' parameter number %d had an illegal value", method, arg));
+    }
+  }
+
+  private void checkIndex(int index, int length) {
+    //FIXME: switch to Objects.checkIndex when the minimum version becomes JDK 11
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException(String.format("Index %s out of bounds for length %s", index, length));
+    }
+  }
+
+  private boolean lsame(String ca, String cb) {
+    return ca != null && ca.regionMatches(true, 0, cb, 0, ca.length());
+  }
+
+  private int array(double[] array) {
+    Objects.requireNonNull(array);
+    Integer index = indices.get(array);
+    if (index == null) {
+      index = arrays.size();
+      arrays.add(array);
+      indices.put(array, index);
+      arraysSnapshot = null;
+    }
+    return index;
+  }
+
+  private void emit(int... values) {
+    if (length + values.length > program.length) {
+      program = Arrays.copyOf(program, Math.max(2 * program.length, length + values.length));
+    }
+    System.arraycopy(values, 0, program, length, values.length);
+    length += values.length;
+    operations += 1;
+  }
+
+  private void scalar(double value) {
+    if (scalarsLength == scalars.length) {
+      scalars = Arrays.copyOf(scalars, 2 * scalars.length);
+    }
+    scalars[scalarsLength++] = value;
+  }
+
+  public void daxpy(int n, double alpha, double[] x, int incx, double[] y, int incy) {
+    daxpy(n, alpha, x, 0, incx, y, 0, incy);
+  }
+
+  // y += alpha * x
+  public void daxpy(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    if (n <= 0) {
+      return;
+    }
+    if (alpha == 0.0) {
+      return;
+    }
+    Objects.requireNonNull(x);
+    Objects.requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    emit(DAXPY, n, array(x), offsetx, incx, array(y), offsety, incy);
+    scalar(alpha);
+    size += n;
+  }
+
+  public void dcopy(int n, double[] x, int incx, double[] y, int incy) {
+    dcopy(n, x, 0, incx, y, 0, incy);
+  }
+
+  public void dcopy(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    if (n <= 0) {
+      return;
+    }
+    Objects.requireNonNull(x);
+    Objects.requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    emit(DCOPY, n, array(x), offsetx, incx, array(y), offsety, incy);
+    size += n;
+  }
+
+  public void dscal(int n, double alpha, double[] x, int incx) {
+    dscal(n, alpha, x, 0, incx);
+  }
+
+  // x = alpha * x
+  public void dscal(int n, double alpha, double[] x, int offsetx, int incx) {
+    if (n <= 0) {
+      return;
+    }
+    if (incx <= 0) {
+      return;
+    }
+    if (alpha == 1.0) {
+      return;
+    }
+    Objects.requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    emit(DSCAL, n, array(x), offsetx, incx);
+    scalar(alpha);
+    size += n;
+  }
+
+  public int ddot(int n, double[] x, int incx, double[] y, int incy) {
+    return ddot(n, x, 0, incx, y, 0, incy);
+  }
+
+  // sum(x * y)
+  public int ddot(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    if (n <= 0) {
+      return results++;
+    }
+    Objects.requireNonNull(x);
+    Objects.requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    int result = results++;
+    emit(DDOT, n, array(x), offsetx, incx, array(y), offsety, incy, result);
+    size += n;
+    return result;
+  }
+
+  public int dnrm2(int n, double[] x, int incx) {
+    return dnrm2(n, x, 0, incx);
+  }
+
+  // sqrt(sum(x * x))
+  public int dnrm2(int n, double[] x, int offsetx, int incx) {
+    if (n <= 0) {
+      return results++;
+    }
+    if (incx <= 0) {
+      return results++;
+    }
+    Objects.requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    int result = results++;
+    emit(DNRM2, n, array(x), offsetx, incx, result);
+    size += n;
+    return result;
+  }
+
+  public void dgemv(String trans, int m, int n, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
+    dgemv(trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  // y = alpha * A * x + beta * y
+  public void dgemv(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    checkArgument("DGEMV", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DGEMV", 2, m >= 0);
+    checkArgument("DGEMV", 3, n >= 0);
+    checkArgument("DGEMV", 6, lda >= Math.max(1, m));
+    checkArgument("DGEMV", 8, incx != 0);
+    checkArgument("DGEMV", 11, incy != 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    Objects.requireNonNull(a);
+    Objects.requireNonNull(x);
+    Objects.requireNonNull(y);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.length);
+    checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.length);
+    emit(DGEMV, lsame("N", trans) ? 0 : 1, m, n, array(a), offseta, lda, array(x), offsetx, incx, array(y), offsety, incy);
+    scalar(alpha);
+    scalar(beta);
+    size += (long)m * n;
+  }
+
+  public void dger(int m, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a, int lda) {
+    dger(m, n, alpha, x, 0, incx, y, 0, incy, a, 0, lda);
+  }
+
+  // A += alpha * x * y.t
+  public void dger(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    checkArgument("DGER", 1, m >= 0);
+    checkArgument("DGER", 2, n >= 0);
+    checkArgument("DGER", 5, incx != 0);
+    checkArgument("DGER", 7, incy != 0);
+    checkArgument("DGER", 9, lda >= Math.max(1, m));
+    if (m == 0 || n == 0) {
+      return;
+    }
+    if (alpha == 0.0) {
+      return;
+    }
+    Objects.requireNonNull(x);
+    Objects.requireNonNull(y);
+    Objects.requireNonNull(a);
+    checkIndex(offsetx + (m - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.length);
+    emit(DGER, m, n, array(x), offsetx, incx, array(y), offsety, incy, array(a), offseta, lda);
+    scalar(alpha);
+    size += (long)m * n;
+  }
+
+  // Number of operations recorded, not counting the ones which are no-ops
+  public int size() {
+    return operations;
+  }
+
+  // Length of the array returned by execute
+  public int results() {
+    return results;
+  }
+
+  public void clear() {
+    arrays.clear();
+    indices.clear();
+    arraysSnapshot = null;
+    length = 0;
+    scalarsLength = 0;
+    operations = 0;
+    results = 0;
+    size = 0;
+  }
+
+  public double[] execute() {
+    return execute(BLAS.getInstance());
+  }
+
+  public double[] execute(BLAS blas) {
+    double[] results = new double[this.results];
+    if (operations == 0) {
+      return results;
+    }
+    if (blas instanceof AbstractBLAS) {
+      ((AbstractBLAS)blas).executeK(this, results);
+    } else {
+      replay(blas, results);
+    }
+    return results;
+  }
+
+  // Number of vector or matrix elements touched by the whole batch, see OffloadingJNIBLAS
+  long elements() {
+    return size;
+  }
+
+  double[][] arrays() {
+    if (arraysSnapshot == null) {
+      arraysSnapshot = arrays.toArray(new double[arrays.size()][]);
+    }
+    return arraysSnapshot;
+  }
+
+  int[] program() {
+    return program;
+  }
+
+  int length() {
+    return length;
+  }
+
+  double[] scalars() {
+    return scalars;
+  }
+
+  void replay(BLAS blas, double[] results) {
+    double[][] arrays = arrays();
+    int[] p = program;
+    int s = 0;
+    for (int i = 0; i < length;) {
+      switch (p[i]) {
+      case DAXPY:
+        blas.daxpy(p[i + 1], scalars[s++], arrays[p[i + 2]], p[i + 3], p[i + 4], arrays[p[i + 5]], p[i + 6], p[i + 7]);
+        i += 8;
+        break;
+      case DCOPY:
+        blas.dcopy(p[i + 1], arrays[p[i + 2]], p[i + 3], p[i + 4], arrays[p[i + 5]], p[i + 6], p[i + 7]);
+        i += 8;
+        break;
+      case DSCAL:
+        blas.dscal(p[i + 1], scalars[s++], arrays[p[i + 2]], p[i + 3], p[i + 4]);
+        i += 5;
+        break;
+      case DDOT:
+        results[p[i + 8]] = blas.ddot(p[i + 1], arrays[p[i + 2]], p[i + 3], p[i + 4], arrays[p[i + 5]], p[i + 6], p[i + 7]);
+        i += 9;
+        break;
+      case DNRM2:
+        results[p[i + 5]] = blas.dnrm2(p[i + 1], arrays[p[i + 2]], p[i + 3], p[i + 4]);
+        i += 6;
+        break;
+      case DGEMV:
+        blas.dgemv(p[i + 1] == 0 ? "N" : "T", p[i + 2], p[i + 3], scalars[s++], arrays[p[i + 4]], p[i + 5], p[i + 6], arrays[p[i + 7]], p[i + 8], p[i + 9], scalars[s++], arrays[p[i + 10]], p[i + 11], p[i + 12]);
+        i += 13;
+        break;
+      case DGER:
+        blas.dger(p[i + 1], p[i + 2], scalars[s++], arrays[p[i + 3]], p[i + 4], p[i + 5], arrays[p[i + 6]], p[i + 7], p[i + 8], arrays[p[i + 9]], p[i + 10], p[i + 11]);
+        i += 12;
+        break;
+      default:
+        throw new IllegalStateException("unknown operation " + p[i]);
+      }
+    }
+  }
+}
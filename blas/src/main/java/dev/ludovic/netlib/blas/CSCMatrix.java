@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.util.Objects;
+
+// An m by n sparse matrix in compressed sparse columns: the entries of column
+// j are in values and their row in rowind, at indices colptr[j] to
+// colptr[j + 1] - 1. These are the arrays of the n by m transpose in
+// compressed sparse rows, so the products run dcsrmv with the opposite trans.
+// The arrays are used as they are, without any copy.
+public final class CSCMatrix {
+
+  private final int m, n;
+  private final double[] values;
+  private final int[] rowind;
+  private final int[] colptr;
+
+  public CSCMatrix(int m, int n, double[] values, int[] rowind, int[] colptr) {
+    CSRMatrix.checkCompressed(n, m, values, rowind, colptr);
+    this.m = m;
+    this.n = n;
+    this.values = values;
+    this.rowind = rowind;
+    this.colptr = colptr;
+  }
+
+  // The non-zero entries of the m by n column-major matrix a
+  public static CSCMatrix fromDense(int m, int n, double[] a, int lda) {
+    Objects.requireNonNull(a);
+    int nnz = 0;
+    for (int col = 0; col < n; col++) {
+      for (int row = 0; row < m; row++) {
+        if (a[row + col * lda] != 0.0) {
+          nnz++;
+        }
+      }
+    }
+    double[] values = new double[nnz];
+    int[] rowind = new int[nnz];
+    int[] colptr = new int[n + 1];
+    for (int col = 0, k = 0; col < n; col++) {
+      for (int row = 0; row < m; row++) {
+        if (a[row + col * lda] != 0.0) {
+          values[k] = a[row + col * lda];
+          rowind[k] = row;
+          k++;
+        }
+      }
+      colptr[col + 1] = k;
+    }
+    return new CSCMatrix(m, n, values, rowind, colptr);
+  }
+
+  public int m() {
+    return m;
+  }
+
+  public int n() {
+    return n;
+  }
+
+  public int nnz() {
+    return colptr[n];
+  }
+
+  public double[] values() {
+    return values;
+  }
+
+  public int[] rowind() {
+    return rowind;
+  }
+
+  public int[] colptr() {
+    return colptr;
+  }
+
+  // The n by m transpose, sharing the same arrays
+  public CSRMatrix transpose() {
+    return new CSRMatrix(n, m, values, rowind, colptr);
+  }
+
+  // y = A * x
+  public void multiply(double[] x, int offsetx, double[] y, int offsety) {
+    multiply(BLAS.getInstance(), "N", 1.0, x, offsetx, 0.0, y, offsety);
+  }
+
+  // y = A.t * x
+  public void multiplyTranspose(double[] x, int offsetx, double[] y, int offsety) {
+    multiply(BLAS.getInstance(), "T", 1.0, x, offsetx, 0.0, y, offsety);
+  }
+
+  // y = alpha * A * x + beta * y or y = alpha * A.t * x + beta * y, with dcsrmv on the transpose
+  public void multiply(BLAS blas, String trans, double alpha, double[] x, int offsetx, double beta, double[] y, int offsety) {
+    String transpose = blas.lsame("N", trans) ? "T" : blas.lsame("T", trans) || blas.lsame("C", trans) ? "N" : trans;
+    blas.dcsrmv(transpose, n, m, alpha, values, 0, rowind, 0, colptr, 0, x, offsetx, beta, y, offsety);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.util.Objects;
+
+// An m by n sparse matrix in compressed sparse rows: the entries of row i are
+// in values and their column in colind, at indices rowptr[i] to
+// rowptr[i + 1] - 1. The arrays are used as they are, without any copy, and
+// must not be modified while the matrix is in use. multiply has the shape of
+// a matrix-vector product callback, so csr::multiply can be passed to an
+// ARPACK EigenSolver as its operator.
+public final class CSRMatrix {
+
+  private final int m, n;
+  private final double[] values;
+  private final int[] colind;
+  private final int[] rowptr;
+
+  public CSRMatrix(int m, int n, double[] values, int[] colind, int[] rowptr) {
+    checkCompressed(m, n, values, colind, rowptr);
+    this.m = m;
+    this.n = n;
+    this.values = values;
+    this.colind = colind;
+    this.rowptr = rowptr;
+  }
+
+  // The non-zero entries of the m by n column-major matrix a
+  public static CSRMatrix fromDense(int m, int n, double[] a, int lda) {
+    Objects.requireNonNull(a);
+    int nnz = 0;
+    for (int row = 0; row < m; row++) {
+      for (int col = 0; col < n; col++) {
+        if (a[row + col * lda] != 0.0) {
+          nnz++;
+        }
+      }
+    }
+    double[] values = new double[nnz];
+    int[] colind = new int[nnz];
+    int[] rowptr = new int[m + 1];
+    for (int row = 0, k = 0; row < m; row++) {
+      for (int col = 0; col < n; col++) {
+        if (a[row + col * lda] != 0.0) {
+          values[k] = a[row + col * lda];
+          colind[k] = col;
+          k++;
+        }
+      }
+      rowptr[row + 1] = k;
+    }
+    return new CSRMatrix(m, n, values, colind, rowptr);
+  }
+
+  public int m() {
+    return m;
+  }
+
+  public int n() {
+    return n;
+  }
+
+  public int nnz() {
+    return rowptr[m];
+  }
+
+  public double[] values() {
+    return values;
+  }
+
+  public int[] colind() {
+    return colind;
+  }
+
+  public int[] rowptr() {
+    return rowptr;
+  }
+
+  // The n by m transpose, sharing the same arrays
+  public CSCMatrix transpose() {
+    return new CSCMatrix(n, m, values, colind, rowptr);
+  }
+
+  // y = A * x
+  public void multiply(double[] x, int offsetx, double[] y, int offsety) {
+    multiply(BLAS.getInstance(), "N", 1.0, x, offsetx, 0.0, y, offsety);
+  }
+
+  // y = A.t * x
+  public void multiplyTranspose(double[] x, int offsetx, double[] y, int offsety) {
+    multiply(BLAS.getInstance(), "T", 1.0, x, offsetx, 0.0, y, offsety);
+  }
+
+  // y = alpha * A * x + beta * y or y = alpha * A.t * x + beta * y, with dcsrmv
+  public void multiply(BLAS blas, String trans, double alpha, double[] x, int offsetx, double beta, double[] y, int offsety) {
+    blas.dcsrmv(trans, m, n, alpha, values, 0, colind, 0, rowptr, 0, x, offsetx, beta, y, offsety);
+  }
+
+  // Checks the arrays of a compressed matrix with major rows or columns, and minor ones
+  static void checkCompressed(int major, int minor, double[] values, int[] index, int[] pointers) {
+    Objects.requireNonNull(values);
+    Objects.requireNonNull(index);
+    Objects.requireNonNull(pointers);
+    if (major < 0 || minor < 0) {
+      throw new IllegalArgumentException("negative dimension " + major + " by " + minor);
+    }
+    if (pointers.length < major + 1 || pointers[0] != 0) {
+      throw new IllegalArgumentException("pointers must have " + (major + 1) + " elements starting at 0");
+    }
+    for (int i = 0; i < major; i++) {
+      if (pointers[i] > pointers[i + 1]) {
+        throw new IllegalArgumentException("pointers must be non-decreasing, got " + pointers[i] + " then " + pointers[i + 1] + " at " + i);
+      }
+    }
+    int nnz = pointers[major];
+    if (values.length < nnz || index.length < nnz) {
+      throw new IllegalArgumentException("values and indices must have at least " + nnz + " elements");
+    }
+    for (int k = 0; k < nnz; k++) {
+      if (index[k] < 0 || index[k] >= minor) {
+        throw new IllegalArgumentException("index " + index[k] + " at " + k + " out of bounds for dimension " + minor);
+      }
+    }
+  }
+}
@@ -0,0 +1,611 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+// Routes each call to the Java or the native implementation depending on the
+// problem size: below the routine's threshold the cost of crossing into native
+// code dominates and the Java implementation is faster. The size is the number
+// of vector elements for level 1 routines, the number of matrix elements
+// touched for level 2 routines, and the number of multiply-adds for level 3
+// routines (m * n * k for gemm). A routine without a threshold always goes to
+// the native implementation. The threading controls of NativeBLAS apply to the
+// native implementation only.
+final class HybridBLAS extends AbstractBLAS implements NativeBLAS {
+
+  static final String THRESHOLDS_RESOURCE = "hybrid-thresholds.properties";
+
+  private final AbstractBLAS javaBlas;
+  private final AbstractBLAS nativeBlas;
+  // The same instance as nativeBlas, for the threading controls
+  private final NativeBLAS nativeThreading;
+
+  private final long dasumThreshold;
+  private final long sasumThreshold;
+  private final long daxpyThreshold;
+  private final long saxpyThreshold;
+  private final long dcopyThreshold;
+  private final long scopyThreshold;
+  private final long ddotThreshold;
+  private final long sdotThreshold;
+  private final long sdsdotThreshold;
+  private final long dgbmvThreshold;
+  private final long sgbmvThreshold;
+  private final long dgemmThreshold;
+  private final long sgemmThreshold;
+  private final long dgemvThreshold;
+  private final long sgemvThreshold;
+  private final long dgerThreshold;
+  private final long sgerThreshold;
+  private final long dnrm2Threshold;
+  private final long snrm2Threshold;
+  private final long drotThreshold;
+  private final long srotThreshold;
+  private final long drotmThreshold;
+  private final long srotmThreshold;
+  private final long drotmgThreshold;
+  private final long srotmgThreshold;
+  private final long dsbmvThreshold;
+  private final long ssbmvThreshold;
+  private final long dscalThreshold;
+  private final long sscalThreshold;
+  private final long dspmvThreshold;
+  private final long sspmvThreshold;
+  private final long dsprThreshold;
+  private final long ssprThreshold;
+  private final long dspr2Threshold;
+  private final long sspr2Threshold;
+  private final long dswapThreshold;
+  private final long sswapThreshold;
+  private final long dsymmThreshold;
+  private final long ssymmThreshold;
+  private final long dsymvThreshold;
+  private final long ssymvThreshold;
+  private final long dsyrThreshold;
+  private final long ssyrThreshold;
+  private final long dsyr2Threshold;
+  private final long ssyr2Threshold;
+  private final long dsyr2kThreshold;
+  private final long ssyr2kThreshold;
+  private final long dsyrkThreshold;
+  private final long ssyrkThreshold;
+  private final long dtbmvThreshold;
+  private final long stbmvThreshold;
+  private final long dtbsvThreshold;
+  private final long stbsvThreshold;
+  private final long dtpmvThreshold;
+  private final long stpmvThreshold;
+  private final long dtpsvThreshold;
+  private final long stpsvThreshold;
+  private final long dtrmmThreshold;
+  private final long strmmThreshold;
+  private final long dtrmvThreshold;
+  private final long strmvThreshold;
+  private final long dtrsmThreshold;
+  private final long strsmThreshold;
+  private final long dtrsvThreshold;
+  private final long strsvThreshold;
+  private final long idamaxThreshold;
+  private final long isamaxThreshold;
+
+  HybridBLAS(AbstractBLAS javaBlas, NativeBLAS nativeBlas, Properties thresholds) {
+    this.javaBlas = javaBlas;
+    this.nativeBlas = (AbstractBLAS)nativeBlas;
+    this.nativeThreading = nativeBlas;
+    dasumThreshold = threshold(thresholds, "dasum");
+    sasumThreshold = threshold(thresholds, "sasum");
+    daxpyThreshold = threshold(thresholds, "daxpy");
+    saxpyThreshold = threshold(thresholds, "saxpy");
+    dcopyThreshold = threshold(thresholds, "dcopy");
+    scopyThreshold = threshold(thresholds, "scopy");
+    ddotThreshold = threshold(thresholds, "ddot");
+    sdotThreshold = threshold(thresholds, "sdot");
+    sdsdotThreshold = threshold(thresholds, "sdsdot");
+    dgbmvThreshold = threshold(thresholds, "dgbmv");
+    sgbmvThreshold = threshold(thresholds, "sgbmv");
+    dgemmThreshold = threshold(thresholds, "dgemm");
+    sgemmThreshold = threshold(thresholds, "sgemm");
+    dgemvThreshold = threshold(thresholds, "dgemv");
+    sgemvThreshold = threshold(thresholds, "sgemv");
+    dgerThreshold = threshold(thresholds, "dger");
+    sgerThreshold = threshold(thresholds, "sger");
+    dnrm2Threshold = threshold(thresholds, "dnrm2");
+    snrm2Threshold = threshold(thresholds, "snrm2");
+    drotThreshold = threshold(thresholds, "drot");
+    srotThreshold = threshold(thresholds, "srot");
+    drotmThreshold = threshold(thresholds, "drotm");
+    srotmThreshold = threshold(thresholds, "srotm");
+    drotmgThreshold = threshold(thresholds, "drotmg");
+    srotmgThreshold = threshold(thresholds, "srotmg");
+    dsbmvThreshold = threshold(thresholds, "dsbmv");
+    ssbmvThreshold = threshold(thresholds, "ssbmv");
+    dscalThreshold = threshold(thresholds, "dscal");
+    sscalThreshold = threshold(thresholds, "sscal");
+    dspmvThreshold = threshold(thresholds, "dspmv");
+    sspmvThreshold = threshold(thresholds, "sspmv");
+    dsprThreshold = threshold(thresholds, "dspr");
+    ssprThreshold = threshold(thresholds, "sspr");
+    dspr2Threshold = threshold(thresholds, "dspr2");
+    sspr2Threshold = threshold(thresholds, "sspr2");
+    dswapThreshold = threshold(thresholds, "dswap");
+    sswapThreshold = threshold(thresholds, "sswap");
+    dsymmThreshold = threshold(thresholds, "dsymm");
+    ssymmThreshold = threshold(thresholds, "ssymm");
+    dsymvThreshold = threshold(thresholds, "dsymv");
+    ssymvThreshold = threshold(thresholds, "ssymv");
+    dsyrThreshold = threshold(thresholds, "dsyr");
+    ssyrThreshold = threshold(thresholds, "ssyr");
+    dsyr2Threshold = threshold(thresholds, "dsyr2");
+    ssyr2Threshold = threshold(thresholds, "ssyr2");
+    dsyr2kThreshold = threshold(thresholds, "dsyr2k");
+    ssyr2kThreshold = threshold(thresholds, "ssyr2k");
+    dsyrkThreshold = threshold(thresholds, "dsyrk");
+    ssyrkThreshold = threshold(thresholds, "ssyrk");
+    dtbmvThreshold = threshold(thresholds, "dtbmv");
+    stbmvThreshold = threshold(thresholds, "stbmv");
+    dtbsvThreshold = threshold(thresholds, "dtbsv");
+    stbsvThreshold = threshold(thresholds, "stbsv");
+    dtpmvThreshold = threshold(thresholds, "dtpmv");
+    stpmvThreshold = threshold(thresholds, "stpmv");
+    dtpsvThreshold = threshold(thresholds, "dtpsv");
+    stpsvThreshold = threshold(thresholds, "stpsv");
+    dtrmmThreshold = threshold(thresholds, "dtrmm");
+    strmmThreshold = threshold(thresholds, "strmm");
+    dtrmvThreshold = threshold(thresholds, "dtrmv");
+    strmvThreshold = threshold(thresholds, "strmv");
+    dtrsmThreshold = threshold(thresholds, "dtrsm");
+    strsmThreshold = threshold(thresholds, "strsm");
+    dtrsvThreshold = threshold(thresholds, "dtrsv");
+    strsvThreshold = threshold(thresholds, "strsv");
+    idamaxThreshold = threshold(thresholds, "idamax");
+    isamaxThreshold = threshold(thresholds, "isamax");
+  }
+
+  private static long threshold(Properties thresholds, String routine) {
+    String value = thresholds.getProperty(routine);
+    if (value == null) {
+      return 0;
+    }
+    long threshold = Long.parseLong(value.trim());
+    if (threshold < 0) {
+      throw new IllegalArgumentException("Invalid threshold for " + routine + ": " + value);
+    }
+    return threshold;
+  }
+
+  // Loads the thresholds calibrated for the bundled implementations, overlaid
+  // with the ones from the file named by BLAS.HYBRID_BLAS_THRESHOLDS if set
+  static Properties loadThresholds() {
+    Properties thresholds = new Properties();
+    try {
+      try (InputStream is = HybridBLAS.class.getResourceAsStream(THRESHOLDS_RESOURCE)) {
+        if (is != null) {
+          thresholds.load(is);
+        }
+      }
+      String path = System.getProperty(BLAS.HYBRID_BLAS_THRESHOLDS);
+      if (path != null) {
+        try (InputStream is = Files.newInputStream(Paths.get(path))) {
+          thresholds.load(is);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to load hybrid BLAS thresholds", e);
+    }
+    return thresholds;
+  }
+
+  public int getNumThreads() {
+    return nativeThreading.getNumThreads();
+  }
+
+  public void setNumThreads(int numThreads) {
+    nativeThreading.setNumThreads(numThreads);
+  }
+
+  public <T> T withNumThreads(int numThreads, Supplier<T> task) {
+    return nativeThreading.withNumThreads(numThreads, task);
+  }
+
+  protected double dasumK(int n, double[] x, int offsetx, int incx) {
+    return (n < dasumThreshold ? javaBlas : nativeBlas).dasumK(n, x, offsetx, incx);
+  }
+
+  protected double dasumK(int n, DoubleBuffer x, int offsetx, int incx) {
+    return (n < dasumThreshold ? javaBlas : nativeBlas).dasumK(n, x, offsetx, incx);
+  }
+
+  protected float sasumK(int n, float[] x, int offsetx, int incx) {
+    return (n < sasumThreshold ? javaBlas : nativeBlas).sasumK(n, x, offsetx, incx);
+  }
+
+  protected float sasumK(int n, FloatBuffer x, int offsetx, int incx) {
+    return (n < sasumThreshold ? javaBlas : nativeBlas).sasumK(n, x, offsetx, incx);
+  }
+
+  protected void daxpyK(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    (n < daxpyThreshold ? javaBlas : nativeBlas).daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void daxpyK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    (n < daxpyThreshold ? javaBlas : nativeBlas).daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void saxpyK(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    (n < saxpyThreshold ? javaBlas : nativeBlas).saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void saxpyK(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    (n < saxpyThreshold ? javaBlas : nativeBlas).saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void dcopyK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    (n < dcopyThreshold ? javaBlas : nativeBlas).dcopyK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void dcopyK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    (n < dcopyThreshold ? javaBlas : nativeBlas).dcopyK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void scopyK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    (n < scopyThreshold ? javaBlas : nativeBlas).scopyK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void scopyK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    (n < scopyThreshold ? javaBlas : nativeBlas).scopyK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  // The native libraries don't provide any sparse routine
+  protected void dcsrmvK(String trans, int m, int n, double alpha, double[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, double[] x, int offsetx, double beta, double[] y, int offsety) {
+    javaBlas.dcsrmvK(trans, m, n, alpha, values, offsetvalues, colind, offsetcolind, rowptr, offsetrowptr, x, offsetx, beta, y, offsety);
+  }
+
+  protected void scsrmvK(String trans, int m, int n, float alpha, float[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, float[] x, int offsetx, float beta, float[] y, int offsety) {
+    javaBlas.scsrmvK(trans, m, n, alpha, values, offsetvalues, colind, offsetcolind, rowptr, offsetrowptr, x, offsetx, beta, y, offsety);
+  }
+
+  protected double ddotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    return (n < ddotThreshold ? javaBlas : nativeBlas).ddotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected double ddotK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    return (n < ddotThreshold ? javaBlas : nativeBlas).ddotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected float sdotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    return (n < sdotThreshold ? javaBlas : nativeBlas).sdotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected float sdotK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    return (n < sdotThreshold ? javaBlas : nativeBlas).sdotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected float sdsdotK(int n, float sb, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    return (n < sdsdotThreshold ? javaBlas : nativeBlas).sdsdotK(n, sb, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void dgbmvK(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    ((long)n * (kl + ku + 1) < dgbmvThreshold ? javaBlas : nativeBlas).dgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void sgbmvK(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    ((long)n * (kl + ku + 1) < sgbmvThreshold ? javaBlas : nativeBlas).sgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    ((long)m * n * k < dgemmThreshold ? javaBlas : nativeBlas).dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    ((long)m * n * k < dgemmThreshold ? javaBlas : nativeBlas).dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    ((long)m * n * k < sgemmThreshold ? javaBlas : nativeBlas).sgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    ((long)m * n * k < sgemmThreshold ? javaBlas : nativeBlas).sgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void dgemvK(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    ((long)m * n < dgemvThreshold ? javaBlas : nativeBlas).dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dgemvK(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    ((long)m * n < dgemvThreshold ? javaBlas : nativeBlas).dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void sgemvK(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    ((long)m * n < sgemvThreshold ? javaBlas : nativeBlas).sgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void sgemvK(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    ((long)m * n < sgemvThreshold ? javaBlas : nativeBlas).sgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dgerK(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    ((long)m * n < dgerThreshold ? javaBlas : nativeBlas).dgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected void dgerK(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    ((long)m * n < dgerThreshold ? javaBlas : nativeBlas).dgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected void sgerK(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    ((long)m * n < sgerThreshold ? javaBlas : nativeBlas).sgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected void sgerK(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    ((long)m * n < sgerThreshold ? javaBlas : nativeBlas).sgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected double dnrm2K(int n, double[] x, int offsetx, int incx) {
+    return (n < dnrm2Threshold ? javaBlas : nativeBlas).dnrm2K(n, x, offsetx, incx);
+  }
+
+  protected double dnrm2K(int n, DoubleBuffer x, int offsetx, int incx) {
+    return (n < dnrm2Threshold ? javaBlas : nativeBlas).dnrm2K(n, x, offsetx, incx);
+  }
+
+  protected float snrm2K(int n, float[] x, int offsetx, int incx) {
+    return (n < snrm2Threshold ? javaBlas : nativeBlas).snrm2K(n, x, offsetx, incx);
+  }
+
+  protected float snrm2K(int n, FloatBuffer x, int offsetx, int incx) {
+    return (n < snrm2Threshold ? javaBlas : nativeBlas).snrm2K(n, x, offsetx, incx);
+  }
+
+  protected void drotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double c, double s) {
+    (n < drotThreshold ? javaBlas : nativeBlas).drotK(n, x, offsetx, incx, y, offsety, incy, c, s);
+  }
+
+  protected void srotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float c, float s) {
+    (n < srotThreshold ? javaBlas : nativeBlas).srotK(n, x, offsetx, incx, y, offsety, incy, c, s);
+  }
+
+  protected void drotmK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] param, int offsetparam) {
+    (n < drotmThreshold ? javaBlas : nativeBlas).drotmK(n, x, offsetx, incx, y, offsety, incy, param, offsetparam);
+  }
+
+  protected void srotmK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] param, int offsetparam) {
+    (n < srotmThreshold ? javaBlas : nativeBlas).srotmK(n, x, offsetx, incx, y, offsety, incy, param, offsetparam);
+  }
+
+  protected void drotmgK(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] param, int offsetparam) {
+    (1 < drotmgThreshold ? javaBlas : nativeBlas).drotmgK(dd1, dd2, dx1, dy1, param, offsetparam);
+  }
+
+  protected void srotmgK(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, float[] param, int offsetparam) {
+    (1 < srotmgThreshold ? javaBlas : nativeBlas).srotmgK(sd1, sd2, sx1, sy1, param, offsetparam);
+  }
+
+  protected void dsbmvK(String uplo, int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    ((long)n * (k + 1) < dsbmvThreshold ? javaBlas : nativeBlas).dsbmvK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void ssbmvK(String uplo, int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    ((long)n * (k + 1) < ssbmvThreshold ? javaBlas : nativeBlas).ssbmvK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dscalK(int n, double alpha, double[] x, int offsetx, int incx) {
+    (n < dscalThreshold ? javaBlas : nativeBlas).dscalK(n, alpha, x, offsetx, incx);
+  }
+
+  protected void dscalK(int n, double alpha, DoubleBuffer x, int offsetx, int incx) {
+    (n < dscalThreshold ? javaBlas : nativeBlas).dscalK(n, alpha, x, offsetx, incx);
+  }
+
+  protected void sscalK(int n, float alpha, float[] x, int offsetx, int incx) {
+    (n < sscalThreshold ? javaBlas : nativeBlas).sscalK(n, alpha, x, offsetx, incx);
+  }
+
+  protected void sscalK(int n, float alpha, FloatBuffer x, int offsetx, int incx) {
+    (n < sscalThreshold ? javaBlas : nativeBlas).sscalK(n, alpha, x, offsetx, incx);
+  }
+
+  protected void dspmvK(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    ((long)n * n < dspmvThreshold ? javaBlas : nativeBlas).dspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void sspmvK(String uplo, int n, float alpha, float[] a, int offseta, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    ((long)n * n < sspmvThreshold ? javaBlas : nativeBlas).sspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dsprK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta) {
+    ((long)n * n < dsprThreshold ? javaBlas : nativeBlas).dsprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+  }
+
+  protected void ssprK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta) {
+    ((long)n * n < ssprThreshold ? javaBlas : nativeBlas).ssprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+  }
+
+  protected void dspr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta) {
+    ((long)n * n < dspr2Threshold ? javaBlas : nativeBlas).dspr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+  }
+
+  protected void sspr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta) {
+    ((long)n * n < sspr2Threshold ? javaBlas : nativeBlas).sspr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+  }
+
+  protected void dswapK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    (n < dswapThreshold ? javaBlas : nativeBlas).dswapK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void dswapK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    (n < dswapThreshold ? javaBlas : nativeBlas).dswapK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void sswapK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    (n < sswapThreshold ? javaBlas : nativeBlas).sswapK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void sswapK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    (n < sswapThreshold ? javaBlas : nativeBlas).sswapK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void dsymmK(String side, String uplo, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    ((long)m * n * (lsame("L", side) ? m : n) < dsymmThreshold ? javaBlas : nativeBlas).dsymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void ssymmK(String side, String uplo, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    ((long)m * n * (lsame("L", side) ? m : n) < ssymmThreshold ? javaBlas : nativeBlas).ssymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void dsymvK(String uplo, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    ((long)n * n < dsymvThreshold ? javaBlas : nativeBlas).dsymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void ssymvK(String uplo, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    ((long)n * n < ssymvThreshold ? javaBlas : nativeBlas).ssymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dsyrK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta, int lda) {
+    ((long)n * n < dsyrThreshold ? javaBlas : nativeBlas).dsyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+  }
+
+  protected void ssyrK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta, int lda) {
+    ((long)n * n < ssyrThreshold ? javaBlas : nativeBlas).ssyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+  }
+
+  protected void dsyr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    ((long)n * n < dsyr2Threshold ? javaBlas : nativeBlas).dsyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected void ssyr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    ((long)n * n < ssyr2Threshold ? javaBlas : nativeBlas).ssyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected void dsyr2kK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    ((long)n * n * k < dsyr2kThreshold ? javaBlas : nativeBlas).dsyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void ssyr2kK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    ((long)n * n * k < ssyr2kThreshold ? javaBlas : nativeBlas).ssyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void dsyrkK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int ldc) {
+    ((long)n * n * k < dsyrkThreshold ? javaBlas : nativeBlas).dsyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+  }
+
+  protected void ssyrkK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int ldc) {
+    ((long)n * n * k < ssyrkThreshold ? javaBlas : nativeBlas).ssyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+  }
+
+  protected void dtbmvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    ((long)n * (k + 1) < dtbmvThreshold ? javaBlas : nativeBlas).dtbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void stbmvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    ((long)n * (k + 1) < stbmvThreshold ? javaBlas : nativeBlas).stbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void dtbsvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    ((long)n * (k + 1) < dtbsvThreshold ? javaBlas : nativeBlas).dtbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void stbsvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    ((long)n * (k + 1) < stbsvThreshold ? javaBlas : nativeBlas).stbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void dtpmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx) {
+    ((long)n * n < dtpmvThreshold ? javaBlas : nativeBlas).dtpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void stpmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx) {
+    ((long)n * n < stpmvThreshold ? javaBlas : nativeBlas).stpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void dtpsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx) {
+    ((long)n * n < dtpsvThreshold ? javaBlas : nativeBlas).dtpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void stpsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx) {
+    ((long)n * n < stpsvThreshold ? javaBlas : nativeBlas).stpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void dtrmmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    ((long)m * n * (lsame("L", side) ? m : n) < dtrmmThreshold ? javaBlas : nativeBlas).dtrmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void strmmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    ((long)m * n * (lsame("L", side) ? m : n) < strmmThreshold ? javaBlas : nativeBlas).strmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void dtrmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    ((long)n * n < dtrmvThreshold ? javaBlas : nativeBlas).dtrmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void strmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    ((long)n * n < strmvThreshold ? javaBlas : nativeBlas).strmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void dtrsmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    ((long)m * n * (lsame("L", side) ? m : n) < dtrsmThreshold ? javaBlas : nativeBlas).dtrsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void strsmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    ((long)m * n * (lsame("L", side) ? m : n) < strsmThreshold ? javaBlas : nativeBlas).strsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void dtrsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    ((long)n * n < dtrsvThreshold ? javaBlas : nativeBlas).dtrsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void strsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    ((long)n * n < strsvThreshold ? javaBlas : nativeBlas).strsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected int idamaxK(int n, double[] x, int offsetx, int incx) {
+    return (n < idamaxThreshold ? javaBlas : nativeBlas).idamaxK(n, x, offsetx, incx);
+  }
+
+  protected int idamaxK(int n, DoubleBuffer x, int offsetx, int incx) {
+    return (n < idamaxThreshold ? javaBlas : nativeBlas).idamaxK(n, x, offsetx, incx);
+  }
+
+  protected int isamaxK(int n, float[] x, int offsetx, int incx) {
+    return (n < isamaxThreshold ? javaBlas : nativeBlas).isamaxK(n, x, offsetx, incx);
+  }
+
+  protected int isamaxK(int n, FloatBuffer x, int offsetx, int incx) {
+    return (n < isamaxThreshold ? javaBlas : nativeBlas).isamaxK(n, x, offsetx, incx);
+  }
+
+  // A batch crosses into native code only once whatever its number of operations
+  protected void executeK(BLASBatch batch, double[] results) {
+    nativeBlas.executeK(batch, results);
+  }
+}
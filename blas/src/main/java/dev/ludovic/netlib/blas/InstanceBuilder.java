@@ -46,7 +46,7 @@ final class InstanceBuilder {
       nativeBlas = null;
     }
     javaBlas = initializeJava();
-    blas = nativeBlas != null ? nativeBlas : javaBlas;
+    blas = nativeBlas != null ? initializeHybrid(nativeBlas, javaBlas) : javaBlas;
 
     log.info("Using " + blas.getClass().getName());
   }
@@ -56,6 +56,27 @@ final class InstanceBuilder {
   }
 
   private static NativeBLAS initializeNative() {
+    String[] fullVersion = System.getProperty("java.version").split("[+.\\-]+", 2);
+    int major = Integer.parseInt(fullVersion[0]);
+    if (Offload.enabled()) {
+      // FFM downcalls pin the carrier thread just like JNI ones, but only the JNI binding offloads them
+      try {
+        return OffloadingJNIBLAS.getInstance();
+      } catch (Throwable t) {
+        log.log(Level.FINE, "Failed to load implementation from: " + OffloadingJNIBLAS.class.getName(), t);
+      }
+    }
+    // Opt-in until the FFM binding is built, tested, and benchmarked on JDK 22+
+    if (major >= 22 && Boolean.getBoolean(BLAS.FFM_BLAS)) {
+      // FFMBLAS is only compiled on JDK 22+ (see the ffm profile), hence the lookup by name
+      String ffm = "dev.ludovic.netlib.blas.FFMBLAS";
+      try {
+        log.finest("trying to return java 22 instance");
+        return (NativeBLAS)Class.forName(ffm).getMethod("getInstance").invoke(null);
+      } catch (Throwable t) {
+        log.log(Level.FINE, "Failed to load implementation from: " + ffm, t);
+      }
+    }
     try {
       return JNIBLAS.getInstance();
     } catch (Throwable t) {
@@ -71,6 +92,22 @@ final class InstanceBuilder {
     return nativeBlas;
   }
 
+  private static BLAS initializeHybrid(NativeBLAS nativeBlas, JavaBLAS javaBlas) {
+    // Opt-in until the default thresholds are calibrated on a range of machines
+    String hybridBlas = System.getProperty(BLAS.HYBRID_BLAS, "false");
+    if (!Boolean.parseBoolean(hybridBlas)) {
+      log.finest("skip dispatching small calls to the Java BLAS implementation because system property " +
+              BLAS.HYBRID_BLAS + " is " + hybridBlas);
+      return nativeBlas;
+    }
+    try {
+      return new HybridBLAS((AbstractBLAS)javaBlas, nativeBlas, HybridBLAS.loadThresholds());
+    } catch (Throwable t) {
+      log.log(Level.FINE, "Failed to load implementation from: " + HybridBLAS.class.getName(), t);
+      return nativeBlas;
+    }
+  }
+
   private static JavaBLAS initializeJava() {
     String[] fullVersion = System.getProperty("java.version").split("[+.\\-]+", 2);
     int major = Integer.parseInt(fullVersion[0]);
@@ -25,24 +25,20 @@
 
 package dev.ludovic.netlib.blas;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.UncheckedIOException;
-import java.nio.file.FileSystems;
-import java.nio.file.Files;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.FileAttribute;
-import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
-final class JNIBLAS extends AbstractBLAS implements NativeBLAS {
+class JNIBLAS extends AbstractBLAS implements NativeBLAS {
 
   private static final Logger log = Logger.getLogger(JNIBLAS.class.getName());
 
-  private static final JNIBLAS instance = new JNIBLAS();
-
-  protected JNIBLAS() {
+  // Loaded once for the class rather than in the constructor, which also runs for subclasses
+  static {
     String osName = System.getProperty("os.name");
     if (osName == null || osName.isEmpty()) {
         throw new RuntimeException("Unable to load native implementation");
@@ -63,28 +59,90 @@ final class JNIBLAS extends AbstractBLAS implements NativeBLAS {
     String libName = libPrefix + libExtension;
 
     log.fine(String.format("Trying to load native implementation from resource: resources/native/%s-%s/%s", osName, osArch, libName));
-    FileAttribute<?>[] attrs = FileSystems.getDefault()
-     .supportedFileAttributeViews().contains("posix")
-     ? new FileAttribute<?>[]{ PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwxr-x---")) }
-     : new FileAttribute<?>[0];
-
-    Path temp;
-    try (InputStream resource = this.getClass().getClassLoader().getResourceAsStream(
-            String.format("resources/native/%s-%s/%s", osName, osArch, libName))) {
-      assert resource != null;
-      Files.copy(resource, temp = Files.createTempFile(libPrefix, libExtension, attrs), StandardCopyOption.REPLACE_EXISTING);
-      temp.toFile().deleteOnExit();
-    } catch (IOException e) {
-      throw new UncheckedIOException("Unable to load native implementation", e);
-    }
+    Path lib = NativeLibraryCache.extract(JNIBLAS.class.getClassLoader(),
+        String.format("resources/native/%s-%s/%s", osName, osArch, libName), libPrefix, libExtension, BLAS.NATIVE_CACHE_DIR);
 
-    System.load(temp.toString());
+    System.load(lib.toString());
   }
 
+  private static final JNIBLAS instance = new JNIBLAS();
+
+  // The per-thread override set by withNumThreads on the current thread, or 0
+  private static final ThreadLocal<Integer> localNumThreads = ThreadLocal.withInitial(() -> 0);
+
+  protected JNIBLAS() {}
+
   public static NativeBLAS getInstance() {
     return instance;
   }
 
+  public int getNumThreads() {
+    return getNumThreadsK();
+  }
+
+  public void setNumThreads(int numThreads) {
+    if (numThreads < 1) {
+      throw new IllegalArgumentException("numThreads must be positive: " + numThreads);
+    }
+    setNumThreadsK(numThreads);
+  }
+
+  public <T> T withNumThreads(int numThreads, Supplier<T> task) {
+    if (numThreads < 1) {
+      throw new IllegalArgumentException("numThreads must be positive: " + numThreads);
+    }
+    Objects.requireNonNull(task);
+    int previous = setLocalNumThreadsK(numThreads);
+    if (previous >= 0) {
+      int outer = localNumThreads.get();
+      localNumThreads.set(numThreads);
+      try {
+        return task.get();
+      } finally {
+        localNumThreads.set(outer);
+        setLocalNumThreadsK(previous);
+      }
+    }
+    previous = getNumThreadsK();
+    setNumThreadsK(numThreads);
+    try {
+      return task.get();
+    } finally {
+      setNumThreadsK(previous);
+    }
+  }
+
+  // Runs body with the per-thread override that the calling thread set with
+  // withNumThreads, if any, for a call made on its behalf from another thread
+  protected Runnable withLocalNumThreads(Runnable body) {
+    int numThreads = localNumThreads.get();
+    if (numThreads == 0) {
+      return body;
+    }
+    return () -> {
+      int previous = setLocalNumThreadsK(numThreads);
+      try {
+        body.run();
+      } finally {
+        setLocalNumThreadsK(previous);
+      }
+    };
+  }
+
+  private native int getNumThreadsK();
+
+  private native void setNumThreadsK(int numThreads);
+
+  // Returns the previous value to restore, or -1 if the library has no per-thread control
+  private native int setLocalNumThreadsK(int numThreads);
+
+  // Runs the whole batch in a single native call
+  protected void executeK(BLASBatch batch, double[] results) {
+    executeBatchK(batch.arrays(), batch.program(), batch.length(), batch.scalars(), results);
+  }
+
+  private native void executeBatchK(double[][] arrays, int[] program, int length, double[] scalars, double[] results);
+
   protected native double dasumK(int n, double[] x, int offsetx, int incx);
 
   protected native float sasumK(int n, float[] x, int offsetx, int incx);
@@ -218,4 +276,233 @@ final class JNIBLAS extends AbstractBLAS implements NativeBLAS {
   protected native int idamaxK(int n, double[] dx, int offsetdx, int incdx);
 
   protected native int isamaxK(int n, float[] sx, int offsetsx, int incx);
+
+  // Direct buffers in the native byte order are handed to the native library as is, the others are copied
+  private static boolean isDirect(DoubleBuffer buffer) {
+    return buffer.isDirect() && buffer.order() == ByteOrder.nativeOrder();
+  }
+
+  private static boolean isDirect(FloatBuffer buffer) {
+    return buffer.isDirect() && buffer.order() == ByteOrder.nativeOrder();
+  }
+
+  protected double dasumK(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (isDirect(x)) {
+      return dasumDirectK(n, x, offsetx, incx);
+    } else {
+      return super.dasumK(n, x, offsetx, incx);
+    }
+  }
+
+  private native double dasumDirectK(int n, DoubleBuffer x, int offsetx, int incx);
+
+  protected float sasumK(int n, FloatBuffer x, int offsetx, int incx) {
+    if (isDirect(x)) {
+      return sasumDirectK(n, x, offsetx, incx);
+    } else {
+      return super.sasumK(n, x, offsetx, incx);
+    }
+  }
+
+  private native float sasumDirectK(int n, FloatBuffer x, int offsetx, int incx);
+
+  protected void daxpyK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (isDirect(x) && isDirect(y)) {
+      daxpyDirectK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    } else {
+      super.daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private native void daxpyDirectK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
+
+  protected void saxpyK(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (isDirect(x) && isDirect(y)) {
+      saxpyDirectK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    } else {
+      super.saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private native void saxpyDirectK(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
+
+  protected void dcopyK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (isDirect(x) && isDirect(y)) {
+      dcopyDirectK(n, x, offsetx, incx, y, offsety, incy);
+    } else {
+      super.dcopyK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private native void dcopyDirectK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
+
+  protected void scopyK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (isDirect(x) && isDirect(y)) {
+      scopyDirectK(n, x, offsetx, incx, y, offsety, incy);
+    } else {
+      super.scopyK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private native void scopyDirectK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
+
+  protected double ddotK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (isDirect(x) && isDirect(y)) {
+      return ddotDirectK(n, x, offsetx, incx, y, offsety, incy);
+    } else {
+      return super.ddotK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private native double ddotDirectK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
+
+  protected float sdotK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (isDirect(x) && isDirect(y)) {
+      return sdotDirectK(n, x, offsetx, incx, y, offsety, incy);
+    } else {
+      return super.sdotK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private native float sdotDirectK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
+
+  protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (isDirect(a) && isDirect(b) && isDirect(c)) {
+      dgemmDirectK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    } else {
+      super.dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  private native void dgemmDirectK(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc);
+
+  protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (isDirect(a) && isDirect(b) && isDirect(c)) {
+      sgemmDirectK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    } else {
+      super.sgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  private native void sgemmDirectK(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc);
+
+  protected void dgemvK(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (isDirect(a) && isDirect(x) && isDirect(y)) {
+      dgemvDirectK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else {
+      super.dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private native void dgemvDirectK(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy);
+
+  protected void sgemvK(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (isDirect(a) && isDirect(x) && isDirect(y)) {
+      sgemvDirectK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else {
+      super.sgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private native void sgemvDirectK(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy);
+
+  protected void dgerK(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    if (isDirect(x) && isDirect(y) && isDirect(a)) {
+      dgerDirectK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    } else {
+      super.dgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  private native void dgerDirectK(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda);
+
+  protected void sgerK(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    if (isDirect(x) && isDirect(y) && isDirect(a)) {
+      sgerDirectK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    } else {
+      super.sgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  private native void sgerDirectK(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda);
+
+  protected double dnrm2K(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (isDirect(x)) {
+      return dnrm2DirectK(n, x, offsetx, incx);
+    } else {
+      return super.dnrm2K(n, x, offsetx, incx);
+    }
+  }
+
+  private native double dnrm2DirectK(int n, DoubleBuffer x, int offsetx, int incx);
+
+  protected float snrm2K(int n, FloatBuffer x, int offsetx, int incx) {
+    if (isDirect(x)) {
+      return snrm2DirectK(n, x, offsetx, incx);
+    } else {
+      return super.snrm2K(n, x, offsetx, incx);
+    }
+  }
+
+  private native float snrm2DirectK(int n, FloatBuffer x, int offsetx, int incx);
+
+  protected void dscalK(int n, double alpha, DoubleBuffer x, int offsetx, int incx) {
+    if (isDirect(x)) {
+      dscalDirectK(n, alpha, x, offsetx, incx);
+    } else {
+      super.dscalK(n, alpha, x, offsetx, incx);
+    }
+  }
+
+  private native void dscalDirectK(int n, double alpha, DoubleBuffer x, int offsetx, int incx);
+
+  protected void sscalK(int n, float alpha, FloatBuffer x, int offsetx, int incx) {
+    if (isDirect(x)) {
+      sscalDirectK(n, alpha, x, offsetx, incx);
+    } else {
+      super.sscalK(n, alpha, x, offsetx, incx);
+    }
+  }
+
+  private native void sscalDirectK(int n, float alpha, FloatBuffer x, int offsetx, int incx);
+
+  protected void dswapK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (isDirect(x) && isDirect(y)) {
+      dswapDirectK(n, x, offsetx, incx, y, offsety, incy);
+    } else {
+      super.dswapK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private native void dswapDirectK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
+
+  protected void sswapK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (isDirect(x) && isDirect(y)) {
+      sswapDirectK(n, x, offsetx, incx, y, offsety, incy);
+    } else {
+      super.sswapK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private native void sswapDirectK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
+
+  protected int idamaxK(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (isDirect(x)) {
+      return idamaxDirectK(n, x, offsetx, incx);
+    } else {
+      return super.idamaxK(n, x, offsetx, incx);
+    }
+  }
+
+  private native int idamaxDirectK(int n, DoubleBuffer x, int offsetx, int incx);
+
+  protected int isamaxK(int n, FloatBuffer x, int offsetx, int incx) {
+    if (isDirect(x)) {
+      return isamaxDirectK(n, x, offsetx, incx);
+    } else {
+      return super.isamaxK(n, x, offsetx, incx);
+    }
+  }
+
+  private native int isamaxDirectK(int n, FloatBuffer x, int offsetx, int incx);
 }
@@ -2334,7 +2334,7 @@ class Java11BLAS extends Java8BLAS {
       double alphayiy1 = alpha * y[offsety + iy + incy * 1];
       double alphayiy2 = alpha * y[offsety + iy + incy * 2];
       double alphayiy3 = alpha * y[offsety + iy + incy * 3];
-      int row = 0, jx = incx < 0 ? (n - 1) * -incx : 0;
+      int row = 0, jx = incx < 0 ? (m - 1) * -incx : 0;
       for (; row < m; row += 1, jx += incx) {
         double xjx = x[offsetx + jx];
         a[offseta + row + (col + 0) * lda] = Math.fma(alphayiy0, xjx, a[offseta + row + (col + 0) * lda]);
@@ -2345,7 +2345,7 @@ class Java11BLAS extends Java8BLAS {
     }
     for (; col < n; col += 1, iy += incy) {
       double alphayiy = alpha * y[offsety + iy];
-      int row = 0, jx = incx < 0 ? (n - 1) * -incx : 0;
+      int row = 0, jx = incx < 0 ? (m - 1) * -incx : 0;
       for (; row < m; row += 1, jx += incx) {
         a[offseta + row + col * lda] = Math.fma(alphayiy, x[offsetx + jx], a[offseta + row + col * lda]);
       }
@@ -2359,7 +2359,7 @@ class Java11BLAS extends Java8BLAS {
       float alphayiy1 = alpha * y[offsety + iy + incy * 1];
       float alphayiy2 = alpha * y[offsety + iy + incy * 2];
       float alphayiy3 = alpha * y[offsety + iy + incy * 3];
-      int row = 0, jx = incx < 0 ? (n - 1) * -incx : 0;
+      int row = 0, jx = incx < 0 ? (m - 1) * -incx : 0;
       for (; row < m; row += 1, jx += incx) {
         float xjx = x[offsetx + jx];
         a[offseta + row + (col + 0) * lda] = Math.fma(alphayiy0, xjx, a[offseta + row + (col + 0) * lda]);
@@ -2370,7 +2370,7 @@ class Java11BLAS extends Java8BLAS {
     }
     for (; col < n; col += 1, iy += incy) {
       float alphayiy = alpha * y[offsety + iy];
-      int row = 0, jx = incx < 0 ? (n - 1) * -incx : 0;
+      int row = 0, jx = incx < 0 ? (m - 1) * -incx : 0;
       for (; row < m; row += 1, jx += incx) {
         a[offseta + row + col * lda] = Math.fma(alphayiy, x[offsetx + jx], a[offseta + row + col * lda]);
       }
@@ -25,6 +25,11 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
 class Java8BLAS extends AbstractBLAS implements JavaBLAS {
 
   private static final Java8BLAS instance = new Java8BLAS();
@@ -61,6 +66,32 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     return sum;
   }
 
+  protected double dasumK(int n, DoubleBuffer x, int offsetx, int incx) {
+    double sum = 0.0;
+    if (incx == 1) {
+      int ix = 0;
+      double sum0 = 0.0;
+      double sum1 = 0.0;
+      double sum2 = 0.0;
+      double sum3 = 0.0;
+      for (; ix < loopBound(n, 4); ix += 4) {
+        sum0 += Math.abs(x.get(offsetx + ix + 0));
+        sum1 += Math.abs(x.get(offsetx + ix + 1));
+        sum2 += Math.abs(x.get(offsetx + ix + 2));
+        sum3 += Math.abs(x.get(offsetx + ix + 3));
+      }
+      sum += sum0 + sum1 + sum2 + sum3;
+      for (; ix < n; ix += 1) {
+        sum += Math.abs(x.get(offsetx + ix));
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0; incx < 0 ? ix >= 0 : ix < n * incx; ix += incx) {
+        sum += Math.abs(x.get(offsetx + ix));
+      }
+    }
+    return sum;
+  }
+
   protected float sasumK(int n, float[] x, int offsetx, int incx) {
     float sum = 0.0f;
     if (incx == 1) {
@@ -87,6 +118,32 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     return sum;
   }
 
+  protected float sasumK(int n, FloatBuffer x, int offsetx, int incx) {
+    float sum = 0.0f;
+    if (incx == 1) {
+      int ix = 0;
+      float sum0 = 0.0f;
+      float sum1 = 0.0f;
+      float sum2 = 0.0f;
+      float sum3 = 0.0f;
+      for (; ix < loopBound(n, 4); ix += 4) {
+        sum0 += Math.abs(x.get(offsetx + ix + 0));
+        sum1 += Math.abs(x.get(offsetx + ix + 1));
+        sum2 += Math.abs(x.get(offsetx + ix + 2));
+        sum3 += Math.abs(x.get(offsetx + ix + 3));
+      }
+      sum += sum0 + sum1 + sum2 + sum3;
+      for (; ix < n; ix += 1) {
+        sum += Math.abs(x.get(offsetx + ix));
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0; incx < 0 ? ix >= 0 : ix < n * incx; ix += incx) {
+        sum += Math.abs(x.get(offsetx + ix));
+      }
+    }
+    return sum;
+  }
+
   protected void daxpyK(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
     if (incx == 1 && incy == 1) {
       for (int ix = 0, iy = 0; ix < n && iy < n; ix += 1, iy += 1) {
@@ -103,6 +160,22 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void daxpyK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      for (int ix = 0, iy = 0; ix < n && iy < n; ix += 1, iy += 1) {
+        y.put(offsety + iy, y.get(offsety + iy) + alpha * x.get(offsetx + ix));
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+             && (incy < 0 ? iy >= 0 : iy < n * incy);
+           ix += incx, iy += incy) {
+        y.put(offsety + iy, y.get(offsety + iy) + alpha * x.get(offsetx + ix));
+      }
+    }
+  }
+
   protected void saxpyK(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
     if (incx == 1 && incy == 1) {
       for (int ix = 0, iy = 0; ix < n && iy < n; ix += 1, iy += 1) {
@@ -119,6 +192,22 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void saxpyK(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      for (int ix = 0, iy = 0; ix < n && iy < n; ix += 1, iy += 1) {
+        y.put(offsety + iy, y.get(offsety + iy) + alpha * x.get(offsetx + ix));
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+             && (incy < 0 ? iy >= 0 : iy < n * incy);
+           ix += incx, iy += incy) {
+        y.put(offsety + iy, y.get(offsety + iy) + alpha * x.get(offsetx + ix));
+      }
+    }
+  }
+
   protected void dcopyK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
     if (incx == 1 && incy == 1) {
       System.arraycopy(x, offsetx, y, offsety, n);
@@ -133,6 +222,24 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void dcopyK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      DoubleBuffer src = x.duplicate();
+      DoubleBuffer dst = y.duplicate();
+      ((Buffer)src).limit(offsetx + n).position(offsetx);
+      ((Buffer)dst).position(offsety);
+      dst.put(src);
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+            && (incy < 0 ? iy >= 0 : iy < n * incy);
+           ix += incx, iy += incy) {
+        y.put(offsety + iy, x.get(offsetx + ix));
+      }
+    }
+  }
+
   protected void scopyK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
     if (incx == 1 && incy == 1) {
       System.arraycopy(x, offsetx, y, offsety, n);
@@ -147,6 +254,183 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void scopyK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      FloatBuffer src = x.duplicate();
+      FloatBuffer dst = y.duplicate();
+      ((Buffer)src).limit(offsetx + n).position(offsetx);
+      ((Buffer)dst).position(offsety);
+      dst.put(src);
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+            && (incy < 0 ? iy >= 0 : iy < n * incy);
+           ix += incx, iy += incy) {
+        y.put(offsety + iy, x.get(offsetx + ix));
+      }
+    }
+  }
+
+  protected void dcsrmvK(String trans, int m, int n, double alpha, double[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, double[] x, int offsetx, double beta, double[] y, int offsety) {
+    // an entry is a single multiply-add streamed from memory, hence worth splitting at fewer of them than gemm
+    int threads = Parallel.threads(8L * (rowptr[offsetrowptr + m] - rowptr[offsetrowptr]));
+    if (lsame("N", trans)) {
+      if (threads == 1) {
+        dcsrmvN(0, m, alpha, values, offsetvalues, colind, offsetcolind, rowptr, offsetrowptr, x, offsetx, beta, y, offsety);
+      } else {
+        // rows are independent, split them in tasks of about the same number of entries
+        int[] bounds = csrPartition(m, rowptr, offsetrowptr, 4 * threads);
+        Parallel.forEach(bounds.length - 1, task -> {
+          dcsrmvN(bounds[task], bounds[task + 1], alpha, values, offsetvalues, colind, offsetcolind, rowptr, offsetrowptr, x, offsetx, beta, y, offsety);
+        });
+      }
+    } else {
+      if (threads == 1) {
+        dcsrScal(n, beta, y, offsety);
+        dcsrmvT(0, m, alpha, values, offsetvalues, colind, offsetcolind, rowptr, offsetrowptr, x, offsetx, y, offsety);
+      } else {
+        // rows scatter into all of y, accumulate each task in its own copy and sum them after
+        int[] bounds = csrPartition(m, rowptr, offsetrowptr, threads);
+        int tasks = bounds.length - 1;
+        double[] partial = new double[tasks * n];
+        Parallel.forEach(tasks, task -> {
+          dcsrmvT(bounds[task], bounds[task + 1], alpha, values, offsetvalues, colind, offsetcolind, rowptr, offsetrowptr, x, offsetx, partial, task * n);
+        });
+        int[] columns = csrPartition(n, null, 0, tasks);
+        Parallel.forEach(columns.length - 1, task -> {
+          for (int col = columns[task]; col < columns[task + 1]; col += 1) {
+            double sum = beta == 0.0 ? 0.0 : beta * y[offsety + col];
+            for (int t = 0; t < tasks; t += 1) {
+              sum += partial[t * n + col];
+            }
+            y[offsety + col] = sum;
+          }
+        });
+      }
+    }
+  }
+
+  // y[start:end] = alpha * A[start:end] * x + beta * y[start:end]
+  protected void dcsrmvN(int start, int end, double alpha, double[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, double[] x, int offsetx, double beta, double[] y, int offsety) {
+    for (int row = start; row < end; row += 1) {
+      double sum = 0.0;
+      for (int k = rowptr[offsetrowptr + row], kend = rowptr[offsetrowptr + row + 1]; k < kend; k += 1) {
+        sum += values[offsetvalues + k] * x[offsetx + colind[offsetcolind + k]];
+      }
+      y[offsety + row] = beta == 0.0 ? alpha * sum : alpha * sum + beta * y[offsety + row];
+    }
+  }
+
+  // y += alpha * A[start:end].t * x[start:end]
+  protected void dcsrmvT(int start, int end, double alpha, double[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, double[] x, int offsetx, double[] y, int offsety) {
+    for (int row = start; row < end; row += 1) {
+      double alphax = alpha * x[offsetx + row];
+      for (int k = rowptr[offsetrowptr + row], kend = rowptr[offsetrowptr + row + 1]; k < kend; k += 1) {
+        y[offsety + colind[offsetcolind + k]] += alphax * values[offsetvalues + k];
+      }
+    }
+  }
+
+  private void dcsrScal(int n, double beta, double[] y, int offsety) {
+    if (beta == 0.0) {
+      Arrays.fill(y, offsety, offsety + n, 0.0);
+    } else if (beta != 1.0) {
+      dscalK(n, beta, y, offsety, 1);
+    }
+  }
+
+  protected void scsrmvK(String trans, int m, int n, float alpha, float[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, float[] x, int offsetx, float beta, float[] y, int offsety) {
+    // an entry is a single multiply-add streamed from memory, hence worth splitting at fewer of them than gemm
+    int threads = Parallel.threads(8L * (rowptr[offsetrowptr + m] - rowptr[offsetrowptr]));
+    if (lsame("N", trans)) {
+      if (threads == 1) {
+        scsrmvN(0, m, alpha, values, offsetvalues, colind, offsetcolind, rowptr, offsetrowptr, x, offsetx, beta, y, offsety);
+      } else {
+        // rows are independent, split them in tasks of about the same number of entries
+        int[] bounds = csrPartition(m, rowptr, offsetrowptr, 4 * threads);
+        Parallel.forEach(bounds.length - 1, task -> {
+          scsrmvN(bounds[task], bounds[task + 1], alpha, values, offsetvalues, colind, offsetcolind, rowptr, offsetrowptr, x, offsetx, beta, y, offsety);
+        });
+      }
+    } else {
+      if (threads == 1) {
+        scsrScal(n, beta, y, offsety);
+        scsrmvT(0, m, alpha, values, offsetvalues, colind, offsetcolind, rowptr, offsetrowptr, x, offsetx, y, offsety);
+      } else {
+        // rows scatter into all of y, accumulate each task in its own copy and sum them after
+        int[] bounds = csrPartition(m, rowptr, offsetrowptr, threads);
+        int tasks = bounds.length - 1;
+        float[] partial = new float[tasks * n];
+        Parallel.forEach(tasks, task -> {
+          scsrmvT(bounds[task], bounds[task + 1], alpha, values, offsetvalues, colind, offsetcolind, rowptr, offsetrowptr, x, offsetx, partial, task * n);
+        });
+        int[] columns = csrPartition(n, null, 0, tasks);
+        Parallel.forEach(columns.length - 1, task -> {
+          for (int col = columns[task]; col < columns[task + 1]; col += 1) {
+            float sum = beta == 0.0f ? 0.0f : beta * y[offsety + col];
+            for (int t = 0; t < tasks; t += 1) {
+              sum += partial[t * n + col];
+            }
+            y[offsety + col] = sum;
+          }
+        });
+      }
+    }
+  }
+
+  // y[start:end] = alpha * A[start:end] * x + beta * y[start:end]
+  protected void scsrmvN(int start, int end, float alpha, float[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, float[] x, int offsetx, float beta, float[] y, int offsety) {
+    for (int row = start; row < end; row += 1) {
+      float sum = 0.0f;
+      for (int k = rowptr[offsetrowptr + row], kend = rowptr[offsetrowptr + row + 1]; k < kend; k += 1) {
+        sum += values[offsetvalues + k] * x[offsetx + colind[offsetcolind + k]];
+      }
+      y[offsety + row] = beta == 0.0f ? alpha * sum : alpha * sum + beta * y[offsety + row];
+    }
+  }
+
+  // y += alpha * A[start:end].t * x[start:end]
+  protected void scsrmvT(int start, int end, float alpha, float[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, float[] x, int offsetx, float[] y, int offsety) {
+    for (int row = start; row < end; row += 1) {
+      float alphax = alpha * x[offsetx + row];
+      for (int k = rowptr[offsetrowptr + row], kend = rowptr[offsetrowptr + row + 1]; k < kend; k += 1) {
+        y[offsety + colind[offsetcolind + k]] += alphax * values[offsetvalues + k];
+      }
+    }
+  }
+
+  private void scsrScal(int n, float beta, float[] y, int offsety) {
+    if (beta == 0.0f) {
+      Arrays.fill(y, offsety, offsety + n, 0.0f);
+    } else if (beta != 1.0f) {
+      sscalK(n, beta, y, offsety, 1);
+    }
+  }
+
+  // Splits the m rows in at most tasks ranges of about the same number of
+  // entries, or of rows if rowptr is null, returning their bounds
+  private static int[] csrPartition(int m, int[] rowptr, int offsetrowptr, int tasks) {
+    tasks = Math.max(1, Math.min(tasks, m));
+    int[] bounds = new int[tasks + 1];
+    long first = rowptr == null ? 0 : rowptr[offsetrowptr];
+    long total = rowptr == null ? m : rowptr[offsetrowptr + m] - first;
+    int row = 0;
+    for (int task = 1; task < tasks; task += 1) {
+      long target = first + total * task / tasks;
+      if (rowptr == null) {
+        row = (int)target;
+      } else {
+        while (row < m && rowptr[offsetrowptr + row] < target) {
+          row += 1;
+        }
+      }
+      bounds[task] = row;
+    }
+    bounds[tasks] = m;
+    return bounds;
+  }
+
   protected double ddotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
     double sum = 0.0;
     if (incx == 1 && incy == 1) {
@@ -177,6 +461,36 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     return sum;
   }
 
+  protected double ddotK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    double sum = 0.0;
+    if (incx == 1 && incy == 1) {
+      int ix = 0, iy = 0;
+      double sum0 = 0.0;
+      double sum1 = 0.0;
+      double sum2 = 0.0;
+      double sum3 = 0.0;
+      for (; ix < loopBound(n, 4) && iy < loopBound(n, 4); ix += 4, iy += 4) {
+        sum0 += x.get(offsetx + ix + 0) * y.get(offsety + iy + 0);
+        sum1 += x.get(offsetx + ix + 1) * y.get(offsety + iy + 1);
+        sum2 += x.get(offsetx + ix + 2) * y.get(offsety + iy + 2);
+        sum3 += x.get(offsetx + ix + 3) * y.get(offsety + iy + 3);
+      }
+      sum += sum0 + sum1 + sum2 + sum3;
+      for (; ix < n && iy < n; ix += 1, iy += 1) {
+        sum += x.get(offsetx + ix) * y.get(offsety + iy);
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+              iy = incy < 0 ? (n - 1) * -incy : 0;
+          (incx < 0 ? ix >= 0 : ix < n * incx)
+            && (incy < 0 ? iy >= 0 : iy < n * incy);
+          ix += incx, iy += incy) {
+        sum += x.get(offsetx + ix) * y.get(offsety + iy);
+      }
+    }
+    return sum;
+  }
+
   protected float sdotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
     float sum = 0.0f;
     if (incx == 1 && incy == 1) {
@@ -207,6 +521,36 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     return sum;
   }
 
+  protected float sdotK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    float sum = 0.0f;
+    if (incx == 1 && incy == 1) {
+      int ix = 0, iy = 0;
+      float sum0 = 0.0f;
+      float sum1 = 0.0f;
+      float sum2 = 0.0f;
+      float sum3 = 0.0f;
+      for (; ix < loopBound(n, 4) && iy < loopBound(n, 4); ix += 4, iy += 4) {
+        sum0 += x.get(offsetx + ix + 0) * y.get(offsety + iy + 0);
+        sum1 += x.get(offsetx + ix + 1) * y.get(offsety + iy + 1);
+        sum2 += x.get(offsetx + ix + 2) * y.get(offsety + iy + 2);
+        sum3 += x.get(offsetx + ix + 3) * y.get(offsety + iy + 3);
+      }
+      sum += sum0 + sum1 + sum2 + sum3;
+      for (; ix < n && iy < n; ix += 1, iy += 1) {
+        sum += x.get(offsetx + ix) * y.get(offsety + iy);
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+             && (incy < 0 ? iy >= 0 : iy < n * incy);
+           ix += incx, iy += incy) {
+        sum += x.get(offsetx + ix) * y.get(offsety + iy);
+      }
+    }
+    return sum;
+  }
+
   protected float sdsdotK(int n, float sb, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
     double sum = sb;
     if (incx == 1 && incy == 1) {
@@ -318,7 +662,7 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
     if (alpha == 0.0) {
       dgemmBeta(0, m, 0, n, beta, c, offsetc, ldc);
-    } else if (m * n * k < 100 * 100 * 100) {
+    } else if ((long)m * n * k < 100 * 100 * 100) {
       // The matrices are small and it's faster to do the non-copying version
       if (lsame("N", transa) && lsame("N", transb)) {
         dgemmNN(m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
@@ -330,50 +674,120 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
         dgemmTT(m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
       }
     } else {
-      final int Krow = (int)(Math.ceil((double)(Math.min(60,   m)) / 3) * 3),
-                Kcol = (int)(Math.ceil((double)(Math.min(1000, n)) / 3) * 3),
-                Ki   = (int)(Math.ceil((double)(Math.min(500,  k)) / 4) * 4);
+      dgemmBlocked(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc, Parallel.threads((long)m * n * k));
+    }
+  }
 
-      assert Krow > 0;
-      assert Kcol > 0;
-      assert Ki   > 0;
+  protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (a.hasArray() && b.hasArray() && c.hasArray()) {
+      super.dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    } else {
+      // Copying the operands is O(n^2) for O(n^3) work, so pack them into
+      // dense arrays and run the blocked array kernel on them
+      int rowsa = lsame("N", transa) ? m : k;
+      int rowsb = lsame("N", transb) ? k : n;
+      double[] apacked = pack(a, offseta, rowsa, lsame("N", transa) ? k : m, lda);
+      double[] bpacked = pack(b, offsetb, rowsb, lsame("N", transb) ? n : k, ldb);
+      double[] cpacked = pack(c, offsetc, m, n, ldc);
+      dgemmK(transa, transb, m, n, k, alpha, apacked, 0, Math.max(1, rowsa), bpacked, 0, Math.max(1, rowsb), beta, cpacked, 0, Math.max(1, m));
+      unpack(cpacked, c, offsetc, m, n, ldc);
+    }
+  }
 
-      double[] packeda = new double[Krow * Ki];
-      double[] packedb = new double[Kcol * Ki];
-      double[] packedc = new double[Kcol * Krow];
+  private static double[] pack(DoubleBuffer buffer, int offset, int rows, int cols, int ld) {
+    double[] packed = new double[rows * cols];
+    if (rows > 0) {
+      DoubleBuffer duplicate = buffer.duplicate();
+      for (int col = 0; col < cols; col += 1) {
+        ((Buffer)duplicate).position(offset + col * ld);
+        duplicate.get(packed, col * rows, rows);
+      }
+    }
+    return packed;
+  }
 
-      // c = beta * c
-      dgemmBeta(0, m, 0, n, beta, c, offsetc, ldc);
-      // c += alpha * a * b
-      for (int col = 0; col < n; col += Kcol) {
-        int cols = col, cole = Math.min(col + Kcol, n);
+  private static void unpack(double[] packed, DoubleBuffer buffer, int offset, int rows, int cols, int ld) {
+    if (rows > 0) {
+      DoubleBuffer duplicate = buffer.duplicate();
+      for (int col = 0; col < cols; col += 1) {
+        ((Buffer)duplicate).position(offset + col * ld);
+        duplicate.put(packed, col * rows, rows);
+      }
+    }
+  }
+
+  protected void dgemmBlocked(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc, int threads) {
+    final int Krow = (int)(Math.ceil((double)(Math.min(60,   m)) / 3) * 3),
+              Kcol = (int)(Math.ceil((double)(Math.min(1000, n)) / 3) * 3),
+              Ki   = (int)(Math.ceil((double)(Math.min(500,  k)) / 4) * 4);
+
+    assert Krow > 0;
+    assert Kcol > 0;
+    assert Ki   > 0;
+
+    // c = beta * c
+    dgemmBeta(0, m, 0, n, beta, c, offsetc, ldc);
+    // c += alpha * a * b
+    //
+    // The work is split on Krow and Kcol boundaries so that every block of c
+    // is computed exactly as in the single-threaded case, which keeps the
+    // result independent of the number of threads.
+    final int rowPanels = (m + Krow - 1) / Krow,
+              colPanels = (n + Kcol - 1) / Kcol,
+              colTasks  = Math.min(colPanels, threads),
+              rowTasks  = Math.min(rowPanels, (threads + colTasks - 1) / colTasks);
+    if (rowTasks * colTasks == 1) {
+      dgemmGEPP(transa, transb, 0, m, 0, n, k, Krow, Kcol, Ki, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    } else {
+      Parallel.forEach(rowTasks * colTasks, task -> {
+        int rowTask = task % rowTasks, colTask = task / rowTasks;
+        int rows = Math.min(rowPanels * (rowTask + 0) / rowTasks * Krow, m),
+            rowe = Math.min(rowPanels * (rowTask + 1) / rowTasks * Krow, m),
+            cols = Math.min(colPanels * (colTask + 0) / colTasks * Kcol, n),
+            cole = Math.min(colPanels * (colTask + 1) / colTasks * Kcol, n);
+        dgemmGEPP(transa, transb, rows, rowe, cols, cole, k, Krow, Kcol, Ki, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+      });
+    }
+  }
+
+  protected void dgemmGEPP(String transa, String transb, int rows, int rowe, int cols, int cole, int k, int Krow, int Kcol, int Ki, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    Workspace workspace = Workspace.acquire();
+    try {
+      double[] packeda = workspace.doubles(Workspace.PACKED_A, Krow * Ki);
+      double[] packedb = workspace.doubles(Workspace.PACKED_B, Kcol * Ki);
+      double[] packedc = workspace.doubles(Workspace.PACKED_C, Kcol * Krow);
+
+      for (int col = cols; col < cole; col += Kcol) {
+        int colps = col, colpe = Math.min(col + Kcol, cole);
         for (int i = 0; i < k; i += Ki) {
           int is = i, ie = Math.min(i + Ki, k);
           // pack b
           if (lsame("N", transb)) {
-            dgecpyNN(ie - is, cole - cols, b, offsetb, ldb, is, cols, packedb, 0, Ki, 0, 0);
+            dgecpyNN(ie - is, colpe - colps, b, offsetb, ldb, is, colps, packedb, 0, Ki, 0, 0);
           } else {
-            dgecpyTN(ie - is, cole - cols, b, offsetb, ldb, is, cols, packedb, 0, Ki, 0, 0);
+            dgecpyTN(ie - is, colpe - colps, b, offsetb, ldb, is, colps, packedb, 0, Ki, 0, 0);
           }
           // GEPP
-          for (int row = 0; row < m; row += Krow) {
-            int rows = row, rowe = Math.min(row + Krow, m);
+          for (int row = rows; row < rowe; row += Krow) {
+            int rowps = row, rowpe = Math.min(row + Krow, rowe);
             // pack A
             if (lsame("N", transa)) {
-              dgecpyNT(rowe - rows, ie - is, a, offseta, lda, rows, is, packeda, 0, Ki, 0, 0);
+              dgecpyNT(rowpe - rowps, ie - is, a, offseta, lda, rowps, is, packeda, 0, Ki, 0, 0);
             } else {
-              dgecpyTT(rowe - rows, ie - is, a, offseta, lda, rows, is, packeda, 0, Ki, 0, 0);
+              dgecpyTT(rowpe - rowps, ie - is, a, offseta, lda, rowps, is, packeda, 0, Ki, 0, 0);
             }
             // pack C
-            dgecpyNN(rowe - rows, cole - cols, c, offsetc, ldc, rows, cols, packedc, 0, Krow, 0, 0);
+            dgecpyNN(rowpe - rowps, colpe - colps, c, offsetc, ldc, rowps, colps, packedc, 0, Krow, 0, 0);
             // GEBP
-            dgebpTN(Krow, 0, rowe - rows, Kcol, 0, cole - cols, Ki, 0, ie - is,
+            dgebpTN(Krow, 0, rowpe - rowps, Kcol, 0, colpe - colps, Ki, 0, ie - is,
                     alpha, packeda, 0, Ki, packedb, 0, Ki, beta, packedc, 0, Krow);
             // unpack C
-            dgecpyNN(rowe - rows, cole - cols, packedc, 0, Krow, 0, 0, c, offsetc, ldc, rows, cols);
+            dgecpyNN(rowpe - rowps, colpe - colps, packedc, 0, Krow, 0, 0, c, offsetc, ldc, rowps, colps);
           }
         }
       }
+    } finally {
+      workspace.release();
     }
   }
 
@@ -1517,7 +1931,7 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
     if (alpha == 0.0f) {
       sgemmBeta(0, m, 0, n, beta, c, offsetc, ldc);
-    } else if (m * n * k < 100 * 100 * 100) {
+    } else if ((long)m * n * k < 100 * 100 * 100) {
       // The matrices are small and it's faster to do the non-copying version
       if (lsame("N", transa) && lsame("N", transb)) {
         sgemmNN(m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
@@ -1529,50 +1943,120 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
         sgemmTT(m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
       }
     } else {
-      final int Krow = (int)(Math.ceil((double)(Math.min(60,   m)) / 3) * 3),
-                Kcol = (int)(Math.ceil((double)(Math.min(1000, n)) / 3) * 3),
-                Ki   = (int)(Math.ceil((double)(Math.min(500,  k)) / 4) * 4);
+      sgemmBlocked(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc, Parallel.threads((long)m * n * k));
+    }
+  }
 
-      assert Krow > 0;
-      assert Kcol > 0;
-      assert Ki   > 0;
+  protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (a.hasArray() && b.hasArray() && c.hasArray()) {
+      super.sgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    } else {
+      // Copying the operands is O(n^2) for O(n^3) work, so pack them into
+      // dense arrays and run the blocked array kernel on them
+      int rowsa = lsame("N", transa) ? m : k;
+      int rowsb = lsame("N", transb) ? k : n;
+      float[] apacked = pack(a, offseta, rowsa, lsame("N", transa) ? k : m, lda);
+      float[] bpacked = pack(b, offsetb, rowsb, lsame("N", transb) ? n : k, ldb);
+      float[] cpacked = pack(c, offsetc, m, n, ldc);
+      sgemmK(transa, transb, m, n, k, alpha, apacked, 0, Math.max(1, rowsa), bpacked, 0, Math.max(1, rowsb), beta, cpacked, 0, Math.max(1, m));
+      unpack(cpacked, c, offsetc, m, n, ldc);
+    }
+  }
 
-      float[] packeda = new float[Krow * Ki];
-      float[] packedb = new float[Kcol * Ki];
-      float[] packedc = new float[Kcol * Krow];
+  private static float[] pack(FloatBuffer buffer, int offset, int rows, int cols, int ld) {
+    float[] packed = new float[rows * cols];
+    if (rows > 0) {
+      FloatBuffer duplicate = buffer.duplicate();
+      for (int col = 0; col < cols; col += 1) {
+        ((Buffer)duplicate).position(offset + col * ld);
+        duplicate.get(packed, col * rows, rows);
+      }
+    }
+    return packed;
+  }
 
-      // c = beta * c
-      sgemmBeta(0, m, 0, n, beta, c, offsetc, ldc);
-      // c += alpha * a * b
-      for (int col = 0; col < n; col += Kcol) {
-        int cols = col, cole = Math.min(col + Kcol, n);
+  private static void unpack(float[] packed, FloatBuffer buffer, int offset, int rows, int cols, int ld) {
+    if (rows > 0) {
+      FloatBuffer duplicate = buffer.duplicate();
+      for (int col = 0; col < cols; col += 1) {
+        ((Buffer)duplicate).position(offset + col * ld);
+        duplicate.put(packed, col * rows, rows);
+      }
+    }
+  }
+
+  protected void sgemmBlocked(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc, int threads) {
+    final int Krow = (int)(Math.ceil((double)(Math.min(60,   m)) / 3) * 3),
+              Kcol = (int)(Math.ceil((double)(Math.min(1000, n)) / 3) * 3),
+              Ki   = (int)(Math.ceil((double)(Math.min(500,  k)) / 4) * 4);
+
+    assert Krow > 0;
+    assert Kcol > 0;
+    assert Ki   > 0;
+
+    // c = beta * c
+    sgemmBeta(0, m, 0, n, beta, c, offsetc, ldc);
+    // c += alpha * a * b
+    //
+    // The work is split on Krow and Kcol boundaries so that every block of c
+    // is computed exactly as in the single-threaded case, which keeps the
+    // result independent of the number of threads.
+    final int rowPanels = (m + Krow - 1) / Krow,
+              colPanels = (n + Kcol - 1) / Kcol,
+              colTasks  = Math.min(colPanels, threads),
+              rowTasks  = Math.min(rowPanels, (threads + colTasks - 1) / colTasks);
+    if (rowTasks * colTasks == 1) {
+      sgemmGEPP(transa, transb, 0, m, 0, n, k, Krow, Kcol, Ki, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    } else {
+      Parallel.forEach(rowTasks * colTasks, task -> {
+        int rowTask = task % rowTasks, colTask = task / rowTasks;
+        int rows = Math.min(rowPanels * (rowTask + 0) / rowTasks * Krow, m),
+            rowe = Math.min(rowPanels * (rowTask + 1) / rowTasks * Krow, m),
+            cols = Math.min(colPanels * (colTask + 0) / colTasks * Kcol, n),
+            cole = Math.min(colPanels * (colTask + 1) / colTasks * Kcol, n);
+        sgemmGEPP(transa, transb, rows, rowe, cols, cole, k, Krow, Kcol, Ki, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+      });
+    }
+  }
+
+  protected void sgemmGEPP(String transa, String transb, int rows, int rowe, int cols, int cole, int k, int Krow, int Kcol, int Ki, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    Workspace workspace = Workspace.acquire();
+    try {
+      float[] packeda = workspace.floats(Workspace.PACKED_A, Krow * Ki);
+      float[] packedb = workspace.floats(Workspace.PACKED_B, Kcol * Ki);
+      float[] packedc = workspace.floats(Workspace.PACKED_C, Kcol * Krow);
+
+      for (int col = cols; col < cole; col += Kcol) {
+        int colps = col, colpe = Math.min(col + Kcol, cole);
         for (int i = 0; i < k; i += Ki) {
           int is = i, ie = Math.min(i + Ki, k);
           // pack b
           if (lsame("N", transb)) {
-            sgecpyNN(ie - is, cole - cols, b, offsetb, ldb, is, cols, packedb, 0, Ki, 0, 0);
+            sgecpyNN(ie - is, colpe - colps, b, offsetb, ldb, is, colps, packedb, 0, Ki, 0, 0);
           } else {
-            sgecpyTN(ie - is, cole - cols, b, offsetb, ldb, is, cols, packedb, 0, Ki, 0, 0);
+            sgecpyTN(ie - is, colpe - colps, b, offsetb, ldb, is, colps, packedb, 0, Ki, 0, 0);
           }
           // GEPP
-          for (int row = 0; row < m; row += Krow) {
-            int rows = row, rowe = Math.min(row + Krow, m);
+          for (int row = rows; row < rowe; row += Krow) {
+            int rowps = row, rowpe = Math.min(row + Krow, rowe);
             // pack A
             if (lsame("N", transa)) {
-              sgecpyNT(rowe - rows, ie - is, a, offseta, lda, rows, is, packeda, 0, Ki, 0, 0);
+              sgecpyNT(rowpe - rowps, ie - is, a, offseta, lda, rowps, is, packeda, 0, Ki, 0, 0);
             } else {
-              sgecpyTT(rowe - rows, ie - is, a, offseta, lda, rows, is, packeda, 0, Ki, 0, 0);
+              sgecpyTT(rowpe - rowps, ie - is, a, offseta, lda, rowps, is, packeda, 0, Ki, 0, 0);
             }
             // pack C
-            sgecpyNN(rowe - rows, cole - cols, c, offsetc, ldc, rows, cols, packedc, 0, Krow, 0, 0);
+            sgecpyNN(rowpe - rowps, colpe - colps, c, offsetc, ldc, rowps, colps, packedc, 0, Krow, 0, 0);
             // GEBP
-            sgebpTN(Krow, 0, rowe - rows, Kcol, 0, cole - cols, Ki, 0, ie - is,
+            sgebpTN(Krow, 0, rowpe - rowps, Kcol, 0, colpe - colps, Ki, 0, ie - is,
                     alpha, packeda, 0, Ki, packedb, 0, Ki, beta, packedc, 0, Krow);
             // unpack C
-            sgecpyNN(rowe - rows, cole - cols, packedc, 0, Krow, 0, 0, c, offsetc, ldc, rows, cols);
+            sgecpyNN(rowpe - rowps, colpe - colps, packedc, 0, Krow, 0, 0, c, offsetc, ldc, rowps, colps);
           }
         }
       }
+    } finally {
+      workspace.release();
     }
   }
 
@@ -2730,6 +3214,23 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void dgemvK(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (alpha == 0.0) {
+      int len = lsame("N", trans) ? m : n;
+      for (int i = 0, iy = incy < 0 ? (len - 1) * -incy : 0; i < len; i += 1, iy += incy) {
+        if (beta != 0.0) {
+          y.put(offsety + iy, beta * y.get(offsety + iy));
+        } else {
+          y.put(offsety + iy, 0.0);
+        }
+      }
+    } else if (lsame("N", trans)) {
+      dgemvN(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else if (lsame("T", trans) || lsame("C", trans)) {
+      dgemvT(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
   protected void dgemvN(int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
     if (beta != 1.0) {
       int row = 0, iy = incy < 0 ? (m - 1) * -incy : 0;
@@ -2764,6 +3265,40 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void dgemvN(int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (beta != 1.0) {
+      int row = 0, iy = incy < 0 ? (m - 1) * -incy : 0;
+      for (; row < m; row += 1, iy += incy) {
+        if (beta != 0.0) {
+          y.put(offsety + iy, beta * y.get(offsety + iy));
+        } else {
+          y.put(offsety + iy, 0.0);
+        }
+      }
+    }
+    int col = 0, ix = incx < 0 ? (n - 1) * -incx : 0;
+    for (; col < loopBound(n, 4); col += 4, ix += incx * 4) {
+      int row = 0, iy = incy < 0 ? (m - 1) * -incy : 0;
+      double alphax0 = alpha * x.get(offsetx + ix + incx * 0);
+      double alphax1 = alpha * x.get(offsetx + ix + incx * 1);
+      double alphax2 = alpha * x.get(offsetx + ix + incx * 2);
+      double alphax3 = alpha * x.get(offsetx + ix + incx * 3);
+      for (; row < m; row += 1, iy += incy) {
+        y.put(offsety + iy, y.get(offsety + iy) + (alphax0 * a.get(offseta + row + (col + 0) * lda)
+                                                +  alphax1 * a.get(offseta + row + (col + 1) * lda)
+                                                +  alphax2 * a.get(offseta + row + (col + 2) * lda)
+                                                +  alphax3 * a.get(offseta + row + (col + 3) * lda)));
+      }
+    }
+    for (; col < n; col += 1, ix += incx) {
+      int row = 0, iy = incy < 0 ? (m - 1) * -incy : 0;
+      double alphax = alpha * x.get(offsetx + ix);
+      for (; row < m; row += 1, iy += incy) {
+        y.put(offsety + iy, y.get(offsety + iy) + alphax * a.get(offseta + row + col * lda));
+      }
+    }
+  }
+
   protected void dgemvT(int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
     int col = 0, iy = incy < 0 ? (n - 1) * -incy : 0;
     for (; col < loopBound(n, 4); col += 4, iy += incy * 4) {
@@ -2805,14 +3340,72 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void dgemvT(int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    int col = 0, iy = incy < 0 ? (n - 1) * -incy : 0;
+    for (; col < loopBound(n, 4); col += 4, iy += incy * 4) {
+      int row = 0, ix = incx < 0 ? (m - 1) * -incx : 0;
+      double sum0 = 0.0;
+      double sum1 = 0.0;
+      double sum2 = 0.0;
+      double sum3 = 0.0;
+      for (; row < m; row += 1, ix += incx) {
+        double xix = x.get(offsetx + ix);
+        sum0 += xix * a.get(offseta + row + (col + 0) * lda);
+        sum1 += xix * a.get(offseta + row + (col + 1) * lda);
+        sum2 += xix * a.get(offseta + row + (col + 2) * lda);
+        sum3 += xix * a.get(offseta + row + (col + 3) * lda);
+      }
+      if (beta != 0.0) {
+        y.put(offsety + iy + incy * 0, alpha * sum0 + beta * y.get(offsety + iy + incy * 0));
+        y.put(offsety + iy + incy * 1, alpha * sum1 + beta * y.get(offsety + iy + incy * 1));
+        y.put(offsety + iy + incy * 2, alpha * sum2 + beta * y.get(offsety + iy + incy * 2));
+        y.put(offsety + iy + incy * 3, alpha * sum3 + beta * y.get(offsety + iy + incy * 3));
+      } else {
+        y.put(offsety + iy + incy * 0, alpha * sum0);
+        y.put(offsety + iy + incy * 1, alpha * sum1);
+        y.put(offsety + iy + incy * 2, alpha * sum2);
+        y.put(offsety + iy + incy * 3, alpha * sum3);
+      }
+    }
+    for (; col < n; col += 1, iy += incy) {
+      int row = 0, ix = incx < 0 ? (m - 1) * -incx : 0;
+      double sum = 0.0;
+      for (; row < m; row += 1, ix += incx) {
+        sum += x.get(offsetx + ix) * a.get(offseta + row + col * lda);
+      }
+      if (beta != 0.0) {
+        y.put(offsety + iy, alpha * sum + beta * y.get(offsety + iy));
+      } else {
+        y.put(offsety + iy, alpha * sum);
+      }
+    }
+  }
+
   protected void sgemvK(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
     if (alpha == 0.0f) {
       int len = lsame("N", trans) ? m : n;
       for (int i = 0, iy = incy < 0 ? (len - 1) * -incy : 0; i < len; i += 1, iy += incy) {
         if (beta != 0.0f) {
-          y[offsety + iy] = beta * y[offsety + iy];
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0f;
+        }
+      }
+    } else if (lsame("N", trans)) {
+      sgemvN(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else if (lsame("T", trans) || lsame("C", trans)) {
+      sgemvT(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  protected void sgemvK(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (alpha == 0.0f) {
+      int len = lsame("N", trans) ? m : n;
+      for (int i = 0, iy = incy < 0 ? (len - 1) * -incy : 0; i < len; i += 1, iy += incy) {
+        if (beta != 0.0f) {
+          y.put(offsety + iy, beta * y.get(offsety + iy));
         } else {
-          y[offsety + iy] = 0.0f;
+          y.put(offsety + iy, 0.0f);
         }
       }
     } else if (lsame("N", trans)) {
@@ -2861,6 +3454,45 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void sgemvN(int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    // y = beta * y
+    for (int row = 0, iy = incy < 0 ? (m - 1) * -incy : 0; row < m; row += 1, iy += incy) {
+      if (beta != 0.0f) {
+        y.put(offsety + iy, beta * y.get(offsety + iy));
+      } else {
+        y.put(offsety + iy, 0.0f);
+      }
+    }
+    // y += alpha * A * x
+    int col = 0, ix = incx < 0 ? (n - 1) * -incx : 0;
+    for (; col < loopBound(n, 8); col += 8, ix += incx * 8) {
+      float alphax0 = alpha * x.get(offsetx + ix + incx * 0);
+      float alphax1 = alpha * x.get(offsetx + ix + incx * 1);
+      float alphax2 = alpha * x.get(offsetx + ix + incx * 2);
+      float alphax3 = alpha * x.get(offsetx + ix + incx * 3);
+      float alphax4 = alpha * x.get(offsetx + ix + incx * 4);
+      float alphax5 = alpha * x.get(offsetx + ix + incx * 5);
+      float alphax6 = alpha * x.get(offsetx + ix + incx * 6);
+      float alphax7 = alpha * x.get(offsetx + ix + incx * 7);
+      for (int row = 0, iy = incy < 0 ? (m - 1) * -incy : 0; row < m; row += 1, iy += incy) {
+        y.put(offsety + iy, y.get(offsety + iy) + (alphax0 * a.get(offseta + row + (col + 0) * lda)
+                                                +  alphax1 * a.get(offseta + row + (col + 1) * lda)
+                                                +  alphax2 * a.get(offseta + row + (col + 2) * lda)
+                                                +  alphax3 * a.get(offseta + row + (col + 3) * lda)
+                                                +  alphax4 * a.get(offseta + row + (col + 4) * lda)
+                                                +  alphax5 * a.get(offseta + row + (col + 5) * lda)
+                                                +  alphax6 * a.get(offseta + row + (col + 6) * lda)
+                                                +  alphax7 * a.get(offseta + row + (col + 7) * lda)));
+      }
+    }
+    for (; col < n; col += 1, ix += incx) {
+      float alphax = alpha * x.get(offsetx + ix);
+      for (int row = 0, iy = incy < 0 ? (m - 1) * -incy : 0; row < m; row += 1, iy += incy) {
+        y.put(offsety + iy, y.get(offsety + iy) + alphax * a.get(offseta + row + col * lda));
+      }
+    }
+  }
+
   protected void sgemvT(int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
     int col = 0, iy = incy < 0 ? (n - 1) * -incy : 0;
     for (; col < loopBound(n, 8); col += 8, iy += incy * 8) {
@@ -2915,6 +3547,60 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void sgemvT(int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    int col = 0, iy = incy < 0 ? (n - 1) * -incy : 0;
+    for (; col < loopBound(n, 8); col += 8, iy += incy * 8) {
+      float sum0 = 0.0f;
+      float sum1 = 0.0f;
+      float sum2 = 0.0f;
+      float sum3 = 0.0f;
+      float sum4 = 0.0f;
+      float sum5 = 0.0f;
+      float sum6 = 0.0f;
+      float sum7 = 0.0f;
+      for (int row = 0, ix = incx < 0 ? (m - 1) * -incx : 0; row < m; row += 1, ix += incx) {
+        sum0 += x.get(offsetx + ix) * a.get(offseta + row + (col + 0) * lda);
+        sum1 += x.get(offsetx + ix) * a.get(offseta + row + (col + 1) * lda);
+        sum2 += x.get(offsetx + ix) * a.get(offseta + row + (col + 2) * lda);
+        sum3 += x.get(offsetx + ix) * a.get(offseta + row + (col + 3) * lda);
+        sum4 += x.get(offsetx + ix) * a.get(offseta + row + (col + 4) * lda);
+        sum5 += x.get(offsetx + ix) * a.get(offseta + row + (col + 5) * lda);
+        sum6 += x.get(offsetx + ix) * a.get(offseta + row + (col + 6) * lda);
+        sum7 += x.get(offsetx + ix) * a.get(offseta + row + (col + 7) * lda);
+      }
+      if (beta != 0.0f) {
+        y.put(offsety + iy + incy * 0, alpha * sum0 + beta * y.get(offsety + iy + incy * 0));
+        y.put(offsety + iy + incy * 1, alpha * sum1 + beta * y.get(offsety + iy + incy * 1));
+        y.put(offsety + iy + incy * 2, alpha * sum2 + beta * y.get(offsety + iy + incy * 2));
+        y.put(offsety + iy + incy * 3, alpha * sum3 + beta * y.get(offsety + iy + incy * 3));
+        y.put(offsety + iy + incy * 4, alpha * sum4 + beta * y.get(offsety + iy + incy * 4));
+        y.put(offsety + iy + incy * 5, alpha * sum5 + beta * y.get(offsety + iy + incy * 5));
+        y.put(offsety + iy + incy * 6, alpha * sum6 + beta * y.get(offsety + iy + incy * 6));
+        y.put(offsety + iy + incy * 7, alpha * sum7 + beta * y.get(offsety + iy + incy * 7));
+      } else {
+        y.put(offsety + iy + incy * 0, alpha * sum0);
+        y.put(offsety + iy + incy * 1, alpha * sum1);
+        y.put(offsety + iy + incy * 2, alpha * sum2);
+        y.put(offsety + iy + incy * 3, alpha * sum3);
+        y.put(offsety + iy + incy * 4, alpha * sum4);
+        y.put(offsety + iy + incy * 5, alpha * sum5);
+        y.put(offsety + iy + incy * 6, alpha * sum6);
+        y.put(offsety + iy + incy * 7, alpha * sum7);
+      }
+    }
+    for (; col < n; col += 1, iy += incy) {
+      float sum = 0.0f;
+      for (int row = 0, ix = incx < 0 ? (m - 1) * -incx : 0; row < m; row += 1, ix += incx) {
+        sum += x.get(offsetx + ix) * a.get(offseta + row + col * lda);
+      }
+      if (beta != 0.0f) {
+        y.put(offsety + iy, alpha * sum + beta * y.get(offsety + iy));
+      } else {
+        y.put(offsety + iy, alpha * sum);
+      }
+    }
+  }
+
   protected void dgerK(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
     int col = 0, iy = incy < 0 ? (n - 1) * -incy : 0;
     for (; col < loopBound(n, 4); col += 4, iy += incy * 4) {
@@ -2922,7 +3608,7 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
       double alphayiy1 = alpha * y[offsety + iy + incy * 1];
       double alphayiy2 = alpha * y[offsety + iy + incy * 2];
       double alphayiy3 = alpha * y[offsety + iy + incy * 3];
-      int row = 0, jx = incx < 0 ? (n - 1) * -incx : 0;
+      int row = 0, jx = incx < 0 ? (m - 1) * -incx : 0;
       for (; row < m; row += 1, jx += incx) {
         double xjx = x[offsetx + jx];
         a[offseta + row + (col + 0) * lda] += alphayiy0 * xjx;
@@ -2933,13 +3619,38 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
     for (; col < n; col += 1, iy += incy) {
       double alphayiy = alpha * y[offsety + iy];
-      int row = 0, jx = incx < 0 ? (n - 1) * -incx : 0;
+      int row = 0, jx = incx < 0 ? (m - 1) * -incx : 0;
       for (; row < m; row += 1, jx += incx) {
         a[offseta + row + col * lda] += alphayiy * x[offsetx + jx];
       }
     }
   }
 
+  protected void dgerK(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    int col = 0, iy = incy < 0 ? (n - 1) * -incy : 0;
+    for (; col < loopBound(n, 4); col += 4, iy += incy * 4) {
+      double alphayiy0 = alpha * y.get(offsety + iy + incy * 0);
+      double alphayiy1 = alpha * y.get(offsety + iy + incy * 1);
+      double alphayiy2 = alpha * y.get(offsety + iy + incy * 2);
+      double alphayiy3 = alpha * y.get(offsety + iy + incy * 3);
+      int row = 0, jx = incx < 0 ? (m - 1) * -incx : 0;
+      for (; row < m; row += 1, jx += incx) {
+        double xjx = x.get(offsetx + jx);
+        a.put(offseta + row + (col + 0) * lda, a.get(offseta + row + (col + 0) * lda) + alphayiy0 * xjx);
+        a.put(offseta + row + (col + 1) * lda, a.get(offseta + row + (col + 1) * lda) + alphayiy1 * xjx);
+        a.put(offseta + row + (col + 2) * lda, a.get(offseta + row + (col + 2) * lda) + alphayiy2 * xjx);
+        a.put(offseta + row + (col + 3) * lda, a.get(offseta + row + (col + 3) * lda) + alphayiy3 * xjx);
+      }
+    }
+    for (; col < n; col += 1, iy += incy) {
+      double alphayiy = alpha * y.get(offsety + iy);
+      int row = 0, jx = incx < 0 ? (m - 1) * -incx : 0;
+      for (; row < m; row += 1, jx += incx) {
+        a.put(offseta + row + col * lda, a.get(offseta + row + col * lda) + alphayiy * x.get(offsetx + jx));
+      }
+    }
+  }
+
   protected void sgerK(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
     int col = 0, iy = incy < 0 ? (n - 1) * -incy : 0;
     for (; col < loopBound(n, 4); col += 4, iy += incy * 4) {
@@ -2947,7 +3658,7 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
       float alphayiy1 = alpha * y[offsety + iy + incy * 1];
       float alphayiy2 = alpha * y[offsety + iy + incy * 2];
       float alphayiy3 = alpha * y[offsety + iy + incy * 3];
-      int row = 0, jx = incx < 0 ? (n - 1) * -incx : 0;
+      int row = 0, jx = incx < 0 ? (m - 1) * -incx : 0;
       for (; row < m; row += 1, jx += incx) {
         float xjx = x[offsetx + jx];
         a[offseta + row + (col + 0) * lda] += alphayiy0 * xjx;
@@ -2958,13 +3669,38 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
     for (; col < n; col += 1, iy += incy) {
       float alphayiy = alpha * y[offsety + iy];
-      int row = 0, jx = incx < 0 ? (n - 1) * -incx : 0;
+      int row = 0, jx = incx < 0 ? (m - 1) * -incx : 0;
       for (; row < m; row += 1, jx += incx) {
         a[offseta + row + col * lda] += alphayiy * x[offsetx + jx];
       }
     }
   }
 
+  protected void sgerK(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    int col = 0, iy = incy < 0 ? (n - 1) * -incy : 0;
+    for (; col < loopBound(n, 4); col += 4, iy += incy * 4) {
+      float alphayiy0 = alpha * y.get(offsety + iy + incy * 0);
+      float alphayiy1 = alpha * y.get(offsety + iy + incy * 1);
+      float alphayiy2 = alpha * y.get(offsety + iy + incy * 2);
+      float alphayiy3 = alpha * y.get(offsety + iy + incy * 3);
+      int row = 0, jx = incx < 0 ? (m - 1) * -incx : 0;
+      for (; row < m; row += 1, jx += incx) {
+        float xjx = x.get(offsetx + jx);
+        a.put(offseta + row + (col + 0) * lda, a.get(offseta + row + (col + 0) * lda) + alphayiy0 * xjx);
+        a.put(offseta + row + (col + 1) * lda, a.get(offseta + row + (col + 1) * lda) + alphayiy1 * xjx);
+        a.put(offseta + row + (col + 2) * lda, a.get(offseta + row + (col + 2) * lda) + alphayiy2 * xjx);
+        a.put(offseta + row + (col + 3) * lda, a.get(offseta + row + (col + 3) * lda) + alphayiy3 * xjx);
+      }
+    }
+    for (; col < n; col += 1, iy += incy) {
+      float alphayiy = alpha * y.get(offsety + iy);
+      int row = 0, jx = incx < 0 ? (m - 1) * -incx : 0;
+      for (; row < m; row += 1, jx += incx) {
+        a.put(offseta + row + col * lda, a.get(offseta + row + col * lda) + alphayiy * x.get(offsetx + jx));
+      }
+    }
+  }
+
   protected double dnrm2K(int n, double[] x, int offsetx, int incx) {
     int ix = 0;
     double sum0 = 0.0;
@@ -3002,6 +3738,43 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     return Math.sqrt(sum);
   }
 
+  protected double dnrm2K(int n, DoubleBuffer x, int offsetx, int incx) {
+    int ix = 0;
+    double sum0 = 0.0;
+    double sum1 = 0.0;
+    double sum2 = 0.0;
+    double sum3 = 0.0;
+    if (incx == 1) {
+      for (; ix < loopBound(n, 4); ix += 4) {
+        double x0 = x.get(offsetx + ix + 0);
+        double x1 = x.get(offsetx + ix + 1);
+        double x2 = x.get(offsetx + ix + 2);
+        double x3 = x.get(offsetx + ix + 3);
+        sum0 += x0 * x0;
+        sum1 += x1 * x1;
+        sum2 += x2 * x2;
+        sum3 += x3 * x3;
+      }
+    } else {
+      for (; ix < loopBound(n, 4) * incx; ix += 4 * incx) {
+        double x0 = x.get(offsetx + ix + (0 * incx));
+        double x1 = x.get(offsetx + ix + (1 * incx));
+        double x2 = x.get(offsetx + ix + (2 * incx));
+        double x3 = x.get(offsetx + ix + (3 * incx));
+        sum0 += x0 * x0;
+        sum1 += x1 * x1;
+        sum2 += x2 * x2;
+        sum3 += x3 * x3;
+      }
+    }
+    double sum = sum0 + sum1 + sum2 + sum3;
+    for (; ix < n * incx; ix += incx) {
+      double x0 = x.get(offsetx + ix + 0);
+      sum += x0 * x0;
+    }
+    return Math.sqrt(sum);
+  }
+
   protected float snrm2K(int n, float[] x, int offsetx, int incx) {
     int ix = 0;
     float sum0 = 0.0f;
@@ -3039,6 +3812,43 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     return (float)Math.sqrt(sum);
   }
 
+  protected float snrm2K(int n, FloatBuffer x, int offsetx, int incx) {
+    int ix = 0;
+    float sum0 = 0.0f;
+    float sum1 = 0.0f;
+    float sum2 = 0.0f;
+    float sum3 = 0.0f;
+    if (incx == 1) {
+      for (; ix < loopBound(n, 4); ix += 4) {
+        float x0 = x.get(offsetx + ix + 0);
+        float x1 = x.get(offsetx + ix + 1);
+        float x2 = x.get(offsetx + ix + 2);
+        float x3 = x.get(offsetx + ix + 3);
+        sum0 += x0 * x0;
+        sum1 += x1 * x1;
+        sum2 += x2 * x2;
+        sum3 += x3 * x3;
+      }
+    } else {
+      for (; ix < loopBound(n, 4) * incx; ix += 4 * incx) {
+        float x0 = x.get(offsetx + ix + (0 * incx));
+        float x1 = x.get(offsetx + ix + (1 * incx));
+        float x2 = x.get(offsetx + ix + (2 * incx));
+        float x3 = x.get(offsetx + ix + (3 * incx));
+        sum0 += x0 * x0;
+        sum1 += x1 * x1;
+        sum2 += x2 * x2;
+        sum3 += x3 * x3;
+      }
+    }
+    float sum = sum0 + sum1 + sum2 + sum3;
+    for (; ix < n * incx; ix += incx) {
+      float x0 = x.get(offsetx + ix + 0);
+      sum += x0 * x0;
+    }
+    return (float)Math.sqrt(sum);
+  }
+
   protected void drotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double c, double s) {
     if (incx == 1 && incy == 1) {
       for (int ix = 0, iy = 0; ix < n && iy < n; ix += 1, iy += 1) {
@@ -3487,6 +4297,18 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void dscalK(int n, double alpha, DoubleBuffer x, int offsetx, int incx) {
+    if (incx == 1) {
+      for (int ix = 0; ix < n; ix += 1) {
+        x.put(offsetx + ix, x.get(offsetx + ix) * alpha);
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0; incx < 0 ? ix >= 0 : ix < n * incx; ix += incx) {
+        x.put(offsetx + ix, x.get(offsetx + ix) * alpha);
+      }
+    }
+  }
+
   protected void sscalK(int n, float alpha, float[] x, int offsetx, int incx) {
     if (incx == 1) {
       for (int ix = 0; ix < n; ix += 1) {
@@ -3499,6 +4321,18 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void sscalK(int n, float alpha, FloatBuffer x, int offsetx, int incx) {
+    if (incx == 1) {
+      for (int ix = 0; ix < n; ix += 1) {
+        x.put(offsetx + ix, x.get(offsetx + ix) * alpha);
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0; incx < 0 ? ix >= 0 : ix < n * incx; ix += incx) {
+        x.put(offsetx + ix, x.get(offsetx + ix) * alpha);
+      }
+    }
+  }
+
   protected void dspmvK(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
     if (alpha == 0.0) {
       for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
@@ -4023,6 +4857,26 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void dswapK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      for (int ix = 0, iy = 0; ix < n && iy < n; ix += 1, iy += 1) {
+        double tmp = y.get(offsety + iy);
+        y.put(offsety + iy, x.get(offsetx + ix));
+        x.put(offsetx + ix, tmp);
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+            && (incy < 0 ? iy >= 0 : iy < n * incy);
+           ix += incx, iy += incy) {
+        double tmp = y.get(offsety + iy);
+        y.put(offsety + iy, x.get(offsetx + ix));
+        x.put(offsetx + ix, tmp);
+      }
+    }
+  }
+
   protected void sswapK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
     if (incx == 1 && incy == 1) {
       for (int ix = 0, iy = 0; ix < n && iy < n; ix += 1, iy += 1) {
@@ -4043,6 +4897,26 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void sswapK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      for (int ix = 0, iy = 0; ix < n && iy < n; ix += 1, iy += 1) {
+        float tmp = y.get(offsety + iy);
+        y.put(offsety + iy, x.get(offsetx + ix));
+        x.put(offsetx + ix, tmp);
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+            && (incy < 0 ? iy >= 0 : iy < n * incy);
+           ix += incx, iy += incy) {
+        float tmp = y.get(offsety + iy);
+        y.put(offsety + iy, x.get(offsetx + ix));
+        x.put(offsetx + ix, tmp);
+      }
+    }
+  }
+
   protected void dsymmK(String side, String uplo, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
     if (alpha == 0.0) {
       // C := beta*C
@@ -5904,6 +6778,31 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   }
 
   protected void dsyr2kK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    // Same recursion as dsyrkK, with the off-diagonal block of c computed
+    // by two calls to dgemmK
+    final int Kblock = 64;
+
+    if (alpha == 0.0 || k == 0 || n <= Kblock) {
+      dsyr2kUnblocked(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+      return;
+    }
+    int n1 = Math.max(Kblock, (n / 2) / Kblock * Kblock), n2 = n - n1;
+    boolean notrans = lsame("N", trans);
+    int offseta1 = offseta, offseta2 = notrans ? offseta + n1 : offseta + n1 * lda;
+    int offsetb1 = offsetb, offsetb2 = notrans ? offsetb + n1 : offsetb + n1 * ldb;
+    String transl = notrans ? "N" : "T", transr = notrans ? "T" : "N";
+    dsyr2kK(uplo, trans, n1, k, alpha, a, offseta1, lda, b, offsetb1, ldb, beta, c, offsetc, ldc);
+    if (lsame("U", uplo)) {
+      dgemmK(transl, transr, n1, n2, k, alpha, a, offseta1, lda, b, offsetb2, ldb, beta, c, offsetc + n1 * ldc, ldc);
+      dgemmK(transl, transr, n1, n2, k, alpha, b, offsetb1, ldb, a, offseta2, lda, 1.0, c, offsetc + n1 * ldc, ldc);
+    } else {
+      dgemmK(transl, transr, n2, n1, k, alpha, a, offseta2, lda, b, offsetb1, ldb, beta, c, offsetc + n1, ldc);
+      dgemmK(transl, transr, n2, n1, k, alpha, b, offsetb2, ldb, a, offseta1, lda, 1.0, c, offsetc + n1, ldc);
+    }
+    dsyr2kK(uplo, trans, n2, k, alpha, a, offseta2, lda, b, offsetb2, ldb, beta, c, offsetc + n1 + n1 * ldc, ldc);
+  }
+
+  protected void dsyr2kUnblocked(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
     // C := alpha*A*B' + alpha*B*A' + beta*C (trans="N") or C := alpha*A'*B + alpha*B'*A + beta*C (trans="T"/"C")
     // Only upper or lower triangle of C is updated
     if (lsame("U", uplo)) {
@@ -6000,6 +6899,31 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   }
 
   protected void ssyr2kK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    // Same recursion as ssyrkK, with the off-diagonal block of c computed
+    // by two calls to sgemmK
+    final int Kblock = 64;
+
+    if (alpha == 0.0f || k == 0 || n <= Kblock) {
+      ssyr2kUnblocked(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+      return;
+    }
+    int n1 = Math.max(Kblock, (n / 2) / Kblock * Kblock), n2 = n - n1;
+    boolean notrans = lsame("N", trans);
+    int offseta1 = offseta, offseta2 = notrans ? offseta + n1 : offseta + n1 * lda;
+    int offsetb1 = offsetb, offsetb2 = notrans ? offsetb + n1 : offsetb + n1 * ldb;
+    String transl = notrans ? "N" : "T", transr = notrans ? "T" : "N";
+    ssyr2kK(uplo, trans, n1, k, alpha, a, offseta1, lda, b, offsetb1, ldb, beta, c, offsetc, ldc);
+    if (lsame("U", uplo)) {
+      sgemmK(transl, transr, n1, n2, k, alpha, a, offseta1, lda, b, offsetb2, ldb, beta, c, offsetc + n1 * ldc, ldc);
+      sgemmK(transl, transr, n1, n2, k, alpha, b, offsetb1, ldb, a, offseta2, lda, 1.0f, c, offsetc + n1 * ldc, ldc);
+    } else {
+      sgemmK(transl, transr, n2, n1, k, alpha, a, offseta2, lda, b, offsetb1, ldb, beta, c, offsetc + n1, ldc);
+      sgemmK(transl, transr, n2, n1, k, alpha, b, offsetb2, ldb, a, offseta1, lda, 1.0f, c, offsetc + n1, ldc);
+    }
+    ssyr2kK(uplo, trans, n2, k, alpha, a, offseta2, lda, b, offsetb2, ldb, beta, c, offsetc + n1 + n1 * ldc, ldc);
+  }
+
+  protected void ssyr2kUnblocked(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
     // C := alpha*A*B' + alpha*B*A' + beta*C (trans="N") or C := alpha*A'*B + alpha*B'*A + beta*C (trans="T"/"C")
     // Only upper or lower triangle of C is updated
     if (lsame("U", uplo)) {
@@ -6094,6 +7018,29 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   }
 
   protected void dsyrkK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int ldc) {
+    // Split c in two and recurse on the triangles on the diagonal, so that
+    // the off-diagonal block, which holds the bulk of the work, goes through
+    // dgemmK, and only the small triangles are computed by dsyrkUnblocked
+    final int Kblock = 64;
+
+    if (alpha == 0.0 || k == 0 || n <= Kblock) {
+      dsyrkUnblocked(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+      return;
+    }
+    int n1 = Math.max(Kblock, (n / 2) / Kblock * Kblock), n2 = n - n1;
+    boolean notrans = lsame("N", trans);
+    int offseta1 = offseta, offseta2 = notrans ? offseta + n1 : offseta + n1 * lda;
+    String transl = notrans ? "N" : "T", transr = notrans ? "T" : "N";
+    dsyrkK(uplo, trans, n1, k, alpha, a, offseta1, lda, beta, c, offsetc, ldc);
+    if (lsame("U", uplo)) {
+      dgemmK(transl, transr, n1, n2, k, alpha, a, offseta1, lda, a, offseta2, lda, beta, c, offsetc + n1 * ldc, ldc);
+    } else {
+      dgemmK(transl, transr, n2, n1, k, alpha, a, offseta2, lda, a, offseta1, lda, beta, c, offsetc + n1, ldc);
+    }
+    dsyrkK(uplo, trans, n2, k, alpha, a, offseta2, lda, beta, c, offsetc + n1 + n1 * ldc, ldc);
+  }
+
+  protected void dsyrkUnblocked(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int ldc) {
     // C := alpha*A*A' + beta*C (trans="N") or C := alpha*A'*A + beta*C (trans="T"/"C")
     // Only upper or lower triangle of C is updated
     if (lsame("U", uplo)) {
@@ -6182,6 +7129,29 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   }
 
   protected void ssyrkK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int ldc) {
+    // Split c in two and recurse on the triangles on the diagonal, so that
+    // the off-diagonal block, which holds the bulk of the work, goes through
+    // sgemmK, and only the small triangles are computed by ssyrkUnblocked
+    final int Kblock = 64;
+
+    if (alpha == 0.0f || k == 0 || n <= Kblock) {
+      ssyrkUnblocked(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+      return;
+    }
+    int n1 = Math.max(Kblock, (n / 2) / Kblock * Kblock), n2 = n - n1;
+    boolean notrans = lsame("N", trans);
+    int offseta1 = offseta, offseta2 = notrans ? offseta + n1 : offseta + n1 * lda;
+    String transl = notrans ? "N" : "T", transr = notrans ? "T" : "N";
+    ssyrkK(uplo, trans, n1, k, alpha, a, offseta1, lda, beta, c, offsetc, ldc);
+    if (lsame("U", uplo)) {
+      sgemmK(transl, transr, n1, n2, k, alpha, a, offseta1, lda, a, offseta2, lda, beta, c, offsetc + n1 * ldc, ldc);
+    } else {
+      sgemmK(transl, transr, n2, n1, k, alpha, a, offseta2, lda, a, offseta1, lda, beta, c, offsetc + n1, ldc);
+    }
+    ssyrkK(uplo, trans, n2, k, alpha, a, offseta2, lda, beta, c, offsetc + n1 + n1 * ldc, ldc);
+  }
+
+  protected void ssyrkUnblocked(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int ldc) {
     // C := alpha*A*A' + beta*C (trans="N") or C := alpha*A'*A + beta*C (trans="T"/"C")
     // Only upper or lower triangle of C is updated
     if (lsame("U", uplo)) {
@@ -7322,6 +8292,47 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   }
 
   protected void dtrsmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    // Split the triangular matrix in two and recurse on the diagonal blocks,
+    // so that the bulk of the work goes through dgemmK, and only the small
+    // blocks on the diagonal are solved by dtrsmUnblocked
+    final int Kblock = 64;
+
+    boolean left = lsame("L", side);
+    int k = left ? m : n;
+    if (alpha == 0.0 || k <= Kblock || (left ? n : m) == 0) {
+      dtrsmUnblocked(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+      return;
+    }
+    int k1 = Math.max(Kblock, (k / 2) / Kblock * Kblock), k2 = k - k1;
+    int offseta11 = offseta, offseta22 = offseta + k1 + k1 * lda;
+    // the off-diagonal block that's stored, used as op(a) in dgemmK
+    int offseta21 = lsame("L", uplo) ? offseta + k1 : offseta + k1 * lda;
+    // whether op(a) is lower triangular
+    boolean lower = lsame("L", uplo) == lsame("N", transa);
+    if (left) {
+      if (lower) {
+        dtrsmK(side, uplo, transa, diag, k1, n, alpha, a, offseta11, lda, b, offsetb, ldb);
+        dgemmK(transa, "N", k2, n, k1, -1.0, a, offseta21, lda, b, offsetb, ldb, alpha, b, offsetb + k1, ldb);
+        dtrsmK(side, uplo, transa, diag, k2, n, 1.0, a, offseta22, lda, b, offsetb + k1, ldb);
+      } else {
+        dtrsmK(side, uplo, transa, diag, k2, n, alpha, a, offseta22, lda, b, offsetb + k1, ldb);
+        dgemmK(transa, "N", k1, n, k2, -1.0, a, offseta21, lda, b, offsetb + k1, ldb, alpha, b, offsetb, ldb);
+        dtrsmK(side, uplo, transa, diag, k1, n, 1.0, a, offseta11, lda, b, offsetb, ldb);
+      }
+    } else {
+      if (lower) {
+        dtrsmK(side, uplo, transa, diag, m, k2, alpha, a, offseta22, lda, b, offsetb + k1 * ldb, ldb);
+        dgemmK("N", transa, m, k1, k2, -1.0, b, offsetb + k1 * ldb, ldb, a, offseta21, lda, alpha, b, offsetb, ldb);
+        dtrsmK(side, uplo, transa, diag, m, k1, 1.0, a, offseta11, lda, b, offsetb, ldb);
+      } else {
+        dtrsmK(side, uplo, transa, diag, m, k1, alpha, a, offseta11, lda, b, offsetb, ldb);
+        dgemmK("N", transa, m, k2, k1, -1.0, b, offsetb, ldb, a, offseta21, lda, alpha, b, offsetb + k1 * ldb, ldb);
+        dtrsmK(side, uplo, transa, diag, m, k2, 1.0, a, offseta22, lda, b, offsetb + k1 * ldb, ldb);
+      }
+    }
+  }
+
+  protected void dtrsmUnblocked(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
     boolean nounit = lsame("N", diag);
     if (alpha == 0.0) {
       for (int j = 0; j < n; j++) {
@@ -7495,6 +8506,47 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   }
 
   protected void strsmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    // Split the triangular matrix in two and recurse on the diagonal blocks,
+    // so that the bulk of the work goes through sgemmK, and only the small
+    // blocks on the diagonal are solved by strsmUnblocked
+    final int Kblock = 64;
+
+    boolean left = lsame("L", side);
+    int k = left ? m : n;
+    if (alpha == 0.0f || k <= Kblock || (left ? n : m) == 0) {
+      strsmUnblocked(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+      return;
+    }
+    int k1 = Math.max(Kblock, (k / 2) / Kblock * Kblock), k2 = k - k1;
+    int offseta11 = offseta, offseta22 = offseta + k1 + k1 * lda;
+    // the off-diagonal block that's stored, used as op(a) in sgemmK
+    int offseta21 = lsame("L", uplo) ? offseta + k1 : offseta + k1 * lda;
+    // whether op(a) is lower triangular
+    boolean lower = lsame("L", uplo) == lsame("N", transa);
+    if (left) {
+      if (lower) {
+        strsmK(side, uplo, transa, diag, k1, n, alpha, a, offseta11, lda, b, offsetb, ldb);
+        sgemmK(transa, "N", k2, n, k1, -1.0f, a, offseta21, lda, b, offsetb, ldb, alpha, b, offsetb + k1, ldb);
+        strsmK(side, uplo, transa, diag, k2, n, 1.0f, a, offseta22, lda, b, offsetb + k1, ldb);
+      } else {
+        strsmK(side, uplo, transa, diag, k2, n, alpha, a, offseta22, lda, b, offsetb + k1, ldb);
+        sgemmK(transa, "N", k1, n, k2, -1.0f, a, offseta21, lda, b, offsetb + k1, ldb, alpha, b, offsetb, ldb);
+        strsmK(side, uplo, transa, diag, k1, n, 1.0f, a, offseta11, lda, b, offsetb, ldb);
+      }
+    } else {
+      if (lower) {
+        strsmK(side, uplo, transa, diag, m, k2, alpha, a, offseta22, lda, b, offsetb + k1 * ldb, ldb);
+        sgemmK("N", transa, m, k1, k2, -1.0f, b, offsetb + k1 * ldb, ldb, a, offseta21, lda, alpha, b, offsetb, ldb);
+        strsmK(side, uplo, transa, diag, m, k1, 1.0f, a, offseta11, lda, b, offsetb, ldb);
+      } else {
+        strsmK(side, uplo, transa, diag, m, k1, alpha, a, offseta11, lda, b, offsetb, ldb);
+        sgemmK("N", transa, m, k2, k1, -1.0f, b, offsetb, ldb, a, offseta21, lda, alpha, b, offsetb + k1 * ldb, ldb);
+        strsmK(side, uplo, transa, diag, m, k2, 1.0f, a, offseta22, lda, b, offsetb + k1 * ldb, ldb);
+      }
+    }
+  }
+
+  protected void strsmUnblocked(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
     boolean nounit_s = lsame("N", diag);
     if (alpha == 0.0f) {
       for (int j = 0; j < n; j++) {
@@ -7829,6 +8881,30 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     return imax;
   }
 
+  protected int idamaxK(int n, DoubleBuffer x, int offsetx, int incx) {
+    int imax = 1;
+    if (incx == 1) {
+      double max = Math.abs(x.get(offsetx));
+      for (int ix = 1; ix < n; ix += 1) {
+        double absval = Math.abs(x.get(offsetx + ix));
+        if (absval > max) {
+          imax = ix + 1;
+          max = absval;
+        }
+      }
+    } else {
+      double max = Math.abs(x.get(offsetx));
+      for (int i = 1, ix = incx; i < n; i += 1, ix += incx) {
+        double absval = Math.abs(x.get(offsetx + ix));
+        if (absval > max) {
+          imax = i + 1;
+          max = absval;
+        }
+      }
+    }
+    return imax;
+  }
+
   protected int isamaxK(int n, float[] x, int offsetx, int incx) {
     int imax = 1;
     if (incx == 1) {
@@ -7852,4 +8928,28 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
     return imax;
   }
+
+  protected int isamaxK(int n, FloatBuffer x, int offsetx, int incx) {
+    int imax = 1;
+    if (incx == 1) {
+      float max = Math.abs(x.get(offsetx));
+      for (int ix = 1; ix < n; ix += 1) {
+        float absval = Math.abs(x.get(offsetx + ix));
+        if (absval > max) {
+          imax = ix + 1;
+          max = absval;
+        }
+      }
+    } else {
+      float max = Math.abs(x.get(offsetx));
+      for (int i = 1, ix = incx; i < n; i += 1, ix += incx) {
+        float absval = Math.abs(x.get(offsetx + ix));
+        if (absval > max) {
+          imax = i + 1;
+          max = absval;
+        }
+      }
+    }
+    return imax;
+  }
 }
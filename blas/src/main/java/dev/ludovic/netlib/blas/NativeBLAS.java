@@ -25,9 +25,32 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.util.function.Supplier;
+
 public interface NativeBLAS extends BLAS {
 
   public static NativeBLAS getInstance() {
     return InstanceBuilder.nativeBlas();
   }
+
+  // The threading controls below are supported on OpenBLAS, Intel MKL, and BLIS, and throw
+  // UnsupportedOperationException on any other native library
+
+  // Returns the number of threads the native library runs its routines on
+  public int getNumThreads();
+
+  // Sets the number of threads the native library runs its routines on, for all Java threads
+  public void setNumThreads(int numThreads);
+
+  // Runs task with the native library restricted to numThreads threads, and restores the previous
+  // value on return. On OpenBLAS built with OpenMP and on Intel MKL, the override only applies to
+  // the calling thread; on other libraries, it's global and concurrent overrides race each other.
+  public <T> T withNumThreads(int numThreads, Supplier<T> task);
+
+  public default void withNumThreads(int numThreads, Runnable task) {
+    withNumThreads(numThreads, () -> {
+      task.run();
+      return null;
+    });
+  }
 }
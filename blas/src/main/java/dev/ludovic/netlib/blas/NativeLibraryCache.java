@@ -0,0 +1,179 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+// Extracts the JNI glue library shipped in the jar to the file system so it can
+// be passed to System.load. The library is stored in a cache directory under a
+// name derived from the CRC-32 of its content, so that later JVMs loading the
+// same jar reuse it instead of writing a new temporary file on every start. The
+// name only tells versions of the library apart: the cache directory must not
+// be writable by other users, which is checked before using it.
+//
+// Shared by the BLAS, LAPACK and ARPACK bindings, which each pass the system
+// property naming their own cache directory. It is public only so that the
+// other modules can reach it and is not part of the supported API.
+public final class NativeLibraryCache {
+
+  private static final Logger log = Logger.getLogger(NativeLibraryCache.class.getName());
+
+  private NativeLibraryCache() {}
+
+  public static Path extract(ClassLoader loader, String resource, String libPrefix, String libExtension, String cacheDirProperty) {
+    byte[] content;
+    try (InputStream in = loader.getResourceAsStream(resource)) {
+      if (in == null) {
+        throw new IOException("Resource not found: " + resource);
+      }
+      content = readAllBytes(in);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to load native implementation", e);
+    }
+
+    String cacheDir = System.getProperty(cacheDirProperty,
+        Paths.get(System.getProperty("java.io.tmpdir"), "netlib-" + System.getProperty("user.name")).toString());
+    if (!cacheDir.isEmpty()) {
+      try {
+        return extractToCache(Paths.get(cacheDir), content, libPrefix, libExtension);
+      } catch (IOException | RuntimeException e) {
+        log.log(Level.FINE, "Unable to use native library cache directory: " + cacheDir, e);
+      }
+    }
+
+    try {
+      Path temp = Files.createTempFile(libPrefix, libExtension, attributes("rwxr-x---"));
+      temp.toFile().deleteOnExit();
+      Files.write(temp, content);
+      return temp;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to load native implementation", e);
+    }
+  }
+
+  private static Path extractToCache(Path dir, byte[] content, String libPrefix, String libExtension) throws IOException {
+    Path lib = dir.resolve(libPrefix + "-" + crc32(content) + libExtension);
+
+    Files.createDirectories(dir, attributes("rwx------"));
+    checkPrivate(dir);
+
+    if (isValid(lib, content)) {
+      log.fine("Reusing cached native implementation: " + lib);
+      return lib;
+    }
+
+    // Write to a temporary file next to the final one and rename it, so that
+    // concurrent JVMs never observe, nor load, a partially written library
+    Path temp = Files.createTempFile(dir, libPrefix, libExtension + ".tmp", attributes("rwxr-x---"));
+    try {
+      Files.write(temp, content);
+      try {
+        Files.move(temp, lib, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, lib, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      // Another JVM won the race on a platform which can't replace a loaded library
+      if (isValid(lib, content)) {
+        return lib;
+      }
+      throw e;
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    log.fine("Extracted native implementation to cache: " + lib);
+    return lib;
+  }
+
+  // Two libraries can share a CRC-32, only reuse the cached one if it holds the
+  // exact same bytes. Reading it back is much cheaper than hashing the content
+  // with a cryptographic digest in a cold JVM.
+  private static boolean isValid(Path lib, byte[] content) throws IOException {
+    return Files.isRegularFile(lib, LinkOption.NOFOLLOW_LINKS) && Files.size(lib) == content.length
+        && Arrays.equals(Files.readAllBytes(lib), content);
+  }
+
+  // The default cache directory lives in the shared temporary directory; refuse
+  // it if another user could swap the library between its check and its load
+  private static void checkPrivate(Path dir) throws IOException {
+    if (!isPosix()) {
+      return;
+    }
+    UserPrincipal user = dir.getFileSystem().getUserPrincipalLookupService()
+        .lookupPrincipalByName(System.getProperty("user.name"));
+    if (!Files.getOwner(dir, LinkOption.NOFOLLOW_LINKS).equals(user)) {
+      throw new IOException("Cache directory is not owned by " + user.getName() + ": " + dir);
+    }
+    Set<PosixFilePermission> perms = Files.getPosixFilePermissions(dir, LinkOption.NOFOLLOW_LINKS);
+    if (perms.contains(PosixFilePermission.GROUP_WRITE) || perms.contains(PosixFilePermission.OTHERS_WRITE)) {
+      throw new IOException("Cache directory is writable by other users: " + dir);
+    }
+  }
+
+  private static boolean isPosix() {
+    return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+  }
+
+  private static FileAttribute<?>[] attributes(String perms) {
+    return isPosix()
+        ? new FileAttribute<?>[]{ PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(perms)) }
+        : new FileAttribute<?>[0];
+  }
+
+  private static String crc32(byte[] content) {
+    CRC32 crc = new CRC32();
+    crc.update(content, 0, content.length);
+    return Long.toHexString(crc.getValue());
+  }
+
+  private static byte[] readAllBytes(InputStream in) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buf = new byte[8192];
+    for (int n; (n = in.read(buf)) != -1; ) {
+      out.write(buf, 0, n);
+    }
+    return out.toByteArray();
+  }
+}
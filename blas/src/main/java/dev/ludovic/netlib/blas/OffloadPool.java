@@ -0,0 +1,138 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+// A native call made from a virtual thread pins its carrier thread until it
+// returns, which starves the other virtual threads once all the carriers are
+// stuck in long-running routines. When enabled, such calls are run on a
+// bounded pool of platform threads instead, and the virtual thread unmounts
+// while waiting for them.
+//
+// Shared by the BLAS and LAPACK bindings, which each create their own pool
+// configured by the dev.ludovic.netlib.<module>.offloadVirtualThreads,
+// offloadThreads and offloadThreshold system properties. It is public only so
+// that the LAPACK module can reach it and is not part of the supported API.
+public final class OffloadPool {
+
+  private static final Logger log = Logger.getLogger(OffloadPool.class.getName());
+
+  // Thread.isVirtual is only available on Java 21+
+  private static final MethodHandle isVirtual;
+
+  static {
+    MethodHandle handle = null;
+    try {
+      handle = MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+    } catch (ReflectiveOperationException e) {
+      // no virtual threads, nothing to offload
+    }
+    isVirtual = handle;
+  }
+
+  private final boolean enabled;
+  private final long threshold;
+  private final ExecutorService pool;
+
+  // module is blas or lapack, and names both the system properties and the pool threads
+  public OffloadPool(String module) {
+    String prefix = "dev.ludovic.netlib." + module + ".";
+    enabled = isVirtual != null && Boolean.getBoolean(prefix + "offloadVirtualThreads");
+    // 0 or less means one thread per available processor
+    int value = Integer.getInteger(prefix + "offloadThreads", 0);
+    int threads = value > 0 ? value : Runtime.getRuntime().availableProcessors();
+    threshold = Long.getLong(prefix + "offloadThreshold", 100L * 100L * 100L);
+    if (enabled) {
+      AtomicInteger count = new AtomicInteger();
+      pool = Executors.newFixedThreadPool(threads, r -> {
+        Thread t = new Thread(r, "netlib-" + module + "-offload-" + count.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+      });
+      log.fine("Offloading " + module + " native calls of size " + threshold + " and above from virtual threads to " + threads + " thread(s)");
+    } else {
+      pool = null;
+    }
+  }
+
+  public boolean enabled() {
+    return enabled;
+  }
+
+  // Whether a native call of the given size made from the current thread should go through run
+  public boolean offload(long size) {
+    return enabled && size >= threshold && isVirtual(Thread.currentThread());
+  }
+
+  // Runs body on the pool and waits for it to complete. The native routine can't
+  // be stopped half-way through writing its outputs, so an interrupt is only
+  // delivered once it returns.
+  public void run(Runnable body) {
+    FutureTask<Void> task = new FutureTask<>(body, null);
+    pool.execute(task);
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          task.get();
+          return;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          if (cause instanceof RuntimeException) {
+            throw (RuntimeException)cause;
+          }
+          if (cause instanceof Error) {
+            throw (Error)cause;
+          }
+          throw new RuntimeException(cause);
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static boolean isVirtual(Thread thread) {
+    try {
+      return (boolean)isVirtual.invokeExact(thread);
+    } catch (Throwable t) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.logging.Logger;
+
+final class Parallel {
+
+  private static final Logger log = Logger.getLogger(Parallel.class.getName());
+
+  public static final String JAVA_THREADS = "dev.ludovic.netlib.blas.javaThreads";
+  public static final String JAVA_PARALLEL_THRESHOLD = "dev.ludovic.netlib.blas.javaParallelThreshold";
+
+  private static final int threads;
+  private static final long threshold;
+  private static final ForkJoinPool pool;
+
+  static {
+    // 0 or less means one thread per available processor
+    int value = Integer.getInteger(JAVA_THREADS, 1);
+    threads = value > 0 ? value : Runtime.getRuntime().availableProcessors();
+    threshold = Long.getLong(JAVA_PARALLEL_THRESHOLD, 200L * 200L * 200L);
+    pool = threads > 1 ? new ForkJoinPool(threads) : null;
+
+    log.fine("Using " + threads + " thread(s) for operations of size " + threshold + " and above");
+  }
+
+  private Parallel() {}
+
+  // The number of threads available to an operation of the given size
+  public static int threads(long size) {
+    return size >= threshold ? threads : 1;
+  }
+
+  // Runs body for every task in [0, tasks), spreading them over the pool when there are more than one
+  public static void forEach(int tasks, IntConsumer body) {
+    if (tasks <= 1 || pool == null) {
+      for (int task = 0; task < tasks; task += 1) {
+        body.accept(task);
+      }
+    } else if (ForkJoinTask.getPool() == pool) {
+      new ForEach(0, tasks, body).invoke();
+    } else {
+      pool.invoke(new ForEach(0, tasks, body));
+    }
+  }
+
+  private static final class ForEach extends RecursiveAction {
+
+    private final int start, end;
+    private final IntConsumer body;
+
+    ForEach(int start, int end, IntConsumer body) {
+      this.start = start;
+      this.end = end;
+      this.body = body;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start == 1) {
+        body.accept(start);
+      } else {
+        int middle = (start + end) >>> 1;
+        invokeAll(new ForEach(start, middle, body), new ForEach(middle, end, body));
+      }
+    }
+  }
+}
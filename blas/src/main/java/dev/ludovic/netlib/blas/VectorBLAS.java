@@ -27,6 +27,7 @@ package dev.ludovic.netlib.blas;
 
 import jdk.incubator.vector.DoubleVector;
 import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
 import jdk.incubator.vector.VectorOperators;
 import jdk.incubator.vector.VectorSpecies;
 
@@ -115,6 +116,50 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
     }
   }
 
+  protected void dcsrmvN(int start, int end, double alpha, double[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, double[] x, int offsetx, double beta, double[] y, int offsety) {
+    for (int row = start; row < end; row += 1) {
+      int k = rowptr[offsetrowptr + row];
+      int kend = rowptr[offsetrowptr + row + 1];
+      double sum = 0.0;
+      if (kend - k >= DMAX.length()) {
+        // gather the entries of x at the columns of the row
+        DoubleVector vsum = DoubleVector.zero(DMAX);
+        for (; k + DMAX.length() <= kend; k += DMAX.length()) {
+          DoubleVector va = DoubleVector.fromArray(DMAX, values, offsetvalues + k);
+          DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx, colind, offsetcolind + k);
+          vsum = va.fma(vx, vsum);
+        }
+        sum = vsum.reduceLanes(VectorOperators.ADD);
+      }
+      for (; k < kend; k += 1) {
+        sum += values[offsetvalues + k] * x[offsetx + colind[offsetcolind + k]];
+      }
+      y[offsety + row] = beta == 0.0 ? alpha * sum : alpha * sum + beta * y[offsety + row];
+    }
+  }
+
+  protected void scsrmvN(int start, int end, float alpha, float[] values, int offsetvalues, int[] colind, int offsetcolind, int[] rowptr, int offsetrowptr, float[] x, int offsetx, float beta, float[] y, int offsety) {
+    for (int row = start; row < end; row += 1) {
+      int k = rowptr[offsetrowptr + row];
+      int kend = rowptr[offsetrowptr + row + 1];
+      float sum = 0.0f;
+      if (kend - k >= FMAX.length()) {
+        // gather the entries of x at the columns of the row
+        FloatVector vsum = FloatVector.zero(FMAX);
+        for (; k + FMAX.length() <= kend; k += FMAX.length()) {
+          FloatVector va = FloatVector.fromArray(FMAX, values, offsetvalues + k);
+          FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx, colind, offsetcolind + k);
+          vsum = va.fma(vx, vsum);
+        }
+        sum = vsum.reduceLanes(VectorOperators.ADD);
+      }
+      for (; k < kend; k += 1) {
+        sum += values[offsetvalues + k] * x[offsetx + colind[offsetcolind + k]];
+      }
+      y[offsety + row] = beta == 0.0f ? alpha * sum : alpha * sum + beta * y[offsety + row];
+    }
+  }
+
   protected double ddotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
     if (incx == 1 && incy == 1) {
       int i = 0;
@@ -349,6 +394,288 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
     c[offsetc + (row + 2) + (col + 2) * ldc] = Math.fma(alpha, sum22, c[offsetc + (row + 2) + (col + 2) * ldc]);
   }
 
+  // Register-blocked micro-kernel: a is packed in micro-panels of MR rows and
+  // b in micro-panels of NR columns, so that every step of the inner loop loads
+  // two vectors of a, broadcasts NR elements of b and accumulates MR x NR
+  // elements of c in registers. The blocking only depends on k, so the result
+  // is the same however dgemmBlocked splits the rows and columns of c.
+  protected void dgemmGEPP(String transa, String transb, int rows, int rowe, int cols, int cole, int k, int Krow, int Kcol, int Ki, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    final int MR = 2 * DMAX.length(), NR = 4;
+    final int Mc = MR * Math.max(1, 96 / MR), Kc = 256, Nc = 2048;
+    Workspace workspace = Workspace.acquire();
+    try {
+      double[] packeda = workspace.doubles(Workspace.PACKED_A, Mc * Kc);
+      double[] packedb = workspace.doubles(Workspace.PACKED_B, (Nc + NR) * Kc);
+
+      for (int col = cols; col < cole; col += Nc) {
+        int colps = col, colpe = Math.min(col + Nc, cole);
+        for (int i = 0; i < k; i += Kc) {
+          int is = i, ie = Math.min(i + Kc, k);
+          // pack b
+          dgemmPackB(transb, is, ie, colps, colpe, NR, b, offsetb, ldb, packedb);
+          for (int row = rows; row < rowe; row += Mc) {
+            int rowps = row, rowpe = Math.min(row + Mc, rowe);
+            // pack a
+            dgemmPackA(transa, rowps, rowpe, is, ie, MR, a, offseta, lda, packeda);
+            // GEBP
+            for (int colr = colps; colr < colpe; colr += NR) {
+              for (int rowr = rowps; rowr < rowpe; rowr += MR) {
+                dgemmKernel(Math.min(MR, rowpe - rowr), Math.min(NR, colpe - colr), ie - is,
+                            alpha, packeda, (rowr - rowps) * (ie - is), packedb, (colr - colps) * (ie - is),
+                            c, offsetc + rowr + colr * ldc, ldc);
+              }
+            }
+          }
+        }
+      }
+    } finally {
+      workspace.release();
+    }
+  }
+
+  private void dgemmPackA(String transa, int rows, int rowe, int is, int ie, int MR, double[] a, int offseta, int lda, double[] packeda) {
+    int kc = ie - is;
+    for (int row = rows; row < rowe; row += MR) {
+      int mr = Math.min(MR, rowe - row);
+      int offset = (row - rows) * kc;
+      if (lsame("N", transa)) {
+        for (int i = is; i < ie; i += 1) {
+          System.arraycopy(a, offseta + row + i * lda, packeda, offset + (i - is) * MR, mr);
+          for (int r = mr; r < MR; r += 1) {
+            packeda[offset + (i - is) * MR + r] = 0.0;
+          }
+        }
+      } else {
+        for (int r = 0; r < MR; r += 1) {
+          for (int i = is; i < ie; i += 1) {
+            packeda[offset + (i - is) * MR + r] = r < mr ? a[offseta + i + (row + r) * lda] : 0.0;
+          }
+        }
+      }
+    }
+  }
+
+  private void dgemmPackB(String transb, int is, int ie, int cols, int cole, int NR, double[] b, int offsetb, int ldb, double[] packedb) {
+    int kc = ie - is;
+    for (int col = cols; col < cole; col += NR) {
+      int nr = Math.min(NR, cole - col);
+      int offset = (col - cols) * kc;
+      if (lsame("N", transb)) {
+        for (int c = 0; c < NR; c += 1) {
+          for (int i = is; i < ie; i += 1) {
+            packedb[offset + (i - is) * NR + c] = c < nr ? b[offsetb + i + (col + c) * ldb] : 0.0;
+          }
+        }
+      } else {
+        for (int i = is; i < ie; i += 1) {
+          System.arraycopy(b, offsetb + col + i * ldb, packedb, offset + (i - is) * NR, nr);
+          for (int c = nr; c < NR; c += 1) {
+            packedb[offset + (i - is) * NR + c] = 0.0;
+          }
+        }
+      }
+    }
+  }
+
+  private void dgemmKernel(int mr, int nr, int kc, double alpha, double[] packeda, int offseta, double[] packedb, int offsetb, double[] c, int offsetc, int ldc) {
+    final int L = DMAX.length(), MR = 2 * L, NR = 4;
+    DoubleVector c00 = DoubleVector.zero(DMAX), c10 = DoubleVector.zero(DMAX);
+    DoubleVector c01 = DoubleVector.zero(DMAX), c11 = DoubleVector.zero(DMAX);
+    DoubleVector c02 = DoubleVector.zero(DMAX), c12 = DoubleVector.zero(DMAX);
+    DoubleVector c03 = DoubleVector.zero(DMAX), c13 = DoubleVector.zero(DMAX);
+    for (int i = 0; i < kc; i += 1) {
+      DoubleVector a0 = DoubleVector.fromArray(DMAX, packeda, offseta + i * MR);
+      DoubleVector a1 = DoubleVector.fromArray(DMAX, packeda, offseta + i * MR + L);
+      DoubleVector b0 = DoubleVector.broadcast(DMAX, packedb[offsetb + i * NR + 0]);
+      c00 = a0.fma(b0, c00);
+      c10 = a1.fma(b0, c10);
+      DoubleVector b1 = DoubleVector.broadcast(DMAX, packedb[offsetb + i * NR + 1]);
+      c01 = a0.fma(b1, c01);
+      c11 = a1.fma(b1, c11);
+      DoubleVector b2 = DoubleVector.broadcast(DMAX, packedb[offsetb + i * NR + 2]);
+      c02 = a0.fma(b2, c02);
+      c12 = a1.fma(b2, c12);
+      DoubleVector b3 = DoubleVector.broadcast(DMAX, packedb[offsetb + i * NR + 3]);
+      c03 = a0.fma(b3, c03);
+      c13 = a1.fma(b3, c13);
+    }
+    DoubleVector valpha = DoubleVector.broadcast(DMAX, alpha);
+    if (mr == MR) {
+      valpha.fma(c00, DoubleVector.fromArray(DMAX, c, offsetc + 0 * ldc)).intoArray(c, offsetc + 0 * ldc);
+      valpha.fma(c10, DoubleVector.fromArray(DMAX, c, offsetc + 0 * ldc + L)).intoArray(c, offsetc + 0 * ldc + L);
+      if (nr > 1) {
+        valpha.fma(c01, DoubleVector.fromArray(DMAX, c, offsetc + 1 * ldc)).intoArray(c, offsetc + 1 * ldc);
+        valpha.fma(c11, DoubleVector.fromArray(DMAX, c, offsetc + 1 * ldc + L)).intoArray(c, offsetc + 1 * ldc + L);
+      }
+      if (nr > 2) {
+        valpha.fma(c02, DoubleVector.fromArray(DMAX, c, offsetc + 2 * ldc)).intoArray(c, offsetc + 2 * ldc);
+        valpha.fma(c12, DoubleVector.fromArray(DMAX, c, offsetc + 2 * ldc + L)).intoArray(c, offsetc + 2 * ldc + L);
+      }
+      if (nr > 3) {
+        valpha.fma(c03, DoubleVector.fromArray(DMAX, c, offsetc + 3 * ldc)).intoArray(c, offsetc + 3 * ldc);
+        valpha.fma(c13, DoubleVector.fromArray(DMAX, c, offsetc + 3 * ldc + L)).intoArray(c, offsetc + 3 * ldc + L);
+      }
+    } else {
+      VectorMask<Double> m0 = DMAX.indexInRange(0, mr);
+      VectorMask<Double> m1 = DMAX.indexInRange(L, mr);
+      valpha.fma(c00, DoubleVector.fromArray(DMAX, c, offsetc + 0 * ldc, m0)).intoArray(c, offsetc + 0 * ldc, m0);
+      valpha.fma(c10, DoubleVector.fromArray(DMAX, c, offsetc + 0 * ldc + L, m1)).intoArray(c, offsetc + 0 * ldc + L, m1);
+      if (nr > 1) {
+        valpha.fma(c01, DoubleVector.fromArray(DMAX, c, offsetc + 1 * ldc, m0)).intoArray(c, offsetc + 1 * ldc, m0);
+        valpha.fma(c11, DoubleVector.fromArray(DMAX, c, offsetc + 1 * ldc + L, m1)).intoArray(c, offsetc + 1 * ldc + L, m1);
+      }
+      if (nr > 2) {
+        valpha.fma(c02, DoubleVector.fromArray(DMAX, c, offsetc + 2 * ldc, m0)).intoArray(c, offsetc + 2 * ldc, m0);
+        valpha.fma(c12, DoubleVector.fromArray(DMAX, c, offsetc + 2 * ldc + L, m1)).intoArray(c, offsetc + 2 * ldc + L, m1);
+      }
+      if (nr > 3) {
+        valpha.fma(c03, DoubleVector.fromArray(DMAX, c, offsetc + 3 * ldc, m0)).intoArray(c, offsetc + 3 * ldc, m0);
+        valpha.fma(c13, DoubleVector.fromArray(DMAX, c, offsetc + 3 * ldc + L, m1)).intoArray(c, offsetc + 3 * ldc + L, m1);
+      }
+    }
+  }
+
+  // Register-blocked micro-kernel: a is packed in micro-panels of MR rows and
+  // b in micro-panels of NR columns, so that every step of the inner loop loads
+  // two vectors of a, broadcasts NR elements of b and accumulates MR x NR
+  // elements of c in registers. The blocking only depends on k, so the result
+  // is the same however dgemmBlocked splits the rows and columns of c.
+  protected void sgemmGEPP(String transa, String transb, int rows, int rowe, int cols, int cole, int k, int Krow, int Kcol, int Ki, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    final int MR = 2 * FMAX.length(), NR = 4;
+    final int Mc = MR * Math.max(1, 192 / MR), Kc = 256, Nc = 2048;
+    Workspace workspace = Workspace.acquire();
+    try {
+      float[] packeda = workspace.floats(Workspace.PACKED_A, Mc * Kc);
+      float[] packedb = workspace.floats(Workspace.PACKED_B, (Nc + NR) * Kc);
+
+      for (int col = cols; col < cole; col += Nc) {
+        int colps = col, colpe = Math.min(col + Nc, cole);
+        for (int i = 0; i < k; i += Kc) {
+          int is = i, ie = Math.min(i + Kc, k);
+          // pack b
+          sgemmPackB(transb, is, ie, colps, colpe, NR, b, offsetb, ldb, packedb);
+          for (int row = rows; row < rowe; row += Mc) {
+            int rowps = row, rowpe = Math.min(row + Mc, rowe);
+            // pack a
+            sgemmPackA(transa, rowps, rowpe, is, ie, MR, a, offseta, lda, packeda);
+            // GEBP
+            for (int colr = colps; colr < colpe; colr += NR) {
+              for (int rowr = rowps; rowr < rowpe; rowr += MR) {
+                sgemmKernel(Math.min(MR, rowpe - rowr), Math.min(NR, colpe - colr), ie - is,
+                            alpha, packeda, (rowr - rowps) * (ie - is), packedb, (colr - colps) * (ie - is),
+                            c, offsetc + rowr + colr * ldc, ldc);
+              }
+            }
+          }
+        }
+      }
+    } finally {
+      workspace.release();
+    }
+  }
+
+  private void sgemmPackA(String transa, int rows, int rowe, int is, int ie, int MR, float[] a, int offseta, int lda, float[] packeda) {
+    int kc = ie - is;
+    for (int row = rows; row < rowe; row += MR) {
+      int mr = Math.min(MR, rowe - row);
+      int offset = (row - rows) * kc;
+      if (lsame("N", transa)) {
+        for (int i = is; i < ie; i += 1) {
+          System.arraycopy(a, offseta + row + i * lda, packeda, offset + (i - is) * MR, mr);
+          for (int r = mr; r < MR; r += 1) {
+            packeda[offset + (i - is) * MR + r] = 0.0f;
+          }
+        }
+      } else {
+        for (int r = 0; r < MR; r += 1) {
+          for (int i = is; i < ie; i += 1) {
+            packeda[offset + (i - is) * MR + r] = r < mr ? a[offseta + i + (row + r) * lda] : 0.0f;
+          }
+        }
+      }
+    }
+  }
+
+  private void sgemmPackB(String transb, int is, int ie, int cols, int cole, int NR, float[] b, int offsetb, int ldb, float[] packedb) {
+    int kc = ie - is;
+    for (int col = cols; col < cole; col += NR) {
+      int nr = Math.min(NR, cole - col);
+      int offset = (col - cols) * kc;
+      if (lsame("N", transb)) {
+        for (int c = 0; c < NR; c += 1) {
+          for (int i = is; i < ie; i += 1) {
+            packedb[offset + (i - is) * NR + c] = c < nr ? b[offsetb + i + (col + c) * ldb] : 0.0f;
+          }
+        }
+      } else {
+        for (int i = is; i < ie; i += 1) {
+          System.arraycopy(b, offsetb + col + i * ldb, packedb, offset + (i - is) * NR, nr);
+          for (int c = nr; c < NR; c += 1) {
+            packedb[offset + (i - is) * NR + c] = 0.0f;
+          }
+        }
+      }
+    }
+  }
+
+  private void sgemmKernel(int mr, int nr, int kc, float alpha, float[] packeda, int offseta, float[] packedb, int offsetb, float[] c, int offsetc, int ldc) {
+    final int L = FMAX.length(), MR = 2 * L, NR = 4;
+    FloatVector c00 = FloatVector.zero(FMAX), c10 = FloatVector.zero(FMAX);
+    FloatVector c01 = FloatVector.zero(FMAX), c11 = FloatVector.zero(FMAX);
+    FloatVector c02 = FloatVector.zero(FMAX), c12 = FloatVector.zero(FMAX);
+    FloatVector c03 = FloatVector.zero(FMAX), c13 = FloatVector.zero(FMAX);
+    for (int i = 0; i < kc; i += 1) {
+      FloatVector a0 = FloatVector.fromArray(FMAX, packeda, offseta + i * MR);
+      FloatVector a1 = FloatVector.fromArray(FMAX, packeda, offseta + i * MR + L);
+      FloatVector b0 = FloatVector.broadcast(FMAX, packedb[offsetb + i * NR + 0]);
+      c00 = a0.fma(b0, c00);
+      c10 = a1.fma(b0, c10);
+      FloatVector b1 = FloatVector.broadcast(FMAX, packedb[offsetb + i * NR + 1]);
+      c01 = a0.fma(b1, c01);
+      c11 = a1.fma(b1, c11);
+      FloatVector b2 = FloatVector.broadcast(FMAX, packedb[offsetb + i * NR + 2]);
+      c02 = a0.fma(b2, c02);
+      c12 = a1.fma(b2, c12);
+      FloatVector b3 = FloatVector.broadcast(FMAX, packedb[offsetb + i * NR + 3]);
+      c03 = a0.fma(b3, c03);
+      c13 = a1.fma(b3, c13);
+    }
+    FloatVector valpha = FloatVector.broadcast(FMAX, alpha);
+    if (mr == MR) {
+      valpha.fma(c00, FloatVector.fromArray(FMAX, c, offsetc + 0 * ldc)).intoArray(c, offsetc + 0 * ldc);
+      valpha.fma(c10, FloatVector.fromArray(FMAX, c, offsetc + 0 * ldc + L)).intoArray(c, offsetc + 0 * ldc + L);
+      if (nr > 1) {
+        valpha.fma(c01, FloatVector.fromArray(FMAX, c, offsetc + 1 * ldc)).intoArray(c, offsetc + 1 * ldc);
+        valpha.fma(c11, FloatVector.fromArray(FMAX, c, offsetc + 1 * ldc + L)).intoArray(c, offsetc + 1 * ldc + L);
+      }
+      if (nr > 2) {
+        valpha.fma(c02, FloatVector.fromArray(FMAX, c, offsetc + 2 * ldc)).intoArray(c, offsetc + 2 * ldc);
+        valpha.fma(c12, FloatVector.fromArray(FMAX, c, offsetc + 2 * ldc + L)).intoArray(c, offsetc + 2 * ldc + L);
+      }
+      if (nr > 3) {
+        valpha.fma(c03, FloatVector.fromArray(FMAX, c, offsetc + 3 * ldc)).intoArray(c, offsetc + 3 * ldc);
+        valpha.fma(c13, FloatVector.fromArray(FMAX, c, offsetc + 3 * ldc + L)).intoArray(c, offsetc + 3 * ldc + L);
+      }
+    } else {
+      VectorMask<Float> m0 = FMAX.indexInRange(0, mr);
+      VectorMask<Float> m1 = FMAX.indexInRange(L, mr);
+      valpha.fma(c00, FloatVector.fromArray(FMAX, c, offsetc + 0 * ldc, m0)).intoArray(c, offsetc + 0 * ldc, m0);
+      valpha.fma(c10, FloatVector.fromArray(FMAX, c, offsetc + 0 * ldc + L, m1)).intoArray(c, offsetc + 0 * ldc + L, m1);
+      if (nr > 1) {
+        valpha.fma(c01, FloatVector.fromArray(FMAX, c, offsetc + 1 * ldc, m0)).intoArray(c, offsetc + 1 * ldc, m0);
+        valpha.fma(c11, FloatVector.fromArray(FMAX, c, offsetc + 1 * ldc + L, m1)).intoArray(c, offsetc + 1 * ldc + L, m1);
+      }
+      if (nr > 2) {
+        valpha.fma(c02, FloatVector.fromArray(FMAX, c, offsetc + 2 * ldc, m0)).intoArray(c, offsetc + 2 * ldc, m0);
+        valpha.fma(c12, FloatVector.fromArray(FMAX, c, offsetc + 2 * ldc + L, m1)).intoArray(c, offsetc + 2 * ldc + L, m1);
+      }
+      if (nr > 3) {
+        valpha.fma(c03, FloatVector.fromArray(FMAX, c, offsetc + 3 * ldc, m0)).intoArray(c, offsetc + 3 * ldc, m0);
+        valpha.fma(c13, FloatVector.fromArray(FMAX, c, offsetc + 3 * ldc + L, m1)).intoArray(c, offsetc + 3 * ldc + L, m1);
+      }
+    }
+  }
+
   protected void dgemvN(int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
     if (incx == 1 && incy == 1) {
       if (beta != 1.0) {
@@ -414,7 +741,30 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
         }
       }
     } else {
-      super.dgemvN(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        double[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.doubles(Workspace.PACKED_X, n);
+          offsetpx = 0;
+          dcopyK(n, x, offsetx, incx, packedx, 0, 1);
+        }
+        double[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.doubles(Workspace.PACKED_Y, m);
+          offsetpy = 0;
+          dcopyK(m, y, offsety, incy, packedy, 0, 1);
+        }
+        dgemvN(m, n, alpha, a, offseta, lda, packedx, offsetpx, 1, beta, packedy, offsetpy, 1);
+        if (incy != 1) {
+          dcopyK(m, packedy, 0, 1, y, offsety, incy);
+        }
+      } finally {
+        workspace.release();
+      }
     }
   }
 
@@ -486,7 +836,30 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
         }
       }
     } else {
-      super.dgemvT(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        double[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.doubles(Workspace.PACKED_X, m);
+          offsetpx = 0;
+          dcopyK(m, x, offsetx, incx, packedx, 0, 1);
+        }
+        double[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.doubles(Workspace.PACKED_Y, n);
+          offsetpy = 0;
+          dcopyK(n, y, offsety, incy, packedy, 0, 1);
+        }
+        dgemvT(m, n, alpha, a, offseta, lda, packedx, offsetpx, 1, beta, packedy, offsetpy, 1);
+        if (incy != 1) {
+          dcopyK(n, packedy, 0, 1, y, offsety, incy);
+        }
+      } finally {
+        workspace.release();
+      }
     }
   }
 
@@ -555,7 +928,30 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
         }
       }
     } else {
-      super.sgemvN(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        float[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.floats(Workspace.PACKED_X, n);
+          offsetpx = 0;
+          scopyK(n, x, offsetx, incx, packedx, 0, 1);
+        }
+        float[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.floats(Workspace.PACKED_Y, m);
+          offsetpy = 0;
+          scopyK(m, y, offsety, incy, packedy, 0, 1);
+        }
+        sgemvN(m, n, alpha, a, offseta, lda, packedx, offsetpx, 1, beta, packedy, offsetpy, 1);
+        if (incy != 1) {
+          scopyK(m, packedy, 0, 1, y, offsety, incy);
+        }
+      } finally {
+        workspace.release();
+      }
     }
   }
 
@@ -627,7 +1023,30 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
         }
       }
     } else {
-      super.sgemvT(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        float[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.floats(Workspace.PACKED_X, m);
+          offsetpx = 0;
+          scopyK(m, x, offsetx, incx, packedx, 0, 1);
+        }
+        float[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.floats(Workspace.PACKED_Y, n);
+          offsetpy = 0;
+          scopyK(n, y, offsety, incy, packedy, 0, 1);
+        }
+        sgemvT(m, n, alpha, a, offseta, lda, packedx, offsetpx, 1, beta, packedy, offsetpy, 1);
+        if (incy != 1) {
+          scopyK(n, packedy, 0, 1, y, offsety, incy);
+        }
+      } finally {
+        workspace.release();
+      }
     }
   }
 
@@ -957,7 +1376,289 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
         }
       }
     } else {
-      super.dspmvU(n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        double[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.doubles(Workspace.PACKED_X, n);
+          offsetpx = 0;
+          dcopyK(n, x, offsetx, incx, packedx, 0, 1);
+        }
+        double[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.doubles(Workspace.PACKED_Y, n);
+          offsetpy = 0;
+          dcopyK(n, y, offsety, incy, packedy, 0, 1);
+        }
+        dspmvU(n, alpha, a, offseta, packedx, offsetpx, 1, beta, packedy, offsetpy, 1);
+        if (incy != 1) {
+          dcopyK(n, packedy, 0, 1, y, offsety, incy);
+        }
+      } finally {
+        workspace.release();
+      }
+    }
+  }
+
+  protected void dspmvL(int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      // y = beta * y
+      if (beta != 1.0) {
+        int row = 0;
+        DoubleVector vzero = DoubleVector.zero(DMAX);
+        DoubleVector vbeta = DoubleVector.broadcast(DMAX, beta);
+        for (; row < DMAX.loopBound(n); row += DMAX.length()) {
+          if (beta != 0.0) {
+            DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + row);
+            vbeta.mul(vy)
+              .intoArray(y, offsety + row);
+          } else {
+            vzero.intoArray(y, offsety + row);
+          }
+        }
+        for (; row < n; row += 1) {
+          if (beta != 0.0) {
+            y[offsety + row] = beta * y[offsety + row];
+          } else {
+            y[offsety + row] = 0.0;
+          }
+        }
+      }
+      // y += alpha * A * x
+      int col = 0;
+      for (; col < loopBound(n, 4); col += 4) {
+        double alphax0 = alpha * x[offsetx + (col + 0)];
+        double alphax1 = alpha * x[offsetx + (col + 1)];
+        double alphax2 = alpha * x[offsetx + (col + 2)];
+        double alphax3 = alpha * x[offsetx + (col + 3)];
+        DoubleVector valphax0 = DoubleVector.broadcast(DMAX, alphax0);
+        DoubleVector valphax1 = DoubleVector.broadcast(DMAX, alphax1);
+        DoubleVector valphax2 = DoubleVector.broadcast(DMAX, alphax2);
+        DoubleVector valphax3 = DoubleVector.broadcast(DMAX, alphax3);
+        double a00 = a[offseta + (col + 0) + (col + 0) * (2 * n - (col + 0) - 1) / 2];
+        double a10 = a[offseta + (col + 1) + (col + 0) * (2 * n - (col + 0) - 1) / 2];
+        double a11 = a[offseta + (col + 1) + (col + 1) * (2 * n - (col + 1) - 1) / 2];
+        double a20 = a[offseta + (col + 2) + (col + 0) * (2 * n - (col + 0) - 1) / 2];
+        double a21 = a[offseta + (col + 2) + (col + 1) * (2 * n - (col + 1) - 1) / 2];
+        double a22 = a[offseta + (col + 2) + (col + 2) * (2 * n - (col + 2) - 1) / 2];
+        double a30 = a[offseta + (col + 3) + (col + 0) * (2 * n - (col + 0) - 1) / 2];
+        double a31 = a[offseta + (col + 3) + (col + 1) * (2 * n - (col + 1) - 1) / 2];
+        double a32 = a[offseta + (col + 3) + (col + 2) * (2 * n - (col + 2) - 1) / 2];
+        double a33 = a[offseta + (col + 3) + (col + 3) * (2 * n - (col + 3) - 1) / 2];
+        double x0 = x[offsetx + (col + 0)];
+        double x1 = x[offsetx + (col + 1)];
+        double x2 = x[offsetx + (col + 2)];
+        double x3 = x[offsetx + (col + 3)];
+        double sum0 = x0 * a00 + x1 * a10 + x2 * a20 + x3 * a30;
+        double sum1 = x0 * a10 + x1 * a11 + x2 * a21 + x3 * a31;
+        double sum2 = x0 * a20 + x1 * a21 + x2 * a22 + x3 * a32;
+        double sum3 = x0 * a30 + x1 * a31 + x2 * a32 + x3 * a33;
+        DoubleVector vsum0 = DoubleVector.zero(DMAX);
+        DoubleVector vsum1 = DoubleVector.zero(DMAX);
+        DoubleVector vsum2 = DoubleVector.zero(DMAX);
+        DoubleVector vsum3 = DoubleVector.zero(DMAX);
+        int row = col + 4;
+        for (; row < (col + 4) + DMAX.loopBound(n - (col + 4)); row += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 0) * (2 * n - (col + 0) - 1) / 2);
+          DoubleVector va1 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 1) * (2 * n - (col + 1) - 1) / 2);
+          DoubleVector va2 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 2) * (2 * n - (col + 2) - 1) / 2);
+          DoubleVector va3 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 3) * (2 * n - (col + 3) - 1) / 2);
+          DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + row);
+          valphax0.fma(va0, valphax1.fma(va1, valphax2.fma(va2, valphax3.fma(va3, vy))))
+            .intoArray(y, offsety + row);
+          DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+          vsum0 = vx.fma(va0, vsum0);
+          vsum1 = vx.fma(va1, vsum1);
+          vsum2 = vx.fma(va2, vsum2);
+          vsum3 = vx.fma(va3, vsum3);
+        }
+        sum0 += vsum0.reduceLanes(VectorOperators.ADD);
+        sum1 += vsum1.reduceLanes(VectorOperators.ADD);
+        sum2 += vsum2.reduceLanes(VectorOperators.ADD);
+        sum3 += vsum3.reduceLanes(VectorOperators.ADD);
+        for (; row < n; row += 1) {
+          double a0 = a[offseta + row + (col + 0) * (2 * n - (col + 0) - 1) / 2];
+          double a1 = a[offseta + row + (col + 1) * (2 * n - (col + 1) - 1) / 2];
+          double a2 = a[offseta + row + (col + 2) * (2 * n - (col + 2) - 1) / 2];
+          double a3 = a[offseta + row + (col + 3) * (2 * n - (col + 3) - 1) / 2];
+          y[offsety + row] += alphax0 * a0 + alphax1 * a1 + alphax2 * a2 + alphax3 * a3;
+          double xr = x[offsetx + row];
+          sum0 += xr * a0;
+          sum1 += xr * a1;
+          sum2 += xr * a2;
+          sum3 += xr * a3;
+        }
+        y[offsety + (col + 0)] += alpha * sum0;
+        y[offsety + (col + 1)] += alpha * sum1;
+        y[offsety + (col + 2)] += alpha * sum2;
+        y[offsety + (col + 3)] += alpha * sum3;
+      }
+      for (; col < n; col += 1) {
+        double alphax0 = alpha * x[offsetx + col];
+        DoubleVector valphax0 = DoubleVector.broadcast(DMAX, alphax0);
+        double sum0 = x[offsetx + col] * a[offseta + col + col * (2 * n - col - 1) / 2];
+        DoubleVector vsum0 = DoubleVector.zero(DMAX);
+        int row = col + 1;
+        for (; row < (col + 1) + DMAX.loopBound(n - (col + 1)); row += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + col * (2 * n - col - 1) / 2);
+          DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + row);
+          valphax0.fma(va0, vy)
+            .intoArray(y, offsety + row);
+          DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+          vsum0 = vx.fma(va0, vsum0);
+        }
+        sum0 += vsum0.reduceLanes(VectorOperators.ADD);
+        for (; row < n; row += 1) {
+          double a0 = a[offseta + row + col * (2 * n - col - 1) / 2];
+          y[offsety + row] += alphax0 * a0;
+          sum0 += x[offsetx + row] * a0;
+        }
+        y[offsety + col] += alpha * sum0;
+      }
+    } else {
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        double[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.doubles(Workspace.PACKED_X, n);
+          offsetpx = 0;
+          dcopyK(n, x, offsetx, incx, packedx, 0, 1);
+        }
+        double[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.doubles(Workspace.PACKED_Y, n);
+          offsetpy = 0;
+          dcopyK(n, y, offsety, incy, packedy, 0, 1);
+        }
+        dspmvL(n, alpha, a, offseta, packedx, offsetpx, 1, beta, packedy, offsetpy, 1);
+        if (incy != 1) {
+          dcopyK(n, packedy, 0, 1, y, offsety, incy);
+        }
+      } finally {
+        workspace.release();
+      }
+    }
+  }
+
+  protected void dsprK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta) {
+    if (alpha == 0.0) {
+      return;
+    }
+    if (incx == 1) {
+      if (lsame("U", uplo)) {
+        for (int col = 0; col < n; col += 1) {
+          double alphax = alpha * x[offsetx + col];
+          DoubleVector valphax = DoubleVector.broadcast(DMAX, alphax);
+          int row = 0;
+          for (; row < DMAX.loopBound(col + 1); row += DMAX.length()) {
+            DoubleVector va = DoubleVector.fromArray(DMAX, a, offseta + row + col * (col + 1) / 2);
+            DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+            vx.fma(valphax, va)
+              .intoArray(a, offseta + row + col * (col + 1) / 2);
+          }
+          for (; row < col + 1; row += 1) {
+            a[offseta + row + col * (col + 1) / 2] += x[offsetx + row] * alphax;
+          }
+        }
+      } else {
+        for (int col = 0; col < n; col += 1) {
+          double alphax = alpha * x[offsetx + col];
+          DoubleVector valphax = DoubleVector.broadcast(DMAX, alphax);
+          int row = col;
+          for (; row < col + DMAX.loopBound(n - col); row += DMAX.length()) {
+            DoubleVector va = DoubleVector.fromArray(DMAX, a, offseta + row + col * (2 * n - col - 1) / 2);
+            DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+            vx.fma(valphax, va)
+              .intoArray(a, offseta + row + col * (2 * n - col - 1) / 2);
+          }
+          for (; row < n; row += 1) {
+            a[offseta + row + col * (2 * n - col - 1) / 2] += x[offsetx + row] * alphax;
+          }
+        }
+      }
+    } else {
+      // Copy the strided vector to contiguous one to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        double[] packedx = workspace.doubles(Workspace.PACKED_X, n);
+        dcopyK(n, x, offsetx, incx, packedx, 0, 1);
+        dsprK(uplo, n, alpha, packedx, 0, 1, a, offseta);
+      } finally {
+        workspace.release();
+      }
+    }
+  }
+
+  protected void dspr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta) {
+    if (alpha == 0.0) {
+      return;
+    }
+    if (incx == 1 && incy == 1) {
+      if (lsame("U", uplo)) {
+        for (int col = 0; col < n; col += 1) {
+          double alphax = alpha * x[offsetx + col];
+          DoubleVector valphax = DoubleVector.broadcast(DMAX, alphax);
+          double alphay = alpha * y[offsety + col];
+          DoubleVector valphay = DoubleVector.broadcast(DMAX, alphay);
+          int row = 0;
+          for (; row < DMAX.loopBound(col + 1); row += DMAX.length()) {
+            DoubleVector va = DoubleVector.fromArray(DMAX, a, offseta + row + col * (col + 1) / 2);
+            DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+            DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + row);
+            vy.fma(valphax, vx.fma(valphay, va))
+              .intoArray(a, offseta + row + col * (col + 1) / 2);
+          }
+          for (; row < col + 1; row += 1) {
+            a[offseta + row + col * (col + 1) / 2] += y[offsety + row] * alphax + x[offsetx + row] * alphay;
+          }
+        }
+      } else {
+        for (int col = 0; col < n; col += 1) {
+          double alphax = alpha * x[offsetx + col];
+          DoubleVector valphax = DoubleVector.broadcast(DMAX, alphax);
+          double alphay = alpha * y[offsety + col];
+          DoubleVector valphay = DoubleVector.broadcast(DMAX, alphay);
+          int row = col;
+          for (; row < col + DMAX.loopBound(n - col); row += DMAX.length()) {
+            DoubleVector va = DoubleVector.fromArray(DMAX, a, offseta + row + col * (2 * n - col - 1) / 2);
+            DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+            DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + row);
+            vy.fma(valphax, vx.fma(valphay, va))
+              .intoArray(a, offseta + row + col * (2 * n - col - 1) / 2);
+          }
+          for (; row < n; row += 1) {
+            a[offseta + row + col * (2 * n - col - 1) / 2] += y[offsety + row] * alphax + x[offsetx + row] * alphay;
+          }
+        }
+      }
+    } else {
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        double[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.doubles(Workspace.PACKED_X, n);
+          offsetpx = 0;
+          dcopyK(n, x, offsetx, incx, packedx, 0, 1);
+        }
+        double[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.doubles(Workspace.PACKED_Y, n);
+          offsetpy = 0;
+          dcopyK(n, y, offsety, incy, packedy, 0, 1);
+        }
+        dspr2K(uplo, n, alpha, packedx, offsetpx, 1, packedy, offsetpy, 1, a, offseta);
+      } finally {
+        workspace.release();
+      }
     }
   }
 
@@ -1056,7 +1757,289 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
         }
       }
     } else {
-      super.sspmvU(n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        float[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.floats(Workspace.PACKED_X, n);
+          offsetpx = 0;
+          scopyK(n, x, offsetx, incx, packedx, 0, 1);
+        }
+        float[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.floats(Workspace.PACKED_Y, n);
+          offsetpy = 0;
+          scopyK(n, y, offsety, incy, packedy, 0, 1);
+        }
+        sspmvU(n, alpha, a, offseta, packedx, offsetpx, 1, beta, packedy, offsetpy, 1);
+        if (incy != 1) {
+          scopyK(n, packedy, 0, 1, y, offsety, incy);
+        }
+      } finally {
+        workspace.release();
+      }
+    }
+  }
+
+  protected void sspmvL(int n, float alpha, float[] a, int offseta, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      // y = beta * y
+      if (beta != 1.0f) {
+        int row = 0;
+        FloatVector vzero = FloatVector.zero(FMAX);
+        FloatVector vbeta = FloatVector.broadcast(FMAX, beta);
+        for (; row < FMAX.loopBound(n); row += FMAX.length()) {
+          if (beta != 0.0f) {
+            FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + row);
+            vbeta.mul(vy)
+              .intoArray(y, offsety + row);
+          } else {
+            vzero.intoArray(y, offsety + row);
+          }
+        }
+        for (; row < n; row += 1) {
+          if (beta != 0.0f) {
+            y[offsety + row] = beta * y[offsety + row];
+          } else {
+            y[offsety + row] = 0.0f;
+          }
+        }
+      }
+      // y += alpha * A * x
+      int col = 0;
+      for (; col < loopBound(n, 4); col += 4) {
+        float alphax0 = alpha * x[offsetx + (col + 0)];
+        float alphax1 = alpha * x[offsetx + (col + 1)];
+        float alphax2 = alpha * x[offsetx + (col + 2)];
+        float alphax3 = alpha * x[offsetx + (col + 3)];
+        FloatVector valphax0 = FloatVector.broadcast(FMAX, alphax0);
+        FloatVector valphax1 = FloatVector.broadcast(FMAX, alphax1);
+        FloatVector valphax2 = FloatVector.broadcast(FMAX, alphax2);
+        FloatVector valphax3 = FloatVector.broadcast(FMAX, alphax3);
+        float a00 = a[offseta + (col + 0) + (col + 0) * (2 * n - (col + 0) - 1) / 2];
+        float a10 = a[offseta + (col + 1) + (col + 0) * (2 * n - (col + 0) - 1) / 2];
+        float a11 = a[offseta + (col + 1) + (col + 1) * (2 * n - (col + 1) - 1) / 2];
+        float a20 = a[offseta + (col + 2) + (col + 0) * (2 * n - (col + 0) - 1) / 2];
+        float a21 = a[offseta + (col + 2) + (col + 1) * (2 * n - (col + 1) - 1) / 2];
+        float a22 = a[offseta + (col + 2) + (col + 2) * (2 * n - (col + 2) - 1) / 2];
+        float a30 = a[offseta + (col + 3) + (col + 0) * (2 * n - (col + 0) - 1) / 2];
+        float a31 = a[offseta + (col + 3) + (col + 1) * (2 * n - (col + 1) - 1) / 2];
+        float a32 = a[offseta + (col + 3) + (col + 2) * (2 * n - (col + 2) - 1) / 2];
+        float a33 = a[offseta + (col + 3) + (col + 3) * (2 * n - (col + 3) - 1) / 2];
+        float x0 = x[offsetx + (col + 0)];
+        float x1 = x[offsetx + (col + 1)];
+        float x2 = x[offsetx + (col + 2)];
+        float x3 = x[offsetx + (col + 3)];
+        float sum0 = x0 * a00 + x1 * a10 + x2 * a20 + x3 * a30;
+        float sum1 = x0 * a10 + x1 * a11 + x2 * a21 + x3 * a31;
+        float sum2 = x0 * a20 + x1 * a21 + x2 * a22 + x3 * a32;
+        float sum3 = x0 * a30 + x1 * a31 + x2 * a32 + x3 * a33;
+        FloatVector vsum0 = FloatVector.zero(FMAX);
+        FloatVector vsum1 = FloatVector.zero(FMAX);
+        FloatVector vsum2 = FloatVector.zero(FMAX);
+        FloatVector vsum3 = FloatVector.zero(FMAX);
+        int row = col + 4;
+        for (; row < (col + 4) + FMAX.loopBound(n - (col + 4)); row += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 0) * (2 * n - (col + 0) - 1) / 2);
+          FloatVector va1 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 1) * (2 * n - (col + 1) - 1) / 2);
+          FloatVector va2 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 2) * (2 * n - (col + 2) - 1) / 2);
+          FloatVector va3 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 3) * (2 * n - (col + 3) - 1) / 2);
+          FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + row);
+          valphax0.fma(va0, valphax1.fma(va1, valphax2.fma(va2, valphax3.fma(va3, vy))))
+            .intoArray(y, offsety + row);
+          FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+          vsum0 = vx.fma(va0, vsum0);
+          vsum1 = vx.fma(va1, vsum1);
+          vsum2 = vx.fma(va2, vsum2);
+          vsum3 = vx.fma(va3, vsum3);
+        }
+        sum0 += vsum0.reduceLanes(VectorOperators.ADD);
+        sum1 += vsum1.reduceLanes(VectorOperators.ADD);
+        sum2 += vsum2.reduceLanes(VectorOperators.ADD);
+        sum3 += vsum3.reduceLanes(VectorOperators.ADD);
+        for (; row < n; row += 1) {
+          float a0 = a[offseta + row + (col + 0) * (2 * n - (col + 0) - 1) / 2];
+          float a1 = a[offseta + row + (col + 1) * (2 * n - (col + 1) - 1) / 2];
+          float a2 = a[offseta + row + (col + 2) * (2 * n - (col + 2) - 1) / 2];
+          float a3 = a[offseta + row + (col + 3) * (2 * n - (col + 3) - 1) / 2];
+          y[offsety + row] += alphax0 * a0 + alphax1 * a1 + alphax2 * a2 + alphax3 * a3;
+          float xr = x[offsetx + row];
+          sum0 += xr * a0;
+          sum1 += xr * a1;
+          sum2 += xr * a2;
+          sum3 += xr * a3;
+        }
+        y[offsety + (col + 0)] += alpha * sum0;
+        y[offsety + (col + 1)] += alpha * sum1;
+        y[offsety + (col + 2)] += alpha * sum2;
+        y[offsety + (col + 3)] += alpha * sum3;
+      }
+      for (; col < n; col += 1) {
+        float alphax0 = alpha * x[offsetx + col];
+        FloatVector valphax0 = FloatVector.broadcast(FMAX, alphax0);
+        float sum0 = x[offsetx + col] * a[offseta + col + col * (2 * n - col - 1) / 2];
+        FloatVector vsum0 = FloatVector.zero(FMAX);
+        int row = col + 1;
+        for (; row < (col + 1) + FMAX.loopBound(n - (col + 1)); row += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + col * (2 * n - col - 1) / 2);
+          FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + row);
+          valphax0.fma(va0, vy)
+            .intoArray(y, offsety + row);
+          FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+          vsum0 = vx.fma(va0, vsum0);
+        }
+        sum0 += vsum0.reduceLanes(VectorOperators.ADD);
+        for (; row < n; row += 1) {
+          float a0 = a[offseta + row + col * (2 * n - col - 1) / 2];
+          y[offsety + row] += alphax0 * a0;
+          sum0 += x[offsetx + row] * a0;
+        }
+        y[offsety + col] += alpha * sum0;
+      }
+    } else {
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        float[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.floats(Workspace.PACKED_X, n);
+          offsetpx = 0;
+          scopyK(n, x, offsetx, incx, packedx, 0, 1);
+        }
+        float[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.floats(Workspace.PACKED_Y, n);
+          offsetpy = 0;
+          scopyK(n, y, offsety, incy, packedy, 0, 1);
+        }
+        sspmvL(n, alpha, a, offseta, packedx, offsetpx, 1, beta, packedy, offsetpy, 1);
+        if (incy != 1) {
+          scopyK(n, packedy, 0, 1, y, offsety, incy);
+        }
+      } finally {
+        workspace.release();
+      }
+    }
+  }
+
+  protected void ssprK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta) {
+    if (alpha == 0.0f) {
+      return;
+    }
+    if (incx == 1) {
+      if (lsame("U", uplo)) {
+        for (int col = 0; col < n; col += 1) {
+          float alphax = alpha * x[offsetx + col];
+          FloatVector valphax = FloatVector.broadcast(FMAX, alphax);
+          int row = 0;
+          for (; row < FMAX.loopBound(col + 1); row += FMAX.length()) {
+            FloatVector va = FloatVector.fromArray(FMAX, a, offseta + row + col * (col + 1) / 2);
+            FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+            vx.fma(valphax, va)
+              .intoArray(a, offseta + row + col * (col + 1) / 2);
+          }
+          for (; row < col + 1; row += 1) {
+            a[offseta + row + col * (col + 1) / 2] += x[offsetx + row] * alphax;
+          }
+        }
+      } else {
+        for (int col = 0; col < n; col += 1) {
+          float alphax = alpha * x[offsetx + col];
+          FloatVector valphax = FloatVector.broadcast(FMAX, alphax);
+          int row = col;
+          for (; row < col + FMAX.loopBound(n - col); row += FMAX.length()) {
+            FloatVector va = FloatVector.fromArray(FMAX, a, offseta + row + col * (2 * n - col - 1) / 2);
+            FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+            vx.fma(valphax, va)
+              .intoArray(a, offseta + row + col * (2 * n - col - 1) / 2);
+          }
+          for (; row < n; row += 1) {
+            a[offseta + row + col * (2 * n - col - 1) / 2] += x[offsetx + row] * alphax;
+          }
+        }
+      }
+    } else {
+      // Copy the strided vector to contiguous one to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        float[] packedx = workspace.floats(Workspace.PACKED_X, n);
+        scopyK(n, x, offsetx, incx, packedx, 0, 1);
+        ssprK(uplo, n, alpha, packedx, 0, 1, a, offseta);
+      } finally {
+        workspace.release();
+      }
+    }
+  }
+
+  protected void sspr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta) {
+    if (alpha == 0.0f) {
+      return;
+    }
+    if (incx == 1 && incy == 1) {
+      if (lsame("U", uplo)) {
+        for (int col = 0; col < n; col += 1) {
+          float alphax = alpha * x[offsetx + col];
+          FloatVector valphax = FloatVector.broadcast(FMAX, alphax);
+          float alphay = alpha * y[offsety + col];
+          FloatVector valphay = FloatVector.broadcast(FMAX, alphay);
+          int row = 0;
+          for (; row < FMAX.loopBound(col + 1); row += FMAX.length()) {
+            FloatVector va = FloatVector.fromArray(FMAX, a, offseta + row + col * (col + 1) / 2);
+            FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+            FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + row);
+            vy.fma(valphax, vx.fma(valphay, va))
+              .intoArray(a, offseta + row + col * (col + 1) / 2);
+          }
+          for (; row < col + 1; row += 1) {
+            a[offseta + row + col * (col + 1) / 2] += y[offsety + row] * alphax + x[offsetx + row] * alphay;
+          }
+        }
+      } else {
+        for (int col = 0; col < n; col += 1) {
+          float alphax = alpha * x[offsetx + col];
+          FloatVector valphax = FloatVector.broadcast(FMAX, alphax);
+          float alphay = alpha * y[offsety + col];
+          FloatVector valphay = FloatVector.broadcast(FMAX, alphay);
+          int row = col;
+          for (; row < col + FMAX.loopBound(n - col); row += FMAX.length()) {
+            FloatVector va = FloatVector.fromArray(FMAX, a, offseta + row + col * (2 * n - col - 1) / 2);
+            FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+            FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + row);
+            vy.fma(valphax, vx.fma(valphay, va))
+              .intoArray(a, offseta + row + col * (2 * n - col - 1) / 2);
+          }
+          for (; row < n; row += 1) {
+            a[offseta + row + col * (2 * n - col - 1) / 2] += y[offsety + row] * alphax + x[offsetx + row] * alphay;
+          }
+        }
+      }
+    } else {
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        float[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.floats(Workspace.PACKED_X, n);
+          offsetpx = 0;
+          scopyK(n, x, offsetx, incx, packedx, 0, 1);
+        }
+        float[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.floats(Workspace.PACKED_Y, n);
+          offsetpy = 0;
+          scopyK(n, y, offsety, incy, packedy, 0, 1);
+        }
+        sspr2K(uplo, n, alpha, packedx, offsetpx, 1, packedy, offsetpy, 1, a, offseta);
+      } finally {
+        workspace.release();
+      }
     }
   }
 
@@ -1759,7 +2742,283 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
         }
       }
     } else {
-      super.dsymvU(n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        double[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.doubles(Workspace.PACKED_X, n);
+          offsetpx = 0;
+          dcopyK(n, x, offsetx, incx, packedx, 0, 1);
+        }
+        double[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.doubles(Workspace.PACKED_Y, n);
+          offsetpy = 0;
+          dcopyK(n, y, offsety, incy, packedy, 0, 1);
+        }
+        dsymvU(n, alpha, a, offseta, lda, packedx, offsetpx, 1, beta, packedy, offsetpy, 1);
+        if (incy != 1) {
+          dcopyK(n, packedy, 0, 1, y, offsety, incy);
+        }
+      } finally {
+        workspace.release();
+      }
+    }
+  }
+
+  protected void dsymvL(int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      // y = beta * y
+      if (beta != 1.0) {
+        int row = 0;
+        DoubleVector vzero = DoubleVector.zero(DMAX);
+        DoubleVector vbeta = DoubleVector.broadcast(DMAX, beta);
+        for (; row < DMAX.loopBound(n); row += DMAX.length()) {
+          if (beta != 0.0) {
+            DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + row);
+            vbeta.mul(vy)
+              .intoArray(y, offsety + row);
+          } else {
+            vzero.intoArray(y, offsety + row);
+          }
+        }
+        for (; row < n; row += 1) {
+          if (beta != 0.0) {
+            y[offsety + row] = beta * y[offsety + row];
+          } else {
+            y[offsety + row] = 0.0;
+          }
+        }
+      }
+      // y += alpha * A * x
+      int col = 0;
+      for (; col < loopBound(n, 4); col += 4) {
+        double alphax0 = alpha * x[offsetx + (col + 0)];
+        double alphax1 = alpha * x[offsetx + (col + 1)];
+        double alphax2 = alpha * x[offsetx + (col + 2)];
+        double alphax3 = alpha * x[offsetx + (col + 3)];
+        DoubleVector valphax0 = DoubleVector.broadcast(DMAX, alphax0);
+        DoubleVector valphax1 = DoubleVector.broadcast(DMAX, alphax1);
+        DoubleVector valphax2 = DoubleVector.broadcast(DMAX, alphax2);
+        DoubleVector valphax3 = DoubleVector.broadcast(DMAX, alphax3);
+        double a00 = a[offseta + (col + 0) + (col + 0) * lda];
+        double a10 = a[offseta + (col + 1) + (col + 0) * lda];
+        double a11 = a[offseta + (col + 1) + (col + 1) * lda];
+        double a20 = a[offseta + (col + 2) + (col + 0) * lda];
+        double a21 = a[offseta + (col + 2) + (col + 1) * lda];
+        double a22 = a[offseta + (col + 2) + (col + 2) * lda];
+        double a30 = a[offseta + (col + 3) + (col + 0) * lda];
+        double a31 = a[offseta + (col + 3) + (col + 1) * lda];
+        double a32 = a[offseta + (col + 3) + (col + 2) * lda];
+        double a33 = a[offseta + (col + 3) + (col + 3) * lda];
+        double x0 = x[offsetx + (col + 0)];
+        double x1 = x[offsetx + (col + 1)];
+        double x2 = x[offsetx + (col + 2)];
+        double x3 = x[offsetx + (col + 3)];
+        double sum0 = x0 * a00 + x1 * a10 + x2 * a20 + x3 * a30;
+        double sum1 = x0 * a10 + x1 * a11 + x2 * a21 + x3 * a31;
+        double sum2 = x0 * a20 + x1 * a21 + x2 * a22 + x3 * a32;
+        double sum3 = x0 * a30 + x1 * a31 + x2 * a32 + x3 * a33;
+        DoubleVector vsum0 = DoubleVector.zero(DMAX);
+        DoubleVector vsum1 = DoubleVector.zero(DMAX);
+        DoubleVector vsum2 = DoubleVector.zero(DMAX);
+        DoubleVector vsum3 = DoubleVector.zero(DMAX);
+        int row = col + 4;
+        for (; row < (col + 4) + DMAX.loopBound(n - (col + 4)); row += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 0) * lda);
+          DoubleVector va1 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 1) * lda);
+          DoubleVector va2 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 2) * lda);
+          DoubleVector va3 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 3) * lda);
+          DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + row);
+          valphax0.fma(va0, valphax1.fma(va1, valphax2.fma(va2, valphax3.fma(va3, vy))))
+            .intoArray(y, offsety + row);
+          DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+          vsum0 = vx.fma(va0, vsum0);
+          vsum1 = vx.fma(va1, vsum1);
+          vsum2 = vx.fma(va2, vsum2);
+          vsum3 = vx.fma(va3, vsum3);
+        }
+        sum0 += vsum0.reduceLanes(VectorOperators.ADD);
+        sum1 += vsum1.reduceLanes(VectorOperators.ADD);
+        sum2 += vsum2.reduceLanes(VectorOperators.ADD);
+        sum3 += vsum3.reduceLanes(VectorOperators.ADD);
+        for (; row < n; row += 1) {
+          double a0 = a[offseta + row + (col + 0) * lda];
+          double a1 = a[offseta + row + (col + 1) * lda];
+          double a2 = a[offseta + row + (col + 2) * lda];
+          double a3 = a[offseta + row + (col + 3) * lda];
+          y[offsety + row] += alphax0 * a0 + alphax1 * a1 + alphax2 * a2 + alphax3 * a3;
+          double xr = x[offsetx + row];
+          sum0 += xr * a0;
+          sum1 += xr * a1;
+          sum2 += xr * a2;
+          sum3 += xr * a3;
+        }
+        y[offsety + (col + 0)] += alpha * sum0;
+        y[offsety + (col + 1)] += alpha * sum1;
+        y[offsety + (col + 2)] += alpha * sum2;
+        y[offsety + (col + 3)] += alpha * sum3;
+      }
+      for (; col < n; col += 1) {
+        double alphax0 = alpha * x[offsetx + col];
+        DoubleVector valphax0 = DoubleVector.broadcast(DMAX, alphax0);
+        double sum0 = x[offsetx + col] * a[offseta + col + col * lda];
+        DoubleVector vsum0 = DoubleVector.zero(DMAX);
+        int row = col + 1;
+        for (; row < (col + 1) + DMAX.loopBound(n - (col + 1)); row += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + col * lda);
+          DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + row);
+          valphax0.fma(va0, vy)
+            .intoArray(y, offsety + row);
+          DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+          vsum0 = vx.fma(va0, vsum0);
+        }
+        sum0 += vsum0.reduceLanes(VectorOperators.ADD);
+        for (; row < n; row += 1) {
+          double a0 = a[offseta + row + col * lda];
+          y[offsety + row] += alphax0 * a0;
+          sum0 += x[offsetx + row] * a0;
+        }
+        y[offsety + col] += alpha * sum0;
+      }
+    } else {
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        double[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.doubles(Workspace.PACKED_X, n);
+          offsetpx = 0;
+          dcopyK(n, x, offsetx, incx, packedx, 0, 1);
+        }
+        double[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.doubles(Workspace.PACKED_Y, n);
+          offsetpy = 0;
+          dcopyK(n, y, offsety, incy, packedy, 0, 1);
+        }
+        dsymvL(n, alpha, a, offseta, lda, packedx, offsetpx, 1, beta, packedy, offsetpy, 1);
+        if (incy != 1) {
+          dcopyK(n, packedy, 0, 1, y, offsety, incy);
+        }
+      } finally {
+        workspace.release();
+      }
+    }
+  }
+
+  protected void dsyrK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta, int lda) {
+    if (incx == 1) {
+      if (lsame("U", uplo)) {
+        for (int col = 0; col < n; col += 1) {
+          double alphax = alpha * x[offsetx + col];
+          DoubleVector valphax = DoubleVector.broadcast(DMAX, alphax);
+          int row = 0;
+          for (; row < DMAX.loopBound(col + 1); row += DMAX.length()) {
+            DoubleVector va = DoubleVector.fromArray(DMAX, a, offseta + row + col * lda);
+            DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+            vx.fma(valphax, va)
+              .intoArray(a, offseta + row + col * lda);
+          }
+          for (; row < col + 1; row += 1) {
+            a[offseta + row + col * lda] += x[offsetx + row] * alphax;
+          }
+        }
+      } else {
+        for (int col = 0; col < n; col += 1) {
+          double alphax = alpha * x[offsetx + col];
+          DoubleVector valphax = DoubleVector.broadcast(DMAX, alphax);
+          int row = col;
+          for (; row < col + DMAX.loopBound(n - col); row += DMAX.length()) {
+            DoubleVector va = DoubleVector.fromArray(DMAX, a, offseta + row + col * lda);
+            DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+            vx.fma(valphax, va)
+              .intoArray(a, offseta + row + col * lda);
+          }
+          for (; row < n; row += 1) {
+            a[offseta + row + col * lda] += x[offsetx + row] * alphax;
+          }
+        }
+      }
+    } else {
+      // Copy the strided vector to contiguous one to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        double[] packedx = workspace.doubles(Workspace.PACKED_X, n);
+        dcopyK(n, x, offsetx, incx, packedx, 0, 1);
+        dsyrK(uplo, n, alpha, packedx, 0, 1, a, offseta, lda);
+      } finally {
+        workspace.release();
+      }
+    }
+  }
+
+  protected void dsyr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    if (incx == 1 && incy == 1) {
+      if (lsame("U", uplo)) {
+        for (int col = 0; col < n; col += 1) {
+          double alphax = alpha * x[offsetx + col];
+          DoubleVector valphax = DoubleVector.broadcast(DMAX, alphax);
+          double alphay = alpha * y[offsety + col];
+          DoubleVector valphay = DoubleVector.broadcast(DMAX, alphay);
+          int row = 0;
+          for (; row < DMAX.loopBound(col + 1); row += DMAX.length()) {
+            DoubleVector va = DoubleVector.fromArray(DMAX, a, offseta + row + col * lda);
+            DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+            DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + row);
+            vy.fma(valphax, vx.fma(valphay, va))
+              .intoArray(a, offseta + row + col * lda);
+          }
+          for (; row < col + 1; row += 1) {
+            a[offseta + row + col * lda] += y[offsety + row] * alphax + x[offsetx + row] * alphay;
+          }
+        }
+      } else {
+        for (int col = 0; col < n; col += 1) {
+          double alphax = alpha * x[offsetx + col];
+          DoubleVector valphax = DoubleVector.broadcast(DMAX, alphax);
+          double alphay = alpha * y[offsety + col];
+          DoubleVector valphay = DoubleVector.broadcast(DMAX, alphay);
+          int row = col;
+          for (; row < col + DMAX.loopBound(n - col); row += DMAX.length()) {
+            DoubleVector va = DoubleVector.fromArray(DMAX, a, offseta + row + col * lda);
+            DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+            DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + row);
+            vy.fma(valphax, vx.fma(valphay, va))
+              .intoArray(a, offseta + row + col * lda);
+          }
+          for (; row < n; row += 1) {
+            a[offseta + row + col * lda] += y[offsety + row] * alphax + x[offsetx + row] * alphay;
+          }
+        }
+      }
+    } else {
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        double[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.doubles(Workspace.PACKED_X, n);
+          offsetpx = 0;
+          dcopyK(n, x, offsetx, incx, packedx, 0, 1);
+        }
+        double[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.doubles(Workspace.PACKED_Y, n);
+          offsetpy = 0;
+          dcopyK(n, y, offsety, incy, packedy, 0, 1);
+        }
+        dsyr2K(uplo, n, alpha, packedx, offsetpx, 1, packedy, offsetpy, 1, a, offseta, lda);
+      } finally {
+        workspace.release();
+      }
     }
   }
 
@@ -1874,7 +3133,283 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
         }
       }
     } else {
-      super.ssymvU(n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        float[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.floats(Workspace.PACKED_X, n);
+          offsetpx = 0;
+          scopyK(n, x, offsetx, incx, packedx, 0, 1);
+        }
+        float[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.floats(Workspace.PACKED_Y, n);
+          offsetpy = 0;
+          scopyK(n, y, offsety, incy, packedy, 0, 1);
+        }
+        ssymvU(n, alpha, a, offseta, lda, packedx, offsetpx, 1, beta, packedy, offsetpy, 1);
+        if (incy != 1) {
+          scopyK(n, packedy, 0, 1, y, offsety, incy);
+        }
+      } finally {
+        workspace.release();
+      }
+    }
+  }
+
+  protected void ssymvL(int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      // y = beta * y
+      if (beta != 1.0f) {
+        int row = 0;
+        FloatVector vzero = FloatVector.zero(FMAX);
+        FloatVector vbeta = FloatVector.broadcast(FMAX, beta);
+        for (; row < FMAX.loopBound(n); row += FMAX.length()) {
+          if (beta != 0.0f) {
+            FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + row);
+            vbeta.mul(vy)
+              .intoArray(y, offsety + row);
+          } else {
+            vzero.intoArray(y, offsety + row);
+          }
+        }
+        for (; row < n; row += 1) {
+          if (beta != 0.0f) {
+            y[offsety + row] = beta * y[offsety + row];
+          } else {
+            y[offsety + row] = 0.0f;
+          }
+        }
+      }
+      // y += alpha * A * x
+      int col = 0;
+      for (; col < loopBound(n, 4); col += 4) {
+        float alphax0 = alpha * x[offsetx + (col + 0)];
+        float alphax1 = alpha * x[offsetx + (col + 1)];
+        float alphax2 = alpha * x[offsetx + (col + 2)];
+        float alphax3 = alpha * x[offsetx + (col + 3)];
+        FloatVector valphax0 = FloatVector.broadcast(FMAX, alphax0);
+        FloatVector valphax1 = FloatVector.broadcast(FMAX, alphax1);
+        FloatVector valphax2 = FloatVector.broadcast(FMAX, alphax2);
+        FloatVector valphax3 = FloatVector.broadcast(FMAX, alphax3);
+        float a00 = a[offseta + (col + 0) + (col + 0) * lda];
+        float a10 = a[offseta + (col + 1) + (col + 0) * lda];
+        float a11 = a[offseta + (col + 1) + (col + 1) * lda];
+        float a20 = a[offseta + (col + 2) + (col + 0) * lda];
+        float a21 = a[offseta + (col + 2) + (col + 1) * lda];
+        float a22 = a[offseta + (col + 2) + (col + 2) * lda];
+        float a30 = a[offseta + (col + 3) + (col + 0) * lda];
+        float a31 = a[offseta + (col + 3) + (col + 1) * lda];
+        float a32 = a[offseta + (col + 3) + (col + 2) * lda];
+        float a33 = a[offseta + (col + 3) + (col + 3) * lda];
+        float x0 = x[offsetx + (col + 0)];
+        float x1 = x[offsetx + (col + 1)];
+        float x2 = x[offsetx + (col + 2)];
+        float x3 = x[offsetx + (col + 3)];
+        float sum0 = x0 * a00 + x1 * a10 + x2 * a20 + x3 * a30;
+        float sum1 = x0 * a10 + x1 * a11 + x2 * a21 + x3 * a31;
+        float sum2 = x0 * a20 + x1 * a21 + x2 * a22 + x3 * a32;
+        float sum3 = x0 * a30 + x1 * a31 + x2 * a32 + x3 * a33;
+        FloatVector vsum0 = FloatVector.zero(FMAX);
+        FloatVector vsum1 = FloatVector.zero(FMAX);
+        FloatVector vsum2 = FloatVector.zero(FMAX);
+        FloatVector vsum3 = FloatVector.zero(FMAX);
+        int row = col + 4;
+        for (; row < (col + 4) + FMAX.loopBound(n - (col + 4)); row += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 0) * lda);
+          FloatVector va1 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 1) * lda);
+          FloatVector va2 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 2) * lda);
+          FloatVector va3 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 3) * lda);
+          FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + row);
+          valphax0.fma(va0, valphax1.fma(va1, valphax2.fma(va2, valphax3.fma(va3, vy))))
+            .intoArray(y, offsety + row);
+          FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+          vsum0 = vx.fma(va0, vsum0);
+          vsum1 = vx.fma(va1, vsum1);
+          vsum2 = vx.fma(va2, vsum2);
+          vsum3 = vx.fma(va3, vsum3);
+        }
+        sum0 += vsum0.reduceLanes(VectorOperators.ADD);
+        sum1 += vsum1.reduceLanes(VectorOperators.ADD);
+        sum2 += vsum2.reduceLanes(VectorOperators.ADD);
+        sum3 += vsum3.reduceLanes(VectorOperators.ADD);
+        for (; row < n; row += 1) {
+          float a0 = a[offseta + row + (col + 0) * lda];
+          float a1 = a[offseta + row + (col + 1) * lda];
+          float a2 = a[offseta + row + (col + 2) * lda];
+          float a3 = a[offseta + row + (col + 3) * lda];
+          y[offsety + row] += alphax0 * a0 + alphax1 * a1 + alphax2 * a2 + alphax3 * a3;
+          float xr = x[offsetx + row];
+          sum0 += xr * a0;
+          sum1 += xr * a1;
+          sum2 += xr * a2;
+          sum3 += xr * a3;
+        }
+        y[offsety + (col + 0)] += alpha * sum0;
+        y[offsety + (col + 1)] += alpha * sum1;
+        y[offsety + (col + 2)] += alpha * sum2;
+        y[offsety + (col + 3)] += alpha * sum3;
+      }
+      for (; col < n; col += 1) {
+        float alphax0 = alpha * x[offsetx + col];
+        FloatVector valphax0 = FloatVector.broadcast(FMAX, alphax0);
+        float sum0 = x[offsetx + col] * a[offseta + col + col * lda];
+        FloatVector vsum0 = FloatVector.zero(FMAX);
+        int row = col + 1;
+        for (; row < (col + 1) + FMAX.loopBound(n - (col + 1)); row += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + col * lda);
+          FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + row);
+          valphax0.fma(va0, vy)
+            .intoArray(y, offsety + row);
+          FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+          vsum0 = vx.fma(va0, vsum0);
+        }
+        sum0 += vsum0.reduceLanes(VectorOperators.ADD);
+        for (; row < n; row += 1) {
+          float a0 = a[offseta + row + col * lda];
+          y[offsety + row] += alphax0 * a0;
+          sum0 += x[offsetx + row] * a0;
+        }
+        y[offsety + col] += alpha * sum0;
+      }
+    } else {
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        float[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.floats(Workspace.PACKED_X, n);
+          offsetpx = 0;
+          scopyK(n, x, offsetx, incx, packedx, 0, 1);
+        }
+        float[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.floats(Workspace.PACKED_Y, n);
+          offsetpy = 0;
+          scopyK(n, y, offsety, incy, packedy, 0, 1);
+        }
+        ssymvL(n, alpha, a, offseta, lda, packedx, offsetpx, 1, beta, packedy, offsetpy, 1);
+        if (incy != 1) {
+          scopyK(n, packedy, 0, 1, y, offsety, incy);
+        }
+      } finally {
+        workspace.release();
+      }
+    }
+  }
+
+  protected void ssyrK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta, int lda) {
+    if (incx == 1) {
+      if (lsame("U", uplo)) {
+        for (int col = 0; col < n; col += 1) {
+          float alphax = alpha * x[offsetx + col];
+          FloatVector valphax = FloatVector.broadcast(FMAX, alphax);
+          int row = 0;
+          for (; row < FMAX.loopBound(col + 1); row += FMAX.length()) {
+            FloatVector va = FloatVector.fromArray(FMAX, a, offseta + row + col * lda);
+            FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+            vx.fma(valphax, va)
+              .intoArray(a, offseta + row + col * lda);
+          }
+          for (; row < col + 1; row += 1) {
+            a[offseta + row + col * lda] += x[offsetx + row] * alphax;
+          }
+        }
+      } else {
+        for (int col = 0; col < n; col += 1) {
+          float alphax = alpha * x[offsetx + col];
+          FloatVector valphax = FloatVector.broadcast(FMAX, alphax);
+          int row = col;
+          for (; row < col + FMAX.loopBound(n - col); row += FMAX.length()) {
+            FloatVector va = FloatVector.fromArray(FMAX, a, offseta + row + col * lda);
+            FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+            vx.fma(valphax, va)
+              .intoArray(a, offseta + row + col * lda);
+          }
+          for (; row < n; row += 1) {
+            a[offseta + row + col * lda] += x[offsetx + row] * alphax;
+          }
+        }
+      }
+    } else {
+      // Copy the strided vector to contiguous one to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        float[] packedx = workspace.floats(Workspace.PACKED_X, n);
+        scopyK(n, x, offsetx, incx, packedx, 0, 1);
+        ssyrK(uplo, n, alpha, packedx, 0, 1, a, offseta, lda);
+      } finally {
+        workspace.release();
+      }
+    }
+  }
+
+  protected void ssyr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    if (incx == 1 && incy == 1) {
+      if (lsame("U", uplo)) {
+        for (int col = 0; col < n; col += 1) {
+          float alphax = alpha * x[offsetx + col];
+          FloatVector valphax = FloatVector.broadcast(FMAX, alphax);
+          float alphay = alpha * y[offsety + col];
+          FloatVector valphay = FloatVector.broadcast(FMAX, alphay);
+          int row = 0;
+          for (; row < FMAX.loopBound(col + 1); row += FMAX.length()) {
+            FloatVector va = FloatVector.fromArray(FMAX, a, offseta + row + col * lda);
+            FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+            FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + row);
+            vy.fma(valphax, vx.fma(valphay, va))
+              .intoArray(a, offseta + row + col * lda);
+          }
+          for (; row < col + 1; row += 1) {
+            a[offseta + row + col * lda] += y[offsety + row] * alphax + x[offsetx + row] * alphay;
+          }
+        }
+      } else {
+        for (int col = 0; col < n; col += 1) {
+          float alphax = alpha * x[offsetx + col];
+          FloatVector valphax = FloatVector.broadcast(FMAX, alphax);
+          float alphay = alpha * y[offsety + col];
+          FloatVector valphay = FloatVector.broadcast(FMAX, alphay);
+          int row = col;
+          for (; row < col + FMAX.loopBound(n - col); row += FMAX.length()) {
+            FloatVector va = FloatVector.fromArray(FMAX, a, offseta + row + col * lda);
+            FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+            FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + row);
+            vy.fma(valphax, vx.fma(valphay, va))
+              .intoArray(a, offseta + row + col * lda);
+          }
+          for (; row < n; row += 1) {
+            a[offseta + row + col * lda] += y[offsety + row] * alphax + x[offsetx + row] * alphay;
+          }
+        }
+      }
+    } else {
+      // Copy the strided vectors to contiguous ones to use the kernel above
+      Workspace workspace = Workspace.acquire();
+      try {
+        float[] packedx = x;
+        int offsetpx = offsetx;
+        if (incx != 1) {
+          packedx = workspace.floats(Workspace.PACKED_X, n);
+          offsetpx = 0;
+          scopyK(n, x, offsetx, incx, packedx, 0, 1);
+        }
+        float[] packedy = y;
+        int offsetpy = offsety;
+        if (incy != 1) {
+          packedy = workspace.floats(Workspace.PACKED_Y, n);
+          offsetpy = 0;
+          scopyK(n, y, offsety, incy, packedy, 0, 1);
+        }
+        ssyr2K(uplo, n, alpha, packedx, offsetpx, 1, packedy, offsetpy, 1, a, offseta, lda);
+      } finally {
+        workspace.release();
+      }
     }
   }
 }
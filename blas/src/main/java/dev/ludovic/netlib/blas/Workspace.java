@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+final class Workspace {
+
+  // Slots for the packed panels of the blocked level-3 kernels
+  public static final int PACKED_A = 0;
+  public static final int PACKED_B = 1;
+  public static final int PACKED_C = 2;
+  // Slots for the contiguous copies of strided vectors of the level-2 kernels
+  public static final int PACKED_X = 3;
+  public static final int PACKED_Y = 4;
+
+  private static final int SLOTS = 5;
+
+  // Keep at most a couple of workspaces per processor around, any extra is
+  // left to the GC once released
+  private static final Workspace[] pool = new Workspace[2 * Runtime.getRuntime().availableProcessors()];
+  private static int pooled = 0;
+
+  // The vector slots grow to the length of the vectors, so they're only kept
+  // in the pool up to this many elements
+  private static final int MAX_POOLED_VECTOR = 1 << 16;
+
+  private final double[][] doubles = new double[SLOTS][];
+  private final float[][] floats = new float[SLOTS][];
+
+  private Workspace() {}
+
+  public static Workspace acquire() {
+    synchronized (pool) {
+      if (pooled > 0) {
+        Workspace workspace = pool[--pooled];
+        pool[pooled] = null;
+        return workspace;
+      }
+    }
+    return new Workspace();
+  }
+
+  public void release() {
+    for (int slot = PACKED_X; slot <= PACKED_Y; slot++) {
+      if (doubles[slot] != null && doubles[slot].length > MAX_POOLED_VECTOR) {
+        doubles[slot] = null;
+      }
+      if (floats[slot] != null && floats[slot].length > MAX_POOLED_VECTOR) {
+        floats[slot] = null;
+      }
+    }
+    synchronized (pool) {
+      if (pooled < pool.length) {
+        pool[pooled++] = this;
+      }
+    }
+  }
+
+  // The content of the returned array is undefined
+  public double[] doubles(int slot, int length) {
+    if (doubles[slot] == null || doubles[slot].length < length) {
+      doubles[slot] = new double[length];
+    }
+    return doubles[slot];
+  }
+
+  // The content of the returned array is undefined
+  public float[] floats(int slot, int length) {
+    if (floats[slot] == null || floats[slot].length < length) {
+      floats[slot] = new float[length];
+    }
+    return floats[slot];
+  }
+}
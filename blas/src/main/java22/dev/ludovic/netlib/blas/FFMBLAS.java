@@ -0,0 +1,1577 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+final class FFMBLAS extends AbstractBLAS implements NativeBLAS {
+
+  private static final FFMBLAS instance = new FFMBLAS();
+
+  private static final boolean isMacOS = "Mac OS X".equals(System.getProperty("os.name"));
+
+  private static final Linker linker = Linker.nativeLinker();
+
+  private static final SymbolLookup library = SymbolLookup.libraryLookup(nativeLib(), Arena.global());
+
+  protected FFMBLAS() {}
+
+  public static NativeBLAS getInstance() {
+    return instance;
+  }
+
+  private static String nativeLib() {
+    String nativeLibPath = System.getProperty("dev.ludovic.netlib.blas.nativeLibPath");
+    if (nativeLibPath != null) {
+      return nativeLibPath;
+    }
+    String defaultNativeLib;
+    if (isMacOS) {
+      defaultNativeLib = "/System/Library/Frameworks/Accelerate.framework/Accelerate";
+    } else if (System.getProperty("os.name", "").startsWith("Windows")) {
+      defaultNativeLib = "libopenblas.dll";
+    } else {
+      defaultNativeLib = "libblas.so.3";
+    }
+    return System.getProperty("dev.ludovic.netlib.blas.nativeLib", defaultNativeLib);
+  }
+
+  private static MemoryLayout layout(char c) {
+    switch (c) {
+    case 'A': return ValueLayout.ADDRESS;
+    case 'I': return ValueLayout.JAVA_INT;
+    case 'J': return ValueLayout.JAVA_LONG;
+    case 'F': return ValueLayout.JAVA_FLOAT;
+    case 'D': return ValueLayout.JAVA_DOUBLE;
+    default: throw new IllegalArgumentException(String.valueOf(c));
+    }
+  }
+
+  // The signature is the return type (V, I, F or D) followed by one character per argument: A for pointers
+  // and J for the Fortran hidden string lengths. Returns null if the symbol isn't in the native library.
+  private static MethodHandle downcall(String name, String signature) {
+    Optional<MemorySegment> symbol = library.find(name);
+    if (!symbol.isPresent()) {
+      return null;
+    }
+    MemoryLayout[] args = new MemoryLayout[signature.length() - 1];
+    for (int i = 0; i < args.length; i++) {
+      args[i] = layout(signature.charAt(i + 1));
+    }
+    char ret = signature.charAt(0);
+    // On macOS, the Accelerate framework returns a double rather than a float, see the matching comment in jni.c
+    boolean widen = isMacOS && ret == 'F';
+    FunctionDescriptor descriptor = ret == 'V' ? FunctionDescriptor.ofVoid(args)
+                                               : FunctionDescriptor.of(layout(widen ? 'D' : ret), args);
+    // The arguments are heap segments over the Java arrays, which the critical option passes without copying
+    // nor pinning, the equivalent of GetPrimitiveArrayCritical in jni.c
+    MethodHandle handle = linker.downcallHandle(symbol.get(), descriptor, Linker.Option.critical(true));
+    return widen ? MethodHandles.explicitCastArguments(handle, handle.type().changeReturnType(float.class)) : handle;
+  }
+
+  private static MemorySegment ref(int v) {
+    return MemorySegment.ofArray(new int[] { v });
+  }
+
+  private static MemorySegment ref(long v) {
+    return MemorySegment.ofArray(new long[] { v });
+  }
+
+  private static MemorySegment ref(float v) {
+    return MemorySegment.ofArray(new float[] { v });
+  }
+
+  private static MemorySegment ref(double v) {
+    return MemorySegment.ofArray(new double[] { v });
+  }
+
+  private static MemorySegment ref(boolean v) {
+    return MemorySegment.ofArray(new int[] { v ? 1 : 0 });
+  }
+
+  private static MemorySegment array(int[] a, int offset) {
+    return a == null ? MemorySegment.NULL : MemorySegment.ofArray(a).asSlice((long)offset * Integer.BYTES);
+  }
+
+  private static MemorySegment array(float[] a, int offset) {
+    return a == null ? MemorySegment.NULL : MemorySegment.ofArray(a).asSlice((long)offset * Float.BYTES);
+  }
+
+  private static MemorySegment array(double[] a, int offset) {
+    return a == null ? MemorySegment.NULL : MemorySegment.ofArray(a).asSlice((long)offset * Double.BYTES);
+  }
+
+  private static MemorySegment buffer(IntBuffer b, int offset) {
+    return MemorySegment.ofBuffer(b.duplicate().position(0)).asSlice((long)offset * Integer.BYTES);
+  }
+
+  private static MemorySegment buffer(FloatBuffer b, int offset) {
+    return MemorySegment.ofBuffer(b.duplicate().position(0)).asSlice((long)offset * Float.BYTES);
+  }
+
+  private static MemorySegment buffer(DoubleBuffer b, int offset) {
+    return MemorySegment.ofBuffer(b.duplicate().position(0)).asSlice((long)offset * Double.BYTES);
+  }
+
+  private static int[] booleans(boolean[] a) {
+    if (a == null) {
+      return null;
+    }
+    int[] r = new int[a.length];
+    for (int i = 0; i < a.length; i++) {
+      r[i] = a[i] ? 1 : 0;
+    }
+    return r;
+  }
+
+  private static byte[] cstring(String s) {
+    byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+    return Arrays.copyOf(bytes, bytes.length + 1);
+  }
+
+  private static RuntimeException rethrow(Throwable t) {
+    if (t instanceof RuntimeException) {
+      return (RuntimeException)t;
+    }
+    if (t instanceof Error) {
+      throw (Error)t;
+    }
+    return new RuntimeException(t);
+  }
+
+  private static final MethodHandle dasum_ = downcall("dasum_", "DAAA");
+
+  protected double dasumK(int n, double[] x, int offsetx, int incx) {
+    MethodHandle handle = dasum_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(ref(n), array(x, offsetx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static final MethodHandle sasum_ = downcall("sasum_", "FAAA");
+
+  protected float sasumK(int n, float[] x, int offsetx, int incx) {
+    MethodHandle handle = sasum_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(ref(n), array(x, offsetx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static final MethodHandle daxpy_ = downcall("daxpy_", "VAAAAAA");
+
+  protected void daxpyK(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    MethodHandle handle = daxpy_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(alpha), array(x, offsetx), ref(incx), array(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle saxpy_ = downcall("saxpy_", "VAAAAAA");
+
+  protected void saxpyK(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    MethodHandle handle = saxpy_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(alpha), array(x, offsetx), ref(incx), array(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dcopy_ = downcall("dcopy_", "VAAAAA");
+
+  protected void dcopyK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    MethodHandle handle = dcopy_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(x, offsetx), ref(incx), array(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle scopy_ = downcall("scopy_", "VAAAAA");
+
+  protected void scopyK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    MethodHandle handle = scopy_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(x, offsetx), ref(incx), array(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle ddot_ = downcall("ddot_", "DAAAAA");
+
+  protected double ddotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    MethodHandle handle = ddot_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(ref(n), array(x, offsetx), ref(incx), array(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static final MethodHandle sdot_ = downcall("sdot_", "FAAAAA");
+
+  protected float sdotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    MethodHandle handle = sdot_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(ref(n), array(x, offsetx), ref(incx), array(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static final MethodHandle sdsdot_ = downcall("sdsdot_", "FAAAAAA");
+
+  protected float sdsdotK(int n, float sb, float[] sx, int offsetsx, int incsx, float[] sy, int offsetsy, int incsy) {
+    MethodHandle handle = sdsdot_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(ref(n), ref(sb), array(sx, offsetsx), ref(incsx), array(sy, offsetsy), ref(incsy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static final MethodHandle dgbmv_ = downcall("dgbmv_", "VAAAAAAAAAAAAAJ");
+
+  protected void dgbmvK(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    MethodHandle handle = dgbmv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(kl), ref(ku), ref(alpha), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), ref(beta), array(y, offsety), ref(incy), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle sgbmv_ = downcall("sgbmv_", "VAAAAAAAAAAAAAJ");
+
+  protected void sgbmvK(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    MethodHandle handle = sgbmv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(kl), ref(ku), ref(alpha), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), ref(beta), array(y, offsety), ref(incy), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dgemm_ = downcall("dgemm_", "VAAAAAAAAAAAAAJJ");
+
+  protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    MethodHandle handle = dgemm_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(transa)), MemorySegment.ofArray(cstring(transb)), ref(m), ref(n), ref(k), ref(alpha), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), ref(beta), array(c, offsetc), ref(ldc), (long)transa.length(), (long)transb.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle sgemm_ = downcall("sgemm_", "VAAAAAAAAAAAAAJJ");
+
+  protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    MethodHandle handle = sgemm_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(transa)), MemorySegment.ofArray(cstring(transb)), ref(m), ref(n), ref(k), ref(alpha), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), ref(beta), array(c, offsetc), ref(ldc), (long)transa.length(), (long)transb.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dgemv_ = downcall("dgemv_", "VAAAAAAAAAAAJ");
+
+  protected void dgemvK(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    MethodHandle handle = dgemv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(alpha), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), ref(beta), array(y, offsety), ref(incy), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle sgemv_ = downcall("sgemv_", "VAAAAAAAAAAAJ");
+
+  protected void sgemvK(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    MethodHandle handle = sgemv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(alpha), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), ref(beta), array(y, offsety), ref(incy), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dger_ = downcall("dger_", "VAAAAAAAAA");
+
+  protected void dgerK(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    MethodHandle handle = dger_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(alpha), array(x, offsetx), ref(incx), array(y, offsety), ref(incy), array(a, offseta), ref(lda));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle sger_ = downcall("sger_", "VAAAAAAAAA");
+
+  protected void sgerK(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    MethodHandle handle = sger_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(alpha), array(x, offsetx), ref(incx), array(y, offsety), ref(incy), array(a, offseta), ref(lda));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dnrm2_ = downcall("dnrm2_", "DAAA");
+
+  protected double dnrm2K(int n, double[] x, int offsetx, int incx) {
+    MethodHandle handle = dnrm2_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(ref(n), array(x, offsetx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static final MethodHandle snrm2_ = downcall("snrm2_", "FAAA");
+
+  protected float snrm2K(int n, float[] x, int offsetx, int incx) {
+    MethodHandle handle = snrm2_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(ref(n), array(x, offsetx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static final MethodHandle drot_ = downcall("drot_", "VAAAAAAA");
+
+  protected void drotK(int n, double[] dx, int offsetdx, int incx, double[] dy, int offsetdy, int incy, double c, double s) {
+    MethodHandle handle = drot_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(dx, offsetdx), ref(incx), array(dy, offsetdy), ref(incy), ref(c), ref(s));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle srot_ = downcall("srot_", "VAAAAAAA");
+
+  protected void srotK(int n, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy, float c, float s) {
+    MethodHandle handle = srot_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(sx, offsetsx), ref(incx), array(sy, offsetsy), ref(incy), ref(c), ref(s));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle drotm_ = downcall("drotm_", "VAAAAAA");
+
+  protected void drotmK(int n, double[] dx, int offsetdx, int incx, double[] dy, int offsetdy, int incy, double[] dparam, int offsetdparam) {
+    MethodHandle handle = drotm_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(dx, offsetdx), ref(incx), array(dy, offsetdy), ref(incy), array(dparam, offsetdparam));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle srotm_ = downcall("srotm_", "VAAAAAA");
+
+  protected void srotmK(int n, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy, float[] sparam, int offsetsparam) {
+    MethodHandle handle = srotm_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(sx, offsetsx), ref(incx), array(sy, offsetsy), ref(incy), array(sparam, offsetsparam));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle drotmg_ = downcall("drotmg_", "VAAAAA");
+
+  protected void drotmgK(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] dparam, int offsetdparam) {
+    MethodHandle handle = drotmg_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ndd1 = { dd1.val };
+    double[] __ndd2 = { dd2.val };
+    double[] __ndx1 = { dx1.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__ndd1), MemorySegment.ofArray(__ndd2), MemorySegment.ofArray(__ndx1), ref(dy1), array(dparam, offsetdparam));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    dd1.val = __ndd1[0];
+    dd2.val = __ndd2[0];
+    dx1.val = __ndx1[0];
+  }
+
+  private static final MethodHandle srotmg_ = downcall("srotmg_", "VAAAAA");
+
+  protected void srotmgK(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, float[] sparam, int offsetsparam) {
+    MethodHandle handle = srotmg_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nsd1 = { sd1.val };
+    float[] __nsd2 = { sd2.val };
+    float[] __nsx1 = { sx1.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nsd1), MemorySegment.ofArray(__nsd2), MemorySegment.ofArray(__nsx1), ref(sy1), array(sparam, offsetsparam));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    sd1.val = __nsd1[0];
+    sd2.val = __nsd2[0];
+    sx1.val = __nsx1[0];
+  }
+
+  private static final MethodHandle dsbmv_ = downcall("dsbmv_", "VAAAAAAAAAAAJ");
+
+  protected void dsbmvK(String uplo, int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    MethodHandle handle = dsbmv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(k), ref(alpha), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), ref(beta), array(y, offsety), ref(incy), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle ssbmv_ = downcall("ssbmv_", "VAAAAAAAAAAAJ");
+
+  protected void ssbmvK(String uplo, int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    MethodHandle handle = ssbmv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(k), ref(alpha), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), ref(beta), array(y, offsety), ref(incy), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dscal_ = downcall("dscal_", "VAAAA");
+
+  protected void dscalK(int n, double alpha, double[] x, int offsetx, int incx) {
+    MethodHandle handle = dscal_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(alpha), array(x, offsetx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle sscal_ = downcall("sscal_", "VAAAA");
+
+  protected void sscalK(int n, float alpha, float[] x, int offsetx, int incx) {
+    MethodHandle handle = sscal_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(alpha), array(x, offsetx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dspmv_ = downcall("dspmv_", "VAAAAAAAAAJ");
+
+  protected void dspmvK(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    MethodHandle handle = dspmv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(alpha), array(a, offseta), array(x, offsetx), ref(incx), ref(beta), array(y, offsety), ref(incy), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle sspmv_ = downcall("sspmv_", "VAAAAAAAAAJ");
+
+  protected void sspmvK(String uplo, int n, float alpha, float[] a, int offseta, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    MethodHandle handle = sspmv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(alpha), array(a, offseta), array(x, offsetx), ref(incx), ref(beta), array(y, offsety), ref(incy), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dspr_ = downcall("dspr_", "VAAAAAAJ");
+
+  protected void dsprK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta) {
+    MethodHandle handle = dspr_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(alpha), array(x, offsetx), ref(incx), array(a, offseta), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle sspr_ = downcall("sspr_", "VAAAAAAJ");
+
+  protected void ssprK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta) {
+    MethodHandle handle = sspr_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(alpha), array(x, offsetx), ref(incx), array(a, offseta), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dspr2_ = downcall("dspr2_", "VAAAAAAAAJ");
+
+  protected void dspr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta) {
+    MethodHandle handle = dspr2_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(alpha), array(x, offsetx), ref(incx), array(y, offsety), ref(incy), array(a, offseta), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle sspr2_ = downcall("sspr2_", "VAAAAAAAAJ");
+
+  protected void sspr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta) {
+    MethodHandle handle = sspr2_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(alpha), array(x, offsetx), ref(incx), array(y, offsety), ref(incy), array(a, offseta), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dswap_ = downcall("dswap_", "VAAAAA");
+
+  protected void dswapK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    MethodHandle handle = dswap_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(x, offsetx), ref(incx), array(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle sswap_ = downcall("sswap_", "VAAAAA");
+
+  protected void sswapK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    MethodHandle handle = sswap_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(x, offsetx), ref(incx), array(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dsymm_ = downcall("dsymm_", "VAAAAAAAAAAAAJJ");
+
+  protected void dsymmK(String side, String uplo, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    MethodHandle handle = dsymm_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(uplo)), ref(m), ref(n), ref(alpha), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), ref(beta), array(c, offsetc), ref(ldc), (long)side.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle ssymm_ = downcall("ssymm_", "VAAAAAAAAAAAAJJ");
+
+  protected void ssymmK(String side, String uplo, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    MethodHandle handle = ssymm_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(uplo)), ref(m), ref(n), ref(alpha), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), ref(beta), array(c, offsetc), ref(ldc), (long)side.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dsymv_ = downcall("dsymv_", "VAAAAAAAAAAJ");
+
+  protected void dsymvK(String uplo, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    MethodHandle handle = dsymv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(alpha), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), ref(beta), array(y, offsety), ref(incy), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle ssymv_ = downcall("ssymv_", "VAAAAAAAAAAJ");
+
+  protected void ssymvK(String uplo, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    MethodHandle handle = ssymv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(alpha), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), ref(beta), array(y, offsety), ref(incy), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dsyr_ = downcall("dsyr_", "VAAAAAAAJ");
+
+  protected void dsyrK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta, int lda) {
+    MethodHandle handle = dsyr_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(alpha), array(x, offsetx), ref(incx), array(a, offseta), ref(lda), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle ssyr_ = downcall("ssyr_", "VAAAAAAAJ");
+
+  protected void ssyrK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta, int lda) {
+    MethodHandle handle = ssyr_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(alpha), array(x, offsetx), ref(incx), array(a, offseta), ref(lda), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dsyr2_ = downcall("dsyr2_", "VAAAAAAAAAJ");
+
+  protected void dsyr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    MethodHandle handle = dsyr2_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(alpha), array(x, offsetx), ref(incx), array(y, offsety), ref(incy), array(a, offseta), ref(lda), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle ssyr2_ = downcall("ssyr2_", "VAAAAAAAAAJ");
+
+  protected void ssyr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    MethodHandle handle = ssyr2_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(alpha), array(x, offsetx), ref(incx), array(y, offsety), ref(incy), array(a, offseta), ref(lda), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dsyr2k_ = downcall("dsyr2k_", "VAAAAAAAAAAAAJJ");
+
+  protected void dsyr2kK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    MethodHandle handle = dsyr2k_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), ref(n), ref(k), ref(alpha), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), ref(beta), array(c, offsetc), ref(ldc), (long)uplo.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle ssyr2k_ = downcall("ssyr2k_", "VAAAAAAAAAAAAJJ");
+
+  protected void ssyr2kK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    MethodHandle handle = ssyr2k_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), ref(n), ref(k), ref(alpha), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), ref(beta), array(c, offsetc), ref(ldc), (long)uplo.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dsyrk_ = downcall("dsyrk_", "VAAAAAAAAAAJJ");
+
+  protected void dsyrkK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int ldc) {
+    MethodHandle handle = dsyrk_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), ref(n), ref(k), ref(alpha), array(a, offseta), ref(lda), ref(beta), array(c, offsetc), ref(ldc), (long)uplo.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle ssyrk_ = downcall("ssyrk_", "VAAAAAAAAAAJJ");
+
+  protected void ssyrkK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int ldc) {
+    MethodHandle handle = ssyrk_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), ref(n), ref(k), ref(alpha), array(a, offseta), ref(lda), ref(beta), array(c, offsetc), ref(ldc), (long)uplo.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dtbmv_ = downcall("dtbmv_", "VAAAAAAAAAJJJ");
+
+  protected void dtbmvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    MethodHandle handle = dtbmv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(k), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle stbmv_ = downcall("stbmv_", "VAAAAAAAAAJJJ");
+
+  protected void stbmvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    MethodHandle handle = stbmv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(k), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dtbsv_ = downcall("dtbsv_", "VAAAAAAAAAJJJ");
+
+  protected void dtbsvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    MethodHandle handle = dtbsv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(k), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle stbsv_ = downcall("stbsv_", "VAAAAAAAAAJJJ");
+
+  protected void stbsvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    MethodHandle handle = stbsv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(k), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dtpmv_ = downcall("dtpmv_", "VAAAAAAAJJJ");
+
+  protected void dtpmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx) {
+    MethodHandle handle = dtpmv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), array(a, offseta), array(x, offsetx), ref(incx), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle stpmv_ = downcall("stpmv_", "VAAAAAAAJJJ");
+
+  protected void stpmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx) {
+    MethodHandle handle = stpmv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), array(a, offseta), array(x, offsetx), ref(incx), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dtpsv_ = downcall("dtpsv_", "VAAAAAAAJJJ");
+
+  protected void dtpsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx) {
+    MethodHandle handle = dtpsv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), array(a, offseta), array(x, offsetx), ref(incx), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle stpsv_ = downcall("stpsv_", "VAAAAAAAJJJ");
+
+  protected void stpsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx) {
+    MethodHandle handle = stpsv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), array(a, offseta), array(x, offsetx), ref(incx), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dtrmm_ = downcall("dtrmm_", "VAAAAAAAAAAAJJJJ");
+
+  protected void dtrmmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    MethodHandle handle = dtrmm_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(transa)), MemorySegment.ofArray(cstring(diag)), ref(m), ref(n), ref(alpha), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), (long)side.length(), (long)uplo.length(), (long)transa.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle strmm_ = downcall("strmm_", "VAAAAAAAAAAAJJJJ");
+
+  protected void strmmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    MethodHandle handle = strmm_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(transa)), MemorySegment.ofArray(cstring(diag)), ref(m), ref(n), ref(alpha), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), (long)side.length(), (long)uplo.length(), (long)transa.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dtrmv_ = downcall("dtrmv_", "VAAAAAAAAJJJ");
+
+  protected void dtrmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    MethodHandle handle = dtrmv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle strmv_ = downcall("strmv_", "VAAAAAAAAJJJ");
+
+  protected void strmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    MethodHandle handle = strmv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dtrsm_ = downcall("dtrsm_", "VAAAAAAAAAAAJJJJ");
+
+  protected void dtrsmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    MethodHandle handle = dtrsm_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(transa)), MemorySegment.ofArray(cstring(diag)), ref(m), ref(n), ref(alpha), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), (long)side.length(), (long)uplo.length(), (long)transa.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle strsm_ = downcall("strsm_", "VAAAAAAAAAAAJJJJ");
+
+  protected void strsmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    MethodHandle handle = strsm_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(transa)), MemorySegment.ofArray(cstring(diag)), ref(m), ref(n), ref(alpha), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), (long)side.length(), (long)uplo.length(), (long)transa.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle dtrsv_ = downcall("dtrsv_", "VAAAAAAAAJJJ");
+
+  protected void dtrsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    MethodHandle handle = dtrsv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle strsv_ = downcall("strsv_", "VAAAAAAAAJJJ");
+
+  protected void strsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    MethodHandle handle = strsv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), array(a, offseta), ref(lda), array(x, offsetx), ref(incx), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle idamax_ = downcall("idamax_", "IAAA");
+
+  protected int idamaxK(int n, double[] dx, int offsetdx, int incdx) {
+    MethodHandle handle = idamax_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(n), array(dx, offsetdx), ref(incdx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static final MethodHandle isamax_ = downcall("isamax_", "IAAA");
+
+  protected int isamaxK(int n, float[] sx, int offsetsx, int incsx) {
+    MethodHandle handle = isamax_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(n), array(sx, offsetsx), ref(incsx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  protected double dasumK(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (x.order() != ByteOrder.nativeOrder()) {
+      return super.dasumK(n, x, offsetx, incx);
+    }
+    MethodHandle handle = dasum_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(ref(n), buffer(x, offsetx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  protected float sasumK(int n, FloatBuffer x, int offsetx, int incx) {
+    if (x.order() != ByteOrder.nativeOrder()) {
+      return super.sasumK(n, x, offsetx, incx);
+    }
+    MethodHandle handle = sasum_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(ref(n), buffer(x, offsetx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  protected void daxpyK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (x.order() != ByteOrder.nativeOrder() || y.order() != ByteOrder.nativeOrder()) {
+      super.daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+      return;
+    }
+    MethodHandle handle = daxpy_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(alpha), buffer(x, offsetx), ref(incx), buffer(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  protected void saxpyK(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (x.order() != ByteOrder.nativeOrder() || y.order() != ByteOrder.nativeOrder()) {
+      super.saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+      return;
+    }
+    MethodHandle handle = saxpy_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(alpha), buffer(x, offsetx), ref(incx), buffer(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  protected void dcopyK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (x.order() != ByteOrder.nativeOrder() || y.order() != ByteOrder.nativeOrder()) {
+      super.dcopyK(n, x, offsetx, incx, y, offsety, incy);
+      return;
+    }
+    MethodHandle handle = dcopy_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), buffer(x, offsetx), ref(incx), buffer(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  protected void scopyK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (x.order() != ByteOrder.nativeOrder() || y.order() != ByteOrder.nativeOrder()) {
+      super.scopyK(n, x, offsetx, incx, y, offsety, incy);
+      return;
+    }
+    MethodHandle handle = scopy_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), buffer(x, offsetx), ref(incx), buffer(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  protected double ddotK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (x.order() != ByteOrder.nativeOrder() || y.order() != ByteOrder.nativeOrder()) {
+      return super.ddotK(n, x, offsetx, incx, y, offsety, incy);
+    }
+    MethodHandle handle = ddot_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(ref(n), buffer(x, offsetx), ref(incx), buffer(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  protected float sdotK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (x.order() != ByteOrder.nativeOrder() || y.order() != ByteOrder.nativeOrder()) {
+      return super.sdotK(n, x, offsetx, incx, y, offsety, incy);
+    }
+    MethodHandle handle = sdot_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(ref(n), buffer(x, offsetx), ref(incx), buffer(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  protected double dnrm2K(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (x.order() != ByteOrder.nativeOrder()) {
+      return super.dnrm2K(n, x, offsetx, incx);
+    }
+    MethodHandle handle = dnrm2_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(ref(n), buffer(x, offsetx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  protected float snrm2K(int n, FloatBuffer x, int offsetx, int incx) {
+    if (x.order() != ByteOrder.nativeOrder()) {
+      return super.snrm2K(n, x, offsetx, incx);
+    }
+    MethodHandle handle = snrm2_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(ref(n), buffer(x, offsetx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  protected void dscalK(int n, double alpha, DoubleBuffer x, int offsetx, int incx) {
+    if (x.order() != ByteOrder.nativeOrder()) {
+      super.dscalK(n, alpha, x, offsetx, incx);
+      return;
+    }
+    MethodHandle handle = dscal_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(alpha), buffer(x, offsetx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  protected void sscalK(int n, float alpha, FloatBuffer x, int offsetx, int incx) {
+    if (x.order() != ByteOrder.nativeOrder()) {
+      super.sscalK(n, alpha, x, offsetx, incx);
+      return;
+    }
+    MethodHandle handle = sscal_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(alpha), buffer(x, offsetx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  protected void dswapK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (x.order() != ByteOrder.nativeOrder() || y.order() != ByteOrder.nativeOrder()) {
+      super.dswapK(n, x, offsetx, incx, y, offsety, incy);
+      return;
+    }
+    MethodHandle handle = dswap_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), buffer(x, offsetx), ref(incx), buffer(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  protected void sswapK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (x.order() != ByteOrder.nativeOrder() || y.order() != ByteOrder.nativeOrder()) {
+      super.sswapK(n, x, offsetx, incx, y, offsety, incy);
+      return;
+    }
+    MethodHandle handle = sswap_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), buffer(x, offsetx), ref(incx), buffer(y, offsety), ref(incy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  protected int idamaxK(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (x.order() != ByteOrder.nativeOrder()) {
+      return super.idamaxK(n, x, offsetx, incx);
+    }
+    MethodHandle handle = idamax_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(n), buffer(x, offsetx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  protected int isamaxK(int n, FloatBuffer x, int offsetx, int incx) {
+    if (x.order() != ByteOrder.nativeOrder()) {
+      return super.isamaxK(n, x, offsetx, incx);
+    }
+    MethodHandle handle = isamax_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(n), buffer(x, offsetx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  protected void dgemvK(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (a.order() != ByteOrder.nativeOrder() || x.order() != ByteOrder.nativeOrder() || y.order() != ByteOrder.nativeOrder()) {
+      super.dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      return;
+    }
+    MethodHandle handle = dgemv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(alpha), buffer(a, offseta), ref(lda), buffer(x, offsetx), ref(incx), ref(beta), buffer(y, offsety), ref(incy), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  protected void sgemvK(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (a.order() != ByteOrder.nativeOrder() || x.order() != ByteOrder.nativeOrder() || y.order() != ByteOrder.nativeOrder()) {
+      super.sgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      return;
+    }
+    MethodHandle handle = sgemv_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(alpha), buffer(a, offseta), ref(lda), buffer(x, offsetx), ref(incx), ref(beta), buffer(y, offsety), ref(incy), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  protected void dgerK(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    if (x.order() != ByteOrder.nativeOrder() || y.order() != ByteOrder.nativeOrder() || a.order() != ByteOrder.nativeOrder()) {
+      super.dgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+      return;
+    }
+    MethodHandle handle = dger_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(alpha), buffer(x, offsetx), ref(incx), buffer(y, offsety), ref(incy), buffer(a, offseta), ref(lda));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  protected void sgerK(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    if (x.order() != ByteOrder.nativeOrder() || y.order() != ByteOrder.nativeOrder() || a.order() != ByteOrder.nativeOrder()) {
+      super.sgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+      return;
+    }
+    MethodHandle handle = sger_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(alpha), buffer(x, offsetx), ref(incx), buffer(y, offsety), ref(incy), buffer(a, offseta), ref(lda));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (a.order() != ByteOrder.nativeOrder() || b.order() != ByteOrder.nativeOrder() || c.order() != ByteOrder.nativeOrder()) {
+      super.dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+      return;
+    }
+    MethodHandle handle = dgemm_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(transa)), MemorySegment.ofArray(cstring(transb)), ref(m), ref(n), ref(k), ref(alpha), buffer(a, offseta), ref(lda), buffer(b, offsetb), ref(ldb), ref(beta), buffer(c, offsetc), ref(ldc), (long)transa.length(), (long)transb.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (a.order() != ByteOrder.nativeOrder() || b.order() != ByteOrder.nativeOrder() || c.order() != ByteOrder.nativeOrder()) {
+      super.sgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+      return;
+    }
+    MethodHandle handle = sgemm_;
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(transa)), MemorySegment.ofArray(cstring(transb)), ref(m), ref(n), ref(k), ref(alpha), buffer(a, offseta), ref(lda), buffer(b, offsetb), ref(ldb), ref(beta), buffer(c, offsetc), ref(ldc), (long)transa.length(), (long)transb.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static final MethodHandle openblas_get_num_threads = downcall("openblas_get_num_threads", "I");
+  private static final MethodHandle openblas_set_num_threads = downcall("openblas_set_num_threads", "VI");
+  private static final MethodHandle openblas_set_num_threads_local = downcall("openblas_set_num_threads_local", "II");
+  private static final MethodHandle MKL_Get_Max_Threads = downcall("MKL_Get_Max_Threads", "I");
+  private static final MethodHandle MKL_Set_Num_Threads = downcall("MKL_Set_Num_Threads", "VI");
+  private static final MethodHandle MKL_Set_Num_Threads_Local = downcall("MKL_Set_Num_Threads_Local", "II");
+  private static final MethodHandle bli_thread_get_num_threads = downcall("bli_thread_get_num_threads", "J");
+  private static final MethodHandle bli_thread_set_num_threads = downcall("bli_thread_set_num_threads", "VJ");
+
+  public int getNumThreads() {
+    try {
+      if (openblas_get_num_threads != null) return (int)openblas_get_num_threads.invokeExact();
+      if (MKL_Get_Max_Threads != null) return (int)MKL_Get_Max_Threads.invokeExact();
+      if (bli_thread_get_num_threads != null) return (int)(long)bli_thread_get_num_threads.invokeExact();
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    throw new UnsupportedOperationException("native library doesn't expose a threading control");
+  }
+
+  public void setNumThreads(int numThreads) {
+    if (numThreads < 1) {
+      throw new IllegalArgumentException("numThreads must be positive: " + numThreads);
+    }
+    try {
+      if (openblas_set_num_threads != null) openblas_set_num_threads.invokeExact(numThreads);
+      else if (MKL_Set_Num_Threads != null) MKL_Set_Num_Threads.invokeExact(numThreads);
+      else if (bli_thread_set_num_threads != null) bli_thread_set_num_threads.invokeExact((long)numThreads);
+      else throw new UnsupportedOperationException("native library doesn't expose a threading control");
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  // Returns the previous value to restore, or -1 if the library has no per-thread control
+  private static int setLocalNumThreads(int numThreads) {
+    try {
+      if (openblas_set_num_threads_local != null) return (int)openblas_set_num_threads_local.invokeExact(numThreads);
+      if (MKL_Set_Num_Threads_Local != null) return (int)MKL_Set_Num_Threads_Local.invokeExact(numThreads);
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return -1;
+  }
+
+  public <T> T withNumThreads(int numThreads, Supplier<T> task) {
+    if (numThreads < 1) {
+      throw new IllegalArgumentException("numThreads must be positive: " + numThreads);
+    }
+    Objects.requireNonNull(task);
+    int previous = setLocalNumThreads(numThreads);
+    if (previous >= 0) {
+      try {
+        return task.get();
+      } finally {
+        setLocalNumThreads(previous);
+      }
+    }
+    previous = getNumThreads();
+    setNumThreads(numThreads);
+    try {
+      return task.get();
+    } finally {
+      setNumThreads(previous);
+    }
+  }
+
+}
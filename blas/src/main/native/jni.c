@@ -24,6 +24,7 @@
  */
 
 #include <stdio.h>
+#include <stdint.h>
 #include <stdlib.h>
 #include <string.h>
 #ifdef _WIN32
@@ -36,6 +37,7 @@
 #  define RTLD_LOCAL  0
 #else
 #  include <dlfcn.h>
+#  include <pthread.h>
 #endif
 
 #include "dev_ludovic_netlib_blas_JNIBLAS.h"
@@ -51,6 +53,145 @@ static jfieldID floatW_val_fieldID;
 static jfieldID doubleW_val_fieldID;
 static jfieldID StringW_val_fieldID;
 
+// Calls estimated to be long copy their arrays into a per-thread arena rather than pinning them, see COPY_FLOPS in
+// generator.py, and the Alloc entry points allocate their workspace in another one. The arenas are kept between
+// calls to save on malloc, unless they grew too large.
+static double copy_threshold = 1e7;
+
+#define NETLIB_MIN(a, b) ((a) < (b) ? (a) : (b))
+#define NETLIB_MAX(a, b) ((a) > (b) ? (a) : (b))
+#define NETLIB_LSAME(s, c) (((s)[0] | 0x20) == ((c) | 0x20))
+#define ARENA_ALIGN(size) (((size) + 63) & ~(size_t)63)
+#define ARENA_RETAINED_MAX ((size_t)64 << 20)
+#define ARENA_COPY 0
+#define ARENA_WORK 1
+
+#ifdef _WIN32
+static char *arena_acquire(UNUSED int slot, size_t size) {
+  return malloc(NETLIB_MAX(size, 64));
+}
+
+static void arena_release(UNUSED int slot, char *arena) {
+  free(arena);
+}
+#else
+typedef struct { char *base[2]; size_t size[2]; } arena_t;
+
+static pthread_key_t arena_key;
+
+static void arena_destroy(void *p) {
+  arena_t *arena = p;
+  free(arena->base[ARENA_COPY]);
+  free(arena->base[ARENA_WORK]);
+  free(arena);
+}
+
+static char *arena_acquire(int slot, size_t size) {
+  arena_t *arena = pthread_getspecific(arena_key);
+  if (!arena) {
+    if (!(arena = calloc(1, sizeof(arena_t)))) return NULL;
+    if (pthread_setspecific(arena_key, arena)) { free(arena); return NULL; }
+  }
+  if (arena->size[slot] < size || !arena->base[slot]) {
+    free(arena->base[slot]);
+    size = NETLIB_MAX(size, 64);
+    arena->size[slot] = (arena->base[slot] = malloc(size)) ? size : 0;
+  }
+  return arena->base[slot];
+}
+
+static void arena_release(int slot, UNUSED char *base) {
+  arena_t *arena = pthread_getspecific(arena_key);
+  if (arena && arena->size[slot] > ARENA_RETAINED_MAX) {
+    free(arena->base[slot]);
+    arena->base[slot] = NULL;
+    arena->size[slot] = 0;
+  }
+}
+#endif
+
+// The part of an array that a rows by cols matrix with leading dimension ld starting at offset spans, cut at the end of
+// the array; a vector is a single column. Only the columns are copied to the arena and back, to their place in the span,
+// so that the elements between them and the rest of the array are left to other threads.
+typedef struct { jsize rows, ld, span; } region_t;
+
+static UNUSED region_t region(JNIEnv *env, jarray array, jint offset, jlong rows, jlong cols, jlong ld) {
+  region_t r = { 0, 0, 0 };
+  jlong available = (jlong)(*env)->GetArrayLength(env, array) - offset;
+  if (rows <= 0 || cols <= 0 || available <= 0) return r;
+  ld = NETLIB_MAX(ld, rows);
+  r.rows = (jsize)NETLIB_MIN(rows, available);
+  r.ld = (jsize)NETLIB_MIN(ld, available);
+  r.span = (jsize)NETLIB_MIN((cols - 1) * ld + rows, available);
+  return r;
+}
+
+static UNUSED void region_get_double(JNIEnv *env, jdoubleArray array, jint offset, region_t r, double *arena) {
+  if (r.ld == r.rows) {
+    (*env)->GetDoubleArrayRegion(env, array, offset, r.span, arena);
+    return;
+  }
+  for (jsize start = 0; start < r.span; start += NETLIB_MIN(r.ld, r.span - start)) {
+    (*env)->GetDoubleArrayRegion(env, array, offset + start, NETLIB_MIN(r.rows, r.span - start), arena + start);
+  }
+}
+
+static UNUSED void region_set_double(JNIEnv *env, jdoubleArray array, jint offset, region_t r, const double *arena) {
+  if (r.ld == r.rows) {
+    (*env)->SetDoubleArrayRegion(env, array, offset, r.span, arena);
+    return;
+  }
+  for (jsize start = 0; start < r.span; start += NETLIB_MIN(r.ld, r.span - start)) {
+    (*env)->SetDoubleArrayRegion(env, array, offset + start, NETLIB_MIN(r.rows, r.span - start), arena + start);
+  }
+}
+
+static UNUSED void region_get_float(JNIEnv *env, jfloatArray array, jint offset, region_t r, float *arena) {
+  if (r.ld == r.rows) {
+    (*env)->GetFloatArrayRegion(env, array, offset, r.span, arena);
+    return;
+  }
+  for (jsize start = 0; start < r.span; start += NETLIB_MIN(r.ld, r.span - start)) {
+    (*env)->GetFloatArrayRegion(env, array, offset + start, NETLIB_MIN(r.rows, r.span - start), arena + start);
+  }
+}
+
+static UNUSED void region_set_float(JNIEnv *env, jfloatArray array, jint offset, region_t r, const float *arena) {
+  if (r.ld == r.rows) {
+    (*env)->SetFloatArrayRegion(env, array, offset, r.span, arena);
+    return;
+  }
+  for (jsize start = 0; start < r.span; start += NETLIB_MIN(r.ld, r.span - start)) {
+    (*env)->SetFloatArrayRegion(env, array, offset + start, NETLIB_MIN(r.rows, r.span - start), arena + start);
+  }
+}
+
+static UNUSED void region_get_int(JNIEnv *env, jintArray array, jint offset, region_t r, int *arena) {
+  if (r.ld == r.rows) {
+    (*env)->GetIntArrayRegion(env, array, offset, r.span, arena);
+    return;
+  }
+  for (jsize start = 0; start < r.span; start += NETLIB_MIN(r.ld, r.span - start)) {
+    (*env)->GetIntArrayRegion(env, array, offset + start, NETLIB_MIN(r.rows, r.span - start), arena + start);
+  }
+}
+
+static UNUSED void region_set_int(JNIEnv *env, jintArray array, jint offset, region_t r, const int *arena) {
+  if (r.ld == r.rows) {
+    (*env)->SetIntArrayRegion(env, array, offset, r.span, arena);
+    return;
+  }
+  for (jsize start = 0; start < r.span; start += NETLIB_MIN(r.ld, r.span - start)) {
+    (*env)->SetIntArrayRegion(env, array, offset + start, NETLIB_MIN(r.rows, r.span - start), arena + start);
+  }
+}
+
+// LAPACK returns the optimal workspace length as a floating-point number, which may have been rounded down
+static UNUSED int workspace_length(double query) {
+  int length = (int)query;
+  return NETLIB_MAX(length + (length < query), 1);
+}
+
 static double (*dasum_)(int *n, double *x, int *incx);
 
 jdouble Java_dev_ludovic_netlib_blas_JNIBLAS_dasumK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray x, jint offsetx, jint incx) {
@@ -365,6 +506,9 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemmK(JNIEnv *env, UNUSED jobject obj
   double *__na = NULL;
   double *__nb = NULL;
   double *__nc = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rc = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * k) >= copy_threshold;
   if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
   if (!(__ntransb = (*env)->GetStringUTFChars(env, transb, NULL))) { __failed = TRUE; goto done; }
   __nm = m;
@@ -375,14 +519,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemmK(JNIEnv *env, UNUSED jobject obj
   __nldb = ldb;
   __nbeta = beta;
   __nldc = ldc;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
-  dgemm_(__ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc, (*env)->GetStringUTFLength(env, transa), (*env)->GetStringUTFLength(env, transb));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (NETLIB_LSAME(__ntransa, 'N') ? m : k), (NETLIB_LSAME(__ntransa, 'N') ? k : m), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (NETLIB_LSAME(__ntransb, 'N') ? k : n), (NETLIB_LSAME(__ntransb, 'N') ? n : k), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (c) { __rc = region(env, c, offsetc, (m), (n), (ldc)); __size += ARENA_ALIGN(sizeof(double) * __rc.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+    if (c) { __nc = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rc.span); region_get_double(env, c, offsetc, __rc, __nc); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgemm_(__ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, &__nbeta, __nc ? __nc + (__copy ? 0 : offsetc) : NULL, &__nldc, (*env)->GetStringUTFLength(env, transa), (*env)->GetStringUTFLength(env, transb));
 done:
-  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__copy) {
+    if (__nc && !__failed) region_set_double(env, c, offsetc, __rc, __nc);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  }
   if (__ntransb) (*env)->ReleaseStringUTFChars(env, transb, __ntransb);
   if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -406,6 +567,9 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemmK(JNIEnv *env, UNUSED jobject obj
   float *__na = NULL;
   float *__nb = NULL;
   float *__nc = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rc = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * k) >= copy_threshold;
   if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
   if (!(__ntransb = (*env)->GetStringUTFChars(env, transb, NULL))) { __failed = TRUE; goto done; }
   __nm = m;
@@ -416,14 +580,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemmK(JNIEnv *env, UNUSED jobject obj
   __nldb = ldb;
   __nbeta = beta;
   __nldc = ldc;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
-  sgemm_(__ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc, (*env)->GetStringUTFLength(env, transa), (*env)->GetStringUTFLength(env, transb));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (NETLIB_LSAME(__ntransa, 'N') ? m : k), (NETLIB_LSAME(__ntransa, 'N') ? k : m), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (NETLIB_LSAME(__ntransb, 'N') ? k : n), (NETLIB_LSAME(__ntransb, 'N') ? n : k), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (c) { __rc = region(env, c, offsetc, (m), (n), (ldc)); __size += ARENA_ALIGN(sizeof(float) * __rc.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+    if (c) { __nc = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rc.span); region_get_float(env, c, offsetc, __rc, __nc); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgemm_(__ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, &__nbeta, __nc ? __nc + (__copy ? 0 : offsetc) : NULL, &__nldc, (*env)->GetStringUTFLength(env, transa), (*env)->GetStringUTFLength(env, transb));
 done:
-  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__copy) {
+    if (__nc && !__failed) region_set_float(env, c, offsetc, __rc, __nc);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  }
   if (__ntransb) (*env)->ReleaseStringUTFChars(env, transb, __ntransb);
   if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -1100,6 +1281,9 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsymmK(JNIEnv *env, UNUSED jobject obj
   double *__na = NULL;
   double *__nb = NULL;
   double *__nc = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rc = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * NETLIB_MAX(m, n)) >= copy_threshold;
   if (!(__nside = (*env)->GetStringUTFChars(env, side, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nm = m;
@@ -1109,14 +1293,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsymmK(JNIEnv *env, UNUSED jobject obj
   __nldb = ldb;
   __nbeta = beta;
   __nldc = ldc;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
-  dsymm_(__nside, __nuplo, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc, (*env)->GetStringUTFLength(env, side), (*env)->GetStringUTFLength(env, uplo));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (NETLIB_LSAME(__nside, 'L') ? m : n), (NETLIB_LSAME(__nside, 'L') ? m : n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (m), (n), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (c) { __rc = region(env, c, offsetc, (m), (n), (ldc)); __size += ARENA_ALIGN(sizeof(double) * __rc.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+    if (c) { __nc = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rc.span); region_get_double(env, c, offsetc, __rc, __nc); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dsymm_(__nside, __nuplo, &__nm, &__nn, &__nalpha, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, &__nbeta, __nc ? __nc + (__copy ? 0 : offsetc) : NULL, &__nldc, (*env)->GetStringUTFLength(env, side), (*env)->GetStringUTFLength(env, uplo));
 done:
-  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__copy) {
+    if (__nc && !__failed) region_set_double(env, c, offsetc, __rc, __nc);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  }
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -1139,6 +1340,9 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssymmK(JNIEnv *env, UNUSED jobject obj
   float *__na = NULL;
   float *__nb = NULL;
   float *__nc = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rc = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * NETLIB_MAX(m, n)) >= copy_threshold;
   if (!(__nside = (*env)->GetStringUTFChars(env, side, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nm = m;
@@ -1148,14 +1352,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssymmK(JNIEnv *env, UNUSED jobject obj
   __nldb = ldb;
   __nbeta = beta;
   __nldc = ldc;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
-  ssymm_(__nside, __nuplo, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc, (*env)->GetStringUTFLength(env, side), (*env)->GetStringUTFLength(env, uplo));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (NETLIB_LSAME(__nside, 'L') ? m : n), (NETLIB_LSAME(__nside, 'L') ? m : n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (m), (n), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (c) { __rc = region(env, c, offsetc, (m), (n), (ldc)); __size += ARENA_ALIGN(sizeof(float) * __rc.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+    if (c) { __nc = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rc.span); region_get_float(env, c, offsetc, __rc, __nc); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  }
+  ssymm_(__nside, __nuplo, &__nm, &__nn, &__nalpha, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, &__nbeta, __nc ? __nc + (__copy ? 0 : offsetc) : NULL, &__nldc, (*env)->GetStringUTFLength(env, side), (*env)->GetStringUTFLength(env, uplo));
 done:
-  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__copy) {
+    if (__nc && !__failed) region_set_float(env, c, offsetc, __rc, __nc);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  }
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -1364,6 +1585,9 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyr2kK(JNIEnv *env, UNUSED jobject ob
   double *__na = NULL;
   double *__nb = NULL;
   double *__nc = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rc = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * k) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
@@ -1373,14 +1597,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyr2kK(JNIEnv *env, UNUSED jobject ob
   __nldb = ldb;
   __nbeta = beta;
   __nldc = ldc;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
-  dsyr2k_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc, (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, trans));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (NETLIB_LSAME(__ntrans, 'N') ? n : k), (NETLIB_LSAME(__ntrans, 'N') ? k : n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (NETLIB_LSAME(__ntrans, 'N') ? n : k), (NETLIB_LSAME(__ntrans, 'N') ? k : n), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (c) { __rc = region(env, c, offsetc, (n), (n), (ldc)); __size += ARENA_ALIGN(sizeof(double) * __rc.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+    if (c) { __nc = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rc.span); region_get_double(env, c, offsetc, __rc, __nc); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dsyr2k_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, &__nbeta, __nc ? __nc + (__copy ? 0 : offsetc) : NULL, &__nldc, (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, trans));
 done:
-  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__copy) {
+    if (__nc && !__failed) region_set_double(env, c, offsetc, __rc, __nc);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  }
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -1403,6 +1644,9 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyr2kK(JNIEnv *env, UNUSED jobject ob
   float *__na = NULL;
   float *__nb = NULL;
   float *__nc = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rc = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * k) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
@@ -1412,14 +1656,31 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyr2kK(JNIEnv *env, UNUSED jobject ob
   __nldb = ldb;
   __nbeta = beta;
   __nldc = ldc;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
-  ssyr2k_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc, (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, trans));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (NETLIB_LSAME(__ntrans, 'N') ? n : k), (NETLIB_LSAME(__ntrans, 'N') ? k : n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (NETLIB_LSAME(__ntrans, 'N') ? n : k), (NETLIB_LSAME(__ntrans, 'N') ? k : n), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (c) { __rc = region(env, c, offsetc, (n), (n), (ldc)); __size += ARENA_ALIGN(sizeof(float) * __rc.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+    if (c) { __nc = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rc.span); region_get_float(env, c, offsetc, __rc, __nc); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  }
+  ssyr2k_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, &__nbeta, __nc ? __nc + (__copy ? 0 : offsetc) : NULL, &__nldc, (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, trans));
 done:
-  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__copy) {
+    if (__nc && !__failed) region_set_float(env, c, offsetc, __rc, __nc);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  }
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -1440,6 +1701,9 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyrkK(JNIEnv *env, UNUSED jobject obj
   int __nldc __attribute__((aligned(8)));
   double *__na = NULL;
   double *__nc = NULL;
+  region_t __ra = { 0, 0, 0 }, __rc = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * k) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
@@ -1448,12 +1712,27 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyrkK(JNIEnv *env, UNUSED jobject obj
   __nlda = lda;
   __nbeta = beta;
   __nldc = ldc;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
-  dsyrk_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc, (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, trans));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (NETLIB_LSAME(__ntrans, 'N') ? n : k), (NETLIB_LSAME(__ntrans, 'N') ? k : n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (c) { __rc = region(env, c, offsetc, (n), (n), (ldc)); __size += ARENA_ALIGN(sizeof(double) * __rc.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (c) { __nc = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rc.span); region_get_double(env, c, offsetc, __rc, __nc); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dsyrk_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, &__nbeta, __nc ? __nc + (__copy ? 0 : offsetc) : NULL, &__nldc, (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, trans));
 done:
-  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__copy) {
+    if (__nc && !__failed) region_set_double(env, c, offsetc, __rc, __nc);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  }
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -1474,6 +1753,9 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyrkK(JNIEnv *env, UNUSED jobject obj
   int __nldc __attribute__((aligned(8)));
   float *__na = NULL;
   float *__nc = NULL;
+  region_t __ra = { 0, 0, 0 }, __rc = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * k) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
@@ -1482,12 +1764,27 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyrkK(JNIEnv *env, UNUSED jobject obj
   __nlda = lda;
   __nbeta = beta;
   __nldc = ldc;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
-  ssyrk_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc, (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, trans));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (NETLIB_LSAME(__ntrans, 'N') ? n : k), (NETLIB_LSAME(__ntrans, 'N') ? k : n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (c) { __rc = region(env, c, offsetc, (n), (n), (ldc)); __size += ARENA_ALIGN(sizeof(float) * __rc.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (c) { __nc = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rc.span); region_get_float(env, c, offsetc, __rc, __nc); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  }
+  ssyrk_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, &__nbeta, __nc ? __nc + (__copy ? 0 : offsetc) : NULL, &__nldc, (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, trans));
 done:
-  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__copy) {
+    if (__nc && !__failed) region_set_float(env, c, offsetc, __rc, __nc);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  }
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -1757,6 +2054,9 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrmmK(JNIEnv *env, UNUSED jobject obj
   int __nldb __attribute__((aligned(8)));
   double *__na = NULL;
   double *__nb = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * NETLIB_MAX(m, n)) >= copy_threshold;
   if (!(__nside = (*env)->GetStringUTFChars(env, side, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
@@ -1766,12 +2066,27 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrmmK(JNIEnv *env, UNUSED jobject obj
   __nalpha = alpha;
   __nlda = lda;
   __nldb = ldb;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  dtrmm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, (*env)->GetStringUTFLength(env, side), (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, transa), (*env)->GetStringUTFLength(env, diag));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (NETLIB_LSAME(__nside, 'L') ? m : n), (NETLIB_LSAME(__nside, 'L') ? m : n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (m), (n), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dtrmm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, (*env)->GetStringUTFLength(env, side), (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, transa), (*env)->GetStringUTFLength(env, diag));
 done:
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__copy) {
+    if (__nb && !__failed) region_set_double(env, b, offsetb, __rb, __nb);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  }
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
@@ -1795,6 +2110,9 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_strmmK(JNIEnv *env, UNUSED jobject obj
   int __nldb __attribute__((aligned(8)));
   float *__na = NULL;
   float *__nb = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * NETLIB_MAX(m, n)) >= copy_threshold;
   if (!(__nside = (*env)->GetStringUTFChars(env, side, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
@@ -1804,12 +2122,27 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_strmmK(JNIEnv *env, UNUSED jobject obj
   __nalpha = alpha;
   __nlda = lda;
   __nldb = ldb;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  strmm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, (*env)->GetStringUTFLength(env, side), (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, transa), (*env)->GetStringUTFLength(env, diag));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (NETLIB_LSAME(__nside, 'L') ? m : n), (NETLIB_LSAME(__nside, 'L') ? m : n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (m), (n), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  }
+  strmm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, (*env)->GetStringUTFLength(env, side), (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, transa), (*env)->GetStringUTFLength(env, diag));
 done:
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__copy) {
+    if (__nb && !__failed) region_set_float(env, b, offsetb, __rb, __nb);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  }
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
@@ -1895,6 +2228,9 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrsmK(JNIEnv *env, UNUSED jobject obj
   int __nldb __attribute__((aligned(8)));
   double *__na = NULL;
   double *__nb = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * NETLIB_MAX(m, n)) >= copy_threshold;
   if (!(__nside = (*env)->GetStringUTFChars(env, side, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
@@ -1904,12 +2240,27 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrsmK(JNIEnv *env, UNUSED jobject obj
   __nalpha = alpha;
   __nlda = lda;
   __nldb = ldb;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  dtrsm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, (*env)->GetStringUTFLength(env, side), (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, transa), (*env)->GetStringUTFLength(env, diag));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (NETLIB_LSAME(__nside, 'L') ? m : n), (NETLIB_LSAME(__nside, 'L') ? m : n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (m), (n), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dtrsm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, (*env)->GetStringUTFLength(env, side), (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, transa), (*env)->GetStringUTFLength(env, diag));
 done:
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__copy) {
+    if (__nb && !__failed) region_set_double(env, b, offsetb, __rb, __nb);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  }
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
@@ -1933,6 +2284,9 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_strsmK(JNIEnv *env, UNUSED jobject obj
   int __nldb __attribute__((aligned(8)));
   float *__na = NULL;
   float *__nb = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * NETLIB_MAX(m, n)) >= copy_threshold;
   if (!(__nside = (*env)->GetStringUTFChars(env, side, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
@@ -1942,12 +2296,27 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_strsmK(JNIEnv *env, UNUSED jobject obj
   __nalpha = alpha;
   __nlda = lda;
   __nldb = ldb;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  strsm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, (*env)->GetStringUTFLength(env, side), (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, transa), (*env)->GetStringUTFLength(env, diag));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (NETLIB_LSAME(__nside, 'L') ? m : n), (NETLIB_LSAME(__nside, 'L') ? m : n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (m), (n), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  }
+  strsm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, (*env)->GetStringUTFLength(env, side), (*env)->GetStringUTFLength(env, uplo), (*env)->GetStringUTFLength(env, transa), (*env)->GetStringUTFLength(env, diag));
 done:
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__copy) {
+    if (__nb && !__failed) region_set_float(env, b, offsetb, __rb, __nb);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  }
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
@@ -2055,108 +2424,696 @@ done:
   return __ret;
 }
 
-jboolean get_system_property(JNIEnv *env, jstring key, jstring def, jstring *res) {
-  jclass System_class = (*env)->FindClass(env, "java/lang/System");
-  if (!System_class) {
-    return FALSE;
-  }
-  jmethodID System_getProperty_methodID = (*env)->GetStaticMethodID(env, System_class, "getProperty", "(Ljava/lang/String;Ljava/lang/String;)Ljava/lang/String;");
-  if (!System_getProperty_methodID) {
-    return FALSE;
-  }
-  *res = (jstring)(*env)->CallStaticObjectMethod(env, System_class, System_getProperty_methodID, key, def);
-  return TRUE;
+jdouble Java_dev_ludovic_netlib_blas_JNIBLAS_dasumDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx) {
+  if (!dasum_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jdouble __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double *__nx = NULL;
+  __nn = n;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  __ret = dasum_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
 }
 
-jboolean load_symbols(void *libhandle) {
-#define LOAD_SYMBOL(name) \
-  name = dlsym(libhandle, #name);
-
-  LOAD_SYMBOL(dasum_);
-  LOAD_SYMBOL(sasum_);
-  LOAD_SYMBOL(daxpy_);
-  LOAD_SYMBOL(saxpy_);
-  LOAD_SYMBOL(dcopy_);
-  LOAD_SYMBOL(scopy_);
-  LOAD_SYMBOL(ddot_);
-  LOAD_SYMBOL(sdot_);
-  LOAD_SYMBOL(sdsdot_);
-  LOAD_SYMBOL(dgbmv_);
-  LOAD_SYMBOL(sgbmv_);
-  LOAD_SYMBOL(dgemm_);
-  LOAD_SYMBOL(sgemm_);
-  LOAD_SYMBOL(dgemv_);
-  LOAD_SYMBOL(sgemv_);
-  LOAD_SYMBOL(dger_);
-  LOAD_SYMBOL(sger_);
-  LOAD_SYMBOL(dnrm2_);
-  LOAD_SYMBOL(snrm2_);
-  LOAD_SYMBOL(drot_);
-  LOAD_SYMBOL(srot_);
-  LOAD_SYMBOL(drotm_);
-  LOAD_SYMBOL(srotm_);
-  LOAD_SYMBOL(drotmg_);
-  LOAD_SYMBOL(srotmg_);
-  LOAD_SYMBOL(dsbmv_);
-  LOAD_SYMBOL(ssbmv_);
-  LOAD_SYMBOL(dscal_);
-  LOAD_SYMBOL(sscal_);
-  LOAD_SYMBOL(dspmv_);
-  LOAD_SYMBOL(sspmv_);
-  LOAD_SYMBOL(dspr_);
-  LOAD_SYMBOL(sspr_);
-  LOAD_SYMBOL(dspr2_);
-  LOAD_SYMBOL(sspr2_);
-  LOAD_SYMBOL(dswap_);
-  LOAD_SYMBOL(sswap_);
-  LOAD_SYMBOL(dsymm_);
-  LOAD_SYMBOL(ssymm_);
-  LOAD_SYMBOL(dsymv_);
-  LOAD_SYMBOL(ssymv_);
-  LOAD_SYMBOL(dsyr_);
-  LOAD_SYMBOL(ssyr_);
-  LOAD_SYMBOL(dsyr2_);
-  LOAD_SYMBOL(ssyr2_);
-  LOAD_SYMBOL(dsyr2k_);
-  LOAD_SYMBOL(ssyr2k_);
-  LOAD_SYMBOL(dsyrk_);
-  LOAD_SYMBOL(ssyrk_);
-  LOAD_SYMBOL(dtbmv_);
-  LOAD_SYMBOL(stbmv_);
-  LOAD_SYMBOL(dtbsv_);
-  LOAD_SYMBOL(stbsv_);
-  LOAD_SYMBOL(dtpmv_);
-  LOAD_SYMBOL(stpmv_);
-  LOAD_SYMBOL(dtpsv_);
-  LOAD_SYMBOL(stpsv_);
-  LOAD_SYMBOL(dtrmm_);
-  LOAD_SYMBOL(strmm_);
-  LOAD_SYMBOL(dtrmv_);
-  LOAD_SYMBOL(strmv_);
-  LOAD_SYMBOL(dtrsm_);
-  LOAD_SYMBOL(strsm_);
-  LOAD_SYMBOL(dtrsv_);
-  LOAD_SYMBOL(strsv_);
-  LOAD_SYMBOL(idamax_);
-  LOAD_SYMBOL(isamax_);
-
-#undef LOAD_SYMBOL
- return TRUE;
+jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_sasumDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx) {
+  if (!sasum_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jfloat __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float *__nx = NULL;
+  __nn = n;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  __ret = sasum_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
 }
 
-static void *libhandle;
-
-jint JNI_OnLoad(JavaVM *vm, UNUSED void *reserved) {
-  JNIEnv *env;
-  if ((*vm)->GetEnv(vm, (void**)&env, JNI_VERSION_1_8) != JNI_OK) {
-    fprintf(stderr, "netlib-blas: JNI_OnLoad: GetEnv failed\n");
-    return -1;
-  }
+void Java_dev_ludovic_netlib_blas_JNIBLAS_daxpyDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jdouble alpha, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!daxpy_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__nx = NULL;
+  double *__ny = NULL;
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  daxpy_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
 
-  jclass booleanW_class = (*env)->FindClass(env, "org/netlib/util/booleanW");
-  if (!booleanW_class) {
-    fprintf(stderr, "netlib-blas: JNI_OnLoad: FindClass org/netlib/util/booleanW failed\n");
-    return -1;
+void Java_dev_ludovic_netlib_blas_JNIBLAS_saxpyDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jfloat alpha, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!saxpy_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__nx = NULL;
+  float *__ny = NULL;
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  saxpy_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dcopyDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!dcopy_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__nx = NULL;
+  double *__ny = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  dcopy_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_scopyDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!scopy_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__nx = NULL;
+  float *__ny = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  scopy_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+jdouble Java_dev_ludovic_netlib_blas_JNIBLAS_ddotDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!ddot_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jdouble __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__nx = NULL;
+  double *__ny = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  __ret = ddot_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
+jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_sdotDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!sdot_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jfloat __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__nx = NULL;
+  float *__ny = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  __ret = sdot_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
+jdouble Java_dev_ludovic_netlib_blas_JNIBLAS_dnrm2DirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx) {
+  if (!dnrm2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jdouble __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double *__nx = NULL;
+  __nn = n;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  __ret = dnrm2_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
+jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_snrm2DirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx) {
+  if (!snrm2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jfloat __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float *__nx = NULL;
+  __nn = n;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  __ret = snrm2_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dscalDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jdouble alpha, jobject x, jint offsetx, jint incx) {
+  if (!dscal_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double *__nx = NULL;
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  dscal_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sscalDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jfloat alpha, jobject x, jint offsetx, jint incx) {
+  if (!sscal_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float *__nx = NULL;
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  sscal_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dswapDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!dswap_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__nx = NULL;
+  double *__ny = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  dswap_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sswapDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!sswap_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__nx = NULL;
+  float *__ny = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  sswap_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+jint Java_dev_ludovic_netlib_blas_JNIBLAS_idamaxDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx) {
+  if (!idamax_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jint __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double *__nx = NULL;
+  __nn = n;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  __ret = idamax_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
+jint Java_dev_ludovic_netlib_blas_JNIBLAS_isamaxDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx) {
+  if (!isamax_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jint __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float *__nx = NULL;
+  __nn = n;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  __ret = isamax_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemvDirectK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jdouble alpha, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx, jdouble beta, jobject y, jint offsety, jint incy) {
+  if (!dgemv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nx = NULL;
+  double *__ny = NULL;
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nincx = incx;
+  __nbeta = beta;
+  __nincy = incy;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  dgemv_(__ntrans, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy, (*env)->GetStringUTFLength(env, trans));
+done:
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemvDirectK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jfloat alpha, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx, jfloat beta, jobject y, jint offsety, jint incy) {
+  if (!sgemv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nx = NULL;
+  float *__ny = NULL;
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nincx = incx;
+  __nbeta = beta;
+  __nincy = incy;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  sgemv_(__ntrans, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy, (*env)->GetStringUTFLength(env, trans));
+done:
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dgerDirectK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jdouble alpha, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy, jobject a, jint offseta, jint lda) {
+  if (!dger_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  double *__nx = NULL;
+  double *__ny = NULL;
+  double *__na = NULL;
+  __nm = m;
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nincy = incy;
+  __nlda = lda;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  dger_(&__nm, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL, &__nlda);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sgerDirectK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jfloat alpha, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy, jobject a, jint offseta, jint lda) {
+  if (!sger_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  float *__nx = NULL;
+  float *__ny = NULL;
+  float *__na = NULL;
+  __nm = m;
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nincy = incy;
+  __nlda = lda;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  sger_(&__nm, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL, &__nlda);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemmDirectK(JNIEnv *env, UNUSED jobject obj, jstring transa, jstring transb, jint m, jint n, jint k, jdouble alpha, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jdouble beta, jobject c, jint offsetc, jint ldc) {
+  if (!dgemm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntransa = NULL;
+  const char *__ntransb = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nb = NULL;
+  double *__nc = NULL;
+  if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntransb = (*env)->GetStringUTFChars(env, transb, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  __nbeta = beta;
+  __nldc = ldc;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetDirectBufferAddress(env, c))) { __failed = TRUE; goto done; } }
+  dgemm_(__ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc, (*env)->GetStringUTFLength(env, transa), (*env)->GetStringUTFLength(env, transb));
+done:
+  if (__ntransb) (*env)->ReleaseStringUTFChars(env, transb, __ntransb);
+  if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemmDirectK(JNIEnv *env, UNUSED jobject obj, jstring transa, jstring transb, jint m, jint n, jint k, jfloat alpha, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jfloat beta, jobject c, jint offsetc, jint ldc) {
+  if (!sgemm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntransa = NULL;
+  const char *__ntransb = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nb = NULL;
+  float *__nc = NULL;
+  if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntransb = (*env)->GetStringUTFChars(env, transb, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  __nbeta = beta;
+  __nldc = ldc;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetDirectBufferAddress(env, c))) { __failed = TRUE; goto done; } }
+  sgemm_(__ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc, (*env)->GetStringUTFLength(env, transa), (*env)->GetStringUTFLength(env, transb));
+done:
+  if (__ntransb) (*env)->ReleaseStringUTFChars(env, transb, __ntransb);
+  if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+static int (*openblas_get_num_threads)(void);
+static void (*openblas_set_num_threads)(int num_threads);
+static int (*openblas_set_num_threads_local)(int num_threads);
+static int (*MKL_Get_Max_Threads)(void);
+static void (*MKL_Set_Num_Threads)(int num_threads);
+static int (*MKL_Set_Num_Threads_Local)(int num_threads);
+static int64_t (*bli_thread_get_num_threads)(void);
+static void (*bli_thread_set_num_threads)(int64_t num_threads);
+
+jint Java_dev_ludovic_netlib_blas_JNIBLAS_getNumThreadsK(JNIEnv *env, UNUSED jobject obj) {
+  if (openblas_get_num_threads) return openblas_get_num_threads();
+  if (MKL_Get_Max_Threads) return MKL_Get_Max_Threads();
+  if (bli_thread_get_num_threads) return (jint)bli_thread_get_num_threads();
+  (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "native library doesn't expose a threading control");
+  return 0;
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_setNumThreadsK(JNIEnv *env, UNUSED jobject obj, jint numThreads) {
+  if (openblas_set_num_threads) openblas_set_num_threads(numThreads);
+  else if (MKL_Set_Num_Threads) MKL_Set_Num_Threads(numThreads);
+  else if (bli_thread_set_num_threads) bli_thread_set_num_threads(numThreads);
+  else (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "native library doesn't expose a threading control");
+}
+
+// Returns the previous value to restore, or -1 if the library has no per-thread control
+jint Java_dev_ludovic_netlib_blas_JNIBLAS_setLocalNumThreadsK(UNUSED JNIEnv *env, UNUSED jobject obj, jint numThreads) {
+  if (openblas_set_num_threads_local) return openblas_set_num_threads_local(numThreads);
+  if (MKL_Set_Num_Threads_Local) return MKL_Set_Num_Threads_Local(numThreads);
+  return -1;
+}
+
+// Runs all the operations of a BLASBatch with each array pinned only once.
+// The arguments have been checked when the operations were recorded.
+void Java_dev_ludovic_netlib_blas_JNIBLAS_executeBatchK(JNIEnv *env, UNUSED jobject obj, jobjectArray arrays, jintArray program, jint length, jdoubleArray scalars, jdoubleArray results) {
+  if (!daxpy_ || !dcopy_ || !dscal_ || !ddot_ || !dnrm2_ || !dgemv_ || !dger_) {
+    (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+    return;
+  }
+  jboolean __failed = FALSE;
+  jboolean __unknown = FALSE;
+  jsize __narrays = (*env)->GetArrayLength(env, arrays);
+  jsize __pinned = 0;
+  jdoubleArray *__arrays = NULL;
+  double **__parrays = NULL;
+  int *__nprogram = NULL;
+  double *__nscalars = NULL;
+  double *__nresults = NULL;
+  // All the local references are taken before entering the critical regions
+  if ((*env)->EnsureLocalCapacity(env, __narrays) != 0) goto done;
+  if (!(__arrays = malloc(__narrays * sizeof(jdoubleArray))) || !(__parrays = malloc(__narrays * sizeof(double*)))) { __failed = TRUE; goto done; }
+  for (jsize __i = 0; __i < __narrays; __i++) {
+    __arrays[__i] = (jdoubleArray)(*env)->GetObjectArrayElement(env, arrays, __i);
+  }
+  if (!(__nprogram = (*env)->GetPrimitiveArrayCritical(env, program, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nscalars = (*env)->GetPrimitiveArrayCritical(env, scalars, NULL))) { __failed = TRUE; goto done; }
+  if (results && (*env)->GetArrayLength(env, results) > 0) { if (!(__nresults = (*env)->GetPrimitiveArrayCritical(env, results, NULL))) { __failed = TRUE; goto done; } }
+  for (; __pinned < __narrays; __pinned++) {
+    if (!(__parrays[__pinned] = (*env)->GetPrimitiveArrayCritical(env, __arrays[__pinned], NULL))) { __failed = TRUE; goto done; }
+  }
+  {
+#define A(array, offset) (__parrays[p[array]] + p[offset])
+    double *scalars = __nscalars, *results = __nresults;
+    int s = 0;
+    for (int *p = __nprogram; p < __nprogram + length;) {
+      switch (p[0]) {
+      case 1: /* daxpy */
+        daxpy_(&p[1], &scalars[s], A(2, 3), &p[4], A(5, 6), &p[7]); s += 1;
+        p += 8;
+        break;
+      case 2: /* dcopy */
+        dcopy_(&p[1], A(2, 3), &p[4], A(5, 6), &p[7]);
+        p += 8;
+        break;
+      case 3: /* dscal */
+        dscal_(&p[1], &scalars[s], A(2, 3), &p[4]); s += 1;
+        p += 5;
+        break;
+      case 4: /* ddot */
+        results[p[8]] = ddot_(&p[1], A(2, 3), &p[4], A(5, 6), &p[7]);
+        p += 9;
+        break;
+      case 5: /* dnrm2 */
+        results[p[5]] = dnrm2_(&p[1], A(2, 3), &p[4]);
+        p += 6;
+        break;
+      case 6: /* dgemv */
+        dgemv_(p[1] == 0 ? "N" : "T", &p[2], &p[3], &scalars[s], A(4, 5), &p[6], A(7, 8), &p[9], &scalars[s + 1], A(10, 11), &p[12], 1); s += 2;
+        p += 13;
+        break;
+      case 7: /* dger */
+        dger_(&p[1], &p[2], &scalars[s], A(3, 4), &p[5], A(6, 7), &p[8], A(9, 10), &p[11]); s += 1;
+        p += 12;
+        break;
+      default:
+        __unknown = TRUE;
+        goto done;
+      }
+    }
+#undef A
+  }
+done:
+  while (__pinned > 0) {
+    __pinned--;
+    (*env)->ReleasePrimitiveArrayCritical(env, __arrays[__pinned], __parrays[__pinned], __failed || __unknown ? JNI_ABORT : 0);
+  }
+  if (__nresults) (*env)->ReleasePrimitiveArrayCritical(env, results, __nresults, __failed || __unknown ? JNI_ABORT : 0);
+  if (__nscalars) (*env)->ReleasePrimitiveArrayCritical(env, scalars, __nscalars, JNI_ABORT);
+  if (__nprogram) (*env)->ReleasePrimitiveArrayCritical(env, program, __nprogram, JNI_ABORT);
+  free(__parrays);
+  free(__arrays);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  else if (__unknown) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/IllegalStateException"), "unknown operation in batch program");
+}
+
+jboolean get_system_property(JNIEnv *env, jstring key, jstring def, jstring *res) {
+  jclass System_class = (*env)->FindClass(env, "java/lang/System");
+  if (!System_class) {
+    return FALSE;
+  }
+  jmethodID System_getProperty_methodID = (*env)->GetStaticMethodID(env, System_class, "getProperty", "(Ljava/lang/String;Ljava/lang/String;)Ljava/lang/String;");
+  if (!System_getProperty_methodID) {
+    return FALSE;
+  }
+  *res = (jstring)(*env)->CallStaticObjectMethod(env, System_class, System_getProperty_methodID, key, def);
+  return TRUE;
+}
+
+jboolean load_symbols(void *libhandle) {
+#define LOAD_SYMBOL(name) \
+  name = dlsym(libhandle, #name);
+
+  LOAD_SYMBOL(dasum_);
+  LOAD_SYMBOL(sasum_);
+  LOAD_SYMBOL(daxpy_);
+  LOAD_SYMBOL(saxpy_);
+  LOAD_SYMBOL(dcopy_);
+  LOAD_SYMBOL(scopy_);
+  LOAD_SYMBOL(ddot_);
+  LOAD_SYMBOL(sdot_);
+  LOAD_SYMBOL(sdsdot_);
+  LOAD_SYMBOL(dgbmv_);
+  LOAD_SYMBOL(sgbmv_);
+  LOAD_SYMBOL(dgemm_);
+  LOAD_SYMBOL(sgemm_);
+  LOAD_SYMBOL(dgemv_);
+  LOAD_SYMBOL(sgemv_);
+  LOAD_SYMBOL(dger_);
+  LOAD_SYMBOL(sger_);
+  LOAD_SYMBOL(dnrm2_);
+  LOAD_SYMBOL(snrm2_);
+  LOAD_SYMBOL(drot_);
+  LOAD_SYMBOL(srot_);
+  LOAD_SYMBOL(drotm_);
+  LOAD_SYMBOL(srotm_);
+  LOAD_SYMBOL(drotmg_);
+  LOAD_SYMBOL(srotmg_);
+  LOAD_SYMBOL(dsbmv_);
+  LOAD_SYMBOL(ssbmv_);
+  LOAD_SYMBOL(dscal_);
+  LOAD_SYMBOL(sscal_);
+  LOAD_SYMBOL(dspmv_);
+  LOAD_SYMBOL(sspmv_);
+  LOAD_SYMBOL(dspr_);
+  LOAD_SYMBOL(sspr_);
+  LOAD_SYMBOL(dspr2_);
+  LOAD_SYMBOL(sspr2_);
+  LOAD_SYMBOL(dswap_);
+  LOAD_SYMBOL(sswap_);
+  LOAD_SYMBOL(dsymm_);
+  LOAD_SYMBOL(ssymm_);
+  LOAD_SYMBOL(dsymv_);
+  LOAD_SYMBOL(ssymv_);
+  LOAD_SYMBOL(dsyr_);
+  LOAD_SYMBOL(ssyr_);
+  LOAD_SYMBOL(dsyr2_);
+  LOAD_SYMBOL(ssyr2_);
+  LOAD_SYMBOL(dsyr2k_);
+  LOAD_SYMBOL(ssyr2k_);
+  LOAD_SYMBOL(dsyrk_);
+  LOAD_SYMBOL(ssyrk_);
+  LOAD_SYMBOL(dtbmv_);
+  LOAD_SYMBOL(stbmv_);
+  LOAD_SYMBOL(dtbsv_);
+  LOAD_SYMBOL(stbsv_);
+  LOAD_SYMBOL(dtpmv_);
+  LOAD_SYMBOL(stpmv_);
+  LOAD_SYMBOL(dtpsv_);
+  LOAD_SYMBOL(stpsv_);
+  LOAD_SYMBOL(dtrmm_);
+  LOAD_SYMBOL(strmm_);
+  LOAD_SYMBOL(dtrmv_);
+  LOAD_SYMBOL(strmv_);
+  LOAD_SYMBOL(dtrsm_);
+  LOAD_SYMBOL(strsm_);
+  LOAD_SYMBOL(dtrsv_);
+  LOAD_SYMBOL(strsv_);
+  LOAD_SYMBOL(idamax_);
+  LOAD_SYMBOL(isamax_);
+  LOAD_SYMBOL(openblas_get_num_threads);
+  LOAD_SYMBOL(openblas_set_num_threads);
+  LOAD_SYMBOL(openblas_set_num_threads_local);
+  LOAD_SYMBOL(MKL_Get_Max_Threads);
+  LOAD_SYMBOL(MKL_Set_Num_Threads);
+  LOAD_SYMBOL(MKL_Set_Num_Threads_Local);
+  LOAD_SYMBOL(bli_thread_get_num_threads);
+  LOAD_SYMBOL(bli_thread_set_num_threads);
+
+#undef LOAD_SYMBOL
+ return TRUE;
+}
+
+static void *libhandle;
+
+jint JNI_OnLoad(JavaVM *vm, UNUSED void *reserved) {
+  JNIEnv *env;
+  if ((*vm)->GetEnv(vm, (void**)&env, JNI_VERSION_1_8) != JNI_OK) {
+    fprintf(stderr, "netlib-blas: JNI_OnLoad: GetEnv failed\n");
+    return -1;
+  }
+
+  jclass booleanW_class = (*env)->FindClass(env, "org/netlib/util/booleanW");
+  if (!booleanW_class) {
+    fprintf(stderr, "netlib-blas: JNI_OnLoad: FindClass org/netlib/util/booleanW failed\n");
+    return -1;
   }
   booleanW_val_fieldID = (*env)->GetFieldID(env, booleanW_class, "val", "Z");
   if (!booleanW_val_fieldID) {
@@ -2252,9 +3209,35 @@ jint JNI_OnLoad(JavaVM *vm, UNUSED void *reserved) {
     return -1;
   }
 
+  jstring property_jniCopyThreshold;
+  if (!get_system_property(env, (*env)->NewStringUTF(env, "dev.ludovic.netlib.blas.jniCopyThreshold"), NULL, &property_jniCopyThreshold)) {
+    fprintf(stderr, "netlib-blas: JNI_OnLoad: get_system_property jniCopyThreshold failed\n");
+    return -1;
+  }
+  if (property_jniCopyThreshold) {
+    const char *utf = (*env)->GetStringUTFChars(env, property_jniCopyThreshold, NULL);
+    char *end;
+    double threshold = strtod(utf, &end);
+    if (end != utf && *end == '\0') {
+      copy_threshold = threshold;
+    } else {
+      fprintf(stderr, "netlib-blas: JNI_OnLoad: ignoring invalid jniCopyThreshold %s\n", utf);
+    }
+    (*env)->ReleaseStringUTFChars(env, property_jniCopyThreshold, utf);
+  }
+#ifndef _WIN32
+  if (pthread_key_create(&arena_key, arena_destroy)) {
+    fprintf(stderr, "netlib-blas: JNI_OnLoad: pthread_key_create failed\n");
+    return -1;
+  }
+#endif
+
   return JNI_VERSION_1_8;
 }
 
 void JNI_OnUnload(UNUSED JavaVM *vm, UNUSED void *reserved) {
+#ifndef _WIN32
+  pthread_key_delete(arena_key);
+#endif
   dlclose(libhandle);
 }
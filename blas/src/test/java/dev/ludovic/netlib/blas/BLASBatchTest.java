@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+package dev.ludovic.netlib.blas;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import static dev.ludovic.netlib.test.TestHelpers.*;
+
+public class BLASBatchTest extends BLASTest {
+
+    // Runs the same sequence directly on blas and returns the ddot and dnrm2 results
+    private double[] sequence(BLAS blas, double[] a, double[] x, double[] y) {
+        double[] results = new double[4];
+        blas.daxpy(M, 2.0, x, 1, y, 1);
+        blas.dgemv("N", M, N, 1.0, a, M, x, 1, 0.5, y, 1);
+        results[0] = blas.ddot(M, x, 1, y, 1);
+        blas.dscal(M / 2, -0.5, y, 1, 2);
+        blas.dger(M, N, 0.1, x, 1, y, 1, a, M);
+        blas.dgemv("T", M, N, -1.0, a, M, y, -1, 1.0, x, 1);
+        results[1] = blas.dnrm2(M, x, 1);
+        blas.dcopy(M / 2, x, 2, -2, y, 0, 2);
+        results[2] = blas.ddot(M - 3, x, 3, 1, y, 0, -1);
+        results[3] = blas.dnrm2(M / 3, y, 2, 3);
+        return results;
+    }
+
+    // The values grow large through the sequence, compare them relatively
+    private void assertRelativeEquals(double[] expected, double[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i += 1) {
+            assertEquals(expected[i], actual[i], depsilon * Math.max(1.0, Math.abs(expected[i])));
+        }
+    }
+
+    private int[] record(BLASBatch batch, double[] a, double[] x, double[] y) {
+        int[] results = new int[4];
+        batch.daxpy(M, 2.0, x, 1, y, 1);
+        batch.dgemv("N", M, N, 1.0, a, M, x, 1, 0.5, y, 1);
+        results[0] = batch.ddot(M, x, 1, y, 1);
+        batch.dscal(M / 2, -0.5, y, 1, 2);
+        batch.dger(M, N, 0.1, x, 1, y, 1, a, M);
+        batch.dgemv("T", M, N, -1.0, a, M, y, -1, 1.0, x, 1);
+        results[1] = batch.dnrm2(M, x, 1);
+        batch.dcopy(M / 2, x, 2, -2, y, 0, 2);
+        results[2] = batch.ddot(M - 3, x, 3, 1, y, 0, -1);
+        results[3] = batch.dnrm2(M / 3, y, 2, 3);
+        return results;
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        double[] expectedA, expectedX, expectedY, a, x, y;
+
+        double[] expected = sequence(f2j, expectedA = dgeA.clone(), expectedX = dX.clone(), expectedY = dY.clone());
+
+        BLASBatch batch = new BLASBatch();
+        int[] indices = record(batch, a = dgeA.clone(), x = dX.clone(), y = dY.clone());
+        assertEquals(10, batch.size());
+        assertEquals(4, batch.results());
+        double[] results = batch.execute(blas);
+        assertEquals(4, results.length);
+        for (int i = 0; i < indices.length; i += 1) {
+            assertEquals(expected[i], results[indices[i]], depsilon * Math.abs(expected[i]));
+        }
+        assertRelativeEquals(expectedA, a);
+        assertRelativeEquals(expectedX, x);
+        assertRelativeEquals(expectedY, y);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testExecuteTwice(BLAS blas) {
+        double[] expectedA, expectedX, expectedY, a, x, y;
+
+        sequence(f2j, expectedA = dgeA.clone(), expectedX = dX.clone(), expectedY = dY.clone());
+        double[] expected = sequence(f2j, expectedA, expectedX, expectedY);
+
+        BLASBatch batch = new BLASBatch();
+        int[] indices = record(batch, a = dgeA.clone(), x = dX.clone(), y = dY.clone());
+        batch.execute(blas);
+        double[] results = batch.execute(blas);
+        for (int i = 0; i < indices.length; i += 1) {
+            assertEquals(expected[i], results[indices[i]], depsilon * Math.abs(expected[i]));
+        }
+        assertRelativeEquals(expectedA, a);
+        assertRelativeEquals(expectedX, x);
+        assertRelativeEquals(expectedY, y);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testNoOps(BLAS blas) {
+        double[] x, y;
+
+        BLASBatch batch = new BLASBatch();
+        batch.daxpy(0, 2.0, x = dX.clone(), 1, y = dY.clone(), 1);
+        batch.daxpy(M, 0.0, x, 1, y, 1);
+        batch.dscal(M, 1.0, x, 1);
+        batch.dgemv("N", 0, N, 1.0, dgeA, 1, x, 1, 0.5, y, 1);
+        int dot = batch.ddot(0, x, 1, y, 1);
+        int nrm2 = batch.dnrm2(M, x, -1);
+        assertEquals(0, batch.size());
+        assertEquals(2, batch.results());
+
+        double[] results = batch.execute(blas);
+        assertEquals(0.0, results[dot]);
+        assertEquals(0.0, results[nrm2]);
+        assertArrayEquals(dX, x);
+        assertArrayEquals(dY, y);
+    }
+
+    @Test
+    void testClear() {
+        double[] expected, dYcopy;
+
+        BLASBatch batch = new BLASBatch();
+        batch.dscal(M, 3.0, dYcopy = dY.clone(), 1);
+        batch.clear();
+        assertEquals(0, batch.size());
+        batch.daxpy(M, 2.0, dX, 1, dYcopy, 1);
+        batch.execute();
+
+        f2j.daxpy(M, 2.0, dX, 1, expected = dY.clone(), 1);
+        assertArrayEquals(expected, dYcopy, depsilon);
+    }
+
+    @Test
+    void testChecks() {
+        BLASBatch batch = new BLASBatch();
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            batch.daxpy(M + 1, 2.0, dX, 1, dY.clone(), 1);
+        });
+        assertThrows(java.lang.IllegalArgumentException.class, () -> {
+            batch.dgemv("X", M, N, 1.0, dgeA, M, dX, 1, 0.5, dY.clone(), 1);
+        });
+        assertThrows(java.lang.IllegalArgumentException.class, () -> {
+            batch.dger(M, N, 1.0, dX, 1, dY, 1, dgeA.clone(), M - 1);
+        });
+        assertThrows(java.lang.NullPointerException.class, () -> {
+            batch.ddot(M, dX, 1, null, 1);
+        });
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            batch.dnrm2(M + 1, dX, 1);
+        });
+        assertEquals(0, batch.size());
+        // A rejected operation doesn't take a result
+        assertEquals(0, batch.results());
+        assertEquals(0, batch.ddot(M, dX, 1, dY, 1));
+    }
+
+    @Test
+    void testUnknownOperation() throws Exception {
+        // The native interpreter rejects an opcode that BLASBatch never emits
+        Method execute = JNIBLAS.class.getDeclaredMethod("executeBatchK", double[][].class, int[].class, int.class, double[].class, double[].class);
+        execute.setAccessible(true);
+        InvocationTargetException e = assertThrows(InvocationTargetException.class, () -> {
+            execute.invoke(JNIBLAS.getInstance(), new double[0][], new int[] { -1 }, 1, new double[0], new double[0]);
+        });
+        assertEquals(IllegalStateException.class, e.getCause().getClass());
+    }
+}
@@ -54,7 +54,8 @@ public class BLASTest {
       Arguments.of(Named.of("NativeBLAS", NativeBLAS.getInstance())),
       Arguments.of(Named.of("JavaBLAS", JavaBLAS.getInstance())),
       Arguments.of(Named.of("F2jBLAS", F2jBLAS.getInstance())),
-      Arguments.of(Named.of("JNIBLAS", JNIBLAS.getInstance()))
+      Arguments.of(Named.of("JNIBLAS", JNIBLAS.getInstance())),
+      Arguments.of(Named.of("HybridBLAS", new HybridBLAS((AbstractBLAS)JavaBLAS.getInstance(), NativeBLAS.getInstance(), HybridBLAS.loadThresholds())))
     );
 
     String[] fullVersion = System.getProperty("java.version").split("[+.\\-]+", 3);
@@ -113,6 +114,25 @@ public class BLASTest {
     return result;
   }
 
+  protected static final float[] transpose(String trans, float[] arr, int m, int n) {
+    assert arr.length == m * n;
+    float[] result = new float[n * m];
+    if (trans.equals("N")) {
+      for (int col = 0; col < n; col += 1) {
+        for (int row = 0; row < m; row += 1) {
+          result[col + row * n] = arr[row + col * m];
+        }
+      }
+    } else {
+      for (int row = 0; row < m; row += 1) {
+        for (int col = 0; col < n; col += 1) {
+          result[row + col * m] = arr[col + row * n];
+        }
+      }
+    }
+    return result;
+  }
+
   protected static final double[] extractUPLO(String uplo, double[] arr, int n, int ldarr) {
     assert n <= ldarr;
     double[] result = new double[n * (n + 1) / 2];
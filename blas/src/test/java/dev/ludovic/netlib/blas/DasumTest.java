@@ -71,7 +71,16 @@ public class DasumTest extends BLASTest {
     @MethodSource("BLASImplementations")
     void testNullArray(BLAS blas) {
         assertThrows(java.lang.NullPointerException.class, () -> {
-            blas.dasum(M, null, 1);
+            blas.dasum(M, (double[]) null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        for (Buffers buffers : Buffers.values()) {
+            assertEquals(f2j.dasum(M, dX, 1), blas.dasum(M, buffers.of(dX), 1), depsilon);
+            assertEquals(f2j.dasum(M / 2, dX, 2, 2), blas.dasum(M / 2, buffers.of(dX), 2, 2), depsilon);
+        }
+    }
 }
@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.DoubleBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -124,4 +126,46 @@ public class DaxpyTest extends BLASTest {
             blas.daxpy(M, 2.0, dX, 1, null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        double[] expected, expectedOffset;
+        DoubleBuffer dYbuffer;
+
+        f2j.daxpy(M, 2.0, dX, 1, expected = dY.clone(), 1);
+        f2j.daxpy(M / 2, 2.0, dX, 2, 1, expectedOffset = dY.clone(), 3, 1);
+        for (Buffers buffers : Buffers.values()) {
+            blas.daxpy(M, 2.0, buffers.of(dX), 1, dYbuffer = buffers.of(dY), 1);
+            assertArrayEquals(expected, toArray(dYbuffer), depsilon);
+
+            blas.daxpy(M / 2, 2.0, buffers.of(dX), 2, 1, dYbuffer = buffers.of(dY), 3, 1);
+            assertArrayEquals(expectedOffset, toArray(dYbuffer), depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testReadOnlyBuffer(BLAS blas) {
+        double[] expected;
+        DoubleBuffer dYbuffer;
+
+        f2j.daxpy(M, 2.0, dX, 1, expected = dY.clone(), 1);
+        for (Buffers buffers : Buffers.values()) {
+            blas.daxpy(M, 2.0, buffers.of(dX).asReadOnlyBuffer(), 1, dYbuffer = buffers.of(dY), 1);
+            assertArrayEquals(expected, toArray(dYbuffer), depsilon);
+
+            assertThrows(java.nio.ReadOnlyBufferException.class, () -> {
+                blas.daxpy(M, 2.0, buffers.of(dX), 1, buffers.of(dY).asReadOnlyBuffer(), 1);
+            });
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testOutOfBoundBuffer(BLAS blas) {
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.daxpy(M, 2.0, Buffers.DIRECT.of(dX), 1, (DoubleBuffer)Buffers.DIRECT.of(dY).limit(M - 1), 1);
+        });
+    }
 }
@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.DoubleBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -134,4 +136,21 @@ public class DcopyTest extends BLASTest {
             blas.dcopy(M, dX, 1, null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        double[] expected, expectedOffset;
+        DoubleBuffer dYbuffer;
+
+        f2j.dcopy(M, dX, 1, expected = dY.clone(), 1);
+        f2j.dcopy(M / 2, dX, 2, 1, expectedOffset = dY.clone(), 3, 1);
+        for (Buffers buffers : Buffers.values()) {
+            blas.dcopy(M, buffers.of(dX), 1, dYbuffer = buffers.of(dY), 1);
+            assertArrayEquals(expected, toArray(dYbuffer), depsilon);
+
+            blas.dcopy(M / 2, buffers.of(dX), 2, 1, dYbuffer = buffers.of(dY), 3, 1);
+            assertArrayEquals(expectedOffset, toArray(dYbuffer), depsilon);
+        }
+    }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DcsrmvTest extends BLASTest {
+
+    // dgeA with only about a third of its entries, and its compressed sparse rows
+    final double[] sparseA = sparse(dgeA);
+    final double[] values;
+    final int[] colind;
+    final int[] rowptr = new int[M + 1];
+
+    {
+        int nnz = 0;
+        for (int i = 0; i < sparseA.length; i++) {
+            if (sparseA[i] != 0.0) nnz++;
+        }
+        values = new double[nnz];
+        colind = new int[nnz];
+        for (int row = 0, k = 0; row < M; row++) {
+            for (int col = 0; col < N; col++) {
+                if (sparseA[row + col * M] != 0.0) {
+                    values[k] = sparseA[row + col * M];
+                    colind[k++] = col;
+                }
+            }
+            rowptr[row + 1] = k;
+        }
+    }
+
+    static double[] sparse(double[] a) {
+        double[] result = a.clone();
+        for (int i = 0; i < result.length; i++) {
+            if ((i * 7) % 3 != 0) result[i] = 0.0;
+        }
+        return result;
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        double[] expected, actual;
+
+        for (String trans : new String[] { "N", "T" }) {
+            for (double[] ab : new double[][] { { 1.0, 1.0 }, { 0.5, 1.0 }, { -0.5, 1.0 }, { 0.0, 1.0 }, { 1.0, 0.5 }, { 1.0, -0.5 }, { 1.0, 0.0 } }) {
+                f2j.dgemv(trans, M, N, ab[0], sparseA, M, dX, 1, ab[1], expected = dY.clone(), 1);
+                blas.dcsrmv(trans, M, N, ab[0], values, colind, rowptr, dX, ab[1], actual = dY.clone());
+                assertArrayEquals(expected, actual, depsilon);
+            }
+        }
+
+        // beta = 0 overwrites y, even NaN
+        double[] nan = new double[M];
+        java.util.Arrays.fill(nan, Double.NaN);
+        f2j.dgemv("N", M, N, 1.0, sparseA, M, dX, 1, 0.0, expected = new double[M], 1);
+        blas.dcsrmv("N", M, N, 1.0, values, colind, rowptr, dX, 0.0, actual = nan.clone());
+        assertArrayEquals(expected, actual, depsilon);
+        f2j.dgemv("T", M, N, 1.0, sparseA, M, dX, 1, 0.0, expected = new double[N], 1);
+        blas.dcsrmv("T", M, N, 1.0, values, colind, rowptr, dX, 0.0, actual = nan.clone());
+        assertArrayEquals(expected, actual, depsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testOffsets(BLAS blas) {
+        int nnz = values.length;
+        double[] paddedValues = new double[nnz + 3];
+        System.arraycopy(values, 0, paddedValues, 3, nnz);
+        int[] paddedColind = new int[nnz + 2];
+        System.arraycopy(colind, 0, paddedColind, 2, nnz);
+        int[] paddedRowptr = new int[M + 5];
+        System.arraycopy(rowptr, 0, paddedRowptr, 4, M + 1);
+        double[] x = new double[N + 1];
+        System.arraycopy(dX, 0, x, 1, N);
+
+        double[] expected = dY.clone();
+        f2j.dgemv("N", M, N, 0.5, sparseA, M, dX, 1, 2.0, expected, 1);
+        double[] actual = new double[M + 2];
+        System.arraycopy(dY, 0, actual, 2, M);
+        blas.dcsrmv("N", M, N, 0.5, paddedValues, 3, paddedColind, 2, paddedRowptr, 4, x, 1, 2.0, actual, 2);
+        for (int i = 0; i < M; i++) {
+            assertEquals(expected[i], actual[i + 2], depsilon);
+        }
+
+        // rowptr doesn't need to start at 0, a block of rows can be passed on its own
+        int first = M / 2;
+        double[] half = dY.clone();
+        blas.dcsrmv("N", M - first, N, 0.5, values, 0, colind, 0, rowptr, first, dX, 0, 2.0, half, first);
+        for (int i = first; i < M; i++) {
+            assertEquals(expected[i], half[i], depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testLarge(BLAS blas) {
+        // the 2D Laplacian of a 500x500 grid, large enough to be split across threads
+        int grid = 500, n = grid * grid;
+        double[] lvalues = new double[5 * n];
+        int[] lcolind = new int[5 * n];
+        int[] lrowptr = new int[n + 1];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            int row = i / grid, col = i % grid;
+            if (row > 0) { lvalues[k] = -1.0; lcolind[k++] = i - grid; }
+            if (col > 0) { lvalues[k] = -1.0; lcolind[k++] = i - 1; }
+            lvalues[k] = 4.0; lcolind[k++] = i;
+            if (col < grid - 1) { lvalues[k] = -1.0; lcolind[k++] = i + 1; }
+            if (row < grid - 1) { lvalues[k] = -1.0; lcolind[k++] = i + grid; }
+            lrowptr[i + 1] = k;
+        }
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = (i % 17) * 0.25;
+        }
+
+        // the Laplacian is symmetric, both products give the same result
+        double[] expected = new double[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = lrowptr[i]; j < lrowptr[i + 1]; j++) {
+                expected[i] += lvalues[j] * x[lcolind[j]];
+            }
+        }
+        double[] actual = new double[n];
+        blas.dcsrmv("N", n, n, 1.0, lvalues, lcolind, lrowptr, x, 0.0, actual);
+        assertArrayEquals(expected, actual, depsilon);
+        actual = new double[n];
+        blas.dcsrmv("T", n, n, 1.0, lvalues, lcolind, lrowptr, x, 0.0, actual);
+        assertArrayEquals(expected, actual, depsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testInvalidArguments(BLAS blas) {
+        assertThrows(java.lang.IllegalArgumentException.class, () -> {
+            blas.dcsrmv("X", M, N, 1.0, values, colind, rowptr, dX, 1.0, dY.clone());
+        });
+        assertThrows(java.lang.IllegalArgumentException.class, () -> {
+            blas.dcsrmv("N", -1, N, 1.0, values, colind, rowptr, dX, 1.0, dY.clone());
+        });
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.dcsrmv("N", M, N, 1.0, values, colind, rowptr, dX, 1.0, new double[M - 1]);
+        });
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.dcsrmv("N", M, N, 1.0, values, colind, java.util.Arrays.copyOf(rowptr, M), dX, 1.0, dY.clone());
+        });
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.dcsrmv("N", M, N, 1.0, java.util.Arrays.copyOf(values, values.length - 1), colind, rowptr, dX, 1.0, dY.clone());
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testInvalidIndices(BLAS blas) {
+        int[] badcolind = colind.clone();
+        int[] badrowptr = rowptr.clone();
+        badrowptr[1] = rowptr[2] + 1;
+        for (String trans : new String[] { "N", "T" }) {
+            for (int col : new int[] { -1, N }) {
+                badcolind[colind.length / 2] = col;
+                double[] y = dY.clone();
+                assertThrows(java.lang.IllegalArgumentException.class, () -> {
+                    blas.dcsrmv(trans, M, N, 1.0, values, badcolind, rowptr, dX, 1.0, y);
+                });
+                // the arguments are checked before y is written to
+                assertArrayEquals(dY, y);
+            }
+            assertThrows(java.lang.IllegalArgumentException.class, () -> {
+                blas.dcsrmv(trans, M, N, 1.0, values, colind, badrowptr, dX, 1.0, dY.clone());
+            });
+        }
+    }
+}
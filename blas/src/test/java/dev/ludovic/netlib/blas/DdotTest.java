@@ -81,14 +81,23 @@ public class DdotTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testXAndYAreNullAndNIsZero(BLAS blas) {
-        assertEquals(0.0, blas.ddot(0, null, 1, null, 1));
+        assertEquals(0.0, blas.ddot(0, (double[]) null, 1, (double[]) null, 1));
     }
 
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testXAndYAreNullAndNIsOne(BLAS blas) {
         assertThrows(java.lang.NullPointerException.class, () -> {
-            blas.ddot(M, null, 1, null, 1);
+            blas.ddot(M, (double[]) null, 1, (double[]) null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        for (Buffers buffers : Buffers.values()) {
+            assertEquals(f2j.ddot(M, dX, 1, dY, 1), blas.ddot(M, buffers.of(dX), 1, buffers.of(dY), 1), depsilon);
+            assertEquals(f2j.ddot(M / 2, dX, 2, 1, dY, 3, 1), blas.ddot(M / 2, buffers.of(dX), 2, 1, buffers.of(dY), 3, 1), depsilon);
+        }
+    }
 }
@@ -25,10 +25,14 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.DoubleBuffer;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
 
 import static dev.ludovic.netlib.test.TestHelpers.*;
 
@@ -313,4 +317,154 @@ public class DgemmTest extends BLASTest {
         blas.dgemm("N", "N", 2, 1, 3, 1.0, a, 2, 3, b, 0, 3, 0.0, c, 0, 2);
         assertArrayEquals(cExpected, c, depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testThreads(BLAS blas) {
+        assumeTrue(blas instanceof Java8BLAS);
+
+        // b and c are tiled to be wider than a single column panel
+        int n = 11 * N;
+        double[] b = new double[K * n], c = new double[M * n];
+        for (int i = 0; i < 11; i += 1) {
+            System.arraycopy(dgeB, 0, b, i * K * N, K * N);
+            System.arraycopy(dgeC, 0, c, i * M * N, M * N);
+        }
+        double[] bT = transpose("N", b, K, n);
+
+        for (String transa : new String[] { "N", "T" }) {
+            for (String transb : new String[] { "N", "T" }) {
+                double[] a = transa.equals("N") ? dgeA : dgeAT;
+                int lda = transa.equals("N") ? M : K;
+                double[] bb = transb.equals("N") ? b : bT;
+                int ldb = transb.equals("N") ? K : n;
+
+                double[] expected, actual;
+
+                f2j.dgemm(transa, transb, M, n, K, 1.0, a, lda, bb, ldb, 2.0, expected = c.clone(), M);
+                blas.dgemm(transa, transb, M, n, K, 1.0, a, lda, bb, ldb, 2.0, actual = c.clone(), M);
+                assertArrayEquals(expected, actual, depsilon);
+
+                // The result must not depend on how the work is split across threads
+                ((Java8BLAS)blas).dgemmBlocked(transa, transb, M, n, K, 1.0, a, 0, lda, bb, 0, ldb, 2.0, expected = c.clone(), 0, M, 1);
+                for (int threads = 2; threads <= 8; threads += 1) {
+                    ((Java8BLAS)blas).dgemmBlocked(transa, transb, M, n, K, 1.0, a, 0, lda, bb, 0, ldb, 2.0, actual = c.clone(), 0, M, threads);
+                    assertArrayEquals(expected, actual);
+                }
+                blas.dgemm(transa, transb, M, n, K, 1.0, a, lda, bb, ldb, 2.0, actual = c.clone(), M);
+                assertArrayEquals(expected, actual);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        double[] expectedNN, expectedTT, expectedOffset;
+        DoubleBuffer dgeCbuffer;
+
+        f2j.dgemm("N", "N", M, N, K, 1.0, dgeA, M, dgeB, K, 2.0, expectedNN = dgeC.clone(), M);
+        f2j.dgemm("T", "T", M, N, K, 1.0, dgeAT, K, dgeBT, N, 2.0, expectedTT = dgeC.clone(), M);
+        f2j.dgemm("N", "N", M - 1, N - 1, K - 1, 1.0, dgeA, 1, M, dgeB, 1, K, 2.0, expectedOffset = dgeC.clone(), 1, M);
+        for (Buffers buffers : Buffers.values()) {
+            blas.dgemm("N", "N", M, N, K, 1.0, buffers.of(dgeA), M, buffers.of(dgeB), K, 2.0, dgeCbuffer = buffers.of(dgeC), M);
+            assertArrayEquals(expectedNN, toArray(dgeCbuffer), depsilon);
+
+            blas.dgemm("T", "T", M, N, K, 1.0, buffers.of(dgeAT), K, buffers.of(dgeBT), N, 2.0, dgeCbuffer = buffers.of(dgeC), M);
+            assertArrayEquals(expectedTT, toArray(dgeCbuffer), depsilon);
+
+            blas.dgemm("N", "N", M - 1, N - 1, K - 1, 1.0, buffers.of(dgeA), 1, M, buffers.of(dgeB), 1, K, 2.0, dgeCbuffer = buffers.of(dgeC), 1, M);
+            assertArrayEquals(expectedOffset, toArray(dgeCbuffer), depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testLargeMatrices(BLAS blas) {
+        // Large enough for the JNI wrappers to copy the arrays rather than pinning them
+        int n = 256, offset = 3;
+        Random rand = new Random(0);
+        double[] a = new double[offset + n * n], b = new double[offset + n * n], c = new double[offset + n * n];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = rand.nextDouble();
+            b[i] = rand.nextDouble();
+            c[i] = rand.nextDouble();
+        }
+        double[] expected, actual;
+
+        f2j.dgemm("N", "T", n, n, n, 1.0, a, offset, n, b, offset, n, 2.0, expected = c.clone(), offset, n);
+        blas.dgemm("N", "T", n, n, n, 1.0, a, offset, n, b, offset, n, 2.0, actual = c.clone(), offset, n);
+        assertRelArrayEquals(expected, actual, depsilon * n);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testRowMajor(BLAS blas) {
+        double[] expected, dgeCcopy;
+
+        // a, b and c are stored row after row, their leading dimension is their number of columns
+        f2j.dgemm("N", "N", M, N, K, 2.0, dgeA, M, dgeB, K, 1.0, expected = dgeC.clone(), M);
+        blas.dgemm(Layout.ROW_MAJOR, "N", "N", M, N, K, 2.0, dgeAT, K, dgeBT, N, 1.0, dgeCcopy = transpose("N", dgeC, M, N), N);
+        assertArrayEquals(transpose("N", expected, M, N), dgeCcopy, depsilon);
+
+        f2j.dgemm("T", "N", M, N, K, 2.0, dgeAT, K, dgeB, K, 1.0, expected = dgeC.clone(), M);
+        blas.dgemm(Layout.ROW_MAJOR, "T", "N", M, N, K, 2.0, dgeA, M, dgeBT, N, 1.0, dgeCcopy = transpose("N", dgeC, M, N), N);
+        assertArrayEquals(transpose("N", expected, M, N), dgeCcopy, depsilon);
+
+        f2j.dgemm("N", "T", M, N, K, 2.0, dgeA, M, dgeBT, N, 1.0, expected = dgeC.clone(), M);
+        blas.dgemm(Layout.ROW_MAJOR, "N", "T", M, N, K, 2.0, dgeAT, K, dgeB, K, 1.0, dgeCcopy = transpose("N", dgeC, M, N), N);
+        assertArrayEquals(transpose("N", expected, M, N), dgeCcopy, depsilon);
+
+        f2j.dgemm("N", "N", M, N, K, 2.0, dgeA, M, dgeB, K, 1.0, expected = dgeC.clone(), M);
+        blas.dgemm(Layout.COLUMN_MAJOR, "N", "N", M, N, K, 2.0, dgeA, M, dgeB, K, 1.0, dgeCcopy = dgeC.clone(), M);
+        assertArrayEquals(expected, dgeCcopy, depsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testConcurrentSubBlocks(BLAS blas) throws Exception {
+        // Two calls large enough for the JNI wrappers to copy the arrays, each on its own block of
+        // columns of c, with ldc larger than m. Neither may write back anything outside its block:
+        // not the rows past m, and not the other block, which the other call updates at the same time.
+        int m = 256, n = 128, k = 512, ldc = m + 5, offset = 3;
+        Random rand = new Random(0);
+        double[] a = new double[m * k], b = new double[k * n], c = new double[offset + 2 * n * ldc + 7];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = rand.nextDouble();
+        }
+        for (int i = 0; i < b.length; i++) {
+            b[i] = rand.nextDouble();
+        }
+        for (int i = 0; i < c.length; i++) {
+            c[i] = rand.nextDouble();
+        }
+        double[] expected = c.clone();
+        for (int block = 0; block < 2; block++) {
+            f2j.dgemm("N", "N", m, n, k, 1.0, a, 0, m, b, 0, k, 1.0, expected, offset + block * n * ldc, ldc);
+        }
+
+        for (int round = 0; round < 4; round++) {
+            double[] actual = c.clone();
+            java.util.concurrent.CyclicBarrier barrier = new java.util.concurrent.CyclicBarrier(2);
+            java.util.concurrent.atomic.AtomicReference<Throwable> failure = new java.util.concurrent.atomic.AtomicReference<>();
+            Thread[] threads = new Thread[2];
+            for (int block = 0; block < 2; block++) {
+                int offsetc = offset + block * n * ldc;
+                threads[block] = new Thread(() -> {
+                    try {
+                        barrier.await();
+                        blas.dgemm("N", "N", m, n, k, 1.0, a, 0, m, b, 0, k, 1.0, actual, offsetc, ldc);
+                    } catch (Throwable t) {
+                        failure.set(t);
+                    }
+                });
+                threads[block].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertNull(failure.get());
+            assertRelArrayEquals(expected, actual, depsilon * k);
+        }
+    }
 }
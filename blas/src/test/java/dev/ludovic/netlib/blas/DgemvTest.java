@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.DoubleBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -146,6 +148,16 @@ public class DgemvTest extends BLASTest {
         f2j.dgemv("T", smallDim, smallDim, 1.0, dgeA, M, dX, 2, 1.0, expected = dY.clone(), 2);
         blas.dgemv("T", smallDim, smallDim, 1.0, dgeA, M, dX, 2, 1.0, dYcopy = dY.clone(), 2);
         assertArrayEquals(expected, dYcopy, depsilon);
+
+        // trans=N, incx=1, incy=2 (mixed)
+        f2j.dgemv("N", smallDim, smallDim, 1.0, dgeA, M, dX, 1, 0.5, expected = dY.clone(), 2);
+        blas.dgemv("N", smallDim, smallDim, 1.0, dgeA, M, dX, 1, 0.5, dYcopy = dY.clone(), 2);
+        assertArrayEquals(expected, dYcopy, depsilon);
+
+        // trans=T, incx=2, incy=1 (mixed)
+        f2j.dgemv("T", smallDim, smallDim, 1.0, dgeA, M, dX, 2, 0.5, expected = dY.clone(), 1);
+        blas.dgemv("T", smallDim, smallDim, 1.0, dgeA, M, dX, 2, 0.5, dYcopy = dY.clone(), 1);
+        assertArrayEquals(expected, dYcopy, depsilon);
     }
 
     @ParameterizedTest
@@ -246,4 +258,44 @@ public class DgemvTest extends BLASTest {
         blas.dgemv("N", 2, 3, 1.0, a, 2, 3, x, 0, 1, 0.0, y, 0, 1);
         assertArrayEquals(yExpected, y, depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        double[] expectedN, expectedT;
+        DoubleBuffer dYbuffer;
+
+        f2j.dgemv("N", M, N, 2.0, dgeA, M, dX, 1, 0.5, expectedN = dY.clone(), 1);
+        f2j.dgemv("T", M, N, 2.0, dgeA, M, dX, 1, 0.5, expectedT = dY.clone(), 1);
+        for (Buffers buffers : Buffers.values()) {
+            blas.dgemv("N", M, N, 2.0, buffers.of(dgeA), M, buffers.of(dX), 1, 0.5, dYbuffer = buffers.of(dY), 1);
+            assertArrayEquals(expectedN, toArray(dYbuffer), depsilon);
+
+            blas.dgemv("T", M, N, 2.0, buffers.of(dgeA), M, buffers.of(dX), 1, 0.5, dYbuffer = buffers.of(dY), 1);
+            assertArrayEquals(expectedT, toArray(dYbuffer), depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testRowMajor(BLAS blas) {
+        double[] expected, dYcopy;
+
+        // dgeAT is A stored row after row
+        f2j.dgemv("N", M, N, 2.0, dgeA, M, dX, 1, 1.0, expected = dY.clone(), 1);
+        blas.dgemv(Layout.ROW_MAJOR, "N", M, N, 2.0, dgeAT, N, dX, 1, 1.0, dYcopy = dY.clone(), 1);
+        assertArrayEquals(expected, dYcopy, depsilon);
+
+        f2j.dgemv("T", M, N, 2.0, dgeA, M, dX, 1, 1.0, expected = dY.clone(), 1);
+        blas.dgemv(Layout.ROW_MAJOR, "T", M, N, 2.0, dgeAT, N, dX, 1, 1.0, dYcopy = dY.clone(), 1);
+        assertArrayEquals(expected, dYcopy, depsilon);
+
+        f2j.dgemv("N", M, N / 2, 2.0, dgeA, M, dX, 2, 1.0, expected = dY.clone(), -1);
+        blas.dgemv(Layout.COLUMN_MAJOR, "N", M, N / 2, 2.0, dgeA, M, dX, 2, 1.0, dYcopy = dY.clone(), -1);
+        assertArrayEquals(expected, dYcopy, depsilon);
+
+        assertThrows(java.lang.IllegalArgumentException.class, () -> {
+            blas.dgemv(Layout.ROW_MAJOR, "X", M, N, 2.0, dgeAT, N, dX, 1, 1.0, dY.clone(), 1);
+        });
+    }
 }
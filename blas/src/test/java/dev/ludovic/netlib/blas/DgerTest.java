@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.DoubleBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -114,4 +116,32 @@ public class DgerTest extends BLASTest {
             blas.dger(M, N, 2.0, dX, 1, dY, 1, dgeA.clone(), M - 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        double[] expected;
+        DoubleBuffer dgeAbuffer;
+
+        f2j.dger(M, N, 2.0, dX, 1, dY, 1, expected = dgeA.clone(), M);
+        for (Buffers buffers : Buffers.values()) {
+            blas.dger(M, N, 2.0, buffers.of(dX), 1, buffers.of(dY), 1, dgeAbuffer = buffers.of(dgeA), M);
+            assertArrayEquals(expected, toArray(dgeAbuffer), depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testRowMajor(BLAS blas) {
+        double[] expected, dgeAcopy;
+
+        // dgeAT is A stored row after row
+        f2j.dger(M, N, 2.0, dX, 1, dY, 1, expected = dgeA.clone(), M);
+        blas.dger(Layout.ROW_MAJOR, M, N, 2.0, dX, 1, dY, 1, dgeAcopy = dgeAT.clone(), N);
+        assertArrayEquals(transpose("N", expected, M, N), dgeAcopy, depsilon);
+
+        f2j.dger(M / 2, N, 2.0, dX, 2, dY, -1, expected = dgeA.clone(), M);
+        blas.dger(Layout.ROW_MAJOR, M / 2, N, 2.0, dX, 2, dY, -1, dgeAcopy = dgeAT.clone(), N);
+        assertArrayEquals(transpose("N", expected, M, N), dgeAcopy, depsilon);
+    }
 }
@@ -72,7 +72,16 @@ public class Dnrm2Test extends BLASTest {
     @MethodSource("BLASImplementations")
     void testNullArray(BLAS blas) {
         assertThrows(java.lang.NullPointerException.class, () -> {
-            blas.dnrm2(M, null, 1);
+            blas.dnrm2(M, (double[]) null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        for (Buffers buffers : Buffers.values()) {
+            assertEquals(f2j.dnrm2(M, dX, 1), blas.dnrm2(M, buffers.of(dX), 1), depsilon);
+            assertEquals(f2j.dnrm2(M / 2, dX, 2, 2), blas.dnrm2(M / 2, buffers.of(dX), 2, 2), depsilon);
+        }
+    }
 }
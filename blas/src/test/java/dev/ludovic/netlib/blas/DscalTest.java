@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.DoubleBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -108,7 +110,24 @@ public class DscalTest extends BLASTest {
     @MethodSource("BLASImplementations")
     void testNullArray(BLAS blas) {
         assertThrows(java.lang.NullPointerException.class, () -> {
-            blas.dscal(M, 2.0, null, 1);
+            blas.dscal(M, 2.0, (double[]) null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        double[] expected, expectedOffset;
+        DoubleBuffer dXbuffer;
+
+        f2j.dscal(M, 2.0, expected = dX.clone(), 1);
+        f2j.dscal(M / 2, 2.0, expectedOffset = dX.clone(), 2, 2);
+        for (Buffers buffers : Buffers.values()) {
+            blas.dscal(M, 2.0, dXbuffer = buffers.of(dX), 1);
+            assertArrayEquals(expected, toArray(dXbuffer), depsilon);
+
+            blas.dscal(M / 2, 2.0, dXbuffer = buffers.of(dX), 2, 2);
+            assertArrayEquals(expectedOffset, toArray(dXbuffer), depsilon);
+        }
+    }
 }
@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.DoubleBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -118,4 +120,18 @@ public class DswapTest extends BLASTest {
             blas.dswap(M, dX.clone(), 1, null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        double[] expectedX, expectedY;
+        DoubleBuffer dXbuffer, dYbuffer;
+
+        f2j.dswap(M / 2, expectedX = dX.clone(), 2, 1, expectedY = dY.clone(), 3, 1);
+        for (Buffers buffers : Buffers.values()) {
+            blas.dswap(M / 2, dXbuffer = buffers.of(dX), 2, 1, dYbuffer = buffers.of(dY), 3, 1);
+            assertArrayEquals(expectedX, toArray(dXbuffer), depsilon);
+            assertArrayEquals(expectedY, toArray(dYbuffer), depsilon);
+        }
+    }
 }
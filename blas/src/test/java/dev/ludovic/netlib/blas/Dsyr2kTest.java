@@ -79,6 +79,36 @@ public class Dsyr2kTest extends BLASTest {
         assertArrayEquals(expected, dsyAcopy, depsilon);
     }
 
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBlocked(BLAS blas) {
+        // Large enough to go through several levels of blocking
+        int n = 3 * M;
+        double[] a = new double[n * K], at = new double[K * n];
+        double[] b = new double[n * K], bt = new double[K * n];
+        double[] c = new double[n * n];
+        for (int row = 0; row < n; row += 1) {
+            for (int l = 0; l < K; l += 1) {
+                a[row + l * n] = at[l + row * K] = dgeA[(row % M) + l * M];
+                b[row + l * n] = bt[l + row * K] = dgeB[l + (row % N) * K];
+            }
+            for (int col = 0; col < n; col += 1) {
+                c[row + col * n] = dgeC[(row % M) + (col % N) * M];
+            }
+        }
+
+        double[] expected, ccopy;
+        for (String uplo : new String[] { "U", "L" }) {
+            f2j.dsyr2k(uplo, "N", n, K, 0.5, a, n, b, n, 2.0, expected = c.clone(), n);
+            blas.dsyr2k(uplo, "N", n, K, 0.5, a, n, b, n, 2.0, ccopy = c.clone(), n);
+            assertArrayEquals(expected, ccopy, depsilon);
+
+            f2j.dsyr2k(uplo, "T", n, K, 0.5, at, K, bt, K, 2.0, expected = c.clone(), n);
+            blas.dsyr2k(uplo, "T", n, K, 0.5, at, K, bt, K, 2.0, ccopy = c.clone(), n);
+            assertArrayEquals(expected, ccopy, depsilon);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testAlphaZeroBetaScale(BLAS blas) {
@@ -126,6 +156,21 @@ public class Dsyr2kTest extends BLASTest {
         assertArrayEquals(expected, dsyAcopy, depsilon);
     }
 
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testKZero(BLAS blas) {
+        double[] expected, dsyAcopy;
+
+        // k=0: C := beta*C, a and b aren't referenced
+        f2j.dsyr2k("U", "N", M, 0, 0.5, dgeA, M, dgeA, M, 2.0, expected = dsyA.clone(), M);
+        blas.dsyr2k("U", "N", M, 0, 0.5, dgeA, M, dgeA, M, 2.0, dsyAcopy = dsyA.clone(), M);
+        assertArrayEquals(expected, dsyAcopy, depsilon);
+
+        f2j.dsyr2k("L", "T", M, 0, 0.5, dgeA, 1, dgeA, 1, 2.0, expected = dsyA.clone(), M);
+        blas.dsyr2k("L", "T", M, 0, 0.5, dgeA, 1, dgeA, 1, 2.0, dsyAcopy = dsyA.clone(), M);
+        assertArrayEquals(expected, dsyAcopy, depsilon);
+    }
+
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testInvalidUplo(BLAS blas) {
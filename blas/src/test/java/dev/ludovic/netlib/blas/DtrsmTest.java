@@ -188,6 +188,34 @@ public class DtrsmTest extends BLASTest {
         assertArrayEquals(expected, dgeBcopy, depsilon);
     }
 
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBlocked(BLAS blas) {
+        // Large enough to go through several levels of blocking, with a
+        // diagonally dominant matrix to keep the solution well conditioned
+        int n = 3 * M;
+        double[] a = new double[n * n], b = new double[n * n];
+        for (int col = 0; col < n; col += 1) {
+            for (int row = 0; row < n; row += 1) {
+                a[row + col * n] = dgeA[(row % M) + (col % M) * M] / n + (row == col ? 1.0 : 0.0);
+                b[row + col * n] = dgeB[(row % M) + (col % N) * M];
+            }
+        }
+
+        double[] expected, bcopy;
+        for (String side : new String[] { "L", "R" }) {
+            for (String uplo : new String[] { "U", "L" }) {
+                for (String transa : new String[] { "N", "T" }) {
+                    for (String diag : new String[] { "N", "U" }) {
+                        f2j.dtrsm(side, uplo, transa, diag, n, n, 2.0, a, n, expected = b.clone(), n);
+                        blas.dtrsm(side, uplo, transa, diag, n, n, 2.0, a, n, bcopy = b.clone(), n);
+                        assertRelArrayEquals(expected, bcopy, dsolveEpsilon);
+                    }
+                }
+            }
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testInvalidArguments(BLAS blas) {
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HybridBLASTest {
+
+    static class CountingBLAS extends Java8BLAS implements NativeBLAS {
+        int ddotCalls;
+        int dgemmCalls;
+        int numThreads = 1;
+
+        public int getNumThreads() {
+            return numThreads;
+        }
+
+        public void setNumThreads(int numThreads) {
+            this.numThreads = numThreads;
+        }
+
+        public <T> T withNumThreads(int numThreads, Supplier<T> task) {
+            int previous = this.numThreads;
+            this.numThreads = numThreads;
+            try {
+                return task.get();
+            } finally {
+                this.numThreads = previous;
+            }
+        }
+
+        @Override
+        protected double ddotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+            ddotCalls += 1;
+            return super.ddotK(n, x, offsetx, incx, y, offsety, incy);
+        }
+
+        @Override
+        protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+            dgemmCalls += 1;
+            super.dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+        }
+    }
+
+    @Test
+    void testDispatchBySize() {
+        CountingBLAS javaBlas = new CountingBLAS();
+        CountingBLAS nativeBlas = new CountingBLAS();
+        Properties thresholds = new Properties();
+        thresholds.setProperty("ddot", "100");
+        thresholds.setProperty("dgemm", "1000");
+        HybridBLAS blas = new HybridBLAS(javaBlas, nativeBlas, thresholds);
+
+        double[] x = new double[100];
+        Arrays.fill(x, 1.0);
+        assertEquals(99.0, blas.ddot(99, x, 1, x, 1));
+        assertEquals(1, javaBlas.ddotCalls);
+        assertEquals(0, nativeBlas.ddotCalls);
+        assertEquals(100.0, blas.ddot(100, x, 1, x, 1));
+        assertEquals(1, javaBlas.ddotCalls);
+        assertEquals(1, nativeBlas.ddotCalls);
+
+        double[] c = new double[100];
+        blas.dgemm("N", "N", 9, 9, 9, 1.0, x, 9, x, 9, 0.0, c, 9);
+        assertEquals(1, javaBlas.dgemmCalls);
+        assertEquals(0, nativeBlas.dgemmCalls);
+        blas.dgemm("N", "N", 10, 10, 10, 1.0, x, 10, x, 10, 0.0, c, 10);
+        assertEquals(1, javaBlas.dgemmCalls);
+        assertEquals(1, nativeBlas.dgemmCalls);
+        assertEquals(10.0, c[0]);
+    }
+
+    @Test
+    void testMissingThresholdGoesNative() {
+        CountingBLAS javaBlas = new CountingBLAS();
+        CountingBLAS nativeBlas = new CountingBLAS();
+        HybridBLAS blas = new HybridBLAS(javaBlas, nativeBlas, new Properties());
+
+        double[] x = { 1.0 };
+        blas.ddot(1, x, 1, x, 1);
+        assertEquals(0, javaBlas.ddotCalls);
+        assertEquals(1, nativeBlas.ddotCalls);
+    }
+
+    @Test
+    void testThreadingGoesNative() {
+        CountingBLAS javaBlas = new CountingBLAS();
+        CountingBLAS nativeBlas = new CountingBLAS();
+        HybridBLAS blas = new HybridBLAS(javaBlas, nativeBlas, new Properties());
+
+        blas.setNumThreads(4);
+        assertEquals(4, nativeBlas.numThreads);
+        assertEquals(4, blas.getNumThreads());
+        assertEquals(2, (int)blas.withNumThreads(2, () -> nativeBlas.numThreads));
+        assertEquals(4, nativeBlas.numThreads);
+        assertEquals(1, javaBlas.numThreads);
+    }
+
+    @Test
+    void testInvalidThreshold() {
+        Properties thresholds = new Properties();
+        thresholds.setProperty("ddot", "-1");
+        assertThrows(IllegalArgumentException.class, () -> {
+            new HybridBLAS(new CountingBLAS(), new CountingBLAS(), thresholds);
+        });
+    }
+
+    @Test
+    void testLoadThresholds() throws Exception {
+        Properties defaults = HybridBLAS.loadThresholds();
+        assertNotNull(defaults.getProperty("dgemm"));
+        assertNotNull(defaults.getProperty("sdsdot"));
+
+        Path file = Files.createTempFile("hybrid-thresholds", ".properties");
+        try {
+            Files.write(file, "dgemm=42\n".getBytes("US-ASCII"));
+            System.setProperty(BLAS.HYBRID_BLAS_THRESHOLDS, file.toString());
+            Properties thresholds = HybridBLAS.loadThresholds();
+            assertEquals("42", thresholds.getProperty("dgemm"));
+            assertEquals(defaults.getProperty("ddot"), thresholds.getProperty("ddot"));
+        } finally {
+            System.clearProperty(BLAS.HYBRID_BLAS_THRESHOLDS);
+            Files.delete(file);
+        }
+    }
+}
@@ -74,7 +74,16 @@ public class IdamaxTest extends BLASTest {
     @MethodSource("BLASImplementations")
     void testNullArray(BLAS blas) {
         assertThrows(java.lang.NullPointerException.class, () -> {
-            blas.idamax(M, null, 1);
+            blas.idamax(M, (double[]) null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        for (Buffers buffers : Buffers.values()) {
+            assertEquals(f2j.idamax(M, dX, 1), blas.idamax(M, buffers.of(dX), 1));
+            assertEquals(f2j.idamax(M / 2, dX, 2, 2), blas.idamax(M / 2, buffers.of(dX), 2, 2));
+        }
+    }
 }
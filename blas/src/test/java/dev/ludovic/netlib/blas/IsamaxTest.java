@@ -74,7 +74,16 @@ public class IsamaxTest extends BLASTest {
     @MethodSource("BLASImplementations")
     void testNullArray(BLAS blas) {
         assertThrows(java.lang.NullPointerException.class, () -> {
-            blas.isamax(M, null, 1);
+            blas.isamax(M, (float[]) null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        for (Buffers buffers : Buffers.values()) {
+            assertEquals(f2j.isamax(M, sX, 1), blas.isamax(M, buffers.of(sX), 1));
+            assertEquals(f2j.isamax(M / 2, sX, 2, 2), blas.isamax(M / 2, buffers.of(sX), 2, 2));
+        }
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+public class NativeBLASTest {
+
+    NativeBLAS blas;
+
+    @BeforeEach
+    void setUp() {
+        blas = NativeBLAS.getInstance();
+        try {
+            blas.getNumThreads();
+        } catch (UnsupportedOperationException e) {
+            assumeTrue(false, "native library doesn't expose a threading control");
+        }
+    }
+
+    @Test
+    void testSetNumThreads() {
+        int previous = blas.getNumThreads();
+        try {
+            blas.setNumThreads(1);
+            assertEquals(1, blas.getNumThreads());
+            blas.setNumThreads(2);
+            assertEquals(2, blas.getNumThreads());
+        } finally {
+            blas.setNumThreads(previous);
+        }
+        assertThrows(IllegalArgumentException.class, () -> blas.setNumThreads(0));
+    }
+
+    @Test
+    void testWithNumThreads() {
+        int previous = blas.getNumThreads();
+        assertEquals(1, (int)blas.withNumThreads(1, () -> blas.getNumThreads()));
+        assertEquals(previous, blas.getNumThreads());
+
+        AtomicInteger inner = new AtomicInteger();
+        blas.withNumThreads(2, () -> { inner.set(blas.getNumThreads()); });
+        assertEquals(2, inner.get());
+        assertEquals(previous, blas.getNumThreads());
+
+        assertThrows(IllegalStateException.class, () -> blas.withNumThreads(1, () -> { throw new IllegalStateException(); }));
+        assertEquals(previous, blas.getNumThreads());
+
+        assertThrows(IllegalArgumentException.class, () -> blas.withNumThreads(0, () -> {}));
+    }
+
+    @Test
+    void testWithNumThreadsComputes() {
+        int n = 64;
+        double[] a = new double[n * n];
+        double[] b = new double[n * n];
+        for (int i = 0; i < n * n; i++) {
+            a[i] = i % 7;
+            b[i] = i % 5;
+        }
+        double[] expected = new double[n * n];
+        blas.dgemm("N", "N", n, n, n, 1.0, a, n, b, n, 0.0, expected, n);
+        double[] c = new double[n * n];
+        blas.withNumThreads(1, () -> blas.dgemm("N", "N", n, n, n, 1.0, a, n, b, n, 0.0, c, n));
+        assertArrayEquals(expected, c);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+public class NativeLibraryCacheTest {
+
+    // Any resource will do, the cache only compares it with the cached copy
+    static final String RESOURCE = "dev/ludovic/netlib/blas/BLAS.class";
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void clearProperty() {
+        System.clearProperty(BLAS.NATIVE_CACHE_DIR);
+    }
+
+    static Path extract() {
+        return NativeLibraryCache.extract(NativeLibraryCacheTest.class.getClassLoader(), RESOURCE, "libtest", ".so", BLAS.NATIVE_CACHE_DIR);
+    }
+
+    static byte[] resource() throws IOException {
+        try (InputStream in = NativeLibraryCacheTest.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            return readAll(in);
+        }
+    }
+
+    static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[8192];
+        for (int n; (n = in.read(buf)) != -1; ) {
+            out.write(buf, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    static String crc32(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return Long.toHexString(crc.getValue());
+    }
+
+    static long count(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void testReuse() throws Exception {
+        Path cache = tempDir.resolve("cache");
+        System.setProperty(BLAS.NATIVE_CACHE_DIR, cache.toString());
+
+        Path first = extract();
+        assertEquals(cache, first.getParent());
+        assertEquals("libtest-" + crc32(resource()) + ".so", first.getFileName().toString());
+        assertArrayEquals(resource(), Files.readAllBytes(first));
+        long modified = Files.getLastModifiedTime(first).toMillis();
+
+        Path second = extract();
+        assertEquals(first, second);
+        assertEquals(modified, Files.getLastModifiedTime(second).toMillis());
+        assertEquals(1, count(cache));
+    }
+
+    @Test
+    void testCorrupted() throws IOException {
+        Path cache = tempDir.resolve("cache");
+        System.setProperty(BLAS.NATIVE_CACHE_DIR, cache.toString());
+
+        Path lib = extract();
+        Files.write(lib, new byte[] { 1, 2, 3 });
+
+        assertEquals(lib, extract());
+        assertArrayEquals(resource(), Files.readAllBytes(lib));
+        assertEquals(1, count(cache));
+    }
+
+    @Test
+    void testSameSize() throws IOException {
+        Path cache = tempDir.resolve("cache");
+        System.setProperty(BLAS.NATIVE_CACHE_DIR, cache.toString());
+
+        Path lib = extract();
+        byte[] other = resource();
+        other[other.length / 2] ^= 1;
+        Files.write(lib, other);
+
+        assertEquals(lib, extract());
+        assertArrayEquals(resource(), Files.readAllBytes(lib));
+        assertEquals(1, count(cache));
+    }
+
+    @Test
+    void testDisabled() throws IOException {
+        System.setProperty(BLAS.NATIVE_CACHE_DIR, "");
+
+        Path first = extract();
+        Path second = extract();
+        try {
+            assertArrayEquals(resource(), Files.readAllBytes(first));
+            assertNotEquals(first, second);
+        } finally {
+            Files.deleteIfExists(first);
+            Files.deleteIfExists(second);
+        }
+    }
+
+    @Test
+    void testSharedDirectory() throws IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+
+        Path cache = Files.createDirectory(tempDir.resolve("cache"));
+        Files.setPosixFilePermissions(cache, PosixFilePermissions.fromString("rwxrwxrwx"));
+        System.setProperty(BLAS.NATIVE_CACHE_DIR, cache.toString());
+
+        Path lib = extract();
+        try {
+            assertNotEquals(cache, lib.getParent());
+            assertArrayEquals(resource(), Files.readAllBytes(lib));
+            assertEquals(0, count(cache));
+        } finally {
+            Files.deleteIfExists(lib);
+        }
+    }
+}
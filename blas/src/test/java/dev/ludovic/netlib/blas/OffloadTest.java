@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+// Offloading is enabled through the surefire configuration, and only takes effect on Java 21+
+public class OffloadTest {
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(Offload.enabled(), "offloading isn't enabled");
+    }
+
+    static void runInVirtualThread(Runnable body) throws Throwable {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Method start = Thread.class.getMethod("startVirtualThread", Runnable.class);
+        Thread thread = (Thread)start.invoke(null, (Runnable)() -> {
+            try {
+                body.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        thread.join();
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    @Test
+    void testOffload() throws Throwable {
+        assertFalse(Offload.offload(Long.MAX_VALUE));
+        runInVirtualThread(() -> {
+            assertTrue(Offload.offload(Long.MAX_VALUE));
+            assertFalse(Offload.offload(0));
+
+            AtomicReference<Thread> ran = new AtomicReference<>();
+            Offload.run(() -> ran.set(Thread.currentThread()));
+            assertTrue(ran.get().getName().startsWith("netlib-blas-offload-"));
+        });
+    }
+
+    @Test
+    void testExceptions() throws Throwable {
+        runInVirtualThread(() -> {
+            assertThrows(IllegalStateException.class, () -> Offload.run(() -> { throw new IllegalStateException(); }));
+            assertThrows(AssertionError.class, () -> Offload.run(() -> { throw new AssertionError(); }));
+        });
+    }
+
+    @Test
+    void testInterrupt() throws Throwable {
+        runInVirtualThread(() -> {
+            AtomicBoolean completed = new AtomicBoolean();
+            Thread.currentThread().interrupt();
+            Offload.run(() -> {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                completed.set(true);
+            });
+            // The interrupt doesn't abandon the call, and is kept for the caller
+            assertTrue(completed.get());
+            assertTrue(Thread.interrupted());
+        });
+    }
+
+    @Test
+    void testWithNumThreads() throws Throwable {
+        JNIBLAS blas = (JNIBLAS)OffloadingJNIBLAS.getInstance();
+        runInVirtualThread(() -> {
+            for (int numThreads : new int[] { 1, 2 }) {
+                // The pool thread sees the override of the virtual thread that offloads the call
+                AtomicInteger inner = new AtomicInteger();
+                blas.withNumThreads(numThreads, () -> {
+                    // The override must be carried over explicitly: OpenBLAS may apply
+                    // it to the whole process, which would hide a missing wrapper below
+                    Runnable body = () -> inner.set(blas.getNumThreads());
+                    assertNotSame(body, blas.withLocalNumThreads(body));
+                    Offload.run(blas.withLocalNumThreads(body));
+                });
+                assertEquals(numThreads, inner.get());
+            }
+            // Without an override, the call runs with the pool thread's own setting
+            Runnable body = () -> {};
+            assertSame(body, blas.withLocalNumThreads(body));
+        });
+    }
+
+    @Test
+    void testDgemm() throws Throwable {
+        int n = 128;
+        Random rand = new Random(0);
+        double[] a = new double[n * n];
+        double[] b = new double[n * n];
+        for (int i = 0; i < n * n; i++) {
+            a[i] = rand.nextDouble();
+            b[i] = rand.nextDouble();
+        }
+        double[] expected = new double[n * n];
+        F2jBLAS.getInstance().dgemm("N", "N", n, n, n, 1.0, a, n, b, n, 0.0, expected, n);
+
+        double[] c = new double[n * n];
+        runInVirtualThread(() -> OffloadingJNIBLAS.getInstance().dgemm("N", "N", n, n, n, 1.0, a, n, b, n, 0.0, c, n));
+        assertArrayEquals(expected, c, 1e-11);
+    }
+}
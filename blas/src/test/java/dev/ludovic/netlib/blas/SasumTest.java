@@ -71,7 +71,16 @@ public class SasumTest extends BLASTest {
     @MethodSource("BLASImplementations")
     void testNullArray(BLAS blas) {
         assertThrows(java.lang.NullPointerException.class, () -> {
-            blas.sasum(M, null, 1);
+            blas.sasum(M, (float[]) null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        for (Buffers buffers : Buffers.values()) {
+            assertEquals(f2j.sasum(M, sX, 1), blas.sasum(M, buffers.of(sX), 1), sepsilon);
+            assertEquals(f2j.sasum(M / 2, sX, 2, 2), blas.sasum(M / 2, buffers.of(sX), 2, 2), sepsilon);
+        }
+    }
 }
@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.FloatBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -121,4 +123,46 @@ public class SaxpyTest extends BLASTest {
             blas.saxpy(M, 2.0f, sX, 1, null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        float[] expected, expectedOffset;
+        FloatBuffer sYbuffer;
+
+        f2j.saxpy(M, 2.0f, sX, 1, expected = sY.clone(), 1);
+        f2j.saxpy(M / 2, 2.0f, sX, 2, 1, expectedOffset = sY.clone(), 3, 1);
+        for (Buffers buffers : Buffers.values()) {
+            blas.saxpy(M, 2.0f, buffers.of(sX), 1, sYbuffer = buffers.of(sY), 1);
+            assertArrayEquals(expected, toArray(sYbuffer), sepsilon);
+
+            blas.saxpy(M / 2, 2.0f, buffers.of(sX), 2, 1, sYbuffer = buffers.of(sY), 3, 1);
+            assertArrayEquals(expectedOffset, toArray(sYbuffer), sepsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testReadOnlyBuffer(BLAS blas) {
+        float[] expected;
+        FloatBuffer sYbuffer;
+
+        f2j.saxpy(M, 2.0f, sX, 1, expected = sY.clone(), 1);
+        for (Buffers buffers : Buffers.values()) {
+            blas.saxpy(M, 2.0f, buffers.of(sX).asReadOnlyBuffer(), 1, sYbuffer = buffers.of(sY), 1);
+            assertArrayEquals(expected, toArray(sYbuffer), sepsilon);
+
+            assertThrows(java.nio.ReadOnlyBufferException.class, () -> {
+                blas.saxpy(M, 2.0f, buffers.of(sX), 1, buffers.of(sY).asReadOnlyBuffer(), 1);
+            });
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testOutOfBoundBuffer(BLAS blas) {
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.saxpy(M, 2.0f, Buffers.DIRECT.of(sX), 1, (FloatBuffer)Buffers.DIRECT.of(sY).limit(M - 1), 1);
+        });
+    }
 }
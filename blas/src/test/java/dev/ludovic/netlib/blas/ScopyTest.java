@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.FloatBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -132,4 +134,21 @@ public class ScopyTest extends BLASTest {
             blas.scopy(M, sX, 1, null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        float[] expected, expectedOffset;
+        FloatBuffer sYbuffer;
+
+        f2j.scopy(M, sX, 1, expected = sY.clone(), 1);
+        f2j.scopy(M / 2, sX, 2, 1, expectedOffset = sY.clone(), 3, 1);
+        for (Buffers buffers : Buffers.values()) {
+            blas.scopy(M, buffers.of(sX), 1, sYbuffer = buffers.of(sY), 1);
+            assertArrayEquals(expected, toArray(sYbuffer), sepsilon);
+
+            blas.scopy(M / 2, buffers.of(sX), 2, 1, sYbuffer = buffers.of(sY), 3, 1);
+            assertArrayEquals(expectedOffset, toArray(sYbuffer), sepsilon);
+        }
+    }
 }
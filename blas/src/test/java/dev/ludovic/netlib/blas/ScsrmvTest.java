@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScsrmvTest extends BLASTest {
+
+    // sgeA with only about a third of its entries, and its compressed sparse rows
+    final float[] sparseA = sparse(sgeA);
+    final float[] values;
+    final int[] colind;
+    final int[] rowptr = new int[M + 1];
+
+    {
+        int nnz = 0;
+        for (int i = 0; i < sparseA.length; i++) {
+            if (sparseA[i] != 0.0f) nnz++;
+        }
+        values = new float[nnz];
+        colind = new int[nnz];
+        for (int row = 0, k = 0; row < M; row++) {
+            for (int col = 0; col < N; col++) {
+                if (sparseA[row + col * M] != 0.0f) {
+                    values[k] = sparseA[row + col * M];
+                    colind[k++] = col;
+                }
+            }
+            rowptr[row + 1] = k;
+        }
+    }
+
+    static float[] sparse(float[] a) {
+        float[] result = a.clone();
+        for (int i = 0; i < result.length; i++) {
+            if ((i * 7) % 3 != 0) result[i] = 0.0f;
+        }
+        return result;
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        float[] expected, actual;
+
+        for (String trans : new String[] { "N", "T" }) {
+            for (float[] ab : new float[][] { { 1.0f, 1.0f }, { 0.5f, 1.0f }, { -0.5f, 1.0f }, { 0.0f, 1.0f }, { 1.0f, 0.5f }, { 1.0f, -0.5f }, { 1.0f, 0.0f } }) {
+                f2j.sgemv(trans, M, N, ab[0], sparseA, M, sX, 1, ab[1], expected = sY.clone(), 1);
+                blas.scsrmv(trans, M, N, ab[0], values, colind, rowptr, sX, ab[1], actual = sY.clone());
+                assertArrayEquals(expected, actual, sepsilon);
+            }
+        }
+
+        // beta = 0 overwrites y, even NaN
+        float[] nan = new float[M];
+        java.util.Arrays.fill(nan, Float.NaN);
+        f2j.sgemv("N", M, N, 1.0f, sparseA, M, sX, 1, 0.0f, expected = new float[M], 1);
+        blas.scsrmv("N", M, N, 1.0f, values, colind, rowptr, sX, 0.0f, actual = nan.clone());
+        assertArrayEquals(expected, actual, sepsilon);
+        f2j.sgemv("T", M, N, 1.0f, sparseA, M, sX, 1, 0.0f, expected = new float[N], 1);
+        blas.scsrmv("T", M, N, 1.0f, values, colind, rowptr, sX, 0.0f, actual = nan.clone());
+        assertArrayEquals(expected, actual, sepsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testOffsets(BLAS blas) {
+        int nnz = values.length;
+        float[] paddedValues = new float[nnz + 3];
+        System.arraycopy(values, 0, paddedValues, 3, nnz);
+        int[] paddedColind = new int[nnz + 2];
+        System.arraycopy(colind, 0, paddedColind, 2, nnz);
+        int[] paddedRowptr = new int[M + 5];
+        System.arraycopy(rowptr, 0, paddedRowptr, 4, M + 1);
+        float[] x = new float[N + 1];
+        System.arraycopy(sX, 0, x, 1, N);
+
+        float[] expected = sY.clone();
+        f2j.sgemv("N", M, N, 0.5f, sparseA, M, sX, 1, 2.0f, expected, 1);
+        float[] actual = new float[M + 2];
+        System.arraycopy(sY, 0, actual, 2, M);
+        blas.scsrmv("N", M, N, 0.5f, paddedValues, 3, paddedColind, 2, paddedRowptr, 4, x, 1, 2.0f, actual, 2);
+        for (int i = 0; i < M; i++) {
+            assertEquals(expected[i], actual[i + 2], sepsilon);
+        }
+
+        // rowptr doesn't need to start at 0, a block of rows can be passed on its own
+        int first = M / 2;
+        float[] half = sY.clone();
+        blas.scsrmv("N", M - first, N, 0.5f, values, 0, colind, 0, rowptr, first, sX, 0, 2.0f, half, first);
+        for (int i = first; i < M; i++) {
+            assertEquals(expected[i], half[i], sepsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testLarge(BLAS blas) {
+        // the 2D Laplacian of a 500x500 grid, large enough to be split across threads
+        int grid = 500, n = grid * grid;
+        float[] lvalues = new float[5 * n];
+        int[] lcolind = new int[5 * n];
+        int[] lrowptr = new int[n + 1];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            int row = i / grid, col = i % grid;
+            if (row > 0) { lvalues[k] = -1.0f; lcolind[k++] = i - grid; }
+            if (col > 0) { lvalues[k] = -1.0f; lcolind[k++] = i - 1; }
+            lvalues[k] = 4.0f; lcolind[k++] = i;
+            if (col < grid - 1) { lvalues[k] = -1.0f; lcolind[k++] = i + 1; }
+            if (row < grid - 1) { lvalues[k] = -1.0f; lcolind[k++] = i + grid; }
+            lrowptr[i + 1] = k;
+        }
+        float[] x = new float[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = (i % 17) * 0.25f;
+        }
+
+        // the Laplacian is symmetric, both products give the same result
+        float[] expected = new float[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = lrowptr[i]; j < lrowptr[i + 1]; j++) {
+                expected[i] += lvalues[j] * x[lcolind[j]];
+            }
+        }
+        float[] actual = new float[n];
+        blas.scsrmv("N", n, n, 1.0f, lvalues, lcolind, lrowptr, x, 0.0f, actual);
+        assertArrayEquals(expected, actual, sepsilon);
+        actual = new float[n];
+        blas.scsrmv("T", n, n, 1.0f, lvalues, lcolind, lrowptr, x, 0.0f, actual);
+        assertArrayEquals(expected, actual, sepsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testInvalidArguments(BLAS blas) {
+        assertThrows(java.lang.IllegalArgumentException.class, () -> {
+            blas.scsrmv("X", M, N, 1.0f, values, colind, rowptr, sX, 1.0f, sY.clone());
+        });
+        assertThrows(java.lang.IllegalArgumentException.class, () -> {
+            blas.scsrmv("N", -1, N, 1.0f, values, colind, rowptr, sX, 1.0f, sY.clone());
+        });
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.scsrmv("N", M, N, 1.0f, values, colind, rowptr, sX, 1.0f, new float[M - 1]);
+        });
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.scsrmv("N", M, N, 1.0f, values, colind, java.util.Arrays.copyOf(rowptr, M), sX, 1.0f, sY.clone());
+        });
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.scsrmv("N", M, N, 1.0f, java.util.Arrays.copyOf(values, values.length - 1), colind, rowptr, sX, 1.0f, sY.clone());
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testInvalidIndices(BLAS blas) {
+        int[] badcolind = colind.clone();
+        int[] badrowptr = rowptr.clone();
+        badrowptr[1] = rowptr[2] + 1;
+        for (String trans : new String[] { "N", "T" }) {
+            for (int col : new int[] { -1, N }) {
+                badcolind[colind.length / 2] = col;
+                float[] y = sY.clone();
+                assertThrows(java.lang.IllegalArgumentException.class, () -> {
+                    blas.scsrmv(trans, M, N, 1.0f, values, badcolind, rowptr, sX, 1.0f, y);
+                });
+                // the arguments are checked before y is written to
+                assertArrayEquals(sY, y);
+            }
+            assertThrows(java.lang.IllegalArgumentException.class, () -> {
+                blas.scsrmv(trans, M, N, 1.0f, values, colind, badrowptr, sX, 1.0f, sY.clone());
+            });
+        }
+    }
+}
@@ -78,14 +78,14 @@ public class SdotTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testXAndYAreNullAndNIsZero(BLAS blas) {
-        assertEquals(0.0f, blas.sdot(0, null, 1, null, 1));
+        assertEquals(0.0f, blas.sdot(0, (float[]) null, 1, (float[]) null, 1));
     }
 
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testXAndYAreNullAndNIsOne(BLAS blas) {
         assertThrows(java.lang.NullPointerException.class, () -> {
-            blas.sdot(1, null, 1, null, 1);
+            blas.sdot(1, (float[]) null, 1, (float[]) null, 1);
         });
     }
 
@@ -97,4 +97,13 @@ public class SdotTest extends BLASTest {
 
         assertEquals(f2j.sdot(n, sX, 1, sY, 2), blas.sdot(n, sX, 1, sY, 2), sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        for (Buffers buffers : Buffers.values()) {
+            assertEquals(f2j.sdot(M, sX, 1, sY, 1), blas.sdot(M, buffers.of(sX), 1, buffers.of(sY), 1), sepsilon);
+            assertEquals(f2j.sdot(M / 2, sX, 2, 1, sY, 3, 1), blas.sdot(M / 2, buffers.of(sX), 2, 1, buffers.of(sY), 3, 1), sepsilon);
+        }
+    }
 }
@@ -25,10 +25,13 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.FloatBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
 
 import static dev.ludovic.netlib.test.TestHelpers.*;
 
@@ -307,4 +310,89 @@ public class SgemmTest extends BLASTest {
         blas.sgemm("N", "N", 2, 1, 3, 1.0f, a, 2, 3, b, 0, 3, 0.0f, c, 0, 2);
         assertArrayEquals(cExpected, c, sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testThreads(BLAS blas) {
+        assumeTrue(blas instanceof Java8BLAS);
+
+        // b and c are tiled to be wider than a single column panel
+        int n = 11 * N;
+        double[] db = new double[K * n];
+        float[] c = new float[M * n];
+        for (int i = 0; i < 11; i += 1) {
+            System.arraycopy(dgeB, 0, db, i * K * N, K * N);
+            System.arraycopy(sgeC, 0, c, i * M * N, M * N);
+        }
+        float[] b = convertToFloat(db);
+        float[] bT = convertToFloat(transpose("N", db, K, n));
+
+        for (String transa : new String[] { "N", "T" }) {
+            for (String transb : new String[] { "N", "T" }) {
+                float[] a = transa.equals("N") ? sgeA : sgeAT;
+                int lda = transa.equals("N") ? M : K;
+                float[] bb = transb.equals("N") ? b : bT;
+                int ldb = transb.equals("N") ? K : n;
+
+                float[] expected, actual;
+
+                f2j.sgemm(transa, transb, M, n, K, 1.0f, a, lda, bb, ldb, 2.0f, expected = c.clone(), M);
+                blas.sgemm(transa, transb, M, n, K, 1.0f, a, lda, bb, ldb, 2.0f, actual = c.clone(), M);
+                assertArrayEquals(expected, actual, sepsilon);
+
+                // The result must not depend on how the work is split across threads
+                ((Java8BLAS)blas).sgemmBlocked(transa, transb, M, n, K, 1.0f, a, 0, lda, bb, 0, ldb, 2.0f, expected = c.clone(), 0, M, 1);
+                for (int threads = 2; threads <= 8; threads += 1) {
+                    ((Java8BLAS)blas).sgemmBlocked(transa, transb, M, n, K, 1.0f, a, 0, lda, bb, 0, ldb, 2.0f, actual = c.clone(), 0, M, threads);
+                    assertArrayEquals(expected, actual);
+                }
+                blas.sgemm(transa, transb, M, n, K, 1.0f, a, lda, bb, ldb, 2.0f, actual = c.clone(), M);
+                assertArrayEquals(expected, actual);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        float[] expectedNN, expectedTT, expectedOffset;
+        FloatBuffer sgeCbuffer;
+
+        f2j.sgemm("N", "N", M, N, K, 1.0f, sgeA, M, sgeB, K, 2.0f, expectedNN = sgeC.clone(), M);
+        f2j.sgemm("T", "T", M, N, K, 1.0f, sgeAT, K, sgeBT, N, 2.0f, expectedTT = sgeC.clone(), M);
+        f2j.sgemm("N", "N", M - 1, N - 1, K - 1, 1.0f, sgeA, 1, M, sgeB, 1, K, 2.0f, expectedOffset = sgeC.clone(), 1, M);
+        for (Buffers buffers : Buffers.values()) {
+            blas.sgemm("N", "N", M, N, K, 1.0f, buffers.of(sgeA), M, buffers.of(sgeB), K, 2.0f, sgeCbuffer = buffers.of(sgeC), M);
+            assertArrayEquals(expectedNN, toArray(sgeCbuffer), sepsilon);
+
+            blas.sgemm("T", "T", M, N, K, 1.0f, buffers.of(sgeAT), K, buffers.of(sgeBT), N, 2.0f, sgeCbuffer = buffers.of(sgeC), M);
+            assertArrayEquals(expectedTT, toArray(sgeCbuffer), sepsilon);
+
+            blas.sgemm("N", "N", M - 1, N - 1, K - 1, 1.0f, buffers.of(sgeA), 1, M, buffers.of(sgeB), 1, K, 2.0f, sgeCbuffer = buffers.of(sgeC), 1, M);
+            assertArrayEquals(expectedOffset, toArray(sgeCbuffer), sepsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testRowMajor(BLAS blas) {
+        float[] expected, sgeCcopy;
+
+        // a, b and c are stored row after row, their leading dimension is their number of columns
+        f2j.sgemm("N", "N", M, N, K, 2.0f, sgeA, M, sgeB, K, 1.0f, expected = sgeC.clone(), M);
+        blas.sgemm(Layout.ROW_MAJOR, "N", "N", M, N, K, 2.0f, sgeAT, K, sgeBT, N, 1.0f, sgeCcopy = transpose("N", sgeC, M, N), N);
+        assertArrayEquals(transpose("N", expected, M, N), sgeCcopy, sepsilon);
+
+        f2j.sgemm("T", "N", M, N, K, 2.0f, sgeAT, K, sgeB, K, 1.0f, expected = sgeC.clone(), M);
+        blas.sgemm(Layout.ROW_MAJOR, "T", "N", M, N, K, 2.0f, sgeA, M, sgeBT, N, 1.0f, sgeCcopy = transpose("N", sgeC, M, N), N);
+        assertArrayEquals(transpose("N", expected, M, N), sgeCcopy, sepsilon);
+
+        f2j.sgemm("N", "T", M, N, K, 2.0f, sgeA, M, sgeBT, N, 1.0f, expected = sgeC.clone(), M);
+        blas.sgemm(Layout.ROW_MAJOR, "N", "T", M, N, K, 2.0f, sgeAT, K, sgeB, K, 1.0f, sgeCcopy = transpose("N", sgeC, M, N), N);
+        assertArrayEquals(transpose("N", expected, M, N), sgeCcopy, sepsilon);
+
+        f2j.sgemm("N", "N", M, N, K, 2.0f, sgeA, M, sgeB, K, 1.0f, expected = sgeC.clone(), M);
+        blas.sgemm(Layout.COLUMN_MAJOR, "N", "N", M, N, K, 2.0f, sgeA, M, sgeB, K, 1.0f, sgeCcopy = sgeC.clone(), M);
+        assertArrayEquals(expected, sgeCcopy, sepsilon);
+    }
 }
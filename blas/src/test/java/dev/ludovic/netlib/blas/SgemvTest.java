@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.FloatBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -111,6 +113,16 @@ public class SgemvTest extends BLASTest {
         f2j.sgemv("T", smallDim, smallDim, 1.0f, sgeA, M, sX, 2, 1.0f, expected = sY.clone(), 2);
         blas.sgemv("T", smallDim, smallDim, 1.0f, sgeA, M, sX, 2, 1.0f, sYcopy = sY.clone(), 2);
         assertArrayEquals(expected, sYcopy, sepsilon);
+
+        // trans=N, incx=1, incy=2 (mixed)
+        f2j.sgemv("N", smallDim, smallDim, 1.0f, sgeA, M, sX, 1, 0.5f, expected = sY.clone(), 2);
+        blas.sgemv("N", smallDim, smallDim, 1.0f, sgeA, M, sX, 1, 0.5f, sYcopy = sY.clone(), 2);
+        assertArrayEquals(expected, sYcopy, sepsilon);
+
+        // trans=T, incx=2, incy=1 (mixed)
+        f2j.sgemv("T", smallDim, smallDim, 1.0f, sgeA, M, sX, 2, 0.5f, expected = sY.clone(), 1);
+        blas.sgemv("T", smallDim, smallDim, 1.0f, sgeA, M, sX, 2, 0.5f, sYcopy = sY.clone(), 1);
+        assertArrayEquals(expected, sYcopy, sepsilon);
     }
 
     @ParameterizedTest
@@ -211,4 +223,44 @@ public class SgemvTest extends BLASTest {
         blas.sgemv("N", 2, 3, 1.0f, a, 2, 3, x, 0, 1, 0.0f, y, 0, 1);
         assertArrayEquals(yExpected, y, sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        float[] expectedN, expectedT;
+        FloatBuffer sYbuffer;
+
+        f2j.sgemv("N", M, N, 2.0f, sgeA, M, sX, 1, 0.5f, expectedN = sY.clone(), 1);
+        f2j.sgemv("T", M, N, 2.0f, sgeA, M, sX, 1, 0.5f, expectedT = sY.clone(), 1);
+        for (Buffers buffers : Buffers.values()) {
+            blas.sgemv("N", M, N, 2.0f, buffers.of(sgeA), M, buffers.of(sX), 1, 0.5f, sYbuffer = buffers.of(sY), 1);
+            assertArrayEquals(expectedN, toArray(sYbuffer), sepsilon);
+
+            blas.sgemv("T", M, N, 2.0f, buffers.of(sgeA), M, buffers.of(sX), 1, 0.5f, sYbuffer = buffers.of(sY), 1);
+            assertArrayEquals(expectedT, toArray(sYbuffer), sepsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testRowMajor(BLAS blas) {
+        float[] expected, sYcopy;
+
+        // sgeAT is A stored row after row
+        f2j.sgemv("N", M, N, 2.0f, sgeA, M, sX, 1, 1.0f, expected = sY.clone(), 1);
+        blas.sgemv(Layout.ROW_MAJOR, "N", M, N, 2.0f, sgeAT, N, sX, 1, 1.0f, sYcopy = sY.clone(), 1);
+        assertArrayEquals(expected, sYcopy, sepsilon);
+
+        f2j.sgemv("T", M, N, 2.0f, sgeA, M, sX, 1, 1.0f, expected = sY.clone(), 1);
+        blas.sgemv(Layout.ROW_MAJOR, "T", M, N, 2.0f, sgeAT, N, sX, 1, 1.0f, sYcopy = sY.clone(), 1);
+        assertArrayEquals(expected, sYcopy, sepsilon);
+
+        f2j.sgemv("N", M, N / 2, 2.0f, sgeA, M, sX, 2, 1.0f, expected = sY.clone(), -1);
+        blas.sgemv(Layout.COLUMN_MAJOR, "N", M, N / 2, 2.0f, sgeA, M, sX, 2, 1.0f, sYcopy = sY.clone(), -1);
+        assertArrayEquals(expected, sYcopy, sepsilon);
+
+        assertThrows(java.lang.IllegalArgumentException.class, () -> {
+            blas.sgemv(Layout.ROW_MAJOR, "X", M, N, 2.0f, sgeAT, N, sX, 1, 1.0f, sY.clone(), 1);
+        });
+    }
 }
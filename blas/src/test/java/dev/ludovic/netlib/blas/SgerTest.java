@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.FloatBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -114,4 +116,32 @@ public class SgerTest extends BLASTest {
             blas.sger(M, N, 2.0f, sX, 1, sY, 1, sgeA.clone(), M - 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        float[] expected;
+        FloatBuffer sgeAbuffer;
+
+        f2j.sger(M, N, 2.0f, sX, 1, sY, 1, expected = sgeA.clone(), M);
+        for (Buffers buffers : Buffers.values()) {
+            blas.sger(M, N, 2.0f, buffers.of(sX), 1, buffers.of(sY), 1, sgeAbuffer = buffers.of(sgeA), M);
+            assertArrayEquals(expected, toArray(sgeAbuffer), sepsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testRowMajor(BLAS blas) {
+        float[] expected, sgeAcopy;
+
+        // sgeAT is A stored row after row
+        f2j.sger(M, N, 2.0f, sX, 1, sY, 1, expected = sgeA.clone(), M);
+        blas.sger(Layout.ROW_MAJOR, M, N, 2.0f, sX, 1, sY, 1, sgeAcopy = sgeAT.clone(), N);
+        assertArrayEquals(transpose("N", expected, M, N), sgeAcopy, sepsilon);
+
+        f2j.sger(M / 2, N, 2.0f, sX, 2, sY, -1, expected = sgeA.clone(), M);
+        blas.sger(Layout.ROW_MAJOR, M / 2, N, 2.0f, sX, 2, sY, -1, sgeAcopy = sgeAT.clone(), N);
+        assertArrayEquals(transpose("N", expected, M, N), sgeAcopy, sepsilon);
+    }
 }
@@ -72,7 +72,16 @@ public class Snrm2Test extends BLASTest {
     @MethodSource("BLASImplementations")
     void testNullArray(BLAS blas) {
         assertThrows(java.lang.NullPointerException.class, () -> {
-            blas.snrm2(M, null, 1);
+            blas.snrm2(M, (float[]) null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        for (Buffers buffers : Buffers.values()) {
+            assertEquals(f2j.snrm2(M, sX, 1), blas.snrm2(M, buffers.of(sX), 1), sepsilon);
+            assertEquals(f2j.snrm2(M / 2, sX, 2, 2), blas.snrm2(M / 2, buffers.of(sX), 2, 2), sepsilon);
+        }
+    }
 }
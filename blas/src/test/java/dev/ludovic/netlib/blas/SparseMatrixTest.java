@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SparseMatrixTest extends BLASTest {
+
+    final double[] sparseA = DcsrmvTest.sparse(dgeA);
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testCSR(BLAS blas) {
+        CSRMatrix csr = CSRMatrix.fromDense(M, N, sparseA, M);
+        assertEquals(M, csr.m());
+        assertEquals(N, csr.n());
+        assertEquals(csr.values().length, csr.nnz());
+
+        double[] expected, actual;
+        f2j.dgemv("N", M, N, 1.0, sparseA, M, dX, 1, 0.0, expected = new double[M], 1);
+        csr.multiply(dX, 0, actual = new double[M], 0);
+        assertArrayEquals(expected, actual, depsilon);
+
+        f2j.dgemv("T", M, N, 1.0, sparseA, M, dX, 1, 0.0, expected = new double[N], 1);
+        csr.multiplyTranspose(dX, 0, actual = new double[N], 0);
+        assertArrayEquals(expected, actual, depsilon);
+
+        f2j.dgemv("N", M, N, 0.5, sparseA, M, dX, 1, -1.0, expected = dY.clone(), 1);
+        csr.multiply(blas, "N", 0.5, dX, 0, -1.0, actual = dY.clone(), 0);
+        assertArrayEquals(expected, actual, depsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testCSC(BLAS blas) {
+        CSCMatrix csc = CSCMatrix.fromDense(M, N, sparseA, M);
+        assertEquals(M, csc.m());
+        assertEquals(N, csc.n());
+        assertEquals(CSRMatrix.fromDense(M, N, sparseA, M).nnz(), csc.nnz());
+
+        double[] expected, actual;
+        f2j.dgemv("N", M, N, 1.0, sparseA, M, dX, 1, 0.0, expected = new double[M], 1);
+        csc.multiply(dX, 0, actual = new double[M], 0);
+        assertArrayEquals(expected, actual, depsilon);
+
+        f2j.dgemv("T", M, N, 1.0, sparseA, M, dX, 1, 0.0, expected = new double[N], 1);
+        csc.multiplyTranspose(dX, 0, actual = new double[N], 0);
+        assertArrayEquals(expected, actual, depsilon);
+
+        f2j.dgemv("T", M, N, 0.5, sparseA, M, dX, 1, -1.0, expected = dY.clone(), 1);
+        csc.multiply(blas, "T", 0.5, dX, 0, -1.0, actual = dY.clone(), 0);
+        assertArrayEquals(expected, actual, depsilon);
+
+        assertThrows(IllegalArgumentException.class, () -> csc.multiply(blas, "X", 1.0, dX, 0, 0.0, new double[M], 0));
+    }
+
+    @Test
+    void testTranspose() {
+        CSRMatrix csr = CSRMatrix.fromDense(M, N, sparseA, M);
+        CSCMatrix csc = csr.transpose();
+        assertEquals(N, csc.m());
+        assertEquals(M, csc.n());
+        assertSame(csr.values(), csc.values());
+
+        double[] expected = new double[M], actual = new double[M];
+        csr.multiply(dX, 0, expected, 0);
+        csc.multiplyTranspose(dX, 0, actual, 0);
+        assertArrayEquals(expected, actual, 0.0);
+
+        CSRMatrix back = csc.transpose();
+        assertEquals(M, back.m());
+        assertSame(csr.rowptr(), back.rowptr());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        double[] values = { 1.0, 2.0 };
+        assertThrows(IllegalArgumentException.class, () -> new CSRMatrix(2, 2, values, new int[] { 0, 2 }, new int[] { 0, 1, 2 }));
+        assertThrows(IllegalArgumentException.class, () -> new CSRMatrix(2, 2, values, new int[] { 0, -1 }, new int[] { 0, 1, 2 }));
+        assertThrows(IllegalArgumentException.class, () -> new CSRMatrix(2, 2, values, new int[] { 0, 1 }, new int[] { 0, 2, 1 }));
+        assertThrows(IllegalArgumentException.class, () -> new CSRMatrix(2, 2, values, new int[] { 0, 1 }, new int[] { 1, 1, 2 }));
+        assertThrows(IllegalArgumentException.class, () -> new CSRMatrix(2, 2, values, new int[] { 0, 1 }, new int[] { 0, 1, 3 }));
+        assertThrows(IllegalArgumentException.class, () -> new CSCMatrix(3, 1, values, new int[] { 0, 3 }, new int[] { 0, 2 }));
+        assertThrows(NullPointerException.class, () -> new CSCMatrix(2, 2, null, new int[] { 0, 1 }, new int[] { 0, 1, 2 }));
+    }
+}
@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.FloatBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -96,7 +98,24 @@ public class SscalTest extends BLASTest {
     @MethodSource("BLASImplementations")
     void testNullArray(BLAS blas) {
         assertThrows(java.lang.NullPointerException.class, () -> {
-            blas.sscal(M, 2.0f, null, 1);
+            blas.sscal(M, 2.0f, (float[]) null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        float[] expected, expectedOffset;
+        FloatBuffer sXbuffer;
+
+        f2j.sscal(M, 2.0f, expected = sX.clone(), 1);
+        f2j.sscal(M / 2, 2.0f, expectedOffset = sX.clone(), 2, 2);
+        for (Buffers buffers : Buffers.values()) {
+            blas.sscal(M, 2.0f, sXbuffer = buffers.of(sX), 1);
+            assertArrayEquals(expected, toArray(sXbuffer), sepsilon);
+
+            blas.sscal(M / 2, 2.0f, sXbuffer = buffers.of(sX), 2, 2);
+            assertArrayEquals(expectedOffset, toArray(sXbuffer), sepsilon);
+        }
+    }
 }
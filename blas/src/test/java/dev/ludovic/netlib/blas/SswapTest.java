@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.FloatBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -116,4 +118,18 @@ public class SswapTest extends BLASTest {
             blas.sswap(M, sX.clone(), 1, null, 1);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffer(BLAS blas) {
+        float[] expectedX, expectedY;
+        FloatBuffer sXbuffer, sYbuffer;
+
+        f2j.sswap(M / 2, expectedX = sX.clone(), 2, 1, expectedY = sY.clone(), 3, 1);
+        for (Buffers buffers : Buffers.values()) {
+            blas.sswap(M / 2, sXbuffer = buffers.of(sX), 2, 1, sYbuffer = buffers.of(sY), 3, 1);
+            assertArrayEquals(expectedX, toArray(sXbuffer), sepsilon);
+            assertArrayEquals(expectedY, toArray(sYbuffer), sepsilon);
+        }
+    }
 }
@@ -79,6 +79,36 @@ public class Ssyr2kTest extends BLASTest {
         assertArrayEquals(expected, ssyAcopy, 2 * sepsilon);
     }
 
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBlocked(BLAS blas) {
+        // Large enough to go through several levels of blocking
+        int n = 3 * M;
+        float[] a = new float[n * K], at = new float[K * n];
+        float[] b = new float[n * K], bt = new float[K * n];
+        float[] c = new float[n * n];
+        for (int row = 0; row < n; row += 1) {
+            for (int l = 0; l < K; l += 1) {
+                a[row + l * n] = at[l + row * K] = sgeA[(row % M) + l * M];
+                b[row + l * n] = bt[l + row * K] = sgeB[l + (row % N) * K];
+            }
+            for (int col = 0; col < n; col += 1) {
+                c[row + col * n] = sgeC[(row % M) + (col % N) * M];
+            }
+        }
+
+        float[] expected, ccopy;
+        for (String uplo : new String[] { "U", "L" }) {
+            f2j.ssyr2k(uplo, "N", n, K, 0.5f, a, n, b, n, 2.0f, expected = c.clone(), n);
+            blas.ssyr2k(uplo, "N", n, K, 0.5f, a, n, b, n, 2.0f, ccopy = c.clone(), n);
+            assertArrayEquals(expected, ccopy, sepsilon);
+
+            f2j.ssyr2k(uplo, "T", n, K, 0.5f, at, K, bt, K, 2.0f, expected = c.clone(), n);
+            blas.ssyr2k(uplo, "T", n, K, 0.5f, at, K, bt, K, 2.0f, ccopy = c.clone(), n);
+            assertArrayEquals(expected, ccopy, sepsilon);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testAlphaZeroBetaScale(BLAS blas) {
@@ -126,6 +156,21 @@ public class Ssyr2kTest extends BLASTest {
         assertRelArrayEquals(expected, ssyAcopy, 2 * sepsilon);
     }
 
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testKZero(BLAS blas) {
+        float[] expected, ssyAcopy;
+
+        // k=0: C := beta*C, a and b aren't referenced
+        f2j.ssyr2k("U", "N", M, 0, 0.5f, sgeA, M, sgeA, M, 2.0f, expected = ssyA.clone(), M);
+        blas.ssyr2k("U", "N", M, 0, 0.5f, sgeA, M, sgeA, M, 2.0f, ssyAcopy = ssyA.clone(), M);
+        assertArrayEquals(expected, ssyAcopy, sepsilon);
+
+        f2j.ssyr2k("L", "T", M, 0, 0.5f, sgeA, 1, sgeA, 1, 2.0f, expected = ssyA.clone(), M);
+        blas.ssyr2k("L", "T", M, 0, 0.5f, sgeA, 1, sgeA, 1, 2.0f, ssyAcopy = ssyA.clone(), M);
+        assertArrayEquals(expected, ssyAcopy, sepsilon);
+    }
+
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testInvalidUplo(BLAS blas) {
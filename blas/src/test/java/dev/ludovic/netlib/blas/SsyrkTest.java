@@ -77,6 +77,33 @@ public class SsyrkTest extends BLASTest {
         assertArrayEquals(expected, ssyAcopy, sepsilon);
     }
 
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBlocked(BLAS blas) {
+        // Large enough to go through several levels of blocking
+        int n = 3 * M;
+        float[] a = new float[n * K], at = new float[K * n], c = new float[n * n];
+        for (int row = 0; row < n; row += 1) {
+            for (int l = 0; l < K; l += 1) {
+                a[row + l * n] = at[l + row * K] = sgeA[(row % M) + l * M];
+            }
+            for (int col = 0; col < n; col += 1) {
+                c[row + col * n] = sgeC[(row % M) + (col % N) * M];
+            }
+        }
+
+        float[] expected, ccopy;
+        for (String uplo : new String[] { "U", "L" }) {
+            f2j.ssyrk(uplo, "N", n, K, 0.5f, a, n, 2.0f, expected = c.clone(), n);
+            blas.ssyrk(uplo, "N", n, K, 0.5f, a, n, 2.0f, ccopy = c.clone(), n);
+            assertArrayEquals(expected, ccopy, sepsilon);
+
+            f2j.ssyrk(uplo, "T", n, K, 0.5f, at, K, 2.0f, expected = c.clone(), n);
+            blas.ssyrk(uplo, "T", n, K, 0.5f, at, K, 2.0f, ccopy = c.clone(), n);
+            assertArrayEquals(expected, ccopy, sepsilon);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testAlphaZeroBetaScale(BLAS blas) {
@@ -135,6 +162,21 @@ public class SsyrkTest extends BLASTest {
         assertArrayEquals(expected, ssyAcopy, sepsilon);
     }
 
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testKZero(BLAS blas) {
+        float[] expected, ssyAcopy;
+
+        // k=0: C := beta*C, a isn't referenced
+        f2j.ssyrk("U", "N", M, 0, 0.5f, sgeA, M, 2.0f, expected = ssyA.clone(), M);
+        blas.ssyrk("U", "N", M, 0, 0.5f, sgeA, M, 2.0f, ssyAcopy = ssyA.clone(), M);
+        assertArrayEquals(expected, ssyAcopy, sepsilon);
+
+        f2j.ssyrk("L", "T", M, 0, 0.5f, sgeA, 1, 2.0f, expected = ssyA.clone(), M);
+        blas.ssyrk("L", "T", M, 0, 0.5f, sgeA, 1, 2.0f, ssyAcopy = ssyA.clone(), M);
+        assertArrayEquals(expected, ssyAcopy, sepsilon);
+    }
+
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testInvalidUplo(BLAS blas) {
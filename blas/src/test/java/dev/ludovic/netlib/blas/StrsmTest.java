@@ -48,6 +48,34 @@ public class StrsmTest extends BLASTest {
         assertArrayEquals(expected, sgeBcopy, sepsilon);
     }
 
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBlocked(BLAS blas) {
+        // Large enough to go through several levels of blocking, with a
+        // diagonally dominant matrix to keep the solution well conditioned
+        int n = 3 * M;
+        float[] a = new float[n * n], b = new float[n * n];
+        for (int col = 0; col < n; col += 1) {
+            for (int row = 0; row < n; row += 1) {
+                a[row + col * n] = sgeA[(row % M) + (col % M) * M] / n + (row == col ? 1.0f : 0.0f);
+                b[row + col * n] = sgeB[(row % M) + (col % N) * M];
+            }
+        }
+
+        float[] expected, bcopy;
+        for (String side : new String[] { "L", "R" }) {
+            for (String uplo : new String[] { "U", "L" }) {
+                for (String transa : new String[] { "N", "T" }) {
+                    for (String diag : new String[] { "N", "U" }) {
+                        f2j.strsm(side, uplo, transa, diag, n, n, 2.0f, a, n, expected = b.clone(), n);
+                        blas.strsm(side, uplo, transa, diag, n, n, 2.0f, a, n, bcopy = b.clone(), n);
+                        assertRelArrayEquals(expected, bcopy, ssolveEpsilon);
+                    }
+                }
+            }
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorkspaceTest {
+
+    @Test
+    void testReuse() {
+        Workspace workspace = Workspace.acquire();
+        double[] packeda = workspace.doubles(Workspace.PACKED_A, 1024);
+        double[] packedx = workspace.doubles(Workspace.PACKED_X, 1024);
+        assertSame(packeda, workspace.doubles(Workspace.PACKED_A, 512));
+        assertSame(packedx, workspace.doubles(Workspace.PACKED_X, 1024));
+        assertEquals(2048, workspace.doubles(Workspace.PACKED_X, 2048).length);
+        workspace.release();
+    }
+
+    @Test
+    void testReleaseDropsLargeVectors() {
+        Workspace workspace = Workspace.acquire();
+        double[] packeda = workspace.doubles(Workspace.PACKED_A, 1 << 20);
+        double[] small = workspace.doubles(Workspace.PACKED_X, 1024);
+        double[] large = workspace.doubles(Workspace.PACKED_Y, 1 << 20);
+        float[] largef = workspace.floats(Workspace.PACKED_X, 1 << 20);
+        workspace.release();
+
+        // Only the large vector slots are dropped, the panels are bounded by the block sizes
+        assertSame(packeda, workspace.doubles(Workspace.PACKED_A, 1 << 20));
+        assertSame(small, workspace.doubles(Workspace.PACKED_X, 1024));
+        assertNotSame(large, workspace.doubles(Workspace.PACKED_Y, 1));
+        assertNotSame(largef, workspace.floats(Workspace.PACKED_X, 1));
+    }
+}
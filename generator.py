@@ -182,6 +182,9 @@ class JIntArray:
   def __init__(self, name, mode = "0"):
     self.idx = 1
     self.name = name
+    self.mode = mode
+    self.native_type = "int"
+    self.jni_type = "Int"
     self.native_type_and_name = "int *{name}".format(name=name)
     self.java_type_and_name = [a.format(name=name) for a in ["jintArray {name}", "jint offset{name}"]]
     self.native_argument = "__n{name} ? __n{name} + offset{name} : NULL".format(name=name)
@@ -192,6 +195,9 @@ class JFloatArray:
   def __init__(self, name, mode = "0"):
     self.idx = 1
     self.name = name
+    self.mode = mode
+    self.native_type = "float"
+    self.jni_type = "Float"
     self.native_type_and_name = "float *{name}".format(name=name)
     self.java_type_and_name = [a.format(name=name) for a in ["jfloatArray {name}", "jint offset{name}"]]
     self.native_argument = "__n{name} ? __n{name} + offset{name} : NULL".format(name=name)
@@ -202,6 +208,9 @@ class JDoubleArray:
   def __init__(self, name, mode = "0"):
     self.idx = 1
     self.name = name
+    self.mode = mode
+    self.native_type = "double"
+    self.jni_type = "Double"
     self.native_type_and_name = "double *{name}".format(name=name)
     self.java_type_and_name = [a.format(name=name) for a in ["jdoubleArray {name}", "jint offset{name}"]]
     self.native_argument = "__n{name} ? __n{name} + offset{name} : NULL".format(name=name)
@@ -209,11 +218,59 @@ class JDoubleArray:
     self.prolog = "if ({name}) {{ if (!(__n{name} = (*env)->GetPrimitiveArrayCritical(env, {name}, NULL))) {{ __failed = TRUE; goto done; }} }}".format(name=name)
     self.epilog = "if (__n{name}) (*env)->ReleasePrimitiveArrayCritical(env, {name}, __n{name}, {mode});".format(name=name, mode=("JNI_ABORT" if mode == "JNI_ABORT" else ("__failed ? JNI_ABORT : %s" % mode)))
 
+class JIntBuffer:
+  def __init__(self, name):
+    self.idx = 1
+    self.name = name
+    self.native_type_and_name = "int *{name}".format(name=name)
+    self.java_type_and_name = [a.format(name=name) for a in ["jobject {name}", "jint offset{name}"]]
+    self.native_argument = "__n{name} ? __n{name} + offset{name} : NULL".format(name=name)
+    self.native_local = "int *__n{name} = NULL;".format(name=name)
+    # Direct buffers are already in native memory, there is nothing to copy nor to release
+    self.prolog = "if ({name}) {{ if (!(__n{name} = (*env)->GetDirectBufferAddress(env, {name}))) {{ __failed = TRUE; goto done; }} }}".format(name=name)
+    self.epilog = ""
+class JFloatBuffer:
+  def __init__(self, name):
+    self.idx = 1
+    self.name = name
+    self.native_type_and_name = "float *{name}".format(name=name)
+    self.java_type_and_name = [a.format(name=name) for a in ["jobject {name}", "jint offset{name}"]]
+    self.native_argument = "__n{name} ? __n{name} + offset{name} : NULL".format(name=name)
+    self.native_local = "float *__n{name} = NULL;".format(name=name)
+    # Direct buffers are already in native memory, there is nothing to copy nor to release
+    self.prolog = "if ({name}) {{ if (!(__n{name} = (*env)->GetDirectBufferAddress(env, {name}))) {{ __failed = TRUE; goto done; }} }}".format(name=name)
+    self.epilog = ""
+class JDoubleBuffer:
+  def __init__(self, name):
+    self.idx = 1
+    self.name = name
+    self.native_type_and_name = "double *{name}".format(name=name)
+    self.java_type_and_name = [a.format(name=name) for a in ["jobject {name}", "jint offset{name}"]]
+    self.native_argument = "__n{name} ? __n{name} + offset{name} : NULL".format(name=name)
+    self.native_local = "double *__n{name} = NULL;".format(name=name)
+    # Direct buffers are already in native memory, there is nothing to copy nor to release
+    self.prolog = "if ({name}) {{ if (!(__n{name} = (*env)->GetDirectBufferAddress(env, {name}))) {{ __failed = TRUE; goto done; }} }}".format(name=name)
+    self.epilog = ""
+
 class RoutineR:
-  def __init__(self, ret, name, *args):
+  def __init__(self, ret, name, *args, suffix=""):
     self.ret = ret
     self.name = name
     self.args = args
+    # A suffixed routine is another JNI entry point for an already declared symbol
+    self.suffix = suffix
+
+  def copy_extent(self, arg):
+    # The rows, cols, and ld arguments of region for an array copied to the arena, see COPY_EXTENTS
+    extents = COPY_EXTENTS[self.name[1:]]
+    if arg.name not in extents:
+      raise Exception("{name}: no extent for {arg} in COPY_EXTENTS".format(name=self.name, arg=arg.name))
+    extent = extents[arg.name]
+    if extent is None:
+      extent = "(*env)->GetArrayLength(env, {name})".format(name=arg.name)
+    if isinstance(extent, str):
+      extent = (extent, "1", extent)
+    return ", ".join(["({e})".format(e=e) for e in extent])
 
   def render(self, pkg):
     # Collect JString/JStringW args for Fortran hidden string length parameters
@@ -230,7 +287,10 @@ class RoutineR:
     if hidden_len_call:
       args_call += ", " + hidden_len_call
     # Print native function signature
-    if pkg in ["blas", "lapack"] and isinstance(self.ret, JFloatR):
+    if self.suffix:
+      # The function pointer is declared with the unsuffixed routine
+      pass
+    elif pkg in ["blas", "lapack"] and isinstance(self.ret, JFloatR):
       # On macOS, the Accelerate framework returns a double rather than a float for these functions,
       # which causes a crash on arm64 as the single and double float registers are not the same,
       # leading to a mismatch in ABI. To work around this, we declare the native function pointer as
@@ -243,9 +303,10 @@ class RoutineR:
       print("#endif")
     else:
       print("static {ret} (*{name}_)({args});".format(ret=self.ret.native_type, name=self.name, args=args_decl))
-    print()
+    if not self.suffix:
+      print()
     # Print JNI function implementation
-    print("{ret} Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_{name}K(JNIEnv *env, UNUSED jobject obj{args}) {{".format(ret=self.ret.java_type, pkg=pkg, pkgupper=pkg.upper(), name=self.name, args="".join([", " + a for arg in self.args for a in arg.java_type_and_name])))
+    print("{ret} Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_{name}{suffix}K(JNIEnv *env, UNUSED jobject obj{args}) {{".format(ret=self.ret.java_type, pkg=pkg, pkgupper=pkg.upper(), name=self.name, suffix=self.suffix, args="".join([", " + a for arg in self.args for a in arg.java_type_and_name])))
     print("  if (!{name}_) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/UnsupportedOperationException\"), \"symbol isn't available in native library\");".format(name=self.name))
     print("  {rettype} __ret = 0;".format(rettype=self.ret.java_type))
     print("  jboolean __failed = FALSE;")
@@ -263,7 +324,8 @@ class RoutineR:
     print()
 
   def render_load_symbol(self):
-    print("  LOAD_SYMBOL({name}_);".format(name=self.name))
+    if not self.suffix:
+      print("  LOAD_SYMBOL({name}_);".format(name=self.name))
 
 class RoutineR_NI:
   def __init__(self, ret, name, *args):
@@ -286,9 +348,41 @@ class RoutineR_NI:
     print("  // LOAD_SYMBOL({name}_);".format(name=self.name))
 
 class Routine:
-  def __init__(self, name, *args):
+  def __init__(self, name, *args, suffix="", workspace=None):
     self.name = name
     self.args = args
+    # A suffixed routine is another JNI entry point for an already declared symbol
+    self.suffix = suffix
+    # Workspace arrays allocated natively rather than passed from Java, mapped to their length, or to None if it's
+    # queried from the routine itself with l<name> = -1. Their l<name> length argument isn't passed from Java either.
+    self.workspace = workspace or {}
+
+  def params(self):
+    return [arg for arg in self.args if arg.name not in self.workspace and not (arg.name[0] == "l" and arg.name[1:] in self.workspace)]
+
+  def copy_flops(self):
+    # Only the heap arrays entry points have something to pin or to copy
+    if self.suffix == "Direct" or self.name[0] not in "sd" or self.name[1:] not in COPY_FLOPS:
+      return None
+    if any(isinstance(arg, JBooleanArray) for arg in self.args):
+      raise Exception("{name}: boolean arrays can't be copied into the arena".format(name=self.name))
+    flops = COPY_FLOPS[self.name[1:]]
+    if any(arg.name == "lwork" for arg in self.params()):
+      # Workspace queries don't do any work
+      flops = "lwork == -1 ? 0 : " + flops
+    return flops
+
+  def copy_extent(self, arg):
+    # The rows, cols, and ld arguments of region for an array copied to the arena, see COPY_EXTENTS
+    extents = COPY_EXTENTS[self.name[1:]]
+    if arg.name not in extents:
+      raise Exception("{name}: no extent for {arg} in COPY_EXTENTS".format(name=self.name, arg=arg.name))
+    extent = extents[arg.name]
+    if extent is None:
+      extent = "(*env)->GetArrayLength(env, {name})".format(name=arg.name)
+    if isinstance(extent, str):
+      extent = (extent, "1", extent)
+    return ", ".join(["({e})".format(e=e) for e in extent])
 
   def render(self, pkg):
     # Collect JString/JStringW args for Fortran hidden string length parameters
@@ -301,30 +395,86 @@ class Routine:
     args_decl = ", ".join([arg.native_type_and_name for arg in self.args])
     if hidden_len_decl:
       args_decl += ", " + hidden_len_decl
-    args_call = ", ".join([arg.native_argument for arg in self.args])
+    params = self.params()
+    workspace = [arg for arg in self.args if arg.name in self.workspace]
+    flops = self.copy_flops()
+    arrays = [arg for arg in params if isinstance(arg, (JIntArray, JFloatArray, JDoubleArray))] if flops else []
+    # Copied arrays start at the beginning of their slice of the arena, where the offset is already applied
+    args_call = ", ".join(["__n{name} ? __n{name} + (__copy ? 0 : offset{name}) : NULL".format(name=arg.name) if arg in arrays else ("__n" + arg.name if arg in workspace else arg.native_argument) for arg in self.args])
     if hidden_len_call:
       args_call += ", " + hidden_len_call
+    others = sorted([arg for arg in params if arg not in arrays], key=lambda a: a.idx)
     # Print native function signature
-    print("static void (*{name}_)({args});".format(name=self.name, args=args_decl))
-    print()
+    if not self.suffix:
+      # Otherwise, the function pointer is declared with the unsuffixed routine
+      print("static void (*{name}_)({args});".format(name=self.name, args=args_decl))
+      print()
     # Print JNI function implementation
-    print("void Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_{name}K(JNIEnv *env, UNUSED jobject obj{args}) {{".format(pkg=pkg, pkgupper=pkg.upper(), name=self.name, args="".join([", " + a for arg in self.args for a in arg.java_type_and_name])))
+    print("void Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_{name}{suffix}K(JNIEnv *env, UNUSED jobject obj{args}) {{".format(pkg=pkg, pkgupper=pkg.upper(), name=self.name, suffix=self.suffix, args="".join([", " + a for arg in params for a in arg.java_type_and_name])))
     print("  if (!{name}_) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/UnsupportedOperationException\"), \"symbol isn't available in native library\");".format(name=self.name))
     print("  jboolean __failed = FALSE;")
     if any(len(arg.native_local) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
       print("\n".join(["  " + a for a in [arg.native_local for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0]))
-    if any(len(arg.prolog) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
-      print("\n".join(["  " + a for a in [arg.prolog for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0]))
+    if workspace:
+      print("  {t} {queries};".format(t=workspace[0].native_type, queries=", ".join(["__q{name} = 0".format(name=arg.name) for arg in workspace if arg.native_type == workspace[0].native_type])))
+      if any(arg.native_type != workspace[0].native_type for arg in workspace):
+        print("  int {queries};".format(queries=", ".join(["__q{name} = 0".format(name=arg.name) for arg in workspace if arg.native_type != workspace[0].native_type])))
+      print("  char *__workspace = NULL;")
+    if arrays:
+      print("  region_t {regions};".format(regions=", ".join(["__r{name} = {{ 0, 0, 0 }}".format(name=arg.name) for arg in arrays])))
+      print("  char *__arena = NULL;")
+      print("  jboolean __copy = (double)({flops}) >= copy_threshold;".format(flops=flops))
+    if any(len(arg.prolog) > 0 for arg in others):
+      print("\n".join(["  " + a for a in [arg.prolog for arg in others] if len(a) > 0]))
+    if arrays:
+      print("  if (__copy) {")
+      print("    size_t __size = 0;")
+      for arg in arrays:
+        print("    if ({name}) {{ __r{name} = region(env, {name}, offset{name}, {extent}); __size += ARENA_ALIGN(sizeof({t}) * __r{name}.span); }}".format(name=arg.name, t=arg.native_type, extent=self.copy_extent(arg)))
+      print("    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }")
+      print("    __size = 0;")
+      for arg in arrays:
+        print("    if ({name}) {{ __n{name} = ({t}*)(__arena + __size); __size += ARENA_ALIGN(sizeof({t}) * __r{name}.span); region_get_{t}(env, {name}, offset{name}, __r{name}, __n{name}); }}".format(name=arg.name, t=arg.native_type))
+      print("  } else {")
+      print("\n".join(["    " + arg.prolog for arg in arrays]))
+      print("  }")
+    if workspace:
+      lengths = {arg.name: "__nl" + arg.name if self.workspace[arg.name] is None else "NETLIB_MAX({length}, 1)".format(length=self.workspace[arg.name]) for arg in workspace}
+      print("  // Query the optimal workspace, then allocate it in the arena")
+      for arg in workspace:
+        print("  __n{name} = &__q{name};".format(name=arg.name))
+        if self.workspace[arg.name] is None:
+          print("  __nl{name} = -1;".format(name=arg.name))
+      print("  {name}_({args});".format(name=self.name, args=args_call))
+      print("  if (__ninfo != 0) goto done;")
+      for arg in workspace:
+        if self.workspace[arg.name] is None:
+          print("  __nl{name} = workspace_length(__q{name});".format(name=arg.name))
+      print("  if (!(__workspace = arena_acquire(ARENA_WORK, {size}))) {{ __failed = TRUE; goto done; }}".format(size=" + ".join(["ARENA_ALIGN(sizeof({t}) * {length})".format(t=arg.native_type, length=lengths[arg.name]) for arg in workspace])))
+      for i, arg in enumerate(workspace):
+        print("  __n{name} = ({t}*)(__workspace{offset});".format(name=arg.name, t=arg.native_type, offset="".join([" + ARENA_ALIGN(sizeof({t}) * {length})".format(t=prev.native_type, length=lengths[prev.name]) for prev in workspace[:i]])))
     print("  {name}_({args});".format(name=self.name, args=args_call))
     print("done:")
-    if any(len(arg.epilog) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
-      print("\n".join(["  " + a for a in [arg.epilog for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0][::-1]))
+    if arrays:
+      print("  if (__copy) {")
+      for arg in arrays:
+        if arg.mode != "JNI_ABORT":
+          print("    if (__n{name} && !__failed) region_set_{t}(env, {name}, offset{name}, __r{name}, __n{name});".format(name=arg.name, t=arg.native_type))
+      print("    if (__arena) arena_release(ARENA_COPY, __arena);")
+      print("  } else {")
+      print("\n".join(["    " + arg.epilog for arg in arrays][::-1]))
+      print("  }")
+    if workspace:
+      print("  if (__workspace) arena_release(ARENA_WORK, __workspace);")
+    if any(len(arg.epilog) > 0 for arg in others):
+      print("\n".join(["  " + a for a in [arg.epilog for arg in others] if len(a) > 0][::-1]))
     print("  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/OutOfMemoryError\"), \"Failed to copy from heap to native memory\");")
     print("}")
     print()
 
   def render_load_symbol(self):
-    print("  LOAD_SYMBOL({name}_);".format(name=self.name))
+    if not self.suffix:
+      print("  LOAD_SYMBOL({name}_);".format(name=self.name))
 
 class Routine_NI:
   def __init__(self, name, *args):
@@ -344,8 +494,369 @@ class Routine_NI:
   def render_load_symbol(self):
     print("  // LOAD_SYMBOL({name}_);".format(name=self.name))
 
+# Estimated number of multiply-adds of the routines which can run long enough for pinning their arrays with
+# GetPrimitiveArrayCritical to hold off the GC. Above `dev.ludovic.netlib.<pkg>.jniCopyThreshold` (10 million by
+# default), their arrays are instead copied in and out of a per-thread native arena with Get/Set<Type>ArrayRegion.
+# Routines not listed here always pin their arrays, which is cheaper for short calls.
+COPY_FLOPS = {
+  # BLAS level 3
+  "gemm": "(double)m * n * k",
+  "symm": "(double)m * n * NETLIB_MAX(m, n)",
+  "trmm": "(double)m * n * NETLIB_MAX(m, n)",
+  "trsm": "(double)m * n * NETLIB_MAX(m, n)",
+  "syrk": "(double)n * n * k",
+  "syr2k": "(double)n * n * k",
+  # LAPACK factorizations and drivers
+  "gesdd": "(double)m * n * NETLIB_MIN(m, n)",
+  "gesvd": "(double)m * n * NETLIB_MIN(m, n)",
+  "geqrf": "(double)m * n * NETLIB_MIN(m, n)",
+  "gelqf": "(double)m * n * NETLIB_MIN(m, n)",
+  "geqp3": "(double)m * n * NETLIB_MIN(m, n)",
+  "gebrd": "(double)m * n * NETLIB_MIN(m, n)",
+  "getrf": "(double)m * n * NETLIB_MIN(m, n)",
+  "syev": "(double)n * n * n",
+  "syevd": "(double)n * n * n",
+  "syevr": "(double)n * n * n",
+  "syevx": "(double)n * n * n",
+  "geev": "(double)n * n * n",
+  "getri": "(double)n * n * n",
+  "potrf": "(double)n * n * n",
+  "potri": "(double)n * n * n",
+  "sygv": "(double)n * n * n",
+  "sygvd": "(double)n * n * n",
+  "sytrd": "(double)n * n * n",
+  "gehrd": "(double)n * n * n",
+  "sytrf": "(double)n * n * n",
+  "gesv": "(double)n * n * (n + nrhs)",
+  "posv": "(double)n * n * (n + nrhs)",
+  "sysv": "(double)n * n * (n + nrhs)",
+  "getrs": "(double)n * n * nrhs",
+  "potrs": "(double)n * n * nrhs",
+  "gels": "(double)m * n * (NETLIB_MIN(m, n) + nrhs)",
+  "gelsd": "(double)m * n * (NETLIB_MIN(m, n) + nrhs)",
+  "gelss": "(double)m * n * (NETLIB_MIN(m, n) + nrhs)",
+}
+
+# The part of each array a routine in COPY_FLOPS references, which is the only part copied to the arena and back: a
+# (rows, cols, ld) matrix, or the length of a contiguous vector. Copying more would overwrite with stale values what
+# other threads wrote in the rest of the array during the call. None stands for a workspace of unknown length, copied
+# up to the end of the array.
+GEMM_A = ("NETLIB_LSAME(__ntransa, 'N') ? m : k", "NETLIB_LSAME(__ntransa, 'N') ? k : m", "lda")
+GEMM_B = ("NETLIB_LSAME(__ntransb, 'N') ? k : n", "NETLIB_LSAME(__ntransb, 'N') ? n : k", "ldb")
+SIDE_A = ("NETLIB_LSAME(__nside, 'L') ? m : n", "NETLIB_LSAME(__nside, 'L') ? m : n", "lda")
+SYRK_A = ("NETLIB_LSAME(__ntrans, 'N') ? n : k", "NETLIB_LSAME(__ntrans, 'N') ? k : n", "lda")
+SYRK_B = ("NETLIB_LSAME(__ntrans, 'N') ? n : k", "NETLIB_LSAME(__ntrans, 'N') ? k : n", "ldb")
+SQUARE_A = ("n", "n", "lda")
+SQUARE_B = ("n", "n", "ldb")
+GENERAL_A = ("m", "n", "lda")
+RHS_B = ("n", "nrhs", "ldb")
+LS_B = ("NETLIB_MAX(m, n)", "nrhs", "ldb")
+MINMN = "NETLIB_MIN(m, n)"
+WORK = "NETLIB_MAX(lwork, 1)"
+# Eigenvectors are only computed for jobz = V, and all of them unless range = I
+SYEV_Z = ("NETLIB_LSAME(__njobz, 'V') ? n : 0", "NETLIB_LSAME(__nrange, 'I') ? iu - il + 1 : n", "ldz")
+
+COPY_EXTENTS = {
+  "gemm": {"a": GEMM_A, "b": GEMM_B, "c": ("m", "n", "ldc")},
+  "symm": {"a": SIDE_A, "b": ("m", "n", "ldb"), "c": ("m", "n", "ldc")},
+  "trmm": {"a": SIDE_A, "b": ("m", "n", "ldb")},
+  "trsm": {"a": SIDE_A, "b": ("m", "n", "ldb")},
+  "syrk": {"a": SYRK_A, "c": ("n", "n", "ldc")},
+  "syr2k": {"a": SYRK_A, "b": SYRK_B, "c": ("n", "n", "ldc")},
+  "gesdd": {"a": GENERAL_A, "s": MINMN, "work": WORK, "iwork": "8 * NETLIB_MIN(m, n)",
+            "u": ("NETLIB_LSAME(__njobz, 'N') || (NETLIB_LSAME(__njobz, 'O') && m >= n) ? 0 : m",
+                  "NETLIB_LSAME(__njobz, 'S') ? NETLIB_MIN(m, n) : m", "ldu"),
+            "vt": ("NETLIB_LSAME(__njobz, 'N') || (NETLIB_LSAME(__njobz, 'O') && m < n) ? 0 : NETLIB_LSAME(__njobz, 'S') ? NETLIB_MIN(m, n) : n",
+                   "n", "ldvt")},
+  "gesvd": {"a": GENERAL_A, "s": MINMN, "work": WORK,
+            "u": ("NETLIB_LSAME(__njobu, 'A') || NETLIB_LSAME(__njobu, 'S') ? m : 0",
+                  "NETLIB_LSAME(__njobu, 'A') ? m : NETLIB_MIN(m, n)", "ldu"),
+            "vt": ("NETLIB_LSAME(__njobvt, 'A') ? n : NETLIB_LSAME(__njobvt, 'S') ? NETLIB_MIN(m, n) : 0", "n", "ldvt")},
+  "geqrf": {"a": GENERAL_A, "tau": MINMN, "work": WORK},
+  "gelqf": {"a": GENERAL_A, "tau": MINMN, "work": WORK},
+  "geqp3": {"a": GENERAL_A, "jpvt": "n", "tau": MINMN, "work": WORK},
+  "gebrd": {"a": GENERAL_A, "d": MINMN, "e": "NETLIB_MIN(m, n) - 1", "tauq": MINMN, "taup": MINMN, "work": WORK},
+  "getrf": {"a": GENERAL_A, "ipiv": MINMN},
+  "syev": {"a": SQUARE_A, "w": "n", "work": WORK},
+  "syevd": {"a": SQUARE_A, "w": "n", "work": WORK, "iwork": "NETLIB_MAX(liwork, 1)"},
+  "syevr": {"a": SQUARE_A, "w": "n", "z": SYEV_Z, "isuppz": "2 * (NETLIB_LSAME(__nrange, 'I') ? iu - il + 1 : n)",
+            "work": WORK, "iwork": "NETLIB_MAX(liwork, 1)"},
+  "syevx": {"a": SQUARE_A, "w": "n", "z": SYEV_Z, "work": WORK, "iwork": "5 * n", "ifail": "n"},
+  "geev": {"a": SQUARE_A, "wr": "n", "wi": "n", "work": WORK,
+           "vl": ("NETLIB_LSAME(__njobvl, 'V') ? n : 0", "n", "ldvl"),
+           "vr": ("NETLIB_LSAME(__njobvr, 'V') ? n : 0", "n", "ldvr")},
+  "getri": {"a": SQUARE_A, "ipiv": "n", "work": WORK},
+  "potrf": {"a": SQUARE_A},
+  "potri": {"a": SQUARE_A},
+  "sygv": {"a": SQUARE_A, "b": SQUARE_B, "w": "n", "work": WORK},
+  "sygvd": {"a": SQUARE_A, "b": SQUARE_B, "w": "n", "work": WORK, "iwork": "NETLIB_MAX(liwork, 1)"},
+  "sytrd": {"a": SQUARE_A, "d": "n", "e": "n - 1", "tau": "n - 1", "work": WORK},
+  "gehrd": {"a": SQUARE_A, "tau": "n - 1", "work": WORK},
+  "sytrf": {"a": SQUARE_A, "ipiv": "n", "work": WORK},
+  "gesv": {"a": SQUARE_A, "ipiv": "n", "b": RHS_B},
+  "posv": {"a": SQUARE_A, "b": RHS_B},
+  "sysv": {"a": SQUARE_A, "ipiv": "n", "b": RHS_B, "work": WORK},
+  "getrs": {"a": SQUARE_A, "ipiv": "n", "b": RHS_B},
+  "potrs": {"a": SQUARE_A, "b": RHS_B},
+  "gels": {"a": GENERAL_A, "b": LS_B, "work": WORK},
+  # The length of iwork depends on a block size only known to the library
+  "gelsd": {"a": GENERAL_A, "b": LS_B, "s": MINMN, "work": WORK, "iwork": None},
+  "gelss": {"a": GENERAL_A, "b": LS_B, "s": MINMN, "work": WORK},
+}
+
+def render_arena():
+  print("// Calls estimated to be long copy their arrays into a per-thread arena rather than pinning them, see COPY_FLOPS in")
+  print("// generator.py, and the Alloc entry points allocate their workspace in another one. The arenas are kept between")
+  print("// calls to save on malloc, unless they grew too large.")
+  print("static double copy_threshold = 1e7;")
+  print()
+  print("#define NETLIB_MIN(a, b) ((a) < (b) ? (a) : (b))")
+  print("#define NETLIB_MAX(a, b) ((a) > (b) ? (a) : (b))")
+  print("#define NETLIB_LSAME(s, c) (((s)[0] | 0x20) == ((c) | 0x20))")
+  print("#define ARENA_ALIGN(size) (((size) + 63) & ~(size_t)63)")
+  print("#define ARENA_RETAINED_MAX ((size_t)64 << 20)")
+  print("#define ARENA_COPY 0")
+  print("#define ARENA_WORK 1")
+  print()
+  print("#ifdef _WIN32")
+  print("static char *arena_acquire(UNUSED int slot, size_t size) {")
+  print("  return malloc(NETLIB_MAX(size, 64));")
+  print("}")
+  print()
+  print("static void arena_release(UNUSED int slot, char *arena) {")
+  print("  free(arena);")
+  print("}")
+  print("#else")
+  print("typedef struct { char *base[2]; size_t size[2]; } arena_t;")
+  print()
+  print("static pthread_key_t arena_key;")
+  print()
+  print("static void arena_destroy(void *p) {")
+  print("  arena_t *arena = p;")
+  print("  free(arena->base[ARENA_COPY]);")
+  print("  free(arena->base[ARENA_WORK]);")
+  print("  free(arena);")
+  print("}")
+  print()
+  print("static char *arena_acquire(int slot, size_t size) {")
+  print("  arena_t *arena = pthread_getspecific(arena_key);")
+  print("  if (!arena) {")
+  print("    if (!(arena = calloc(1, sizeof(arena_t)))) return NULL;")
+  print("    if (pthread_setspecific(arena_key, arena)) { free(arena); return NULL; }")
+  print("  }")
+  print("  if (arena->size[slot] < size || !arena->base[slot]) {")
+  print("    free(arena->base[slot]);")
+  print("    size = NETLIB_MAX(size, 64);")
+  print("    arena->size[slot] = (arena->base[slot] = malloc(size)) ? size : 0;")
+  print("  }")
+  print("  return arena->base[slot];")
+  print("}")
+  print()
+  print("static void arena_release(int slot, UNUSED char *base) {")
+  print("  arena_t *arena = pthread_getspecific(arena_key);")
+  print("  if (arena && arena->size[slot] > ARENA_RETAINED_MAX) {")
+  print("    free(arena->base[slot]);")
+  print("    arena->base[slot] = NULL;")
+  print("    arena->size[slot] = 0;")
+  print("  }")
+  print("}")
+  print("#endif")
+  print()
+  print("// The part of an array that a rows by cols matrix with leading dimension ld starting at offset spans, cut at the end of")
+  print("// the array; a vector is a single column. Only the columns are copied to the arena and back, to their place in the span,")
+  print("// so that the elements between them and the rest of the array are left to other threads.")
+  print("typedef struct { jsize rows, ld, span; } region_t;")
+  print()
+  print("static UNUSED region_t region(JNIEnv *env, jarray array, jint offset, jlong rows, jlong cols, jlong ld) {")
+  print("  region_t r = { 0, 0, 0 };")
+  print("  jlong available = (jlong)(*env)->GetArrayLength(env, array) - offset;")
+  print("  if (rows <= 0 || cols <= 0 || available <= 0) return r;")
+  print("  ld = NETLIB_MAX(ld, rows);")
+  print("  r.rows = (jsize)NETLIB_MIN(rows, available);")
+  print("  r.ld = (jsize)NETLIB_MIN(ld, available);")
+  print("  r.span = (jsize)NETLIB_MIN((cols - 1) * ld + rows, available);")
+  print("  return r;")
+  print("}")
+  print()
+  for t, jt in (("double", "Double"), ("float", "Float"), ("int", "Int")):
+    for op, const in (("get", ""), ("set", "const ")):
+      print("static UNUSED void region_{op}_{t}(JNIEnv *env, j{t}Array array, jint offset, region_t r, {const}{t} *arena) {{".format(op=op, t=t, const=const))
+      print("  if (r.ld == r.rows) {")
+      print("    (*env)->{Op}{jt}ArrayRegion(env, array, offset, r.span, arena);".format(Op=op.capitalize(), jt=jt))
+      print("    return;")
+      print("  }")
+      print("  for (jsize start = 0; start < r.span; start += NETLIB_MIN(r.ld, r.span - start)) {")
+      print("    (*env)->{Op}{jt}ArrayRegion(env, array, offset + start, NETLIB_MIN(r.rows, r.span - start), arena + start);".format(Op=op.capitalize(), jt=jt))
+      print("  }")
+      print("}")
+      print()
+  print("// LAPACK returns the optimal workspace length as a floating-point number, which may have been rounded down")
+  print("static UNUSED int workspace_length(double query) {")
+  print("  int length = (int)query;")
+  print("  return NETLIB_MAX(length + (length < query), 1);")
+  print("}")
+  print()
+
+# Threading controls of the optimized BLAS libraries, resolved when the loaded library exposes them. The
+# symbols are looked up in order: OpenBLAS first, then MKL, then BLIS.
+THREADING_SYMBOLS = (
+  ("openblas_get_num_threads", "int", "void"),
+  ("openblas_set_num_threads", "void", "int num_threads"),
+  ("openblas_set_num_threads_local", "int", "int num_threads"),
+  ("MKL_Get_Max_Threads", "int", "void"),
+  ("MKL_Set_Num_Threads", "void", "int num_threads"),
+  ("MKL_Set_Num_Threads_Local", "int", "int num_threads"),
+  ("bli_thread_get_num_threads", "int64_t", "void"),
+  ("bli_thread_set_num_threads", "void", "int64_t num_threads"),
+)
+
+def render_threading(pkg):
+  for name, ret, args in THREADING_SYMBOLS:
+    print("static {ret} (*{name})({args});".format(ret=ret, name=name, args=args))
+  print()
+  print("jint Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_getNumThreadsK(JNIEnv *env, UNUSED jobject obj) {{".format(pkg=pkg, pkgupper=pkg.upper()))
+  print("  if (openblas_get_num_threads) return openblas_get_num_threads();")
+  print("  if (MKL_Get_Max_Threads) return MKL_Get_Max_Threads();")
+  print("  if (bli_thread_get_num_threads) return (jint)bli_thread_get_num_threads();")
+  print("  (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/UnsupportedOperationException\"), \"native library doesn't expose a threading control\");")
+  print("  return 0;")
+  print("}")
+  print()
+  print("void Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_setNumThreadsK(JNIEnv *env, UNUSED jobject obj, jint numThreads) {{".format(pkg=pkg, pkgupper=pkg.upper()))
+  print("  if (openblas_set_num_threads) openblas_set_num_threads(numThreads);")
+  print("  else if (MKL_Set_Num_Threads) MKL_Set_Num_Threads(numThreads);")
+  print("  else if (bli_thread_set_num_threads) bli_thread_set_num_threads(numThreads);")
+  print("  else (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/UnsupportedOperationException\"), \"native library doesn't expose a threading control\");")
+  print("}")
+  print()
+  print("// Returns the previous value to restore, or -1 if the library has no per-thread control")
+  print("jint Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_setLocalNumThreadsK(UNUSED JNIEnv *env, UNUSED jobject obj, jint numThreads) {{".format(pkg=pkg, pkgupper=pkg.upper()))
+  print("  if (openblas_set_num_threads_local) return openblas_set_num_threads_local(numThreads);")
+  print("  if (MKL_Set_Num_Threads_Local) return MKL_Set_Num_Threads_Local(numThreads);")
+  print("  return -1;")
+  print("}")
+  print()
+
+# Opcodes and operands of BLASBatch, keep in sync with BLASBatch.java
+BATCH_OPERATIONS = (
+  (1, "daxpy", 8, "daxpy_(&p[1], &scalars[s], A(2, 3), &p[4], A(5, 6), &p[7]); s += 1;"),
+  (2, "dcopy", 8, "dcopy_(&p[1], A(2, 3), &p[4], A(5, 6), &p[7]);"),
+  (3, "dscal", 5, "dscal_(&p[1], &scalars[s], A(2, 3), &p[4]); s += 1;"),
+  (4, "ddot", 9, "results[p[8]] = ddot_(&p[1], A(2, 3), &p[4], A(5, 6), &p[7]);"),
+  (5, "dnrm2", 6, "results[p[5]] = dnrm2_(&p[1], A(2, 3), &p[4]);"),
+  (6, "dgemv", 13, "dgemv_(p[1] == 0 ? \"N\" : \"T\", &p[2], &p[3], &scalars[s], A(4, 5), &p[6], A(7, 8), &p[9], &scalars[s + 1], A(10, 11), &p[12], 1); s += 2;"),
+  (7, "dger", 12, "dger_(&p[1], &p[2], &scalars[s], A(3, 4), &p[5], A(6, 7), &p[8], A(9, 10), &p[11]); s += 1;"),
+)
+
+def render_batch(pkg):
+  print("// Runs all the operations of a BLASBatch with each array pinned only once.")
+  print("// The arguments have been checked when the operations were recorded.")
+  print("void Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_executeBatchK(JNIEnv *env, UNUSED jobject obj, jobjectArray arrays, jintArray program, jint length, jdoubleArray scalars, jdoubleArray results) {{".format(pkg=pkg, pkgupper=pkg.upper()))
+  print("  if ({checks}) {{".format(checks=" || ".join("!{name}_".format(name=name) for _, name, _, _ in BATCH_OPERATIONS)))
+  print("    (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/UnsupportedOperationException\"), \"symbol isn't available in native library\");")
+  print("    return;")
+  print("  }")
+  print("  jboolean __failed = FALSE;")
+  print("  jboolean __unknown = FALSE;")
+  print("  jsize __narrays = (*env)->GetArrayLength(env, arrays);")
+  print("  jsize __pinned = 0;")
+  print("  jdoubleArray *__arrays = NULL;")
+  print("  double **__parrays = NULL;")
+  print("  int *__nprogram = NULL;")
+  print("  double *__nscalars = NULL;")
+  print("  double *__nresults = NULL;")
+  print("  // All the local references are taken before entering the critical regions")
+  print("  if ((*env)->EnsureLocalCapacity(env, __narrays) != 0) goto done;")
+  print("  if (!(__arrays = malloc(__narrays * sizeof(jdoubleArray))) || !(__parrays = malloc(__narrays * sizeof(double*)))) { __failed = TRUE; goto done; }")
+  print("  for (jsize __i = 0; __i < __narrays; __i++) {")
+  print("    __arrays[__i] = (jdoubleArray)(*env)->GetObjectArrayElement(env, arrays, __i);")
+  print("  }")
+  print("  if (!(__nprogram = (*env)->GetPrimitiveArrayCritical(env, program, NULL))) { __failed = TRUE; goto done; }")
+  print("  if (!(__nscalars = (*env)->GetPrimitiveArrayCritical(env, scalars, NULL))) { __failed = TRUE; goto done; }")
+  print("  if (results && (*env)->GetArrayLength(env, results) > 0) { if (!(__nresults = (*env)->GetPrimitiveArrayCritical(env, results, NULL))) { __failed = TRUE; goto done; } }")
+  print("  for (; __pinned < __narrays; __pinned++) {")
+  print("    if (!(__parrays[__pinned] = (*env)->GetPrimitiveArrayCritical(env, __arrays[__pinned], NULL))) { __failed = TRUE; goto done; }")
+  print("  }")
+  print("  {")
+  print("#define A(array, offset) (__parrays[p[array]] + p[offset])")
+  print("    double *scalars = __nscalars, *results = __nresults;")
+  print("    int s = 0;")
+  print("    for (int *p = __nprogram; p < __nprogram + length;) {")
+  print("      switch (p[0]) {")
+  for opcode, name, size, call in BATCH_OPERATIONS:
+    print("      case {opcode}: /* {name} */".format(opcode=opcode, name=name))
+    print("        {call}".format(call=call))
+    print("        p += {size};".format(size=size))
+    print("        break;")
+  print("      default:")
+  print("        __unknown = TRUE;")
+  print("        goto done;")
+  print("      }")
+  print("    }")
+  print("#undef A")
+  print("  }")
+  print("done:")
+  print("  while (__pinned > 0) {")
+  print("    __pinned--;")
+  print("    (*env)->ReleasePrimitiveArrayCritical(env, __arrays[__pinned], __parrays[__pinned], __failed || __unknown ? JNI_ABORT : 0);")
+  print("  }")
+  print("  if (__nresults) (*env)->ReleasePrimitiveArrayCritical(env, results, __nresults, __failed || __unknown ? JNI_ABORT : 0);")
+  print("  if (__nscalars) (*env)->ReleasePrimitiveArrayCritical(env, scalars, __nscalars, JNI_ABORT);")
+  print("  if (__nprogram) (*env)->ReleasePrimitiveArrayCritical(env, program, __nprogram, JNI_ABORT);")
+  print("  free(__parrays);")
+  print("  free(__arrays);")
+  print("  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/OutOfMemoryError\"), \"Failed to copy from heap to native memory\");")
+  print("  else if (__unknown) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/IllegalStateException\"), \"unknown operation in batch program\");")
+  print("}")
+  print()
+
+# Row-major entry points of LAPACKE, called with matrix_layout = LAPACK_ROW_MAJOR
+LAPACKE_ROUTINES = tuple((prefix + name, [(t.replace("real", real), n) for t, n in params]) for prefix, real in (("d", "double"), ("s", "float")) for name, params in (
+  ("gesv", [("int", "n"), ("int", "nrhs"), ("real*", "a"), ("int", "lda"), ("int*", "ipiv"), ("real*", "b"), ("int", "ldb")]),
+  ("posv", [("char", "uplo"), ("int", "n"), ("int", "nrhs"), ("real*", "a"), ("int", "lda"), ("real*", "b"), ("int", "ldb")]),
+  ("syev", [("char", "jobz"), ("char", "uplo"), ("int", "n"), ("real*", "a"), ("int", "lda"), ("real*", "w"), ("real*", "work"), ("int", "lwork")]),
+))
+
+LAPACKE_JNI_TYPES = {"int": "jint", "char": "jchar", "double*": "jdoubleArray", "float*": "jfloatArray", "int*": "jintArray"}
+
+def render_lapacke(pkg):
+  print("#define LAPACK_ROW_MAJOR 101")
+  print()
+  for name, params in LAPACKE_ROUTINES:
+    symbol = "LAPACKE_{name}_work".format(name=name)
+    arrays = [n for t, n in params if t.endswith("*")]
+    print("static int (*{symbol})(int matrix_layout, {params});".format(symbol=symbol, params=", ".join("{t} {n}".format(t=t.rstrip("*") + " *" if t.endswith("*") else t, n=n).replace("* ", "*") for t, n in params)))
+    print()
+    jni_params = []
+    for t, n in params:
+      jni_params.append("{t} {n}".format(t=LAPACKE_JNI_TYPES[t], n=n))
+      if t.endswith("*"):
+        jni_params.append("jint offset{n}".format(n=n))
+    print("jint Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_lapacke{Name}K(JNIEnv *env, UNUSED jobject obj, {params}) {{".format(pkg=pkg, pkgupper=pkg.upper(), Name=name[0].upper() + name[1:], params=", ".join(jni_params)))
+    print("  jboolean __failed = FALSE;")
+    print("  jint __info = 0;")
+    for t, n in params:
+      if t.endswith("*"):
+        print("  {t}__n{n} = NULL;".format(t=t.rstrip("*") + " *", n=n))
+    for n in arrays:
+      print("  if ({n}) {{ if (!(__n{n} = (*env)->GetPrimitiveArrayCritical(env, {n}, NULL))) {{ __failed = TRUE; goto done; }} }}".format(n=n))
+    print("  __info = {symbol}(LAPACK_ROW_MAJOR, {args});".format(symbol=symbol, args=", ".join("__n{n} ? __n{n} + offset{n} : NULL".format(n=n) if t.endswith("*") else "(char){n}".format(n=n) if t == "char" else n for t, n in params)))
+    print("done:")
+    for n in reversed(arrays):
+      print("  if (__n{n}) (*env)->ReleasePrimitiveArrayCritical(env, {n}, __n{n}, __failed ? JNI_ABORT : 0);".format(n=n))
+    print("  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/OutOfMemoryError\"), \"Failed to copy from heap to native memory\");")
+    print("  return __info;")
+    print("}")
+    print()
+  print("// Whether the native library exports the LAPACKE row-major entry points")
+  print("jboolean Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_lapackeK(UNUSED JNIEnv *env, UNUSED jobject obj) {{".format(pkg=pkg, pkgupper=pkg.upper()))
+  print("  return {checks};".format(checks=" && ".join("LAPACKE_{name}_work".format(name=name) for name, _ in LAPACKE_ROUTINES)))
+  print("}")
+  print()
+
 class Library:
   def __init__(self, pkg, linux_libname, darwin_libname, win32_libname, routines):
+    copying = any(isinstance(routine, Routine) and (routine.copy_flops() or routine.workspace) for routine in routines)
     # Print copyright header
     print("/*")
     print(" * Copyright 2020, 2021, Ludovic Henry")
@@ -374,6 +885,8 @@ class Library:
     print()
     # Print includes
     print("#include <stdio.h>")
+    if pkg == "blas":
+      print("#include <stdint.h>")
     print("#include <stdlib.h>")
     print("#include <string.h>")
     print("#ifdef _WIN32")
@@ -386,6 +899,8 @@ class Library:
     print("#  define RTLD_LOCAL  0")
     print("#else")
     print("#  include <dlfcn.h>")
+    if copying:
+      print("#  include <pthread.h>")
     print("#endif")
     print()
     print("#include \"dev_ludovic_netlib_{pkg}_JNI{pkgupper}.h\"".format(pkg=pkg, pkgupper=pkg.upper()))
@@ -403,9 +918,16 @@ class Library:
     print("static jfieldID doubleW_val_fieldID;")
     print("static jfieldID StringW_val_fieldID;")
     print()
+    if copying:
+      render_arena()
     # Print routines bodies
     for routine in routines:
       routine.render(pkg)
+    if pkg == "blas":
+      render_threading(pkg)
+      render_batch(pkg)
+    if pkg == "lapack":
+      render_lapacke(pkg)
     # Print helper functions
     print("jboolean get_system_property(JNIEnv *env, jstring key, jstring def, jstring *res) {")
     print("  jclass System_class = (*env)->FindClass(env, \"java/lang/System\");")
@@ -427,6 +949,12 @@ class Library:
     print("")
     for routine in routines:
       routine.render_load_symbol()
+    if pkg == "blas":
+      for name, _, _ in THREADING_SYMBOLS:
+        print("  LOAD_SYMBOL({name});".format(name=name))
+    if pkg == "lapack":
+      for name, _ in LAPACKE_ROUTINES:
+        print("  LOAD_SYMBOL(LAPACKE_{name}_work);".format(name=name))
     print("")
     print("#undef LOAD_SYMBOL")
     print(" return TRUE;")
@@ -550,14 +1078,425 @@ class Library:
     print("    return -1;")
     print("  }")
     print("")
+    if copying:
+      print("  jstring property_jniCopyThreshold;")
+      print("  if (!get_system_property(env, (*env)->NewStringUTF(env, \"dev.ludovic.netlib.{pkg}.jniCopyThreshold\"), NULL, &property_jniCopyThreshold)) {{".format(pkg=pkg))
+      print("    fprintf(stderr, \"netlib-{pkg}: JNI_OnLoad: get_system_property jniCopyThreshold failed\\n\");".format(pkg=pkg))
+      print("    return -1;")
+      print("  }")
+      print("  if (property_jniCopyThreshold) {")
+      print("    const char *utf = (*env)->GetStringUTFChars(env, property_jniCopyThreshold, NULL);")
+      print("    char *end;")
+      print("    double threshold = strtod(utf, &end);")
+      print("    if (end != utf && *end == '\\0') {")
+      print("      copy_threshold = threshold;")
+      print("    } else {")
+      print("      fprintf(stderr, \"netlib-{pkg}: JNI_OnLoad: ignoring invalid jniCopyThreshold %s\\n\", utf);".format(pkg=pkg))
+      print("    }")
+      print("    (*env)->ReleaseStringUTFChars(env, property_jniCopyThreshold, utf);")
+      print("  }")
+      print("#ifndef _WIN32")
+      print("  if (pthread_key_create(&arena_key, arena_destroy)) {")
+      print("    fprintf(stderr, \"netlib-{pkg}: JNI_OnLoad: pthread_key_create failed\\n\");".format(pkg=pkg))
+      print("    return -1;")
+      print("  }")
+      print("#endif")
+      print("")
     print("  return JNI_VERSION_1_8;")
     print("}")
     print()
     print("void JNI_OnUnload(UNUSED JavaVM *vm, UNUSED void *reserved) {")
+    if copying:
+      print("#ifndef _WIN32")
+      print("  pthread_key_delete(arena_key);")
+      print("#endif")
     print("  dlclose(libhandle);")
     print("}")
 
 
+# FFM (java.lang.foreign) rendering, used with `generator.py <pkg> ffm`
+
+FFM_SCALARS = {JBoolean: "boolean", JInt: "int", JLong: "long", JFloat: "float", JDouble: "double"}
+FFM_WRAPPERS = {JBooleanW: ("boolean", "int"), JIntW: ("int", "int"), JFloatW: ("float", "float"), JDoubleW: ("double", "double")}
+FFM_ARRAYS = {JBooleanArray: "boolean", JIntArray: "int", JFloatArray: "float", JDoubleArray: "double"}
+FFM_BUFFERS = {JIntBuffer: "Int", JFloatBuffer: "Float", JDoubleBuffer: "Double"}
+FFM_RETURNS = {JBooleanR: ("boolean", "I"), JIntR: ("int", "I"), JFloatR: ("float", "F"), JDoubleR: ("double", "D")}
+
+def ffm_java_params(arg):
+  if type(arg) in FFM_SCALARS:
+    return ["{t} {name}".format(t=FFM_SCALARS[type(arg)], name=arg.name)]
+  if isinstance(arg, JString):
+    return ["String {name}".format(name=arg.name)]
+  if isinstance(arg, JObject):
+    return ["java.lang.Object {name}".format(name=arg.name)]
+  if type(arg) in FFM_WRAPPERS:
+    return ["org.netlib.util.{t}W {name}".format(t=FFM_WRAPPERS[type(arg)][0], name=arg.name)]
+  if isinstance(arg, JStringW):
+    return ["org.netlib.util.StringW {name}".format(name=arg.name)]
+  if type(arg) in FFM_ARRAYS:
+    return ["{t}[] {name}".format(t=FFM_ARRAYS[type(arg)], name=arg.name), "int offset{name}".format(name=arg.name)]
+  if type(arg) in FFM_BUFFERS:
+    return ["{t}Buffer {name}".format(t=FFM_BUFFERS[type(arg)], name=arg.name), "int offset{name}".format(name=arg.name)]
+  raise Exception("unsupported argument type {t}".format(t=type(arg).__name__))
+
+def ffm_prolog(arg):
+  if isinstance(arg, JBooleanW):
+    return "int[] __n{name} = {{ {name}.val ? 1 : 0 }};".format(name=arg.name)
+  if type(arg) in FFM_WRAPPERS:
+    return "{t}[] __n{name} = {{ {name}.val }};".format(t=FFM_WRAPPERS[type(arg)][1], name=arg.name)
+  if isinstance(arg, JStringW):
+    return "byte[] __n{name} = cstring({name}.val);".format(name=arg.name)
+  if isinstance(arg, JBooleanArray):
+    return "int[] __n{name} = booleans({name});".format(name=arg.name)
+  return ""
+
+def ffm_argument(arg):
+  if type(arg) in FFM_SCALARS:
+    return "ref({name})".format(name=arg.name)
+  if isinstance(arg, JString):
+    return "MemorySegment.ofArray(cstring({name}))".format(name=arg.name)
+  if type(arg) in FFM_WRAPPERS or isinstance(arg, JStringW):
+    return "MemorySegment.ofArray(__n{name})".format(name=arg.name)
+  if isinstance(arg, JBooleanArray):
+    return "array(__n{name}, offset{name})".format(name=arg.name)
+  if type(arg) in FFM_ARRAYS:
+    return "array({name}, offset{name})".format(name=arg.name)
+  if type(arg) in FFM_BUFFERS:
+    return "buffer({name}, offset{name})".format(name=arg.name)
+  raise Exception("unsupported argument type {t}".format(t=type(arg).__name__))
+
+def ffm_hidden_length(arg):
+  if isinstance(arg, JString):
+    return "(long){name}.length()".format(name=arg.name)
+  return "(long)(__n{name}.length - 1)".format(name=arg.name)
+
+def ffm_epilog(arg):
+  if isinstance(arg, JBooleanW):
+    return "{name}.val = __n{name}[0] != 0;".format(name=arg.name)
+  if type(arg) in FFM_WRAPPERS:
+    return "{name}.val = __n{name}[0];".format(name=arg.name)
+  if isinstance(arg, JStringW):
+    return "{name}.val = new String(__n{name}, 0, __n{name}.length - 1, StandardCharsets.US_ASCII);".format(name=arg.name)
+  return ""
+
+class FFMLibrary:
+  def __init__(self, pkg, linux_libname, darwin_libname, win32_libname, routines):
+    pkgupper = pkg.upper()
+    # Resolving a downcall handle costs about a millisecond, which is fine for the few BLAS routines but not
+    # for the hundreds of LAPACK ones, so only BLAS resolves its handles eagerly into constant fields
+    eager = pkg == "blas"
+    buffers = any(getattr(routine, "suffix", "") == "Direct" for routine in routines)
+    # Print copyright header
+    print("/*")
+    print(" * Copyright 2020, 2021, Ludovic Henry")
+    print(" *")
+    print(" * Permission is hereby granted, free of charge, to any person obtaining a copy")
+    print(" * of this software and associated documentation files (the \"Software\"), to deal")
+    print(" * in the Software without restriction, including without limitation the rights")
+    print(" * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell")
+    print(" * copies of the Software, and to permit persons to whom the Software is")
+    print(" * furnished to do so, subject to the following conditions:")
+    print(" *")
+    print(" * The above copyright notice and this permission notice shall be included in")
+    print(" * all copies or substantial portions of the Software.")
+    print(" *")
+    print(" * THE SOFTWARE IS PROVIDED \"AS IS\", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR")
+    print(" * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,")
+    print(" * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE")
+    print(" * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER")
+    print(" * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,")
+    print(" * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE")
+    print(" * SOFTWARE.")
+    print(" *")
+    print(" * Please contact git@ludovic.dev or visit ludovic.dev if you need additional")
+    print(" * information or have any questions.")
+    print(" */")
+    print()
+    print("package dev.ludovic.netlib.{pkg};".format(pkg=pkg))
+    print()
+    print("import java.lang.foreign.Arena;")
+    print("import java.lang.foreign.FunctionDescriptor;")
+    print("import java.lang.foreign.Linker;")
+    print("import java.lang.foreign.MemoryLayout;")
+    print("import java.lang.foreign.MemorySegment;")
+    print("import java.lang.foreign.SymbolLookup;")
+    print("import java.lang.foreign.ValueLayout;")
+    print("import java.lang.invoke.MethodHandle;")
+    print("import java.lang.invoke.MethodHandles;")
+    if buffers:
+      print("import java.nio.ByteOrder;")
+      print("import java.nio.DoubleBuffer;")
+      print("import java.nio.FloatBuffer;")
+      print("import java.nio.IntBuffer;")
+    print("import java.nio.charset.StandardCharsets;")
+    print("import java.util.Arrays;")
+    if pkg == "blas":
+      print("import java.util.Objects;")
+    print("import java.util.Optional;")
+    if pkg == "blas":
+      print("import java.util.function.Supplier;")
+    print()
+    print("final class FFM{pkgupper} extends Abstract{pkgupper} implements Native{pkgupper} {{".format(pkgupper=pkgupper))
+    print()
+    print("  private static final FFM{pkgupper} instance = new FFM{pkgupper}();".format(pkgupper=pkgupper))
+    print()
+    print("  private static final boolean isMacOS = \"Mac OS X\".equals(System.getProperty(\"os.name\"));")
+    print()
+    print("  private static final Linker linker = Linker.nativeLinker();")
+    print()
+    print("  private static final SymbolLookup library = SymbolLookup.libraryLookup(nativeLib(), Arena.global());")
+    print()
+    print("  protected FFM{pkgupper}() {{}}".format(pkgupper=pkgupper))
+    print()
+    print("  public static Native{pkgupper} getInstance() {{".format(pkgupper=pkgupper))
+    print("    return instance;")
+    print("  }")
+    print()
+    # Print library resolution, mirroring JNI_OnLoad
+    print("  private static String nativeLib() {")
+    print("    String nativeLibPath = System.getProperty(\"dev.ludovic.netlib.{pkg}.nativeLibPath\");".format(pkg=pkg))
+    print("    if (nativeLibPath != null) {")
+    print("      return nativeLibPath;")
+    print("    }")
+    print("    String defaultNativeLib;")
+    print("    if (isMacOS) {")
+    if isinstance(darwin_libname, dict):
+      print("      defaultNativeLib = \"aarch64\".equals(System.getProperty(\"os.arch\")) ? \"{aarch64}\" : \"{x86_64}\";".format(**darwin_libname))
+    else:
+      print("      defaultNativeLib = \"{libname}\";".format(libname=darwin_libname))
+    print("    } else if (System.getProperty(\"os.name\", \"\").startsWith(\"Windows\")) {")
+    print("      defaultNativeLib = \"{libname}\";".format(libname=win32_libname))
+    print("    } else {")
+    print("      defaultNativeLib = \"{libname}\";".format(libname=linux_libname))
+    print("    }")
+    print("    return System.getProperty(\"dev.ludovic.netlib.{pkg}.nativeLib\", defaultNativeLib);".format(pkg=pkg))
+    print("  }")
+    print()
+    # Print downcall handle resolution
+    print("  private static MemoryLayout layout(char c) {")
+    print("    switch (c) {")
+    print("    case 'A': return ValueLayout.ADDRESS;")
+    print("    case 'I': return ValueLayout.JAVA_INT;")
+    print("    case 'J': return ValueLayout.JAVA_LONG;")
+    print("    case 'F': return ValueLayout.JAVA_FLOAT;")
+    print("    case 'D': return ValueLayout.JAVA_DOUBLE;")
+    print("    default: throw new IllegalArgumentException(String.valueOf(c));")
+    print("    }")
+    print("  }")
+    print()
+    print("  // The signature is the return type (V, I, F or D) followed by one character per argument: A for pointers")
+    print("  // and J for the Fortran hidden string lengths. Returns null if the symbol isn't in the native library.")
+    print("  private static MethodHandle downcall(String name, String signature) {")
+    print("    Optional<MemorySegment> symbol = library.find(name);")
+    print("    if (!symbol.isPresent()) {")
+    print("      return null;")
+    print("    }")
+    print("    MemoryLayout[] args = new MemoryLayout[signature.length() - 1];")
+    print("    for (int i = 0; i < args.length; i++) {")
+    print("      args[i] = layout(signature.charAt(i + 1));")
+    print("    }")
+    print("    char ret = signature.charAt(0);")
+    print("    // On macOS, the Accelerate framework returns a double rather than a float, see the matching comment in jni.c")
+    print("    boolean widen = isMacOS && ret == 'F';")
+    print("    FunctionDescriptor descriptor = ret == 'V' ? FunctionDescriptor.ofVoid(args)")
+    print("                                               : FunctionDescriptor.of(layout(widen ? 'D' : ret), args);")
+    print("    // The arguments are heap segments over the Java arrays, which the critical option passes without copying")
+    print("    // nor pinning, the equivalent of GetPrimitiveArrayCritical in jni.c")
+    print("    MethodHandle handle = linker.downcallHandle(symbol.get(), descriptor, Linker.Option.critical(true));")
+    print("    return widen ? MethodHandles.explicitCastArguments(handle, handle.type().changeReturnType(float.class)) : handle;")
+    print("  }")
+    print()
+    # Print marshalling helpers
+    for t, size in [("int", "Integer.BYTES"), ("long", "Long.BYTES"), ("float", "Float.BYTES"), ("double", "Double.BYTES")]:
+      print("  private static MemorySegment ref({t} v) {{".format(t=t))
+      print("    return MemorySegment.ofArray(new {t}[] {{ v }});".format(t=t))
+      print("  }")
+      print()
+    print("  private static MemorySegment ref(boolean v) {")
+    print("    return MemorySegment.ofArray(new int[] { v ? 1 : 0 });")
+    print("  }")
+    print()
+    for t, size in [("int", "Integer.BYTES"), ("float", "Float.BYTES"), ("double", "Double.BYTES")]:
+      print("  private static MemorySegment array({t}[] a, int offset) {{".format(t=t))
+      print("    return a == null ? MemorySegment.NULL : MemorySegment.ofArray(a).asSlice((long)offset * {size});".format(size=size))
+      print("  }")
+      print()
+    if buffers:
+      for t, size in [("Int", "Integer.BYTES"), ("Float", "Float.BYTES"), ("Double", "Double.BYTES")]:
+        print("  private static MemorySegment buffer({t}Buffer b, int offset) {{".format(t=t))
+        print("    return MemorySegment.ofBuffer(b.duplicate().position(0)).asSlice((long)offset * {size});".format(size=size))
+        print("  }")
+        print()
+    print("  private static int[] booleans(boolean[] a) {")
+    print("    if (a == null) {")
+    print("      return null;")
+    print("    }")
+    print("    int[] r = new int[a.length];")
+    print("    for (int i = 0; i < a.length; i++) {")
+    print("      r[i] = a[i] ? 1 : 0;")
+    print("    }")
+    print("    return r;")
+    print("  }")
+    print()
+    print("  private static byte[] cstring(String s) {")
+    print("    byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);")
+    print("    return Arrays.copyOf(bytes, bytes.length + 1);")
+    print("  }")
+    print()
+    print("  private static RuntimeException rethrow(Throwable t) {")
+    print("    if (t instanceof RuntimeException) {")
+    print("      return (RuntimeException)t;")
+    print("    }")
+    print("    if (t instanceof Error) {")
+    print("      throw (Error)t;")
+    print("    }")
+    print("    return new RuntimeException(t);")
+    print("  }")
+    print()
+    # Print routines bodies
+    for routine in routines:
+      if getattr(routine, "workspace", None):
+        # The workspace is allocated by AbstractLAPACK, a downcall doesn't pin anything to save on
+        continue
+      self.render_routine(pkg, routine, eager)
+    if pkg == "blas":
+      self.render_threading()
+    print("}")
+
+  def render_threading(self):
+    sigs = {"void": "V", "int": "I", "int64_t": "J"}
+    for name, ret, args in THREADING_SYMBOLS:
+      print("  private static final MethodHandle {name} = downcall(\"{name}\", \"{sig}\");".format(name=name, sig=sigs[ret] + ("" if args == "void" else sigs[args.split(" ")[0]])))
+    print()
+    print("  public int getNumThreads() {")
+    print("    try {")
+    print("      if (openblas_get_num_threads != null) return (int)openblas_get_num_threads.invokeExact();")
+    print("      if (MKL_Get_Max_Threads != null) return (int)MKL_Get_Max_Threads.invokeExact();")
+    print("      if (bli_thread_get_num_threads != null) return (int)(long)bli_thread_get_num_threads.invokeExact();")
+    print("    } catch (Throwable __t) {")
+    print("      throw rethrow(__t);")
+    print("    }")
+    print("    throw new UnsupportedOperationException(\"native library doesn't expose a threading control\");")
+    print("  }")
+    print()
+    print("  public void setNumThreads(int numThreads) {")
+    print("    if (numThreads < 1) {")
+    print("      throw new IllegalArgumentException(\"numThreads must be positive: \" + numThreads);")
+    print("    }")
+    print("    try {")
+    print("      if (openblas_set_num_threads != null) openblas_set_num_threads.invokeExact(numThreads);")
+    print("      else if (MKL_Set_Num_Threads != null) MKL_Set_Num_Threads.invokeExact(numThreads);")
+    print("      else if (bli_thread_set_num_threads != null) bli_thread_set_num_threads.invokeExact((long)numThreads);")
+    print("      else throw new UnsupportedOperationException(\"native library doesn't expose a threading control\");")
+    print("    } catch (Throwable __t) {")
+    print("      throw rethrow(__t);")
+    print("    }")
+    print("  }")
+    print()
+    print("  // Returns the previous value to restore, or -1 if the library has no per-thread control")
+    print("  private static int setLocalNumThreads(int numThreads) {")
+    print("    try {")
+    print("      if (openblas_set_num_threads_local != null) return (int)openblas_set_num_threads_local.invokeExact(numThreads);")
+    print("      if (MKL_Set_Num_Threads_Local != null) return (int)MKL_Set_Num_Threads_Local.invokeExact(numThreads);")
+    print("    } catch (Throwable __t) {")
+    print("      throw rethrow(__t);")
+    print("    }")
+    print("    return -1;")
+    print("  }")
+    print()
+    print("  public <T> T withNumThreads(int numThreads, Supplier<T> task) {")
+    print("    if (numThreads < 1) {")
+    print("      throw new IllegalArgumentException(\"numThreads must be positive: \" + numThreads);")
+    print("    }")
+    print("    Objects.requireNonNull(task);")
+    print("    int previous = setLocalNumThreads(numThreads);")
+    print("    if (previous >= 0) {")
+    print("      try {")
+    print("        return task.get();")
+    print("      } finally {")
+    print("        setLocalNumThreads(previous);")
+    print("      }")
+    print("    }")
+    print("    previous = getNumThreads();")
+    print("    setNumThreads(numThreads);")
+    print("    try {")
+    print("      return task.get();")
+    print("    } finally {")
+    print("      setNumThreads(previous);")
+    print("    }")
+    print("  }")
+    print()
+
+  def render_routine(self, pkg, routine, eager):
+    ret = getattr(routine, "ret", None)
+    rettype, retsig = FFM_RETURNS[type(ret)] if ret is not None else ("void", "V")
+    params = ", ".join([p for arg in routine.args for p in ffm_java_params(arg)])
+    if isinstance(routine, (Routine_NI, RoutineR_NI)):
+      print("  protected {ret} {name}K({params}) {{".format(ret=rettype, name=routine.name, params=params))
+      print("    throw new UnsupportedOperationException(\"not implemented\");")
+      print("  }")
+      print()
+      return
+    string_args = [arg for arg in routine.args if isinstance(arg, (JString, JStringW))]
+    signature = retsig + "A" * len(routine.args) + "J" * len(string_args)
+    args_call = ", ".join([ffm_argument(arg) for arg in routine.args] + [ffm_hidden_length(arg) for arg in string_args])
+    suffix = getattr(routine, "suffix", "")
+    if suffix:
+      # Same handle as the array variant, heap buffers are passed like arrays and direct ones without copying.
+      # Buffers in the other byte order fall back to the copying implementation of the parent class.
+      buffers = [arg for arg in routine.args if type(arg) in FFM_BUFFERS]
+      args_super = ", ".join([n.split(" ")[1] for arg in routine.args for n in ffm_java_params(arg)])
+      print("  protected {ret} {name}K({params}) {{".format(ret=rettype, name=routine.name, params=params))
+      print("    if ({cond}) {{".format(cond=" || ".join(["{name}.order() != ByteOrder.nativeOrder()".format(name=arg.name) for arg in buffers])))
+      if rettype == "void":
+        print("      super.{name}K({args});".format(name=routine.name, args=args_super))
+        print("      return;")
+      else:
+        print("      return super.{name}K({args});".format(name=routine.name, args=args_super))
+      print("    }")
+    else:
+      if eager:
+        print("  private static final MethodHandle {name}_ = downcall(\"{name}_\", \"{signature}\");".format(name=routine.name, signature=signature))
+      else:
+        print("  private static MethodHandle {name}_;".format(name=routine.name))
+      print()
+      print("  protected {ret} {name}K({params}) {{".format(ret=rettype, name=routine.name, params=params))
+    print("    MethodHandle handle = {name}_;".format(name=routine.name))
+    if not eager:
+      print("    if (handle == null) {")
+      print("      {name}_ = handle = downcall(\"{name}_\", \"{signature}\");".format(name=routine.name, signature=signature))
+      print("    }")
+    print("    if (handle == null) {")
+    print("      throw new UnsupportedOperationException(\"symbol isn't available in native library\");")
+    print("    }")
+    for arg in routine.args:
+      if ffm_prolog(arg):
+        print("    " + ffm_prolog(arg))
+    epilogs = [ffm_epilog(arg) for arg in routine.args if ffm_epilog(arg)]
+    if rettype == "void":
+      print("    try {")
+      print("      handle.invokeExact({args});".format(args=args_call))
+    else:
+      nativetype = "int" if rettype == "boolean" else rettype
+      print("    {t} __ret;".format(t=nativetype))
+      print("    try {")
+      print("      __ret = ({t})handle.invokeExact({args});".format(t=nativetype, args=args_call))
+    print("    } catch (Throwable __t) {")
+    print("      throw rethrow(__t);")
+    print("    }")
+    for e in epilogs:
+      print("    " + e)
+    if rettype == "boolean":
+      print("    return __ret != 0;")
+    elif rettype != "void":
+      print("    return __ret;")
+    print("  }")
+    print()
+
+if len(sys.argv) > 2 and sys.argv[2] == "ffm":
+  Library = FFMLibrary
+
+
 # Copy from Java
 
 # $> []
@@ -642,6 +1581,29 @@ if sys.argv[1] == "blas":
       Routine   (            "strsv", JString("uplo"), JString("trans"), JString("diag"), JInt("n"), JFloatArray("a", "JNI_ABORT"), JInt("lda"), JFloatArray("x"), JInt("incx")),
       RoutineR  (JIntR(),    "idamax", JInt("n"), JDoubleArray("dx", "JNI_ABORT"), JInt("incdx")),
       RoutineR  (JIntR(),    "isamax", JInt("n"), JFloatArray("sx", "JNI_ABORT"), JInt("incsx")),
+      # Entry points for direct NIO buffers, sharing the symbols of the routines above
+      RoutineR  (JDoubleR(), "dasum", JInt("n"), JDoubleBuffer("x"), JInt("incx"), suffix="Direct"),
+      RoutineR  (JFloatR(),  "sasum", JInt("n"), JFloatBuffer("x"), JInt("incx"), suffix="Direct"),
+      Routine   (            "daxpy", JInt("n"), JDouble("alpha"), JDoubleBuffer("x"), JInt("incx"), JDoubleBuffer("y"), JInt("incy"), suffix="Direct"),
+      Routine   (            "saxpy", JInt("n"), JFloat("alpha"), JFloatBuffer("x"), JInt("incx"), JFloatBuffer("y"), JInt("incy"), suffix="Direct"),
+      Routine   (            "dcopy", JInt("n"), JDoubleBuffer("x"), JInt("incx"), JDoubleBuffer("y"), JInt("incy"), suffix="Direct"),
+      Routine   (            "scopy", JInt("n"), JFloatBuffer("x"), JInt("incx"), JFloatBuffer("y"), JInt("incy"), suffix="Direct"),
+      RoutineR  (JDoubleR(), "ddot", JInt("n"), JDoubleBuffer("x"), JInt("incx"), JDoubleBuffer("y"), JInt("incy"), suffix="Direct"),
+      RoutineR  (JFloatR(),  "sdot", JInt("n"), JFloatBuffer("x"), JInt("incx"), JFloatBuffer("y"), JInt("incy"), suffix="Direct"),
+      RoutineR  (JDoubleR(), "dnrm2", JInt("n"), JDoubleBuffer("x"), JInt("incx"), suffix="Direct"),
+      RoutineR  (JFloatR(),  "snrm2", JInt("n"), JFloatBuffer("x"), JInt("incx"), suffix="Direct"),
+      Routine   (            "dscal", JInt("n"), JDouble("alpha"), JDoubleBuffer("x"), JInt("incx"), suffix="Direct"),
+      Routine   (            "sscal", JInt("n"), JFloat("alpha"), JFloatBuffer("x"), JInt("incx"), suffix="Direct"),
+      Routine   (            "dswap", JInt("n"), JDoubleBuffer("x"), JInt("incx"), JDoubleBuffer("y"), JInt("incy"), suffix="Direct"),
+      Routine   (            "sswap", JInt("n"), JFloatBuffer("x"), JInt("incx"), JFloatBuffer("y"), JInt("incy"), suffix="Direct"),
+      RoutineR  (JIntR(),    "idamax", JInt("n"), JDoubleBuffer("x"), JInt("incx"), suffix="Direct"),
+      RoutineR  (JIntR(),    "isamax", JInt("n"), JFloatBuffer("x"), JInt("incx"), suffix="Direct"),
+      Routine   (            "dgemv", JString("trans"), JInt("m"), JInt("n"), JDouble("alpha"), JDoubleBuffer("a"), JInt("lda"), JDoubleBuffer("x"), JInt("incx"), JDouble("beta"), JDoubleBuffer("y"), JInt("incy"), suffix="Direct"),
+      Routine   (            "sgemv", JString("trans"), JInt("m"), JInt("n"), JFloat("alpha"), JFloatBuffer("a"), JInt("lda"), JFloatBuffer("x"), JInt("incx"), JFloat("beta"), JFloatBuffer("y"), JInt("incy"), suffix="Direct"),
+      Routine   (            "dger", JInt("m"), JInt("n"), JDouble("alpha"), JDoubleBuffer("x"), JInt("incx"), JDoubleBuffer("y"), JInt("incy"), JDoubleBuffer("a"), JInt("lda"), suffix="Direct"),
+      Routine   (            "sger", JInt("m"), JInt("n"), JFloat("alpha"), JFloatBuffer("x"), JInt("incx"), JFloatBuffer("y"), JInt("incy"), JFloatBuffer("a"), JInt("lda"), suffix="Direct"),
+      Routine   (            "dgemm", JString("transa"), JString("transb"), JInt("m"), JInt("n"), JInt("k"), JDouble("alpha"), JDoubleBuffer("a"), JInt("lda"), JDoubleBuffer("b"), JInt("ldb"), JDouble("beta"), JDoubleBuffer("c"), JInt("ldc"), suffix="Direct"),
+      Routine   (            "sgemm", JString("transa"), JString("transb"), JInt("m"), JInt("n"), JInt("k"), JFloat("alpha"), JFloatBuffer("a"), JInt("lda"), JFloatBuffer("b"), JInt("ldb"), JFloat("beta"), JFloatBuffer("c"), JInt("ldc"), suffix="Direct"),
     )
   )
 
@@ -1374,6 +2336,32 @@ if sys.argv[1] == "lapack":
       RoutineR  (JFloatR(),   "slamc3",   JFloat("a"), JFloat("b")),
       Routine_NI(             "slamc4",   JIntW("emin"), JFloat("start"), JInt("base")),
       Routine_NI(             "slamc5",   JInt("beta"), JInt("p"), JInt("emin"), JBoolean("ieee"), JIntW("emax"), JFloatW("rmax")),
+      # Entry points allocating their workspace natively, sharing the symbols of the routines above
+      Routine   (             "dgeev",    JString("jobvl"), JString("jobvr"), JInt("n"), JDoubleArray("a"), JInt("lda"), JDoubleArray("wr"), JDoubleArray("wi"), JDoubleArray("vl"), JInt("ldvl"), JDoubleArray("vr"), JInt("ldvr"), JDoubleArray("work"), JInt("lwork"), JIntW("info"), suffix="Alloc", workspace={"work": None}),
+      Routine   (             "dgels",    JString("trans"), JInt("m"), JInt("n"), JInt("nrhs"), JDoubleArray("a"), JInt("lda"), JDoubleArray("b"), JInt("ldb"), JDoubleArray("work"), JInt("lwork"), JIntW("info"), suffix="Alloc", workspace={"work": None}),
+      Routine   (             "dgesdd",   JString("jobz"), JInt("m"), JInt("n"), JDoubleArray("a"), JInt("lda"), JDoubleArray("s"), JDoubleArray("u"), JInt("ldu"), JDoubleArray("vt"), JInt("ldvt"), JDoubleArray("work"), JInt("lwork"), JIntArray("iwork"), JIntW("info"), suffix="Alloc", workspace={"work": None, "iwork": "8 * NETLIB_MIN(m, n)"}),
+      Routine   (             "dgesvd",   JString("jobu"), JString("jobvt"), JInt("m"), JInt("n"), JDoubleArray("a"), JInt("lda"), JDoubleArray("s"), JDoubleArray("u"), JInt("ldu"), JDoubleArray("vt"), JInt("ldvt"), JDoubleArray("work"), JInt("lwork"), JIntW("info"), suffix="Alloc", workspace={"work": None}),
+      Routine   (             "dsyev",    JString("jobz"), JString("uplo"), JInt("n"), JDoubleArray("a"), JInt("lda"), JDoubleArray("w"), JDoubleArray("work"), JInt("lwork"), JIntW("info"), suffix="Alloc", workspace={"work": None}),
+      Routine   (             "dsyevd",   JString("jobz"), JString("uplo"), JInt("n"), JDoubleArray("a"), JInt("lda"), JDoubleArray("w"), JDoubleArray("work"), JInt("lwork"), JIntArray("iwork"), JInt("liwork"), JIntW("info"), suffix="Alloc", workspace={"work": None, "iwork": None}),
+      Routine   (             "sgeev",    JString("jobvl"), JString("jobvr"), JInt("n"), JFloatArray("a"), JInt("lda"), JFloatArray("wr"), JFloatArray("wi"), JFloatArray("vl"), JInt("ldvl"), JFloatArray("vr"), JInt("ldvr"), JFloatArray("work"), JInt("lwork"), JIntW("info"), suffix="Alloc", workspace={"work": None}),
+      Routine   (             "sgels",    JString("trans"), JInt("m"), JInt("n"), JInt("nrhs"), JFloatArray("a"), JInt("lda"), JFloatArray("b"), JInt("ldb"), JFloatArray("work"), JInt("lwork"), JIntW("info"), suffix="Alloc", workspace={"work": None}),
+      Routine   (             "sgesdd",   JString("jobz"), JInt("m"), JInt("n"), JFloatArray("a"), JInt("lda"), JFloatArray("s"), JFloatArray("u"), JInt("ldu"), JFloatArray("vt"), JInt("ldvt"), JFloatArray("work"), JInt("lwork"), JIntArray("iwork"), JIntW("info"), suffix="Alloc", workspace={"work": None, "iwork": "8 * NETLIB_MIN(m, n)"}),
+      Routine   (             "sgesvd",   JString("jobu"), JString("jobvt"), JInt("m"), JInt("n"), JFloatArray("a"), JInt("lda"), JFloatArray("s"), JFloatArray("u"), JInt("ldu"), JFloatArray("vt"), JInt("ldvt"), JFloatArray("work"), JInt("lwork"), JIntW("info"), suffix="Alloc", workspace={"work": None}),
+      Routine   (             "ssyev",    JString("jobz"), JString("uplo"), JInt("n"), JFloatArray("a"), JInt("lda"), JFloatArray("w"), JFloatArray("work"), JInt("lwork"), JIntW("info"), suffix="Alloc", workspace={"work": None}),
+      Routine   (             "ssyevd",   JString("jobz"), JString("uplo"), JInt("n"), JFloatArray("a"), JInt("lda"), JFloatArray("w"), JFloatArray("work"), JInt("lwork"), JIntArray("iwork"), JInt("liwork"), JIntW("info"), suffix="Alloc", workspace={"work": None, "iwork": None}),
+      # Entry points for direct NIO buffers, sharing the symbols of the routines above
+      Routine   (             "dgesv",    JInt("n"), JInt("nrhs"), JDoubleBuffer("a"), JInt("lda"), JIntBuffer("ipiv"), JDoubleBuffer("b"), JInt("ldb"), JIntW("info"), suffix="Direct"),
+      Routine   (             "dgetrf",   JInt("m"), JInt("n"), JDoubleBuffer("a"), JInt("lda"), JIntBuffer("ipiv"), JIntW("info"), suffix="Direct"),
+      Routine   (             "dgetrs",   JString("trans"), JInt("n"), JInt("nrhs"), JDoubleBuffer("a"), JInt("lda"), JIntBuffer("ipiv"), JDoubleBuffer("b"), JInt("ldb"), JIntW("info"), suffix="Direct"),
+      Routine   (             "dposv",    JString("uplo"), JInt("n"), JInt("nrhs"), JDoubleBuffer("a"), JInt("lda"), JDoubleBuffer("b"), JInt("ldb"), JIntW("info"), suffix="Direct"),
+      Routine   (             "dpotrf",   JString("uplo"), JInt("n"), JDoubleBuffer("a"), JInt("lda"), JIntW("info"), suffix="Direct"),
+      Routine   (             "dpotrs",   JString("uplo"), JInt("n"), JInt("nrhs"), JDoubleBuffer("a"), JInt("lda"), JDoubleBuffer("b"), JInt("ldb"), JIntW("info"), suffix="Direct"),
+      Routine   (             "sgesv",    JInt("n"), JInt("nrhs"), JFloatBuffer("a"), JInt("lda"), JIntBuffer("ipiv"), JFloatBuffer("b"), JInt("ldb"), JIntW("info"), suffix="Direct"),
+      Routine   (             "sgetrf",   JInt("m"), JInt("n"), JFloatBuffer("a"), JInt("lda"), JIntBuffer("ipiv"), JIntW("info"), suffix="Direct"),
+      Routine   (             "sgetrs",   JString("trans"), JInt("n"), JInt("nrhs"), JFloatBuffer("a"), JInt("lda"), JIntBuffer("ipiv"), JFloatBuffer("b"), JInt("ldb"), JIntW("info"), suffix="Direct"),
+      Routine   (             "sposv",    JString("uplo"), JInt("n"), JInt("nrhs"), JFloatBuffer("a"), JInt("lda"), JFloatBuffer("b"), JInt("ldb"), JIntW("info"), suffix="Direct"),
+      Routine   (             "spotrf",   JString("uplo"), JInt("n"), JFloatBuffer("a"), JInt("lda"), JIntW("info"), suffix="Direct"),
+      Routine   (             "spotrs",   JString("uplo"), JInt("n"), JInt("nrhs"), JFloatBuffer("a"), JInt("lda"), JFloatBuffer("b"), JInt("ldb"), JIntW("info"), suffix="Direct"),
     )
   )
 
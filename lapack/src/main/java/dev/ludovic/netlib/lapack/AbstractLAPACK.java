@@ -25,8 +25,15 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.Objects;
 
+import dev.ludovic.netlib.blas.Layout;
+
 abstract class AbstractLAPACK implements LAPACK {
 
   private final static boolean debug = System.getProperty("dev.ludovic.netlib.lapack.debug", "false").equals("true");
@@ -48,6 +55,122 @@ abstract class AbstractLAPACK implements LAPACK {
     Objects.requireNonNull(obj);
   }
 
+  private void checkWritable(Buffer buffer) {
+    if (buffer.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+  }
+
+  // Buffer kernels default to running the array kernel, either directly on the
+  // backing array or on a copy of the buffer which is written back afterwards.
+  // Offsets are absolute indices into the buffer, its position is ignored.
+  protected static int offset(Buffer buffer, int offset) {
+    return buffer.hasArray() ? buffer.arrayOffset() + offset : offset;
+  }
+
+  protected static double[] array(DoubleBuffer buffer) {
+    if (buffer.hasArray()) {
+      return buffer.array();
+    }
+    double[] array = new double[buffer.limit()];
+    DoubleBuffer duplicate = buffer.duplicate();
+    ((Buffer)duplicate).position(0);
+    duplicate.get(array);
+    return array;
+  }
+
+  protected static void writeBack(DoubleBuffer buffer, double[] array) {
+    if (!buffer.hasArray()) {
+      DoubleBuffer duplicate = buffer.duplicate();
+      ((Buffer)duplicate).position(0);
+      duplicate.put(array);
+    }
+  }
+
+  protected static float[] array(FloatBuffer buffer) {
+    if (buffer.hasArray()) {
+      return buffer.array();
+    }
+    float[] array = new float[buffer.limit()];
+    FloatBuffer duplicate = buffer.duplicate();
+    ((Buffer)duplicate).position(0);
+    duplicate.get(array);
+    return array;
+  }
+
+  protected static void writeBack(FloatBuffer buffer, float[] array) {
+    if (!buffer.hasArray()) {
+      FloatBuffer duplicate = buffer.duplicate();
+      ((Buffer)duplicate).position(0);
+      duplicate.put(array);
+    }
+  }
+
+  // LAPACK returns the optimal workspace length as a floating-point number,
+  // which may have been rounded down
+  protected static int workspace(double query) {
+    return Math.max(1, (int)Math.ceil(query));
+  }
+
+  // Transposes the n by n matrix a in place
+  protected static void transpose(int n, double[] a, int offseta, int lda) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = col + 1; row < n; row += 1) {
+        double tmp = a[offseta + row + col * lda];
+        a[offseta + row + col * lda] = a[offseta + col + row * lda];
+        a[offseta + col + row * lda] = tmp;
+      }
+    }
+  }
+
+  // Copies the transpose of the m by n matrix a into b
+  protected static void transpose(int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = 0; row < m; row += 1) {
+        b[offsetb + col + row * ldb] = a[offseta + row + col * lda];
+      }
+    }
+  }
+
+  // Transposes the n by n matrix a in place
+  protected static void transpose(int n, float[] a, int offseta, int lda) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = col + 1; row < n; row += 1) {
+        float tmp = a[offseta + row + col * lda];
+        a[offseta + row + col * lda] = a[offseta + col + row * lda];
+        a[offseta + col + row * lda] = tmp;
+      }
+    }
+  }
+
+  // Copies the transpose of the m by n matrix a into b
+  protected static void transpose(int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = 0; row < m; row += 1) {
+        b[offsetb + col + row * ldb] = a[offseta + row + col * lda];
+      }
+    }
+  }
+
+  protected static int[] array(IntBuffer buffer) {
+    if (buffer.hasArray()) {
+      return buffer.array();
+    }
+    int[] array = new int[buffer.limit()];
+    IntBuffer duplicate = buffer.duplicate();
+    ((Buffer)duplicate).position(0);
+    duplicate.get(array);
+    return array;
+  }
+
+  protected static void writeBack(IntBuffer buffer, int[] array) {
+    if (!buffer.hasArray()) {
+      IntBuffer duplicate = buffer.duplicate();
+      ((Buffer)duplicate).position(0);
+      duplicate.put(array);
+    }
+  }
+
   public void dbdsdc(String uplo, String compq, int n, double[] d, double[] e, double[] u, int ldu, double[] vt, int ldvt, double[] q, int[] iq, double[] work, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dbdsdc");
     dbdsdc(uplo, compq, n, d, 0, e, 0, u, 0, ldu, vt, 0, ldvt, q, 0, iq, 0, work, 0, iwork, 0, info);
@@ -708,6 +831,46 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgeevK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void dgeev(String jobvl, String jobvr, int n, double[] a, int lda, double[] wr, double[] wi, double[] vl, int ldvl, double[] vr, int ldvr, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgeev");
+    dgeev(jobvl, jobvr, n, a, 0, lda, wr, 0, wi, 0, vl, 0, ldvl, vr, 0, ldvr, info);
+  }
+
+  public void dgeev(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgeev");
+    checkArgument("DGEEV", 1, lsame("N", jobvl) || lsame("V", jobvl));
+    checkArgument("DGEEV", 2, lsame("N", jobvr) || lsame("V", jobvr));
+    checkArgument("DGEEV", 3, n >= 0);
+    checkArgument("DGEEV", 5, lda >= Math.max(1, n));
+    checkArgument("DGEEV", 9, ldvl >= Math.max(1, lsame("V", jobvl) ? n : 1));
+    checkArgument("DGEEV", 11, ldvr >= Math.max(1, lsame("V", jobvr) ? n : 1));
+    requireNonNull(a);
+    requireNonNull(wr);
+    requireNonNull(wi);
+    if (lsame("V", jobvl))
+      requireNonNull(vl);
+    if (lsame("V", jobvr))
+      requireNonNull(vr);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offsetwr + n - 1, wr.length);
+    checkIndex(offsetwi + n - 1, wi.length);
+    if (lsame("V", jobvl))
+      checkIndex(offsetvl + n * ldvl - 1, vl.length);
+    if (lsame("V", jobvr))
+      checkIndex(offsetvr + n * ldvr - 1, vr.length);
+    dgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, info);
+  }
+
+  protected void dgeevK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW info) {
+    double[] query = new double[1];
+    dgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, query, 0, -1, info);
+    if (info.val == 0) {
+      int lwork = workspace(query[0]);
+      dgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, new double[lwork], 0, lwork, info);
+    }
+  }
+
   public void dgeevx(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int lda, double[] wr, double[] wi, double[] vl, int ldvl, double[] vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, org.netlib.util.doubleW abnrm, double[] rconde, double[] rcondv, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgeevx");
     dgeevx(balanc, jobvl, jobvr, sense, n, a, 0, lda, wr, 0, wi, 0, vl, 0, ldvl, vr, 0, ldvr, ilo, ihi, scale, 0, abnrm, rconde, 0, rcondv, 0, work, 0, lwork, iwork, 0, info);
@@ -971,6 +1134,36 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgelsK(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void dgels(String trans, int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgels");
+    dgels(trans, m, n, nrhs, a, 0, lda, b, 0, ldb, info);
+  }
+
+  public void dgels(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgels");
+    checkArgument("DGELS", 1, lsame("N", trans) || lsame("T", trans));
+    checkArgument("DGELS", 2, m >= 0);
+    checkArgument("DGELS", 3, n >= 0);
+    checkArgument("DGELS", 4, nrhs >= 0);
+    checkArgument("DGELS", 6, lda >= Math.max(1, m));
+    checkArgument("DGELS", 8, ldb >= Math.max(1, Math.max(m, n)));
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offsetb + nrhs * (lsame("N", trans) ? m : n) - 1, b.length);
+    dgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  protected void dgelsK(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    double[] query = new double[1];
+    dgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, query, 0, -1, info);
+    if (info.val == 0) {
+      int lwork = workspace(query[0]);
+      dgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, new double[lwork], 0, lwork, info);
+    }
+  }
+
   public void dgelsd(int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, double[] s, double rcond, org.netlib.util.intW rank, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgelsd");
     dgelsd(m, n, nrhs, a, 0, lda, b, 0, ldb, s, 0, rcond, rank, work, 0, lwork, iwork, 0, info);
@@ -1377,6 +1570,52 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgesddK(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
+  public void dgesdd(String jobz, int m, int n, double[] a, int lda, double[] s, double[] u, int ldu, double[] vt, int ldvt, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgesdd");
+    dgesdd(jobz, m, n, a, 0, lda, s, 0, u, 0, ldu, vt, 0, ldvt, info);
+  }
+
+  public void dgesdd(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgesdd");
+    int minmn = Math.min(m, n);
+    boolean wntqa = lsame("A", jobz);
+    boolean wntqs = lsame("S", jobz);
+    boolean wntqo = lsame("O", jobz);
+    boolean wntqn = lsame("N", jobz);
+    checkArgument("DGESDD", 1, wntqa || wntqs || wntqo || wntqn);
+    checkArgument("DGESDD", 2, m >= 0);
+    checkArgument("DGESDD", 3, n >= 0);
+    checkArgument("DGESDD", 5, lda >= Math.max(1, m));
+    checkArgument("DGESDD", 8, ldu >= 1 && (!((wntqa || wntqs) || (wntqo && m < n)) || ldu >= m));
+    checkArgument("DGESDD", 10, ldvt >= 1 && (!(wntqa) || ldvt >= n) && (!(wntqs) || ldvt >= minmn) && (!(wntqo && m >= n) || ldvt >= n));
+    requireNonNull(a);
+    requireNonNull(s);
+    requireNonNull(u);
+    requireNonNull(vt);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offsets + minmn - 1, s.length);
+    if (wntqa || wntqs || (wntqo && m < n))
+      checkIndex(offsetu + m * ldu - 1, u.length);
+    if (wntqa)
+      checkIndex(offsetvt + n * ldvt - 1, vt.length);
+    else if (wntqs)
+      checkIndex(offsetvt + minmn * ldvt - 1, vt.length);
+    else if (wntqo && m >= n)
+      checkIndex(offsetvt + n * ldvt - 1, vt.length);
+    dgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+  }
+
+  protected void dgesddK(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    double[] query = new double[1];
+    int[] iwork = new int[8 * Math.min(m, n)];
+    dgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, query, 0, -1, iwork, 0, info);
+    if (info.val == 0) {
+      int lwork = workspace(query[0]);
+      dgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, new double[lwork], 0, lwork, iwork, 0, info);
+    }
+  }
+
   public void dgesv(int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dgesv");
     dgesv(n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
@@ -1400,6 +1639,88 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgesvK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void dgesv(Layout layout, int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgesv");
+    dgesv(layout, n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
+  }
+
+  public void dgesv(Layout layout, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgesv");
+    requireNonNull(layout);
+    if (layout == Layout.COLUMN_MAJOR) {
+      dgesv(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+      return;
+    }
+    checkArgument("DGESV", 1, n >= 0);
+    checkArgument("DGESV", 2, nrhs >= 0);
+    checkArgument("DGESV", 4, lda >= Math.max(1, n));
+    checkArgument("DGESV", 7, ldb >= Math.max(1, nrhs));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(ipiv);
+    requireNonNull(b);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
+    checkIndex(offsetipiv + n - 1, ipiv.length);
+    if (nrhs > 0) {
+      checkIndex(offsetb + (n - 1) * ldb + (nrhs - 1), b.length);
+    }
+    dgesvRowMajorK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  // A row-major matrix is the transpose of a column-major one: a is transposed
+  // in place around the column-major call, and b is copied unless it is a
+  // single contiguous column
+  protected void dgesvRowMajorK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    transpose(n, a, offseta, lda);
+    if (nrhs == 1 && ldb == 1) {
+      dgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, n, info);
+    } else {
+      double[] bt = new double[n * nrhs];
+      transpose(nrhs, n, b, offsetb, ldb, bt, 0, n);
+      dgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, bt, 0, n, info);
+      transpose(n, nrhs, bt, 0, n, b, offsetb, ldb);
+    }
+    transpose(n, a, offseta, lda);
+  }
+
+  public void dgesv(int n, int nrhs, DoubleBuffer a, int lda, IntBuffer ipiv, DoubleBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgesv");
+    dgesv(n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
+  }
+
+  public void dgesv(int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgesv");
+    checkArgument("DGESV", 1, n >= 0);
+    checkArgument("DGESV", 2, nrhs >= 0);
+    checkArgument("DGESV", 4, lda >= Math.max(1, n));
+    checkArgument("DGESV", 7, ldb >= Math.max(1, n));
+    requireNonNull(a);
+    requireNonNull(ipiv);
+    requireNonNull(b);
+    checkWritable(a);
+    checkWritable(ipiv);
+    checkWritable(b);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetipiv + n - 1, ipiv.limit());
+    checkIndex(offsetb + nrhs * ldb - 1, b.limit());
+    dgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  protected void dgesvK(int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    double[] aarray = array(a);
+    int[] ipivarray = array(ipiv);
+    double[] barray = array(b);
+    dgesvK(n, nrhs, aarray, offset(a, offseta), lda, ipivarray, offset(ipiv, offsetipiv), barray, offset(b, offsetb), ldb, info);
+    writeBack(a, aarray);
+    writeBack(ipiv, ipivarray);
+    writeBack(b, barray);
+  }
+
   public void dgesvd(String jobu, String jobvt, int m, int n, double[] a, int lda, double[] s, double[] u, int ldu, double[] vt, int ldvt, double[] work, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgesvd");
     dgesvd(jobu, jobvt, m, n, a, 0, lda, s, 0, u, 0, ldu, vt, 0, ldvt, work, 0, lwork, info);
@@ -1447,6 +1768,56 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgesvdK(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void dgesvd(String jobu, String jobvt, int m, int n, double[] a, int lda, double[] s, double[] u, int ldu, double[] vt, int ldvt, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgesvd");
+    dgesvd(jobu, jobvt, m, n, a, 0, lda, s, 0, u, 0, ldu, vt, 0, ldvt, info);
+  }
+
+  public void dgesvd(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgesvd");
+    int minmn = Math.min(m, n);
+    boolean wntua = lsame("A", jobu);
+    boolean wntus = lsame("S", jobu);
+    boolean wntuo = lsame("O", jobu);
+    boolean wntun = lsame("N", jobu);
+    boolean wntva = lsame("A", jobvt);
+    boolean wntvs = lsame("S", jobvt);
+    boolean wntvo = lsame("O", jobvt);
+    boolean wntvn = lsame("N", jobvt);
+    checkArgument("DGESVD", 1, wntua || wntus || wntuo || wntun);
+    checkArgument("DGESVD", 2, (wntva || wntvs || wntvo || wntvn) && !(wntvo && wntuo));
+    checkArgument("DGESVD", 3, m >= 0);
+    checkArgument("DGESVD", 4, n >= 0);
+    checkArgument("DGESVD", 6, lda >= Math.max(1, m));
+    checkArgument("DGESVD", 9, ldu >= 1 && (!(wntua || wntus) || ldu >= m));
+    checkArgument("DGESVD", 11, ldvt >= 1 && (!wntva || ldvt >= n) && (!wntvs || ldvt >= minmn));
+    requireNonNull(a);
+    requireNonNull(s);
+    requireNonNull(u);
+    requireNonNull(vt);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offsets + minmn - 1, s.length);
+    if (wntua)
+      checkIndex(offsetu + m * ldu - 1, u.length);
+    else if (wntus)
+      checkIndex(offsetu + minmn * ldu - 1, u.length);
+    if (wntva)
+      checkIndex(offsetvt + n * ldvt - 1, vt.length);
+    else if (wntvs)
+      checkIndex(offsetvt + minmn * ldvt - 1, vt.length);
+    dgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+  }
+
+  protected void dgesvdK(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    double[] query = new double[1];
+    dgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, query, 0, -1, info);
+    if (info.val == 0) {
+      int lwork = workspace(query[0]);
+      dgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, new double[lwork], 0, lwork, info);
+    }
+  }
+
   public void dgesvx(String fact, String trans, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, int[] ipiv, org.netlib.util.StringW equed, double[] r, double[] c, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgesvx");
     dgesvx(fact, trans, n, nrhs, a, 0, lda, af, 0, ldaf, ipiv, 0, equed, r, 0, c, 0, b, 0, ldb, x, 0, ldx, rcond, ferr, 0, berr, 0, work, 0, iwork, 0, info);
@@ -1559,6 +1930,34 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgetrfK(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
 
+  public void dgetrf(int m, int n, DoubleBuffer a, int lda, IntBuffer ipiv, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgetrf");
+    dgetrf(m, n, a, 0, lda, ipiv, 0, info);
+  }
+
+  public void dgetrf(int m, int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgetrf");
+    checkArgument("DGETRF", 1, m >= 0);
+    checkArgument("DGETRF", 2, n >= 0);
+    checkArgument("DGETRF", 4, lda >= Math.max(1, m));
+    requireNonNull(a);
+    requireNonNull(ipiv);
+    checkWritable(a);
+    checkWritable(ipiv);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetipiv + Math.min(m, n) - 1, ipiv.limit());
+    dgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+  }
+
+  protected void dgetrfK(int m, int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    double[] aarray = array(a);
+    int[] ipivarray = array(ipiv);
+    dgetrfK(m, n, aarray, offset(a, offseta), lda, ipivarray, offset(ipiv, offsetipiv), info);
+    writeBack(a, aarray);
+    writeBack(ipiv, ipivarray);
+  }
+
   public void dgetri(int n, double[] a, int lda, int[] ipiv, double[] work, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgetri");
     dgetri(n, a, 0, lda, ipiv, 0, work, 0, lwork, info);
@@ -1611,6 +2010,39 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgetrsK(String trans, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void dgetrs(String trans, int n, int nrhs, DoubleBuffer a, int lda, IntBuffer ipiv, DoubleBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgetrs");
+    dgetrs(trans, n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
+  }
+
+  public void dgetrs(String trans, int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgetrs");
+    checkArgument("DGETRS", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DGETRS", 2, n >= 0);
+    checkArgument("DGETRS", 3, nrhs >= 0);
+    checkArgument("DGETRS", 5, lda >= Math.max(1, n));
+    checkArgument("DGETRS", 8, ldb >= Math.max(1, n));
+    requireNonNull(a);
+    requireNonNull(ipiv);
+    requireNonNull(b);
+    checkWritable(b);
+    requireNonNull(info);
+    if (n > 0) {
+      checkIndex(offseta + n * lda - 1, a.limit());
+      checkIndex(offsetipiv + n - 1, ipiv.limit());
+    }
+    if (n > 0 && nrhs > 0) {
+      checkIndex(offsetb + nrhs * ldb - 1, b.limit());
+    }
+    dgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  protected void dgetrsK(String trans, int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    double[] barray = array(b);
+    dgetrsK(trans, n, nrhs, array(a), offset(a, offseta), lda, array(ipiv), offset(ipiv, offsetipiv), barray, offset(b, offsetb), ldb, info);
+    writeBack(b, barray);
+  }
+
   public void dggbak(String job, String side, int n, int ilo, int ihi, double[] lscale, double[] rscale, int m, double[] v, int ldv, org.netlib.util.intW info) {
     if (debug) System.err.println("dggbak");
     dggbak(job, side, n, ilo, ihi, lscale, 0, rscale, 0, m, v, 0, ldv, info);
@@ -4961,37 +5393,134 @@ abstract class AbstractLAPACK implements LAPACK {
 
   public void dposv(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dposv");
-    //FIXME Add arguments check
+    checkArgument("DPOSV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DPOSV", 2, n >= 0);
+    checkArgument("DPOSV", 3, nrhs >= 0);
+    checkArgument("DPOSV", 5, lda >= Math.max(1, n));
+    checkArgument("DPOSV", 7, ldb >= Math.max(1, n));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
+    if (nrhs > 0) {
+      checkIndex(offsetb + (nrhs - 1) * ldb + (n - 1), b.length);
+    }
     dposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
   }
 
   protected abstract void dposvK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
-  public void dposvx(String fact, String uplo, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, org.netlib.util.StringW equed, double[] s, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
-    if (debug) System.err.println("dposvx");
-    dposvx(fact, uplo, n, nrhs, a, 0, lda, af, 0, ldaf, equed, s, 0, b, 0, ldb, x, 0, ldx, rcond, ferr, 0, berr, 0, work, 0, iwork, 0, info);
+  public void dposv(Layout layout, String uplo, int n, int nrhs, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dposv");
+    dposv(layout, uplo, n, nrhs, a, 0, lda, b, 0, ldb, info);
   }
 
-  public void dposvx(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
-    if (debug) System.err.println("dposvx");
-    //FIXME Add arguments check
-    dposvxK(fact, uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  public void dposv(Layout layout, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dposv");
+    requireNonNull(layout);
+    if (layout == Layout.COLUMN_MAJOR) {
+      dposv(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+      return;
+    }
+    checkArgument("DPOSV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DPOSV", 2, n >= 0);
+    checkArgument("DPOSV", 3, nrhs >= 0);
+    checkArgument("DPOSV", 5, lda >= Math.max(1, n));
+    checkArgument("DPOSV", 7, ldb >= Math.max(1, nrhs));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
+    if (nrhs > 0) {
+      checkIndex(offsetb + (n - 1) * ldb + (nrhs - 1), b.length);
+    }
+    dposvRowMajorK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
   }
 
-  protected abstract void dposvxK(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
-
-  public void dpotf2(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
-    if (debug) System.err.println("dpotf2");
-    dpotf2(uplo, n, a, 0, lda, info);
+  // A row-major matrix is the transpose of a column-major one, which for a
+  // symmetric matrix only swaps its triangles: a is used as is with the other
+  // triangle, and b is copied unless it is a single contiguous column
+  protected void dposvRowMajorK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    String transposed = lsame("U", uplo) ? "L" : "U";
+    if (nrhs == 1 && ldb == 1) {
+      dposvK(transposed, n, nrhs, a, offseta, lda, b, offsetb, n, info);
+    } else {
+      double[] bt = new double[n * nrhs];
+      transpose(nrhs, n, b, offsetb, ldb, bt, 0, n);
+      dposvK(transposed, n, nrhs, a, offseta, lda, bt, 0, n, info);
+      transpose(n, nrhs, bt, 0, n, b, offsetb, ldb);
+    }
   }
 
-  public void dpotf2(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
-    if (debug) System.err.println("dpotf2");
-    //FIXME Add arguments check
-    dpotf2K(uplo, n, a, offseta, lda, info);
+  public void dposv(String uplo, int n, int nrhs, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dposv");
+    dposv(uplo, n, nrhs, a, 0, lda, b, 0, ldb, info);
   }
 
-  protected abstract void dpotf2K(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
+  public void dposv(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dposv");
+    checkArgument("DPOSV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DPOSV", 2, n >= 0);
+    checkArgument("DPOSV", 3, nrhs >= 0);
+    checkArgument("DPOSV", 5, lda >= Math.max(1, n));
+    checkArgument("DPOSV", 7, ldb >= Math.max(1, n));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    checkWritable(a);
+    checkWritable(b);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.limit());
+    if (nrhs > 0) {
+      checkIndex(offsetb + (nrhs - 1) * ldb + (n - 1), b.limit());
+    }
+    dposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  protected void dposvK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    double[] aarray = array(a);
+    double[] barray = array(b);
+    dposvK(uplo, n, nrhs, aarray, offset(a, offseta), lda, barray, offset(b, offsetb), ldb, info);
+    writeBack(a, aarray);
+    writeBack(b, barray);
+  }
+
+  public void dposvx(String fact, String uplo, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, org.netlib.util.StringW equed, double[] s, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dposvx");
+    dposvx(fact, uplo, n, nrhs, a, 0, lda, af, 0, ldaf, equed, s, 0, b, 0, ldb, x, 0, ldx, rcond, ferr, 0, berr, 0, work, 0, iwork, 0, info);
+  }
+
+  public void dposvx(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dposvx");
+    //FIXME Add arguments check
+    dposvxK(fact, uplo, n, nrhs, a, offseta, lda, af, offsetaf, ldaf, equed, s, offsets, b, offsetb, ldb, x, offsetx, ldx, rcond, ferr, offsetferr, berr, offsetberr, work, offsetwork, iwork, offsetiwork, info);
+  }
+
+  protected abstract void dposvxK(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
+
+  public void dpotf2(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
+    if (debug) System.err.println("dpotf2");
+    dpotf2(uplo, n, a, 0, lda, info);
+  }
+
+  public void dpotf2(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (debug) System.err.println("dpotf2");
+    //FIXME Add arguments check
+    dpotf2K(uplo, n, a, offseta, lda, info);
+  }
+
+  protected abstract void dpotf2K(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
 
   public void dpotrf(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("dpotrf");
@@ -5000,12 +5529,48 @@ abstract class AbstractLAPACK implements LAPACK {
 
   public void dpotrf(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("dpotrf");
-    //FIXME Add arguments check
+    checkArgument("DPOTRF", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DPOTRF", 2, n >= 0);
+    checkArgument("DPOTRF", 4, lda >= Math.max(1, n));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
     dpotrfK(uplo, n, a, offseta, lda, info);
   }
 
   protected abstract void dpotrfK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
 
+  public void dpotrf(String uplo, int n, DoubleBuffer a, int lda, org.netlib.util.intW info) {
+    if (debug) System.err.println("dpotrf");
+    dpotrf(uplo, n, a, 0, lda, info);
+  }
+
+  public void dpotrf(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (debug) System.err.println("dpotrf");
+    checkArgument("DPOTRF", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DPOTRF", 2, n >= 0);
+    checkArgument("DPOTRF", 4, lda >= Math.max(1, n));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    checkWritable(a);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.limit());
+    dpotrfK(uplo, n, a, offseta, lda, info);
+  }
+
+  protected void dpotrfK(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    double[] aarray = array(a);
+    dpotrfK(uplo, n, aarray, offset(a, offseta), lda, info);
+    writeBack(a, aarray);
+  }
+
   public void dpotri(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("dpotri");
     dpotri(uplo, n, a, 0, lda, info);
@@ -5026,12 +5591,56 @@ abstract class AbstractLAPACK implements LAPACK {
 
   public void dpotrs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dpotrs");
-    //FIXME Add arguments check
+    checkArgument("DPOTRS", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DPOTRS", 2, n >= 0);
+    checkArgument("DPOTRS", 3, nrhs >= 0);
+    checkArgument("DPOTRS", 5, lda >= Math.max(1, n));
+    checkArgument("DPOTRS", 7, ldb >= Math.max(1, n));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0 || nrhs == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
+    checkIndex(offsetb + (nrhs - 1) * ldb + (n - 1), b.length);
     dpotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
   }
 
   protected abstract void dpotrsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void dpotrs(String uplo, int n, int nrhs, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dpotrs");
+    dpotrs(uplo, n, nrhs, a, 0, lda, b, 0, ldb, info);
+  }
+
+  public void dpotrs(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dpotrs");
+    checkArgument("DPOTRS", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DPOTRS", 2, n >= 0);
+    checkArgument("DPOTRS", 3, nrhs >= 0);
+    checkArgument("DPOTRS", 5, lda >= Math.max(1, n));
+    checkArgument("DPOTRS", 7, ldb >= Math.max(1, n));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0 || nrhs == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    checkWritable(b);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.limit());
+    checkIndex(offsetb + (nrhs - 1) * ldb + (n - 1), b.limit());
+    dpotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  protected void dpotrsK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    double[] barray = array(b);
+    dpotrsK(uplo, n, nrhs, array(a), offset(a, offseta), lda, barray, offset(b, offsetb), ldb, info);
+    writeBack(b, barray);
+  }
+
   public void dppcon(String uplo, int n, double[] ap, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dppcon");
     dppcon(uplo, n, ap, 0, anorm, rcond, work, 0, iwork, 0, info);
@@ -5734,6 +6343,78 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dsyevK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void dsyev(String jobz, String uplo, int n, double[] a, int lda, double[] w, org.netlib.util.intW info) {
+    if (debug) System.err.println("dsyev");
+    dsyev(jobz, uplo, n, a, 0, lda, w, 0, info);
+  }
+
+  public void dsyev(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, org.netlib.util.intW info) {
+    if (debug) System.err.println("dsyev");
+    checkArgument("DSYEV", 1, lsame("N", jobz) || lsame("V", jobz));
+    checkArgument("DSYEV", 2, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DSYEV", 3, n >= 0);
+    checkArgument("DSYEV", 5, lda >= Math.max(1, n));
+    requireNonNull(info);
+    if (n > 0) {
+      requireNonNull(a);
+      requireNonNull(w);
+      checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
+      checkIndex(offsetw + n - 1, w.length);
+    }
+    dsyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, info);
+  }
+
+  protected void dsyevK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, org.netlib.util.intW info) {
+    double[] query = new double[1];
+    dsyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, query, 0, -1, info);
+    if (info.val == 0) {
+      int lwork = workspace(query[0]);
+      dsyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, new double[lwork], 0, lwork, info);
+    }
+  }
+
+  public void dsyev(Layout layout, String jobz, String uplo, int n, double[] a, int lda, double[] w, double[] work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dsyev");
+    dsyev(layout, jobz, uplo, n, a, 0, lda, w, 0, work, 0, lwork, info);
+  }
+
+  public void dsyev(Layout layout, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dsyev");
+    requireNonNull(layout);
+    if (layout == Layout.COLUMN_MAJOR) {
+      dsyev(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+      return;
+    }
+    checkArgument("DSYEV", 1, lsame("N", jobz) || lsame("V", jobz));
+    checkArgument("DSYEV", 2, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DSYEV", 3, n >= 0);
+    checkArgument("DSYEV", 5, lda >= Math.max(1, n));
+    checkArgument("DSYEV", 8, lwork == -1 || lwork >= Math.max(1, 3 * n - 1));
+    requireNonNull(w);
+    requireNonNull(work);
+    requireNonNull(info);
+    checkIndex(offsetwork + Math.max(1, lwork) - 1, work.length);
+    if (lwork != -1 && n > 0) {
+      requireNonNull(a);
+      checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
+      checkIndex(offsetw + n - 1, w.length);
+    }
+    dsyevRowMajorK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+  }
+
+  // A row-major matrix is the transpose of a column-major one: a is transposed
+  // in place around the column-major call so that the same triangle is used
+  // and the eigenvectors are returned in its columns
+  protected void dsyevRowMajorK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (lwork == -1) {
+      dsyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+      return;
+    }
+    transpose(n, a, offseta, lda);
+    dsyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    transpose(n, a, offseta, lda);
+  }
+
   public void dsyevd(String jobz, String uplo, int n, double[] a, int lda, double[] w, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsyevd");
     dsyevd(jobz, uplo, n, a, 0, lda, w, 0, work, 0, lwork, iwork, 0, liwork, info);
@@ -5747,6 +6428,38 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dsyevdK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
 
+  public void dsyevd(String jobz, String uplo, int n, double[] a, int lda, double[] w, org.netlib.util.intW info) {
+    if (debug) System.err.println("dsyevd");
+    dsyevd(jobz, uplo, n, a, 0, lda, w, 0, info);
+  }
+
+  public void dsyevd(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, org.netlib.util.intW info) {
+    if (debug) System.err.println("dsyevd");
+    checkArgument("DSYEVD", 1, lsame("N", jobz) || lsame("V", jobz));
+    checkArgument("DSYEVD", 2, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DSYEVD", 3, n >= 0);
+    checkArgument("DSYEVD", 5, lda >= Math.max(1, n));
+    requireNonNull(info);
+    if (n > 0) {
+      requireNonNull(a);
+      requireNonNull(w);
+      checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
+      checkIndex(offsetw + n - 1, w.length);
+    }
+    dsyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, info);
+  }
+
+  protected void dsyevdK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, org.netlib.util.intW info) {
+    double[] query = new double[1];
+    int[] iquery = new int[1];
+    dsyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, query, 0, -1, iquery, 0, -1, info);
+    if (info.val == 0) {
+      int lwork = workspace(query[0]);
+      int liwork = Math.max(1, iquery[0]);
+      dsyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, new double[lwork], 0, lwork, new int[liwork], 0, liwork, info);
+    }
+  }
+
   public void dsyevr(String jobz, String range, String uplo, int n, double[] a, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, int[] isuppz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsyevr");
     dsyevr(jobz, range, uplo, n, a, 0, lda, vl, vu, il, iu, abstol, m, w, 0, z, 0, ldz, isuppz, 0, work, 0, lwork, iwork, 0, liwork, info);
@@ -7033,6 +7746,46 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgeevK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void sgeev(String jobvl, String jobvr, int n, float[] a, int lda, float[] wr, float[] wi, float[] vl, int ldvl, float[] vr, int ldvr, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgeev");
+    sgeev(jobvl, jobvr, n, a, 0, lda, wr, 0, wi, 0, vl, 0, ldvl, vr, 0, ldvr, info);
+  }
+
+  public void sgeev(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgeev");
+    checkArgument("SGEEV", 1, lsame("N", jobvl) || lsame("V", jobvl));
+    checkArgument("SGEEV", 2, lsame("N", jobvr) || lsame("V", jobvr));
+    checkArgument("SGEEV", 3, n >= 0);
+    checkArgument("SGEEV", 5, lda >= Math.max(1, n));
+    checkArgument("SGEEV", 9, ldvl >= Math.max(1, lsame("V", jobvl) ? n : 1));
+    checkArgument("SGEEV", 11, ldvr >= Math.max(1, lsame("V", jobvr) ? n : 1));
+    requireNonNull(a);
+    requireNonNull(wr);
+    requireNonNull(wi);
+    if (lsame("V", jobvl))
+      requireNonNull(vl);
+    if (lsame("V", jobvr))
+      requireNonNull(vr);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offsetwr + n - 1, wr.length);
+    checkIndex(offsetwi + n - 1, wi.length);
+    if (lsame("V", jobvl))
+      checkIndex(offsetvl + n * ldvl - 1, vl.length);
+    if (lsame("V", jobvr))
+      checkIndex(offsetvr + n * ldvr - 1, vr.length);
+    sgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, info);
+  }
+
+  protected void sgeevK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW info) {
+    float[] query = new float[1];
+    sgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, query, 0, -1, info);
+    if (info.val == 0) {
+      int lwork = workspace(query[0]);
+      sgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, new float[lwork], 0, lwork, info);
+    }
+  }
+
   public void sgeevx(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int lda, float[] wr, float[] wi, float[] vl, int ldvl, float[] vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, org.netlib.util.floatW abnrm, float[] rconde, float[] rcondv, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgeevx");
     sgeevx(balanc, jobvl, jobvr, sense, n, a, 0, lda, wr, 0, wi, 0, vl, 0, ldvl, vr, 0, ldvr, ilo, ihi, scale, 0, abnrm, rconde, 0, rcondv, 0, work, 0, lwork, iwork, 0, info);
@@ -7296,6 +8049,36 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgelsK(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void sgels(String trans, int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgels");
+    sgels(trans, m, n, nrhs, a, 0, lda, b, 0, ldb, info);
+  }
+
+  public void sgels(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgels");
+    checkArgument("SGELS", 1, lsame("N", trans) || lsame("T", trans));
+    checkArgument("SGELS", 2, m >= 0);
+    checkArgument("SGELS", 3, n >= 0);
+    checkArgument("SGELS", 4, nrhs >= 0);
+    checkArgument("SGELS", 6, lda >= Math.max(1, m));
+    checkArgument("SGELS", 8, ldb >= Math.max(1, Math.max(m, n)));
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offsetb + nrhs * (lsame("N", trans) ? m : n) - 1, b.length);
+    sgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  protected void sgelsK(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    float[] query = new float[1];
+    sgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, query, 0, -1, info);
+    if (info.val == 0) {
+      int lwork = workspace(query[0]);
+      sgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, new float[lwork], 0, lwork, info);
+    }
+  }
+
   public void sgelsd(int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, float[] s, float rcond, org.netlib.util.intW rank, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgelsd");
     sgelsd(m, n, nrhs, a, 0, lda, b, 0, ldb, s, 0, rcond, rank, work, 0, lwork, iwork, 0, info);
@@ -7702,6 +8485,52 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgesddK(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
+  public void sgesdd(String jobz, int m, int n, float[] a, int lda, float[] s, float[] u, int ldu, float[] vt, int ldvt, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgesdd");
+    sgesdd(jobz, m, n, a, 0, lda, s, 0, u, 0, ldu, vt, 0, ldvt, info);
+  }
+
+  public void sgesdd(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgesdd");
+    int minmn = Math.min(m, n);
+    boolean wntqa = lsame("A", jobz);
+    boolean wntqs = lsame("S", jobz);
+    boolean wntqo = lsame("O", jobz);
+    boolean wntqn = lsame("N", jobz);
+    checkArgument("SGESDD", 1, wntqa || wntqs || wntqo || wntqn);
+    checkArgument("SGESDD", 2, m >= 0);
+    checkArgument("SGESDD", 3, n >= 0);
+    checkArgument("SGESDD", 5, lda >= Math.max(1, m));
+    checkArgument("SGESDD", 8, ldu >= 1 && (!((wntqa || wntqs) || (wntqo && m < n)) || ldu >= m));
+    checkArgument("SGESDD", 10, ldvt >= 1 && (!(wntqa) || ldvt >= n) && (!(wntqs) || ldvt >= minmn) && (!(wntqo && m >= n) || ldvt >= n));
+    requireNonNull(a);
+    requireNonNull(s);
+    requireNonNull(u);
+    requireNonNull(vt);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offsets + minmn - 1, s.length);
+    if (wntqa || wntqs || (wntqo && m < n))
+      checkIndex(offsetu + m * ldu - 1, u.length);
+    if (wntqa)
+      checkIndex(offsetvt + n * ldvt - 1, vt.length);
+    else if (wntqs)
+      checkIndex(offsetvt + minmn * ldvt - 1, vt.length);
+    else if (wntqo && m >= n)
+      checkIndex(offsetvt + n * ldvt - 1, vt.length);
+    sgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+  }
+
+  protected void sgesddK(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    float[] query = new float[1];
+    int[] iwork = new int[8 * Math.min(m, n)];
+    sgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, query, 0, -1, iwork, 0, info);
+    if (info.val == 0) {
+      int lwork = workspace(query[0]);
+      sgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, new float[lwork], 0, lwork, iwork, 0, info);
+    }
+  }
+
   public void sgesv(int n, int nrhs, float[] a, int lda, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("sgesv");
     sgesv(n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
@@ -7725,6 +8554,88 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgesvK(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void sgesv(Layout layout, int n, int nrhs, float[] a, int lda, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgesv");
+    sgesv(layout, n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
+  }
+
+  public void sgesv(Layout layout, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgesv");
+    requireNonNull(layout);
+    if (layout == Layout.COLUMN_MAJOR) {
+      sgesv(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+      return;
+    }
+    checkArgument("SGESV", 1, n >= 0);
+    checkArgument("SGESV", 2, nrhs >= 0);
+    checkArgument("SGESV", 4, lda >= Math.max(1, n));
+    checkArgument("SGESV", 7, ldb >= Math.max(1, nrhs));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(ipiv);
+    requireNonNull(b);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
+    checkIndex(offsetipiv + n - 1, ipiv.length);
+    if (nrhs > 0) {
+      checkIndex(offsetb + (n - 1) * ldb + (nrhs - 1), b.length);
+    }
+    sgesvRowMajorK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  // A row-major matrix is the transpose of a column-major one: a is transposed
+  // in place around the column-major call, and b is copied unless it is a
+  // single contiguous column
+  protected void sgesvRowMajorK(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    transpose(n, a, offseta, lda);
+    if (nrhs == 1 && ldb == 1) {
+      sgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, n, info);
+    } else {
+      float[] bt = new float[n * nrhs];
+      transpose(nrhs, n, b, offsetb, ldb, bt, 0, n);
+      sgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, bt, 0, n, info);
+      transpose(n, nrhs, bt, 0, n, b, offsetb, ldb);
+    }
+    transpose(n, a, offseta, lda);
+  }
+
+  public void sgesv(int n, int nrhs, FloatBuffer a, int lda, IntBuffer ipiv, FloatBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgesv");
+    sgesv(n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
+  }
+
+  public void sgesv(int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgesv");
+    checkArgument("SGESV", 1, n >= 0);
+    checkArgument("SGESV", 2, nrhs >= 0);
+    checkArgument("SGESV", 4, lda >= Math.max(1, n));
+    checkArgument("SGESV", 7, ldb >= Math.max(1, n));
+    requireNonNull(a);
+    requireNonNull(ipiv);
+    requireNonNull(b);
+    checkWritable(a);
+    checkWritable(ipiv);
+    checkWritable(b);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetipiv + n - 1, ipiv.limit());
+    checkIndex(offsetb + nrhs * ldb - 1, b.limit());
+    sgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  protected void sgesvK(int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    float[] aarray = array(a);
+    int[] ipivarray = array(ipiv);
+    float[] barray = array(b);
+    sgesvK(n, nrhs, aarray, offset(a, offseta), lda, ipivarray, offset(ipiv, offsetipiv), barray, offset(b, offsetb), ldb, info);
+    writeBack(a, aarray);
+    writeBack(ipiv, ipivarray);
+    writeBack(b, barray);
+  }
+
   public void sgesvd(String jobu, String jobvt, int m, int n, float[] a, int lda, float[] s, float[] u, int ldu, float[] vt, int ldvt, float[] work, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgesvd");
     sgesvd(jobu, jobvt, m, n, a, 0, lda, s, 0, u, 0, ldu, vt, 0, ldvt, work, 0, lwork, info);
@@ -7772,6 +8683,56 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgesvdK(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void sgesvd(String jobu, String jobvt, int m, int n, float[] a, int lda, float[] s, float[] u, int ldu, float[] vt, int ldvt, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgesvd");
+    sgesvd(jobu, jobvt, m, n, a, 0, lda, s, 0, u, 0, ldu, vt, 0, ldvt, info);
+  }
+
+  public void sgesvd(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgesvd");
+    int minmn = Math.min(m, n);
+    boolean wntua = lsame("A", jobu);
+    boolean wntus = lsame("S", jobu);
+    boolean wntuo = lsame("O", jobu);
+    boolean wntun = lsame("N", jobu);
+    boolean wntva = lsame("A", jobvt);
+    boolean wntvs = lsame("S", jobvt);
+    boolean wntvo = lsame("O", jobvt);
+    boolean wntvn = lsame("N", jobvt);
+    checkArgument("SGESVD", 1, wntua || wntus || wntuo || wntun);
+    checkArgument("SGESVD", 2, (wntva || wntvs || wntvo || wntvn) && !(wntvo && wntuo));
+    checkArgument("SGESVD", 3, m >= 0);
+    checkArgument("SGESVD", 4, n >= 0);
+    checkArgument("SGESVD", 6, lda >= Math.max(1, m));
+    checkArgument("SGESVD", 9, ldu >= 1 && (!(wntua || wntus) || ldu >= m));
+    checkArgument("SGESVD", 11, ldvt >= 1 && (!wntva || ldvt >= n) && (!wntvs || ldvt >= minmn));
+    requireNonNull(a);
+    requireNonNull(s);
+    requireNonNull(u);
+    requireNonNull(vt);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offsets + minmn - 1, s.length);
+    if (wntua)
+      checkIndex(offsetu + m * ldu - 1, u.length);
+    else if (wntus)
+      checkIndex(offsetu + minmn * ldu - 1, u.length);
+    if (wntva)
+      checkIndex(offsetvt + n * ldvt - 1, vt.length);
+    else if (wntvs)
+      checkIndex(offsetvt + minmn * ldvt - 1, vt.length);
+    sgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+  }
+
+  protected void sgesvdK(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    float[] query = new float[1];
+    sgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, query, 0, -1, info);
+    if (info.val == 0) {
+      int lwork = workspace(query[0]);
+      sgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, new float[lwork], 0, lwork, info);
+    }
+  }
+
   public void sgesvx(String fact, String trans, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, int[] ipiv, org.netlib.util.StringW equed, float[] r, float[] c, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgesvx");
     sgesvx(fact, trans, n, nrhs, a, 0, lda, af, 0, ldaf, ipiv, 0, equed, r, 0, c, 0, b, 0, ldb, x, 0, ldx, rcond, ferr, 0, berr, 0, work, 0, iwork, 0, info);
@@ -7884,6 +8845,34 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgetrfK(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
 
+  public void sgetrf(int m, int n, FloatBuffer a, int lda, IntBuffer ipiv, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgetrf");
+    sgetrf(m, n, a, 0, lda, ipiv, 0, info);
+  }
+
+  public void sgetrf(int m, int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgetrf");
+    checkArgument("SGETRF", 1, m >= 0);
+    checkArgument("SGETRF", 2, n >= 0);
+    checkArgument("SGETRF", 4, lda >= Math.max(1, m));
+    requireNonNull(a);
+    requireNonNull(ipiv);
+    checkWritable(a);
+    checkWritable(ipiv);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetipiv + Math.min(m, n) - 1, ipiv.limit());
+    sgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+  }
+
+  protected void sgetrfK(int m, int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    float[] aarray = array(a);
+    int[] ipivarray = array(ipiv);
+    sgetrfK(m, n, aarray, offset(a, offseta), lda, ipivarray, offset(ipiv, offsetipiv), info);
+    writeBack(a, aarray);
+    writeBack(ipiv, ipivarray);
+  }
+
   public void sgetri(int n, float[] a, int lda, int[] ipiv, float[] work, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgetri");
     sgetri(n, a, 0, lda, ipiv, 0, work, 0, lwork, info);
@@ -7936,6 +8925,39 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgetrsK(String trans, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void sgetrs(String trans, int n, int nrhs, FloatBuffer a, int lda, IntBuffer ipiv, FloatBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgetrs");
+    sgetrs(trans, n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
+  }
+
+  public void sgetrs(String trans, int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgetrs");
+    checkArgument("SGETRS", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("SGETRS", 2, n >= 0);
+    checkArgument("SGETRS", 3, nrhs >= 0);
+    checkArgument("SGETRS", 5, lda >= Math.max(1, n));
+    checkArgument("SGETRS", 8, ldb >= Math.max(1, n));
+    requireNonNull(a);
+    requireNonNull(ipiv);
+    requireNonNull(b);
+    checkWritable(b);
+    requireNonNull(info);
+    if (n > 0) {
+      checkIndex(offseta + n * lda - 1, a.limit());
+      checkIndex(offsetipiv + n - 1, ipiv.limit());
+    }
+    if (n > 0 && nrhs > 0) {
+      checkIndex(offsetb + nrhs * ldb - 1, b.limit());
+    }
+    sgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  protected void sgetrsK(String trans, int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    float[] barray = array(b);
+    sgetrsK(trans, n, nrhs, array(a), offset(a, offseta), lda, array(ipiv), offset(ipiv, offsetipiv), barray, offset(b, offsetb), ldb, info);
+    writeBack(b, barray);
+  }
+
   public void sggbak(String job, String side, int n, int ilo, int ihi, float[] lscale, float[] rscale, int m, float[] v, int ldv, org.netlib.util.intW info) {
     if (debug) System.err.println("sggbak");
     sggbak(job, side, n, ilo, ihi, lscale, 0, rscale, 0, m, v, 0, ldv, info);
@@ -11286,12 +12308,109 @@ abstract class AbstractLAPACK implements LAPACK {
 
   public void sposv(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("sposv");
-    //FIXME Add arguments check
+    checkArgument("SPOSV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SPOSV", 2, n >= 0);
+    checkArgument("SPOSV", 3, nrhs >= 0);
+    checkArgument("SPOSV", 5, lda >= Math.max(1, n));
+    checkArgument("SPOSV", 7, ldb >= Math.max(1, n));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
+    if (nrhs > 0) {
+      checkIndex(offsetb + (nrhs - 1) * ldb + (n - 1), b.length);
+    }
     sposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
   }
 
   protected abstract void sposvK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void sposv(Layout layout, String uplo, int n, int nrhs, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sposv");
+    sposv(layout, uplo, n, nrhs, a, 0, lda, b, 0, ldb, info);
+  }
+
+  public void sposv(Layout layout, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sposv");
+    requireNonNull(layout);
+    if (layout == Layout.COLUMN_MAJOR) {
+      sposv(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+      return;
+    }
+    checkArgument("SPOSV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SPOSV", 2, n >= 0);
+    checkArgument("SPOSV", 3, nrhs >= 0);
+    checkArgument("SPOSV", 5, lda >= Math.max(1, n));
+    checkArgument("SPOSV", 7, ldb >= Math.max(1, nrhs));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
+    if (nrhs > 0) {
+      checkIndex(offsetb + (n - 1) * ldb + (nrhs - 1), b.length);
+    }
+    sposvRowMajorK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  // A row-major matrix is the transpose of a column-major one, which for a
+  // symmetric matrix only swaps its triangles: a is used as is with the other
+  // triangle, and b is copied unless it is a single contiguous column
+  protected void sposvRowMajorK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    String transposed = lsame("U", uplo) ? "L" : "U";
+    if (nrhs == 1 && ldb == 1) {
+      sposvK(transposed, n, nrhs, a, offseta, lda, b, offsetb, n, info);
+    } else {
+      float[] bt = new float[n * nrhs];
+      transpose(nrhs, n, b, offsetb, ldb, bt, 0, n);
+      sposvK(transposed, n, nrhs, a, offseta, lda, bt, 0, n, info);
+      transpose(n, nrhs, bt, 0, n, b, offsetb, ldb);
+    }
+  }
+
+  public void sposv(String uplo, int n, int nrhs, FloatBuffer a, int lda, FloatBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sposv");
+    sposv(uplo, n, nrhs, a, 0, lda, b, 0, ldb, info);
+  }
+
+  public void sposv(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sposv");
+    checkArgument("SPOSV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SPOSV", 2, n >= 0);
+    checkArgument("SPOSV", 3, nrhs >= 0);
+    checkArgument("SPOSV", 5, lda >= Math.max(1, n));
+    checkArgument("SPOSV", 7, ldb >= Math.max(1, n));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    checkWritable(a);
+    checkWritable(b);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.limit());
+    if (nrhs > 0) {
+      checkIndex(offsetb + (nrhs - 1) * ldb + (n - 1), b.limit());
+    }
+    sposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  protected void sposvK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    float[] aarray = array(a);
+    float[] barray = array(b);
+    sposvK(uplo, n, nrhs, aarray, offset(a, offseta), lda, barray, offset(b, offsetb), ldb, info);
+    writeBack(a, aarray);
+    writeBack(b, barray);
+  }
+
   public void sposvx(String fact, String uplo, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, org.netlib.util.StringW equed, float[] s, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sposvx");
     sposvx(fact, uplo, n, nrhs, a, 0, lda, af, 0, ldaf, equed, s, 0, b, 0, ldb, x, 0, ldx, rcond, ferr, 0, berr, 0, work, 0, iwork, 0, info);
@@ -11325,12 +12444,48 @@ abstract class AbstractLAPACK implements LAPACK {
 
   public void spotrf(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("spotrf");
-    //FIXME Add arguments check
+    checkArgument("SPOTRF", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SPOTRF", 2, n >= 0);
+    checkArgument("SPOTRF", 4, lda >= Math.max(1, n));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
     spotrfK(uplo, n, a, offseta, lda, info);
   }
 
   protected abstract void spotrfK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
 
+  public void spotrf(String uplo, int n, FloatBuffer a, int lda, org.netlib.util.intW info) {
+    if (debug) System.err.println("spotrf");
+    spotrf(uplo, n, a, 0, lda, info);
+  }
+
+  public void spotrf(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (debug) System.err.println("spotrf");
+    checkArgument("SPOTRF", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SPOTRF", 2, n >= 0);
+    checkArgument("SPOTRF", 4, lda >= Math.max(1, n));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    checkWritable(a);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.limit());
+    spotrfK(uplo, n, a, offseta, lda, info);
+  }
+
+  protected void spotrfK(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    float[] aarray = array(a);
+    spotrfK(uplo, n, aarray, offset(a, offseta), lda, info);
+    writeBack(a, aarray);
+  }
+
   public void spotri(String uplo, int n, float[] a, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("spotri");
     spotri(uplo, n, a, 0, lda, info);
@@ -11351,12 +12506,56 @@ abstract class AbstractLAPACK implements LAPACK {
 
   public void spotrs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("spotrs");
-    //FIXME Add arguments check
+    checkArgument("SPOTRS", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SPOTRS", 2, n >= 0);
+    checkArgument("SPOTRS", 3, nrhs >= 0);
+    checkArgument("SPOTRS", 5, lda >= Math.max(1, n));
+    checkArgument("SPOTRS", 7, ldb >= Math.max(1, n));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0 || nrhs == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
+    checkIndex(offsetb + (nrhs - 1) * ldb + (n - 1), b.length);
     spotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
   }
 
   protected abstract void spotrsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void spotrs(String uplo, int n, int nrhs, FloatBuffer a, int lda, FloatBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("spotrs");
+    spotrs(uplo, n, nrhs, a, 0, lda, b, 0, ldb, info);
+  }
+
+  public void spotrs(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("spotrs");
+    checkArgument("SPOTRS", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SPOTRS", 2, n >= 0);
+    checkArgument("SPOTRS", 3, nrhs >= 0);
+    checkArgument("SPOTRS", 5, lda >= Math.max(1, n));
+    checkArgument("SPOTRS", 7, ldb >= Math.max(1, n));
+    requireNonNull(info);
+    info.val = 0;
+    if (n == 0 || nrhs == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    checkWritable(b);
+    checkIndex(offseta + (n - 1) * lda + (n - 1), a.limit());
+    checkIndex(offsetb + (nrhs - 1) * ldb + (n - 1), b.limit());
+    spotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  protected void spotrsK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    float[] barray = array(b);
+    spotrsK(uplo, n, nrhs, array(a), offset(a, offseta), lda, barray, offset(b, offsetb), ldb, info);
+    writeBack(b, barray);
+  }
+
   public void sppcon(String uplo, int n, float[] ap, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sppcon");
     sppcon(uplo, n, ap, 0, anorm, rcond, work, 0, iwork, 0, info);
@@ -12046,6 +13245,78 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void ssyevK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void ssyev(String jobz, String uplo, int n, float[] a, int lda, float[] w, org.netlib.util.intW info) {
+    if (debug) System.err.println("ssyev");
+    ssyev(jobz, uplo, n, a, 0, lda, w, 0, info);
+  }
+
+  public void ssyev(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, org.netlib.util.intW info) {
+    if (debug) System.err.println("ssyev");
+    checkArgument("SSYEV", 1, lsame("N", jobz) || lsame("V", jobz));
+    checkArgument("SSYEV", 2, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SSYEV", 3, n >= 0);
+    checkArgument("SSYEV", 5, lda >= Math.max(1, n));
+    requireNonNull(info);
+    if (n > 0) {
+      requireNonNull(a);
+      requireNonNull(w);
+      checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
+      checkIndex(offsetw + n - 1, w.length);
+    }
+    ssyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, info);
+  }
+
+  protected void ssyevK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, org.netlib.util.intW info) {
+    float[] query = new float[1];
+    ssyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, query, 0, -1, info);
+    if (info.val == 0) {
+      int lwork = workspace(query[0]);
+      ssyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, new float[lwork], 0, lwork, info);
+    }
+  }
+
+  public void ssyev(Layout layout, String jobz, String uplo, int n, float[] a, int lda, float[] w, float[] work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("ssyev");
+    ssyev(layout, jobz, uplo, n, a, 0, lda, w, 0, work, 0, lwork, info);
+  }
+
+  public void ssyev(Layout layout, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("ssyev");
+    requireNonNull(layout);
+    if (layout == Layout.COLUMN_MAJOR) {
+      ssyev(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+      return;
+    }
+    checkArgument("SSYEV", 1, lsame("N", jobz) || lsame("V", jobz));
+    checkArgument("SSYEV", 2, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SSYEV", 3, n >= 0);
+    checkArgument("SSYEV", 5, lda >= Math.max(1, n));
+    checkArgument("SSYEV", 8, lwork == -1 || lwork >= Math.max(1, 3 * n - 1));
+    requireNonNull(w);
+    requireNonNull(work);
+    requireNonNull(info);
+    checkIndex(offsetwork + Math.max(1, lwork) - 1, work.length);
+    if (lwork != -1 && n > 0) {
+      requireNonNull(a);
+      checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
+      checkIndex(offsetw + n - 1, w.length);
+    }
+    ssyevRowMajorK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+  }
+
+  // A row-major matrix is the transpose of a column-major one: a is transposed
+  // in place around the column-major call so that the same triangle is used
+  // and the eigenvectors are returned in its columns
+  protected void ssyevRowMajorK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (lwork == -1) {
+      ssyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+      return;
+    }
+    transpose(n, a, offseta, lda);
+    ssyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    transpose(n, a, offseta, lda);
+  }
+
   public void ssyevd(String jobz, String uplo, int n, float[] a, int lda, float[] w, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssyevd");
     ssyevd(jobz, uplo, n, a, 0, lda, w, 0, work, 0, lwork, iwork, 0, liwork, info);
@@ -12059,6 +13330,38 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void ssyevdK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
 
+  public void ssyevd(String jobz, String uplo, int n, float[] a, int lda, float[] w, org.netlib.util.intW info) {
+    if (debug) System.err.println("ssyevd");
+    ssyevd(jobz, uplo, n, a, 0, lda, w, 0, info);
+  }
+
+  public void ssyevd(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, org.netlib.util.intW info) {
+    if (debug) System.err.println("ssyevd");
+    checkArgument("SSYEVD", 1, lsame("N", jobz) || lsame("V", jobz));
+    checkArgument("SSYEVD", 2, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SSYEVD", 3, n >= 0);
+    checkArgument("SSYEVD", 5, lda >= Math.max(1, n));
+    requireNonNull(info);
+    if (n > 0) {
+      requireNonNull(a);
+      requireNonNull(w);
+      checkIndex(offseta + (n - 1) * lda + (n - 1), a.length);
+      checkIndex(offsetw + n - 1, w.length);
+    }
+    ssyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, info);
+  }
+
+  protected void ssyevdK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, org.netlib.util.intW info) {
+    float[] query = new float[1];
+    int[] iquery = new int[1];
+    ssyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, query, 0, -1, iquery, 0, -1, info);
+    if (info.val == 0) {
+      int lwork = workspace(query[0]);
+      int liwork = Math.max(1, iquery[0]);
+      ssyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, new float[lwork], 0, lwork, new int[liwork], 0, liwork, info);
+    }
+  }
+
   public void ssyevr(String jobz, String range, String uplo, int n, float[] a, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, int[] isuppz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssyevr");
     ssyevr(jobz, range, uplo, n, a, 0, lda, vl, vu, il, iu, abstol, m, w, 0, z, 0, ldz, isuppz, 0, work, 0, lwork, iwork, 0, liwork, info);
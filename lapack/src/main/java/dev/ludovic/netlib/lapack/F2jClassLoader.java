@@ -0,0 +1,169 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Set;
+
+// Loads its own copy of the F2J LAPACK routines, in which every call to one of
+// the org.netlib.blas routines is redirected to JavaBLASBridge. The redirection
+// only rewrites the class names in the constant pool: the bridge methods have
+// the same names and descriptors as the F2J ones, so nothing else in the class
+// file needs to change.
+final class F2jClassLoader extends ClassLoader {
+
+  private static final String BRIDGE = JavaBLASBridge.class.getName().replace('.', '/');
+
+  private static final Set<String> redirected = new HashSet<>();
+
+  static {
+    registerAsParallelCapable();
+    for (Method m : JavaBLASBridge.class.getDeclaredMethods()) {
+      if (Modifier.isStatic(m.getModifiers()) && Modifier.isPublic(m.getModifiers())) {
+        String name = m.getName();
+        redirected.add("org/netlib/blas/" + Character.toUpperCase(name.charAt(0)) + name.substring(1));
+      }
+    }
+  }
+
+  F2jClassLoader(ClassLoader parent) {
+    super(parent);
+  }
+
+  // The LAPACK implementations are loaded again so that they link against the
+  // rewritten org.netlib.lapack classes. AbstractLAPACK is package-private, so
+  // it needs to be in the same runtime package as its subclasses.
+  private static boolean isRedefined(String name) {
+    return name.startsWith("org.netlib.lapack.")
+        || name.equals(AbstractLAPACK.class.getName())
+        || name.equals(F2jLAPACK.class.getName())
+        || name.equals(Java8LAPACK.class.getName());
+  }
+
+  @Override
+  protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+    if (!isRedefined(name)) {
+      return super.loadClass(name, resolve);
+    }
+    synchronized (getClassLoadingLock(name)) {
+      Class<?> c = findLoadedClass(name);
+      if (c == null) {
+        c = findClass(name);
+      }
+      if (resolve) {
+        resolveClass(c);
+      }
+      return c;
+    }
+  }
+
+  @Override
+  protected Class<?> findClass(String name) throws ClassNotFoundException {
+    try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+      if (in == null) {
+        throw new ClassNotFoundException(name);
+      }
+      byte[] b = rewrite(readAllBytes(in));
+      return defineClass(name, b, 0, b.length, F2jClassLoader.class.getProtectionDomain());
+    } catch (IOException e) {
+      throw new ClassNotFoundException(name, e);
+    }
+  }
+
+  private static byte[] readAllBytes(InputStream in) throws IOException {
+    //FIXME: switch to InputStream.readAllBytes when the minimum version becomes JDK 11
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buf = new byte[8192];
+    for (int len; (len = in.read(buf)) > 0; ) {
+      out.write(buf, 0, len);
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] rewrite(byte[] b) throws IOException {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(b));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(b.length);
+    DataOutputStream out = new DataOutputStream(bytes);
+    // magic, minor_version, major_version
+    out.writeInt(in.readInt());
+    out.writeShort(in.readUnsignedShort());
+    out.writeShort(in.readUnsignedShort());
+    int count = in.readUnsignedShort();
+    out.writeShort(count);
+    for (int i = 1; i < count; i += 1) {
+      int tag = in.readUnsignedByte();
+      out.writeByte(tag);
+      switch (tag) {
+      case 1: // CONSTANT_Utf8
+        String s = in.readUTF();
+        out.writeUTF(redirected.contains(s) ? BRIDGE : s);
+        break;
+      case 7: case 8: case 16: case 19: case 20: // Class, String, MethodType, Module, Package
+        copy(in, out, 2);
+        break;
+      case 15: // MethodHandle
+        copy(in, out, 3);
+        break;
+      case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18: // Integer, Float, refs, NameAndType, Dynamic, InvokeDynamic
+        copy(in, out, 4);
+        break;
+      case 5: case 6: // Long, Double take two entries
+        copy(in, out, 8);
+        i += 1;
+        break;
+      default:
+        throw new IOException("Unknown constant pool tag " + tag);
+      }
+    }
+    // the rest of the class file only refers to the constant pool by index
+    copy(in, out, in.available());
+    out.flush();
+    return bytes.toByteArray();
+  }
+
+  private static void copy(DataInputStream in, DataOutputStream out, int len) throws IOException {
+    byte[] buf = new byte[len];
+    in.readFully(buf);
+    out.write(buf);
+  }
+
+  static JavaLAPACK javaLapack() throws ReflectiveOperationException {
+    ClassLoader parent = F2jClassLoader.class.getClassLoader();
+    Class<?> c = Class.forName(Java8LAPACK.class.getName(), true, new F2jClassLoader(parent));
+    Method getInstance = c.getMethod("getInstance");
+    // Java8LAPACK is package-private, and this copy lives in a different runtime package
+    getInstance.setAccessible(true);
+    return (JavaLAPACK)getInstance.invoke(null);
+  }
+}
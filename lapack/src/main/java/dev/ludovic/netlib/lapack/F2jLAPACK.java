@@ -25,7 +25,7 @@
 
 package dev.ludovic.netlib.lapack;
 
-final class F2jLAPACK extends AbstractLAPACK implements JavaLAPACK {
+class F2jLAPACK extends AbstractLAPACK implements JavaLAPACK {
 
   private static final F2jLAPACK instance = new F2jLAPACK();
 
@@ -56,6 +56,27 @@ final class InstanceBuilder {
   }
 
   private static NativeLAPACK initializeNative() {
+    String[] fullVersion = System.getProperty("java.version").split("[+.\\-]+", 2);
+    int major = Integer.parseInt(fullVersion[0]);
+    if (Offload.enabled()) {
+      // FFM downcalls pin the carrier thread just like JNI ones, but only the JNI binding offloads them
+      try {
+        return OffloadingJNILAPACK.getInstance();
+      } catch (Throwable t) {
+        log.log(Level.FINE, "Failed to load implementation from: " + OffloadingJNILAPACK.class.getName(), t);
+      }
+    }
+    // Opt-in until the FFM binding is built, tested, and benchmarked on JDK 22+
+    if (major >= 22 && Boolean.getBoolean(LAPACK.FFM_LAPACK)) {
+      // FFMLAPACK is only compiled on JDK 22+ (see the ffm profile), hence the lookup by name
+      String ffm = "dev.ludovic.netlib.lapack.FFMLAPACK";
+      try {
+        log.finest("trying to return java 22 instance");
+        return (NativeLAPACK)Class.forName(ffm).getMethod("getInstance").invoke(null);
+      } catch (Throwable t) {
+        log.log(Level.FINE, "Failed to load implementation from: " + ffm, t);
+      }
+    }
     try {
       return JNILAPACK.getInstance();
     } catch (Throwable t) {
@@ -72,7 +93,12 @@ final class InstanceBuilder {
   }
 
   private static JavaLAPACK initializeJava() {
-    return F2jLAPACK.getInstance();
+    try {
+      return F2jClassLoader.javaLapack();
+    } catch (Throwable t) {
+      log.log(Level.FINE, "Failed to redirect F2J BLAS calls to " + JavaBLASBridge.class.getName(), t);
+      return Java8LAPACK.getInstance();
+    }
   }
 
   public static JavaLAPACK javaLapack() {
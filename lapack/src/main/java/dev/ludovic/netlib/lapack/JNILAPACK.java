@@ -25,21 +25,18 @@
 
 package dev.ludovic.netlib.lapack;
 
-import java.io.InputStream;
-import java.io.UncheckedIOException;
-import java.io.IOException;
-import java.nio.file.FileSystems;
-import java.nio.file.Files;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.FileAttribute;
-import java.nio.file.attribute.PosixFilePermissions;
 
-final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
+import dev.ludovic.netlib.blas.NativeLibraryCache;
 
-  private static final JNILAPACK instance = new JNILAPACK();
+class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
-  protected JNILAPACK() {
+  // Loaded once for the class rather than in the constructor, which also runs for subclasses
+  static {
     String osName = System.getProperty("os.name");
     if (osName == null || osName.isEmpty()) {
         throw new RuntimeException("Unable to load native implementation");
@@ -59,25 +56,19 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
     String libExtension = osName.equals("macos") ? ".dylib" : isWindows ? ".dll" : ".so";
     String libName = libPrefix + libExtension;
 
-    FileAttribute<?>[] attrs = FileSystems.getDefault()
-        .supportedFileAttributeViews().contains("posix")
-        ? new FileAttribute<?>[]{ PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwxr-x---")) }
-        : new FileAttribute<?>[0];
-
-    Path temp;
-    try (InputStream resource = this.getClass().getClassLoader().getResourceAsStream(
-            String.format("resources/native/%s-%s/%s", osName, osArch, libName))) {
-      assert resource != null;
-      Files.copy(resource, temp = Files.createTempFile(libPrefix, libExtension, attrs),
-                  StandardCopyOption.REPLACE_EXISTING);
-      temp.toFile().deleteOnExit();
-    } catch (IOException e) {
-      throw new UncheckedIOException("Unable to load native implementation", e);
-    }
+    Path lib = NativeLibraryCache.extract(JNILAPACK.class.getClassLoader(),
+        String.format("resources/native/%s-%s/%s", osName, osArch, libName), libPrefix, libExtension, LAPACK.NATIVE_CACHE_DIR);
 
-    System.load(temp.toString());
+    System.load(lib.toString());
   }
 
+  private static final JNILAPACK instance = new JNILAPACK();
+
+  // Whether the native library exports the LAPACKE row-major entry points
+  private final boolean lapacke = lapackeK();
+
+  protected JNILAPACK() {}
+
   public static NativeLAPACK getInstance() {
     return instance;
   }
@@ -1527,4 +1518,275 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
   protected native void slamc4K(org.netlib.util.intW emin, float start, int base);
 
   protected native void slamc5K(int beta, int p, int emin, boolean ieee, org.netlib.util.intW emax, org.netlib.util.floatW rmax);
+
+  // Direct buffers in the native byte order are handed to the native library as is, the others are copied
+  private static boolean isDirect(DoubleBuffer buffer) {
+    return buffer.isDirect() && buffer.order() == ByteOrder.nativeOrder();
+  }
+
+  private static boolean isDirect(FloatBuffer buffer) {
+    return buffer.isDirect() && buffer.order() == ByteOrder.nativeOrder();
+  }
+
+  private static boolean isDirect(IntBuffer buffer) {
+    return buffer.isDirect() && buffer.order() == ByteOrder.nativeOrder();
+  }
+
+  protected void dgesvK(int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isDirect(a) && isDirect(ipiv) && isDirect(b)) {
+      dgesvDirectK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    } else {
+      super.dgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void dgesvDirectK(int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
+  protected void dgetrfK(int m, int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (isDirect(a) && isDirect(ipiv)) {
+      dgetrfDirectK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    } else {
+      super.dgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    }
+  }
+
+  private native void dgetrfDirectK(int m, int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info);
+
+  protected void dgetrsK(String trans, int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isDirect(a) && isDirect(ipiv) && isDirect(b)) {
+      dgetrsDirectK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    } else {
+      super.dgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void dgetrsDirectK(String trans, int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
+  protected void dposvK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isDirect(a) && isDirect(b)) {
+      dposvDirectK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    } else {
+      super.dposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void dposvDirectK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
+  protected void dpotrfK(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (isDirect(a)) {
+      dpotrfDirectK(uplo, n, a, offseta, lda, info);
+    } else {
+      super.dpotrfK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  private native void dpotrfDirectK(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info);
+
+  protected void dpotrsK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isDirect(a) && isDirect(b)) {
+      dpotrsDirectK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    } else {
+      super.dpotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void dpotrsDirectK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
+  protected void sgesvK(int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isDirect(a) && isDirect(ipiv) && isDirect(b)) {
+      sgesvDirectK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    } else {
+      super.sgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void sgesvDirectK(int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
+  protected void sgetrfK(int m, int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (isDirect(a) && isDirect(ipiv)) {
+      sgetrfDirectK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    } else {
+      super.sgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    }
+  }
+
+  private native void sgetrfDirectK(int m, int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info);
+
+  protected void sgetrsK(String trans, int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isDirect(a) && isDirect(ipiv) && isDirect(b)) {
+      sgetrsDirectK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    } else {
+      super.sgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void sgetrsDirectK(String trans, int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
+  protected void sposvK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isDirect(a) && isDirect(b)) {
+      sposvDirectK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    } else {
+      super.sposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void sposvDirectK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
+  protected void spotrfK(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (isDirect(a)) {
+      spotrfDirectK(uplo, n, a, offseta, lda, info);
+    } else {
+      super.spotrfK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  private native void spotrfDirectK(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info);
+
+  protected void spotrsK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isDirect(a) && isDirect(b)) {
+      spotrsDirectK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    } else {
+      super.spotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void spotrsDirectK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
+  // Queries and allocates the workspace in the same native call as the computation
+  protected void dgeevK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW info) {
+    dgeevAllocK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, info);
+  }
+
+  private native void dgeevAllocK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW info);
+
+  protected void dgelsK(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dgelsAllocK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  private native void dgelsAllocK(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
+
+  protected void dgesddK(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    dgesddAllocK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+  }
+
+  private native void dgesddAllocK(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, org.netlib.util.intW info);
+
+  protected void dgesvdK(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    dgesvdAllocK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+  }
+
+  private native void dgesvdAllocK(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, org.netlib.util.intW info);
+
+  protected void dsyevK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, org.netlib.util.intW info) {
+    dsyevAllocK(jobz, uplo, n, a, offseta, lda, w, offsetw, info);
+  }
+
+  private native void dsyevAllocK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, org.netlib.util.intW info);
+
+  protected void dsyevdK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, org.netlib.util.intW info) {
+    dsyevdAllocK(jobz, uplo, n, a, offseta, lda, w, offsetw, info);
+  }
+
+  private native void dsyevdAllocK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, org.netlib.util.intW info);
+
+  protected void sgeevK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW info) {
+    sgeevAllocK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, info);
+  }
+
+  private native void sgeevAllocK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW info);
+
+  protected void sgelsK(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    sgelsAllocK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  private native void sgelsAllocK(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
+
+  protected void sgesddK(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    sgesddAllocK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+  }
+
+  private native void sgesddAllocK(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, org.netlib.util.intW info);
+
+  protected void sgesvdK(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    sgesvdAllocK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+  }
+
+  private native void sgesvdAllocK(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, org.netlib.util.intW info);
+
+  protected void ssyevK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, org.netlib.util.intW info) {
+    ssyevAllocK(jobz, uplo, n, a, offseta, lda, w, offsetw, info);
+  }
+
+  private native void ssyevAllocK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, org.netlib.util.intW info);
+
+  protected void ssyevdK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, org.netlib.util.intW info) {
+    ssyevdAllocK(jobz, uplo, n, a, offseta, lda, w, offsetw, info);
+  }
+
+  private native void ssyevdAllocK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, org.netlib.util.intW info);
+
+  // Calls the row-major entry points of LAPACKE when the native library exports
+  // them, and otherwise transposes around the column-major routines
+
+  private native boolean lapackeK();
+
+  protected void dgesvRowMajorK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (lapacke) {
+      info.val = lapackeDgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb);
+    } else {
+      super.dgesvRowMajorK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  private native int lapackeDgesvK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb);
+
+  protected void dposvRowMajorK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (lapacke) {
+      info.val = lapackeDposvK(uplo.charAt(0), n, nrhs, a, offseta, lda, b, offsetb, ldb);
+    } else {
+      super.dposvRowMajorK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  private native int lapackeDposvK(char uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb);
+
+  protected void dsyevRowMajorK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (lapacke) {
+      info.val = lapackeDsyevK(jobz.charAt(0), uplo.charAt(0), n, a, offseta, lda, w, offsetw, work, offsetwork, lwork);
+    } else {
+      super.dsyevRowMajorK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native int lapackeDsyevK(char jobz, char uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork);
+
+  protected void sgesvRowMajorK(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (lapacke) {
+      info.val = lapackeSgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb);
+    } else {
+      super.sgesvRowMajorK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  private native int lapackeSgesvK(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb);
+
+  protected void sposvRowMajorK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (lapacke) {
+      info.val = lapackeSposvK(uplo.charAt(0), n, nrhs, a, offseta, lda, b, offsetb, ldb);
+    } else {
+      super.sposvRowMajorK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  private native int lapackeSposvK(char uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb);
+
+  protected void ssyevRowMajorK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (lapacke) {
+      info.val = lapackeSsyevK(jobz.charAt(0), uplo.charAt(0), n, a, offseta, lda, w, offsetw, work, offsetwork, lwork);
+    } else {
+      super.ssyevRowMajorK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native int lapackeSsyevK(char jobz, char uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork);
 }
@@ -0,0 +1,457 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import dev.ludovic.netlib.blas.JavaBLAS;
+
+class Java8LAPACK extends F2jLAPACK {
+
+  private static final Java8LAPACK instance = new Java8LAPACK();
+
+  // The routines ported from F2J are built on top of the pure-Java BLAS, so
+  // that they benefit from its blocked, vectorized and threaded kernels
+  protected static final JavaBLAS blas = JavaBLAS.getInstance();
+
+  protected Java8LAPACK() {}
+
+  public static JavaLAPACK getInstance() {
+    return instance;
+  }
+
+  protected void dgetrfK(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    // Right-looking blocked LU factorization, as in dgetrf.f: factor a panel
+    // of nb columns, apply its row interchanges to the rest of a, compute the
+    // block row of U with dtrsm, and update the trailing matrix with dgemm
+    final int nb = 64;
+
+    info.val = 0;
+    int mn = Math.min(m, n);
+    if (mn <= nb) {
+      dgetrfPanel(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+      return;
+    }
+    org.netlib.util.intW iinfo = new org.netlib.util.intW(0);
+    for (int j = 0; j < mn; j += nb) {
+      int jb = Math.min(mn - j, nb);
+      // factor the diagonal and subdiagonal blocks and test for exact singularity
+      dgetrfPanel(m - j, jb, a, offseta + j + j * lda, lda, ipiv, offsetipiv + j, iinfo);
+      if (info.val == 0 && iinfo.val > 0) {
+        info.val = iinfo.val + j;
+      }
+      // adjust the pivot indices
+      for (int i = j; i < Math.min(m, j + jb); i += 1) {
+        ipiv[offsetipiv + i] += j;
+      }
+      // apply interchanges to columns 0:j
+      dlaswp(j, a, offseta, lda, j, j + jb, ipiv, offsetipiv);
+      if (j + jb < n) {
+        // apply interchanges to columns j+jb:n
+        dlaswp(n - j - jb, a, offseta + (j + jb) * lda, lda, j, j + jb, ipiv, offsetipiv);
+        // compute block row of U
+        blas.dtrsm("L", "L", "N", "U", jb, n - j - jb, 1.0, a, offseta + j + j * lda, lda, a, offseta + j + (j + jb) * lda, lda);
+        if (j + jb < m) {
+          // update trailing submatrix
+          blas.dgemm("N", "N", m - j - jb, n - j - jb, jb, -1.0, a, offseta + (j + jb) + j * lda, lda, a, offseta + j + (j + jb) * lda, lda,
+                     1.0, a, offseta + (j + jb) + (j + jb) * lda, lda);
+        }
+      }
+    }
+  }
+
+  // Unblocked LU factorization of a panel, as in dgetf2.f
+  private void dgetrfPanel(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    final double sfmin = Double.MIN_NORMAL;
+
+    info.val = 0;
+    for (int j = 0; j < Math.min(m, n); j += 1) {
+      // find pivot and test for singularity
+      int jp = j + blas.idamax(m - j, a, offseta + j + j * lda, 1);
+      ipiv[offsetipiv + j] = jp + 1;
+      if (a[offseta + jp + j * lda] != 0.0) {
+        // apply the interchange to columns 0:n
+        if (jp != j) {
+          blas.dswap(n, a, offseta + j, lda, a, offseta + jp, lda);
+        }
+        // compute elements j+1:m of j-th column
+        if (j < m - 1) {
+          if (Math.abs(a[offseta + j + j * lda]) >= sfmin) {
+            blas.dscal(m - j - 1, 1.0 / a[offseta + j + j * lda], a, offseta + (j + 1) + j * lda, 1);
+          } else {
+            for (int i = j + 1; i < m; i += 1) {
+              a[offseta + i + j * lda] = a[offseta + i + j * lda] / a[offseta + j + j * lda];
+            }
+          }
+        }
+      } else if (info.val == 0) {
+        info.val = j + 1;
+      }
+      if (j < Math.min(m, n) - 1) {
+        // update trailing submatrix
+        blas.dger(m - j - 1, n - j - 1, -1.0, a, offseta + (j + 1) + j * lda, 1, a, offseta + j + (j + 1) * lda, lda,
+                  a, offseta + (j + 1) + (j + 1) * lda, lda);
+      }
+    }
+  }
+
+  // Apply the row interchanges k1:k2 to the n columns of a, as in dlaswp.f
+  private void dlaswp(int n, double[] a, int offseta, int lda, int k1, int k2, int[] ipiv, int offsetipiv) {
+    for (int col = 0; col < n; col += 1) {
+      for (int i = k1; i < k2; i += 1) {
+        int ip = ipiv[offsetipiv + i] - 1;
+        if (ip != i) {
+          double temp = a[offseta + i + col * lda];
+          a[offseta + i + col * lda] = a[offseta + ip + col * lda];
+          a[offseta + ip + col * lda] = temp;
+        }
+      }
+    }
+  }
+
+  protected void dposvK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    // compute the Cholesky factorization of a, then solve a * x = b in place
+    dpotrfK(uplo, n, a, offseta, lda, info);
+    if (info.val == 0) {
+      dpotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void dpotrfK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    // Blocked Cholesky factorization, as in dpotrf.f: update the diagonal
+    // block with dsyrk, factor it, then compute the rest of its block row
+    // (or column) with dgemm and dtrsm
+    final int nb = 64;
+
+    info.val = 0;
+    if (n <= nb) {
+      dpotrfPanel(uplo, n, a, offseta, lda, info);
+      return;
+    }
+    org.netlib.util.intW iinfo = new org.netlib.util.intW(0);
+    if (lsame("U", uplo)) {
+      // compute a = U**T * U
+      for (int j = 0; j < n; j += nb) {
+        int jb = Math.min(n - j, nb);
+        if (j > 0) {
+          blas.dsyrk("U", "T", jb, j, -1.0, a, offseta + j * lda, lda, 1.0, a, offseta + j + j * lda, lda);
+        }
+        dpotrfPanel("U", jb, a, offseta + j + j * lda, lda, iinfo);
+        if (iinfo.val > 0) {
+          info.val = iinfo.val + j;
+          return;
+        }
+        if (j + jb < n) {
+          if (j > 0) {
+            blas.dgemm("T", "N", jb, n - j - jb, j, -1.0, a, offseta + j * lda, lda, a, offseta + (j + jb) * lda, lda,
+                       1.0, a, offseta + j + (j + jb) * lda, lda);
+          }
+          blas.dtrsm("L", "U", "T", "N", jb, n - j - jb, 1.0, a, offseta + j + j * lda, lda, a, offseta + j + (j + jb) * lda, lda);
+        }
+      }
+    } else {
+      // compute a = L * L**T
+      for (int j = 0; j < n; j += nb) {
+        int jb = Math.min(n - j, nb);
+        if (j > 0) {
+          blas.dsyrk("L", "N", jb, j, -1.0, a, offseta + j, lda, 1.0, a, offseta + j + j * lda, lda);
+        }
+        dpotrfPanel("L", jb, a, offseta + j + j * lda, lda, iinfo);
+        if (iinfo.val > 0) {
+          info.val = iinfo.val + j;
+          return;
+        }
+        if (j + jb < n) {
+          if (j > 0) {
+            blas.dgemm("N", "T", n - j - jb, jb, j, -1.0, a, offseta + (j + jb), lda, a, offseta + j, lda,
+                       1.0, a, offseta + (j + jb) + j * lda, lda);
+          }
+          blas.dtrsm("R", "L", "T", "N", n - j - jb, jb, 1.0, a, offseta + j + j * lda, lda, a, offseta + (j + jb) + j * lda, lda);
+        }
+      }
+    }
+  }
+
+  // Unblocked Cholesky factorization of a diagonal block, as in dpotf2.f
+  private void dpotrfPanel(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    info.val = 0;
+    if (lsame("U", uplo)) {
+      for (int j = 0; j < n; j += 1) {
+        // compute U(j,j) and test for non-positive-definiteness
+        double ajj = a[offseta + j + j * lda] - blas.ddot(j, a, offseta + j * lda, 1, a, offseta + j * lda, 1);
+        if (ajj <= 0.0 || Double.isNaN(ajj)) {
+          a[offseta + j + j * lda] = ajj;
+          info.val = j + 1;
+          return;
+        }
+        ajj = Math.sqrt(ajj);
+        a[offseta + j + j * lda] = ajj;
+        // compute elements j+1:n of row j
+        if (j < n - 1) {
+          blas.dgemv("T", j, n - j - 1, -1.0, a, offseta + (j + 1) * lda, lda, a, offseta + j * lda, 1,
+                     1.0, a, offseta + j + (j + 1) * lda, lda);
+          blas.dscal(n - j - 1, 1.0 / ajj, a, offseta + j + (j + 1) * lda, lda);
+        }
+      }
+    } else {
+      for (int j = 0; j < n; j += 1) {
+        // compute L(j,j) and test for non-positive-definiteness
+        double ajj = a[offseta + j + j * lda] - blas.ddot(j, a, offseta + j, lda, a, offseta + j, lda);
+        if (ajj <= 0.0 || Double.isNaN(ajj)) {
+          a[offseta + j + j * lda] = ajj;
+          info.val = j + 1;
+          return;
+        }
+        ajj = Math.sqrt(ajj);
+        a[offseta + j + j * lda] = ajj;
+        // compute elements j+1:n of column j
+        if (j < n - 1) {
+          blas.dgemv("N", n - j - 1, j, -1.0, a, offseta + (j + 1), lda, a, offseta + j, lda,
+                     1.0, a, offseta + (j + 1) + j * lda, 1);
+          blas.dscal(n - j - 1, 1.0 / ajj, a, offseta + (j + 1) + j * lda, 1);
+        }
+      }
+    }
+  }
+
+  protected void dpotrsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    info.val = 0;
+    if (lsame("U", uplo)) {
+      // solve U**T * U * x = b
+      blas.dtrsm("L", "U", "T", "N", n, nrhs, 1.0, a, offseta, lda, b, offsetb, ldb);
+      blas.dtrsm("L", "U", "N", "N", n, nrhs, 1.0, a, offseta, lda, b, offsetb, ldb);
+    } else {
+      // solve L * L**T * x = b
+      blas.dtrsm("L", "L", "N", "N", n, nrhs, 1.0, a, offseta, lda, b, offsetb, ldb);
+      blas.dtrsm("L", "L", "T", "N", n, nrhs, 1.0, a, offseta, lda, b, offsetb, ldb);
+    }
+  }
+
+  protected void sgetrfK(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    // Right-looking blocked LU factorization, as in sgetrf.f: factor a panel
+    // of nb columns, apply its row interchanges to the rest of a, compute the
+    // block row of U with strsm, and update the trailing matrix with sgemm
+    final int nb = 64;
+
+    info.val = 0;
+    int mn = Math.min(m, n);
+    if (mn <= nb) {
+      sgetrfPanel(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+      return;
+    }
+    org.netlib.util.intW iinfo = new org.netlib.util.intW(0);
+    for (int j = 0; j < mn; j += nb) {
+      int jb = Math.min(mn - j, nb);
+      // factor the diagonal and subdiagonal blocks and test for exact singularity
+      sgetrfPanel(m - j, jb, a, offseta + j + j * lda, lda, ipiv, offsetipiv + j, iinfo);
+      if (info.val == 0 && iinfo.val > 0) {
+        info.val = iinfo.val + j;
+      }
+      // adjust the pivot indices
+      for (int i = j; i < Math.min(m, j + jb); i += 1) {
+        ipiv[offsetipiv + i] += j;
+      }
+      // apply interchanges to columns 0:j
+      slaswp(j, a, offseta, lda, j, j + jb, ipiv, offsetipiv);
+      if (j + jb < n) {
+        // apply interchanges to columns j+jb:n
+        slaswp(n - j - jb, a, offseta + (j + jb) * lda, lda, j, j + jb, ipiv, offsetipiv);
+        // compute block row of U
+        blas.strsm("L", "L", "N", "U", jb, n - j - jb, 1.0f, a, offseta + j + j * lda, lda, a, offseta + j + (j + jb) * lda, lda);
+        if (j + jb < m) {
+          // update trailing submatrix
+          blas.sgemm("N", "N", m - j - jb, n - j - jb, jb, -1.0f, a, offseta + (j + jb) + j * lda, lda, a, offseta + j + (j + jb) * lda, lda,
+                     1.0f, a, offseta + (j + jb) + (j + jb) * lda, lda);
+        }
+      }
+    }
+  }
+
+  // Unblocked LU factorization of a panel, as in sgetf2.f
+  private void sgetrfPanel(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    final float sfmin = Float.MIN_NORMAL;
+
+    info.val = 0;
+    for (int j = 0; j < Math.min(m, n); j += 1) {
+      // find pivot and test for singularity
+      int jp = j + blas.isamax(m - j, a, offseta + j + j * lda, 1);
+      ipiv[offsetipiv + j] = jp + 1;
+      if (a[offseta + jp + j * lda] != 0.0f) {
+        // apply the interchange to columns 0:n
+        if (jp != j) {
+          blas.sswap(n, a, offseta + j, lda, a, offseta + jp, lda);
+        }
+        // compute elements j+1:m of j-th column
+        if (j < m - 1) {
+          if (Math.abs(a[offseta + j + j * lda]) >= sfmin) {
+            blas.sscal(m - j - 1, 1.0f / a[offseta + j + j * lda], a, offseta + (j + 1) + j * lda, 1);
+          } else {
+            for (int i = j + 1; i < m; i += 1) {
+              a[offseta + i + j * lda] = a[offseta + i + j * lda] / a[offseta + j + j * lda];
+            }
+          }
+        }
+      } else if (info.val == 0) {
+        info.val = j + 1;
+      }
+      if (j < Math.min(m, n) - 1) {
+        // update trailing submatrix
+        blas.sger(m - j - 1, n - j - 1, -1.0f, a, offseta + (j + 1) + j * lda, 1, a, offseta + j + (j + 1) * lda, lda,
+                  a, offseta + (j + 1) + (j + 1) * lda, lda);
+      }
+    }
+  }
+
+  // Apply the row interchanges k1:k2 to the n columns of a, as in slaswp.f
+  private void slaswp(int n, float[] a, int offseta, int lda, int k1, int k2, int[] ipiv, int offsetipiv) {
+    for (int col = 0; col < n; col += 1) {
+      for (int i = k1; i < k2; i += 1) {
+        int ip = ipiv[offsetipiv + i] - 1;
+        if (ip != i) {
+          float temp = a[offseta + i + col * lda];
+          a[offseta + i + col * lda] = a[offseta + ip + col * lda];
+          a[offseta + ip + col * lda] = temp;
+        }
+      }
+    }
+  }
+
+  protected void sposvK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    // compute the Cholesky factorization of a, then solve a * x = b in place
+    spotrfK(uplo, n, a, offseta, lda, info);
+    if (info.val == 0) {
+      spotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void spotrfK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    // Blocked Cholesky factorization, as in spotrf.f: update the diagonal
+    // block with ssyrk, factor it, then compute the rest of its block row
+    // (or column) with sgemm and strsm
+    final int nb = 64;
+
+    info.val = 0;
+    if (n <= nb) {
+      spotrfPanel(uplo, n, a, offseta, lda, info);
+      return;
+    }
+    org.netlib.util.intW iinfo = new org.netlib.util.intW(0);
+    if (lsame("U", uplo)) {
+      // compute a = U**T * U
+      for (int j = 0; j < n; j += nb) {
+        int jb = Math.min(n - j, nb);
+        if (j > 0) {
+          blas.ssyrk("U", "T", jb, j, -1.0f, a, offseta + j * lda, lda, 1.0f, a, offseta + j + j * lda, lda);
+        }
+        spotrfPanel("U", jb, a, offseta + j + j * lda, lda, iinfo);
+        if (iinfo.val > 0) {
+          info.val = iinfo.val + j;
+          return;
+        }
+        if (j + jb < n) {
+          if (j > 0) {
+            blas.sgemm("T", "N", jb, n - j - jb, j, -1.0f, a, offseta + j * lda, lda, a, offseta + (j + jb) * lda, lda,
+                       1.0f, a, offseta + j + (j + jb) * lda, lda);
+          }
+          blas.strsm("L", "U", "T", "N", jb, n - j - jb, 1.0f, a, offseta + j + j * lda, lda, a, offseta + j + (j + jb) * lda, lda);
+        }
+      }
+    } else {
+      // compute a = L * L**T
+      for (int j = 0; j < n; j += nb) {
+        int jb = Math.min(n - j, nb);
+        if (j > 0) {
+          blas.ssyrk("L", "N", jb, j, -1.0f, a, offseta + j, lda, 1.0f, a, offseta + j + j * lda, lda);
+        }
+        spotrfPanel("L", jb, a, offseta + j + j * lda, lda, iinfo);
+        if (iinfo.val > 0) {
+          info.val = iinfo.val + j;
+          return;
+        }
+        if (j + jb < n) {
+          if (j > 0) {
+            blas.sgemm("N", "T", n - j - jb, jb, j, -1.0f, a, offseta + (j + jb), lda, a, offseta + j, lda,
+                       1.0f, a, offseta + (j + jb) + j * lda, lda);
+          }
+          blas.strsm("R", "L", "T", "N", n - j - jb, jb, 1.0f, a, offseta + j + j * lda, lda, a, offseta + (j + jb) + j * lda, lda);
+        }
+      }
+    }
+  }
+
+  // Unblocked Cholesky factorization of a diagonal block, as in spotf2.f
+  private void spotrfPanel(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    info.val = 0;
+    if (lsame("U", uplo)) {
+      for (int j = 0; j < n; j += 1) {
+        // compute U(j,j) and test for non-positive-definiteness
+        float ajj = a[offseta + j + j * lda] - blas.sdot(j, a, offseta + j * lda, 1, a, offseta + j * lda, 1);
+        if (ajj <= 0.0f || Float.isNaN(ajj)) {
+          a[offseta + j + j * lda] = ajj;
+          info.val = j + 1;
+          return;
+        }
+        ajj = (float)Math.sqrt(ajj);
+        a[offseta + j + j * lda] = ajj;
+        // compute elements j+1:n of row j
+        if (j < n - 1) {
+          blas.sgemv("T", j, n - j - 1, -1.0f, a, offseta + (j + 1) * lda, lda, a, offseta + j * lda, 1,
+                     1.0f, a, offseta + j + (j + 1) * lda, lda);
+          blas.sscal(n - j - 1, 1.0f / ajj, a, offseta + j + (j + 1) * lda, lda);
+        }
+      }
+    } else {
+      for (int j = 0; j < n; j += 1) {
+        // compute L(j,j) and test for non-positive-definiteness
+        float ajj = a[offseta + j + j * lda] - blas.sdot(j, a, offseta + j, lda, a, offseta + j, lda);
+        if (ajj <= 0.0f || Float.isNaN(ajj)) {
+          a[offseta + j + j * lda] = ajj;
+          info.val = j + 1;
+          return;
+        }
+        ajj = (float)Math.sqrt(ajj);
+        a[offseta + j + j * lda] = ajj;
+        // compute elements j+1:n of column j
+        if (j < n - 1) {
+          blas.sgemv("N", n - j - 1, j, -1.0f, a, offseta + (j + 1), lda, a, offseta + j, lda,
+                     1.0f, a, offseta + (j + 1) + j * lda, 1);
+          blas.sscal(n - j - 1, 1.0f / ajj, a, offseta + (j + 1) + j * lda, 1);
+        }
+      }
+    }
+  }
+
+  protected void spotrsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    info.val = 0;
+    if (lsame("U", uplo)) {
+      // solve U**T * U * x = b
+      blas.strsm("L", "U", "T", "N", n, nrhs, 1.0f, a, offseta, lda, b, offsetb, ldb);
+      blas.strsm("L", "U", "N", "N", n, nrhs, 1.0f, a, offseta, lda, b, offsetb, ldb);
+    } else {
+      // solve L * L**T * x = b
+      blas.strsm("L", "L", "N", "N", n, nrhs, 1.0f, a, offseta, lda, b, offsetb, ldb);
+      blas.strsm("L", "L", "T", "N", n, nrhs, 1.0f, a, offseta, lda, b, offsetb, ldb);
+    }
+  }
+}
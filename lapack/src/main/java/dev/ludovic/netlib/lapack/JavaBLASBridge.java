@@ -0,0 +1,293 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import dev.ludovic.netlib.blas.JavaBLAS;
+
+/**
+ * Drop-in replacement for the {@code org.netlib.blas} classes called by the
+ * F2J LAPACK routines, forwarding them to {@link JavaBLAS}.
+ *
+ * <p>This class is not part of the public API. It is only public so that the
+ * {@code org.netlib.lapack} classes rewritten by {@code F2jClassLoader} can
+ * link against it.</p>
+ */
+public final class JavaBLASBridge {
+
+  private static final JavaBLAS blas = JavaBLAS.getInstance();
+
+  private JavaBLASBridge() {}
+
+  public static double dasum(int n, double[] x, int offsetx, int incx) {
+    return blas.dasum(n, x, offsetx, incx);
+  }
+
+  public static float sasum(int n, float[] x, int offsetx, int incx) {
+    return blas.sasum(n, x, offsetx, incx);
+  }
+
+  public static void daxpy(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    blas.daxpy(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public static void saxpy(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    blas.saxpy(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public static void dcopy(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    blas.dcopy(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public static void scopy(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    blas.scopy(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public static double ddot(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    return blas.ddot(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public static float sdot(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    return blas.sdot(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public static void dgbmv(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    blas.dgbmv(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public static void sgbmv(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    blas.sgbmv(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public static void dgemm(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    blas.dgemm(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  public static void sgemm(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int Ldc) {
+    blas.sgemm(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+  }
+
+  public static void dgemv(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    blas.dgemv(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public static void sgemv(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    blas.sgemv(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public static void dger(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    blas.dger(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  public static void sger(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    blas.sger(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  public static double dnrm2(int n, double[] x, int offsetx, int incx) {
+    return blas.dnrm2(n, x, offsetx, incx);
+  }
+
+  public static float snrm2(int n, float[] x, int offsetx, int incx) {
+    return blas.snrm2(n, x, offsetx, incx);
+  }
+
+  public static void drot(int n, double[] dx, int offsetdx, int incx, double[] dy, int offsetdy, int incy, double c, double s) {
+    blas.drot(n, dx, offsetdx, incx, dy, offsetdy, incy, c, s);
+  }
+
+  public static void srot(int n, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy, float c, float s) {
+    blas.srot(n, sx, offsetsx, incx, sy, offsetsy, incy, c, s);
+  }
+
+  public static void dsbmv(String uplo, int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    blas.dsbmv(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public static void ssbmv(String uplo, int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    blas.ssbmv(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public static void dscal(int n, double alpha, double[] x, int offsetx, int incx) {
+    blas.dscal(n, alpha, x, offsetx, incx);
+  }
+
+  public static void sscal(int n, float alpha, float[] x, int offsetx, int incx) {
+    blas.sscal(n, alpha, x, offsetx, incx);
+  }
+
+  public static void dspmv(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    blas.dspmv(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public static void sspmv(String uplo, int n, float alpha, float[] ap, int offsetap, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    blas.sspmv(uplo, n, alpha, ap, offsetap, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public static void dspr(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta) {
+    blas.dspr(uplo, n, alpha, x, offsetx, incx, a, offseta);
+  }
+
+  public static void sspr(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] ap, int offsetap) {
+    blas.sspr(uplo, n, alpha, x, offsetx, incx, ap, offsetap);
+  }
+
+  public static void dspr2(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] ap, int offsetap) {
+    blas.dspr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, ap, offsetap);
+  }
+
+  public static void sspr2(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] ap, int offsetap) {
+    blas.sspr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, ap, offsetap);
+  }
+
+  public static void dswap(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    blas.dswap(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public static void sswap(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    blas.sswap(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  public static void dsymm(String side, String uplo, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int Ldc) {
+    blas.dsymm(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+  }
+
+  public static void ssymm(String side, String uplo, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int Ldc) {
+    blas.ssymm(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+  }
+
+  public static void dsymv(String uplo, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    blas.dsymv(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public static void ssymv(String uplo, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    blas.ssymv(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public static void dsyr(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta, int lda) {
+    blas.dsyr(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+  }
+
+  public static void ssyr(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta, int lda) {
+    blas.ssyr(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+  }
+
+  public static void dsyr2(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    blas.dsyr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  public static void ssyr2(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    blas.ssyr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  public static void dsyr2k(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int Ldc) {
+    blas.dsyr2k(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+  }
+
+  public static void ssyr2k(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int Ldc) {
+    blas.ssyr2k(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, Ldc);
+  }
+
+  public static void dsyrk(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int Ldc) {
+    blas.dsyrk(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, Ldc);
+  }
+
+  public static void ssyrk(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int Ldc) {
+    blas.ssyrk(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, Ldc);
+  }
+
+  public static void dtbmv(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    blas.dtbmv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public static void stbmv(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    blas.stbmv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public static void dtbsv(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    blas.dtbsv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public static void stbsv(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    blas.stbsv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public static void dtpmv(String uplo, String trans, String diag, int n, double[] ap, int offsetap, double[] x, int offsetx, int incx) {
+    blas.dtpmv(uplo, trans, diag, n, ap, offsetap, x, offsetx, incx);
+  }
+
+  public static void stpmv(String uplo, String trans, String diag, int n, float[] ap, int offsetap, float[] x, int offsetx, int incx) {
+    blas.stpmv(uplo, trans, diag, n, ap, offsetap, x, offsetx, incx);
+  }
+
+  public static void dtpsv(String uplo, String trans, String diag, int n, double[] ap, int offsetap, double[] x, int offsetx, int incx) {
+    blas.dtpsv(uplo, trans, diag, n, ap, offsetap, x, offsetx, incx);
+  }
+
+  public static void stpsv(String uplo, String trans, String diag, int n, float[] ap, int offsetap, float[] x, int offsetx, int incx) {
+    blas.stpsv(uplo, trans, diag, n, ap, offsetap, x, offsetx, incx);
+  }
+
+  public static void dtrmm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    blas.dtrmm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  public static void strmm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    blas.strmm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  public static void dtrmv(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    blas.dtrmv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public static void strmv(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    blas.strmv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public static void dtrsm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    blas.dtrsm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  public static void strsm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    blas.strsm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  public static void dtrsv(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    blas.dtrsv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public static void strsv(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    blas.strsv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  public static int idamax(int n, double[] x, int offsetx, int incx) {
+    // F2J returns a 1-based index
+    return blas.idamax(n, x, offsetx, incx) + 1;
+  }
+
+  public static int isamax(int n, float[] sx, int offsetsx, int incx) {
+    // F2J returns a 1-based index
+    return blas.isamax(n, sx, offsetsx, incx) + 1;
+  }
+}
@@ -0,0 +1,733 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+// Runs the long-running routines called from virtual threads on the Offload
+// pool, see Offload. The size compared to the threshold is the number of
+// multiply-adds of the routine, up to a constant factor. Other routines and
+// workspace queries (lwork == -1) are called directly.
+final class OffloadingJNILAPACK extends JNILAPACK {
+
+  private static final OffloadingJNILAPACK instance = new OffloadingJNILAPACK();
+
+  protected OffloadingJNILAPACK() {}
+
+  public static NativeLAPACK getInstance() {
+    return instance;
+  }
+
+  protected void dgebrdK(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.dgebrdK(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, lwork, info));
+    } else {
+      super.dgebrdK(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dgeevK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.dgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info));
+    } else {
+      super.dgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dgehrdK(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.dgehrdK(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info));
+    } else {
+      super.dgehrdK(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dgelqfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.dgelqfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info));
+    } else {
+      super.dgelqfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dgelsK(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * (Math.min(m, n) + nrhs))) {
+      Offload.run(() -> super.dgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info));
+    } else {
+      super.dgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dgelsdK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * (Math.min(m, n) + nrhs))) {
+      Offload.run(() -> super.dgelsdK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, iwork, offsetiwork, info));
+    } else {
+      super.dgelsdK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, iwork, offsetiwork, info);
+    }
+  }
+
+  protected void dgelssK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * (Math.min(m, n) + nrhs))) {
+      Offload.run(() -> super.dgelssK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, info));
+    } else {
+      super.dgelssK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dgeqp3K(int m, int n, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.dgeqp3K(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, lwork, info));
+    } else {
+      super.dgeqp3K(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dgeqrfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.dgeqrfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info));
+    } else {
+      super.dgeqrfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dgesddK(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.dgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info));
+    } else {
+      super.dgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+    }
+  }
+
+  protected void dgesvK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * (n + nrhs))) {
+      Offload.run(() -> super.dgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info));
+    } else {
+      super.dgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void dgesvdK(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.dgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info));
+    } else {
+      super.dgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dgetrfK(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (Offload.offload((long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.dgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info));
+    } else {
+      super.dgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    }
+  }
+
+  protected void dgetriK(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.dgetriK(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info));
+    } else {
+      super.dgetriK(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dgetrsK(String trans, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * nrhs)) {
+      Offload.run(() -> super.dgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info));
+    } else {
+      super.dgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void dposvK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * (n + nrhs))) {
+      Offload.run(() -> super.dposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info));
+    } else {
+      super.dposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void dpotrfK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * n)) {
+      Offload.run(() -> super.dpotrfK(uplo, n, a, offseta, lda, info));
+    } else {
+      super.dpotrfK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  protected void dpotriK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * n)) {
+      Offload.run(() -> super.dpotriK(uplo, n, a, offseta, lda, info));
+    } else {
+      super.dpotriK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  protected void dpotrsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * nrhs)) {
+      Offload.run(() -> super.dpotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info));
+    } else {
+      super.dpotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void dsyevK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.dsyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info));
+    } else {
+      super.dsyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dsyevdK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.dsyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info));
+    } else {
+      super.dsyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    }
+  }
+
+  protected void dsyevrK(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.dsyevrK(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info));
+    } else {
+      super.dsyevrK(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    }
+  }
+
+  protected void dsyevxK(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.dsyevxK(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info));
+    } else {
+      super.dsyevxK(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info);
+    }
+  }
+
+  protected void dsygvK(int itype, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.dsygvK(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, info));
+    } else {
+      super.dsygvK(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dsygvdK(int itype, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.dsygvdK(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info));
+    } else {
+      super.dsygvdK(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    }
+  }
+
+  protected void dsysvK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * (n + nrhs))) {
+      Offload.run(() -> super.dsysvK(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, work, offsetwork, lwork, info));
+    } else {
+      super.dsysvK(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dsytrdK(String uplo, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.dsytrdK(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, work, offsetwork, lwork, info));
+    } else {
+      super.dsytrdK(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dsytrfK(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.dsytrfK(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info));
+    } else {
+      super.dsytrfK(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void sgebrdK(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.sgebrdK(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, lwork, info));
+    } else {
+      super.sgebrdK(m, n, a, offseta, lda, d, offsetd, e, offsete, tauq, offsettauq, taup, offsettaup, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void sgeevK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.sgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info));
+    } else {
+      super.sgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void sgehrdK(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.sgehrdK(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info));
+    } else {
+      super.sgehrdK(n, ilo, ihi, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void sgelqfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.sgelqfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info));
+    } else {
+      super.sgelqfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void sgelsK(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * (Math.min(m, n) + nrhs))) {
+      Offload.run(() -> super.sgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info));
+    } else {
+      super.sgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void sgelsdK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * (Math.min(m, n) + nrhs))) {
+      Offload.run(() -> super.sgelsdK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, iwork, offsetiwork, info));
+    } else {
+      super.sgelsdK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, iwork, offsetiwork, info);
+    }
+  }
+
+  protected void sgelssK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * (Math.min(m, n) + nrhs))) {
+      Offload.run(() -> super.sgelssK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, info));
+    } else {
+      super.sgelssK(m, n, nrhs, a, offseta, lda, b, offsetb, ldb, s, offsets, rcond, rank, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void sgeqp3K(int m, int n, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.sgeqp3K(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, lwork, info));
+    } else {
+      super.sgeqp3K(m, n, a, offseta, lda, jpvt, offsetjpvt, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void sgeqrfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.sgeqrfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info));
+    } else {
+      super.sgeqrfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void sgesddK(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.sgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info));
+    } else {
+      super.sgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+    }
+  }
+
+  protected void sgesvK(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * (n + nrhs))) {
+      Offload.run(() -> super.sgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info));
+    } else {
+      super.sgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void sgesvdK(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.sgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info));
+    } else {
+      super.sgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void sgetrfK(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (Offload.offload((long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.sgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info));
+    } else {
+      super.sgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    }
+  }
+
+  protected void sgetriK(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.sgetriK(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info));
+    } else {
+      super.sgetriK(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void sgetrsK(String trans, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * nrhs)) {
+      Offload.run(() -> super.sgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info));
+    } else {
+      super.sgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void sposvK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * (n + nrhs))) {
+      Offload.run(() -> super.sposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info));
+    } else {
+      super.sposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void spotrfK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * n)) {
+      Offload.run(() -> super.spotrfK(uplo, n, a, offseta, lda, info));
+    } else {
+      super.spotrfK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  protected void spotriK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * n)) {
+      Offload.run(() -> super.spotriK(uplo, n, a, offseta, lda, info));
+    } else {
+      super.spotriK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  protected void spotrsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * nrhs)) {
+      Offload.run(() -> super.spotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info));
+    } else {
+      super.spotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void ssyevK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.ssyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info));
+    } else {
+      super.ssyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void ssyevdK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.ssyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info));
+    } else {
+      super.ssyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    }
+  }
+
+  protected void ssyevrK(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.ssyevrK(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info));
+    } else {
+      super.ssyevrK(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, isuppz, offsetisuppz, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    }
+  }
+
+  protected void ssyevxK(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.ssyevxK(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info));
+    } else {
+      super.ssyevxK(jobz, range, uplo, n, a, offseta, lda, vl, vu, il, iu, abstol, m, w, offsetw, z, offsetz, ldz, work, offsetwork, lwork, iwork, offsetiwork, ifail, offsetifail, info);
+    }
+  }
+
+  protected void ssygvK(int itype, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.ssygvK(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, info));
+    } else {
+      super.ssygvK(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void ssygvdK(int itype, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.ssygvdK(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info));
+    } else {
+      super.ssygvdK(itype, jobz, uplo, n, a, offseta, lda, b, offsetb, ldb, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    }
+  }
+
+  protected void ssysvK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * (n + nrhs))) {
+      Offload.run(() -> super.ssysvK(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, work, offsetwork, lwork, info));
+    } else {
+      super.ssysvK(uplo, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void ssytrdK(String uplo, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.ssytrdK(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, work, offsetwork, lwork, info));
+    } else {
+      super.ssytrdK(uplo, n, a, offseta, lda, d, offsetd, e, offsete, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void ssytrfK(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.ssytrfK(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info));
+    } else {
+      super.ssytrfK(uplo, n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void dgesvK(int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * (n + nrhs))) {
+      Offload.run(() -> super.dgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info));
+    } else {
+      super.dgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void dgetrfK(int m, int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (Offload.offload((long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.dgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info));
+    } else {
+      super.dgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    }
+  }
+
+  protected void dgetrsK(String trans, int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * nrhs)) {
+      Offload.run(() -> super.dgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info));
+    } else {
+      super.dgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void dposvK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * (n + nrhs))) {
+      Offload.run(() -> super.dposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info));
+    } else {
+      super.dposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void dpotrfK(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * n)) {
+      Offload.run(() -> super.dpotrfK(uplo, n, a, offseta, lda, info));
+    } else {
+      super.dpotrfK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  protected void dpotrsK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * nrhs)) {
+      Offload.run(() -> super.dpotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info));
+    } else {
+      super.dpotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void sgesvK(int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * (n + nrhs))) {
+      Offload.run(() -> super.sgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info));
+    } else {
+      super.sgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void sgetrfK(int m, int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (Offload.offload((long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.sgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info));
+    } else {
+      super.sgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    }
+  }
+
+  protected void sgetrsK(String trans, int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * nrhs)) {
+      Offload.run(() -> super.sgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info));
+    } else {
+      super.sgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void sposvK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * (n + nrhs))) {
+      Offload.run(() -> super.sposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info));
+    } else {
+      super.sposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void spotrfK(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * n)) {
+      Offload.run(() -> super.spotrfK(uplo, n, a, offseta, lda, info));
+    } else {
+      super.spotrfK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  protected void spotrsK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * nrhs)) {
+      Offload.run(() -> super.spotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info));
+    } else {
+      super.spotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void dgeevK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * n)) {
+      Offload.run(() -> super.dgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, info));
+    } else {
+      super.dgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, info);
+    }
+  }
+
+  protected void dgelsK(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)m * n * (Math.min(m, n) + nrhs))) {
+      Offload.run(() -> super.dgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, info));
+    } else {
+      super.dgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void dgesddK(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    if (Offload.offload((long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.dgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info));
+    } else {
+      super.dgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+    }
+  }
+
+  protected void dgesvdK(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    if (Offload.offload((long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.dgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info));
+    } else {
+      super.dgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+    }
+  }
+
+  protected void dsyevK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * n)) {
+      Offload.run(() -> super.dsyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, info));
+    } else {
+      super.dsyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, info);
+    }
+  }
+
+  protected void dsyevdK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * n)) {
+      Offload.run(() -> super.dsyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, info));
+    } else {
+      super.dsyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, info);
+    }
+  }
+
+  protected void sgeevK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * n)) {
+      Offload.run(() -> super.sgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, info));
+    } else {
+      super.sgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, info);
+    }
+  }
+
+  protected void sgelsK(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)m * n * (Math.min(m, n) + nrhs))) {
+      Offload.run(() -> super.sgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, info));
+    } else {
+      super.sgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void sgesddK(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    if (Offload.offload((long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.sgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info));
+    } else {
+      super.sgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+    }
+  }
+
+  protected void sgesvdK(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, org.netlib.util.intW info) {
+    if (Offload.offload((long)m * n * Math.min(m, n))) {
+      Offload.run(() -> super.sgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info));
+    } else {
+      super.sgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, info);
+    }
+  }
+
+  protected void ssyevK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * n)) {
+      Offload.run(() -> super.ssyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, info));
+    } else {
+      super.ssyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, info);
+    }
+  }
+
+  protected void ssyevdK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * n)) {
+      Offload.run(() -> super.ssyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, info));
+    } else {
+      super.ssyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, info);
+    }
+  }
+
+  protected void dgesvRowMajorK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * (n + nrhs))) {
+      Offload.run(() -> super.dgesvRowMajorK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info));
+    } else {
+      super.dgesvRowMajorK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void dposvRowMajorK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * (n + nrhs))) {
+      Offload.run(() -> super.dposvRowMajorK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info));
+    } else {
+      super.dposvRowMajorK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void dsyevRowMajorK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.dsyevRowMajorK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info));
+    } else {
+      super.dsyevRowMajorK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    }
+  }
+
+  protected void sgesvRowMajorK(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * (n + nrhs))) {
+      Offload.run(() -> super.sgesvRowMajorK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info));
+    } else {
+      super.sgesvRowMajorK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void sposvRowMajorK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Offload.offload((long)n * n * (n + nrhs))) {
+      Offload.run(() -> super.sposvRowMajorK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info));
+    } else {
+      super.sposvRowMajorK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  protected void ssyevRowMajorK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Offload.offload(lwork == -1 ? 0 : (long)n * n * n)) {
+      Offload.run(() -> super.ssyevRowMajorK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info));
+    } else {
+      super.ssyevRowMajorK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    }
+  }
+}
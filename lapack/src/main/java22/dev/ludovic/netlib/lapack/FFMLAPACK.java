@@ -0,0 +1,14663 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+final class FFMLAPACK extends AbstractLAPACK implements NativeLAPACK {
+
+  private static final FFMLAPACK instance = new FFMLAPACK();
+
+  private static final boolean isMacOS = "Mac OS X".equals(System.getProperty("os.name"));
+
+  private static final Linker linker = Linker.nativeLinker();
+
+  private static final SymbolLookup library = SymbolLookup.libraryLookup(nativeLib(), Arena.global());
+
+  protected FFMLAPACK() {}
+
+  public static NativeLAPACK getInstance() {
+    return instance;
+  }
+
+  private static String nativeLib() {
+    String nativeLibPath = System.getProperty("dev.ludovic.netlib.lapack.nativeLibPath");
+    if (nativeLibPath != null) {
+      return nativeLibPath;
+    }
+    String defaultNativeLib;
+    if (isMacOS) {
+      defaultNativeLib = "/System/Library/Frameworks/Accelerate.framework/Accelerate";
+    } else if (System.getProperty("os.name", "").startsWith("Windows")) {
+      defaultNativeLib = "libopenblas.dll";
+    } else {
+      defaultNativeLib = "liblapack.so.3";
+    }
+    return System.getProperty("dev.ludovic.netlib.lapack.nativeLib", defaultNativeLib);
+  }
+
+  private static MemoryLayout layout(char c) {
+    switch (c) {
+    case 'A': return ValueLayout.ADDRESS;
+    case 'I': return ValueLayout.JAVA_INT;
+    case 'J': return ValueLayout.JAVA_LONG;
+    case 'F': return ValueLayout.JAVA_FLOAT;
+    case 'D': return ValueLayout.JAVA_DOUBLE;
+    default: throw new IllegalArgumentException(String.valueOf(c));
+    }
+  }
+
+  // The signature is the return type (V, I, F or D) followed by one character per argument: A for pointers
+  // and J for the Fortran hidden string lengths. Returns null if the symbol isn't in the native library.
+  private static MethodHandle downcall(String name, String signature) {
+    Optional<MemorySegment> symbol = library.find(name);
+    if (!symbol.isPresent()) {
+      return null;
+    }
+    MemoryLayout[] args = new MemoryLayout[signature.length() - 1];
+    for (int i = 0; i < args.length; i++) {
+      args[i] = layout(signature.charAt(i + 1));
+    }
+    char ret = signature.charAt(0);
+    // On macOS, the Accelerate framework returns a double rather than a float, see the matching comment in jni.c
+    boolean widen = isMacOS && ret == 'F';
+    FunctionDescriptor descriptor = ret == 'V' ? FunctionDescriptor.ofVoid(args)
+                                               : FunctionDescriptor.of(layout(widen ? 'D' : ret), args);
+    // The arguments are heap segments over the Java arrays, which the critical option passes without copying
+    // nor pinning, the equivalent of GetPrimitiveArrayCritical in jni.c
+    MethodHandle handle = linker.downcallHandle(symbol.get(), descriptor, Linker.Option.critical(true));
+    return widen ? MethodHandles.explicitCastArguments(handle, handle.type().changeReturnType(float.class)) : handle;
+  }
+
+  private static MemorySegment ref(int v) {
+    return MemorySegment.ofArray(new int[] { v });
+  }
+
+  private static MemorySegment ref(long v) {
+    return MemorySegment.ofArray(new long[] { v });
+  }
+
+  private static MemorySegment ref(float v) {
+    return MemorySegment.ofArray(new float[] { v });
+  }
+
+  private static MemorySegment ref(double v) {
+    return MemorySegment.ofArray(new double[] { v });
+  }
+
+  private static MemorySegment ref(boolean v) {
+    return MemorySegment.ofArray(new int[] { v ? 1 : 0 });
+  }
+
+  private static MemorySegment array(int[] a, int offset) {
+    return a == null ? MemorySegment.NULL : MemorySegment.ofArray(a).asSlice((long)offset * Integer.BYTES);
+  }
+
+  private static MemorySegment array(float[] a, int offset) {
+    return a == null ? MemorySegment.NULL : MemorySegment.ofArray(a).asSlice((long)offset * Float.BYTES);
+  }
+
+  private static MemorySegment array(double[] a, int offset) {
+    return a == null ? MemorySegment.NULL : MemorySegment.ofArray(a).asSlice((long)offset * Double.BYTES);
+  }
+
+  private static MemorySegment buffer(IntBuffer b, int offset) {
+    return MemorySegment.ofBuffer(b.duplicate().position(0)).asSlice((long)offset * Integer.BYTES);
+  }
+
+  private static MemorySegment buffer(FloatBuffer b, int offset) {
+    return MemorySegment.ofBuffer(b.duplicate().position(0)).asSlice((long)offset * Float.BYTES);
+  }
+
+  private static MemorySegment buffer(DoubleBuffer b, int offset) {
+    return MemorySegment.ofBuffer(b.duplicate().position(0)).asSlice((long)offset * Double.BYTES);
+  }
+
+  private static int[] booleans(boolean[] a) {
+    if (a == null) {
+      return null;
+    }
+    int[] r = new int[a.length];
+    for (int i = 0; i < a.length; i++) {
+      r[i] = a[i] ? 1 : 0;
+    }
+    return r;
+  }
+
+  private static byte[] cstring(String s) {
+    byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+    return Arrays.copyOf(bytes, bytes.length + 1);
+  }
+
+  private static RuntimeException rethrow(Throwable t) {
+    if (t instanceof RuntimeException) {
+      return (RuntimeException)t;
+    }
+    if (t instanceof Error) {
+      throw (Error)t;
+    }
+    return new RuntimeException(t);
+  }
+
+  private static MethodHandle dbdsdc_;
+
+  protected void dbdsdcK(String uplo, String compq, int n, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] q, int offsetq, int[] iq, int offsetiq, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dbdsdc_;
+    if (handle == null) {
+      dbdsdc_ = handle = downcall("dbdsdc_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(compq)), ref(n), array(d, offsetd), array(e, offsete), array(u, offsetu), ref(ldu), array(vt, offsetvt), ref(ldvt), array(q, offsetq), array(iq, offsetiq), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)compq.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dbdsqr_;
+
+  protected void dbdsqrK(String uplo, int n, int ncvt, int nru, int ncc, double[] d, int offsetd, double[] e, int offsete, double[] vt, int offsetvt, int ldvt, double[] u, int offsetu, int ldu, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dbdsqr_;
+    if (handle == null) {
+      dbdsqr_ = handle = downcall("dbdsqr_", "VAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(ncvt), ref(nru), ref(ncc), array(d, offsetd), array(e, offsete), array(vt, offsetvt), ref(ldvt), array(u, offsetu), ref(ldu), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ddisna_;
+
+  protected void ddisnaK(String job, int m, int n, double[] d, int offsetd, double[] sep, int offsetsep, org.netlib.util.intW info) {
+    MethodHandle handle = ddisna_;
+    if (handle == null) {
+      ddisna_ = handle = downcall("ddisna_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), ref(m), ref(n), array(d, offsetd), array(sep, offsetsep), MemorySegment.ofArray(__ninfo), (long)job.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgbbrd_;
+
+  protected void dgbbrdK(String vect, int m, int n, int ncc, int kl, int ku, double[] ab, int offsetab, int ldab, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] pt, int offsetpt, int ldpt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgbbrd_;
+    if (handle == null) {
+      dgbbrd_ = handle = downcall("dgbbrd_", "VAAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(vect)), ref(m), ref(n), ref(ncc), ref(kl), ref(ku), array(ab, offsetab), ref(ldab), array(d, offsetd), array(e, offsete), array(q, offsetq), ref(ldq), array(pt, offsetpt), ref(ldpt), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)vect.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgbcon_;
+
+  protected void dgbconK(String norm, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgbcon_;
+    if (handle == null) {
+      dgbcon_ = handle = downcall("dgbcon_", "VAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(n), ref(kl), ref(ku), array(ab, offsetab), ref(ldab), array(ipiv, offsetipiv), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgbequ_;
+
+  protected void dgbequK(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] r, int offsetr, double[] c, int offsetc, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    MethodHandle handle = dgbequ_;
+    if (handle == null) {
+      dgbequ_ = handle = downcall("dgbequ_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrowcnd = { rowcnd.val };
+    double[] __ncolcnd = { colcnd.val };
+    double[] __namax = { amax.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(kl), ref(ku), array(ab, offsetab), ref(ldab), array(r, offsetr), array(c, offsetc), MemorySegment.ofArray(__nrowcnd), MemorySegment.ofArray(__ncolcnd), MemorySegment.ofArray(__namax), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rowcnd.val = __nrowcnd[0];
+    colcnd.val = __ncolcnd[0];
+    amax.val = __namax[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgbrfs_;
+
+  protected void dgbrfsK(String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgbrfs_;
+    if (handle == null) {
+      dgbrfs_ = handle = downcall("dgbrfs_", "VAAAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(kl), ref(ku), ref(nrhs), array(ab, offsetab), ref(ldab), array(afb, offsetafb), ref(ldafb), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgbsv_;
+
+  protected void dgbsvK(int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dgbsv_;
+    if (handle == null) {
+      dgbsv_ = handle = downcall("dgbsv_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(kl), ref(ku), ref(nrhs), array(ab, offsetab), ref(ldab), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgbsvx_;
+
+  protected void dgbsvxK(String fact, String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, double[] r, int offsetr, double[] c, int offsetc, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgbsvx_;
+    if (handle == null) {
+      dgbsvx_ = handle = downcall("dgbsvx_", "VAAAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(trans)), ref(n), ref(kl), ref(ku), ref(nrhs), array(ab, offsetab), ref(ldab), array(afb, offsetafb), ref(ldafb), array(ipiv, offsetipiv), MemorySegment.ofArray(__nequed), array(r, offsetr), array(c, offsetc), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)trans.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgbtf2_;
+
+  protected void dgbtf2K(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    MethodHandle handle = dgbtf2_;
+    if (handle == null) {
+      dgbtf2_ = handle = downcall("dgbtf2_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(kl), ref(ku), array(ab, offsetab), ref(ldab), array(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgbtrf_;
+
+  protected void dgbtrfK(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    MethodHandle handle = dgbtrf_;
+    if (handle == null) {
+      dgbtrf_ = handle = downcall("dgbtrf_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(kl), ref(ku), array(ab, offsetab), ref(ldab), array(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgbtrs_;
+
+  protected void dgbtrsK(String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dgbtrs_;
+    if (handle == null) {
+      dgbtrs_ = handle = downcall("dgbtrs_", "VAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(kl), ref(ku), ref(nrhs), array(ab, offsetab), ref(ldab), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgebak_;
+
+  protected void dgebakK(String job, String side, int n, int ilo, int ihi, double[] scale, int offsetscale, int m, double[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    MethodHandle handle = dgebak_;
+    if (handle == null) {
+      dgebak_ = handle = downcall("dgebak_", "VAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), MemorySegment.ofArray(cstring(side)), ref(n), ref(ilo), ref(ihi), array(scale, offsetscale), ref(m), array(v, offsetv), ref(ldv), MemorySegment.ofArray(__ninfo), (long)job.length(), (long)side.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgebal_;
+
+  protected void dgebalK(String job, int n, double[] a, int offseta, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, int offsetscale, org.netlib.util.intW info) {
+    MethodHandle handle = dgebal_;
+    if (handle == null) {
+      dgebal_ = handle = downcall("dgebal_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nilo = { ilo.val };
+    int[] __nihi = { ihi.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__nilo), MemorySegment.ofArray(__nihi), array(scale, offsetscale), MemorySegment.ofArray(__ninfo), (long)job.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ilo.val = __nilo[0];
+    ihi.val = __nihi[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgebd2_;
+
+  protected void dgebd2K(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgebd2_;
+    if (handle == null) {
+      dgebd2_ = handle = downcall("dgebd2_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(d, offsetd), array(e, offsete), array(tauq, offsettauq), array(taup, offsettaup), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgebrd_;
+
+  protected void dgebrdK(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgebrd_;
+    if (handle == null) {
+      dgebrd_ = handle = downcall("dgebrd_", "VAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(d, offsetd), array(e, offsete), array(tauq, offsettauq), array(taup, offsettaup), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgecon_;
+
+  protected void dgeconK(String norm, int n, double[] a, int offseta, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgecon_;
+    if (handle == null) {
+      dgecon_ = handle = downcall("dgecon_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(n), array(a, offseta), ref(lda), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgeequ_;
+
+  protected void dgeequK(int m, int n, double[] a, int offseta, int lda, double[] r, int offsetr, double[] c, int offsetc, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    MethodHandle handle = dgeequ_;
+    if (handle == null) {
+      dgeequ_ = handle = downcall("dgeequ_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrowcnd = { rowcnd.val };
+    double[] __ncolcnd = { colcnd.val };
+    double[] __namax = { amax.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(r, offsetr), array(c, offsetc), MemorySegment.ofArray(__nrowcnd), MemorySegment.ofArray(__ncolcnd), MemorySegment.ofArray(__namax), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rowcnd.val = __nrowcnd[0];
+    colcnd.val = __ncolcnd[0];
+    amax.val = __namax[0];
+    info.val = __ninfo[0];
+  }
+
+  protected void dgeesK(String jobvs, String sort, java.lang.Object select, int n, double[] a, int offseta, int lda, org.netlib.util.intW sdim, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vs, int offsetvs, int ldvs, double[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void dgeesxK(String jobvs, String sort, java.lang.Object select, String sense, int n, double[] a, int offseta, int lda, org.netlib.util.intW sdim, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vs, int offsetvs, int ldvs, org.netlib.util.doubleW rconde, org.netlib.util.doubleW rcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static MethodHandle dgeev_;
+
+  protected void dgeevK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgeev_;
+    if (handle == null) {
+      dgeev_ = handle = downcall("dgeev_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobvl)), MemorySegment.ofArray(cstring(jobvr)), ref(n), array(a, offseta), ref(lda), array(wr, offsetwr), array(wi, offsetwi), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)jobvl.length(), (long)jobvr.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgeevx_;
+
+  protected void dgeevxK(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, int offsetscale, org.netlib.util.doubleW abnrm, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgeevx_;
+    if (handle == null) {
+      dgeevx_ = handle = downcall("dgeevx_", "VAAAAAAAAAAAAAAAAAAAAAAAJJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nilo = { ilo.val };
+    int[] __nihi = { ihi.val };
+    double[] __nabnrm = { abnrm.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(balanc)), MemorySegment.ofArray(cstring(jobvl)), MemorySegment.ofArray(cstring(jobvr)), MemorySegment.ofArray(cstring(sense)), ref(n), array(a, offseta), ref(lda), array(wr, offsetwr), array(wi, offsetwi), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), MemorySegment.ofArray(__nilo), MemorySegment.ofArray(__nihi), array(scale, offsetscale), MemorySegment.ofArray(__nabnrm), array(rconde, offsetrconde), array(rcondv, offsetrcondv), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)balanc.length(), (long)jobvl.length(), (long)jobvr.length(), (long)sense.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ilo.val = __nilo[0];
+    ihi.val = __nihi[0];
+    abnrm.val = __nabnrm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgegs_;
+
+  protected void dgegsK(String jobvsl, String jobvsr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgegs_;
+    if (handle == null) {
+      dgegs_ = handle = downcall("dgegs_", "VAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobvsl)), MemorySegment.ofArray(cstring(jobvsr)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(alphar, offsetalphar), array(alphai, offsetalphai), array(beta, offsetbeta), array(vsl, offsetvsl), ref(ldvsl), array(vsr, offsetvsr), ref(ldvsr), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)jobvsl.length(), (long)jobvsr.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgegv_;
+
+  protected void dgegvK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgegv_;
+    if (handle == null) {
+      dgegv_ = handle = downcall("dgegv_", "VAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobvl)), MemorySegment.ofArray(cstring(jobvr)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(alphar, offsetalphar), array(alphai, offsetalphai), array(beta, offsetbeta), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)jobvl.length(), (long)jobvr.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgehd2_;
+
+  protected void dgehd2K(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgehd2_;
+    if (handle == null) {
+      dgehd2_ = handle = downcall("dgehd2_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(ilo), ref(ihi), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgehrd_;
+
+  protected void dgehrdK(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgehrd_;
+    if (handle == null) {
+      dgehrd_ = handle = downcall("dgehrd_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(ilo), ref(ihi), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgelq2_;
+
+  protected void dgelq2K(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgelq2_;
+    if (handle == null) {
+      dgelq2_ = handle = downcall("dgelq2_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgelqf_;
+
+  protected void dgelqfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgelqf_;
+    if (handle == null) {
+      dgelqf_ = handle = downcall("dgelqf_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgels_;
+
+  protected void dgelsK(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgels_;
+    if (handle == null) {
+      dgels_ = handle = downcall("dgels_", "VAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgelsd_;
+
+  protected void dgelsdK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgelsd_;
+    if (handle == null) {
+      dgelsd_ = handle = downcall("dgelsd_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nrank = { rank.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(s, offsets), ref(rcond), MemorySegment.ofArray(__nrank), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rank.val = __nrank[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgelss_;
+
+  protected void dgelssK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgelss_;
+    if (handle == null) {
+      dgelss_ = handle = downcall("dgelss_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nrank = { rank.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(s, offsets), ref(rcond), MemorySegment.ofArray(__nrank), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rank.val = __nrank[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgelsx_;
+
+  protected void dgelsxK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgelsx_;
+    if (handle == null) {
+      dgelsx_ = handle = downcall("dgelsx_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nrank = { rank.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(jpvt, offsetjpvt), ref(rcond), MemorySegment.ofArray(__nrank), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rank.val = __nrank[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgelsy_;
+
+  protected void dgelsyK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgelsy_;
+    if (handle == null) {
+      dgelsy_ = handle = downcall("dgelsy_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nrank = { rank.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(jpvt, offsetjpvt), ref(rcond), MemorySegment.ofArray(__nrank), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rank.val = __nrank[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgeql2_;
+
+  protected void dgeql2K(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgeql2_;
+    if (handle == null) {
+      dgeql2_ = handle = downcall("dgeql2_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgeqlf_;
+
+  protected void dgeqlfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgeqlf_;
+    if (handle == null) {
+      dgeqlf_ = handle = downcall("dgeqlf_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgeqp3_;
+
+  protected void dgeqp3K(int m, int n, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgeqp3_;
+    if (handle == null) {
+      dgeqp3_ = handle = downcall("dgeqp3_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(jpvt, offsetjpvt), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgeqpf_;
+
+  protected void dgeqpfK(int m, int n, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgeqpf_;
+    if (handle == null) {
+      dgeqpf_ = handle = downcall("dgeqpf_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(jpvt, offsetjpvt), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgeqr2_;
+
+  protected void dgeqr2K(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgeqr2_;
+    if (handle == null) {
+      dgeqr2_ = handle = downcall("dgeqr2_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgeqrf_;
+
+  protected void dgeqrfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgeqrf_;
+    if (handle == null) {
+      dgeqrf_ = handle = downcall("dgeqrf_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgerfs_;
+
+  protected void dgerfsK(String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgerfs_;
+    if (handle == null) {
+      dgerfs_ = handle = downcall("dgerfs_", "VAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(af, offsetaf), ref(ldaf), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgerq2_;
+
+  protected void dgerq2K(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgerq2_;
+    if (handle == null) {
+      dgerq2_ = handle = downcall("dgerq2_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgerqf_;
+
+  protected void dgerqfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgerqf_;
+    if (handle == null) {
+      dgerqf_ = handle = downcall("dgerqf_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgesc2_;
+
+  protected void dgesc2K(int n, double[] a, int offseta, int lda, double[] rhs, int offsetrhs, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.doubleW scale) {
+    MethodHandle handle = dgesc2_;
+    if (handle == null) {
+      dgesc2_ = handle = downcall("dgesc2_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscale = { scale.val };
+    try {
+      handle.invokeExact(ref(n), array(a, offseta), ref(lda), array(rhs, offsetrhs), array(ipiv, offsetipiv), array(jpiv, offsetjpiv), MemorySegment.ofArray(__nscale));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+  }
+
+  private static MethodHandle dgesdd_;
+
+  protected void dgesddK(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgesdd_;
+    if (handle == null) {
+      dgesdd_ = handle = downcall("dgesdd_", "VAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), ref(m), ref(n), array(a, offseta), ref(lda), array(s, offsets), array(u, offsetu), ref(ldu), array(vt, offsetvt), ref(ldvt), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)jobz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgesv_;
+
+  protected void dgesvK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dgesv_;
+    if (handle == null) {
+      dgesv_ = handle = downcall("dgesv_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgesvd_;
+
+  protected void dgesvdK(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgesvd_;
+    if (handle == null) {
+      dgesvd_ = handle = downcall("dgesvd_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobu)), MemorySegment.ofArray(cstring(jobvt)), ref(m), ref(n), array(a, offseta), ref(lda), array(s, offsets), array(u, offsetu), ref(ldu), array(vt, offsetvt), ref(ldvt), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)jobu.length(), (long)jobvt.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgesvx_;
+
+  protected void dgesvxK(String fact, String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, double[] r, int offsetr, double[] c, int offsetc, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgesvx_;
+    if (handle == null) {
+      dgesvx_ = handle = downcall("dgesvx_", "VAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(af, offsetaf), ref(ldaf), array(ipiv, offsetipiv), MemorySegment.ofArray(__nequed), array(r, offsetr), array(c, offsetc), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)trans.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgetc2_;
+
+  protected void dgetc2K(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.intW info) {
+    MethodHandle handle = dgetc2_;
+    if (handle == null) {
+      dgetc2_ = handle = downcall("dgetc2_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(jpiv, offsetjpiv), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgetf2_;
+
+  protected void dgetf2K(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    MethodHandle handle = dgetf2_;
+    if (handle == null) {
+      dgetf2_ = handle = downcall("dgetf2_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgetrf_;
+
+  protected void dgetrfK(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    MethodHandle handle = dgetrf_;
+    if (handle == null) {
+      dgetrf_ = handle = downcall("dgetrf_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgetri_;
+
+  protected void dgetriK(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgetri_;
+    if (handle == null) {
+      dgetri_ = handle = downcall("dgetri_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgetrs_;
+
+  protected void dgetrsK(String trans, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dgetrs_;
+    if (handle == null) {
+      dgetrs_ = handle = downcall("dgetrs_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dggbak_;
+
+  protected void dggbakK(String job, String side, int n, int ilo, int ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, int m, double[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    MethodHandle handle = dggbak_;
+    if (handle == null) {
+      dggbak_ = handle = downcall("dggbak_", "VAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), MemorySegment.ofArray(cstring(side)), ref(n), ref(ilo), ref(ihi), array(lscale, offsetlscale), array(rscale, offsetrscale), ref(m), array(v, offsetv), ref(ldv), MemorySegment.ofArray(__ninfo), (long)job.length(), (long)side.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dggbal_;
+
+  protected void dggbalK(String job, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dggbal_;
+    if (handle == null) {
+      dggbal_ = handle = downcall("dggbal_", "VAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nilo = { ilo.val };
+    int[] __nihi = { ihi.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__nilo), MemorySegment.ofArray(__nihi), array(lscale, offsetlscale), array(rscale, offsetrscale), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)job.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ilo.val = __nilo[0];
+    ihi.val = __nihi[0];
+    info.val = __ninfo[0];
+  }
+
+  protected void dggesK(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW sdim, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void dggesxK(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW sdim, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static MethodHandle dggev_;
+
+  protected void dggevK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dggev_;
+    if (handle == null) {
+      dggev_ = handle = downcall("dggev_", "VAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobvl)), MemorySegment.ofArray(cstring(jobvr)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(alphar, offsetalphar), array(alphai, offsetalphai), array(beta, offsetbeta), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)jobvl.length(), (long)jobvr.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dggevx_;
+
+  protected void dggevxK(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, org.netlib.util.doubleW abnrm, org.netlib.util.doubleW bbnrm, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    MethodHandle handle = dggevx_;
+    if (handle == null) {
+      dggevx_ = handle = downcall("dggevx_", "VAAAAAAAAAAAAAAAAAAAAAAAAAAAAAJJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nilo = { ilo.val };
+    int[] __nihi = { ihi.val };
+    double[] __nabnrm = { abnrm.val };
+    double[] __nbbnrm = { bbnrm.val };
+    int[] __nbwork = booleans(bwork);
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(balanc)), MemorySegment.ofArray(cstring(jobvl)), MemorySegment.ofArray(cstring(jobvr)), MemorySegment.ofArray(cstring(sense)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(alphar, offsetalphar), array(alphai, offsetalphai), array(beta, offsetbeta), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), MemorySegment.ofArray(__nilo), MemorySegment.ofArray(__nihi), array(lscale, offsetlscale), array(rscale, offsetrscale), MemorySegment.ofArray(__nabnrm), MemorySegment.ofArray(__nbbnrm), array(rconde, offsetrconde), array(rcondv, offsetrcondv), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), array(__nbwork, offsetbwork), MemorySegment.ofArray(__ninfo), (long)balanc.length(), (long)jobvl.length(), (long)jobvr.length(), (long)sense.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ilo.val = __nilo[0];
+    ihi.val = __nihi[0];
+    abnrm.val = __nabnrm[0];
+    bbnrm.val = __nbbnrm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dggglm_;
+
+  protected void dggglmK(int n, int m, int p, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] d, int offsetd, double[] x, int offsetx, double[] y, int offsety, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dggglm_;
+    if (handle == null) {
+      dggglm_ = handle = downcall("dggglm_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(m), ref(p), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(d, offsetd), array(x, offsetx), array(y, offsety), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgghrd_;
+
+  protected void dgghrdK(String compq, String compz, int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    MethodHandle handle = dgghrd_;
+    if (handle == null) {
+      dgghrd_ = handle = downcall("dgghrd_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(compq)), MemorySegment.ofArray(cstring(compz)), ref(n), ref(ilo), ref(ihi), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(q, offsetq), ref(ldq), array(z, offsetz), ref(ldz), MemorySegment.ofArray(__ninfo), (long)compq.length(), (long)compz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgglse_;
+
+  protected void dgglseK(int m, int n, int p, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, double[] d, int offsetd, double[] x, int offsetx, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgglse_;
+    if (handle == null) {
+      dgglse_ = handle = downcall("dgglse_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(p), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(c, offsetc), array(d, offsetd), array(x, offsetx), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dggqrf_;
+
+  protected void dggqrfK(int n, int m, int p, double[] a, int offseta, int lda, double[] taua, int offsettaua, double[] b, int offsetb, int ldb, double[] taub, int offsettaub, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dggqrf_;
+    if (handle == null) {
+      dggqrf_ = handle = downcall("dggqrf_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(m), ref(p), array(a, offseta), ref(lda), array(taua, offsettaua), array(b, offsetb), ref(ldb), array(taub, offsettaub), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dggrqf_;
+
+  protected void dggrqfK(int m, int p, int n, double[] a, int offseta, int lda, double[] taua, int offsettaua, double[] b, int offsetb, int ldb, double[] taub, int offsettaub, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dggrqf_;
+    if (handle == null) {
+      dggrqf_ = handle = downcall("dggrqf_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(p), ref(n), array(a, offseta), ref(lda), array(taua, offsettaua), array(b, offsetb), ref(ldb), array(taub, offsettaub), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dggsvd_;
+
+  protected void dggsvdK(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alpha, int offsetalpha, double[] beta, int offsetbeta, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dggsvd_;
+    if (handle == null) {
+      dggsvd_ = handle = downcall("dggsvd_", "VAAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nk = { k.val };
+    int[] __nl = { l.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobu)), MemorySegment.ofArray(cstring(jobv)), MemorySegment.ofArray(cstring(jobq)), ref(m), ref(n), ref(p), MemorySegment.ofArray(__nk), MemorySegment.ofArray(__nl), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(alpha, offsetalpha), array(beta, offsetbeta), array(u, offsetu), ref(ldu), array(v, offsetv), ref(ldv), array(q, offsetq), ref(ldq), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)jobu.length(), (long)jobv.length(), (long)jobq.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    k.val = __nk[0];
+    l.val = __nl[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dggsvp_;
+
+  protected void dggsvpK(String jobu, String jobv, String jobq, int m, int p, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double tola, double tolb, org.netlib.util.intW k, org.netlib.util.intW l, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, int[] iwork, int offsetiwork, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dggsvp_;
+    if (handle == null) {
+      dggsvp_ = handle = downcall("dggsvp_", "VAAAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nk = { k.val };
+    int[] __nl = { l.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobu)), MemorySegment.ofArray(cstring(jobv)), MemorySegment.ofArray(cstring(jobq)), ref(m), ref(p), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), ref(tola), ref(tolb), MemorySegment.ofArray(__nk), MemorySegment.ofArray(__nl), array(u, offsetu), ref(ldu), array(v, offsetv), ref(ldv), array(q, offsetq), ref(ldq), array(iwork, offsetiwork), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)jobu.length(), (long)jobv.length(), (long)jobq.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    k.val = __nk[0];
+    l.val = __nl[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgtcon_;
+
+  protected void dgtconK(String norm, int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgtcon_;
+    if (handle == null) {
+      dgtcon_ = handle = downcall("dgtcon_", "VAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(n), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(du2, offsetdu2), array(ipiv, offsetipiv), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgtrfs_;
+
+  protected void dgtrfsK(String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] dlf, int offsetdlf, double[] df, int offsetdf, double[] duf, int offsetduf, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgtrfs_;
+    if (handle == null) {
+      dgtrfs_ = handle = downcall("dgtrfs_", "VAAAAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(dlf, offsetdlf), array(df, offsetdf), array(duf, offsetduf), array(du2, offsetdu2), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgtsv_;
+
+  protected void dgtsvK(int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dgtsv_;
+    if (handle == null) {
+      dgtsv_ = handle = downcall("dgtsv_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgtsvx_;
+
+  protected void dgtsvxK(String fact, String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] dlf, int offsetdlf, double[] df, int offsetdf, double[] duf, int offsetduf, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dgtsvx_;
+    if (handle == null) {
+      dgtsvx_ = handle = downcall("dgtsvx_", "VAAAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(dlf, offsetdlf), array(df, offsetdf), array(duf, offsetduf), array(du2, offsetdu2), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgttrf_;
+
+  protected void dgttrfK(int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    MethodHandle handle = dgttrf_;
+    if (handle == null) {
+      dgttrf_ = handle = downcall("dgttrf_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(du2, offsetdu2), array(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgttrs_;
+
+  protected void dgttrsK(String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dgttrs_;
+    if (handle == null) {
+      dgttrs_ = handle = downcall("dgttrs_", "VAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(du2, offsetdu2), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dgtts2_;
+
+  protected void dgtts2K(int itrans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb) {
+    MethodHandle handle = dgtts2_;
+    if (handle == null) {
+      dgtts2_ = handle = downcall("dgtts2_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(itrans), ref(n), ref(nrhs), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(du2, offsetdu2), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dhgeqz_;
+
+  protected void dhgeqzK(String job, String compq, String compz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] t, int offsett, int ldt, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dhgeqz_;
+    if (handle == null) {
+      dhgeqz_ = handle = downcall("dhgeqz_", "VAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), MemorySegment.ofArray(cstring(compq)), MemorySegment.ofArray(cstring(compz)), ref(n), ref(ilo), ref(ihi), array(h, offseth), ref(ldh), array(t, offsett), ref(ldt), array(alphar, offsetalphar), array(alphai, offsetalphai), array(beta, offsetbeta), array(q, offsetq), ref(ldq), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)job.length(), (long)compq.length(), (long)compz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dhsein_;
+
+  protected void dhseinK(String side, String eigsrc, String initv, boolean[] select, int offsetselect, int n, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int[] ifaill, int offsetifaill, int[] ifailr, int offsetifailr, org.netlib.util.intW info) {
+    MethodHandle handle = dhsein_;
+    if (handle == null) {
+      dhsein_ = handle = downcall("dhsein_", "VAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(eigsrc)), MemorySegment.ofArray(cstring(initv)), array(__nselect, offsetselect), ref(n), array(h, offseth), ref(ldh), array(wr, offsetwr), array(wi, offsetwi), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), ref(mm), MemorySegment.ofArray(__nm), array(work, offsetwork), array(ifaill, offsetifaill), array(ifailr, offsetifailr), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)eigsrc.length(), (long)initv.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dhseqr_;
+
+  protected void dhseqrK(String job, String compz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dhseqr_;
+    if (handle == null) {
+      dhseqr_ = handle = downcall("dhseqr_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), MemorySegment.ofArray(cstring(compz)), ref(n), ref(ilo), ref(ihi), array(h, offseth), ref(ldh), array(wr, offsetwr), array(wi, offsetwi), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)job.length(), (long)compz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle disnan_;
+
+  protected boolean disnanK(double din) {
+    MethodHandle handle = disnan_;
+    if (handle == null) {
+      disnan_ = handle = downcall("disnan_", "IA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(din));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret != 0;
+  }
+
+  private static MethodHandle dlabad_;
+
+  protected void dlabadK(org.netlib.util.doubleW small, org.netlib.util.doubleW large) {
+    MethodHandle handle = dlabad_;
+    if (handle == null) {
+      dlabad_ = handle = downcall("dlabad_", "VAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nsmall = { small.val };
+    double[] __nlarge = { large.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nsmall), MemorySegment.ofArray(__nlarge));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    small.val = __nsmall[0];
+    large.val = __nlarge[0];
+  }
+
+  private static MethodHandle dlabrd_;
+
+  protected void dlabrdK(int m, int n, int nb, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] x, int offsetx, int ldx, double[] y, int offsety, int ldy) {
+    MethodHandle handle = dlabrd_;
+    if (handle == null) {
+      dlabrd_ = handle = downcall("dlabrd_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(nb), array(a, offseta), ref(lda), array(d, offsetd), array(e, offsete), array(tauq, offsettauq), array(taup, offsettaup), array(x, offsetx), ref(ldx), array(y, offsety), ref(ldy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlacn2_;
+
+  protected void dlacn2K(int n, double[] v, int offsetv, double[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.doubleW est, org.netlib.util.intW kase, int[] isave, int offsetisave) {
+    MethodHandle handle = dlacn2_;
+    if (handle == null) {
+      dlacn2_ = handle = downcall("dlacn2_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nest = { est.val };
+    int[] __nkase = { kase.val };
+    try {
+      handle.invokeExact(ref(n), array(v, offsetv), array(x, offsetx), array(isgn, offsetisgn), MemorySegment.ofArray(__nest), MemorySegment.ofArray(__nkase), array(isave, offsetisave));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    est.val = __nest[0];
+    kase.val = __nkase[0];
+  }
+
+  private static MethodHandle dlacon_;
+
+  protected void dlaconK(int n, double[] v, int offsetv, double[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.doubleW est, org.netlib.util.intW kase) {
+    MethodHandle handle = dlacon_;
+    if (handle == null) {
+      dlacon_ = handle = downcall("dlacon_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nest = { est.val };
+    int[] __nkase = { kase.val };
+    try {
+      handle.invokeExact(ref(n), array(v, offsetv), array(x, offsetx), array(isgn, offsetisgn), MemorySegment.ofArray(__nest), MemorySegment.ofArray(__nkase));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    est.val = __nest[0];
+    kase.val = __nkase[0];
+  }
+
+  private static MethodHandle dlacpy_;
+
+  protected void dlacpyK(String uplo, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    MethodHandle handle = dlacpy_;
+    if (handle == null) {
+      dlacpy_ = handle = downcall("dlacpy_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(m), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dladiv_;
+
+  protected void dladivK(double a, double b, double c, double d, org.netlib.util.doubleW p, org.netlib.util.doubleW q) {
+    MethodHandle handle = dladiv_;
+    if (handle == null) {
+      dladiv_ = handle = downcall("dladiv_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __np = { p.val };
+    double[] __nq = { q.val };
+    try {
+      handle.invokeExact(ref(a), ref(b), ref(c), ref(d), MemorySegment.ofArray(__np), MemorySegment.ofArray(__nq));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    p.val = __np[0];
+    q.val = __nq[0];
+  }
+
+  private static MethodHandle dlae2_;
+
+  protected void dlae2K(double a, double b, double c, org.netlib.util.doubleW rt1, org.netlib.util.doubleW rt2) {
+    MethodHandle handle = dlae2_;
+    if (handle == null) {
+      dlae2_ = handle = downcall("dlae2_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrt1 = { rt1.val };
+    double[] __nrt2 = { rt2.val };
+    try {
+      handle.invokeExact(ref(a), ref(b), ref(c), MemorySegment.ofArray(__nrt1), MemorySegment.ofArray(__nrt2));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rt1.val = __nrt1[0];
+    rt2.val = __nrt2[0];
+  }
+
+  private static MethodHandle dlaebz_;
+
+  protected void dlaebzK(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, double abstol, double reltol, double pivmin, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, int[] nval, int offsetnval, double[] ab, int offsetab, double[] c, int offsetc, org.netlib.util.intW mout, int[] nab, int offsetnab, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlaebz_;
+    if (handle == null) {
+      dlaebz_ = handle = downcall("dlaebz_", "VAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nmout = { mout.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(ijob), ref(nitmax), ref(n), ref(mmax), ref(minp), ref(nbmin), ref(abstol), ref(reltol), ref(pivmin), array(d, offsetd), array(e, offsete), array(e2, offsete2), array(nval, offsetnval), array(ab, offsetab), array(c, offsetc), MemorySegment.ofArray(__nmout), array(nab, offsetnab), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    mout.val = __nmout[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlaed0_;
+
+  protected void dlaed0K(int icompq, int qsiz, int n, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] qstore, int offsetqstore, int ldqs, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlaed0_;
+    if (handle == null) {
+      dlaed0_ = handle = downcall("dlaed0_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(qsiz), ref(n), array(d, offsetd), array(e, offsete), array(q, offsetq), ref(ldq), array(qstore, offsetqstore), ref(ldqs), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlaed1_;
+
+  protected void dlaed1K(int n, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlaed1_;
+    if (handle == null) {
+      dlaed1_ = handle = downcall("dlaed1_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrho = { rho.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(q, offsetq), ref(ldq), array(indxq, offsetindxq), MemorySegment.ofArray(__nrho), ref(cutpnt), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rho.val = __nrho[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlaed2_;
+
+  protected void dlaed2K(org.netlib.util.intW k, int n, int n1, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, double[] z, int offsetz, double[] dlamda, int offsetdlamda, double[] w, int offsetw, double[] q2, int offsetq2, int[] indx, int offsetindx, int[] indxc, int offsetindxc, int[] indxp, int offsetindxp, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    MethodHandle handle = dlaed2_;
+    if (handle == null) {
+      dlaed2_ = handle = downcall("dlaed2_", "VAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nk = { k.val };
+    double[] __nrho = { rho.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nk), ref(n), ref(n1), array(d, offsetd), array(q, offsetq), ref(ldq), array(indxq, offsetindxq), MemorySegment.ofArray(__nrho), array(z, offsetz), array(dlamda, offsetdlamda), array(w, offsetw), array(q2, offsetq2), array(indx, offsetindx), array(indxc, offsetindxc), array(indxp, offsetindxp), array(coltyp, offsetcoltyp), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    k.val = __nk[0];
+    rho.val = __nrho[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlaed3_;
+
+  protected void dlaed3K(int k, int n, int n1, double[] d, int offsetd, double[] q, int offsetq, int ldq, double rho, double[] dlamda, int offsetdlamda, double[] q2, int offsetq2, int[] indx, int offsetindx, int[] ctot, int offsetctot, double[] w, int offsetw, double[] s, int offsets, org.netlib.util.intW info) {
+    MethodHandle handle = dlaed3_;
+    if (handle == null) {
+      dlaed3_ = handle = downcall("dlaed3_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(k), ref(n), ref(n1), array(d, offsetd), array(q, offsetq), ref(ldq), ref(rho), array(dlamda, offsetdlamda), array(q2, offsetq2), array(indx, offsetindx), array(ctot, offsetctot), array(w, offsetw), array(s, offsets), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlaed4_;
+
+  protected void dlaed4K(int n, int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dlam, org.netlib.util.intW info) {
+    MethodHandle handle = dlaed4_;
+    if (handle == null) {
+      dlaed4_ = handle = downcall("dlaed4_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ndlam = { dlam.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(i), array(d, offsetd), array(z, offsetz), array(delta, offsetdelta), ref(rho), MemorySegment.ofArray(__ndlam), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    dlam.val = __ndlam[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlaed5_;
+
+  protected void dlaed5K(int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dlam) {
+    MethodHandle handle = dlaed5_;
+    if (handle == null) {
+      dlaed5_ = handle = downcall("dlaed5_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ndlam = { dlam.val };
+    try {
+      handle.invokeExact(ref(i), array(d, offsetd), array(z, offsetz), array(delta, offsetdelta), ref(rho), MemorySegment.ofArray(__ndlam));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    dlam.val = __ndlam[0];
+  }
+
+  private static MethodHandle dlaed6_;
+
+  protected void dlaed6K(int kniter, boolean orgati, double rho, double[] d, int offsetd, double[] z, int offsetz, double finit, org.netlib.util.doubleW tau, org.netlib.util.intW info) {
+    MethodHandle handle = dlaed6_;
+    if (handle == null) {
+      dlaed6_ = handle = downcall("dlaed6_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ntau = { tau.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(kniter), ref(orgati), ref(rho), array(d, offsetd), array(z, offsetz), ref(finit), MemorySegment.ofArray(__ntau), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    tau.val = __ntau[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlaed7_;
+
+  protected void dlaed7K(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] qstore, int offsetqstore, int[] qptr, int offsetqptr, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlaed7_;
+    if (handle == null) {
+      dlaed7_ = handle = downcall("dlaed7_", "VAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrho = { rho.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(n), ref(qsiz), ref(tlvls), ref(curlvl), ref(curpbm), array(d, offsetd), array(q, offsetq), ref(ldq), array(indxq, offsetindxq), MemorySegment.ofArray(__nrho), ref(cutpnt), array(qstore, offsetqstore), array(qptr, offsetqptr), array(prmptr, offsetprmptr), array(perm, offsetperm), array(givptr, offsetgivptr), array(givcol, offsetgivcol), array(givnum, offsetgivnum), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rho.val = __nrho[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlaed8_;
+
+  protected void dlaed8K(int icompq, org.netlib.util.intW k, int n, int qsiz, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] z, int offsetz, double[] dlamda, int offsetdlamda, double[] q2, int offsetq2, int ldq2, double[] w, int offsetw, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, int[] indxp, int offsetindxp, int[] indx, int offsetindx, org.netlib.util.intW info) {
+    MethodHandle handle = dlaed8_;
+    if (handle == null) {
+      dlaed8_ = handle = downcall("dlaed8_", "VAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nk = { k.val };
+    double[] __nrho = { rho.val };
+    int[] __ngivptr = { givptr.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), MemorySegment.ofArray(__nk), ref(n), ref(qsiz), array(d, offsetd), array(q, offsetq), ref(ldq), array(indxq, offsetindxq), MemorySegment.ofArray(__nrho), ref(cutpnt), array(z, offsetz), array(dlamda, offsetdlamda), array(q2, offsetq2), ref(ldq2), array(w, offsetw), array(perm, offsetperm), MemorySegment.ofArray(__ngivptr), array(givcol, offsetgivcol), array(givnum, offsetgivnum), array(indxp, offsetindxp), array(indx, offsetindx), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    k.val = __nk[0];
+    rho.val = __nrho[0];
+    givptr.val = __ngivptr[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlaed9_;
+
+  protected void dlaed9K(int k, int kstart, int kstop, int n, double[] d, int offsetd, double[] q, int offsetq, int ldq, double rho, double[] dlamda, int offsetdlamda, double[] w, int offsetw, double[] s, int offsets, int lds, org.netlib.util.intW info) {
+    MethodHandle handle = dlaed9_;
+    if (handle == null) {
+      dlaed9_ = handle = downcall("dlaed9_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(k), ref(kstart), ref(kstop), ref(n), array(d, offsetd), array(q, offsetq), ref(ldq), ref(rho), array(dlamda, offsetdlamda), array(w, offsetw), array(s, offsets), ref(lds), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlaeda_;
+
+  protected void dlaedaK(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, double[] q, int offsetq, int[] qptr, int offsetqptr, double[] z, int offsetz, double[] ztemp, int offsetztemp, org.netlib.util.intW info) {
+    MethodHandle handle = dlaeda_;
+    if (handle == null) {
+      dlaeda_ = handle = downcall("dlaeda_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(tlvls), ref(curlvl), ref(curpbm), array(prmptr, offsetprmptr), array(perm, offsetperm), array(givptr, offsetgivptr), array(givcol, offsetgivcol), array(givnum, offsetgivnum), array(q, offsetq), array(qptr, offsetqptr), array(z, offsetz), array(ztemp, offsetztemp), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlaein_;
+
+  protected void dlaeinK(boolean rightv, boolean noinit, int n, double[] h, int offseth, int ldh, double wr, double wi, double[] vr, int offsetvr, double[] vi, int offsetvi, double[] b, int offsetb, int ldb, double[] work, int offsetwork, double eps3, double smlnum, double bignum, org.netlib.util.intW info) {
+    MethodHandle handle = dlaein_;
+    if (handle == null) {
+      dlaein_ = handle = downcall("dlaein_", "VAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(rightv), ref(noinit), ref(n), array(h, offseth), ref(ldh), ref(wr), ref(wi), array(vr, offsetvr), array(vi, offsetvi), array(b, offsetb), ref(ldb), array(work, offsetwork), ref(eps3), ref(smlnum), ref(bignum), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlaev2_;
+
+  protected void dlaev2K(double a, double b, double c, org.netlib.util.doubleW rt1, org.netlib.util.doubleW rt2, org.netlib.util.doubleW cs1, org.netlib.util.doubleW sn1) {
+    MethodHandle handle = dlaev2_;
+    if (handle == null) {
+      dlaev2_ = handle = downcall("dlaev2_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrt1 = { rt1.val };
+    double[] __nrt2 = { rt2.val };
+    double[] __ncs1 = { cs1.val };
+    double[] __nsn1 = { sn1.val };
+    try {
+      handle.invokeExact(ref(a), ref(b), ref(c), MemorySegment.ofArray(__nrt1), MemorySegment.ofArray(__nrt2), MemorySegment.ofArray(__ncs1), MemorySegment.ofArray(__nsn1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rt1.val = __nrt1[0];
+    rt2.val = __nrt2[0];
+    cs1.val = __ncs1[0];
+    sn1.val = __nsn1[0];
+  }
+
+  private static MethodHandle dlaexc_;
+
+  protected void dlaexcK(boolean wantq, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, int j1, int n1, int n2, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlaexc_;
+    if (handle == null) {
+      dlaexc_ = handle = downcall("dlaexc_", "VAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(wantq), ref(n), array(t, offsett), ref(ldt), array(q, offsetq), ref(ldq), ref(j1), ref(n1), ref(n2), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlag2_;
+
+  protected void dlag2K(double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double safmin, org.netlib.util.doubleW scale1, org.netlib.util.doubleW scale2, org.netlib.util.doubleW wr1, org.netlib.util.doubleW wr2, org.netlib.util.doubleW wi) {
+    MethodHandle handle = dlag2_;
+    if (handle == null) {
+      dlag2_ = handle = downcall("dlag2_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscale1 = { scale1.val };
+    double[] __nscale2 = { scale2.val };
+    double[] __nwr1 = { wr1.val };
+    double[] __nwr2 = { wr2.val };
+    double[] __nwi = { wi.val };
+    try {
+      handle.invokeExact(array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), ref(safmin), MemorySegment.ofArray(__nscale1), MemorySegment.ofArray(__nscale2), MemorySegment.ofArray(__nwr1), MemorySegment.ofArray(__nwr2), MemorySegment.ofArray(__nwi));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale1.val = __nscale1[0];
+    scale2.val = __nscale2[0];
+    wr1.val = __nwr1[0];
+    wr2.val = __nwr2[0];
+    wi.val = __nwi[0];
+  }
+
+  private static MethodHandle dlag2s_;
+
+  protected void dlag2sK(int m, int n, double[] a, int offseta, int lda, float[] sa, int offsetsa, int ldsa, org.netlib.util.intW info) {
+    MethodHandle handle = dlag2s_;
+    if (handle == null) {
+      dlag2s_ = handle = downcall("dlag2s_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(sa, offsetsa), ref(ldsa), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlags2_;
+
+  protected void dlags2K(boolean upper, double a1, double a2, double a3, double b1, double b2, double b3, org.netlib.util.doubleW csu, org.netlib.util.doubleW snu, org.netlib.util.doubleW csv, org.netlib.util.doubleW snv, org.netlib.util.doubleW csq, org.netlib.util.doubleW snq) {
+    MethodHandle handle = dlags2_;
+    if (handle == null) {
+      dlags2_ = handle = downcall("dlags2_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ncsu = { csu.val };
+    double[] __nsnu = { snu.val };
+    double[] __ncsv = { csv.val };
+    double[] __nsnv = { snv.val };
+    double[] __ncsq = { csq.val };
+    double[] __nsnq = { snq.val };
+    try {
+      handle.invokeExact(ref(upper), ref(a1), ref(a2), ref(a3), ref(b1), ref(b2), ref(b3), MemorySegment.ofArray(__ncsu), MemorySegment.ofArray(__nsnu), MemorySegment.ofArray(__ncsv), MemorySegment.ofArray(__nsnv), MemorySegment.ofArray(__ncsq), MemorySegment.ofArray(__nsnq));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    csu.val = __ncsu[0];
+    snu.val = __nsnu[0];
+    csv.val = __ncsv[0];
+    snv.val = __nsnv[0];
+    csq.val = __ncsq[0];
+    snq.val = __nsnq[0];
+  }
+
+  private static MethodHandle dlagtf_;
+
+  protected void dlagtfK(int n, double[] a, int offseta, double lambda, double[] b, int offsetb, double[] c, int offsetc, double tol, double[] d, int offsetd, int[] in, int offsetin, org.netlib.util.intW info) {
+    MethodHandle handle = dlagtf_;
+    if (handle == null) {
+      dlagtf_ = handle = downcall("dlagtf_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(a, offseta), ref(lambda), array(b, offsetb), array(c, offsetc), ref(tol), array(d, offsetd), array(in, offsetin), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlagtm_;
+
+  protected void dlagtmK(String trans, int n, int nrhs, double alpha, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] x, int offsetx, int ldx, double beta, double[] b, int offsetb, int ldb) {
+    MethodHandle handle = dlagtm_;
+    if (handle == null) {
+      dlagtm_ = handle = downcall("dlagtm_", "VAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), ref(alpha), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(x, offsetx), ref(ldx), ref(beta), array(b, offsetb), ref(ldb), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlagts_;
+
+  protected void dlagtsK(int job, int n, double[] a, int offseta, double[] b, int offsetb, double[] c, int offsetc, double[] d, int offsetd, int[] in, int offsetin, double[] y, int offsety, org.netlib.util.doubleW tol, org.netlib.util.intW info) {
+    MethodHandle handle = dlagts_;
+    if (handle == null) {
+      dlagts_ = handle = downcall("dlagts_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ntol = { tol.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(job), ref(n), array(a, offseta), array(b, offsetb), array(c, offsetc), array(d, offsetd), array(in, offsetin), array(y, offsety), MemorySegment.ofArray(__ntol), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    tol.val = __ntol[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlagv2_;
+
+  protected void dlagv2K(double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, org.netlib.util.doubleW csl, org.netlib.util.doubleW snl, org.netlib.util.doubleW csr, org.netlib.util.doubleW snr) {
+    MethodHandle handle = dlagv2_;
+    if (handle == null) {
+      dlagv2_ = handle = downcall("dlagv2_", "VAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ncsl = { csl.val };
+    double[] __nsnl = { snl.val };
+    double[] __ncsr = { csr.val };
+    double[] __nsnr = { snr.val };
+    try {
+      handle.invokeExact(array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(alphar, offsetalphar), array(alphai, offsetalphai), array(beta, offsetbeta), MemorySegment.ofArray(__ncsl), MemorySegment.ofArray(__nsnl), MemorySegment.ofArray(__ncsr), MemorySegment.ofArray(__nsnr));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    csl.val = __ncsl[0];
+    snl.val = __nsnl[0];
+    csr.val = __ncsr[0];
+    snr.val = __nsnr[0];
+  }
+
+  private static MethodHandle dlahqr_;
+
+  protected void dlahqrK(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    MethodHandle handle = dlahqr_;
+    if (handle == null) {
+      dlahqr_ = handle = downcall("dlahqr_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(wantt), ref(wantz), ref(n), ref(ilo), ref(ihi), array(h, offseth), ref(ldh), array(wr, offsetwr), array(wi, offsetwi), ref(iloz), ref(ihiz), array(z, offsetz), ref(ldz), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlahr2_;
+
+  protected void dlahr2K(int n, int k, int nb, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] t, int offsett, int ldt, double[] y, int offsety, int ldy) {
+    MethodHandle handle = dlahr2_;
+    if (handle == null) {
+      dlahr2_ = handle = downcall("dlahr2_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(k), ref(nb), array(a, offseta), ref(lda), array(tau, offsettau), array(t, offsett), ref(ldt), array(y, offsety), ref(ldy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlahrd_;
+
+  protected void dlahrdK(int n, int k, int nb, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] t, int offsett, int ldt, double[] y, int offsety, int ldy) {
+    MethodHandle handle = dlahrd_;
+    if (handle == null) {
+      dlahrd_ = handle = downcall("dlahrd_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(k), ref(nb), array(a, offseta), ref(lda), array(tau, offsettau), array(t, offsett), ref(ldt), array(y, offsety), ref(ldy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlaic1_;
+
+  protected void dlaic1K(int job, int j, double[] x, int offsetx, double sest, double[] w, int offsetw, double gamma, org.netlib.util.doubleW sestpr, org.netlib.util.doubleW s, org.netlib.util.doubleW c) {
+    MethodHandle handle = dlaic1_;
+    if (handle == null) {
+      dlaic1_ = handle = downcall("dlaic1_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nsestpr = { sestpr.val };
+    double[] __ns = { s.val };
+    double[] __nc = { c.val };
+    try {
+      handle.invokeExact(ref(job), ref(j), array(x, offsetx), ref(sest), array(w, offsetw), ref(gamma), MemorySegment.ofArray(__nsestpr), MemorySegment.ofArray(__ns), MemorySegment.ofArray(__nc));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    sestpr.val = __nsestpr[0];
+    s.val = __ns[0];
+    c.val = __nc[0];
+  }
+
+  private static MethodHandle dlaisnan_;
+
+  protected boolean dlaisnanK(double din1, double din2) {
+    MethodHandle handle = dlaisnan_;
+    if (handle == null) {
+      dlaisnan_ = handle = downcall("dlaisnan_", "IAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(din1), ref(din2));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret != 0;
+  }
+
+  private static MethodHandle dlaln2_;
+
+  protected void dlaln2K(boolean ltrans, int na, int nw, double smin, double ca, double[] a, int offseta, int lda, double d1, double d2, double[] b, int offsetb, int ldb, double wr, double wi, double[] x, int offsetx, int ldx, org.netlib.util.doubleW scale, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
+    MethodHandle handle = dlaln2_;
+    if (handle == null) {
+      dlaln2_ = handle = downcall("dlaln2_", "VAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscale = { scale.val };
+    double[] __nxnorm = { xnorm.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(ltrans), ref(na), ref(nw), ref(smin), ref(ca), array(a, offseta), ref(lda), ref(d1), ref(d2), array(b, offsetb), ref(ldb), ref(wr), ref(wi), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nscale), MemorySegment.ofArray(__nxnorm), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    xnorm.val = __nxnorm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlals0_;
+
+  protected void dlals0K(int icompq, int nl, int nr, int sqre, int nrhs, double[] b, int offsetb, int ldb, double[] bx, int offsetbx, int ldbx, int[] perm, int offsetperm, int givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, double[] poles, int offsetpoles, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, int k, double c, double s, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlals0_;
+    if (handle == null) {
+      dlals0_ = handle = downcall("dlals0_", "VAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(nl), ref(nr), ref(sqre), ref(nrhs), array(b, offsetb), ref(ldb), array(bx, offsetbx), ref(ldbx), array(perm, offsetperm), ref(givptr), array(givcol, offsetgivcol), ref(ldgcol), array(givnum, offsetgivnum), ref(ldgnum), array(poles, offsetpoles), array(difl, offsetdifl), array(difr, offsetdifr), array(z, offsetz), ref(k), ref(c), ref(s), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlalsa_;
+
+  protected void dlalsaK(int icompq, int smlsiz, int n, int nrhs, double[] b, int offsetb, int ldb, double[] bx, int offsetbx, int ldbx, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int[] k, int offsetk, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, double[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, double[] givnum, int offsetgivnum, double[] c, int offsetc, double[] s, int offsets, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlalsa_;
+    if (handle == null) {
+      dlalsa_ = handle = downcall("dlalsa_", "VAAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(smlsiz), ref(n), ref(nrhs), array(b, offsetb), ref(ldb), array(bx, offsetbx), ref(ldbx), array(u, offsetu), ref(ldu), array(vt, offsetvt), array(k, offsetk), array(difl, offsetdifl), array(difr, offsetdifr), array(z, offsetz), array(poles, offsetpoles), array(givptr, offsetgivptr), array(givcol, offsetgivcol), ref(ldgcol), array(perm, offsetperm), array(givnum, offsetgivnum), array(c, offsetc), array(s, offsets), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlalsd_;
+
+  protected void dlalsdK(String uplo, int smlsiz, int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlalsd_;
+    if (handle == null) {
+      dlalsd_ = handle = downcall("dlalsd_", "VAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nrank = { rank.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(smlsiz), ref(n), ref(nrhs), array(d, offsetd), array(e, offsete), array(b, offsetb), ref(ldb), ref(rcond), MemorySegment.ofArray(__nrank), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rank.val = __nrank[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlamrg_;
+
+  protected void dlamrgK(int n1, int n2, double[] a, int offseta, int dtrd1, int dtrd2, int[] index, int offsetindex) {
+    MethodHandle handle = dlamrg_;
+    if (handle == null) {
+      dlamrg_ = handle = downcall("dlamrg_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n1), ref(n2), array(a, offseta), ref(dtrd1), ref(dtrd2), array(index, offsetindex));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlaneg_;
+
+  protected int dlanegK(int n, double[] d, int offsetd, double[] lld, int offsetlld, double sigma, double pivmin, int r) {
+    MethodHandle handle = dlaneg_;
+    if (handle == null) {
+      dlaneg_ = handle = downcall("dlaneg_", "IAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(n), array(d, offsetd), array(lld, offsetlld), ref(sigma), ref(pivmin), ref(r));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle dlangb_;
+
+  protected double dlangbK(String norm, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
+    MethodHandle handle = dlangb_;
+    if (handle == null) {
+      dlangb_ = handle = downcall("dlangb_", "DAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(n), ref(kl), ref(ku), array(ab, offsetab), ref(ldab), array(work, offsetwork), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle dlange_;
+
+  protected double dlangeK(String norm, int m, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    MethodHandle handle = dlange_;
+    if (handle == null) {
+      dlange_ = handle = downcall("dlange_", "DAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(m), ref(n), array(a, offseta), ref(lda), array(work, offsetwork), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle dlangt_;
+
+  protected double dlangtK(String norm, int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu) {
+    MethodHandle handle = dlangt_;
+    if (handle == null) {
+      dlangt_ = handle = downcall("dlangt_", "DAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(n), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle dlanhs_;
+
+  protected double dlanhsK(String norm, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    MethodHandle handle = dlanhs_;
+    if (handle == null) {
+      dlanhs_ = handle = downcall("dlanhs_", "DAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(n), array(a, offseta), ref(lda), array(work, offsetwork), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle dlansb_;
+
+  protected double dlansbK(String norm, String uplo, int n, int k, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
+    MethodHandle handle = dlansb_;
+    if (handle == null) {
+      dlansb_ = handle = downcall("dlansb_", "DAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(k), array(ab, offsetab), ref(ldab), array(work, offsetwork), (long)norm.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle dlansp_;
+
+  protected double dlanspK(String norm, String uplo, int n, double[] ap, int offsetap, double[] work, int offsetwork) {
+    MethodHandle handle = dlansp_;
+    if (handle == null) {
+      dlansp_ = handle = downcall("dlansp_", "DAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(work, offsetwork), (long)norm.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle dlanst_;
+
+  protected double dlanstK(String norm, int n, double[] d, int offsetd, double[] e, int offsete) {
+    MethodHandle handle = dlanst_;
+    if (handle == null) {
+      dlanst_ = handle = downcall("dlanst_", "DAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(n), array(d, offsetd), array(e, offsete), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle dlansy_;
+
+  protected double dlansyK(String norm, String uplo, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    MethodHandle handle = dlansy_;
+    if (handle == null) {
+      dlansy_ = handle = downcall("dlansy_", "DAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(work, offsetwork), (long)norm.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle dlantb_;
+
+  protected double dlantbK(String norm, String uplo, String diag, int n, int k, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
+    MethodHandle handle = dlantb_;
+    if (handle == null) {
+      dlantb_ = handle = downcall("dlantb_", "DAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(k), array(ab, offsetab), ref(ldab), array(work, offsetwork), (long)norm.length(), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle dlantp_;
+
+  protected double dlantpK(String norm, String uplo, String diag, int n, double[] ap, int offsetap, double[] work, int offsetwork) {
+    MethodHandle handle = dlantp_;
+    if (handle == null) {
+      dlantp_ = handle = downcall("dlantp_", "DAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), array(ap, offsetap), array(work, offsetwork), (long)norm.length(), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle dlantr_;
+
+  protected double dlantrK(String norm, String uplo, String diag, int m, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    MethodHandle handle = dlantr_;
+    if (handle == null) {
+      dlantr_ = handle = downcall("dlantr_", "DAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(m), ref(n), array(a, offseta), ref(lda), array(work, offsetwork), (long)norm.length(), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle dlanv2_;
+
+  protected void dlanv2K(org.netlib.util.doubleW a, org.netlib.util.doubleW b, org.netlib.util.doubleW c, org.netlib.util.doubleW d, org.netlib.util.doubleW rt1r, org.netlib.util.doubleW rt1i, org.netlib.util.doubleW rt2r, org.netlib.util.doubleW rt2i, org.netlib.util.doubleW cs, org.netlib.util.doubleW sn) {
+    MethodHandle handle = dlanv2_;
+    if (handle == null) {
+      dlanv2_ = handle = downcall("dlanv2_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __na = { a.val };
+    double[] __nb = { b.val };
+    double[] __nc = { c.val };
+    double[] __nd = { d.val };
+    double[] __nrt1r = { rt1r.val };
+    double[] __nrt1i = { rt1i.val };
+    double[] __nrt2r = { rt2r.val };
+    double[] __nrt2i = { rt2i.val };
+    double[] __ncs = { cs.val };
+    double[] __nsn = { sn.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__na), MemorySegment.ofArray(__nb), MemorySegment.ofArray(__nc), MemorySegment.ofArray(__nd), MemorySegment.ofArray(__nrt1r), MemorySegment.ofArray(__nrt1i), MemorySegment.ofArray(__nrt2r), MemorySegment.ofArray(__nrt2i), MemorySegment.ofArray(__ncs), MemorySegment.ofArray(__nsn));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    a.val = __na[0];
+    b.val = __nb[0];
+    c.val = __nc[0];
+    d.val = __nd[0];
+    rt1r.val = __nrt1r[0];
+    rt1i.val = __nrt1i[0];
+    rt2r.val = __nrt2r[0];
+    rt2i.val = __nrt2i[0];
+    cs.val = __ncs[0];
+    sn.val = __nsn[0];
+  }
+
+  private static MethodHandle dlapll_;
+
+  protected void dlapllK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, org.netlib.util.doubleW ssmin) {
+    MethodHandle handle = dlapll_;
+    if (handle == null) {
+      dlapll_ = handle = downcall("dlapll_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nssmin = { ssmin.val };
+    try {
+      handle.invokeExact(ref(n), array(x, offsetx), ref(incx), array(y, offsety), ref(incy), MemorySegment.ofArray(__nssmin));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ssmin.val = __nssmin[0];
+  }
+
+  private static MethodHandle dlapmt_;
+
+  protected void dlapmtK(boolean forwrd, int m, int n, double[] x, int offsetx, int ldx, int[] k, int offsetk) {
+    MethodHandle handle = dlapmt_;
+    if (handle == null) {
+      dlapmt_ = handle = downcall("dlapmt_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(forwrd), ref(m), ref(n), array(x, offsetx), ref(ldx), array(k, offsetk));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlapy2_;
+
+  protected double dlapy2K(double x, double y) {
+    MethodHandle handle = dlapy2_;
+    if (handle == null) {
+      dlapy2_ = handle = downcall("dlapy2_", "DAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(ref(x), ref(y));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle dlapy3_;
+
+  protected double dlapy3K(double x, double y, double z) {
+    MethodHandle handle = dlapy3_;
+    if (handle == null) {
+      dlapy3_ = handle = downcall("dlapy3_", "DAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(ref(x), ref(y), ref(z));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle dlaqgb_;
+
+  protected void dlaqgbK(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] r, int offsetr, double[] c, int offsetc, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
+    MethodHandle handle = dlaqgb_;
+    if (handle == null) {
+      dlaqgb_ = handle = downcall("dlaqgb_", "VAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(kl), ref(ku), array(ab, offsetab), ref(ldab), array(r, offsetr), array(c, offsetc), ref(rowcnd), ref(colcnd), ref(amax), MemorySegment.ofArray(__nequed), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+  }
+
+  private static MethodHandle dlaqge_;
+
+  protected void dlaqgeK(int m, int n, double[] a, int offseta, int lda, double[] r, int offsetr, double[] c, int offsetc, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
+    MethodHandle handle = dlaqge_;
+    if (handle == null) {
+      dlaqge_ = handle = downcall("dlaqge_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(r, offsetr), array(c, offsetc), ref(rowcnd), ref(colcnd), ref(amax), MemorySegment.ofArray(__nequed), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+  }
+
+  private static MethodHandle dlaqp2_;
+
+  protected void dlaqp2K(int m, int n, int offset, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] vn1, int offsetvn1, double[] vn2, int offsetvn2, double[] work, int offsetwork) {
+    MethodHandle handle = dlaqp2_;
+    if (handle == null) {
+      dlaqp2_ = handle = downcall("dlaqp2_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(offset), array(a, offseta), ref(lda), array(jpvt, offsetjpvt), array(tau, offsettau), array(vn1, offsetvn1), array(vn2, offsetvn2), array(work, offsetwork));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlaqps_;
+
+  protected void dlaqpsK(int m, int n, int offset, int nb, org.netlib.util.intW kb, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] vn1, int offsetvn1, double[] vn2, int offsetvn2, double[] auxv, int offsetauxv, double[] f, int offsetf, int ldf) {
+    MethodHandle handle = dlaqps_;
+    if (handle == null) {
+      dlaqps_ = handle = downcall("dlaqps_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nkb = { kb.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(offset), ref(nb), MemorySegment.ofArray(__nkb), array(a, offseta), ref(lda), array(jpvt, offsetjpvt), array(tau, offsettau), array(vn1, offsetvn1), array(vn2, offsetvn2), array(auxv, offsetauxv), array(f, offsetf), ref(ldf));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    kb.val = __nkb[0];
+  }
+
+  private static MethodHandle dlaqr0_;
+
+  protected void dlaqr0K(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlaqr0_;
+    if (handle == null) {
+      dlaqr0_ = handle = downcall("dlaqr0_", "VAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(wantt), ref(wantz), ref(n), ref(ilo), ref(ihi), array(h, offseth), ref(ldh), array(wr, offsetwr), array(wi, offsetwi), ref(iloz), ref(ihiz), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlaqr1_;
+
+  protected void dlaqr1K(int n, double[] h, int offseth, int ldh, double sr1, double si1, double sr2, double si2, double[] v, int offsetv) {
+    MethodHandle handle = dlaqr1_;
+    if (handle == null) {
+      dlaqr1_ = handle = downcall("dlaqr1_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(h, offseth), ref(ldh), ref(sr1), ref(si1), ref(sr2), ref(si2), array(v, offsetv));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlaqr2_;
+
+  protected void dlaqr2K(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, int offsetsr, double[] si, int offsetsi, double[] v, int offsetv, int ldv, int nh, double[] t, int offsett, int ldt, int nv, double[] wv, int offsetwv, int ldwv, double[] work, int offsetwork, int lwork) {
+    MethodHandle handle = dlaqr2_;
+    if (handle == null) {
+      dlaqr2_ = handle = downcall("dlaqr2_", "VAAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nns = { ns.val };
+    int[] __nnd = { nd.val };
+    try {
+      handle.invokeExact(ref(wantt), ref(wantz), ref(n), ref(ktop), ref(kbot), ref(nw), array(h, offseth), ref(ldh), ref(iloz), ref(ihiz), array(z, offsetz), ref(ldz), MemorySegment.ofArray(__nns), MemorySegment.ofArray(__nnd), array(sr, offsetsr), array(si, offsetsi), array(v, offsetv), ref(ldv), ref(nh), array(t, offsett), ref(ldt), ref(nv), array(wv, offsetwv), ref(ldwv), array(work, offsetwork), ref(lwork));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ns.val = __nns[0];
+    nd.val = __nnd[0];
+  }
+
+  private static MethodHandle dlaqr3_;
+
+  protected void dlaqr3K(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, int offsetsr, double[] si, int offsetsi, double[] v, int offsetv, int ldv, int nh, double[] t, int offsett, int ldt, int nv, double[] wv, int offsetwv, int ldwv, double[] work, int offsetwork, int lwork) {
+    MethodHandle handle = dlaqr3_;
+    if (handle == null) {
+      dlaqr3_ = handle = downcall("dlaqr3_", "VAAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nns = { ns.val };
+    int[] __nnd = { nd.val };
+    try {
+      handle.invokeExact(ref(wantt), ref(wantz), ref(n), ref(ktop), ref(kbot), ref(nw), array(h, offseth), ref(ldh), ref(iloz), ref(ihiz), array(z, offsetz), ref(ldz), MemorySegment.ofArray(__nns), MemorySegment.ofArray(__nnd), array(sr, offsetsr), array(si, offsetsi), array(v, offsetv), ref(ldv), ref(nh), array(t, offsett), ref(ldt), ref(nv), array(wv, offsetwv), ref(ldwv), array(work, offsetwork), ref(lwork));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ns.val = __nns[0];
+    nd.val = __nnd[0];
+  }
+
+  private static MethodHandle dlaqr4_;
+
+  protected void dlaqr4K(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlaqr4_;
+    if (handle == null) {
+      dlaqr4_ = handle = downcall("dlaqr4_", "VAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(wantt), ref(wantz), ref(n), ref(ilo), ref(ihi), array(h, offseth), ref(ldh), array(wr, offsetwr), array(wi, offsetwi), ref(iloz), ref(ihiz), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlaqr5_;
+
+  protected void dlaqr5K(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, double[] sr, int offsetsr, double[] si, int offsetsi, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] v, int offsetv, int ldv, double[] u, int offsetu, int ldu, int nv, double[] wv, int offsetwv, int ldwv, int nh, double[] wh, int offsetwh, int ldwh) {
+    MethodHandle handle = dlaqr5_;
+    if (handle == null) {
+      dlaqr5_ = handle = downcall("dlaqr5_", "VAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(wantt), ref(wantz), ref(kacc22), ref(n), ref(ktop), ref(kbot), ref(nshfts), array(sr, offsetsr), array(si, offsetsi), array(h, offseth), ref(ldh), ref(iloz), ref(ihiz), array(z, offsetz), ref(ldz), array(v, offsetv), ref(ldv), array(u, offsetu), ref(ldu), ref(nv), array(wv, offsetwv), ref(ldwv), ref(nh), array(wh, offsetwh), ref(ldwh));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlaqsb_;
+
+  protected void dlaqsbK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
+    MethodHandle handle = dlaqsb_;
+    if (handle == null) {
+      dlaqsb_ = handle = downcall("dlaqsb_", "VAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), array(s, offsets), ref(scond), ref(amax), MemorySegment.ofArray(__nequed), (long)uplo.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+  }
+
+  private static MethodHandle dlaqsp_;
+
+  protected void dlaqspK(String uplo, int n, double[] ap, int offsetap, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
+    MethodHandle handle = dlaqsp_;
+    if (handle == null) {
+      dlaqsp_ = handle = downcall("dlaqsp_", "VAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(s, offsets), ref(scond), ref(amax), MemorySegment.ofArray(__nequed), (long)uplo.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+  }
+
+  private static MethodHandle dlaqsy_;
+
+  protected void dlaqsyK(String uplo, int n, double[] a, int offseta, int lda, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
+    MethodHandle handle = dlaqsy_;
+    if (handle == null) {
+      dlaqsy_ = handle = downcall("dlaqsy_", "VAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(s, offsets), ref(scond), ref(amax), MemorySegment.ofArray(__nequed), (long)uplo.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+  }
+
+  private static MethodHandle dlaqtr_;
+
+  protected void dlaqtrK(boolean ltran, boolean lreal, int n, double[] t, int offsett, int ldt, double[] b, int offsetb, double w, org.netlib.util.doubleW scale, double[] x, int offsetx, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlaqtr_;
+    if (handle == null) {
+      dlaqtr_ = handle = downcall("dlaqtr_", "VAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscale = { scale.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(ltran), ref(lreal), ref(n), array(t, offsett), ref(ldt), array(b, offsetb), ref(w), MemorySegment.ofArray(__nscale), array(x, offsetx), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlar1v_;
+
+  protected void dlar1vK(int n, int b1, int bn, double lambda, double[] d, int offsetd, double[] l, int offsetl, double[] ld, int offsetld, double[] lld, int offsetlld, double pivmin, double gaptol, double[] z, int offsetz, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.doubleW ztz, org.netlib.util.doubleW mingma, org.netlib.util.intW r, int[] isuppz, int offsetisuppz, org.netlib.util.doubleW nrminv, org.netlib.util.doubleW resid, org.netlib.util.doubleW rqcorr, double[] work, int offsetwork) {
+    MethodHandle handle = dlar1v_;
+    if (handle == null) {
+      dlar1v_ = handle = downcall("dlar1v_", "VAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nnegcnt = { negcnt.val };
+    double[] __nztz = { ztz.val };
+    double[] __nmingma = { mingma.val };
+    int[] __nr = { r.val };
+    double[] __nnrminv = { nrminv.val };
+    double[] __nresid = { resid.val };
+    double[] __nrqcorr = { rqcorr.val };
+    try {
+      handle.invokeExact(ref(n), ref(b1), ref(bn), ref(lambda), array(d, offsetd), array(l, offsetl), array(ld, offsetld), array(lld, offsetlld), ref(pivmin), ref(gaptol), array(z, offsetz), ref(wantnc), MemorySegment.ofArray(__nnegcnt), MemorySegment.ofArray(__nztz), MemorySegment.ofArray(__nmingma), MemorySegment.ofArray(__nr), array(isuppz, offsetisuppz), MemorySegment.ofArray(__nnrminv), MemorySegment.ofArray(__nresid), MemorySegment.ofArray(__nrqcorr), array(work, offsetwork));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    negcnt.val = __nnegcnt[0];
+    ztz.val = __nztz[0];
+    mingma.val = __nmingma[0];
+    r.val = __nr[0];
+    nrminv.val = __nnrminv[0];
+    resid.val = __nresid[0];
+    rqcorr.val = __nrqcorr[0];
+  }
+
+  private static MethodHandle dlar2v_;
+
+  protected void dlar2vK(int n, double[] x, int offsetx, double[] y, int offsety, double[] z, int offsetz, int incx, double[] c, int offsetc, double[] s, int offsets, int incc) {
+    MethodHandle handle = dlar2v_;
+    if (handle == null) {
+      dlar2v_ = handle = downcall("dlar2v_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(x, offsetx), array(y, offsety), array(z, offsetz), ref(incx), array(c, offsetc), array(s, offsets), ref(incc));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlarf_;
+
+  protected void dlarfK(String side, int m, int n, double[] v, int offsetv, int incv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
+    MethodHandle handle = dlarf_;
+    if (handle == null) {
+      dlarf_ = handle = downcall("dlarf_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), ref(m), ref(n), array(v, offsetv), ref(incv), ref(tau), array(c, offsetc), ref(Ldc), array(work, offsetwork), (long)side.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlarfb_;
+
+  protected void dlarfbK(String side, String trans, String direct, String storev, int m, int n, int k, double[] v, int offsetv, int ldv, double[] t, int offsett, int ldt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int ldwork) {
+    MethodHandle handle = dlarfb_;
+    if (handle == null) {
+      dlarfb_ = handle = downcall("dlarfb_", "VAAAAAAAAAAAAAAAJJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(direct)), MemorySegment.ofArray(cstring(storev)), ref(m), ref(n), ref(k), array(v, offsetv), ref(ldv), array(t, offsett), ref(ldt), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(ldwork), (long)side.length(), (long)trans.length(), (long)direct.length(), (long)storev.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlarfg_;
+
+  protected void dlarfgK(int n, org.netlib.util.doubleW alpha, double[] x, int offsetx, int incx, org.netlib.util.doubleW tau) {
+    MethodHandle handle = dlarfg_;
+    if (handle == null) {
+      dlarfg_ = handle = downcall("dlarfg_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nalpha = { alpha.val };
+    double[] __ntau = { tau.val };
+    try {
+      handle.invokeExact(ref(n), MemorySegment.ofArray(__nalpha), array(x, offsetx), ref(incx), MemorySegment.ofArray(__ntau));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    alpha.val = __nalpha[0];
+    tau.val = __ntau[0];
+  }
+
+  private static MethodHandle dlarft_;
+
+  protected void dlarftK(String direct, String storev, int n, int k, double[] v, int offsetv, int ldv, double[] tau, int offsettau, double[] t, int offsett, int ldt) {
+    MethodHandle handle = dlarft_;
+    if (handle == null) {
+      dlarft_ = handle = downcall("dlarft_", "VAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(direct)), MemorySegment.ofArray(cstring(storev)), ref(n), ref(k), array(v, offsetv), ref(ldv), array(tau, offsettau), array(t, offsett), ref(ldt), (long)direct.length(), (long)storev.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlarfx_;
+
+  protected void dlarfxK(String side, int m, int n, double[] v, int offsetv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
+    MethodHandle handle = dlarfx_;
+    if (handle == null) {
+      dlarfx_ = handle = downcall("dlarfx_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), ref(m), ref(n), array(v, offsetv), ref(tau), array(c, offsetc), ref(Ldc), array(work, offsetwork), (long)side.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlargv_;
+
+  protected void dlargvK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] c, int offsetc, int incc) {
+    MethodHandle handle = dlargv_;
+    if (handle == null) {
+      dlargv_ = handle = downcall("dlargv_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(x, offsetx), ref(incx), array(y, offsety), ref(incy), array(c, offsetc), ref(incc));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlarnv_;
+
+  protected void dlarnvK(int idist, int[] iseed, int offsetiseed, int n, double[] x, int offsetx) {
+    MethodHandle handle = dlarnv_;
+    if (handle == null) {
+      dlarnv_ = handle = downcall("dlarnv_", "VAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(idist), array(iseed, offsetiseed), ref(n), array(x, offsetx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlarra_;
+
+  protected void dlarraK(int n, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double spltol, double tnrm, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW info) {
+    MethodHandle handle = dlarra_;
+    if (handle == null) {
+      dlarra_ = handle = downcall("dlarra_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nnsplit = { nsplit.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), array(e2, offsete2), ref(spltol), ref(tnrm), MemorySegment.ofArray(__nnsplit), array(isplit, offsetisplit), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    nsplit.val = __nnsplit[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlarrb_;
+
+  protected void dlarrbK(int n, double[] d, int offsetd, double[] lld, int offsetlld, int ifirst, int ilast, double rtol1, double rtol2, int offset, double[] w, int offsetw, double[] wgap, int offsetwgap, double[] werr, int offsetwerr, double[] work, int offsetwork, int[] iwork, int offsetiwork, double pivmin, double spdiam, int twist, org.netlib.util.intW info) {
+    MethodHandle handle = dlarrb_;
+    if (handle == null) {
+      dlarrb_ = handle = downcall("dlarrb_", "VAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(lld, offsetlld), ref(ifirst), ref(ilast), ref(rtol1), ref(rtol2), ref(offset), array(w, offsetw), array(wgap, offsetwgap), array(werr, offsetwerr), array(work, offsetwork), array(iwork, offsetiwork), ref(pivmin), ref(spdiam), ref(twist), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlarrc_;
+
+  protected void dlarrcK(String jobt, int n, double vl, double vu, double[] d, int offsetd, double[] e, int offsete, double pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
+    MethodHandle handle = dlarrc_;
+    if (handle == null) {
+      dlarrc_ = handle = downcall("dlarrc_", "VAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __neigcnt = { eigcnt.val };
+    int[] __nlcnt = { lcnt.val };
+    int[] __nrcnt = { rcnt.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobt)), ref(n), ref(vl), ref(vu), array(d, offsetd), array(e, offsete), ref(pivmin), MemorySegment.ofArray(__neigcnt), MemorySegment.ofArray(__nlcnt), MemorySegment.ofArray(__nrcnt), MemorySegment.ofArray(__ninfo), (long)jobt.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    eigcnt.val = __neigcnt[0];
+    lcnt.val = __nlcnt[0];
+    rcnt.val = __nrcnt[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlarrd_;
+
+  protected void dlarrdK(String range, String order, int n, double vl, double vu, int il, int iu, double[] gers, int offsetgers, double reltol, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double pivmin, int nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, double[] w, int offsetw, double[] werr, int offsetwerr, org.netlib.util.doubleW wl, org.netlib.util.doubleW wu, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlarrd_;
+    if (handle == null) {
+      dlarrd_ = handle = downcall("dlarrd_", "VAAAAAAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    double[] __nwl = { wl.val };
+    double[] __nwu = { wu.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(order)), ref(n), ref(vl), ref(vu), ref(il), ref(iu), array(gers, offsetgers), ref(reltol), array(d, offsetd), array(e, offsete), array(e2, offsete2), ref(pivmin), ref(nsplit), array(isplit, offsetisplit), MemorySegment.ofArray(__nm), array(w, offsetw), array(werr, offsetwerr), MemorySegment.ofArray(__nwl), MemorySegment.ofArray(__nwu), array(iblock, offsetiblock), array(indexw, offsetindexw), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)range.length(), (long)order.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    wl.val = __nwl[0];
+    wu.val = __nwu[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlarre_;
+
+  protected void dlarreK(String range, int n, org.netlib.util.doubleW vl, org.netlib.util.doubleW vu, int il, int iu, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double rtol1, double rtol2, double spltol, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, double[] w, int offsetw, double[] werr, int offsetwerr, double[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] gers, int offsetgers, org.netlib.util.doubleW pivmin, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlarre_;
+    if (handle == null) {
+      dlarre_ = handle = downcall("dlarre_", "VAAAAAAAAAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nvl = { vl.val };
+    double[] __nvu = { vu.val };
+    int[] __nnsplit = { nsplit.val };
+    int[] __nm = { m.val };
+    double[] __npivmin = { pivmin.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(range)), ref(n), MemorySegment.ofArray(__nvl), MemorySegment.ofArray(__nvu), ref(il), ref(iu), array(d, offsetd), array(e, offsete), array(e2, offsete2), ref(rtol1), ref(rtol2), ref(spltol), MemorySegment.ofArray(__nnsplit), array(isplit, offsetisplit), MemorySegment.ofArray(__nm), array(w, offsetw), array(werr, offsetwerr), array(wgap, offsetwgap), array(iblock, offsetiblock), array(indexw, offsetindexw), array(gers, offsetgers), MemorySegment.ofArray(__npivmin), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)range.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    vl.val = __nvl[0];
+    vu.val = __nvu[0];
+    nsplit.val = __nnsplit[0];
+    m.val = __nm[0];
+    pivmin.val = __npivmin[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlarrf_;
+
+  protected void dlarrfK(int n, double[] d, int offsetd, double[] l, int offsetl, double[] ld, int offsetld, int clstrt, int clend, double[] w, int offsetw, double[] wgap, int offsetwgap, double[] werr, int offsetwerr, double spdiam, double clgapl, double clgapr, double pivmin, org.netlib.util.doubleW sigma, double[] dplus, int offsetdplus, double[] lplus, int offsetlplus, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlarrf_;
+    if (handle == null) {
+      dlarrf_ = handle = downcall("dlarrf_", "VAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nsigma = { sigma.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(l, offsetl), array(ld, offsetld), ref(clstrt), ref(clend), array(w, offsetw), array(wgap, offsetwgap), array(werr, offsetwerr), ref(spdiam), ref(clgapl), ref(clgapr), ref(pivmin), MemorySegment.ofArray(__nsigma), array(dplus, offsetdplus), array(lplus, offsetlplus), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    sigma.val = __nsigma[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlarrj_;
+
+  protected void dlarrjK(int n, double[] d, int offsetd, double[] e2, int offsete2, int ifirst, int ilast, double rtol, int offset, double[] w, int offsetw, double[] werr, int offsetwerr, double[] work, int offsetwork, int[] iwork, int offsetiwork, double pivmin, double spdiam, org.netlib.util.intW info) {
+    MethodHandle handle = dlarrj_;
+    if (handle == null) {
+      dlarrj_ = handle = downcall("dlarrj_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e2, offsete2), ref(ifirst), ref(ilast), ref(rtol), ref(offset), array(w, offsetw), array(werr, offsetwerr), array(work, offsetwork), array(iwork, offsetiwork), ref(pivmin), ref(spdiam), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlarrk_;
+
+  protected void dlarrkK(int n, int iw, double gl, double gu, double[] d, int offsetd, double[] e2, int offsete2, double pivmin, double reltol, org.netlib.util.doubleW w, org.netlib.util.doubleW werr, org.netlib.util.intW info) {
+    MethodHandle handle = dlarrk_;
+    if (handle == null) {
+      dlarrk_ = handle = downcall("dlarrk_", "VAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nw = { w.val };
+    double[] __nwerr = { werr.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(iw), ref(gl), ref(gu), array(d, offsetd), array(e2, offsete2), ref(pivmin), ref(reltol), MemorySegment.ofArray(__nw), MemorySegment.ofArray(__nwerr), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    w.val = __nw[0];
+    werr.val = __nwerr[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlarrr_;
+
+  protected void dlarrrK(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
+    MethodHandle handle = dlarrr_;
+    if (handle == null) {
+      dlarrr_ = handle = downcall("dlarrr_", "VAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlarrv_;
+
+  protected void dlarrvK(int n, double vl, double vu, double[] d, int offsetd, double[] l, int offsetl, double pivmin, int[] isplit, int offsetisplit, int m, int dol, int dou, double minrgp, org.netlib.util.doubleW rtol1, org.netlib.util.doubleW rtol2, double[] w, int offsetw, double[] werr, int offsetwerr, double[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] gers, int offsetgers, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlarrv_;
+    if (handle == null) {
+      dlarrv_ = handle = downcall("dlarrv_", "VAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrtol1 = { rtol1.val };
+    double[] __nrtol2 = { rtol2.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(vl), ref(vu), array(d, offsetd), array(l, offsetl), ref(pivmin), array(isplit, offsetisplit), ref(m), ref(dol), ref(dou), ref(minrgp), MemorySegment.ofArray(__nrtol1), MemorySegment.ofArray(__nrtol2), array(w, offsetw), array(werr, offsetwerr), array(wgap, offsetwgap), array(iblock, offsetiblock), array(indexw, offsetindexw), array(gers, offsetgers), array(z, offsetz), ref(ldz), array(isuppz, offsetisuppz), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rtol1.val = __nrtol1[0];
+    rtol2.val = __nrtol2[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlartg_;
+
+  protected void dlartgK(double f, double g, org.netlib.util.doubleW cs, org.netlib.util.doubleW sn, org.netlib.util.doubleW r) {
+    MethodHandle handle = dlartg_;
+    if (handle == null) {
+      dlartg_ = handle = downcall("dlartg_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ncs = { cs.val };
+    double[] __nsn = { sn.val };
+    double[] __nr = { r.val };
+    try {
+      handle.invokeExact(ref(f), ref(g), MemorySegment.ofArray(__ncs), MemorySegment.ofArray(__nsn), MemorySegment.ofArray(__nr));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    cs.val = __ncs[0];
+    sn.val = __nsn[0];
+    r.val = __nr[0];
+  }
+
+  private static MethodHandle dlartv_;
+
+  protected void dlartvK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] c, int offsetc, double[] s, int offsets, int incc) {
+    MethodHandle handle = dlartv_;
+    if (handle == null) {
+      dlartv_ = handle = downcall("dlartv_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(x, offsetx), ref(incx), array(y, offsety), ref(incy), array(c, offsetc), array(s, offsets), ref(incc));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlaruv_;
+
+  protected void dlaruvK(int[] iseed, int offsetiseed, int n, double[] x, int offsetx) {
+    MethodHandle handle = dlaruv_;
+    if (handle == null) {
+      dlaruv_ = handle = downcall("dlaruv_", "VAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(array(iseed, offsetiseed), ref(n), array(x, offsetx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlarz_;
+
+  protected void dlarzK(String side, int m, int n, int l, double[] v, int offsetv, int incv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
+    MethodHandle handle = dlarz_;
+    if (handle == null) {
+      dlarz_ = handle = downcall("dlarz_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), ref(m), ref(n), ref(l), array(v, offsetv), ref(incv), ref(tau), array(c, offsetc), ref(Ldc), array(work, offsetwork), (long)side.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlarzb_;
+
+  protected void dlarzbK(String side, String trans, String direct, String storev, int m, int n, int k, int l, double[] v, int offsetv, int ldv, double[] t, int offsett, int ldt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int ldwork) {
+    MethodHandle handle = dlarzb_;
+    if (handle == null) {
+      dlarzb_ = handle = downcall("dlarzb_", "VAAAAAAAAAAAAAAAAJJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(direct)), MemorySegment.ofArray(cstring(storev)), ref(m), ref(n), ref(k), ref(l), array(v, offsetv), ref(ldv), array(t, offsett), ref(ldt), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(ldwork), (long)side.length(), (long)trans.length(), (long)direct.length(), (long)storev.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlarzt_;
+
+  protected void dlarztK(String direct, String storev, int n, int k, double[] v, int offsetv, int ldv, double[] tau, int offsettau, double[] t, int offsett, int ldt) {
+    MethodHandle handle = dlarzt_;
+    if (handle == null) {
+      dlarzt_ = handle = downcall("dlarzt_", "VAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(direct)), MemorySegment.ofArray(cstring(storev)), ref(n), ref(k), array(v, offsetv), ref(ldv), array(tau, offsettau), array(t, offsett), ref(ldt), (long)direct.length(), (long)storev.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlas2_;
+
+  protected void dlas2K(double f, double g, double h, org.netlib.util.doubleW ssmin, org.netlib.util.doubleW ssmax) {
+    MethodHandle handle = dlas2_;
+    if (handle == null) {
+      dlas2_ = handle = downcall("dlas2_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nssmin = { ssmin.val };
+    double[] __nssmax = { ssmax.val };
+    try {
+      handle.invokeExact(ref(f), ref(g), ref(h), MemorySegment.ofArray(__nssmin), MemorySegment.ofArray(__nssmax));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ssmin.val = __nssmin[0];
+    ssmax.val = __nssmax[0];
+  }
+
+  private static MethodHandle dlascl_;
+
+  protected void dlasclK(String type, int kl, int ku, double cfrom, double cto, int m, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = dlascl_;
+    if (handle == null) {
+      dlascl_ = handle = downcall("dlascl_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(type)), ref(kl), ref(ku), ref(cfrom), ref(cto), ref(m), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)type.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlasd0_;
+
+  protected void dlasd0K(int n, int sqre, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, int smlsiz, int[] iwork, int offsetiwork, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlasd0_;
+    if (handle == null) {
+      dlasd0_ = handle = downcall("dlasd0_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(sqre), array(d, offsetd), array(e, offsete), array(u, offsetu), ref(ldu), array(vt, offsetvt), ref(ldvt), ref(smlsiz), array(iwork, offsetiwork), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlasd1_;
+
+  protected void dlasd1K(int nl, int nr, int sqre, double[] d, int offsetd, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, int[] iwork, int offsetiwork, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlasd1_;
+    if (handle == null) {
+      dlasd1_ = handle = downcall("dlasd1_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nalpha = { alpha.val };
+    double[] __nbeta = { beta.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(nl), ref(nr), ref(sqre), array(d, offsetd), MemorySegment.ofArray(__nalpha), MemorySegment.ofArray(__nbeta), array(u, offsetu), ref(ldu), array(vt, offsetvt), ref(ldvt), array(idxq, offsetidxq), array(iwork, offsetiwork), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    alpha.val = __nalpha[0];
+    beta.val = __nbeta[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlasd2_;
+
+  protected void dlasd2K(int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, int offsetd, double[] z, int offsetz, double alpha, double beta, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] dsigma, int offsetdsigma, double[] u2, int offsetu2, int ldu2, double[] vt2, int offsetvt2, int ldvt2, int[] idxp, int offsetidxp, int[] idx, int offsetidx, int[] idxc, int offsetidxc, int[] idxq, int offsetidxq, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    MethodHandle handle = dlasd2_;
+    if (handle == null) {
+      dlasd2_ = handle = downcall("dlasd2_", "VAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nk = { k.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(nl), ref(nr), ref(sqre), MemorySegment.ofArray(__nk), array(d, offsetd), array(z, offsetz), ref(alpha), ref(beta), array(u, offsetu), ref(ldu), array(vt, offsetvt), ref(ldvt), array(dsigma, offsetdsigma), array(u2, offsetu2), ref(ldu2), array(vt2, offsetvt2), ref(ldvt2), array(idxp, offsetidxp), array(idx, offsetidx), array(idxc, offsetidxc), array(idxq, offsetidxq), array(coltyp, offsetcoltyp), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    k.val = __nk[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlasd3_;
+
+  protected void dlasd3K(int nl, int nr, int sqre, int k, double[] d, int offsetd, double[] q, int offsetq, int ldq, double[] dsigma, int offsetdsigma, double[] u, int offsetu, int ldu, double[] u2, int offsetu2, int ldu2, double[] vt, int offsetvt, int ldvt, double[] vt2, int offsetvt2, int ldvt2, int[] idxc, int offsetidxc, int[] ctot, int offsetctot, double[] z, int offsetz, org.netlib.util.intW info) {
+    MethodHandle handle = dlasd3_;
+    if (handle == null) {
+      dlasd3_ = handle = downcall("dlasd3_", "VAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(nl), ref(nr), ref(sqre), ref(k), array(d, offsetd), array(q, offsetq), ref(ldq), array(dsigma, offsetdsigma), array(u, offsetu), ref(ldu), array(u2, offsetu2), ref(ldu2), array(vt, offsetvt), ref(ldvt), array(vt2, offsetvt2), ref(ldvt2), array(idxc, offsetidxc), array(ctot, offsetctot), array(z, offsetz), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlasd4_;
+
+  protected void dlasd4K(int n, int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW sigma, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlasd4_;
+    if (handle == null) {
+      dlasd4_ = handle = downcall("dlasd4_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nsigma = { sigma.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(i), array(d, offsetd), array(z, offsetz), array(delta, offsetdelta), ref(rho), MemorySegment.ofArray(__nsigma), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    sigma.val = __nsigma[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlasd5_;
+
+  protected void dlasd5K(int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dsigma, double[] work, int offsetwork) {
+    MethodHandle handle = dlasd5_;
+    if (handle == null) {
+      dlasd5_ = handle = downcall("dlasd5_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ndsigma = { dsigma.val };
+    try {
+      handle.invokeExact(ref(i), array(d, offsetd), array(z, offsetz), array(delta, offsetdelta), ref(rho), MemorySegment.ofArray(__ndsigma), array(work, offsetwork));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    dsigma.val = __ndsigma[0];
+  }
+
+  private static MethodHandle dlasd6_;
+
+  protected void dlasd6K(int icompq, int nl, int nr, int sqre, double[] d, int offsetd, double[] vf, int offsetvf, double[] vl, int offsetvl, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, double[] poles, int offsetpoles, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, org.netlib.util.intW k, org.netlib.util.doubleW c, org.netlib.util.doubleW s, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlasd6_;
+    if (handle == null) {
+      dlasd6_ = handle = downcall("dlasd6_", "VAAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nalpha = { alpha.val };
+    double[] __nbeta = { beta.val };
+    int[] __ngivptr = { givptr.val };
+    int[] __nk = { k.val };
+    double[] __nc = { c.val };
+    double[] __ns = { s.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(nl), ref(nr), ref(sqre), array(d, offsetd), array(vf, offsetvf), array(vl, offsetvl), MemorySegment.ofArray(__nalpha), MemorySegment.ofArray(__nbeta), array(idxq, offsetidxq), array(perm, offsetperm), MemorySegment.ofArray(__ngivptr), array(givcol, offsetgivcol), ref(ldgcol), array(givnum, offsetgivnum), ref(ldgnum), array(poles, offsetpoles), array(difl, offsetdifl), array(difr, offsetdifr), array(z, offsetz), MemorySegment.ofArray(__nk), MemorySegment.ofArray(__nc), MemorySegment.ofArray(__ns), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    alpha.val = __nalpha[0];
+    beta.val = __nbeta[0];
+    givptr.val = __ngivptr[0];
+    k.val = __nk[0];
+    c.val = __nc[0];
+    s.val = __ns[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlasd7_;
+
+  protected void dlasd7K(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, int offsetd, double[] z, int offsetz, double[] zw, int offsetzw, double[] vf, int offsetvf, double[] vfw, int offsetvfw, double[] vl, int offsetvl, double[] vlw, int offsetvlw, double alpha, double beta, double[] dsigma, int offsetdsigma, int[] idx, int offsetidx, int[] idxp, int offsetidxp, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, org.netlib.util.doubleW c, org.netlib.util.doubleW s, org.netlib.util.intW info) {
+    MethodHandle handle = dlasd7_;
+    if (handle == null) {
+      dlasd7_ = handle = downcall("dlasd7_", "VAAAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nk = { k.val };
+    int[] __ngivptr = { givptr.val };
+    double[] __nc = { c.val };
+    double[] __ns = { s.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(nl), ref(nr), ref(sqre), MemorySegment.ofArray(__nk), array(d, offsetd), array(z, offsetz), array(zw, offsetzw), array(vf, offsetvf), array(vfw, offsetvfw), array(vl, offsetvl), array(vlw, offsetvlw), ref(alpha), ref(beta), array(dsigma, offsetdsigma), array(idx, offsetidx), array(idxp, offsetidxp), array(idxq, offsetidxq), array(perm, offsetperm), MemorySegment.ofArray(__ngivptr), array(givcol, offsetgivcol), ref(ldgcol), array(givnum, offsetgivnum), ref(ldgnum), MemorySegment.ofArray(__nc), MemorySegment.ofArray(__ns), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    k.val = __nk[0];
+    givptr.val = __ngivptr[0];
+    c.val = __nc[0];
+    s.val = __ns[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlasd8_;
+
+  protected void dlasd8K(int icompq, int k, double[] d, int offsetd, double[] z, int offsetz, double[] vf, int offsetvf, double[] vl, int offsetvl, double[] difl, int offsetdifl, double[] difr, int offsetdifr, int lddifr, double[] dsigma, int offsetdsigma, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlasd8_;
+    if (handle == null) {
+      dlasd8_ = handle = downcall("dlasd8_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(k), array(d, offsetd), array(z, offsetz), array(vf, offsetvf), array(vl, offsetvl), array(difl, offsetdifl), array(difr, offsetdifr), ref(lddifr), array(dsigma, offsetdsigma), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlasda_;
+
+  protected void dlasdaK(int icompq, int smlsiz, int n, int sqre, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int[] k, int offsetk, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, double[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, double[] givnum, int offsetgivnum, double[] c, int offsetc, double[] s, int offsets, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlasda_;
+    if (handle == null) {
+      dlasda_ = handle = downcall("dlasda_", "VAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(smlsiz), ref(n), ref(sqre), array(d, offsetd), array(e, offsete), array(u, offsetu), ref(ldu), array(vt, offsetvt), array(k, offsetk), array(difl, offsetdifl), array(difr, offsetdifr), array(z, offsetz), array(poles, offsetpoles), array(givptr, offsetgivptr), array(givcol, offsetgivcol), ref(ldgcol), array(perm, offsetperm), array(givnum, offsetgivnum), array(c, offsetc), array(s, offsets), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlasdq_;
+
+  protected void dlasdqK(String uplo, int sqre, int n, int ncvt, int nru, int ncc, double[] d, int offsetd, double[] e, int offsete, double[] vt, int offsetvt, int ldvt, double[] u, int offsetu, int ldu, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlasdq_;
+    if (handle == null) {
+      dlasdq_ = handle = downcall("dlasdq_", "VAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(sqre), ref(n), ref(ncvt), ref(nru), ref(ncc), array(d, offsetd), array(e, offsete), array(vt, offsetvt), ref(ldvt), array(u, offsetu), ref(ldu), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlasdt_;
+
+  protected void dlasdtK(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int offsetinode, int[] ndiml, int offsetndiml, int[] ndimr, int offsetndimr, int msub) {
+    MethodHandle handle = dlasdt_;
+    if (handle == null) {
+      dlasdt_ = handle = downcall("dlasdt_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nlvl = { lvl.val };
+    int[] __nnd = { nd.val };
+    try {
+      handle.invokeExact(ref(n), MemorySegment.ofArray(__nlvl), MemorySegment.ofArray(__nnd), array(inode, offsetinode), array(ndiml, offsetndiml), array(ndimr, offsetndimr), ref(msub));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    lvl.val = __nlvl[0];
+    nd.val = __nnd[0];
+  }
+
+  private static MethodHandle dlaset_;
+
+  protected void dlasetK(String uplo, int m, int n, double alpha, double beta, double[] a, int offseta, int lda) {
+    MethodHandle handle = dlaset_;
+    if (handle == null) {
+      dlaset_ = handle = downcall("dlaset_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(m), ref(n), ref(alpha), ref(beta), array(a, offseta), ref(lda), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlasq1_;
+
+  protected void dlasq1K(int n, double[] d, int offsetd, double[] e, int offsete, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dlasq1_;
+    if (handle == null) {
+      dlasq1_ = handle = downcall("dlasq1_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlasq2_;
+
+  protected void dlasq2K(int n, double[] z, int offsetz, org.netlib.util.intW info) {
+    MethodHandle handle = dlasq2_;
+    if (handle == null) {
+      dlasq2_ = handle = downcall("dlasq2_", "VAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(z, offsetz), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlasq3_;
+
+  protected void dlasq3K(int i0, org.netlib.util.intW n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dn1, org.netlib.util.doubleW dn2, org.netlib.util.doubleW g, org.netlib.util.doubleW tau) {
+    MethodHandle handle = dlasq3_;
+    if (handle == null) {
+      dlasq3_ = handle = downcall("dlasq3_", "VAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nn0 = { n0.val };
+    double[] __ndmin = { dmin.val };
+    double[] __nsigma = { sigma.val };
+    double[] __ndesig = { desig.val };
+    double[] __nqmax = { qmax.val };
+    int[] __nnfail = { nfail.val };
+    int[] __niter = { iter.val };
+    int[] __nndiv = { ndiv.val };
+    int[] __nttype = { ttype.val };
+    double[] __ndmin1 = { dmin1.val };
+    double[] __ndmin2 = { dmin2.val };
+    double[] __ndn = { dn.val };
+    double[] __ndn1 = { dn1.val };
+    double[] __ndn2 = { dn2.val };
+    double[] __ng = { g.val };
+    double[] __ntau = { tau.val };
+    try {
+      handle.invokeExact(ref(i0), MemorySegment.ofArray(__nn0), array(z, offsetz), ref(pp), MemorySegment.ofArray(__ndmin), MemorySegment.ofArray(__nsigma), MemorySegment.ofArray(__ndesig), MemorySegment.ofArray(__nqmax), MemorySegment.ofArray(__nnfail), MemorySegment.ofArray(__niter), MemorySegment.ofArray(__nndiv), ref(ieee), MemorySegment.ofArray(__nttype), MemorySegment.ofArray(__ndmin1), MemorySegment.ofArray(__ndmin2), MemorySegment.ofArray(__ndn), MemorySegment.ofArray(__ndn1), MemorySegment.ofArray(__ndn2), MemorySegment.ofArray(__ng), MemorySegment.ofArray(__ntau));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    n0.val = __nn0[0];
+    dmin.val = __ndmin[0];
+    sigma.val = __nsigma[0];
+    desig.val = __ndesig[0];
+    qmax.val = __nqmax[0];
+    nfail.val = __nnfail[0];
+    iter.val = __niter[0];
+    ndiv.val = __nndiv[0];
+    ttype.val = __nttype[0];
+    dmin1.val = __ndmin1[0];
+    dmin2.val = __ndmin2[0];
+    dn.val = __ndn[0];
+    dn1.val = __ndn1[0];
+    dn2.val = __ndn2[0];
+    g.val = __ng[0];
+    tau.val = __ntau[0];
+  }
+
+  private static MethodHandle dlasq4_;
+
+  protected void dlasq4K(int i0, int n0, double[] z, int offsetz, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype, org.netlib.util.doubleW g) {
+    MethodHandle handle = dlasq4_;
+    if (handle == null) {
+      dlasq4_ = handle = downcall("dlasq4_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ntau = { tau.val };
+    int[] __nttype = { ttype.val };
+    double[] __ng = { g.val };
+    try {
+      handle.invokeExact(ref(i0), ref(n0), array(z, offsetz), ref(pp), ref(n0in), ref(dmin), ref(dmin1), ref(dmin2), ref(dn), ref(dn1), ref(dn2), MemorySegment.ofArray(__ntau), MemorySegment.ofArray(__nttype), MemorySegment.ofArray(__ng));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    tau.val = __ntau[0];
+    ttype.val = __nttype[0];
+    g.val = __ng[0];
+  }
+
+  private static MethodHandle dlasq5_;
+
+  protected void dlasq5K(int i0, int n0, double[] z, int offsetz, int pp, double tau, double sigma, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2, boolean ieee, double eps) {
+    MethodHandle handle = dlasq5_;
+    if (handle == null) {
+      dlasq5_ = handle = downcall("dlasq5_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ndmin = { dmin.val };
+    double[] __ndmin1 = { dmin1.val };
+    double[] __ndmin2 = { dmin2.val };
+    double[] __ndn = { dn.val };
+    double[] __ndnm1 = { dnm1.val };
+    double[] __ndnm2 = { dnm2.val };
+    try {
+      handle.invokeExact(ref(i0), ref(n0), array(z, offsetz), ref(pp), ref(tau), ref(sigma), MemorySegment.ofArray(__ndmin), MemorySegment.ofArray(__ndmin1), MemorySegment.ofArray(__ndmin2), MemorySegment.ofArray(__ndn), MemorySegment.ofArray(__ndnm1), MemorySegment.ofArray(__ndnm2), ref(ieee), ref(eps));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    dmin.val = __ndmin[0];
+    dmin1.val = __ndmin1[0];
+    dmin2.val = __ndmin2[0];
+    dn.val = __ndn[0];
+    dnm1.val = __ndnm1[0];
+    dnm2.val = __ndnm2[0];
+  }
+
+  private static MethodHandle dlasq6_;
+
+  protected void dlasq6K(int i0, int n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2) {
+    MethodHandle handle = dlasq6_;
+    if (handle == null) {
+      dlasq6_ = handle = downcall("dlasq6_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ndmin = { dmin.val };
+    double[] __ndmin1 = { dmin1.val };
+    double[] __ndmin2 = { dmin2.val };
+    double[] __ndn = { dn.val };
+    double[] __ndnm1 = { dnm1.val };
+    double[] __ndnm2 = { dnm2.val };
+    try {
+      handle.invokeExact(ref(i0), ref(n0), array(z, offsetz), ref(pp), MemorySegment.ofArray(__ndmin), MemorySegment.ofArray(__ndmin1), MemorySegment.ofArray(__ndmin2), MemorySegment.ofArray(__ndn), MemorySegment.ofArray(__ndnm1), MemorySegment.ofArray(__ndnm2));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    dmin.val = __ndmin[0];
+    dmin1.val = __ndmin1[0];
+    dmin2.val = __ndmin2[0];
+    dn.val = __ndn[0];
+    dnm1.val = __ndnm1[0];
+    dnm2.val = __ndnm2[0];
+  }
+
+  private static MethodHandle dlasr_;
+
+  protected void dlasrK(String side, String pivot, String direct, int m, int n, double[] c, int offsetc, double[] s, int offsets, double[] a, int offseta, int lda) {
+    MethodHandle handle = dlasr_;
+    if (handle == null) {
+      dlasr_ = handle = downcall("dlasr_", "VAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(pivot)), MemorySegment.ofArray(cstring(direct)), ref(m), ref(n), array(c, offsetc), array(s, offsets), array(a, offseta), ref(lda), (long)side.length(), (long)pivot.length(), (long)direct.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlasrt_;
+
+  protected void dlasrtK(String id, int n, double[] d, int offsetd, org.netlib.util.intW info) {
+    MethodHandle handle = dlasrt_;
+    if (handle == null) {
+      dlasrt_ = handle = downcall("dlasrt_", "VAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(id)), ref(n), array(d, offsetd), MemorySegment.ofArray(__ninfo), (long)id.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlassq_;
+
+  protected void dlassqK(int n, double[] x, int offsetx, int incx, org.netlib.util.doubleW scale, org.netlib.util.doubleW sumsq) {
+    MethodHandle handle = dlassq_;
+    if (handle == null) {
+      dlassq_ = handle = downcall("dlassq_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscale = { scale.val };
+    double[] __nsumsq = { sumsq.val };
+    try {
+      handle.invokeExact(ref(n), array(x, offsetx), ref(incx), MemorySegment.ofArray(__nscale), MemorySegment.ofArray(__nsumsq));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    sumsq.val = __nsumsq[0];
+  }
+
+  private static MethodHandle dlasv2_;
+
+  protected void dlasv2K(double f, double g, double h, org.netlib.util.doubleW ssmin, org.netlib.util.doubleW ssmax, org.netlib.util.doubleW snr, org.netlib.util.doubleW csr, org.netlib.util.doubleW snl, org.netlib.util.doubleW csl) {
+    MethodHandle handle = dlasv2_;
+    if (handle == null) {
+      dlasv2_ = handle = downcall("dlasv2_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nssmin = { ssmin.val };
+    double[] __nssmax = { ssmax.val };
+    double[] __nsnr = { snr.val };
+    double[] __ncsr = { csr.val };
+    double[] __nsnl = { snl.val };
+    double[] __ncsl = { csl.val };
+    try {
+      handle.invokeExact(ref(f), ref(g), ref(h), MemorySegment.ofArray(__nssmin), MemorySegment.ofArray(__nssmax), MemorySegment.ofArray(__nsnr), MemorySegment.ofArray(__ncsr), MemorySegment.ofArray(__nsnl), MemorySegment.ofArray(__ncsl));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ssmin.val = __nssmin[0];
+    ssmax.val = __nssmax[0];
+    snr.val = __nsnr[0];
+    csr.val = __ncsr[0];
+    snl.val = __nsnl[0];
+    csl.val = __ncsl[0];
+  }
+
+  private static MethodHandle dlaswp_;
+
+  protected void dlaswpK(int n, double[] a, int offseta, int lda, int k1, int k2, int[] ipiv, int offsetipiv, int incx) {
+    MethodHandle handle = dlaswp_;
+    if (handle == null) {
+      dlaswp_ = handle = downcall("dlaswp_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(a, offseta), ref(lda), ref(k1), ref(k2), array(ipiv, offsetipiv), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlasy2_;
+
+  protected void dlasy2K(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, double[] tl, int offsettl, int ldtl, double[] tr, int offsettr, int ldtr, double[] b, int offsetb, int ldb, org.netlib.util.doubleW scale, double[] x, int offsetx, int ldx, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
+    MethodHandle handle = dlasy2_;
+    if (handle == null) {
+      dlasy2_ = handle = downcall("dlasy2_", "VAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscale = { scale.val };
+    double[] __nxnorm = { xnorm.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(ltranl), ref(ltranr), ref(isgn), ref(n1), ref(n2), array(tl, offsettl), ref(ldtl), array(tr, offsettr), ref(ldtr), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__nscale), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nxnorm), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    xnorm.val = __nxnorm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlasyf_;
+
+  protected void dlasyfK(String uplo, int n, int nb, org.netlib.util.intW kb, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] w, int offsetw, int ldw, org.netlib.util.intW info) {
+    MethodHandle handle = dlasyf_;
+    if (handle == null) {
+      dlasyf_ = handle = downcall("dlasyf_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nkb = { kb.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nb), MemorySegment.ofArray(__nkb), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(w, offsetw), ref(ldw), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    kb.val = __nkb[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlatbs_;
+
+  protected void dlatbsK(String uplo, String trans, String diag, String normin, int n, int kd, double[] ab, int offsetab, int ldab, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    MethodHandle handle = dlatbs_;
+    if (handle == null) {
+      dlatbs_ = handle = downcall("dlatbs_", "VAAAAAAAAAAAAJJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscale = { scale.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), MemorySegment.ofArray(cstring(normin)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), array(x, offsetx), MemorySegment.ofArray(__nscale), array(cnorm, offsetcnorm), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length(), (long)normin.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlatdf_;
+
+  protected void dlatdfK(int ijob, int n, double[] z, int offsetz, int ldz, double[] rhs, int offsetrhs, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv) {
+    MethodHandle handle = dlatdf_;
+    if (handle == null) {
+      dlatdf_ = handle = downcall("dlatdf_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrdsum = { rdsum.val };
+    double[] __nrdscal = { rdscal.val };
+    try {
+      handle.invokeExact(ref(ijob), ref(n), array(z, offsetz), ref(ldz), array(rhs, offsetrhs), MemorySegment.ofArray(__nrdsum), MemorySegment.ofArray(__nrdscal), array(ipiv, offsetipiv), array(jpiv, offsetjpiv));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rdsum.val = __nrdsum[0];
+    rdscal.val = __nrdscal[0];
+  }
+
+  private static MethodHandle dlatps_;
+
+  protected void dlatpsK(String uplo, String trans, String diag, String normin, int n, double[] ap, int offsetap, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    MethodHandle handle = dlatps_;
+    if (handle == null) {
+      dlatps_ = handle = downcall("dlatps_", "VAAAAAAAAAAJJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscale = { scale.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), MemorySegment.ofArray(cstring(normin)), ref(n), array(ap, offsetap), array(x, offsetx), MemorySegment.ofArray(__nscale), array(cnorm, offsetcnorm), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length(), (long)normin.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlatrd_;
+
+  protected void dlatrdK(String uplo, int n, int nb, double[] a, int offseta, int lda, double[] e, int offsete, double[] tau, int offsettau, double[] w, int offsetw, int ldw) {
+    MethodHandle handle = dlatrd_;
+    if (handle == null) {
+      dlatrd_ = handle = downcall("dlatrd_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nb), array(a, offseta), ref(lda), array(e, offsete), array(tau, offsettau), array(w, offsetw), ref(ldw), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlatrs_;
+
+  protected void dlatrsK(String uplo, String trans, String diag, String normin, int n, double[] a, int offseta, int lda, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    MethodHandle handle = dlatrs_;
+    if (handle == null) {
+      dlatrs_ = handle = downcall("dlatrs_", "VAAAAAAAAAAAJJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscale = { scale.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), MemorySegment.ofArray(cstring(normin)), ref(n), array(a, offseta), ref(lda), array(x, offsetx), MemorySegment.ofArray(__nscale), array(cnorm, offsetcnorm), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length(), (long)normin.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlatrz_;
+
+  protected void dlatrzK(int m, int n, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork) {
+    MethodHandle handle = dlatrz_;
+    if (handle == null) {
+      dlatrz_ = handle = downcall("dlatrz_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(l), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlatzm_;
+
+  protected void dlatzmK(String side, int m, int n, double[] v, int offsetv, int incv, double tau, double[] c1, int offsetc1, double[] c2, int offsetc2, int Ldc, double[] work, int offsetwork) {
+    MethodHandle handle = dlatzm_;
+    if (handle == null) {
+      dlatzm_ = handle = downcall("dlatzm_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), ref(m), ref(n), array(v, offsetv), ref(incv), ref(tau), array(c1, offsetc1), array(c2, offsetc2), ref(Ldc), array(work, offsetwork), (long)side.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dlauu2_;
+
+  protected void dlauu2K(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = dlauu2_;
+    if (handle == null) {
+      dlauu2_ = handle = downcall("dlauu2_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlauum_;
+
+  protected void dlauumK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = dlauum_;
+    if (handle == null) {
+      dlauum_ = handle = downcall("dlauum_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  protected void dlazq3K(int i0, org.netlib.util.intW n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dn1, org.netlib.util.doubleW dn2, org.netlib.util.doubleW tau) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void dlazq4K(int i0, int n0, double[] z, int offsetz, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype, org.netlib.util.doubleW g) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static MethodHandle dopgtr_;
+
+  protected void dopgtrK(String uplo, int n, double[] ap, int offsetap, double[] tau, int offsettau, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dopgtr_;
+    if (handle == null) {
+      dopgtr_ = handle = downcall("dopgtr_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(tau, offsettau), array(q, offsetq), ref(ldq), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dopmtr_;
+
+  protected void dopmtrK(String side, String uplo, String trans, int m, int n, double[] ap, int offsetap, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dopmtr_;
+    if (handle == null) {
+      dopmtr_ = handle = downcall("dopmtr_", "VAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), array(ap, offsetap), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)uplo.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dorg2l_;
+
+  protected void dorg2lK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dorg2l_;
+    if (handle == null) {
+      dorg2l_ = handle = downcall("dorg2l_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dorg2r_;
+
+  protected void dorg2rK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dorg2r_;
+    if (handle == null) {
+      dorg2r_ = handle = downcall("dorg2r_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dorgbr_;
+
+  protected void dorgbrK(String vect, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dorgbr_;
+    if (handle == null) {
+      dorgbr_ = handle = downcall("dorgbr_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(vect)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)vect.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dorghr_;
+
+  protected void dorghrK(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dorghr_;
+    if (handle == null) {
+      dorghr_ = handle = downcall("dorghr_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(ilo), ref(ihi), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dorgl2_;
+
+  protected void dorgl2K(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dorgl2_;
+    if (handle == null) {
+      dorgl2_ = handle = downcall("dorgl2_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dorglq_;
+
+  protected void dorglqK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dorglq_;
+    if (handle == null) {
+      dorglq_ = handle = downcall("dorglq_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dorgql_;
+
+  protected void dorgqlK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dorgql_;
+    if (handle == null) {
+      dorgql_ = handle = downcall("dorgql_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dorgqr_;
+
+  protected void dorgqrK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dorgqr_;
+    if (handle == null) {
+      dorgqr_ = handle = downcall("dorgqr_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dorgr2_;
+
+  protected void dorgr2K(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dorgr2_;
+    if (handle == null) {
+      dorgr2_ = handle = downcall("dorgr2_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dorgrq_;
+
+  protected void dorgrqK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dorgrq_;
+    if (handle == null) {
+      dorgrq_ = handle = downcall("dorgrq_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dorgtr_;
+
+  protected void dorgtrK(String uplo, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dorgtr_;
+    if (handle == null) {
+      dorgtr_ = handle = downcall("dorgtr_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dorm2l_;
+
+  protected void dorm2lK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dorm2l_;
+    if (handle == null) {
+      dorm2l_ = handle = downcall("dorm2l_", "VAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dorm2r_;
+
+  protected void dorm2rK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dorm2r_;
+    if (handle == null) {
+      dorm2r_ = handle = downcall("dorm2r_", "VAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dormbr_;
+
+  protected void dormbrK(String vect, String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dormbr_;
+    if (handle == null) {
+      dormbr_ = handle = downcall("dormbr_", "VAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(vect)), MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)vect.length(), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dormhr_;
+
+  protected void dormhrK(String side, String trans, int m, int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dormhr_;
+    if (handle == null) {
+      dormhr_ = handle = downcall("dormhr_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(ilo), ref(ihi), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dorml2_;
+
+  protected void dorml2K(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dorml2_;
+    if (handle == null) {
+      dorml2_ = handle = downcall("dorml2_", "VAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dormlq_;
+
+  protected void dormlqK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dormlq_;
+    if (handle == null) {
+      dormlq_ = handle = downcall("dormlq_", "VAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dormql_;
+
+  protected void dormqlK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dormql_;
+    if (handle == null) {
+      dormql_ = handle = downcall("dormql_", "VAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dormqr_;
+
+  protected void dormqrK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dormqr_;
+    if (handle == null) {
+      dormqr_ = handle = downcall("dormqr_", "VAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dormr2_;
+
+  protected void dormr2K(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dormr2_;
+    if (handle == null) {
+      dormr2_ = handle = downcall("dormr2_", "VAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dormr3_;
+
+  protected void dormr3K(String side, String trans, int m, int n, int k, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dormr3_;
+    if (handle == null) {
+      dormr3_ = handle = downcall("dormr3_", "VAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), ref(l), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dormrq_;
+
+  protected void dormrqK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dormrq_;
+    if (handle == null) {
+      dormrq_ = handle = downcall("dormrq_", "VAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dormrz_;
+
+  protected void dormrzK(String side, String trans, int m, int n, int k, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dormrz_;
+    if (handle == null) {
+      dormrz_ = handle = downcall("dormrz_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), ref(l), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dormtr_;
+
+  protected void dormtrK(String side, String uplo, String trans, int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dormtr_;
+    if (handle == null) {
+      dormtr_ = handle = downcall("dormtr_", "VAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)uplo.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpbcon_;
+
+  protected void dpbconK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dpbcon_;
+    if (handle == null) {
+      dpbcon_ = handle = downcall("dpbcon_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpbequ_;
+
+  protected void dpbequK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    MethodHandle handle = dpbequ_;
+    if (handle == null) {
+      dpbequ_ = handle = downcall("dpbequ_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscond = { scond.val };
+    double[] __namax = { amax.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), array(s, offsets), MemorySegment.ofArray(__nscond), MemorySegment.ofArray(__namax), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scond.val = __nscond[0];
+    amax.val = __namax[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpbrfs_;
+
+  protected void dpbrfsK(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dpbrfs_;
+    if (handle == null) {
+      dpbrfs_ = handle = downcall("dpbrfs_", "VAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), ref(nrhs), array(ab, offsetab), ref(ldab), array(afb, offsetafb), ref(ldafb), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpbstf_;
+
+  protected void dpbstfK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    MethodHandle handle = dpbstf_;
+    if (handle == null) {
+      dpbstf_ = handle = downcall("dpbstf_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpbsv_;
+
+  protected void dpbsvK(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dpbsv_;
+    if (handle == null) {
+      dpbsv_ = handle = downcall("dpbsv_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), ref(nrhs), array(ab, offsetab), ref(ldab), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpbsvx_;
+
+  protected void dpbsvxK(String fact, String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dpbsvx_;
+    if (handle == null) {
+      dpbsvx_ = handle = downcall("dpbsvx_", "VAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), ref(nrhs), array(ab, offsetab), ref(ldab), array(afb, offsetafb), ref(ldafb), MemorySegment.ofArray(__nequed), array(s, offsets), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)uplo.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpbtf2_;
+
+  protected void dpbtf2K(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    MethodHandle handle = dpbtf2_;
+    if (handle == null) {
+      dpbtf2_ = handle = downcall("dpbtf2_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpbtrf_;
+
+  protected void dpbtrfK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    MethodHandle handle = dpbtrf_;
+    if (handle == null) {
+      dpbtrf_ = handle = downcall("dpbtrf_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpbtrs_;
+
+  protected void dpbtrsK(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dpbtrs_;
+    if (handle == null) {
+      dpbtrs_ = handle = downcall("dpbtrs_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), ref(nrhs), array(ab, offsetab), ref(ldab), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpocon_;
+
+  protected void dpoconK(String uplo, int n, double[] a, int offseta, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dpocon_;
+    if (handle == null) {
+      dpocon_ = handle = downcall("dpocon_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpoequ_;
+
+  protected void dpoequK(int n, double[] a, int offseta, int lda, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    MethodHandle handle = dpoequ_;
+    if (handle == null) {
+      dpoequ_ = handle = downcall("dpoequ_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscond = { scond.val };
+    double[] __namax = { amax.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(a, offseta), ref(lda), array(s, offsets), MemorySegment.ofArray(__nscond), MemorySegment.ofArray(__namax), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scond.val = __nscond[0];
+    amax.val = __namax[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dporfs_;
+
+  protected void dporfsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dporfs_;
+    if (handle == null) {
+      dporfs_ = handle = downcall("dporfs_", "VAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(af, offsetaf), ref(ldaf), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dposv_;
+
+  protected void dposvK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dposv_;
+    if (handle == null) {
+      dposv_ = handle = downcall("dposv_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dposvx_;
+
+  protected void dposvxK(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dposvx_;
+    if (handle == null) {
+      dposvx_ = handle = downcall("dposvx_", "VAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(af, offsetaf), ref(ldaf), MemorySegment.ofArray(__nequed), array(s, offsets), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)uplo.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpotf2_;
+
+  protected void dpotf2K(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = dpotf2_;
+    if (handle == null) {
+      dpotf2_ = handle = downcall("dpotf2_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpotrf_;
+
+  protected void dpotrfK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = dpotrf_;
+    if (handle == null) {
+      dpotrf_ = handle = downcall("dpotrf_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpotri_;
+
+  protected void dpotriK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = dpotri_;
+    if (handle == null) {
+      dpotri_ = handle = downcall("dpotri_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpotrs_;
+
+  protected void dpotrsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dpotrs_;
+    if (handle == null) {
+      dpotrs_ = handle = downcall("dpotrs_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dppcon_;
+
+  protected void dppconK(String uplo, int n, double[] ap, int offsetap, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dppcon_;
+    if (handle == null) {
+      dppcon_ = handle = downcall("dppcon_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dppequ_;
+
+  protected void dppequK(String uplo, int n, double[] ap, int offsetap, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    MethodHandle handle = dppequ_;
+    if (handle == null) {
+      dppequ_ = handle = downcall("dppequ_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscond = { scond.val };
+    double[] __namax = { amax.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(s, offsets), MemorySegment.ofArray(__nscond), MemorySegment.ofArray(__namax), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scond.val = __nscond[0];
+    amax.val = __namax[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpprfs_;
+
+  protected void dpprfsK(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dpprfs_;
+    if (handle == null) {
+      dpprfs_ = handle = downcall("dpprfs_", "VAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(afp, offsetafp), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dppsv_;
+
+  protected void dppsvK(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dppsv_;
+    if (handle == null) {
+      dppsv_ = handle = downcall("dppsv_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dppsvx_;
+
+  protected void dppsvxK(String fact, String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dppsvx_;
+    if (handle == null) {
+      dppsvx_ = handle = downcall("dppsvx_", "VAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(afp, offsetafp), MemorySegment.ofArray(__nequed), array(s, offsets), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)uplo.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpptrf_;
+
+  protected void dpptrfK(String uplo, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
+    MethodHandle handle = dpptrf_;
+    if (handle == null) {
+      dpptrf_ = handle = downcall("dpptrf_", "VAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpptri_;
+
+  protected void dpptriK(String uplo, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
+    MethodHandle handle = dpptri_;
+    if (handle == null) {
+      dpptri_ = handle = downcall("dpptri_", "VAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpptrs_;
+
+  protected void dpptrsK(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dpptrs_;
+    if (handle == null) {
+      dpptrs_ = handle = downcall("dpptrs_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dptcon_;
+
+  protected void dptconK(int n, double[] d, int offsetd, double[] e, int offsete, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dptcon_;
+    if (handle == null) {
+      dptcon_ = handle = downcall("dptcon_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpteqr_;
+
+  protected void dpteqrK(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dpteqr_;
+    if (handle == null) {
+      dpteqr_ = handle = downcall("dpteqr_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(compz)), ref(n), array(d, offsetd), array(e, offsete), array(z, offsetz), ref(ldz), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)compz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dptrfs_;
+
+  protected void dptrfsK(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] df, int offsetdf, double[] ef, int offsetef, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dptrfs_;
+    if (handle == null) {
+      dptrfs_ = handle = downcall("dptrfs_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), array(d, offsetd), array(e, offsete), array(df, offsetdf), array(ef, offsetef), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dptsv_;
+
+  protected void dptsvK(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dptsv_;
+    if (handle == null) {
+      dptsv_ = handle = downcall("dptsv_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), array(d, offsetd), array(e, offsete), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dptsvx_;
+
+  protected void dptsvxK(String fact, int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] df, int offsetdf, double[] ef, int offsetef, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dptsvx_;
+    if (handle == null) {
+      dptsvx_ = handle = downcall("dptsvx_", "VAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), ref(n), ref(nrhs), array(d, offsetd), array(e, offsete), array(df, offsetdf), array(ef, offsetef), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)fact.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpttrf_;
+
+  protected void dpttrfK(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
+    MethodHandle handle = dpttrf_;
+    if (handle == null) {
+      dpttrf_ = handle = downcall("dpttrf_", "VAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dpttrs_;
+
+  protected void dpttrsK(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dpttrs_;
+    if (handle == null) {
+      dpttrs_ = handle = downcall("dpttrs_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), array(d, offsetd), array(e, offsete), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dptts2_;
+
+  protected void dptts2K(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb) {
+    MethodHandle handle = dptts2_;
+    if (handle == null) {
+      dptts2_ = handle = downcall("dptts2_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), array(d, offsetd), array(e, offsete), array(b, offsetb), ref(ldb));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle drscl_;
+
+  protected void drsclK(int n, double sa, double[] sx, int offsetsx, int incx) {
+    MethodHandle handle = drscl_;
+    if (handle == null) {
+      drscl_ = handle = downcall("drscl_", "VAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(sa), array(sx, offsetsx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle dsbev_;
+
+  protected void dsbevK(String jobz, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsbev_;
+    if (handle == null) {
+      dsbev_ = handle = downcall("dsbev_", "VAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsbevd_;
+
+  protected void dsbevdK(String jobz, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsbevd_;
+    if (handle == null) {
+      dsbevd_ = handle = downcall("dsbevd_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsbevx_;
+
+  protected void dsbevxK(String jobz, String range, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] q, int offsetq, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = dsbevx_;
+    if (handle == null) {
+      dsbevx_ = handle = downcall("dsbevx_", "VAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), array(q, offsetq), ref(ldq), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsbgst_;
+
+  protected void dsbgstK(String vect, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] x, int offsetx, int ldx, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsbgst_;
+    if (handle == null) {
+      dsbgst_ = handle = downcall("dsbgst_", "VAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(vect)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(ka), ref(kb), array(ab, offsetab), ref(ldab), array(bb, offsetbb), ref(ldbb), array(x, offsetx), ref(ldx), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)vect.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsbgv_;
+
+  protected void dsbgvK(String jobz, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsbgv_;
+    if (handle == null) {
+      dsbgv_ = handle = downcall("dsbgv_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(ka), ref(kb), array(ab, offsetab), ref(ldab), array(bb, offsetbb), ref(ldbb), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsbgvd_;
+
+  protected void dsbgvdK(String jobz, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsbgvd_;
+    if (handle == null) {
+      dsbgvd_ = handle = downcall("dsbgvd_", "VAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(ka), ref(kb), array(ab, offsetab), ref(ldab), array(bb, offsetbb), ref(ldbb), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsbgvx_;
+
+  protected void dsbgvxK(String jobz, String range, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] q, int offsetq, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = dsbgvx_;
+    if (handle == null) {
+      dsbgvx_ = handle = downcall("dsbgvx_", "VAAAAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(ka), ref(kb), array(ab, offsetab), ref(ldab), array(bb, offsetbb), ref(ldbb), array(q, offsetq), ref(ldq), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsbtrd_;
+
+  protected void dsbtrdK(String vect, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsbtrd_;
+    if (handle == null) {
+      dsbtrd_ = handle = downcall("dsbtrd_", "VAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(vect)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), array(d, offsetd), array(e, offsete), array(q, offsetq), ref(ldq), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)vect.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsgesv_;
+
+  protected void dsgesvK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] work, int offsetwork, float[] swork, int offsetswork, org.netlib.util.intW iter, org.netlib.util.intW info) {
+    MethodHandle handle = dsgesv_;
+    if (handle == null) {
+      dsgesv_ = handle = downcall("dsgesv_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __niter = { iter.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(work, offsetwork), array(swork, offsetswork), MemorySegment.ofArray(__niter), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    iter.val = __niter[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dspcon_;
+
+  protected void dspconK(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dspcon_;
+    if (handle == null) {
+      dspcon_ = handle = downcall("dspcon_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(ipiv, offsetipiv), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dspev_;
+
+  protected void dspevK(String jobz, String uplo, int n, double[] ap, int offsetap, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dspev_;
+    if (handle == null) {
+      dspev_ = handle = downcall("dspev_", "VAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dspevd_;
+
+  protected void dspevdK(String jobz, String uplo, int n, double[] ap, int offsetap, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = dspevd_;
+    if (handle == null) {
+      dspevd_ = handle = downcall("dspevd_", "VAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dspevx_;
+
+  protected void dspevxK(String jobz, String range, String uplo, int n, double[] ap, int offsetap, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = dspevx_;
+    if (handle == null) {
+      dspevx_ = handle = downcall("dspevx_", "VAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dspgst_;
+
+  protected void dspgstK(int itype, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, org.netlib.util.intW info) {
+    MethodHandle handle = dspgst_;
+    if (handle == null) {
+      dspgst_ = handle = downcall("dspgst_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(bp, offsetbp), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dspgv_;
+
+  protected void dspgvK(int itype, String jobz, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dspgv_;
+    if (handle == null) {
+      dspgv_ = handle = downcall("dspgv_", "VAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(bp, offsetbp), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dspgvd_;
+
+  protected void dspgvdK(int itype, String jobz, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = dspgvd_;
+    if (handle == null) {
+      dspgvd_ = handle = downcall("dspgvd_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(bp, offsetbp), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dspgvx_;
+
+  protected void dspgvxK(int itype, String jobz, String range, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = dspgvx_;
+    if (handle == null) {
+      dspgvx_ = handle = downcall("dspgvx_", "VAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(bp, offsetbp), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsprfs_;
+
+  protected void dsprfsK(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsprfs_;
+    if (handle == null) {
+      dsprfs_ = handle = downcall("dsprfs_", "VAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(afp, offsetafp), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dspsv_;
+
+  protected void dspsvK(String uplo, int n, int nrhs, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dspsv_;
+    if (handle == null) {
+      dspsv_ = handle = downcall("dspsv_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dspsvx_;
+
+  protected void dspsvxK(String fact, String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dspsvx_;
+    if (handle == null) {
+      dspsvx_ = handle = downcall("dspsvx_", "VAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(afp, offsetafp), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsptrd_;
+
+  protected void dsptrdK(String uplo, int n, double[] ap, int offsetap, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, org.netlib.util.intW info) {
+    MethodHandle handle = dsptrd_;
+    if (handle == null) {
+      dsptrd_ = handle = downcall("dsptrd_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(d, offsetd), array(e, offsete), array(tau, offsettau), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsptrf_;
+
+  protected void dsptrfK(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    MethodHandle handle = dsptrf_;
+    if (handle == null) {
+      dsptrf_ = handle = downcall("dsptrf_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsptri_;
+
+  protected void dsptriK(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsptri_;
+    if (handle == null) {
+      dsptri_ = handle = downcall("dsptri_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(ipiv, offsetipiv), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsptrs_;
+
+  protected void dsptrsK(String uplo, int n, int nrhs, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dsptrs_;
+    if (handle == null) {
+      dsptrs_ = handle = downcall("dsptrs_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dstebz_;
+
+  protected void dstebzK(String range, String order, int n, double vl, double vu, int il, int iu, double abstol, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW m, org.netlib.util.intW nsplit, double[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dstebz_;
+    if (handle == null) {
+      dstebz_ = handle = downcall("dstebz_", "VAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __nnsplit = { nsplit.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(order)), ref(n), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), array(d, offsetd), array(e, offsete), MemorySegment.ofArray(__nm), MemorySegment.ofArray(__nnsplit), array(w, offsetw), array(iblock, offsetiblock), array(isplit, offsetisplit), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)range.length(), (long)order.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    nsplit.val = __nnsplit[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dstedc_;
+
+  protected void dstedcK(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = dstedc_;
+    if (handle == null) {
+      dstedc_ = handle = downcall("dstedc_", "VAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(compz)), ref(n), array(d, offsetd), array(e, offsete), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)compz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dstegr_;
+
+  protected void dstegrK(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = dstegr_;
+    if (handle == null) {
+      dstegr_ = handle = downcall("dstegr_", "VAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), ref(n), array(d, offsetd), array(e, offsete), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(isuppz, offsetisuppz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dstein_;
+
+  protected void dsteinK(int n, double[] d, int offsetd, double[] e, int offsete, int m, double[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = dstein_;
+    if (handle == null) {
+      dstein_ = handle = downcall("dstein_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), ref(m), array(w, offsetw), array(iblock, offsetiblock), array(isplit, offsetisplit), array(z, offsetz), ref(ldz), array(work, offsetwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dstemr_;
+
+  protected void dstemrK(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int nzc, int[] isuppz, int offsetisuppz, org.netlib.util.booleanW tryrac, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = dstemr_;
+    if (handle == null) {
+      dstemr_ = handle = downcall("dstemr_", "VAAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ntryrac = { tryrac.val ? 1 : 0 };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), ref(n), array(d, offsetd), array(e, offsete), ref(vl), ref(vu), ref(il), ref(iu), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), ref(nzc), array(isuppz, offsetisuppz), MemorySegment.ofArray(__ntryrac), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    tryrac.val = __ntryrac[0] != 0;
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsteqr_;
+
+  protected void dsteqrK(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsteqr_;
+    if (handle == null) {
+      dsteqr_ = handle = downcall("dsteqr_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(compz)), ref(n), array(d, offsetd), array(e, offsete), array(z, offsetz), ref(ldz), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)compz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsterf_;
+
+  protected void dsterfK(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
+    MethodHandle handle = dsterf_;
+    if (handle == null) {
+      dsterf_ = handle = downcall("dsterf_", "VAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dstev_;
+
+  protected void dstevK(String jobz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dstev_;
+    if (handle == null) {
+      dstev_ = handle = downcall("dstev_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), ref(n), array(d, offsetd), array(e, offsete), array(z, offsetz), ref(ldz), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)jobz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dstevd_;
+
+  protected void dstevdK(String jobz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = dstevd_;
+    if (handle == null) {
+      dstevd_ = handle = downcall("dstevd_", "VAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), ref(n), array(d, offsetd), array(e, offsete), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dstevr_;
+
+  protected void dstevrK(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = dstevr_;
+    if (handle == null) {
+      dstevr_ = handle = downcall("dstevr_", "VAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), ref(n), array(d, offsetd), array(e, offsete), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(isuppz, offsetisuppz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dstevx_;
+
+  protected void dstevxK(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = dstevx_;
+    if (handle == null) {
+      dstevx_ = handle = downcall("dstevx_", "VAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), ref(n), array(d, offsetd), array(e, offsete), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsycon_;
+
+  protected void dsyconK(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsycon_;
+    if (handle == null) {
+      dsycon_ = handle = downcall("dsycon_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsyev_;
+
+  protected void dsyevK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsyev_;
+    if (handle == null) {
+      dsyev_ = handle = downcall("dsyev_", "VAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(w, offsetw), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsyevd_;
+
+  protected void dsyevdK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsyevd_;
+    if (handle == null) {
+      dsyevd_ = handle = downcall("dsyevd_", "VAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(w, offsetw), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsyevr_;
+
+  protected void dsyevrK(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsyevr_;
+    if (handle == null) {
+      dsyevr_ = handle = downcall("dsyevr_", "VAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(isuppz, offsetisuppz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsyevx_;
+
+  protected void dsyevxK(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = dsyevx_;
+    if (handle == null) {
+      dsyevx_ = handle = downcall("dsyevx_", "VAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsygs2_;
+
+  protected void dsygs2K(int itype, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dsygs2_;
+    if (handle == null) {
+      dsygs2_ = handle = downcall("dsygs2_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsygst_;
+
+  protected void dsygstK(int itype, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dsygst_;
+    if (handle == null) {
+      dsygst_ = handle = downcall("dsygst_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsygv_;
+
+  protected void dsygvK(int itype, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsygv_;
+    if (handle == null) {
+      dsygv_ = handle = downcall("dsygv_", "VAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(w, offsetw), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsygvd_;
+
+  protected void dsygvdK(int itype, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsygvd_;
+    if (handle == null) {
+      dsygvd_ = handle = downcall("dsygvd_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(w, offsetw), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsygvx_;
+
+  protected void dsygvxK(int itype, String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = dsygvx_;
+    if (handle == null) {
+      dsygvx_ = handle = downcall("dsygvx_", "VAAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsyrfs_;
+
+  protected void dsyrfsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsyrfs_;
+    if (handle == null) {
+      dsyrfs_ = handle = downcall("dsyrfs_", "VAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(af, offsetaf), ref(ldaf), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsysv_;
+
+  protected void dsysvK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsysv_;
+    if (handle == null) {
+      dsysv_ = handle = downcall("dsysv_", "VAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsysvx_;
+
+  protected void dsysvxK(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsysvx_;
+    if (handle == null) {
+      dsysvx_ = handle = downcall("dsysvx_", "VAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(af, offsetaf), ref(ldaf), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsytd2_;
+
+  protected void dsytd2K(String uplo, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, org.netlib.util.intW info) {
+    MethodHandle handle = dsytd2_;
+    if (handle == null) {
+      dsytd2_ = handle = downcall("dsytd2_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(d, offsetd), array(e, offsete), array(tau, offsettau), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsytf2_;
+
+  protected void dsytf2K(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    MethodHandle handle = dsytf2_;
+    if (handle == null) {
+      dsytf2_ = handle = downcall("dsytf2_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsytrd_;
+
+  protected void dsytrdK(String uplo, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsytrd_;
+    if (handle == null) {
+      dsytrd_ = handle = downcall("dsytrd_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(d, offsetd), array(e, offsete), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsytrf_;
+
+  protected void dsytrfK(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsytrf_;
+    if (handle == null) {
+      dsytrf_ = handle = downcall("dsytrf_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsytri_;
+
+  protected void dsytriK(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dsytri_;
+    if (handle == null) {
+      dsytri_ = handle = downcall("dsytri_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dsytrs_;
+
+  protected void dsytrsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dsytrs_;
+    if (handle == null) {
+      dsytrs_ = handle = downcall("dsytrs_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtbcon_;
+
+  protected void dtbconK(String norm, String uplo, String diag, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtbcon_;
+    if (handle == null) {
+      dtbcon_ = handle = downcall("dtbcon_", "VAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)norm.length(), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtbrfs_;
+
+  protected void dtbrfsK(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtbrfs_;
+    if (handle == null) {
+      dtbrfs_ = handle = downcall("dtbrfs_", "VAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(kd), ref(nrhs), array(ab, offsetab), ref(ldab), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtbtrs_;
+
+  protected void dtbtrsK(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dtbtrs_;
+    if (handle == null) {
+      dtbtrs_ = handle = downcall("dtbtrs_", "VAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(kd), ref(nrhs), array(ab, offsetab), ref(ldab), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtgevc_;
+
+  protected void dtgevcK(String side, String howmny, boolean[] select, int offsetselect, int n, double[] s, int offsets, int lds, double[] p, int offsetp, int ldp, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtgevc_;
+    if (handle == null) {
+      dtgevc_ = handle = downcall("dtgevc_", "VAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(howmny)), array(__nselect, offsetselect), ref(n), array(s, offsets), ref(lds), array(p, offsetp), ref(ldp), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), ref(mm), MemorySegment.ofArray(__nm), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)howmny.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtgex2_;
+
+  protected void dtgex2K(boolean wantq, boolean wantz, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, int j1, int n1, int n2, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtgex2_;
+    if (handle == null) {
+      dtgex2_ = handle = downcall("dtgex2_", "VAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(wantq), ref(wantz), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(q, offsetq), ref(ldq), array(z, offsetz), ref(ldz), ref(j1), ref(n1), ref(n2), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtgexc_;
+
+  protected void dtgexcK(boolean wantq, boolean wantz, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtgexc_;
+    if (handle == null) {
+      dtgexc_ = handle = downcall("dtgexc_", "VAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nifst = { ifst.val };
+    int[] __nilst = { ilst.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(wantq), ref(wantz), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(q, offsetq), ref(ldq), array(z, offsetz), ref(ldz), MemorySegment.ofArray(__nifst), MemorySegment.ofArray(__nilst), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ifst.val = __nifst[0];
+    ilst.val = __nilst[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtgsen_;
+
+  protected void dtgsenK(int ijob, boolean wantq, boolean wantz, boolean[] select, int offsetselect, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW m, org.netlib.util.doubleW pl, org.netlib.util.doubleW pr, double[] dif, int offsetdif, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtgsen_;
+    if (handle == null) {
+      dtgsen_ = handle = downcall("dtgsen_", "VAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nm = { m.val };
+    double[] __npl = { pl.val };
+    double[] __npr = { pr.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(ijob), ref(wantq), ref(wantz), array(__nselect, offsetselect), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(alphar, offsetalphar), array(alphai, offsetalphai), array(beta, offsetbeta), array(q, offsetq), ref(ldq), array(z, offsetz), ref(ldz), MemorySegment.ofArray(__nm), MemorySegment.ofArray(__npl), MemorySegment.ofArray(__npr), array(dif, offsetdif), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    pl.val = __npl[0];
+    pr.val = __npr[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtgsja_;
+
+  protected void dtgsjaK(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double tola, double tolb, double[] alpha, int offsetalpha, double[] beta, int offsetbeta, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
+    MethodHandle handle = dtgsja_;
+    if (handle == null) {
+      dtgsja_ = handle = downcall("dtgsja_", "VAAAAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nncycle = { ncycle.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobu)), MemorySegment.ofArray(cstring(jobv)), MemorySegment.ofArray(cstring(jobq)), ref(m), ref(p), ref(n), ref(k), ref(l), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), ref(tola), ref(tolb), array(alpha, offsetalpha), array(beta, offsetbeta), array(u, offsetu), ref(ldu), array(v, offsetv), ref(ldv), array(q, offsetq), ref(ldq), array(work, offsetwork), MemorySegment.ofArray(__nncycle), MemorySegment.ofArray(__ninfo), (long)jobu.length(), (long)jobv.length(), (long)jobq.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ncycle.val = __nncycle[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtgsna_;
+
+  protected void dtgsnaK(String job, String howmny, boolean[] select, int offsetselect, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] s, int offsets, double[] dif, int offsetdif, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtgsna_;
+    if (handle == null) {
+      dtgsna_ = handle = downcall("dtgsna_", "VAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), MemorySegment.ofArray(cstring(howmny)), array(__nselect, offsetselect), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), array(s, offsets), array(dif, offsetdif), ref(mm), MemorySegment.ofArray(__nm), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)job.length(), (long)howmny.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtgsy2_;
+
+  protected void dtgsy2K(String trans, int ijob, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, double[] d, int offsetd, int ldd, double[] e, int offsete, int lde, double[] f, int offsetf, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] iwork, int offsetiwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
+    MethodHandle handle = dtgsy2_;
+    if (handle == null) {
+      dtgsy2_ = handle = downcall("dtgsy2_", "VAAAAAAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscale = { scale.val };
+    double[] __nrdsum = { rdsum.val };
+    double[] __nrdscal = { rdscal.val };
+    int[] __npq = { pq.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(ijob), ref(m), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(c, offsetc), ref(Ldc), array(d, offsetd), ref(ldd), array(e, offsete), ref(lde), array(f, offsetf), ref(ldf), MemorySegment.ofArray(__nscale), MemorySegment.ofArray(__nrdsum), MemorySegment.ofArray(__nrdscal), array(iwork, offsetiwork), MemorySegment.ofArray(__npq), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    rdsum.val = __nrdsum[0];
+    rdscal.val = __nrdscal[0];
+    pq.val = __npq[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtgsyl_;
+
+  protected void dtgsylK(String trans, int ijob, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, double[] d, int offsetd, int ldd, double[] e, int offsete, int lde, double[] f, int offsetf, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW dif, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtgsyl_;
+    if (handle == null) {
+      dtgsyl_ = handle = downcall("dtgsyl_", "VAAAAAAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscale = { scale.val };
+    double[] __ndif = { dif.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(ijob), ref(m), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(c, offsetc), ref(Ldc), array(d, offsetd), ref(ldd), array(e, offsete), ref(lde), array(f, offsetf), ref(ldf), MemorySegment.ofArray(__nscale), MemorySegment.ofArray(__ndif), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    dif.val = __ndif[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtpcon_;
+
+  protected void dtpconK(String norm, String uplo, String diag, int n, double[] ap, int offsetap, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtpcon_;
+    if (handle == null) {
+      dtpcon_ = handle = downcall("dtpcon_", "VAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), array(ap, offsetap), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)norm.length(), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtprfs_;
+
+  protected void dtprfsK(String uplo, String trans, String diag, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtprfs_;
+    if (handle == null) {
+      dtprfs_ = handle = downcall("dtprfs_", "VAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(nrhs), array(ap, offsetap), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtptri_;
+
+  protected void dtptriK(String uplo, String diag, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
+    MethodHandle handle = dtptri_;
+    if (handle == null) {
+      dtptri_ = handle = downcall("dtptri_", "VAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), array(ap, offsetap), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtptrs_;
+
+  protected void dtptrsK(String uplo, String trans, String diag, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dtptrs_;
+    if (handle == null) {
+      dtptrs_ = handle = downcall("dtptrs_", "VAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(nrhs), array(ap, offsetap), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtrcon_;
+
+  protected void dtrconK(String norm, String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtrcon_;
+    if (handle == null) {
+      dtrcon_ = handle = downcall("dtrcon_", "VAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)norm.length(), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtrevc_;
+
+  protected void dtrevcK(String side, String howmny, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtrevc_;
+    if (handle == null) {
+      dtrevc_ = handle = downcall("dtrevc_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(howmny)), array(__nselect, offsetselect), ref(n), array(t, offsett), ref(ldt), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), ref(mm), MemorySegment.ofArray(__nm), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)howmny.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtrexc_;
+
+  protected void dtrexcK(String compq, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtrexc_;
+    if (handle == null) {
+      dtrexc_ = handle = downcall("dtrexc_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nifst = { ifst.val };
+    int[] __nilst = { ilst.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(compq)), ref(n), array(t, offsett), ref(ldt), array(q, offsetq), ref(ldq), MemorySegment.ofArray(__nifst), MemorySegment.ofArray(__nilst), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)compq.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ifst.val = __nifst[0];
+    ilst.val = __nilst[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtrrfs_;
+
+  protected void dtrrfsK(String uplo, String trans, String diag, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtrrfs_;
+    if (handle == null) {
+      dtrrfs_ = handle = downcall("dtrrfs_", "VAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtrsen_;
+
+  protected void dtrsenK(String job, String compq, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, double[] wr, int offsetwr, double[] wi, int offsetwi, org.netlib.util.intW m, org.netlib.util.doubleW s, org.netlib.util.doubleW sep, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtrsen_;
+    if (handle == null) {
+      dtrsen_ = handle = downcall("dtrsen_", "VAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nm = { m.val };
+    double[] __ns = { s.val };
+    double[] __nsep = { sep.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), MemorySegment.ofArray(cstring(compq)), array(__nselect, offsetselect), ref(n), array(t, offsett), ref(ldt), array(q, offsetq), ref(ldq), array(wr, offsetwr), array(wi, offsetwi), MemorySegment.ofArray(__nm), MemorySegment.ofArray(__ns), MemorySegment.ofArray(__nsep), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)job.length(), (long)compq.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    s.val = __ns[0];
+    sep.val = __nsep[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtrsna_;
+
+  protected void dtrsnaK(String job, String howmny, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] s, int offsets, double[] sep, int offsetsep, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int ldwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtrsna_;
+    if (handle == null) {
+      dtrsna_ = handle = downcall("dtrsna_", "VAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), MemorySegment.ofArray(cstring(howmny)), array(__nselect, offsetselect), ref(n), array(t, offsett), ref(ldt), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), array(s, offsets), array(sep, offsetsep), ref(mm), MemorySegment.ofArray(__nm), array(work, offsetwork), ref(ldwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)job.length(), (long)howmny.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtrsyl_;
+
+  protected void dtrsylK(String trana, String tranb, int isgn, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, org.netlib.util.doubleW scale, org.netlib.util.intW info) {
+    MethodHandle handle = dtrsyl_;
+    if (handle == null) {
+      dtrsyl_ = handle = downcall("dtrsyl_", "VAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __nscale = { scale.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trana)), MemorySegment.ofArray(cstring(tranb)), ref(isgn), ref(m), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(c, offsetc), ref(Ldc), MemorySegment.ofArray(__nscale), MemorySegment.ofArray(__ninfo), (long)trana.length(), (long)tranb.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtrti2_;
+
+  protected void dtrti2K(String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = dtrti2_;
+    if (handle == null) {
+      dtrti2_ = handle = downcall("dtrti2_", "VAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtrtri_;
+
+  protected void dtrtriK(String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = dtrtri_;
+    if (handle == null) {
+      dtrtri_ = handle = downcall("dtrtri_", "VAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtrtrs_;
+
+  protected void dtrtrsK(String uplo, String trans, String diag, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = dtrtrs_;
+    if (handle == null) {
+      dtrtrs_ = handle = downcall("dtrtrs_", "VAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtzrqf_;
+
+  protected void dtzrqfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, org.netlib.util.intW info) {
+    MethodHandle handle = dtzrqf_;
+    if (handle == null) {
+      dtzrqf_ = handle = downcall("dtzrqf_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dtzrzf_;
+
+  protected void dtzrzfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = dtzrzf_;
+    if (handle == null) {
+      dtzrzf_ = handle = downcall("dtzrzf_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ieeeck_;
+
+  protected int ieeeckK(int ispec, float zero, float one) {
+    MethodHandle handle = ieeeck_;
+    if (handle == null) {
+      ieeeck_ = handle = downcall("ieeeck_", "IAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(ispec), ref(zero), ref(one));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle ilaenv_;
+
+  protected int ilaenvK(int ispec, String name, String opts, int n1, int n2, int n3, int n4) {
+    MethodHandle handle = ilaenv_;
+    if (handle == null) {
+      ilaenv_ = handle = downcall("ilaenv_", "IAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(ispec), MemorySegment.ofArray(cstring(name)), MemorySegment.ofArray(cstring(opts)), ref(n1), ref(n2), ref(n3), ref(n4), (long)name.length(), (long)opts.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle ilaver_;
+
+  protected void ilaverK(org.netlib.util.intW vers_major, org.netlib.util.intW vers_minor, org.netlib.util.intW vers_patch) {
+    MethodHandle handle = ilaver_;
+    if (handle == null) {
+      ilaver_ = handle = downcall("ilaver_", "VAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nvers_major = { vers_major.val };
+    int[] __nvers_minor = { vers_minor.val };
+    int[] __nvers_patch = { vers_patch.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nvers_major), MemorySegment.ofArray(__nvers_minor), MemorySegment.ofArray(__nvers_patch));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    vers_major.val = __nvers_major[0];
+    vers_minor.val = __nvers_minor[0];
+    vers_patch.val = __nvers_patch[0];
+  }
+
+  private static MethodHandle iparmq_;
+
+  protected int iparmqK(int ispec, String name, String opts, int n, int ilo, int ihi, int lwork) {
+    MethodHandle handle = iparmq_;
+    if (handle == null) {
+      iparmq_ = handle = downcall("iparmq_", "IAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(ispec), MemorySegment.ofArray(cstring(name)), MemorySegment.ofArray(cstring(opts)), ref(n), ref(ilo), ref(ihi), ref(lwork), (long)name.length(), (long)opts.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle lsamen_;
+
+  protected boolean lsamenK(int n, String ca, String cb) {
+    MethodHandle handle = lsamen_;
+    if (handle == null) {
+      lsamen_ = handle = downcall("lsamen_", "IAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(n), MemorySegment.ofArray(cstring(ca)), MemorySegment.ofArray(cstring(cb)), (long)ca.length(), (long)cb.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret != 0;
+  }
+
+  private static MethodHandle sbdsdc_;
+
+  protected void sbdsdcK(String uplo, String compq, int n, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] q, int offsetq, int[] iq, int offsetiq, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sbdsdc_;
+    if (handle == null) {
+      sbdsdc_ = handle = downcall("sbdsdc_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(compq)), ref(n), array(d, offsetd), array(e, offsete), array(u, offsetu), ref(ldu), array(vt, offsetvt), ref(ldvt), array(q, offsetq), array(iq, offsetiq), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)compq.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sbdsqr_;
+
+  protected void sbdsqrK(String uplo, int n, int ncvt, int nru, int ncc, float[] d, int offsetd, float[] e, int offsete, float[] vt, int offsetvt, int ldvt, float[] u, int offsetu, int ldu, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sbdsqr_;
+    if (handle == null) {
+      sbdsqr_ = handle = downcall("sbdsqr_", "VAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(ncvt), ref(nru), ref(ncc), array(d, offsetd), array(e, offsete), array(vt, offsetvt), ref(ldvt), array(u, offsetu), ref(ldu), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sdisna_;
+
+  protected void sdisnaK(String job, int m, int n, float[] d, int offsetd, float[] sep, int offsetsep, org.netlib.util.intW info) {
+    MethodHandle handle = sdisna_;
+    if (handle == null) {
+      sdisna_ = handle = downcall("sdisna_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), ref(m), ref(n), array(d, offsetd), array(sep, offsetsep), MemorySegment.ofArray(__ninfo), (long)job.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgbbrd_;
+
+  protected void sgbbrdK(String vect, int m, int n, int ncc, int kl, int ku, float[] ab, int offsetab, int ldab, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] pt, int offsetpt, int ldpt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgbbrd_;
+    if (handle == null) {
+      sgbbrd_ = handle = downcall("sgbbrd_", "VAAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(vect)), ref(m), ref(n), ref(ncc), ref(kl), ref(ku), array(ab, offsetab), ref(ldab), array(d, offsetd), array(e, offsete), array(q, offsetq), ref(ldq), array(pt, offsetpt), ref(ldpt), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)vect.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgbcon_;
+
+  protected void sgbconK(String norm, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgbcon_;
+    if (handle == null) {
+      sgbcon_ = handle = downcall("sgbcon_", "VAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(n), ref(kl), ref(ku), array(ab, offsetab), ref(ldab), array(ipiv, offsetipiv), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgbequ_;
+
+  protected void sgbequK(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] r, int offsetr, float[] c, int offsetc, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    MethodHandle handle = sgbequ_;
+    if (handle == null) {
+      sgbequ_ = handle = downcall("sgbequ_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrowcnd = { rowcnd.val };
+    float[] __ncolcnd = { colcnd.val };
+    float[] __namax = { amax.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(kl), ref(ku), array(ab, offsetab), ref(ldab), array(r, offsetr), array(c, offsetc), MemorySegment.ofArray(__nrowcnd), MemorySegment.ofArray(__ncolcnd), MemorySegment.ofArray(__namax), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rowcnd.val = __nrowcnd[0];
+    colcnd.val = __ncolcnd[0];
+    amax.val = __namax[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgbrfs_;
+
+  protected void sgbrfsK(String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgbrfs_;
+    if (handle == null) {
+      sgbrfs_ = handle = downcall("sgbrfs_", "VAAAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(kl), ref(ku), ref(nrhs), array(ab, offsetab), ref(ldab), array(afb, offsetafb), ref(ldafb), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgbsv_;
+
+  protected void sgbsvK(int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = sgbsv_;
+    if (handle == null) {
+      sgbsv_ = handle = downcall("sgbsv_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(kl), ref(ku), ref(nrhs), array(ab, offsetab), ref(ldab), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgbsvx_;
+
+  protected void sgbsvxK(String fact, String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, float[] r, int offsetr, float[] c, int offsetc, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgbsvx_;
+    if (handle == null) {
+      sgbsvx_ = handle = downcall("sgbsvx_", "VAAAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(trans)), ref(n), ref(kl), ref(ku), ref(nrhs), array(ab, offsetab), ref(ldab), array(afb, offsetafb), ref(ldafb), array(ipiv, offsetipiv), MemorySegment.ofArray(__nequed), array(r, offsetr), array(c, offsetc), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)trans.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgbtf2_;
+
+  protected void sgbtf2K(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    MethodHandle handle = sgbtf2_;
+    if (handle == null) {
+      sgbtf2_ = handle = downcall("sgbtf2_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(kl), ref(ku), array(ab, offsetab), ref(ldab), array(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgbtrf_;
+
+  protected void sgbtrfK(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    MethodHandle handle = sgbtrf_;
+    if (handle == null) {
+      sgbtrf_ = handle = downcall("sgbtrf_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(kl), ref(ku), array(ab, offsetab), ref(ldab), array(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgbtrs_;
+
+  protected void sgbtrsK(String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = sgbtrs_;
+    if (handle == null) {
+      sgbtrs_ = handle = downcall("sgbtrs_", "VAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(kl), ref(ku), ref(nrhs), array(ab, offsetab), ref(ldab), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgebak_;
+
+  protected void sgebakK(String job, String side, int n, int ilo, int ihi, float[] scale, int offsetscale, int m, float[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    MethodHandle handle = sgebak_;
+    if (handle == null) {
+      sgebak_ = handle = downcall("sgebak_", "VAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), MemorySegment.ofArray(cstring(side)), ref(n), ref(ilo), ref(ihi), array(scale, offsetscale), ref(m), array(v, offsetv), ref(ldv), MemorySegment.ofArray(__ninfo), (long)job.length(), (long)side.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgebal_;
+
+  protected void sgebalK(String job, int n, float[] a, int offseta, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, int offsetscale, org.netlib.util.intW info) {
+    MethodHandle handle = sgebal_;
+    if (handle == null) {
+      sgebal_ = handle = downcall("sgebal_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nilo = { ilo.val };
+    int[] __nihi = { ihi.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__nilo), MemorySegment.ofArray(__nihi), array(scale, offsetscale), MemorySegment.ofArray(__ninfo), (long)job.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ilo.val = __nilo[0];
+    ihi.val = __nihi[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgebd2_;
+
+  protected void sgebd2K(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgebd2_;
+    if (handle == null) {
+      sgebd2_ = handle = downcall("sgebd2_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(d, offsetd), array(e, offsete), array(tauq, offsettauq), array(taup, offsettaup), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgebrd_;
+
+  protected void sgebrdK(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgebrd_;
+    if (handle == null) {
+      sgebrd_ = handle = downcall("sgebrd_", "VAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(d, offsetd), array(e, offsete), array(tauq, offsettauq), array(taup, offsettaup), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgecon_;
+
+  protected void sgeconK(String norm, int n, float[] a, int offseta, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgecon_;
+    if (handle == null) {
+      sgecon_ = handle = downcall("sgecon_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(n), array(a, offseta), ref(lda), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgeequ_;
+
+  protected void sgeequK(int m, int n, float[] a, int offseta, int lda, float[] r, int offsetr, float[] c, int offsetc, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    MethodHandle handle = sgeequ_;
+    if (handle == null) {
+      sgeequ_ = handle = downcall("sgeequ_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrowcnd = { rowcnd.val };
+    float[] __ncolcnd = { colcnd.val };
+    float[] __namax = { amax.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(r, offsetr), array(c, offsetc), MemorySegment.ofArray(__nrowcnd), MemorySegment.ofArray(__ncolcnd), MemorySegment.ofArray(__namax), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rowcnd.val = __nrowcnd[0];
+    colcnd.val = __ncolcnd[0];
+    amax.val = __namax[0];
+    info.val = __ninfo[0];
+  }
+
+  protected void sgeesK(String jobvs, String sort, java.lang.Object select, int n, float[] a, int offseta, int lda, org.netlib.util.intW sdim, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vs, int offsetvs, int ldvs, float[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void sgeesxK(String jobvs, String sort, java.lang.Object select, String sense, int n, float[] a, int offseta, int lda, org.netlib.util.intW sdim, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vs, int offsetvs, int ldvs, org.netlib.util.floatW rconde, org.netlib.util.floatW rcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static MethodHandle sgeev_;
+
+  protected void sgeevK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgeev_;
+    if (handle == null) {
+      sgeev_ = handle = downcall("sgeev_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobvl)), MemorySegment.ofArray(cstring(jobvr)), ref(n), array(a, offseta), ref(lda), array(wr, offsetwr), array(wi, offsetwi), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)jobvl.length(), (long)jobvr.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgeevx_;
+
+  protected void sgeevxK(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, int offsetscale, org.netlib.util.floatW abnrm, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgeevx_;
+    if (handle == null) {
+      sgeevx_ = handle = downcall("sgeevx_", "VAAAAAAAAAAAAAAAAAAAAAAAJJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nilo = { ilo.val };
+    int[] __nihi = { ihi.val };
+    float[] __nabnrm = { abnrm.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(balanc)), MemorySegment.ofArray(cstring(jobvl)), MemorySegment.ofArray(cstring(jobvr)), MemorySegment.ofArray(cstring(sense)), ref(n), array(a, offseta), ref(lda), array(wr, offsetwr), array(wi, offsetwi), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), MemorySegment.ofArray(__nilo), MemorySegment.ofArray(__nihi), array(scale, offsetscale), MemorySegment.ofArray(__nabnrm), array(rconde, offsetrconde), array(rcondv, offsetrcondv), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)balanc.length(), (long)jobvl.length(), (long)jobvr.length(), (long)sense.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ilo.val = __nilo[0];
+    ihi.val = __nihi[0];
+    abnrm.val = __nabnrm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgegs_;
+
+  protected void sgegsK(String jobvsl, String jobvsr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgegs_;
+    if (handle == null) {
+      sgegs_ = handle = downcall("sgegs_", "VAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobvsl)), MemorySegment.ofArray(cstring(jobvsr)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(alphar, offsetalphar), array(alphai, offsetalphai), array(beta, offsetbeta), array(vsl, offsetvsl), ref(ldvsl), array(vsr, offsetvsr), ref(ldvsr), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)jobvsl.length(), (long)jobvsr.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgegv_;
+
+  protected void sgegvK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgegv_;
+    if (handle == null) {
+      sgegv_ = handle = downcall("sgegv_", "VAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobvl)), MemorySegment.ofArray(cstring(jobvr)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(alphar, offsetalphar), array(alphai, offsetalphai), array(beta, offsetbeta), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)jobvl.length(), (long)jobvr.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgehd2_;
+
+  protected void sgehd2K(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgehd2_;
+    if (handle == null) {
+      sgehd2_ = handle = downcall("sgehd2_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(ilo), ref(ihi), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgehrd_;
+
+  protected void sgehrdK(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgehrd_;
+    if (handle == null) {
+      sgehrd_ = handle = downcall("sgehrd_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(ilo), ref(ihi), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgelq2_;
+
+  protected void sgelq2K(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgelq2_;
+    if (handle == null) {
+      sgelq2_ = handle = downcall("sgelq2_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgelqf_;
+
+  protected void sgelqfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgelqf_;
+    if (handle == null) {
+      sgelqf_ = handle = downcall("sgelqf_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgels_;
+
+  protected void sgelsK(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgels_;
+    if (handle == null) {
+      sgels_ = handle = downcall("sgels_", "VAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgelsd_;
+
+  protected void sgelsdK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgelsd_;
+    if (handle == null) {
+      sgelsd_ = handle = downcall("sgelsd_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nrank = { rank.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(s, offsets), ref(rcond), MemorySegment.ofArray(__nrank), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rank.val = __nrank[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgelss_;
+
+  protected void sgelssK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgelss_;
+    if (handle == null) {
+      sgelss_ = handle = downcall("sgelss_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nrank = { rank.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(s, offsets), ref(rcond), MemorySegment.ofArray(__nrank), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rank.val = __nrank[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgelsx_;
+
+  protected void sgelsxK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgelsx_;
+    if (handle == null) {
+      sgelsx_ = handle = downcall("sgelsx_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nrank = { rank.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(jpvt, offsetjpvt), ref(rcond), MemorySegment.ofArray(__nrank), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rank.val = __nrank[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgelsy_;
+
+  protected void sgelsyK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgelsy_;
+    if (handle == null) {
+      sgelsy_ = handle = downcall("sgelsy_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nrank = { rank.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(jpvt, offsetjpvt), ref(rcond), MemorySegment.ofArray(__nrank), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rank.val = __nrank[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgeql2_;
+
+  protected void sgeql2K(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgeql2_;
+    if (handle == null) {
+      sgeql2_ = handle = downcall("sgeql2_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgeqlf_;
+
+  protected void sgeqlfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgeqlf_;
+    if (handle == null) {
+      sgeqlf_ = handle = downcall("sgeqlf_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgeqp3_;
+
+  protected void sgeqp3K(int m, int n, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgeqp3_;
+    if (handle == null) {
+      sgeqp3_ = handle = downcall("sgeqp3_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(jpvt, offsetjpvt), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgeqpf_;
+
+  protected void sgeqpfK(int m, int n, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgeqpf_;
+    if (handle == null) {
+      sgeqpf_ = handle = downcall("sgeqpf_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(jpvt, offsetjpvt), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgeqr2_;
+
+  protected void sgeqr2K(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgeqr2_;
+    if (handle == null) {
+      sgeqr2_ = handle = downcall("sgeqr2_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgeqrf_;
+
+  protected void sgeqrfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgeqrf_;
+    if (handle == null) {
+      sgeqrf_ = handle = downcall("sgeqrf_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgerfs_;
+
+  protected void sgerfsK(String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgerfs_;
+    if (handle == null) {
+      sgerfs_ = handle = downcall("sgerfs_", "VAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(af, offsetaf), ref(ldaf), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgerq2_;
+
+  protected void sgerq2K(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgerq2_;
+    if (handle == null) {
+      sgerq2_ = handle = downcall("sgerq2_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgerqf_;
+
+  protected void sgerqfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgerqf_;
+    if (handle == null) {
+      sgerqf_ = handle = downcall("sgerqf_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgesc2_;
+
+  protected void sgesc2K(int n, float[] a, int offseta, int lda, float[] rhs, int offsetrhs, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.floatW scale) {
+    MethodHandle handle = sgesc2_;
+    if (handle == null) {
+      sgesc2_ = handle = downcall("sgesc2_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscale = { scale.val };
+    try {
+      handle.invokeExact(ref(n), array(a, offseta), ref(lda), array(rhs, offsetrhs), array(ipiv, offsetipiv), array(jpiv, offsetjpiv), MemorySegment.ofArray(__nscale));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+  }
+
+  private static MethodHandle sgesdd_;
+
+  protected void sgesddK(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgesdd_;
+    if (handle == null) {
+      sgesdd_ = handle = downcall("sgesdd_", "VAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), ref(m), ref(n), array(a, offseta), ref(lda), array(s, offsets), array(u, offsetu), ref(ldu), array(vt, offsetvt), ref(ldvt), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)jobz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgesv_;
+
+  protected void sgesvK(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = sgesv_;
+    if (handle == null) {
+      sgesv_ = handle = downcall("sgesv_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgesvd_;
+
+  protected void sgesvdK(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgesvd_;
+    if (handle == null) {
+      sgesvd_ = handle = downcall("sgesvd_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobu)), MemorySegment.ofArray(cstring(jobvt)), ref(m), ref(n), array(a, offseta), ref(lda), array(s, offsets), array(u, offsetu), ref(ldu), array(vt, offsetvt), ref(ldvt), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)jobu.length(), (long)jobvt.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgesvx_;
+
+  protected void sgesvxK(String fact, String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, float[] r, int offsetr, float[] c, int offsetc, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgesvx_;
+    if (handle == null) {
+      sgesvx_ = handle = downcall("sgesvx_", "VAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(af, offsetaf), ref(ldaf), array(ipiv, offsetipiv), MemorySegment.ofArray(__nequed), array(r, offsetr), array(c, offsetc), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)trans.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgetc2_;
+
+  protected void sgetc2K(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.intW info) {
+    MethodHandle handle = sgetc2_;
+    if (handle == null) {
+      sgetc2_ = handle = downcall("sgetc2_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(jpiv, offsetjpiv), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgetf2_;
+
+  protected void sgetf2K(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    MethodHandle handle = sgetf2_;
+    if (handle == null) {
+      sgetf2_ = handle = downcall("sgetf2_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgetrf_;
+
+  protected void sgetrfK(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    MethodHandle handle = sgetrf_;
+    if (handle == null) {
+      sgetrf_ = handle = downcall("sgetrf_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgetri_;
+
+  protected void sgetriK(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgetri_;
+    if (handle == null) {
+      sgetri_ = handle = downcall("sgetri_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgetrs_;
+
+  protected void sgetrsK(String trans, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = sgetrs_;
+    if (handle == null) {
+      sgetrs_ = handle = downcall("sgetrs_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sggbak_;
+
+  protected void sggbakK(String job, String side, int n, int ilo, int ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, int m, float[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    MethodHandle handle = sggbak_;
+    if (handle == null) {
+      sggbak_ = handle = downcall("sggbak_", "VAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), MemorySegment.ofArray(cstring(side)), ref(n), ref(ilo), ref(ihi), array(lscale, offsetlscale), array(rscale, offsetrscale), ref(m), array(v, offsetv), ref(ldv), MemorySegment.ofArray(__ninfo), (long)job.length(), (long)side.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sggbal_;
+
+  protected void sggbalK(String job, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sggbal_;
+    if (handle == null) {
+      sggbal_ = handle = downcall("sggbal_", "VAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nilo = { ilo.val };
+    int[] __nihi = { ihi.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__nilo), MemorySegment.ofArray(__nihi), array(lscale, offsetlscale), array(rscale, offsetrscale), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)job.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ilo.val = __nilo[0];
+    ihi.val = __nihi[0];
+    info.val = __ninfo[0];
+  }
+
+  protected void sggesK(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW sdim, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void sggesxK(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW sdim, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static MethodHandle sggev_;
+
+  protected void sggevK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sggev_;
+    if (handle == null) {
+      sggev_ = handle = downcall("sggev_", "VAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobvl)), MemorySegment.ofArray(cstring(jobvr)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(alphar, offsetalphar), array(alphai, offsetalphai), array(beta, offsetbeta), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)jobvl.length(), (long)jobvr.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sggevx_;
+
+  protected void sggevxK(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, org.netlib.util.floatW abnrm, org.netlib.util.floatW bbnrm, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    MethodHandle handle = sggevx_;
+    if (handle == null) {
+      sggevx_ = handle = downcall("sggevx_", "VAAAAAAAAAAAAAAAAAAAAAAAAAAAAAJJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nilo = { ilo.val };
+    int[] __nihi = { ihi.val };
+    float[] __nabnrm = { abnrm.val };
+    float[] __nbbnrm = { bbnrm.val };
+    int[] __nbwork = booleans(bwork);
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(balanc)), MemorySegment.ofArray(cstring(jobvl)), MemorySegment.ofArray(cstring(jobvr)), MemorySegment.ofArray(cstring(sense)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(alphar, offsetalphar), array(alphai, offsetalphai), array(beta, offsetbeta), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), MemorySegment.ofArray(__nilo), MemorySegment.ofArray(__nihi), array(lscale, offsetlscale), array(rscale, offsetrscale), MemorySegment.ofArray(__nabnrm), MemorySegment.ofArray(__nbbnrm), array(rconde, offsetrconde), array(rcondv, offsetrcondv), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), array(__nbwork, offsetbwork), MemorySegment.ofArray(__ninfo), (long)balanc.length(), (long)jobvl.length(), (long)jobvr.length(), (long)sense.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ilo.val = __nilo[0];
+    ihi.val = __nihi[0];
+    abnrm.val = __nabnrm[0];
+    bbnrm.val = __nbbnrm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sggglm_;
+
+  protected void sggglmK(int n, int m, int p, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] d, int offsetd, float[] x, int offsetx, float[] y, int offsety, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sggglm_;
+    if (handle == null) {
+      sggglm_ = handle = downcall("sggglm_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(m), ref(p), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(d, offsetd), array(x, offsetx), array(y, offsety), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgghrd_;
+
+  protected void sgghrdK(String compq, String compz, int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    MethodHandle handle = sgghrd_;
+    if (handle == null) {
+      sgghrd_ = handle = downcall("sgghrd_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(compq)), MemorySegment.ofArray(cstring(compz)), ref(n), ref(ilo), ref(ihi), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(q, offsetq), ref(ldq), array(z, offsetz), ref(ldz), MemorySegment.ofArray(__ninfo), (long)compq.length(), (long)compz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgglse_;
+
+  protected void sgglseK(int m, int n, int p, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, float[] d, int offsetd, float[] x, int offsetx, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgglse_;
+    if (handle == null) {
+      sgglse_ = handle = downcall("sgglse_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(p), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(c, offsetc), array(d, offsetd), array(x, offsetx), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sggqrf_;
+
+  protected void sggqrfK(int n, int m, int p, float[] a, int offseta, int lda, float[] taua, int offsettaua, float[] b, int offsetb, int ldb, float[] taub, int offsettaub, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sggqrf_;
+    if (handle == null) {
+      sggqrf_ = handle = downcall("sggqrf_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(m), ref(p), array(a, offseta), ref(lda), array(taua, offsettaua), array(b, offsetb), ref(ldb), array(taub, offsettaub), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sggrqf_;
+
+  protected void sggrqfK(int m, int p, int n, float[] a, int offseta, int lda, float[] taua, int offsettaua, float[] b, int offsetb, int ldb, float[] taub, int offsettaub, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sggrqf_;
+    if (handle == null) {
+      sggrqf_ = handle = downcall("sggrqf_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(p), ref(n), array(a, offseta), ref(lda), array(taua, offsettaua), array(b, offsetb), ref(ldb), array(taub, offsettaub), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sggsvd_;
+
+  protected void sggsvdK(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alpha, int offsetalpha, float[] beta, int offsetbeta, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sggsvd_;
+    if (handle == null) {
+      sggsvd_ = handle = downcall("sggsvd_", "VAAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nk = { k.val };
+    int[] __nl = { l.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobu)), MemorySegment.ofArray(cstring(jobv)), MemorySegment.ofArray(cstring(jobq)), ref(m), ref(n), ref(p), MemorySegment.ofArray(__nk), MemorySegment.ofArray(__nl), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(alpha, offsetalpha), array(beta, offsetbeta), array(u, offsetu), ref(ldu), array(v, offsetv), ref(ldv), array(q, offsetq), ref(ldq), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)jobu.length(), (long)jobv.length(), (long)jobq.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    k.val = __nk[0];
+    l.val = __nl[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sggsvp_;
+
+  protected void sggsvpK(String jobu, String jobv, String jobq, int m, int p, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float tola, float tolb, org.netlib.util.intW k, org.netlib.util.intW l, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, int[] iwork, int offsetiwork, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sggsvp_;
+    if (handle == null) {
+      sggsvp_ = handle = downcall("sggsvp_", "VAAAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nk = { k.val };
+    int[] __nl = { l.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobu)), MemorySegment.ofArray(cstring(jobv)), MemorySegment.ofArray(cstring(jobq)), ref(m), ref(p), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), ref(tola), ref(tolb), MemorySegment.ofArray(__nk), MemorySegment.ofArray(__nl), array(u, offsetu), ref(ldu), array(v, offsetv), ref(ldv), array(q, offsetq), ref(ldq), array(iwork, offsetiwork), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)jobu.length(), (long)jobv.length(), (long)jobq.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    k.val = __nk[0];
+    l.val = __nl[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgtcon_;
+
+  protected void sgtconK(String norm, int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgtcon_;
+    if (handle == null) {
+      sgtcon_ = handle = downcall("sgtcon_", "VAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(n), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(du2, offsetdu2), array(ipiv, offsetipiv), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgtrfs_;
+
+  protected void sgtrfsK(String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] dlf, int offsetdlf, float[] df, int offsetdf, float[] duf, int offsetduf, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgtrfs_;
+    if (handle == null) {
+      sgtrfs_ = handle = downcall("sgtrfs_", "VAAAAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(dlf, offsetdlf), array(df, offsetdf), array(duf, offsetduf), array(du2, offsetdu2), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgtsv_;
+
+  protected void sgtsvK(int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = sgtsv_;
+    if (handle == null) {
+      sgtsv_ = handle = downcall("sgtsv_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgtsvx_;
+
+  protected void sgtsvxK(String fact, String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] dlf, int offsetdlf, float[] df, int offsetdf, float[] duf, int offsetduf, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sgtsvx_;
+    if (handle == null) {
+      sgtsvx_ = handle = downcall("sgtsvx_", "VAAAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(dlf, offsetdlf), array(df, offsetdf), array(duf, offsetduf), array(du2, offsetdu2), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgttrf_;
+
+  protected void sgttrfK(int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    MethodHandle handle = sgttrf_;
+    if (handle == null) {
+      sgttrf_ = handle = downcall("sgttrf_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(du2, offsetdu2), array(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgttrs_;
+
+  protected void sgttrsK(String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = sgttrs_;
+    if (handle == null) {
+      sgttrs_ = handle = downcall("sgttrs_", "VAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(du2, offsetdu2), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sgtts2_;
+
+  protected void sgtts2K(int itrans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb) {
+    MethodHandle handle = sgtts2_;
+    if (handle == null) {
+      sgtts2_ = handle = downcall("sgtts2_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(itrans), ref(n), ref(nrhs), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(du2, offsetdu2), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle shgeqz_;
+
+  protected void shgeqzK(String job, String compq, String compz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] t, int offsett, int ldt, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = shgeqz_;
+    if (handle == null) {
+      shgeqz_ = handle = downcall("shgeqz_", "VAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), MemorySegment.ofArray(cstring(compq)), MemorySegment.ofArray(cstring(compz)), ref(n), ref(ilo), ref(ihi), array(h, offseth), ref(ldh), array(t, offsett), ref(ldt), array(alphar, offsetalphar), array(alphai, offsetalphai), array(beta, offsetbeta), array(q, offsetq), ref(ldq), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)job.length(), (long)compq.length(), (long)compz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle shsein_;
+
+  protected void shseinK(String side, String eigsrc, String initv, boolean[] select, int offsetselect, int n, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int[] ifaill, int offsetifaill, int[] ifailr, int offsetifailr, org.netlib.util.intW info) {
+    MethodHandle handle = shsein_;
+    if (handle == null) {
+      shsein_ = handle = downcall("shsein_", "VAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(eigsrc)), MemorySegment.ofArray(cstring(initv)), array(__nselect, offsetselect), ref(n), array(h, offseth), ref(ldh), array(wr, offsetwr), array(wi, offsetwi), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), ref(mm), MemorySegment.ofArray(__nm), array(work, offsetwork), array(ifaill, offsetifaill), array(ifailr, offsetifailr), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)eigsrc.length(), (long)initv.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle shseqr_;
+
+  protected void shseqrK(String job, String compz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = shseqr_;
+    if (handle == null) {
+      shseqr_ = handle = downcall("shseqr_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), MemorySegment.ofArray(cstring(compz)), ref(n), ref(ilo), ref(ihi), array(h, offseth), ref(ldh), array(wr, offsetwr), array(wi, offsetwi), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)job.length(), (long)compz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sisnan_;
+
+  protected boolean sisnanK(float sin) {
+    MethodHandle handle = sisnan_;
+    if (handle == null) {
+      sisnan_ = handle = downcall("sisnan_", "IA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(sin));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret != 0;
+  }
+
+  private static MethodHandle slabad_;
+
+  protected void slabadK(org.netlib.util.floatW small, org.netlib.util.floatW large) {
+    MethodHandle handle = slabad_;
+    if (handle == null) {
+      slabad_ = handle = downcall("slabad_", "VAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nsmall = { small.val };
+    float[] __nlarge = { large.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nsmall), MemorySegment.ofArray(__nlarge));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    small.val = __nsmall[0];
+    large.val = __nlarge[0];
+  }
+
+  private static MethodHandle slabrd_;
+
+  protected void slabrdK(int m, int n, int nb, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] x, int offsetx, int ldx, float[] y, int offsety, int ldy) {
+    MethodHandle handle = slabrd_;
+    if (handle == null) {
+      slabrd_ = handle = downcall("slabrd_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(nb), array(a, offseta), ref(lda), array(d, offsetd), array(e, offsete), array(tauq, offsettauq), array(taup, offsettaup), array(x, offsetx), ref(ldx), array(y, offsety), ref(ldy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slacn2_;
+
+  protected void slacn2K(int n, float[] v, int offsetv, float[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.floatW est, org.netlib.util.intW kase, int[] isave, int offsetisave) {
+    MethodHandle handle = slacn2_;
+    if (handle == null) {
+      slacn2_ = handle = downcall("slacn2_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nest = { est.val };
+    int[] __nkase = { kase.val };
+    try {
+      handle.invokeExact(ref(n), array(v, offsetv), array(x, offsetx), array(isgn, offsetisgn), MemorySegment.ofArray(__nest), MemorySegment.ofArray(__nkase), array(isave, offsetisave));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    est.val = __nest[0];
+    kase.val = __nkase[0];
+  }
+
+  private static MethodHandle slacon_;
+
+  protected void slaconK(int n, float[] v, int offsetv, float[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.floatW est, org.netlib.util.intW kase) {
+    MethodHandle handle = slacon_;
+    if (handle == null) {
+      slacon_ = handle = downcall("slacon_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nest = { est.val };
+    int[] __nkase = { kase.val };
+    try {
+      handle.invokeExact(ref(n), array(v, offsetv), array(x, offsetx), array(isgn, offsetisgn), MemorySegment.ofArray(__nest), MemorySegment.ofArray(__nkase));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    est.val = __nest[0];
+    kase.val = __nkase[0];
+  }
+
+  private static MethodHandle slacpy_;
+
+  protected void slacpyK(String uplo, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    MethodHandle handle = slacpy_;
+    if (handle == null) {
+      slacpy_ = handle = downcall("slacpy_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(m), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle sladiv_;
+
+  protected void sladivK(float a, float b, float c, float d, org.netlib.util.floatW p, org.netlib.util.floatW q) {
+    MethodHandle handle = sladiv_;
+    if (handle == null) {
+      sladiv_ = handle = downcall("sladiv_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __np = { p.val };
+    float[] __nq = { q.val };
+    try {
+      handle.invokeExact(ref(a), ref(b), ref(c), ref(d), MemorySegment.ofArray(__np), MemorySegment.ofArray(__nq));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    p.val = __np[0];
+    q.val = __nq[0];
+  }
+
+  private static MethodHandle slae2_;
+
+  protected void slae2K(float a, float b, float c, org.netlib.util.floatW rt1, org.netlib.util.floatW rt2) {
+    MethodHandle handle = slae2_;
+    if (handle == null) {
+      slae2_ = handle = downcall("slae2_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrt1 = { rt1.val };
+    float[] __nrt2 = { rt2.val };
+    try {
+      handle.invokeExact(ref(a), ref(b), ref(c), MemorySegment.ofArray(__nrt1), MemorySegment.ofArray(__nrt2));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rt1.val = __nrt1[0];
+    rt2.val = __nrt2[0];
+  }
+
+  private static MethodHandle slaebz_;
+
+  protected void slaebzK(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, float abstol, float reltol, float pivmin, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, int[] nval, int offsetnval, float[] ab, int offsetab, float[] c, int offsetc, org.netlib.util.intW mout, int[] nab, int offsetnab, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = slaebz_;
+    if (handle == null) {
+      slaebz_ = handle = downcall("slaebz_", "VAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nmout = { mout.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(ijob), ref(nitmax), ref(n), ref(mmax), ref(minp), ref(nbmin), ref(abstol), ref(reltol), ref(pivmin), array(d, offsetd), array(e, offsete), array(e2, offsete2), array(nval, offsetnval), array(ab, offsetab), array(c, offsetc), MemorySegment.ofArray(__nmout), array(nab, offsetnab), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    mout.val = __nmout[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slaed0_;
+
+  protected void slaed0K(int icompq, int qsiz, int n, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] qstore, int offsetqstore, int ldqs, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = slaed0_;
+    if (handle == null) {
+      slaed0_ = handle = downcall("slaed0_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(qsiz), ref(n), array(d, offsetd), array(e, offsete), array(q, offsetq), ref(ldq), array(qstore, offsetqstore), ref(ldqs), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slaed1_;
+
+  protected void slaed1K(int n, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = slaed1_;
+    if (handle == null) {
+      slaed1_ = handle = downcall("slaed1_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrho = { rho.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(q, offsetq), ref(ldq), array(indxq, offsetindxq), MemorySegment.ofArray(__nrho), ref(cutpnt), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rho.val = __nrho[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slaed2_;
+
+  protected void slaed2K(org.netlib.util.intW k, int n, int n1, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, float[] z, int offsetz, float[] dlamda, int offsetdlamda, float[] w, int offsetw, float[] q2, int offsetq2, int[] indx, int offsetindx, int[] indxc, int offsetindxc, int[] indxp, int offsetindxp, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    MethodHandle handle = slaed2_;
+    if (handle == null) {
+      slaed2_ = handle = downcall("slaed2_", "VAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nk = { k.val };
+    float[] __nrho = { rho.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__nk), ref(n), ref(n1), array(d, offsetd), array(q, offsetq), ref(ldq), array(indxq, offsetindxq), MemorySegment.ofArray(__nrho), array(z, offsetz), array(dlamda, offsetdlamda), array(w, offsetw), array(q2, offsetq2), array(indx, offsetindx), array(indxc, offsetindxc), array(indxp, offsetindxp), array(coltyp, offsetcoltyp), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    k.val = __nk[0];
+    rho.val = __nrho[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slaed3_;
+
+  protected void slaed3K(int k, int n, int n1, float[] d, int offsetd, float[] q, int offsetq, int ldq, float rho, float[] dlamda, int offsetdlamda, float[] q2, int offsetq2, int[] indx, int offsetindx, int[] ctot, int offsetctot, float[] w, int offsetw, float[] s, int offsets, org.netlib.util.intW info) {
+    MethodHandle handle = slaed3_;
+    if (handle == null) {
+      slaed3_ = handle = downcall("slaed3_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(k), ref(n), ref(n1), array(d, offsetd), array(q, offsetq), ref(ldq), ref(rho), array(dlamda, offsetdlamda), array(q2, offsetq2), array(indx, offsetindx), array(ctot, offsetctot), array(w, offsetw), array(s, offsets), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slaed4_;
+
+  protected void slaed4K(int n, int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dlam, org.netlib.util.intW info) {
+    MethodHandle handle = slaed4_;
+    if (handle == null) {
+      slaed4_ = handle = downcall("slaed4_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __ndlam = { dlam.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(i), array(d, offsetd), array(z, offsetz), array(delta, offsetdelta), ref(rho), MemorySegment.ofArray(__ndlam), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    dlam.val = __ndlam[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slaed5_;
+
+  protected void slaed5K(int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dlam) {
+    MethodHandle handle = slaed5_;
+    if (handle == null) {
+      slaed5_ = handle = downcall("slaed5_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __ndlam = { dlam.val };
+    try {
+      handle.invokeExact(ref(i), array(d, offsetd), array(z, offsetz), array(delta, offsetdelta), ref(rho), MemorySegment.ofArray(__ndlam));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    dlam.val = __ndlam[0];
+  }
+
+  private static MethodHandle slaed6_;
+
+  protected void slaed6K(int kniter, boolean orgati, float rho, float[] d, int offsetd, float[] z, int offsetz, float finit, org.netlib.util.floatW tau, org.netlib.util.intW info) {
+    MethodHandle handle = slaed6_;
+    if (handle == null) {
+      slaed6_ = handle = downcall("slaed6_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __ntau = { tau.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(kniter), ref(orgati), ref(rho), array(d, offsetd), array(z, offsetz), ref(finit), MemorySegment.ofArray(__ntau), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    tau.val = __ntau[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slaed7_;
+
+  protected void slaed7K(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] qstore, int offsetqstore, int[] qptr, int offsetqptr, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = slaed7_;
+    if (handle == null) {
+      slaed7_ = handle = downcall("slaed7_", "VAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrho = { rho.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(n), ref(qsiz), ref(tlvls), ref(curlvl), ref(curpbm), array(d, offsetd), array(q, offsetq), ref(ldq), array(indxq, offsetindxq), MemorySegment.ofArray(__nrho), ref(cutpnt), array(qstore, offsetqstore), array(qptr, offsetqptr), array(prmptr, offsetprmptr), array(perm, offsetperm), array(givptr, offsetgivptr), array(givcol, offsetgivcol), array(givnum, offsetgivnum), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rho.val = __nrho[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slaed8_;
+
+  protected void slaed8K(int icompq, org.netlib.util.intW k, int n, int qsiz, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] z, int offsetz, float[] dlamda, int offsetdlamda, float[] q2, int offsetq2, int ldq2, float[] w, int offsetw, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, int[] indxp, int offsetindxp, int[] indx, int offsetindx, org.netlib.util.intW info) {
+    MethodHandle handle = slaed8_;
+    if (handle == null) {
+      slaed8_ = handle = downcall("slaed8_", "VAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nk = { k.val };
+    float[] __nrho = { rho.val };
+    int[] __ngivptr = { givptr.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), MemorySegment.ofArray(__nk), ref(n), ref(qsiz), array(d, offsetd), array(q, offsetq), ref(ldq), array(indxq, offsetindxq), MemorySegment.ofArray(__nrho), ref(cutpnt), array(z, offsetz), array(dlamda, offsetdlamda), array(q2, offsetq2), ref(ldq2), array(w, offsetw), array(perm, offsetperm), MemorySegment.ofArray(__ngivptr), array(givcol, offsetgivcol), array(givnum, offsetgivnum), array(indxp, offsetindxp), array(indx, offsetindx), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    k.val = __nk[0];
+    rho.val = __nrho[0];
+    givptr.val = __ngivptr[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slaed9_;
+
+  protected void slaed9K(int k, int kstart, int kstop, int n, float[] d, int offsetd, float[] q, int offsetq, int ldq, float rho, float[] dlamda, int offsetdlamda, float[] w, int offsetw, float[] s, int offsets, int lds, org.netlib.util.intW info) {
+    MethodHandle handle = slaed9_;
+    if (handle == null) {
+      slaed9_ = handle = downcall("slaed9_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(k), ref(kstart), ref(kstop), ref(n), array(d, offsetd), array(q, offsetq), ref(ldq), ref(rho), array(dlamda, offsetdlamda), array(w, offsetw), array(s, offsets), ref(lds), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slaeda_;
+
+  protected void slaedaK(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, float[] q, int offsetq, int[] qptr, int offsetqptr, float[] z, int offsetz, float[] ztemp, int offsetztemp, org.netlib.util.intW info) {
+    MethodHandle handle = slaeda_;
+    if (handle == null) {
+      slaeda_ = handle = downcall("slaeda_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(tlvls), ref(curlvl), ref(curpbm), array(prmptr, offsetprmptr), array(perm, offsetperm), array(givptr, offsetgivptr), array(givcol, offsetgivcol), array(givnum, offsetgivnum), array(q, offsetq), array(qptr, offsetqptr), array(z, offsetz), array(ztemp, offsetztemp), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slaein_;
+
+  protected void slaeinK(boolean rightv, boolean noinit, int n, float[] h, int offseth, int ldh, float wr, float wi, float[] vr, int offsetvr, float[] vi, int offsetvi, float[] b, int offsetb, int ldb, float[] work, int offsetwork, float eps3, float smlnum, float bignum, org.netlib.util.intW info) {
+    MethodHandle handle = slaein_;
+    if (handle == null) {
+      slaein_ = handle = downcall("slaein_", "VAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(rightv), ref(noinit), ref(n), array(h, offseth), ref(ldh), ref(wr), ref(wi), array(vr, offsetvr), array(vi, offsetvi), array(b, offsetb), ref(ldb), array(work, offsetwork), ref(eps3), ref(smlnum), ref(bignum), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slaev2_;
+
+  protected void slaev2K(float a, float b, float c, org.netlib.util.floatW rt1, org.netlib.util.floatW rt2, org.netlib.util.floatW cs1, org.netlib.util.floatW sn1) {
+    MethodHandle handle = slaev2_;
+    if (handle == null) {
+      slaev2_ = handle = downcall("slaev2_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrt1 = { rt1.val };
+    float[] __nrt2 = { rt2.val };
+    float[] __ncs1 = { cs1.val };
+    float[] __nsn1 = { sn1.val };
+    try {
+      handle.invokeExact(ref(a), ref(b), ref(c), MemorySegment.ofArray(__nrt1), MemorySegment.ofArray(__nrt2), MemorySegment.ofArray(__ncs1), MemorySegment.ofArray(__nsn1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rt1.val = __nrt1[0];
+    rt2.val = __nrt2[0];
+    cs1.val = __ncs1[0];
+    sn1.val = __nsn1[0];
+  }
+
+  private static MethodHandle slaexc_;
+
+  protected void slaexcK(boolean wantq, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, int j1, int n1, int n2, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = slaexc_;
+    if (handle == null) {
+      slaexc_ = handle = downcall("slaexc_", "VAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(wantq), ref(n), array(t, offsett), ref(ldt), array(q, offsetq), ref(ldq), ref(j1), ref(n1), ref(n2), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slag2_;
+
+  protected void slag2K(float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float safmin, org.netlib.util.floatW scale1, org.netlib.util.floatW scale2, org.netlib.util.floatW wr1, org.netlib.util.floatW wr2, org.netlib.util.floatW wi) {
+    MethodHandle handle = slag2_;
+    if (handle == null) {
+      slag2_ = handle = downcall("slag2_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscale1 = { scale1.val };
+    float[] __nscale2 = { scale2.val };
+    float[] __nwr1 = { wr1.val };
+    float[] __nwr2 = { wr2.val };
+    float[] __nwi = { wi.val };
+    try {
+      handle.invokeExact(array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), ref(safmin), MemorySegment.ofArray(__nscale1), MemorySegment.ofArray(__nscale2), MemorySegment.ofArray(__nwr1), MemorySegment.ofArray(__nwr2), MemorySegment.ofArray(__nwi));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale1.val = __nscale1[0];
+    scale2.val = __nscale2[0];
+    wr1.val = __nwr1[0];
+    wr2.val = __nwr2[0];
+    wi.val = __nwi[0];
+  }
+
+  private static MethodHandle slag2d_;
+
+  protected void slag2dK(int m, int n, float[] sa, int offsetsa, int ldsa, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = slag2d_;
+    if (handle == null) {
+      slag2d_ = handle = downcall("slag2d_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(sa, offsetsa), ref(ldsa), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slags2_;
+
+  protected void slags2K(boolean upper, float a1, float a2, float a3, float b1, float b2, float b3, org.netlib.util.floatW csu, org.netlib.util.floatW snu, org.netlib.util.floatW csv, org.netlib.util.floatW snv, org.netlib.util.floatW csq, org.netlib.util.floatW snq) {
+    MethodHandle handle = slags2_;
+    if (handle == null) {
+      slags2_ = handle = downcall("slags2_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __ncsu = { csu.val };
+    float[] __nsnu = { snu.val };
+    float[] __ncsv = { csv.val };
+    float[] __nsnv = { snv.val };
+    float[] __ncsq = { csq.val };
+    float[] __nsnq = { snq.val };
+    try {
+      handle.invokeExact(ref(upper), ref(a1), ref(a2), ref(a3), ref(b1), ref(b2), ref(b3), MemorySegment.ofArray(__ncsu), MemorySegment.ofArray(__nsnu), MemorySegment.ofArray(__ncsv), MemorySegment.ofArray(__nsnv), MemorySegment.ofArray(__ncsq), MemorySegment.ofArray(__nsnq));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    csu.val = __ncsu[0];
+    snu.val = __nsnu[0];
+    csv.val = __ncsv[0];
+    snv.val = __nsnv[0];
+    csq.val = __ncsq[0];
+    snq.val = __nsnq[0];
+  }
+
+  private static MethodHandle slagtf_;
+
+  protected void slagtfK(int n, float[] a, int offseta, float lambda, float[] b, int offsetb, float[] c, int offsetc, float tol, float[] d, int offsetd, int[] in, int offsetin, org.netlib.util.intW info) {
+    MethodHandle handle = slagtf_;
+    if (handle == null) {
+      slagtf_ = handle = downcall("slagtf_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(a, offseta), ref(lambda), array(b, offsetb), array(c, offsetc), ref(tol), array(d, offsetd), array(in, offsetin), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slagtm_;
+
+  protected void slagtmK(String trans, int n, int nrhs, float alpha, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] x, int offsetx, int ldx, float beta, float[] b, int offsetb, int ldb) {
+    MethodHandle handle = slagtm_;
+    if (handle == null) {
+      slagtm_ = handle = downcall("slagtm_", "VAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), ref(alpha), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), array(x, offsetx), ref(ldx), ref(beta), array(b, offsetb), ref(ldb), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slagts_;
+
+  protected void slagtsK(int job, int n, float[] a, int offseta, float[] b, int offsetb, float[] c, int offsetc, float[] d, int offsetd, int[] in, int offsetin, float[] y, int offsety, org.netlib.util.floatW tol, org.netlib.util.intW info) {
+    MethodHandle handle = slagts_;
+    if (handle == null) {
+      slagts_ = handle = downcall("slagts_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __ntol = { tol.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(job), ref(n), array(a, offseta), array(b, offsetb), array(c, offsetc), array(d, offsetd), array(in, offsetin), array(y, offsety), MemorySegment.ofArray(__ntol), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    tol.val = __ntol[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slagv2_;
+
+  protected void slagv2K(float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, org.netlib.util.floatW csl, org.netlib.util.floatW snl, org.netlib.util.floatW csr, org.netlib.util.floatW snr) {
+    MethodHandle handle = slagv2_;
+    if (handle == null) {
+      slagv2_ = handle = downcall("slagv2_", "VAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __ncsl = { csl.val };
+    float[] __nsnl = { snl.val };
+    float[] __ncsr = { csr.val };
+    float[] __nsnr = { snr.val };
+    try {
+      handle.invokeExact(array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(alphar, offsetalphar), array(alphai, offsetalphai), array(beta, offsetbeta), MemorySegment.ofArray(__ncsl), MemorySegment.ofArray(__nsnl), MemorySegment.ofArray(__ncsr), MemorySegment.ofArray(__nsnr));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    csl.val = __ncsl[0];
+    snl.val = __nsnl[0];
+    csr.val = __ncsr[0];
+    snr.val = __nsnr[0];
+  }
+
+  private static MethodHandle slahqr_;
+
+  protected void slahqrK(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    MethodHandle handle = slahqr_;
+    if (handle == null) {
+      slahqr_ = handle = downcall("slahqr_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(wantt), ref(wantz), ref(n), ref(ilo), ref(ihi), array(h, offseth), ref(ldh), array(wr, offsetwr), array(wi, offsetwi), ref(iloz), ref(ihiz), array(z, offsetz), ref(ldz), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slahr2_;
+
+  protected void slahr2K(int n, int k, int nb, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] t, int offsett, int ldt, float[] y, int offsety, int ldy) {
+    MethodHandle handle = slahr2_;
+    if (handle == null) {
+      slahr2_ = handle = downcall("slahr2_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(k), ref(nb), array(a, offseta), ref(lda), array(tau, offsettau), array(t, offsett), ref(ldt), array(y, offsety), ref(ldy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slahrd_;
+
+  protected void slahrdK(int n, int k, int nb, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] t, int offsett, int ldt, float[] y, int offsety, int ldy) {
+    MethodHandle handle = slahrd_;
+    if (handle == null) {
+      slahrd_ = handle = downcall("slahrd_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(k), ref(nb), array(a, offseta), ref(lda), array(tau, offsettau), array(t, offsett), ref(ldt), array(y, offsety), ref(ldy));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slaic1_;
+
+  protected void slaic1K(int job, int j, float[] x, int offsetx, float sest, float[] w, int offsetw, float gamma, org.netlib.util.floatW sestpr, org.netlib.util.floatW s, org.netlib.util.floatW c) {
+    MethodHandle handle = slaic1_;
+    if (handle == null) {
+      slaic1_ = handle = downcall("slaic1_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nsestpr = { sestpr.val };
+    float[] __ns = { s.val };
+    float[] __nc = { c.val };
+    try {
+      handle.invokeExact(ref(job), ref(j), array(x, offsetx), ref(sest), array(w, offsetw), ref(gamma), MemorySegment.ofArray(__nsestpr), MemorySegment.ofArray(__ns), MemorySegment.ofArray(__nc));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    sestpr.val = __nsestpr[0];
+    s.val = __ns[0];
+    c.val = __nc[0];
+  }
+
+  private static MethodHandle slaisnan_;
+
+  protected boolean slaisnanK(float sin1, float sin2) {
+    MethodHandle handle = slaisnan_;
+    if (handle == null) {
+      slaisnan_ = handle = downcall("slaisnan_", "IAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(sin1), ref(sin2));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret != 0;
+  }
+
+  private static MethodHandle slaln2_;
+
+  protected void slaln2K(boolean ltrans, int na, int nw, float smin, float ca, float[] a, int offseta, int lda, float d1, float d2, float[] b, int offsetb, int ldb, float wr, float wi, float[] x, int offsetx, int ldx, org.netlib.util.floatW scale, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
+    MethodHandle handle = slaln2_;
+    if (handle == null) {
+      slaln2_ = handle = downcall("slaln2_", "VAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscale = { scale.val };
+    float[] __nxnorm = { xnorm.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(ltrans), ref(na), ref(nw), ref(smin), ref(ca), array(a, offseta), ref(lda), ref(d1), ref(d2), array(b, offsetb), ref(ldb), ref(wr), ref(wi), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nscale), MemorySegment.ofArray(__nxnorm), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    xnorm.val = __nxnorm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slals0_;
+
+  protected void slals0K(int icompq, int nl, int nr, int sqre, int nrhs, float[] b, int offsetb, int ldb, float[] bx, int offsetbx, int ldbx, int[] perm, int offsetperm, int givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, float[] poles, int offsetpoles, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, int k, float c, float s, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = slals0_;
+    if (handle == null) {
+      slals0_ = handle = downcall("slals0_", "VAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(nl), ref(nr), ref(sqre), ref(nrhs), array(b, offsetb), ref(ldb), array(bx, offsetbx), ref(ldbx), array(perm, offsetperm), ref(givptr), array(givcol, offsetgivcol), ref(ldgcol), array(givnum, offsetgivnum), ref(ldgnum), array(poles, offsetpoles), array(difl, offsetdifl), array(difr, offsetdifr), array(z, offsetz), ref(k), ref(c), ref(s), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slalsa_;
+
+  protected void slalsaK(int icompq, int smlsiz, int n, int nrhs, float[] b, int offsetb, int ldb, float[] bx, int offsetbx, int ldbx, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int[] k, int offsetk, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, float[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, float[] givnum, int offsetgivnum, float[] c, int offsetc, float[] s, int offsets, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = slalsa_;
+    if (handle == null) {
+      slalsa_ = handle = downcall("slalsa_", "VAAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(smlsiz), ref(n), ref(nrhs), array(b, offsetb), ref(ldb), array(bx, offsetbx), ref(ldbx), array(u, offsetu), ref(ldu), array(vt, offsetvt), array(k, offsetk), array(difl, offsetdifl), array(difr, offsetdifr), array(z, offsetz), array(poles, offsetpoles), array(givptr, offsetgivptr), array(givcol, offsetgivcol), ref(ldgcol), array(perm, offsetperm), array(givnum, offsetgivnum), array(c, offsetc), array(s, offsets), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slalsd_;
+
+  protected void slalsdK(String uplo, int smlsiz, int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = slalsd_;
+    if (handle == null) {
+      slalsd_ = handle = downcall("slalsd_", "VAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nrank = { rank.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(smlsiz), ref(n), ref(nrhs), array(d, offsetd), array(e, offsete), array(b, offsetb), ref(ldb), ref(rcond), MemorySegment.ofArray(__nrank), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rank.val = __nrank[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slamrg_;
+
+  protected void slamrgK(int n1, int n2, float[] a, int offseta, int strd1, int strd2, int[] index, int offsetindex) {
+    MethodHandle handle = slamrg_;
+    if (handle == null) {
+      slamrg_ = handle = downcall("slamrg_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n1), ref(n2), array(a, offseta), ref(strd1), ref(strd2), array(index, offsetindex));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slaneg_;
+
+  protected int slanegK(int n, float[] d, int offsetd, float[] lld, int offsetlld, float sigma, float pivmin, int r) {
+    MethodHandle handle = slaneg_;
+    if (handle == null) {
+      slaneg_ = handle = downcall("slaneg_", "IAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(ref(n), array(d, offsetd), array(lld, offsetlld), ref(sigma), ref(pivmin), ref(r));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slangb_;
+
+  protected float slangbK(String norm, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
+    MethodHandle handle = slangb_;
+    if (handle == null) {
+      slangb_ = handle = downcall("slangb_", "FAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(n), ref(kl), ref(ku), array(ab, offsetab), ref(ldab), array(work, offsetwork), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slange_;
+
+  protected float slangeK(String norm, int m, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    MethodHandle handle = slange_;
+    if (handle == null) {
+      slange_ = handle = downcall("slange_", "FAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(m), ref(n), array(a, offseta), ref(lda), array(work, offsetwork), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slangt_;
+
+  protected float slangtK(String norm, int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu) {
+    MethodHandle handle = slangt_;
+    if (handle == null) {
+      slangt_ = handle = downcall("slangt_", "FAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(n), array(dl, offsetdl), array(d, offsetd), array(du, offsetdu), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slanhs_;
+
+  protected float slanhsK(String norm, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    MethodHandle handle = slanhs_;
+    if (handle == null) {
+      slanhs_ = handle = downcall("slanhs_", "FAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(n), array(a, offseta), ref(lda), array(work, offsetwork), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slansb_;
+
+  protected float slansbK(String norm, String uplo, int n, int k, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
+    MethodHandle handle = slansb_;
+    if (handle == null) {
+      slansb_ = handle = downcall("slansb_", "FAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(k), array(ab, offsetab), ref(ldab), array(work, offsetwork), (long)norm.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slansp_;
+
+  protected float slanspK(String norm, String uplo, int n, float[] ap, int offsetap, float[] work, int offsetwork) {
+    MethodHandle handle = slansp_;
+    if (handle == null) {
+      slansp_ = handle = downcall("slansp_", "FAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(work, offsetwork), (long)norm.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slanst_;
+
+  protected float slanstK(String norm, int n, float[] d, int offsetd, float[] e, int offsete) {
+    MethodHandle handle = slanst_;
+    if (handle == null) {
+      slanst_ = handle = downcall("slanst_", "FAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), ref(n), array(d, offsetd), array(e, offsete), (long)norm.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slansy_;
+
+  protected float slansyK(String norm, String uplo, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    MethodHandle handle = slansy_;
+    if (handle == null) {
+      slansy_ = handle = downcall("slansy_", "FAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(work, offsetwork), (long)norm.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slantb_;
+
+  protected float slantbK(String norm, String uplo, String diag, int n, int k, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
+    MethodHandle handle = slantb_;
+    if (handle == null) {
+      slantb_ = handle = downcall("slantb_", "FAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(k), array(ab, offsetab), ref(ldab), array(work, offsetwork), (long)norm.length(), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slantp_;
+
+  protected float slantpK(String norm, String uplo, String diag, int n, float[] ap, int offsetap, float[] work, int offsetwork) {
+    MethodHandle handle = slantp_;
+    if (handle == null) {
+      slantp_ = handle = downcall("slantp_", "FAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), array(ap, offsetap), array(work, offsetwork), (long)norm.length(), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slantr_;
+
+  protected float slantrK(String norm, String uplo, String diag, int m, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    MethodHandle handle = slantr_;
+    if (handle == null) {
+      slantr_ = handle = downcall("slantr_", "FAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(m), ref(n), array(a, offseta), ref(lda), array(work, offsetwork), (long)norm.length(), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slanv2_;
+
+  protected void slanv2K(org.netlib.util.floatW a, org.netlib.util.floatW b, org.netlib.util.floatW c, org.netlib.util.floatW d, org.netlib.util.floatW rt1r, org.netlib.util.floatW rt1i, org.netlib.util.floatW rt2r, org.netlib.util.floatW rt2i, org.netlib.util.floatW cs, org.netlib.util.floatW sn) {
+    MethodHandle handle = slanv2_;
+    if (handle == null) {
+      slanv2_ = handle = downcall("slanv2_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __na = { a.val };
+    float[] __nb = { b.val };
+    float[] __nc = { c.val };
+    float[] __nd = { d.val };
+    float[] __nrt1r = { rt1r.val };
+    float[] __nrt1i = { rt1i.val };
+    float[] __nrt2r = { rt2r.val };
+    float[] __nrt2i = { rt2i.val };
+    float[] __ncs = { cs.val };
+    float[] __nsn = { sn.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(__na), MemorySegment.ofArray(__nb), MemorySegment.ofArray(__nc), MemorySegment.ofArray(__nd), MemorySegment.ofArray(__nrt1r), MemorySegment.ofArray(__nrt1i), MemorySegment.ofArray(__nrt2r), MemorySegment.ofArray(__nrt2i), MemorySegment.ofArray(__ncs), MemorySegment.ofArray(__nsn));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    a.val = __na[0];
+    b.val = __nb[0];
+    c.val = __nc[0];
+    d.val = __nd[0];
+    rt1r.val = __nrt1r[0];
+    rt1i.val = __nrt1i[0];
+    rt2r.val = __nrt2r[0];
+    rt2i.val = __nrt2i[0];
+    cs.val = __ncs[0];
+    sn.val = __nsn[0];
+  }
+
+  private static MethodHandle slapll_;
+
+  protected void slapllK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, org.netlib.util.floatW ssmin) {
+    MethodHandle handle = slapll_;
+    if (handle == null) {
+      slapll_ = handle = downcall("slapll_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nssmin = { ssmin.val };
+    try {
+      handle.invokeExact(ref(n), array(x, offsetx), ref(incx), array(y, offsety), ref(incy), MemorySegment.ofArray(__nssmin));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ssmin.val = __nssmin[0];
+  }
+
+  private static MethodHandle slapmt_;
+
+  protected void slapmtK(boolean forwrd, int m, int n, float[] x, int offsetx, int ldx, int[] k, int offsetk) {
+    MethodHandle handle = slapmt_;
+    if (handle == null) {
+      slapmt_ = handle = downcall("slapmt_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(forwrd), ref(m), ref(n), array(x, offsetx), ref(ldx), array(k, offsetk));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slapy2_;
+
+  protected float slapy2K(float x, float y) {
+    MethodHandle handle = slapy2_;
+    if (handle == null) {
+      slapy2_ = handle = downcall("slapy2_", "FAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(ref(x), ref(y));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slapy3_;
+
+  protected float slapy3K(float x, float y, float z) {
+    MethodHandle handle = slapy3_;
+    if (handle == null) {
+      slapy3_ = handle = downcall("slapy3_", "FAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(ref(x), ref(y), ref(z));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slaqgb_;
+
+  protected void slaqgbK(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] r, int offsetr, float[] c, int offsetc, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
+    MethodHandle handle = slaqgb_;
+    if (handle == null) {
+      slaqgb_ = handle = downcall("slaqgb_", "VAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(kl), ref(ku), array(ab, offsetab), ref(ldab), array(r, offsetr), array(c, offsetc), ref(rowcnd), ref(colcnd), ref(amax), MemorySegment.ofArray(__nequed), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+  }
+
+  private static MethodHandle slaqge_;
+
+  protected void slaqgeK(int m, int n, float[] a, int offseta, int lda, float[] r, int offsetr, float[] c, int offsetc, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
+    MethodHandle handle = slaqge_;
+    if (handle == null) {
+      slaqge_ = handle = downcall("slaqge_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(r, offsetr), array(c, offsetc), ref(rowcnd), ref(colcnd), ref(amax), MemorySegment.ofArray(__nequed), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+  }
+
+  private static MethodHandle slaqp2_;
+
+  protected void slaqp2K(int m, int n, int offset, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] vn1, int offsetvn1, float[] vn2, int offsetvn2, float[] work, int offsetwork) {
+    MethodHandle handle = slaqp2_;
+    if (handle == null) {
+      slaqp2_ = handle = downcall("slaqp2_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(offset), array(a, offseta), ref(lda), array(jpvt, offsetjpvt), array(tau, offsettau), array(vn1, offsetvn1), array(vn2, offsetvn2), array(work, offsetwork));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slaqps_;
+
+  protected void slaqpsK(int m, int n, int offset, int nb, org.netlib.util.intW kb, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] vn1, int offsetvn1, float[] vn2, int offsetvn2, float[] auxv, int offsetauxv, float[] f, int offsetf, int ldf) {
+    MethodHandle handle = slaqps_;
+    if (handle == null) {
+      slaqps_ = handle = downcall("slaqps_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nkb = { kb.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(offset), ref(nb), MemorySegment.ofArray(__nkb), array(a, offseta), ref(lda), array(jpvt, offsetjpvt), array(tau, offsettau), array(vn1, offsetvn1), array(vn2, offsetvn2), array(auxv, offsetauxv), array(f, offsetf), ref(ldf));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    kb.val = __nkb[0];
+  }
+
+  private static MethodHandle slaqr0_;
+
+  protected void slaqr0K(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = slaqr0_;
+    if (handle == null) {
+      slaqr0_ = handle = downcall("slaqr0_", "VAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(wantt), ref(wantz), ref(n), ref(ilo), ref(ihi), array(h, offseth), ref(ldh), array(wr, offsetwr), array(wi, offsetwi), ref(iloz), ref(ihiz), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slaqr1_;
+
+  protected void slaqr1K(int n, float[] h, int offseth, int ldh, float sr1, float si1, float sr2, float si2, float[] v, int offsetv) {
+    MethodHandle handle = slaqr1_;
+    if (handle == null) {
+      slaqr1_ = handle = downcall("slaqr1_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(h, offseth), ref(ldh), ref(sr1), ref(si1), ref(sr2), ref(si2), array(v, offsetv));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slaqr2_;
+
+  protected void slaqr2K(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, int offsetsr, float[] si, int offsetsi, float[] v, int offsetv, int ldv, int nh, float[] t, int offsett, int ldt, int nv, float[] wv, int offsetwv, int ldwv, float[] work, int offsetwork, int lwork) {
+    MethodHandle handle = slaqr2_;
+    if (handle == null) {
+      slaqr2_ = handle = downcall("slaqr2_", "VAAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nns = { ns.val };
+    int[] __nnd = { nd.val };
+    try {
+      handle.invokeExact(ref(wantt), ref(wantz), ref(n), ref(ktop), ref(kbot), ref(nw), array(h, offseth), ref(ldh), ref(iloz), ref(ihiz), array(z, offsetz), ref(ldz), MemorySegment.ofArray(__nns), MemorySegment.ofArray(__nnd), array(sr, offsetsr), array(si, offsetsi), array(v, offsetv), ref(ldv), ref(nh), array(t, offsett), ref(ldt), ref(nv), array(wv, offsetwv), ref(ldwv), array(work, offsetwork), ref(lwork));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ns.val = __nns[0];
+    nd.val = __nnd[0];
+  }
+
+  private static MethodHandle slaqr3_;
+
+  protected void slaqr3K(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, int offsetsr, float[] si, int offsetsi, float[] v, int offsetv, int ldv, int nh, float[] t, int offsett, int ldt, int nv, float[] wv, int offsetwv, int ldwv, float[] work, int offsetwork, int lwork) {
+    MethodHandle handle = slaqr3_;
+    if (handle == null) {
+      slaqr3_ = handle = downcall("slaqr3_", "VAAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nns = { ns.val };
+    int[] __nnd = { nd.val };
+    try {
+      handle.invokeExact(ref(wantt), ref(wantz), ref(n), ref(ktop), ref(kbot), ref(nw), array(h, offseth), ref(ldh), ref(iloz), ref(ihiz), array(z, offsetz), ref(ldz), MemorySegment.ofArray(__nns), MemorySegment.ofArray(__nnd), array(sr, offsetsr), array(si, offsetsi), array(v, offsetv), ref(ldv), ref(nh), array(t, offsett), ref(ldt), ref(nv), array(wv, offsetwv), ref(ldwv), array(work, offsetwork), ref(lwork));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ns.val = __nns[0];
+    nd.val = __nnd[0];
+  }
+
+  private static MethodHandle slaqr4_;
+
+  protected void slaqr4K(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = slaqr4_;
+    if (handle == null) {
+      slaqr4_ = handle = downcall("slaqr4_", "VAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(wantt), ref(wantz), ref(n), ref(ilo), ref(ihi), array(h, offseth), ref(ldh), array(wr, offsetwr), array(wi, offsetwi), ref(iloz), ref(ihiz), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slaqr5_;
+
+  protected void slaqr5K(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, float[] sr, int offsetsr, float[] si, int offsetsi, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] v, int offsetv, int ldv, float[] u, int offsetu, int ldu, int nv, float[] wv, int offsetwv, int ldwv, int nh, float[] wh, int offsetwh, int ldwh) {
+    MethodHandle handle = slaqr5_;
+    if (handle == null) {
+      slaqr5_ = handle = downcall("slaqr5_", "VAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(wantt), ref(wantz), ref(kacc22), ref(n), ref(ktop), ref(kbot), ref(nshfts), array(sr, offsetsr), array(si, offsetsi), array(h, offseth), ref(ldh), ref(iloz), ref(ihiz), array(z, offsetz), ref(ldz), array(v, offsetv), ref(ldv), array(u, offsetu), ref(ldu), ref(nv), array(wv, offsetwv), ref(ldwv), ref(nh), array(wh, offsetwh), ref(ldwh));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slaqsb_;
+
+  protected void slaqsbK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
+    MethodHandle handle = slaqsb_;
+    if (handle == null) {
+      slaqsb_ = handle = downcall("slaqsb_", "VAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), array(s, offsets), ref(scond), ref(amax), MemorySegment.ofArray(__nequed), (long)uplo.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+  }
+
+  private static MethodHandle slaqsp_;
+
+  protected void slaqspK(String uplo, int n, float[] ap, int offsetap, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
+    MethodHandle handle = slaqsp_;
+    if (handle == null) {
+      slaqsp_ = handle = downcall("slaqsp_", "VAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(s, offsets), ref(scond), ref(amax), MemorySegment.ofArray(__nequed), (long)uplo.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+  }
+
+  private static MethodHandle slaqsy_;
+
+  protected void slaqsyK(String uplo, int n, float[] a, int offseta, int lda, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
+    MethodHandle handle = slaqsy_;
+    if (handle == null) {
+      slaqsy_ = handle = downcall("slaqsy_", "VAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(s, offsets), ref(scond), ref(amax), MemorySegment.ofArray(__nequed), (long)uplo.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+  }
+
+  private static MethodHandle slaqtr_;
+
+  protected void slaqtrK(boolean ltran, boolean lreal, int n, float[] t, int offsett, int ldt, float[] b, int offsetb, float w, org.netlib.util.floatW scale, float[] x, int offsetx, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = slaqtr_;
+    if (handle == null) {
+      slaqtr_ = handle = downcall("slaqtr_", "VAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscale = { scale.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(ltran), ref(lreal), ref(n), array(t, offsett), ref(ldt), array(b, offsetb), ref(w), MemorySegment.ofArray(__nscale), array(x, offsetx), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slar1v_;
+
+  protected void slar1vK(int n, int b1, int bn, float lambda, float[] d, int offsetd, float[] l, int offsetl, float[] ld, int offsetld, float[] lld, int offsetlld, float pivmin, float gaptol, float[] z, int offsetz, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.floatW ztz, org.netlib.util.floatW mingma, org.netlib.util.intW r, int[] isuppz, int offsetisuppz, org.netlib.util.floatW nrminv, org.netlib.util.floatW resid, org.netlib.util.floatW rqcorr, float[] work, int offsetwork) {
+    MethodHandle handle = slar1v_;
+    if (handle == null) {
+      slar1v_ = handle = downcall("slar1v_", "VAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nnegcnt = { negcnt.val };
+    float[] __nztz = { ztz.val };
+    float[] __nmingma = { mingma.val };
+    int[] __nr = { r.val };
+    float[] __nnrminv = { nrminv.val };
+    float[] __nresid = { resid.val };
+    float[] __nrqcorr = { rqcorr.val };
+    try {
+      handle.invokeExact(ref(n), ref(b1), ref(bn), ref(lambda), array(d, offsetd), array(l, offsetl), array(ld, offsetld), array(lld, offsetlld), ref(pivmin), ref(gaptol), array(z, offsetz), ref(wantnc), MemorySegment.ofArray(__nnegcnt), MemorySegment.ofArray(__nztz), MemorySegment.ofArray(__nmingma), MemorySegment.ofArray(__nr), array(isuppz, offsetisuppz), MemorySegment.ofArray(__nnrminv), MemorySegment.ofArray(__nresid), MemorySegment.ofArray(__nrqcorr), array(work, offsetwork));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    negcnt.val = __nnegcnt[0];
+    ztz.val = __nztz[0];
+    mingma.val = __nmingma[0];
+    r.val = __nr[0];
+    nrminv.val = __nnrminv[0];
+    resid.val = __nresid[0];
+    rqcorr.val = __nrqcorr[0];
+  }
+
+  private static MethodHandle slar2v_;
+
+  protected void slar2vK(int n, float[] x, int offsetx, float[] y, int offsety, float[] z, int offsetz, int incx, float[] c, int offsetc, float[] s, int offsets, int incc) {
+    MethodHandle handle = slar2v_;
+    if (handle == null) {
+      slar2v_ = handle = downcall("slar2v_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(x, offsetx), array(y, offsety), array(z, offsetz), ref(incx), array(c, offsetc), array(s, offsets), ref(incc));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slarf_;
+
+  protected void slarfK(String side, int m, int n, float[] v, int offsetv, int incv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
+    MethodHandle handle = slarf_;
+    if (handle == null) {
+      slarf_ = handle = downcall("slarf_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), ref(m), ref(n), array(v, offsetv), ref(incv), ref(tau), array(c, offsetc), ref(Ldc), array(work, offsetwork), (long)side.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slarfb_;
+
+  protected void slarfbK(String side, String trans, String direct, String storev, int m, int n, int k, float[] v, int offsetv, int ldv, float[] t, int offsett, int ldt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int ldwork) {
+    MethodHandle handle = slarfb_;
+    if (handle == null) {
+      slarfb_ = handle = downcall("slarfb_", "VAAAAAAAAAAAAAAAJJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(direct)), MemorySegment.ofArray(cstring(storev)), ref(m), ref(n), ref(k), array(v, offsetv), ref(ldv), array(t, offsett), ref(ldt), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(ldwork), (long)side.length(), (long)trans.length(), (long)direct.length(), (long)storev.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slarfg_;
+
+  protected void slarfgK(int n, org.netlib.util.floatW alpha, float[] x, int offsetx, int incx, org.netlib.util.floatW tau) {
+    MethodHandle handle = slarfg_;
+    if (handle == null) {
+      slarfg_ = handle = downcall("slarfg_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nalpha = { alpha.val };
+    float[] __ntau = { tau.val };
+    try {
+      handle.invokeExact(ref(n), MemorySegment.ofArray(__nalpha), array(x, offsetx), ref(incx), MemorySegment.ofArray(__ntau));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    alpha.val = __nalpha[0];
+    tau.val = __ntau[0];
+  }
+
+  private static MethodHandle slarft_;
+
+  protected void slarftK(String direct, String storev, int n, int k, float[] v, int offsetv, int ldv, float[] tau, int offsettau, float[] t, int offsett, int ldt) {
+    MethodHandle handle = slarft_;
+    if (handle == null) {
+      slarft_ = handle = downcall("slarft_", "VAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(direct)), MemorySegment.ofArray(cstring(storev)), ref(n), ref(k), array(v, offsetv), ref(ldv), array(tau, offsettau), array(t, offsett), ref(ldt), (long)direct.length(), (long)storev.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slarfx_;
+
+  protected void slarfxK(String side, int m, int n, float[] v, int offsetv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
+    MethodHandle handle = slarfx_;
+    if (handle == null) {
+      slarfx_ = handle = downcall("slarfx_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), ref(m), ref(n), array(v, offsetv), ref(tau), array(c, offsetc), ref(Ldc), array(work, offsetwork), (long)side.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slargv_;
+
+  protected void slargvK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] c, int offsetc, int incc) {
+    MethodHandle handle = slargv_;
+    if (handle == null) {
+      slargv_ = handle = downcall("slargv_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(x, offsetx), ref(incx), array(y, offsety), ref(incy), array(c, offsetc), ref(incc));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slarnv_;
+
+  protected void slarnvK(int idist, int[] iseed, int offsetiseed, int n, float[] x, int offsetx) {
+    MethodHandle handle = slarnv_;
+    if (handle == null) {
+      slarnv_ = handle = downcall("slarnv_", "VAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(idist), array(iseed, offsetiseed), ref(n), array(x, offsetx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slarra_;
+
+  protected void slarraK(int n, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float spltol, float tnrm, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW info) {
+    MethodHandle handle = slarra_;
+    if (handle == null) {
+      slarra_ = handle = downcall("slarra_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nnsplit = { nsplit.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), array(e2, offsete2), ref(spltol), ref(tnrm), MemorySegment.ofArray(__nnsplit), array(isplit, offsetisplit), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    nsplit.val = __nnsplit[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slarrb_;
+
+  protected void slarrbK(int n, float[] d, int offsetd, float[] lld, int offsetlld, int ifirst, int ilast, float rtol1, float rtol2, int offset, float[] w, int offsetw, float[] wgap, int offsetwgap, float[] werr, int offsetwerr, float[] work, int offsetwork, int[] iwork, int offsetiwork, float pivmin, float spdiam, int twist, org.netlib.util.intW info) {
+    MethodHandle handle = slarrb_;
+    if (handle == null) {
+      slarrb_ = handle = downcall("slarrb_", "VAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(lld, offsetlld), ref(ifirst), ref(ilast), ref(rtol1), ref(rtol2), ref(offset), array(w, offsetw), array(wgap, offsetwgap), array(werr, offsetwerr), array(work, offsetwork), array(iwork, offsetiwork), ref(pivmin), ref(spdiam), ref(twist), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slarrc_;
+
+  protected void slarrcK(String jobt, int n, float vl, float vu, float[] d, int offsetd, float[] e, int offsete, float pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
+    MethodHandle handle = slarrc_;
+    if (handle == null) {
+      slarrc_ = handle = downcall("slarrc_", "VAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __neigcnt = { eigcnt.val };
+    int[] __nlcnt = { lcnt.val };
+    int[] __nrcnt = { rcnt.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobt)), ref(n), ref(vl), ref(vu), array(d, offsetd), array(e, offsete), ref(pivmin), MemorySegment.ofArray(__neigcnt), MemorySegment.ofArray(__nlcnt), MemorySegment.ofArray(__nrcnt), MemorySegment.ofArray(__ninfo), (long)jobt.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    eigcnt.val = __neigcnt[0];
+    lcnt.val = __nlcnt[0];
+    rcnt.val = __nrcnt[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slarrd_;
+
+  protected void slarrdK(String range, String order, int n, float vl, float vu, int il, int iu, float[] gers, int offsetgers, float reltol, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float pivmin, int nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, float[] w, int offsetw, float[] werr, int offsetwerr, org.netlib.util.floatW wl, org.netlib.util.floatW wu, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = slarrd_;
+    if (handle == null) {
+      slarrd_ = handle = downcall("slarrd_", "VAAAAAAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    float[] __nwl = { wl.val };
+    float[] __nwu = { wu.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(order)), ref(n), ref(vl), ref(vu), ref(il), ref(iu), array(gers, offsetgers), ref(reltol), array(d, offsetd), array(e, offsete), array(e2, offsete2), ref(pivmin), ref(nsplit), array(isplit, offsetisplit), MemorySegment.ofArray(__nm), array(w, offsetw), array(werr, offsetwerr), MemorySegment.ofArray(__nwl), MemorySegment.ofArray(__nwu), array(iblock, offsetiblock), array(indexw, offsetindexw), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)range.length(), (long)order.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    wl.val = __nwl[0];
+    wu.val = __nwu[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slarre_;
+
+  protected void slarreK(String range, int n, org.netlib.util.floatW vl, org.netlib.util.floatW vu, int il, int iu, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float rtol1, float rtol2, float spltol, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, float[] w, int offsetw, float[] werr, int offsetwerr, float[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] gers, int offsetgers, org.netlib.util.floatW pivmin, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = slarre_;
+    if (handle == null) {
+      slarre_ = handle = downcall("slarre_", "VAAAAAAAAAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nvl = { vl.val };
+    float[] __nvu = { vu.val };
+    int[] __nnsplit = { nsplit.val };
+    int[] __nm = { m.val };
+    float[] __npivmin = { pivmin.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(range)), ref(n), MemorySegment.ofArray(__nvl), MemorySegment.ofArray(__nvu), ref(il), ref(iu), array(d, offsetd), array(e, offsete), array(e2, offsete2), ref(rtol1), ref(rtol2), ref(spltol), MemorySegment.ofArray(__nnsplit), array(isplit, offsetisplit), MemorySegment.ofArray(__nm), array(w, offsetw), array(werr, offsetwerr), array(wgap, offsetwgap), array(iblock, offsetiblock), array(indexw, offsetindexw), array(gers, offsetgers), MemorySegment.ofArray(__npivmin), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)range.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    vl.val = __nvl[0];
+    vu.val = __nvu[0];
+    nsplit.val = __nnsplit[0];
+    m.val = __nm[0];
+    pivmin.val = __npivmin[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slarrf_;
+
+  protected void slarrfK(int n, float[] d, int offsetd, float[] l, int offsetl, float[] ld, int offsetld, int clstrt, int clend, float[] w, int offsetw, float[] wgap, int offsetwgap, float[] werr, int offsetwerr, float spdiam, float clgapl, float clgapr, float pivmin, org.netlib.util.floatW sigma, float[] dplus, int offsetdplus, float[] lplus, int offsetlplus, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = slarrf_;
+    if (handle == null) {
+      slarrf_ = handle = downcall("slarrf_", "VAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nsigma = { sigma.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(l, offsetl), array(ld, offsetld), ref(clstrt), ref(clend), array(w, offsetw), array(wgap, offsetwgap), array(werr, offsetwerr), ref(spdiam), ref(clgapl), ref(clgapr), ref(pivmin), MemorySegment.ofArray(__nsigma), array(dplus, offsetdplus), array(lplus, offsetlplus), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    sigma.val = __nsigma[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slarrj_;
+
+  protected void slarrjK(int n, float[] d, int offsetd, float[] e2, int offsete2, int ifirst, int ilast, float rtol, int offset, float[] w, int offsetw, float[] werr, int offsetwerr, float[] work, int offsetwork, int[] iwork, int offsetiwork, float pivmin, float spdiam, org.netlib.util.intW info) {
+    MethodHandle handle = slarrj_;
+    if (handle == null) {
+      slarrj_ = handle = downcall("slarrj_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e2, offsete2), ref(ifirst), ref(ilast), ref(rtol), ref(offset), array(w, offsetw), array(werr, offsetwerr), array(work, offsetwork), array(iwork, offsetiwork), ref(pivmin), ref(spdiam), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slarrk_;
+
+  protected void slarrkK(int n, int iw, float gl, float gu, float[] d, int offsetd, float[] e2, int offsete2, float pivmin, float reltol, org.netlib.util.floatW w, org.netlib.util.floatW werr, org.netlib.util.intW info) {
+    MethodHandle handle = slarrk_;
+    if (handle == null) {
+      slarrk_ = handle = downcall("slarrk_", "VAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nw = { w.val };
+    float[] __nwerr = { werr.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(iw), ref(gl), ref(gu), array(d, offsetd), array(e2, offsete2), ref(pivmin), ref(reltol), MemorySegment.ofArray(__nw), MemorySegment.ofArray(__nwerr), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    w.val = __nw[0];
+    werr.val = __nwerr[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slarrr_;
+
+  protected void slarrrK(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
+    MethodHandle handle = slarrr_;
+    if (handle == null) {
+      slarrr_ = handle = downcall("slarrr_", "VAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slarrv_;
+
+  protected void slarrvK(int n, float vl, float vu, float[] d, int offsetd, float[] l, int offsetl, float pivmin, int[] isplit, int offsetisplit, int m, int dol, int dou, float minrgp, org.netlib.util.floatW rtol1, org.netlib.util.floatW rtol2, float[] w, int offsetw, float[] werr, int offsetwerr, float[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] gers, int offsetgers, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = slarrv_;
+    if (handle == null) {
+      slarrv_ = handle = downcall("slarrv_", "VAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrtol1 = { rtol1.val };
+    float[] __nrtol2 = { rtol2.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(vl), ref(vu), array(d, offsetd), array(l, offsetl), ref(pivmin), array(isplit, offsetisplit), ref(m), ref(dol), ref(dou), ref(minrgp), MemorySegment.ofArray(__nrtol1), MemorySegment.ofArray(__nrtol2), array(w, offsetw), array(werr, offsetwerr), array(wgap, offsetwgap), array(iblock, offsetiblock), array(indexw, offsetindexw), array(gers, offsetgers), array(z, offsetz), ref(ldz), array(isuppz, offsetisuppz), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rtol1.val = __nrtol1[0];
+    rtol2.val = __nrtol2[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slartg_;
+
+  protected void slartgK(float f, float g, org.netlib.util.floatW cs, org.netlib.util.floatW sn, org.netlib.util.floatW r) {
+    MethodHandle handle = slartg_;
+    if (handle == null) {
+      slartg_ = handle = downcall("slartg_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __ncs = { cs.val };
+    float[] __nsn = { sn.val };
+    float[] __nr = { r.val };
+    try {
+      handle.invokeExact(ref(f), ref(g), MemorySegment.ofArray(__ncs), MemorySegment.ofArray(__nsn), MemorySegment.ofArray(__nr));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    cs.val = __ncs[0];
+    sn.val = __nsn[0];
+    r.val = __nr[0];
+  }
+
+  private static MethodHandle slartv_;
+
+  protected void slartvK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] c, int offsetc, float[] s, int offsets, int incc) {
+    MethodHandle handle = slartv_;
+    if (handle == null) {
+      slartv_ = handle = downcall("slartv_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(x, offsetx), ref(incx), array(y, offsety), ref(incy), array(c, offsetc), array(s, offsets), ref(incc));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slaruv_;
+
+  protected void slaruvK(int[] iseed, int offsetiseed, int n, float[] x, int offsetx) {
+    MethodHandle handle = slaruv_;
+    if (handle == null) {
+      slaruv_ = handle = downcall("slaruv_", "VAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(array(iseed, offsetiseed), ref(n), array(x, offsetx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slarz_;
+
+  protected void slarzK(String side, int m, int n, int l, float[] v, int offsetv, int incv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
+    MethodHandle handle = slarz_;
+    if (handle == null) {
+      slarz_ = handle = downcall("slarz_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), ref(m), ref(n), ref(l), array(v, offsetv), ref(incv), ref(tau), array(c, offsetc), ref(Ldc), array(work, offsetwork), (long)side.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slarzb_;
+
+  protected void slarzbK(String side, String trans, String direct, String storev, int m, int n, int k, int l, float[] v, int offsetv, int ldv, float[] t, int offsett, int ldt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int ldwork) {
+    MethodHandle handle = slarzb_;
+    if (handle == null) {
+      slarzb_ = handle = downcall("slarzb_", "VAAAAAAAAAAAAAAAAJJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(direct)), MemorySegment.ofArray(cstring(storev)), ref(m), ref(n), ref(k), ref(l), array(v, offsetv), ref(ldv), array(t, offsett), ref(ldt), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(ldwork), (long)side.length(), (long)trans.length(), (long)direct.length(), (long)storev.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slarzt_;
+
+  protected void slarztK(String direct, String storev, int n, int k, float[] v, int offsetv, int ldv, float[] tau, int offsettau, float[] t, int offsett, int ldt) {
+    MethodHandle handle = slarzt_;
+    if (handle == null) {
+      slarzt_ = handle = downcall("slarzt_", "VAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(direct)), MemorySegment.ofArray(cstring(storev)), ref(n), ref(k), array(v, offsetv), ref(ldv), array(tau, offsettau), array(t, offsett), ref(ldt), (long)direct.length(), (long)storev.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slas2_;
+
+  protected void slas2K(float f, float g, float h, org.netlib.util.floatW ssmin, org.netlib.util.floatW ssmax) {
+    MethodHandle handle = slas2_;
+    if (handle == null) {
+      slas2_ = handle = downcall("slas2_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nssmin = { ssmin.val };
+    float[] __nssmax = { ssmax.val };
+    try {
+      handle.invokeExact(ref(f), ref(g), ref(h), MemorySegment.ofArray(__nssmin), MemorySegment.ofArray(__nssmax));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ssmin.val = __nssmin[0];
+    ssmax.val = __nssmax[0];
+  }
+
+  private static MethodHandle slascl_;
+
+  protected void slasclK(String type, int kl, int ku, float cfrom, float cto, int m, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = slascl_;
+    if (handle == null) {
+      slascl_ = handle = downcall("slascl_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(type)), ref(kl), ref(ku), ref(cfrom), ref(cto), ref(m), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)type.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slasd0_;
+
+  protected void slasd0K(int n, int sqre, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, int smlsiz, int[] iwork, int offsetiwork, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = slasd0_;
+    if (handle == null) {
+      slasd0_ = handle = downcall("slasd0_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(sqre), array(d, offsetd), array(e, offsete), array(u, offsetu), ref(ldu), array(vt, offsetvt), ref(ldvt), ref(smlsiz), array(iwork, offsetiwork), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slasd1_;
+
+  protected void slasd1K(int nl, int nr, int sqre, float[] d, int offsetd, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, int[] iwork, int offsetiwork, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = slasd1_;
+    if (handle == null) {
+      slasd1_ = handle = downcall("slasd1_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nalpha = { alpha.val };
+    float[] __nbeta = { beta.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(nl), ref(nr), ref(sqre), array(d, offsetd), MemorySegment.ofArray(__nalpha), MemorySegment.ofArray(__nbeta), array(u, offsetu), ref(ldu), array(vt, offsetvt), ref(ldvt), array(idxq, offsetidxq), array(iwork, offsetiwork), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    alpha.val = __nalpha[0];
+    beta.val = __nbeta[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slasd2_;
+
+  protected void slasd2K(int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, int offsetd, float[] z, int offsetz, float alpha, float beta, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] dsigma, int offsetdsigma, float[] u2, int offsetu2, int ldu2, float[] vt2, int offsetvt2, int ldvt2, int[] idxp, int offsetidxp, int[] idx, int offsetidx, int[] idxc, int offsetidxc, int[] idxq, int offsetidxq, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    MethodHandle handle = slasd2_;
+    if (handle == null) {
+      slasd2_ = handle = downcall("slasd2_", "VAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nk = { k.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(nl), ref(nr), ref(sqre), MemorySegment.ofArray(__nk), array(d, offsetd), array(z, offsetz), ref(alpha), ref(beta), array(u, offsetu), ref(ldu), array(vt, offsetvt), ref(ldvt), array(dsigma, offsetdsigma), array(u2, offsetu2), ref(ldu2), array(vt2, offsetvt2), ref(ldvt2), array(idxp, offsetidxp), array(idx, offsetidx), array(idxc, offsetidxc), array(idxq, offsetidxq), array(coltyp, offsetcoltyp), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    k.val = __nk[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slasd3_;
+
+  protected void slasd3K(int nl, int nr, int sqre, int k, float[] d, int offsetd, float[] q, int offsetq, int ldq, float[] dsigma, int offsetdsigma, float[] u, int offsetu, int ldu, float[] u2, int offsetu2, int ldu2, float[] vt, int offsetvt, int ldvt, float[] vt2, int offsetvt2, int ldvt2, int[] idxc, int offsetidxc, int[] ctot, int offsetctot, float[] z, int offsetz, org.netlib.util.intW info) {
+    MethodHandle handle = slasd3_;
+    if (handle == null) {
+      slasd3_ = handle = downcall("slasd3_", "VAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(nl), ref(nr), ref(sqre), ref(k), array(d, offsetd), array(q, offsetq), ref(ldq), array(dsigma, offsetdsigma), array(u, offsetu), ref(ldu), array(u2, offsetu2), ref(ldu2), array(vt, offsetvt), ref(ldvt), array(vt2, offsetvt2), ref(ldvt2), array(idxc, offsetidxc), array(ctot, offsetctot), array(z, offsetz), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slasd4_;
+
+  protected void slasd4K(int n, int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW sigma, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = slasd4_;
+    if (handle == null) {
+      slasd4_ = handle = downcall("slasd4_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nsigma = { sigma.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(i), array(d, offsetd), array(z, offsetz), array(delta, offsetdelta), ref(rho), MemorySegment.ofArray(__nsigma), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    sigma.val = __nsigma[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slasd5_;
+
+  protected void slasd5K(int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dsigma, float[] work, int offsetwork) {
+    MethodHandle handle = slasd5_;
+    if (handle == null) {
+      slasd5_ = handle = downcall("slasd5_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __ndsigma = { dsigma.val };
+    try {
+      handle.invokeExact(ref(i), array(d, offsetd), array(z, offsetz), array(delta, offsetdelta), ref(rho), MemorySegment.ofArray(__ndsigma), array(work, offsetwork));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    dsigma.val = __ndsigma[0];
+  }
+
+  private static MethodHandle slasd6_;
+
+  protected void slasd6K(int icompq, int nl, int nr, int sqre, float[] d, int offsetd, float[] vf, int offsetvf, float[] vl, int offsetvl, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, float[] poles, int offsetpoles, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, org.netlib.util.intW k, org.netlib.util.floatW c, org.netlib.util.floatW s, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = slasd6_;
+    if (handle == null) {
+      slasd6_ = handle = downcall("slasd6_", "VAAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nalpha = { alpha.val };
+    float[] __nbeta = { beta.val };
+    int[] __ngivptr = { givptr.val };
+    int[] __nk = { k.val };
+    float[] __nc = { c.val };
+    float[] __ns = { s.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(nl), ref(nr), ref(sqre), array(d, offsetd), array(vf, offsetvf), array(vl, offsetvl), MemorySegment.ofArray(__nalpha), MemorySegment.ofArray(__nbeta), array(idxq, offsetidxq), array(perm, offsetperm), MemorySegment.ofArray(__ngivptr), array(givcol, offsetgivcol), ref(ldgcol), array(givnum, offsetgivnum), ref(ldgnum), array(poles, offsetpoles), array(difl, offsetdifl), array(difr, offsetdifr), array(z, offsetz), MemorySegment.ofArray(__nk), MemorySegment.ofArray(__nc), MemorySegment.ofArray(__ns), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    alpha.val = __nalpha[0];
+    beta.val = __nbeta[0];
+    givptr.val = __ngivptr[0];
+    k.val = __nk[0];
+    c.val = __nc[0];
+    s.val = __ns[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slasd7_;
+
+  protected void slasd7K(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, int offsetd, float[] z, int offsetz, float[] zw, int offsetzw, float[] vf, int offsetvf, float[] vfw, int offsetvfw, float[] vl, int offsetvl, float[] vlw, int offsetvlw, float alpha, float beta, float[] dsigma, int offsetdsigma, int[] idx, int offsetidx, int[] idxp, int offsetidxp, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, org.netlib.util.floatW c, org.netlib.util.floatW s, org.netlib.util.intW info) {
+    MethodHandle handle = slasd7_;
+    if (handle == null) {
+      slasd7_ = handle = downcall("slasd7_", "VAAAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nk = { k.val };
+    int[] __ngivptr = { givptr.val };
+    float[] __nc = { c.val };
+    float[] __ns = { s.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(nl), ref(nr), ref(sqre), MemorySegment.ofArray(__nk), array(d, offsetd), array(z, offsetz), array(zw, offsetzw), array(vf, offsetvf), array(vfw, offsetvfw), array(vl, offsetvl), array(vlw, offsetvlw), ref(alpha), ref(beta), array(dsigma, offsetdsigma), array(idx, offsetidx), array(idxp, offsetidxp), array(idxq, offsetidxq), array(perm, offsetperm), MemorySegment.ofArray(__ngivptr), array(givcol, offsetgivcol), ref(ldgcol), array(givnum, offsetgivnum), ref(ldgnum), MemorySegment.ofArray(__nc), MemorySegment.ofArray(__ns), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    k.val = __nk[0];
+    givptr.val = __ngivptr[0];
+    c.val = __nc[0];
+    s.val = __ns[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slasd8_;
+
+  protected void slasd8K(int icompq, int k, float[] d, int offsetd, float[] z, int offsetz, float[] vf, int offsetvf, float[] vl, int offsetvl, float[] difl, int offsetdifl, float[] difr, int offsetdifr, int lddifr, float[] dsigma, int offsetdsigma, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = slasd8_;
+    if (handle == null) {
+      slasd8_ = handle = downcall("slasd8_", "VAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(k), array(d, offsetd), array(z, offsetz), array(vf, offsetvf), array(vl, offsetvl), array(difl, offsetdifl), array(difr, offsetdifr), ref(lddifr), array(dsigma, offsetdsigma), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slasda_;
+
+  protected void slasdaK(int icompq, int smlsiz, int n, int sqre, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int[] k, int offsetk, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, float[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, float[] givnum, int offsetgivnum, float[] c, int offsetc, float[] s, int offsets, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = slasda_;
+    if (handle == null) {
+      slasda_ = handle = downcall("slasda_", "VAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(icompq), ref(smlsiz), ref(n), ref(sqre), array(d, offsetd), array(e, offsete), array(u, offsetu), ref(ldu), array(vt, offsetvt), array(k, offsetk), array(difl, offsetdifl), array(difr, offsetdifr), array(z, offsetz), array(poles, offsetpoles), array(givptr, offsetgivptr), array(givcol, offsetgivcol), ref(ldgcol), array(perm, offsetperm), array(givnum, offsetgivnum), array(c, offsetc), array(s, offsets), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slasdq_;
+
+  protected void slasdqK(String uplo, int sqre, int n, int ncvt, int nru, int ncc, float[] d, int offsetd, float[] e, int offsete, float[] vt, int offsetvt, int ldvt, float[] u, int offsetu, int ldu, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = slasdq_;
+    if (handle == null) {
+      slasdq_ = handle = downcall("slasdq_", "VAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(sqre), ref(n), ref(ncvt), ref(nru), ref(ncc), array(d, offsetd), array(e, offsete), array(vt, offsetvt), ref(ldvt), array(u, offsetu), ref(ldu), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slasdt_;
+
+  protected void slasdtK(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int offsetinode, int[] ndiml, int offsetndiml, int[] ndimr, int offsetndimr, int msub) {
+    MethodHandle handle = slasdt_;
+    if (handle == null) {
+      slasdt_ = handle = downcall("slasdt_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nlvl = { lvl.val };
+    int[] __nnd = { nd.val };
+    try {
+      handle.invokeExact(ref(n), MemorySegment.ofArray(__nlvl), MemorySegment.ofArray(__nnd), array(inode, offsetinode), array(ndiml, offsetndiml), array(ndimr, offsetndimr), ref(msub));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    lvl.val = __nlvl[0];
+    nd.val = __nnd[0];
+  }
+
+  private static MethodHandle slaset_;
+
+  protected void slasetK(String uplo, int m, int n, float alpha, float beta, float[] a, int offseta, int lda) {
+    MethodHandle handle = slaset_;
+    if (handle == null) {
+      slaset_ = handle = downcall("slaset_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(m), ref(n), ref(alpha), ref(beta), array(a, offseta), ref(lda), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slasq1_;
+
+  protected void slasq1K(int n, float[] d, int offsetd, float[] e, int offsete, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = slasq1_;
+    if (handle == null) {
+      slasq1_ = handle = downcall("slasq1_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slasq2_;
+
+  protected void slasq2K(int n, float[] z, int offsetz, org.netlib.util.intW info) {
+    MethodHandle handle = slasq2_;
+    if (handle == null) {
+      slasq2_ = handle = downcall("slasq2_", "VAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(z, offsetz), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slasq3_;
+
+  protected void slasq3K(int i0, org.netlib.util.intW n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dn1, org.netlib.util.floatW dn2, org.netlib.util.floatW g, org.netlib.util.floatW tau) {
+    MethodHandle handle = slasq3_;
+    if (handle == null) {
+      slasq3_ = handle = downcall("slasq3_", "VAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nn0 = { n0.val };
+    float[] __ndmin = { dmin.val };
+    float[] __nsigma = { sigma.val };
+    float[] __ndesig = { desig.val };
+    float[] __nqmax = { qmax.val };
+    int[] __nnfail = { nfail.val };
+    int[] __niter = { iter.val };
+    int[] __nndiv = { ndiv.val };
+    int[] __nttype = { ttype.val };
+    float[] __ndmin1 = { dmin1.val };
+    float[] __ndmin2 = { dmin2.val };
+    float[] __ndn = { dn.val };
+    float[] __ndn1 = { dn1.val };
+    float[] __ndn2 = { dn2.val };
+    float[] __ng = { g.val };
+    float[] __ntau = { tau.val };
+    try {
+      handle.invokeExact(ref(i0), MemorySegment.ofArray(__nn0), array(z, offsetz), ref(pp), MemorySegment.ofArray(__ndmin), MemorySegment.ofArray(__nsigma), MemorySegment.ofArray(__ndesig), MemorySegment.ofArray(__nqmax), MemorySegment.ofArray(__nnfail), MemorySegment.ofArray(__niter), MemorySegment.ofArray(__nndiv), ref(ieee), MemorySegment.ofArray(__nttype), MemorySegment.ofArray(__ndmin1), MemorySegment.ofArray(__ndmin2), MemorySegment.ofArray(__ndn), MemorySegment.ofArray(__ndn1), MemorySegment.ofArray(__ndn2), MemorySegment.ofArray(__ng), MemorySegment.ofArray(__ntau));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    n0.val = __nn0[0];
+    dmin.val = __ndmin[0];
+    sigma.val = __nsigma[0];
+    desig.val = __ndesig[0];
+    qmax.val = __nqmax[0];
+    nfail.val = __nnfail[0];
+    iter.val = __niter[0];
+    ndiv.val = __nndiv[0];
+    ttype.val = __nttype[0];
+    dmin1.val = __ndmin1[0];
+    dmin2.val = __ndmin2[0];
+    dn.val = __ndn[0];
+    dn1.val = __ndn1[0];
+    dn2.val = __ndn2[0];
+    g.val = __ng[0];
+    tau.val = __ntau[0];
+  }
+
+  private static MethodHandle slasq4_;
+
+  protected void slasq4K(int i0, int n0, float[] z, int offsetz, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype, org.netlib.util.floatW g) {
+    MethodHandle handle = slasq4_;
+    if (handle == null) {
+      slasq4_ = handle = downcall("slasq4_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __ntau = { tau.val };
+    int[] __nttype = { ttype.val };
+    float[] __ng = { g.val };
+    try {
+      handle.invokeExact(ref(i0), ref(n0), array(z, offsetz), ref(pp), ref(n0in), ref(dmin), ref(dmin1), ref(dmin2), ref(dn), ref(dn1), ref(dn2), MemorySegment.ofArray(__ntau), MemorySegment.ofArray(__nttype), MemorySegment.ofArray(__ng));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    tau.val = __ntau[0];
+    ttype.val = __nttype[0];
+    g.val = __ng[0];
+  }
+
+  private static MethodHandle slasq5_;
+
+  protected void slasq5K(int i0, int n0, float[] z, int offsetz, int pp, float tau, float sigma, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2, boolean ieee, float eps) {
+    MethodHandle handle = slasq5_;
+    if (handle == null) {
+      slasq5_ = handle = downcall("slasq5_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __ndmin = { dmin.val };
+    float[] __ndmin1 = { dmin1.val };
+    float[] __ndmin2 = { dmin2.val };
+    float[] __ndn = { dn.val };
+    float[] __ndnm1 = { dnm1.val };
+    float[] __ndnm2 = { dnm2.val };
+    try {
+      handle.invokeExact(ref(i0), ref(n0), array(z, offsetz), ref(pp), ref(tau), ref(sigma), MemorySegment.ofArray(__ndmin), MemorySegment.ofArray(__ndmin1), MemorySegment.ofArray(__ndmin2), MemorySegment.ofArray(__ndn), MemorySegment.ofArray(__ndnm1), MemorySegment.ofArray(__ndnm2), ref(ieee), ref(eps));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    dmin.val = __ndmin[0];
+    dmin1.val = __ndmin1[0];
+    dmin2.val = __ndmin2[0];
+    dn.val = __ndn[0];
+    dnm1.val = __ndnm1[0];
+    dnm2.val = __ndnm2[0];
+  }
+
+  private static MethodHandle slasq6_;
+
+  protected void slasq6K(int i0, int n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2) {
+    MethodHandle handle = slasq6_;
+    if (handle == null) {
+      slasq6_ = handle = downcall("slasq6_", "VAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __ndmin = { dmin.val };
+    float[] __ndmin1 = { dmin1.val };
+    float[] __ndmin2 = { dmin2.val };
+    float[] __ndn = { dn.val };
+    float[] __ndnm1 = { dnm1.val };
+    float[] __ndnm2 = { dnm2.val };
+    try {
+      handle.invokeExact(ref(i0), ref(n0), array(z, offsetz), ref(pp), MemorySegment.ofArray(__ndmin), MemorySegment.ofArray(__ndmin1), MemorySegment.ofArray(__ndmin2), MemorySegment.ofArray(__ndn), MemorySegment.ofArray(__ndnm1), MemorySegment.ofArray(__ndnm2));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    dmin.val = __ndmin[0];
+    dmin1.val = __ndmin1[0];
+    dmin2.val = __ndmin2[0];
+    dn.val = __ndn[0];
+    dnm1.val = __ndnm1[0];
+    dnm2.val = __ndnm2[0];
+  }
+
+  private static MethodHandle slasr_;
+
+  protected void slasrK(String side, String pivot, String direct, int m, int n, float[] c, int offsetc, float[] s, int offsets, float[] a, int offseta, int lda) {
+    MethodHandle handle = slasr_;
+    if (handle == null) {
+      slasr_ = handle = downcall("slasr_", "VAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(pivot)), MemorySegment.ofArray(cstring(direct)), ref(m), ref(n), array(c, offsetc), array(s, offsets), array(a, offseta), ref(lda), (long)side.length(), (long)pivot.length(), (long)direct.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slasrt_;
+
+  protected void slasrtK(String id, int n, float[] d, int offsetd, org.netlib.util.intW info) {
+    MethodHandle handle = slasrt_;
+    if (handle == null) {
+      slasrt_ = handle = downcall("slasrt_", "VAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(id)), ref(n), array(d, offsetd), MemorySegment.ofArray(__ninfo), (long)id.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slassq_;
+
+  protected void slassqK(int n, float[] x, int offsetx, int incx, org.netlib.util.floatW scale, org.netlib.util.floatW sumsq) {
+    MethodHandle handle = slassq_;
+    if (handle == null) {
+      slassq_ = handle = downcall("slassq_", "VAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscale = { scale.val };
+    float[] __nsumsq = { sumsq.val };
+    try {
+      handle.invokeExact(ref(n), array(x, offsetx), ref(incx), MemorySegment.ofArray(__nscale), MemorySegment.ofArray(__nsumsq));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    sumsq.val = __nsumsq[0];
+  }
+
+  private static MethodHandle slasv2_;
+
+  protected void slasv2K(float f, float g, float h, org.netlib.util.floatW ssmin, org.netlib.util.floatW ssmax, org.netlib.util.floatW snr, org.netlib.util.floatW csr, org.netlib.util.floatW snl, org.netlib.util.floatW csl) {
+    MethodHandle handle = slasv2_;
+    if (handle == null) {
+      slasv2_ = handle = downcall("slasv2_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nssmin = { ssmin.val };
+    float[] __nssmax = { ssmax.val };
+    float[] __nsnr = { snr.val };
+    float[] __ncsr = { csr.val };
+    float[] __nsnl = { snl.val };
+    float[] __ncsl = { csl.val };
+    try {
+      handle.invokeExact(ref(f), ref(g), ref(h), MemorySegment.ofArray(__nssmin), MemorySegment.ofArray(__nssmax), MemorySegment.ofArray(__nsnr), MemorySegment.ofArray(__ncsr), MemorySegment.ofArray(__nsnl), MemorySegment.ofArray(__ncsl));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ssmin.val = __nssmin[0];
+    ssmax.val = __nssmax[0];
+    snr.val = __nsnr[0];
+    csr.val = __ncsr[0];
+    snl.val = __nsnl[0];
+    csl.val = __ncsl[0];
+  }
+
+  private static MethodHandle slaswp_;
+
+  protected void slaswpK(int n, float[] a, int offseta, int lda, int k1, int k2, int[] ipiv, int offsetipiv, int incx) {
+    MethodHandle handle = slaswp_;
+    if (handle == null) {
+      slaswp_ = handle = downcall("slaswp_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), array(a, offseta), ref(lda), ref(k1), ref(k2), array(ipiv, offsetipiv), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slasy2_;
+
+  protected void slasy2K(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, float[] tl, int offsettl, int ldtl, float[] tr, int offsettr, int ldtr, float[] b, int offsetb, int ldb, org.netlib.util.floatW scale, float[] x, int offsetx, int ldx, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
+    MethodHandle handle = slasy2_;
+    if (handle == null) {
+      slasy2_ = handle = downcall("slasy2_", "VAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscale = { scale.val };
+    float[] __nxnorm = { xnorm.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(ltranl), ref(ltranr), ref(isgn), ref(n1), ref(n2), array(tl, offsettl), ref(ldtl), array(tr, offsettr), ref(ldtr), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__nscale), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nxnorm), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    xnorm.val = __nxnorm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slasyf_;
+
+  protected void slasyfK(String uplo, int n, int nb, org.netlib.util.intW kb, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] w, int offsetw, int ldw, org.netlib.util.intW info) {
+    MethodHandle handle = slasyf_;
+    if (handle == null) {
+      slasyf_ = handle = downcall("slasyf_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nkb = { kb.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nb), MemorySegment.ofArray(__nkb), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(w, offsetw), ref(ldw), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    kb.val = __nkb[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slatbs_;
+
+  protected void slatbsK(String uplo, String trans, String diag, String normin, int n, int kd, float[] ab, int offsetab, int ldab, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    MethodHandle handle = slatbs_;
+    if (handle == null) {
+      slatbs_ = handle = downcall("slatbs_", "VAAAAAAAAAAAAJJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscale = { scale.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), MemorySegment.ofArray(cstring(normin)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), array(x, offsetx), MemorySegment.ofArray(__nscale), array(cnorm, offsetcnorm), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length(), (long)normin.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slatdf_;
+
+  protected void slatdfK(int ijob, int n, float[] z, int offsetz, int ldz, float[] rhs, int offsetrhs, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv) {
+    MethodHandle handle = slatdf_;
+    if (handle == null) {
+      slatdf_ = handle = downcall("slatdf_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrdsum = { rdsum.val };
+    float[] __nrdscal = { rdscal.val };
+    try {
+      handle.invokeExact(ref(ijob), ref(n), array(z, offsetz), ref(ldz), array(rhs, offsetrhs), MemorySegment.ofArray(__nrdsum), MemorySegment.ofArray(__nrdscal), array(ipiv, offsetipiv), array(jpiv, offsetjpiv));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rdsum.val = __nrdsum[0];
+    rdscal.val = __nrdscal[0];
+  }
+
+  private static MethodHandle slatps_;
+
+  protected void slatpsK(String uplo, String trans, String diag, String normin, int n, float[] ap, int offsetap, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    MethodHandle handle = slatps_;
+    if (handle == null) {
+      slatps_ = handle = downcall("slatps_", "VAAAAAAAAAAJJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscale = { scale.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), MemorySegment.ofArray(cstring(normin)), ref(n), array(ap, offsetap), array(x, offsetx), MemorySegment.ofArray(__nscale), array(cnorm, offsetcnorm), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length(), (long)normin.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slatrd_;
+
+  protected void slatrdK(String uplo, int n, int nb, float[] a, int offseta, int lda, float[] e, int offsete, float[] tau, int offsettau, float[] w, int offsetw, int ldw) {
+    MethodHandle handle = slatrd_;
+    if (handle == null) {
+      slatrd_ = handle = downcall("slatrd_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nb), array(a, offseta), ref(lda), array(e, offsete), array(tau, offsettau), array(w, offsetw), ref(ldw), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slatrs_;
+
+  protected void slatrsK(String uplo, String trans, String diag, String normin, int n, float[] a, int offseta, int lda, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    MethodHandle handle = slatrs_;
+    if (handle == null) {
+      slatrs_ = handle = downcall("slatrs_", "VAAAAAAAAAAAJJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscale = { scale.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), MemorySegment.ofArray(cstring(normin)), ref(n), array(a, offseta), ref(lda), array(x, offsetx), MemorySegment.ofArray(__nscale), array(cnorm, offsetcnorm), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length(), (long)normin.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slatrz_;
+
+  protected void slatrzK(int m, int n, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork) {
+    MethodHandle handle = slatrz_;
+    if (handle == null) {
+      slatrz_ = handle = downcall("slatrz_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(l), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slatzm_;
+
+  protected void slatzmK(String side, int m, int n, float[] v, int offsetv, int incv, float tau, float[] c1, int offsetc1, float[] c2, int offsetc2, int Ldc, float[] work, int offsetwork) {
+    MethodHandle handle = slatzm_;
+    if (handle == null) {
+      slatzm_ = handle = downcall("slatzm_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), ref(m), ref(n), array(v, offsetv), ref(incv), ref(tau), array(c1, offsetc1), array(c2, offsetc2), ref(Ldc), array(work, offsetwork), (long)side.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle slauu2_;
+
+  protected void slauu2K(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = slauu2_;
+    if (handle == null) {
+      slauu2_ = handle = downcall("slauu2_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle slauum_;
+
+  protected void slauumK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = slauum_;
+    if (handle == null) {
+      slauum_ = handle = downcall("slauum_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  protected void slazq3K(int i0, org.netlib.util.intW n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dn1, org.netlib.util.floatW dn2, org.netlib.util.floatW tau) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void slazq4K(int i0, int n0, float[] z, int offsetz, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype, org.netlib.util.floatW g) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static MethodHandle sopgtr_;
+
+  protected void sopgtrK(String uplo, int n, float[] ap, int offsetap, float[] tau, int offsettau, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sopgtr_;
+    if (handle == null) {
+      sopgtr_ = handle = downcall("sopgtr_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(tau, offsettau), array(q, offsetq), ref(ldq), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sopmtr_;
+
+  protected void sopmtrK(String side, String uplo, String trans, int m, int n, float[] ap, int offsetap, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sopmtr_;
+    if (handle == null) {
+      sopmtr_ = handle = downcall("sopmtr_", "VAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), array(ap, offsetap), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)uplo.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sorg2l_;
+
+  protected void sorg2lK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sorg2l_;
+    if (handle == null) {
+      sorg2l_ = handle = downcall("sorg2l_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sorg2r_;
+
+  protected void sorg2rK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sorg2r_;
+    if (handle == null) {
+      sorg2r_ = handle = downcall("sorg2r_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sorgbr_;
+
+  protected void sorgbrK(String vect, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sorgbr_;
+    if (handle == null) {
+      sorgbr_ = handle = downcall("sorgbr_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(vect)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)vect.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sorghr_;
+
+  protected void sorghrK(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sorghr_;
+    if (handle == null) {
+      sorghr_ = handle = downcall("sorghr_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(ilo), ref(ihi), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sorgl2_;
+
+  protected void sorgl2K(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sorgl2_;
+    if (handle == null) {
+      sorgl2_ = handle = downcall("sorgl2_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sorglq_;
+
+  protected void sorglqK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sorglq_;
+    if (handle == null) {
+      sorglq_ = handle = downcall("sorglq_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sorgql_;
+
+  protected void sorgqlK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sorgql_;
+    if (handle == null) {
+      sorgql_ = handle = downcall("sorgql_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sorgqr_;
+
+  protected void sorgqrK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sorgqr_;
+    if (handle == null) {
+      sorgqr_ = handle = downcall("sorgqr_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sorgr2_;
+
+  protected void sorgr2K(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sorgr2_;
+    if (handle == null) {
+      sorgr2_ = handle = downcall("sorgr2_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sorgrq_;
+
+  protected void sorgrqK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sorgrq_;
+    if (handle == null) {
+      sorgrq_ = handle = downcall("sorgrq_", "VAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sorgtr_;
+
+  protected void sorgtrK(String uplo, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sorgtr_;
+    if (handle == null) {
+      sorgtr_ = handle = downcall("sorgtr_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sorm2l_;
+
+  protected void sorm2lK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sorm2l_;
+    if (handle == null) {
+      sorm2l_ = handle = downcall("sorm2l_", "VAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sorm2r_;
+
+  protected void sorm2rK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sorm2r_;
+    if (handle == null) {
+      sorm2r_ = handle = downcall("sorm2r_", "VAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sormbr_;
+
+  protected void sormbrK(String vect, String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sormbr_;
+    if (handle == null) {
+      sormbr_ = handle = downcall("sormbr_", "VAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(vect)), MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)vect.length(), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sormhr_;
+
+  protected void sormhrK(String side, String trans, int m, int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sormhr_;
+    if (handle == null) {
+      sormhr_ = handle = downcall("sormhr_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(ilo), ref(ihi), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sorml2_;
+
+  protected void sorml2K(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sorml2_;
+    if (handle == null) {
+      sorml2_ = handle = downcall("sorml2_", "VAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sormlq_;
+
+  protected void sormlqK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sormlq_;
+    if (handle == null) {
+      sormlq_ = handle = downcall("sormlq_", "VAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sormql_;
+
+  protected void sormqlK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sormql_;
+    if (handle == null) {
+      sormql_ = handle = downcall("sormql_", "VAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sormqr_;
+
+  protected void sormqrK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sormqr_;
+    if (handle == null) {
+      sormqr_ = handle = downcall("sormqr_", "VAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sormr2_;
+
+  protected void sormr2K(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sormr2_;
+    if (handle == null) {
+      sormr2_ = handle = downcall("sormr2_", "VAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sormr3_;
+
+  protected void sormr3K(String side, String trans, int m, int n, int k, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sormr3_;
+    if (handle == null) {
+      sormr3_ = handle = downcall("sormr3_", "VAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), ref(l), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sormrq_;
+
+  protected void sormrqK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sormrq_;
+    if (handle == null) {
+      sormrq_ = handle = downcall("sormrq_", "VAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sormrz_;
+
+  protected void sormrzK(String side, String trans, int m, int n, int k, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sormrz_;
+    if (handle == null) {
+      sormrz_ = handle = downcall("sormrz_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), ref(k), ref(l), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sormtr_;
+
+  protected void sormtrK(String side, String uplo, String trans, int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = sormtr_;
+    if (handle == null) {
+      sormtr_ = handle = downcall("sormtr_", "VAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(c, offsetc), ref(Ldc), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)uplo.length(), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spbcon_;
+
+  protected void spbconK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = spbcon_;
+    if (handle == null) {
+      spbcon_ = handle = downcall("spbcon_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spbequ_;
+
+  protected void spbequK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    MethodHandle handle = spbequ_;
+    if (handle == null) {
+      spbequ_ = handle = downcall("spbequ_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscond = { scond.val };
+    float[] __namax = { amax.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), array(s, offsets), MemorySegment.ofArray(__nscond), MemorySegment.ofArray(__namax), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scond.val = __nscond[0];
+    amax.val = __namax[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spbrfs_;
+
+  protected void spbrfsK(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = spbrfs_;
+    if (handle == null) {
+      spbrfs_ = handle = downcall("spbrfs_", "VAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), ref(nrhs), array(ab, offsetab), ref(ldab), array(afb, offsetafb), ref(ldafb), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spbstf_;
+
+  protected void spbstfK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    MethodHandle handle = spbstf_;
+    if (handle == null) {
+      spbstf_ = handle = downcall("spbstf_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spbsv_;
+
+  protected void spbsvK(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = spbsv_;
+    if (handle == null) {
+      spbsv_ = handle = downcall("spbsv_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), ref(nrhs), array(ab, offsetab), ref(ldab), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spbsvx_;
+
+  protected void spbsvxK(String fact, String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = spbsvx_;
+    if (handle == null) {
+      spbsvx_ = handle = downcall("spbsvx_", "VAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), ref(nrhs), array(ab, offsetab), ref(ldab), array(afb, offsetafb), ref(ldafb), MemorySegment.ofArray(__nequed), array(s, offsets), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)uplo.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spbtf2_;
+
+  protected void spbtf2K(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    MethodHandle handle = spbtf2_;
+    if (handle == null) {
+      spbtf2_ = handle = downcall("spbtf2_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spbtrf_;
+
+  protected void spbtrfK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    MethodHandle handle = spbtrf_;
+    if (handle == null) {
+      spbtrf_ = handle = downcall("spbtrf_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spbtrs_;
+
+  protected void spbtrsK(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = spbtrs_;
+    if (handle == null) {
+      spbtrs_ = handle = downcall("spbtrs_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), ref(nrhs), array(ab, offsetab), ref(ldab), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spocon_;
+
+  protected void spoconK(String uplo, int n, float[] a, int offseta, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = spocon_;
+    if (handle == null) {
+      spocon_ = handle = downcall("spocon_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spoequ_;
+
+  protected void spoequK(int n, float[] a, int offseta, int lda, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    MethodHandle handle = spoequ_;
+    if (handle == null) {
+      spoequ_ = handle = downcall("spoequ_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscond = { scond.val };
+    float[] __namax = { amax.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(a, offseta), ref(lda), array(s, offsets), MemorySegment.ofArray(__nscond), MemorySegment.ofArray(__namax), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scond.val = __nscond[0];
+    amax.val = __namax[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sporfs_;
+
+  protected void sporfsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sporfs_;
+    if (handle == null) {
+      sporfs_ = handle = downcall("sporfs_", "VAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(af, offsetaf), ref(ldaf), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sposv_;
+
+  protected void sposvK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = sposv_;
+    if (handle == null) {
+      sposv_ = handle = downcall("sposv_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sposvx_;
+
+  protected void sposvxK(String fact, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sposvx_;
+    if (handle == null) {
+      sposvx_ = handle = downcall("sposvx_", "VAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(af, offsetaf), ref(ldaf), MemorySegment.ofArray(__nequed), array(s, offsets), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)uplo.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spotf2_;
+
+  protected void spotf2K(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = spotf2_;
+    if (handle == null) {
+      spotf2_ = handle = downcall("spotf2_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spotrf_;
+
+  protected void spotrfK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = spotrf_;
+    if (handle == null) {
+      spotrf_ = handle = downcall("spotrf_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spotri_;
+
+  protected void spotriK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = spotri_;
+    if (handle == null) {
+      spotri_ = handle = downcall("spotri_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spotrs_;
+
+  protected void spotrsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = spotrs_;
+    if (handle == null) {
+      spotrs_ = handle = downcall("spotrs_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sppcon_;
+
+  protected void sppconK(String uplo, int n, float[] ap, int offsetap, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sppcon_;
+    if (handle == null) {
+      sppcon_ = handle = downcall("sppcon_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sppequ_;
+
+  protected void sppequK(String uplo, int n, float[] ap, int offsetap, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    MethodHandle handle = sppequ_;
+    if (handle == null) {
+      sppequ_ = handle = downcall("sppequ_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscond = { scond.val };
+    float[] __namax = { amax.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(s, offsets), MemorySegment.ofArray(__nscond), MemorySegment.ofArray(__namax), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scond.val = __nscond[0];
+    amax.val = __namax[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spprfs_;
+
+  protected void spprfsK(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = spprfs_;
+    if (handle == null) {
+      spprfs_ = handle = downcall("spprfs_", "VAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(afp, offsetafp), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sppsv_;
+
+  protected void sppsvK(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = sppsv_;
+    if (handle == null) {
+      sppsv_ = handle = downcall("sppsv_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sppsvx_;
+
+  protected void sppsvxK(String fact, String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sppsvx_;
+    if (handle == null) {
+      sppsvx_ = handle = downcall("sppsvx_", "VAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __nequed = cstring(equed.val);
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(afp, offsetafp), MemorySegment.ofArray(__nequed), array(s, offsets), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)uplo.length(), (long)(__nequed.length - 1));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    equed.val = new String(__nequed, 0, __nequed.length - 1, StandardCharsets.US_ASCII);
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spptrf_;
+
+  protected void spptrfK(String uplo, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
+    MethodHandle handle = spptrf_;
+    if (handle == null) {
+      spptrf_ = handle = downcall("spptrf_", "VAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spptri_;
+
+  protected void spptriK(String uplo, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
+    MethodHandle handle = spptri_;
+    if (handle == null) {
+      spptri_ = handle = downcall("spptri_", "VAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spptrs_;
+
+  protected void spptrsK(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = spptrs_;
+    if (handle == null) {
+      spptrs_ = handle = downcall("spptrs_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sptcon_;
+
+  protected void sptconK(int n, float[] d, int offsetd, float[] e, int offsete, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sptcon_;
+    if (handle == null) {
+      sptcon_ = handle = downcall("sptcon_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spteqr_;
+
+  protected void spteqrK(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = spteqr_;
+    if (handle == null) {
+      spteqr_ = handle = downcall("spteqr_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(compz)), ref(n), array(d, offsetd), array(e, offsete), array(z, offsetz), ref(ldz), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)compz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sptrfs_;
+
+  protected void sptrfsK(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] df, int offsetdf, float[] ef, int offsetef, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sptrfs_;
+    if (handle == null) {
+      sptrfs_ = handle = downcall("sptrfs_", "VAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), array(d, offsetd), array(e, offsete), array(df, offsetdf), array(ef, offsetef), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sptsv_;
+
+  protected void sptsvK(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = sptsv_;
+    if (handle == null) {
+      sptsv_ = handle = downcall("sptsv_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), array(d, offsetd), array(e, offsete), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sptsvx_;
+
+  protected void sptsvxK(String fact, int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] df, int offsetdf, float[] ef, int offsetef, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sptsvx_;
+    if (handle == null) {
+      sptsvx_ = handle = downcall("sptsvx_", "VAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), ref(n), ref(nrhs), array(d, offsetd), array(e, offsete), array(df, offsetdf), array(ef, offsetef), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)fact.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spttrf_;
+
+  protected void spttrfK(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
+    MethodHandle handle = spttrf_;
+    if (handle == null) {
+      spttrf_ = handle = downcall("spttrf_", "VAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle spttrs_;
+
+  protected void spttrsK(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = spttrs_;
+    if (handle == null) {
+      spttrs_ = handle = downcall("spttrs_", "VAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), array(d, offsetd), array(e, offsete), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sptts2_;
+
+  protected void sptts2K(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb) {
+    MethodHandle handle = sptts2_;
+    if (handle == null) {
+      sptts2_ = handle = downcall("sptts2_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), array(d, offsetd), array(e, offsete), array(b, offsetb), ref(ldb));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle srscl_;
+
+  protected void srsclK(int n, float sa, float[] sx, int offsetsx, int incx) {
+    MethodHandle handle = srscl_;
+    if (handle == null) {
+      srscl_ = handle = downcall("srscl_", "VAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      handle.invokeExact(ref(n), ref(sa), array(sx, offsetsx), ref(incx));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+  }
+
+  private static MethodHandle ssbev_;
+
+  protected void ssbevK(String jobz, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssbev_;
+    if (handle == null) {
+      ssbev_ = handle = downcall("ssbev_", "VAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssbevd_;
+
+  protected void ssbevdK(String jobz, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssbevd_;
+    if (handle == null) {
+      ssbevd_ = handle = downcall("ssbevd_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssbevx_;
+
+  protected void ssbevxK(String jobz, String range, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] q, int offsetq, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = ssbevx_;
+    if (handle == null) {
+      ssbevx_ = handle = downcall("ssbevx_", "VAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), array(q, offsetq), ref(ldq), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssbgst_;
+
+  protected void ssbgstK(String vect, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] x, int offsetx, int ldx, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssbgst_;
+    if (handle == null) {
+      ssbgst_ = handle = downcall("ssbgst_", "VAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(vect)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(ka), ref(kb), array(ab, offsetab), ref(ldab), array(bb, offsetbb), ref(ldbb), array(x, offsetx), ref(ldx), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)vect.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssbgv_;
+
+  protected void ssbgvK(String jobz, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssbgv_;
+    if (handle == null) {
+      ssbgv_ = handle = downcall("ssbgv_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(ka), ref(kb), array(ab, offsetab), ref(ldab), array(bb, offsetbb), ref(ldbb), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssbgvd_;
+
+  protected void ssbgvdK(String jobz, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssbgvd_;
+    if (handle == null) {
+      ssbgvd_ = handle = downcall("ssbgvd_", "VAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(ka), ref(kb), array(ab, offsetab), ref(ldab), array(bb, offsetbb), ref(ldbb), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssbgvx_;
+
+  protected void ssbgvxK(String jobz, String range, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] q, int offsetq, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = ssbgvx_;
+    if (handle == null) {
+      ssbgvx_ = handle = downcall("ssbgvx_", "VAAAAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(ka), ref(kb), array(ab, offsetab), ref(ldab), array(bb, offsetbb), ref(ldbb), array(q, offsetq), ref(ldq), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssbtrd_;
+
+  protected void ssbtrdK(String vect, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssbtrd_;
+    if (handle == null) {
+      ssbtrd_ = handle = downcall("ssbtrd_", "VAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(vect)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), array(d, offsetd), array(e, offsete), array(q, offsetq), ref(ldq), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)vect.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sspcon_;
+
+  protected void sspconK(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sspcon_;
+    if (handle == null) {
+      sspcon_ = handle = downcall("sspcon_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(ipiv, offsetipiv), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sspev_;
+
+  protected void sspevK(String jobz, String uplo, int n, float[] ap, int offsetap, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sspev_;
+    if (handle == null) {
+      sspev_ = handle = downcall("sspev_", "VAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sspevd_;
+
+  protected void sspevdK(String jobz, String uplo, int n, float[] ap, int offsetap, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = sspevd_;
+    if (handle == null) {
+      sspevd_ = handle = downcall("sspevd_", "VAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sspevx_;
+
+  protected void sspevxK(String jobz, String range, String uplo, int n, float[] ap, int offsetap, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = sspevx_;
+    if (handle == null) {
+      sspevx_ = handle = downcall("sspevx_", "VAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sspgst_;
+
+  protected void sspgstK(int itype, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, org.netlib.util.intW info) {
+    MethodHandle handle = sspgst_;
+    if (handle == null) {
+      sspgst_ = handle = downcall("sspgst_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(bp, offsetbp), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sspgv_;
+
+  protected void sspgvK(int itype, String jobz, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sspgv_;
+    if (handle == null) {
+      sspgv_ = handle = downcall("sspgv_", "VAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(bp, offsetbp), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sspgvd_;
+
+  protected void sspgvdK(int itype, String jobz, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = sspgvd_;
+    if (handle == null) {
+      sspgvd_ = handle = downcall("sspgvd_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(bp, offsetbp), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sspgvx_;
+
+  protected void sspgvxK(int itype, String jobz, String range, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = sspgvx_;
+    if (handle == null) {
+      sspgvx_ = handle = downcall("sspgvx_", "VAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(bp, offsetbp), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssprfs_;
+
+  protected void ssprfsK(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssprfs_;
+    if (handle == null) {
+      ssprfs_ = handle = downcall("ssprfs_", "VAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(afp, offsetafp), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sspsv_;
+
+  protected void sspsvK(String uplo, int n, int nrhs, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = sspsv_;
+    if (handle == null) {
+      sspsv_ = handle = downcall("sspsv_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sspsvx_;
+
+  protected void sspsvxK(String fact, String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sspsvx_;
+    if (handle == null) {
+      sspsvx_ = handle = downcall("sspsvx_", "VAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(afp, offsetafp), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssptrd_;
+
+  protected void ssptrdK(String uplo, int n, float[] ap, int offsetap, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, org.netlib.util.intW info) {
+    MethodHandle handle = ssptrd_;
+    if (handle == null) {
+      ssptrd_ = handle = downcall("ssptrd_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(d, offsetd), array(e, offsete), array(tau, offsettau), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssptrf_;
+
+  protected void ssptrfK(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    MethodHandle handle = ssptrf_;
+    if (handle == null) {
+      ssptrf_ = handle = downcall("ssptrf_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssptri_;
+
+  protected void ssptriK(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssptri_;
+    if (handle == null) {
+      ssptri_ = handle = downcall("ssptri_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(ap, offsetap), array(ipiv, offsetipiv), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssptrs_;
+
+  protected void ssptrsK(String uplo, int n, int nrhs, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = ssptrs_;
+    if (handle == null) {
+      ssptrs_ = handle = downcall("ssptrs_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(ap, offsetap), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sstebz_;
+
+  protected void sstebzK(String range, String order, int n, float vl, float vu, int il, int iu, float abstol, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW m, org.netlib.util.intW nsplit, float[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = sstebz_;
+    if (handle == null) {
+      sstebz_ = handle = downcall("sstebz_", "VAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __nnsplit = { nsplit.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(order)), ref(n), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), array(d, offsetd), array(e, offsete), MemorySegment.ofArray(__nm), MemorySegment.ofArray(__nnsplit), array(w, offsetw), array(iblock, offsetiblock), array(isplit, offsetisplit), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)range.length(), (long)order.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    nsplit.val = __nnsplit[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sstedc_;
+
+  protected void sstedcK(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = sstedc_;
+    if (handle == null) {
+      sstedc_ = handle = downcall("sstedc_", "VAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(compz)), ref(n), array(d, offsetd), array(e, offsete), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)compz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sstegr_;
+
+  protected void sstegrK(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = sstegr_;
+    if (handle == null) {
+      sstegr_ = handle = downcall("sstegr_", "VAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), ref(n), array(d, offsetd), array(e, offsete), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(isuppz, offsetisuppz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sstein_;
+
+  protected void ssteinK(int n, float[] d, int offsetd, float[] e, int offsete, int m, float[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = sstein_;
+    if (handle == null) {
+      sstein_ = handle = downcall("sstein_", "VAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), ref(m), array(w, offsetw), array(iblock, offsetiblock), array(isplit, offsetisplit), array(z, offsetz), ref(ldz), array(work, offsetwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sstemr_;
+
+  protected void sstemrK(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int nzc, int[] isuppz, int offsetisuppz, org.netlib.util.booleanW tryrac, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = sstemr_;
+    if (handle == null) {
+      sstemr_ = handle = downcall("sstemr_", "VAAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ntryrac = { tryrac.val ? 1 : 0 };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), ref(n), array(d, offsetd), array(e, offsete), ref(vl), ref(vu), ref(il), ref(iu), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), ref(nzc), array(isuppz, offsetisuppz), MemorySegment.ofArray(__ntryrac), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    tryrac.val = __ntryrac[0] != 0;
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssteqr_;
+
+  protected void ssteqrK(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssteqr_;
+    if (handle == null) {
+      ssteqr_ = handle = downcall("ssteqr_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(compz)), ref(n), array(d, offsetd), array(e, offsete), array(z, offsetz), ref(ldz), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)compz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssterf_;
+
+  protected void ssterfK(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
+    MethodHandle handle = ssterf_;
+    if (handle == null) {
+      ssterf_ = handle = downcall("ssterf_", "VAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), array(d, offsetd), array(e, offsete), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sstev_;
+
+  protected void sstevK(String jobz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = sstev_;
+    if (handle == null) {
+      sstev_ = handle = downcall("sstev_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), ref(n), array(d, offsetd), array(e, offsete), array(z, offsetz), ref(ldz), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)jobz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sstevd_;
+
+  protected void sstevdK(String jobz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = sstevd_;
+    if (handle == null) {
+      sstevd_ = handle = downcall("sstevd_", "VAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), ref(n), array(d, offsetd), array(e, offsete), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sstevr_;
+
+  protected void sstevrK(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = sstevr_;
+    if (handle == null) {
+      sstevr_ = handle = downcall("sstevr_", "VAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), ref(n), array(d, offsetd), array(e, offsete), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(isuppz, offsetisuppz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle sstevx_;
+
+  protected void sstevxK(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = sstevx_;
+    if (handle == null) {
+      sstevx_ = handle = downcall("sstevx_", "VAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), ref(n), array(d, offsetd), array(e, offsete), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssycon_;
+
+  protected void ssyconK(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssycon_;
+    if (handle == null) {
+      ssycon_ = handle = downcall("ssycon_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), ref(anorm), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssyev_;
+
+  protected void ssyevK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssyev_;
+    if (handle == null) {
+      ssyev_ = handle = downcall("ssyev_", "VAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(w, offsetw), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssyevd_;
+
+  protected void ssyevdK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssyevd_;
+    if (handle == null) {
+      ssyevd_ = handle = downcall("ssyevd_", "VAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(w, offsetw), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssyevr_;
+
+  protected void ssyevrK(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssyevr_;
+    if (handle == null) {
+      ssyevr_ = handle = downcall("ssyevr_", "VAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(isuppz, offsetisuppz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssyevx_;
+
+  protected void ssyevxK(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = ssyevx_;
+    if (handle == null) {
+      ssyevx_ = handle = downcall("ssyevx_", "VAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssygs2_;
+
+  protected void ssygs2K(int itype, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = ssygs2_;
+    if (handle == null) {
+      ssygs2_ = handle = downcall("ssygs2_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssygst_;
+
+  protected void ssygstK(int itype, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = ssygst_;
+    if (handle == null) {
+      ssygst_ = handle = downcall("ssygst_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssygv_;
+
+  protected void ssygvK(int itype, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssygv_;
+    if (handle == null) {
+      ssygv_ = handle = downcall("ssygv_", "VAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(w, offsetw), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssygvd_;
+
+  protected void ssygvdK(int itype, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssygvd_;
+    if (handle == null) {
+      ssygvd_ = handle = downcall("ssygvd_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(w, offsetw), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssygvx_;
+
+  protected void ssygvxK(int itype, String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    MethodHandle handle = ssygvx_;
+    if (handle == null) {
+      ssygvx_ = handle = downcall("ssygvx_", "VAAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(itype), MemorySegment.ofArray(cstring(jobz)), MemorySegment.ofArray(cstring(range)), MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), ref(vl), ref(vu), ref(il), ref(iu), ref(abstol), MemorySegment.ofArray(__nm), array(w, offsetw), array(z, offsetz), ref(ldz), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), array(ifail, offsetifail), MemorySegment.ofArray(__ninfo), (long)jobz.length(), (long)range.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssyrfs_;
+
+  protected void ssyrfsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssyrfs_;
+    if (handle == null) {
+      ssyrfs_ = handle = downcall("ssyrfs_", "VAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(af, offsetaf), ref(ldaf), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssysv_;
+
+  protected void ssysvK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssysv_;
+    if (handle == null) {
+      ssysv_ = handle = downcall("ssysv_", "VAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssysvx_;
+
+  protected void ssysvxK(String fact, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssysvx_;
+    if (handle == null) {
+      ssysvx_ = handle = downcall("ssysvx_", "VAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(fact)), MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(af, offsetaf), ref(ldaf), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), MemorySegment.ofArray(__nrcond), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)fact.length(), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssytd2_;
+
+  protected void ssytd2K(String uplo, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, org.netlib.util.intW info) {
+    MethodHandle handle = ssytd2_;
+    if (handle == null) {
+      ssytd2_ = handle = downcall("ssytd2_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(d, offsetd), array(e, offsete), array(tau, offsettau), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssytf2_;
+
+  protected void ssytf2K(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    MethodHandle handle = ssytf2_;
+    if (handle == null) {
+      ssytf2_ = handle = downcall("ssytf2_", "VAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssytrd_;
+
+  protected void ssytrdK(String uplo, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssytrd_;
+    if (handle == null) {
+      ssytrd_ = handle = downcall("ssytrd_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(d, offsetd), array(e, offsete), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssytrf_;
+
+  protected void ssytrfK(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssytrf_;
+    if (handle == null) {
+      ssytrf_ = handle = downcall("ssytrf_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssytri_;
+
+  protected void ssytriK(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = ssytri_;
+    if (handle == null) {
+      ssytri_ = handle = downcall("ssytri_", "VAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle ssytrs_;
+
+  protected void ssytrsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = ssytrs_;
+    if (handle == null) {
+      ssytrs_ = handle = downcall("ssytrs_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(ipiv, offsetipiv), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stbcon_;
+
+  protected void stbconK(String norm, String uplo, String diag, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = stbcon_;
+    if (handle == null) {
+      stbcon_ = handle = downcall("stbcon_", "VAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(kd), array(ab, offsetab), ref(ldab), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)norm.length(), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stbrfs_;
+
+  protected void stbrfsK(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = stbrfs_;
+    if (handle == null) {
+      stbrfs_ = handle = downcall("stbrfs_", "VAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(kd), ref(nrhs), array(ab, offsetab), ref(ldab), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stbtrs_;
+
+  protected void stbtrsK(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = stbtrs_;
+    if (handle == null) {
+      stbtrs_ = handle = downcall("stbtrs_", "VAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(kd), ref(nrhs), array(ab, offsetab), ref(ldab), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stgevc_;
+
+  protected void stgevcK(String side, String howmny, boolean[] select, int offsetselect, int n, float[] s, int offsets, int lds, float[] p, int offsetp, int ldp, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = stgevc_;
+    if (handle == null) {
+      stgevc_ = handle = downcall("stgevc_", "VAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(howmny)), array(__nselect, offsetselect), ref(n), array(s, offsets), ref(lds), array(p, offsetp), ref(ldp), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), ref(mm), MemorySegment.ofArray(__nm), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)howmny.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stgex2_;
+
+  protected void stgex2K(boolean wantq, boolean wantz, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, int j1, int n1, int n2, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = stgex2_;
+    if (handle == null) {
+      stgex2_ = handle = downcall("stgex2_", "VAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(wantq), ref(wantz), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(q, offsetq), ref(ldq), array(z, offsetz), ref(ldz), ref(j1), ref(n1), ref(n2), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stgexc_;
+
+  protected void stgexcK(boolean wantq, boolean wantz, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = stgexc_;
+    if (handle == null) {
+      stgexc_ = handle = downcall("stgexc_", "VAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nifst = { ifst.val };
+    int[] __nilst = { ilst.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(wantq), ref(wantz), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(q, offsetq), ref(ldq), array(z, offsetz), ref(ldz), MemorySegment.ofArray(__nifst), MemorySegment.ofArray(__nilst), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ifst.val = __nifst[0];
+    ilst.val = __nilst[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stgsen_;
+
+  protected void stgsenK(int ijob, boolean wantq, boolean wantz, boolean[] select, int offsetselect, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW m, org.netlib.util.floatW pl, org.netlib.util.floatW pr, float[] dif, int offsetdif, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = stgsen_;
+    if (handle == null) {
+      stgsen_ = handle = downcall("stgsen_", "VAAAAAAAAAAAAAAAAAAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nm = { m.val };
+    float[] __npl = { pl.val };
+    float[] __npr = { pr.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(ijob), ref(wantq), ref(wantz), array(__nselect, offsetselect), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(alphar, offsetalphar), array(alphai, offsetalphai), array(beta, offsetbeta), array(q, offsetq), ref(ldq), array(z, offsetz), ref(ldz), MemorySegment.ofArray(__nm), MemorySegment.ofArray(__npl), MemorySegment.ofArray(__npr), array(dif, offsetdif), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    pl.val = __npl[0];
+    pr.val = __npr[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stgsja_;
+
+  protected void stgsjaK(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float tola, float tolb, float[] alpha, int offsetalpha, float[] beta, int offsetbeta, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
+    MethodHandle handle = stgsja_;
+    if (handle == null) {
+      stgsja_ = handle = downcall("stgsja_", "VAAAAAAAAAAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nncycle = { ncycle.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(jobu)), MemorySegment.ofArray(cstring(jobv)), MemorySegment.ofArray(cstring(jobq)), ref(m), ref(p), ref(n), ref(k), ref(l), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), ref(tola), ref(tolb), array(alpha, offsetalpha), array(beta, offsetbeta), array(u, offsetu), ref(ldu), array(v, offsetv), ref(ldv), array(q, offsetq), ref(ldq), array(work, offsetwork), MemorySegment.ofArray(__nncycle), MemorySegment.ofArray(__ninfo), (long)jobu.length(), (long)jobv.length(), (long)jobq.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ncycle.val = __nncycle[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stgsna_;
+
+  protected void stgsnaK(String job, String howmny, boolean[] select, int offsetselect, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] s, int offsets, float[] dif, int offsetdif, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = stgsna_;
+    if (handle == null) {
+      stgsna_ = handle = downcall("stgsna_", "VAAAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), MemorySegment.ofArray(cstring(howmny)), array(__nselect, offsetselect), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), array(s, offsets), array(dif, offsetdif), ref(mm), MemorySegment.ofArray(__nm), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)job.length(), (long)howmny.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stgsy2_;
+
+  protected void stgsy2K(String trans, int ijob, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, float[] d, int offsetd, int ldd, float[] e, int offsete, int lde, float[] f, int offsetf, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] iwork, int offsetiwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
+    MethodHandle handle = stgsy2_;
+    if (handle == null) {
+      stgsy2_ = handle = downcall("stgsy2_", "VAAAAAAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscale = { scale.val };
+    float[] __nrdsum = { rdsum.val };
+    float[] __nrdscal = { rdscal.val };
+    int[] __npq = { pq.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(ijob), ref(m), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(c, offsetc), ref(Ldc), array(d, offsetd), ref(ldd), array(e, offsete), ref(lde), array(f, offsetf), ref(ldf), MemorySegment.ofArray(__nscale), MemorySegment.ofArray(__nrdsum), MemorySegment.ofArray(__nrdscal), array(iwork, offsetiwork), MemorySegment.ofArray(__npq), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    rdsum.val = __nrdsum[0];
+    rdscal.val = __nrdscal[0];
+    pq.val = __npq[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stgsyl_;
+
+  protected void stgsylK(String trans, int ijob, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, float[] d, int offsetd, int ldd, float[] e, int offsete, int lde, float[] f, int offsetf, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW dif, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = stgsyl_;
+    if (handle == null) {
+      stgsyl_ = handle = downcall("stgsyl_", "VAAAAAAAAAAAAAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscale = { scale.val };
+    float[] __ndif = { dif.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(ijob), ref(m), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(c, offsetc), ref(Ldc), array(d, offsetd), ref(ldd), array(e, offsete), ref(lde), array(f, offsetf), ref(ldf), MemorySegment.ofArray(__nscale), MemorySegment.ofArray(__ndif), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    dif.val = __ndif[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stpcon_;
+
+  protected void stpconK(String norm, String uplo, String diag, int n, float[] ap, int offsetap, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = stpcon_;
+    if (handle == null) {
+      stpcon_ = handle = downcall("stpcon_", "VAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), array(ap, offsetap), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)norm.length(), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stprfs_;
+
+  protected void stprfsK(String uplo, String trans, String diag, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = stprfs_;
+    if (handle == null) {
+      stprfs_ = handle = downcall("stprfs_", "VAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(nrhs), array(ap, offsetap), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stptri_;
+
+  protected void stptriK(String uplo, String diag, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
+    MethodHandle handle = stptri_;
+    if (handle == null) {
+      stptri_ = handle = downcall("stptri_", "VAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), array(ap, offsetap), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stptrs_;
+
+  protected void stptrsK(String uplo, String trans, String diag, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = stptrs_;
+    if (handle == null) {
+      stptrs_ = handle = downcall("stptrs_", "VAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(nrhs), array(ap, offsetap), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle strcon_;
+
+  protected void strconK(String norm, String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = strcon_;
+    if (handle == null) {
+      strcon_ = handle = downcall("strcon_", "VAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nrcond = { rcond.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(norm)), MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__nrcond), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)norm.length(), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    rcond.val = __nrcond[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle strevc_;
+
+  protected void strevcK(String side, String howmny, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = strevc_;
+    if (handle == null) {
+      strevc_ = handle = downcall("strevc_", "VAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(side)), MemorySegment.ofArray(cstring(howmny)), array(__nselect, offsetselect), ref(n), array(t, offsett), ref(ldt), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), ref(mm), MemorySegment.ofArray(__nm), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)side.length(), (long)howmny.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle strexc_;
+
+  protected void strexcK(String compq, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, int offsetwork, org.netlib.util.intW info) {
+    MethodHandle handle = strexc_;
+    if (handle == null) {
+      strexc_ = handle = downcall("strexc_", "VAAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nifst = { ifst.val };
+    int[] __nilst = { ilst.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(compq)), ref(n), array(t, offsett), ref(ldt), array(q, offsetq), ref(ldq), MemorySegment.ofArray(__nifst), MemorySegment.ofArray(__nilst), array(work, offsetwork), MemorySegment.ofArray(__ninfo), (long)compq.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    ifst.val = __nifst[0];
+    ilst.val = __nilst[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle strrfs_;
+
+  protected void strrfsK(String uplo, String trans, String diag, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = strrfs_;
+    if (handle == null) {
+      strrfs_ = handle = downcall("strrfs_", "VAAAAAAAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(x, offsetx), ref(ldx), array(ferr, offsetferr), array(berr, offsetberr), array(work, offsetwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle strsen_;
+
+  protected void strsenK(String job, String compq, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, float[] wr, int offsetwr, float[] wi, int offsetwi, org.netlib.util.intW m, org.netlib.util.floatW s, org.netlib.util.floatW sep, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    MethodHandle handle = strsen_;
+    if (handle == null) {
+      strsen_ = handle = downcall("strsen_", "VAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nm = { m.val };
+    float[] __ns = { s.val };
+    float[] __nsep = { sep.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), MemorySegment.ofArray(cstring(compq)), array(__nselect, offsetselect), ref(n), array(t, offsett), ref(ldt), array(q, offsetq), ref(ldq), array(wr, offsetwr), array(wi, offsetwi), MemorySegment.ofArray(__nm), MemorySegment.ofArray(__ns), MemorySegment.ofArray(__nsep), array(work, offsetwork), ref(lwork), array(iwork, offsetiwork), ref(liwork), MemorySegment.ofArray(__ninfo), (long)job.length(), (long)compq.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    s.val = __ns[0];
+    sep.val = __nsep[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle strsna_;
+
+  protected void strsnaK(String job, String howmny, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] s, int offsets, float[] sep, int offsetsep, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int ldwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    MethodHandle handle = strsna_;
+    if (handle == null) {
+      strsna_ = handle = downcall("strsna_", "VAAAAAAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nselect = booleans(select);
+    int[] __nm = { m.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(job)), MemorySegment.ofArray(cstring(howmny)), array(__nselect, offsetselect), ref(n), array(t, offsett), ref(ldt), array(vl, offsetvl), ref(ldvl), array(vr, offsetvr), ref(ldvr), array(s, offsets), array(sep, offsetsep), ref(mm), MemorySegment.ofArray(__nm), array(work, offsetwork), ref(ldwork), array(iwork, offsetiwork), MemorySegment.ofArray(__ninfo), (long)job.length(), (long)howmny.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    m.val = __nm[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle strsyl_;
+
+  protected void strsylK(String trana, String tranb, int isgn, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, org.netlib.util.floatW scale, org.netlib.util.intW info) {
+    MethodHandle handle = strsyl_;
+    if (handle == null) {
+      strsyl_ = handle = downcall("strsyl_", "VAAAAAAAAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __nscale = { scale.val };
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trana)), MemorySegment.ofArray(cstring(tranb)), ref(isgn), ref(m), ref(n), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), array(c, offsetc), ref(Ldc), MemorySegment.ofArray(__nscale), MemorySegment.ofArray(__ninfo), (long)trana.length(), (long)tranb.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    scale.val = __nscale[0];
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle strti2_;
+
+  protected void strti2K(String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = strti2_;
+    if (handle == null) {
+      strti2_ = handle = downcall("strti2_", "VAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle strtri_;
+
+  protected void strtriK(String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    MethodHandle handle = strtri_;
+    if (handle == null) {
+      strtri_ = handle = downcall("strtri_", "VAAAAAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(diag)), ref(n), array(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle strtrs_;
+
+  protected void strtrsK(String uplo, String trans, String diag, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    MethodHandle handle = strtrs_;
+    if (handle == null) {
+      strtrs_ = handle = downcall("strtrs_", "VAAAAAAAAAAJJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), MemorySegment.ofArray(cstring(trans)), MemorySegment.ofArray(cstring(diag)), ref(n), ref(nrhs), array(a, offseta), ref(lda), array(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length(), (long)trans.length(), (long)diag.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stzrqf_;
+
+  protected void stzrqfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, org.netlib.util.intW info) {
+    MethodHandle handle = stzrqf_;
+    if (handle == null) {
+      stzrqf_ = handle = downcall("stzrqf_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle stzrzf_;
+
+  protected void stzrzfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    MethodHandle handle = stzrzf_;
+    if (handle == null) {
+      stzrzf_ = handle = downcall("stzrzf_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), array(a, offseta), ref(lda), array(tau, offsettau), array(work, offsetwork), ref(lwork), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  private static MethodHandle dlamch_;
+
+  protected double dlamchK(String cmach) {
+    MethodHandle handle = dlamch_;
+    if (handle == null) {
+      dlamch_ = handle = downcall("dlamch_", "DAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(MemorySegment.ofArray(cstring(cmach)), (long)cmach.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  protected void dlamc1K(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.booleanW ieee1) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void dlamc2K(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.doubleW eps, org.netlib.util.intW emin, org.netlib.util.doubleW rmin, org.netlib.util.intW emax, org.netlib.util.doubleW rmax) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static MethodHandle dlamc3_;
+
+  protected double dlamc3K(double a, double b) {
+    MethodHandle handle = dlamc3_;
+    if (handle == null) {
+      dlamc3_ = handle = downcall("dlamc3_", "DAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact(ref(a), ref(b));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  protected void dlamc4K(org.netlib.util.intW emin, double start, int base) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void dlamc5K(int beta, int p, int emin, boolean ieee, org.netlib.util.intW emax, org.netlib.util.doubleW rmax) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static MethodHandle dsecnd_;
+
+  protected double dsecndK() {
+    MethodHandle handle = dsecnd_;
+    if (handle == null) {
+      dsecnd_ = handle = downcall("dsecnd_", "D");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double __ret;
+    try {
+      __ret = (double)handle.invokeExact();
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle lsame_;
+
+  protected boolean lsameK(String ca, String cb) {
+    MethodHandle handle = lsame_;
+    if (handle == null) {
+      lsame_ = handle = downcall("lsame_", "IAAJJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int __ret;
+    try {
+      __ret = (int)handle.invokeExact(MemorySegment.ofArray(cstring(ca)), MemorySegment.ofArray(cstring(cb)), (long)ca.length(), (long)cb.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret != 0;
+  }
+
+  private static MethodHandle second_;
+
+  protected float secondK() {
+    MethodHandle handle = second_;
+    if (handle == null) {
+      second_ = handle = downcall("second_", "F");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact();
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  private static MethodHandle slamch_;
+
+  protected float slamchK(String cmach) {
+    MethodHandle handle = slamch_;
+    if (handle == null) {
+      slamch_ = handle = downcall("slamch_", "FAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(MemorySegment.ofArray(cstring(cmach)), (long)cmach.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  protected void slamc1K(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.booleanW ieee1) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void slamc2K(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.floatW eps, org.netlib.util.intW emin, org.netlib.util.floatW rmin, org.netlib.util.intW emax, org.netlib.util.floatW rmax) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static MethodHandle slamc3_;
+
+  protected float slamc3K(float a, float b) {
+    MethodHandle handle = slamc3_;
+    if (handle == null) {
+      slamc3_ = handle = downcall("slamc3_", "FAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float __ret;
+    try {
+      __ret = (float)handle.invokeExact(ref(a), ref(b));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    return __ret;
+  }
+
+  protected void slamc4K(org.netlib.util.intW emin, float start, int base) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void slamc5K(int beta, int p, int emin, boolean ieee, org.netlib.util.intW emax, org.netlib.util.floatW rmax) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void dgesvK(int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (a.order() != ByteOrder.nativeOrder() || ipiv.order() != ByteOrder.nativeOrder() || b.order() != ByteOrder.nativeOrder()) {
+      super.dgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+      return;
+    }
+    MethodHandle handle = dgesv_;
+    if (handle == null) {
+      dgesv_ = handle = downcall("dgesv_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), buffer(a, offseta), ref(lda), buffer(ipiv, offsetipiv), buffer(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  protected void dgetrfK(int m, int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (a.order() != ByteOrder.nativeOrder() || ipiv.order() != ByteOrder.nativeOrder()) {
+      super.dgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+      return;
+    }
+    MethodHandle handle = dgetrf_;
+    if (handle == null) {
+      dgetrf_ = handle = downcall("dgetrf_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), buffer(a, offseta), ref(lda), buffer(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  protected void dgetrsK(String trans, int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (a.order() != ByteOrder.nativeOrder() || ipiv.order() != ByteOrder.nativeOrder() || b.order() != ByteOrder.nativeOrder()) {
+      super.dgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+      return;
+    }
+    MethodHandle handle = dgetrs_;
+    if (handle == null) {
+      dgetrs_ = handle = downcall("dgetrs_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), buffer(a, offseta), ref(lda), buffer(ipiv, offsetipiv), buffer(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  protected void dposvK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (a.order() != ByteOrder.nativeOrder() || b.order() != ByteOrder.nativeOrder()) {
+      super.dposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+      return;
+    }
+    MethodHandle handle = dposv_;
+    if (handle == null) {
+      dposv_ = handle = downcall("dposv_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), buffer(a, offseta), ref(lda), buffer(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  protected void dpotrfK(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (a.order() != ByteOrder.nativeOrder()) {
+      super.dpotrfK(uplo, n, a, offseta, lda, info);
+      return;
+    }
+    MethodHandle handle = dpotrf_;
+    if (handle == null) {
+      dpotrf_ = handle = downcall("dpotrf_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), buffer(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  protected void dpotrsK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (a.order() != ByteOrder.nativeOrder() || b.order() != ByteOrder.nativeOrder()) {
+      super.dpotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+      return;
+    }
+    MethodHandle handle = dpotrs_;
+    if (handle == null) {
+      dpotrs_ = handle = downcall("dpotrs_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), buffer(a, offseta), ref(lda), buffer(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  protected void sgesvK(int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (a.order() != ByteOrder.nativeOrder() || ipiv.order() != ByteOrder.nativeOrder() || b.order() != ByteOrder.nativeOrder()) {
+      super.sgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+      return;
+    }
+    MethodHandle handle = sgesv_;
+    if (handle == null) {
+      sgesv_ = handle = downcall("sgesv_", "VAAAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(n), ref(nrhs), buffer(a, offseta), ref(lda), buffer(ipiv, offsetipiv), buffer(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  protected void sgetrfK(int m, int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (a.order() != ByteOrder.nativeOrder() || ipiv.order() != ByteOrder.nativeOrder()) {
+      super.sgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+      return;
+    }
+    MethodHandle handle = sgetrf_;
+    if (handle == null) {
+      sgetrf_ = handle = downcall("sgetrf_", "VAAAAAA");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(ref(m), ref(n), buffer(a, offseta), ref(lda), buffer(ipiv, offsetipiv), MemorySegment.ofArray(__ninfo));
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  protected void sgetrsK(String trans, int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (a.order() != ByteOrder.nativeOrder() || ipiv.order() != ByteOrder.nativeOrder() || b.order() != ByteOrder.nativeOrder()) {
+      super.sgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+      return;
+    }
+    MethodHandle handle = sgetrs_;
+    if (handle == null) {
+      sgetrs_ = handle = downcall("sgetrs_", "VAAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(trans)), ref(n), ref(nrhs), buffer(a, offseta), ref(lda), buffer(ipiv, offsetipiv), buffer(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)trans.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  protected void sposvK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (a.order() != ByteOrder.nativeOrder() || b.order() != ByteOrder.nativeOrder()) {
+      super.sposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+      return;
+    }
+    MethodHandle handle = sposv_;
+    if (handle == null) {
+      sposv_ = handle = downcall("sposv_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), buffer(a, offseta), ref(lda), buffer(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  protected void spotrfK(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (a.order() != ByteOrder.nativeOrder()) {
+      super.spotrfK(uplo, n, a, offseta, lda, info);
+      return;
+    }
+    MethodHandle handle = spotrf_;
+    if (handle == null) {
+      spotrf_ = handle = downcall("spotrf_", "VAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), buffer(a, offseta), ref(lda), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+  protected void spotrsK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (a.order() != ByteOrder.nativeOrder() || b.order() != ByteOrder.nativeOrder()) {
+      super.spotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+      return;
+    }
+    MethodHandle handle = spotrs_;
+    if (handle == null) {
+      spotrs_ = handle = downcall("spotrs_", "VAAAAAAAAJ");
+    }
+    if (handle == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ninfo = { info.val };
+    try {
+      handle.invokeExact(MemorySegment.ofArray(cstring(uplo)), ref(n), ref(nrhs), buffer(a, offseta), ref(lda), buffer(b, offsetb), ref(ldb), MemorySegment.ofArray(__ninfo), (long)uplo.length());
+    } catch (Throwable __t) {
+      throw rethrow(__t);
+    }
+    info.val = __ninfo[0];
+  }
+
+}
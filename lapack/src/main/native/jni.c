@@ -36,6 +36,7 @@
 #  define RTLD_LOCAL  0
 #else
 #  include <dlfcn.h>
+#  include <pthread.h>
 #endif
 
 #include "dev_ludovic_netlib_lapack_JNILAPACK.h"
@@ -51,6 +52,145 @@ static jfieldID floatW_val_fieldID;
 static jfieldID doubleW_val_fieldID;
 static jfieldID StringW_val_fieldID;
 
+// Calls estimated to be long copy their arrays into a per-thread arena rather than pinning them, see COPY_FLOPS in
+// generator.py, and the Alloc entry points allocate their workspace in another one. The arenas are kept between
+// calls to save on malloc, unless they grew too large.
+static double copy_threshold = 1e7;
+
+#define NETLIB_MIN(a, b) ((a) < (b) ? (a) : (b))
+#define NETLIB_MAX(a, b) ((a) > (b) ? (a) : (b))
+#define NETLIB_LSAME(s, c) (((s)[0] | 0x20) == ((c) | 0x20))
+#define ARENA_ALIGN(size) (((size) + 63) & ~(size_t)63)
+#define ARENA_RETAINED_MAX ((size_t)64 << 20)
+#define ARENA_COPY 0
+#define ARENA_WORK 1
+
+#ifdef _WIN32
+static char *arena_acquire(UNUSED int slot, size_t size) {
+  return malloc(NETLIB_MAX(size, 64));
+}
+
+static void arena_release(UNUSED int slot, char *arena) {
+  free(arena);
+}
+#else
+typedef struct { char *base[2]; size_t size[2]; } arena_t;
+
+static pthread_key_t arena_key;
+
+static void arena_destroy(void *p) {
+  arena_t *arena = p;
+  free(arena->base[ARENA_COPY]);
+  free(arena->base[ARENA_WORK]);
+  free(arena);
+}
+
+static char *arena_acquire(int slot, size_t size) {
+  arena_t *arena = pthread_getspecific(arena_key);
+  if (!arena) {
+    if (!(arena = calloc(1, sizeof(arena_t)))) return NULL;
+    if (pthread_setspecific(arena_key, arena)) { free(arena); return NULL; }
+  }
+  if (arena->size[slot] < size || !arena->base[slot]) {
+    free(arena->base[slot]);
+    size = NETLIB_MAX(size, 64);
+    arena->size[slot] = (arena->base[slot] = malloc(size)) ? size : 0;
+  }
+  return arena->base[slot];
+}
+
+static void arena_release(int slot, UNUSED char *base) {
+  arena_t *arena = pthread_getspecific(arena_key);
+  if (arena && arena->size[slot] > ARENA_RETAINED_MAX) {
+    free(arena->base[slot]);
+    arena->base[slot] = NULL;
+    arena->size[slot] = 0;
+  }
+}
+#endif
+
+// The part of an array that a rows by cols matrix with leading dimension ld starting at offset spans, cut at the end of
+// the array; a vector is a single column. Only the columns are copied to the arena and back, to their place in the span,
+// so that the elements between them and the rest of the array are left to other threads.
+typedef struct { jsize rows, ld, span; } region_t;
+
+static UNUSED region_t region(JNIEnv *env, jarray array, jint offset, jlong rows, jlong cols, jlong ld) {
+  region_t r = { 0, 0, 0 };
+  jlong available = (jlong)(*env)->GetArrayLength(env, array) - offset;
+  if (rows <= 0 || cols <= 0 || available <= 0) return r;
+  ld = NETLIB_MAX(ld, rows);
+  r.rows = (jsize)NETLIB_MIN(rows, available);
+  r.ld = (jsize)NETLIB_MIN(ld, available);
+  r.span = (jsize)NETLIB_MIN((cols - 1) * ld + rows, available);
+  return r;
+}
+
+static UNUSED void region_get_double(JNIEnv *env, jdoubleArray array, jint offset, region_t r, double *arena) {
+  if (r.ld == r.rows) {
+    (*env)->GetDoubleArrayRegion(env, array, offset, r.span, arena);
+    return;
+  }
+  for (jsize start = 0; start < r.span; start += NETLIB_MIN(r.ld, r.span - start)) {
+    (*env)->GetDoubleArrayRegion(env, array, offset + start, NETLIB_MIN(r.rows, r.span - start), arena + start);
+  }
+}
+
+static UNUSED void region_set_double(JNIEnv *env, jdoubleArray array, jint offset, region_t r, const double *arena) {
+  if (r.ld == r.rows) {
+    (*env)->SetDoubleArrayRegion(env, array, offset, r.span, arena);
+    return;
+  }
+  for (jsize start = 0; start < r.span; start += NETLIB_MIN(r.ld, r.span - start)) {
+    (*env)->SetDoubleArrayRegion(env, array, offset + start, NETLIB_MIN(r.rows, r.span - start), arena + start);
+  }
+}
+
+static UNUSED void region_get_float(JNIEnv *env, jfloatArray array, jint offset, region_t r, float *arena) {
+  if (r.ld == r.rows) {
+    (*env)->GetFloatArrayRegion(env, array, offset, r.span, arena);
+    return;
+  }
+  for (jsize start = 0; start < r.span; start += NETLIB_MIN(r.ld, r.span - start)) {
+    (*env)->GetFloatArrayRegion(env, array, offset + start, NETLIB_MIN(r.rows, r.span - start), arena + start);
+  }
+}
+
+static UNUSED void region_set_float(JNIEnv *env, jfloatArray array, jint offset, region_t r, const float *arena) {
+  if (r.ld == r.rows) {
+    (*env)->SetFloatArrayRegion(env, array, offset, r.span, arena);
+    return;
+  }
+  for (jsize start = 0; start < r.span; start += NETLIB_MIN(r.ld, r.span - start)) {
+    (*env)->SetFloatArrayRegion(env, array, offset + start, NETLIB_MIN(r.rows, r.span - start), arena + start);
+  }
+}
+
+static UNUSED void region_get_int(JNIEnv *env, jintArray array, jint offset, region_t r, int *arena) {
+  if (r.ld == r.rows) {
+    (*env)->GetIntArrayRegion(env, array, offset, r.span, arena);
+    return;
+  }
+  for (jsize start = 0; start < r.span; start += NETLIB_MIN(r.ld, r.span - start)) {
+    (*env)->GetIntArrayRegion(env, array, offset + start, NETLIB_MIN(r.rows, r.span - start), arena + start);
+  }
+}
+
+static UNUSED void region_set_int(JNIEnv *env, jintArray array, jint offset, region_t r, const int *arena) {
+  if (r.ld == r.rows) {
+    (*env)->SetIntArrayRegion(env, array, offset, r.span, arena);
+    return;
+  }
+  for (jsize start = 0; start < r.span; start += NETLIB_MIN(r.ld, r.span - start)) {
+    (*env)->SetIntArrayRegion(env, array, offset + start, NETLIB_MIN(r.rows, r.span - start), arena + start);
+  }
+}
+
+// LAPACK returns the optimal workspace length as a floating-point number, which may have been rounded down
+static UNUSED int workspace_length(double query) {
+  int length = (int)query;
+  return NETLIB_MAX(length + (length < query), 1);
+}
+
 static void (*dbdsdc_)(const char *uplo, const char *compq, int *n, double *d, double *e, double *u, int *ldu, double *vt, int *ldvt, double *q, int *iq, double *work, int *iwork, int *info, int len_uplo, int len_compq);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dbdsdcK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring compq, jint n, jdoubleArray d, jint offsetd, jdoubleArray e, jint offsete, jdoubleArray u, jint offsetu, jint ldu, jdoubleArray vt, jint offsetvt, jint ldvt, jdoubleArray q, jint offsetq, jintArray iq, jint offsetiq, jdoubleArray work, jint offsetwork, jintArray iwork, jint offsetiwork, jobject info) {
@@ -693,25 +833,56 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgebrdK(JNIEnv *env, UNUSED jobjec
   double *__ntauq = NULL;
   double *__ntaup = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rd = { 0, 0, 0 }, __re = { 0, 0, 0 }, __rtauq = { 0, 0, 0 }, __rtaup = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
   __nm = m;
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (d) { if (!(__nd = (*env)->GetPrimitiveArrayCritical(env, d, NULL))) { __failed = TRUE; goto done; } }
-  if (e) { if (!(__ne = (*env)->GetPrimitiveArrayCritical(env, e, NULL))) { __failed = TRUE; goto done; } }
-  if (tauq) { if (!(__ntauq = (*env)->GetPrimitiveArrayCritical(env, tauq, NULL))) { __failed = TRUE; goto done; } }
-  if (taup) { if (!(__ntaup = (*env)->GetPrimitiveArrayCritical(env, taup, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dgebrd_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __nd ? __nd + offsetd : NULL, __ne ? __ne + offsete : NULL, __ntauq ? __ntauq + offsettauq : NULL, __ntaup ? __ntaup + offsettaup : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ntaup) (*env)->ReleasePrimitiveArrayCritical(env, taup, __ntaup, __failed ? JNI_ABORT : 0);
-  if (__ntauq) (*env)->ReleasePrimitiveArrayCritical(env, tauq, __ntauq, __failed ? JNI_ABORT : 0);
-  if (__ne) (*env)->ReleasePrimitiveArrayCritical(env, e, __ne, __failed ? JNI_ABORT : 0);
-  if (__nd) (*env)->ReleasePrimitiveArrayCritical(env, d, __nd, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (d) { __rd = region(env, d, offsetd, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(double) * __rd.span); }
+    if (e) { __re = region(env, e, offsete, (NETLIB_MIN(m, n) - 1), (1), (NETLIB_MIN(m, n) - 1)); __size += ARENA_ALIGN(sizeof(double) * __re.span); }
+    if (tauq) { __rtauq = region(env, tauq, offsettauq, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(double) * __rtauq.span); }
+    if (taup) { __rtaup = region(env, taup, offsettaup, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(double) * __rtaup.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (d) { __nd = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rd.span); region_get_double(env, d, offsetd, __rd, __nd); }
+    if (e) { __ne = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __re.span); region_get_double(env, e, offsete, __re, __ne); }
+    if (tauq) { __ntauq = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rtauq.span); region_get_double(env, tauq, offsettauq, __rtauq, __ntauq); }
+    if (taup) { __ntaup = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rtaup.span); region_get_double(env, taup, offsettaup, __rtaup, __ntaup); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (d) { if (!(__nd = (*env)->GetPrimitiveArrayCritical(env, d, NULL))) { __failed = TRUE; goto done; } }
+    if (e) { if (!(__ne = (*env)->GetPrimitiveArrayCritical(env, e, NULL))) { __failed = TRUE; goto done; } }
+    if (tauq) { if (!(__ntauq = (*env)->GetPrimitiveArrayCritical(env, tauq, NULL))) { __failed = TRUE; goto done; } }
+    if (taup) { if (!(__ntaup = (*env)->GetPrimitiveArrayCritical(env, taup, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgebrd_(&__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nd ? __nd + (__copy ? 0 : offsetd) : NULL, __ne ? __ne + (__copy ? 0 : offsete) : NULL, __ntauq ? __ntauq + (__copy ? 0 : offsettauq) : NULL, __ntaup ? __ntaup + (__copy ? 0 : offsettaup) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo);
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nd && !__failed) region_set_double(env, d, offsetd, __rd, __nd);
+    if (__ne && !__failed) region_set_double(env, e, offsete, __re, __ne);
+    if (__ntauq && !__failed) region_set_double(env, tauq, offsettauq, __rtauq, __ntauq);
+    if (__ntaup && !__failed) region_set_double(env, taup, offsettaup, __rtaup, __ntaup);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ntaup) (*env)->ReleasePrimitiveArrayCritical(env, taup, __ntaup, __failed ? JNI_ABORT : 0);
+    if (__ntauq) (*env)->ReleasePrimitiveArrayCritical(env, tauq, __ntauq, __failed ? JNI_ABORT : 0);
+    if (__ne) (*env)->ReleasePrimitiveArrayCritical(env, e, __ne, __failed ? JNI_ABORT : 0);
+    if (__nd) (*env)->ReleasePrimitiveArrayCritical(env, d, __nd, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -818,6 +989,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgeevK(JNIEnv *env, UNUSED jobject
   double *__nvl = NULL;
   double *__nvr = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rwr = { 0, 0, 0 }, __rwi = { 0, 0, 0 }, __rvl = { 0, 0, 0 }, __rvr = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   if (!(__njobvl = (*env)->GetStringUTFChars(env, jobvl, NULL))) { __failed = TRUE; goto done; }
   if (!(__njobvr = (*env)->GetStringUTFChars(env, jobvr, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
@@ -826,20 +1000,48 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgeevK(JNIEnv *env, UNUSED jobject
   __nldvr = ldvr;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (wr) { if (!(__nwr = (*env)->GetPrimitiveArrayCritical(env, wr, NULL))) { __failed = TRUE; goto done; } }
-  if (wi) { if (!(__nwi = (*env)->GetPrimitiveArrayCritical(env, wi, NULL))) { __failed = TRUE; goto done; } }
-  if (vl) { if (!(__nvl = (*env)->GetPrimitiveArrayCritical(env, vl, NULL))) { __failed = TRUE; goto done; } }
-  if (vr) { if (!(__nvr = (*env)->GetPrimitiveArrayCritical(env, vr, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dgeev_(__njobvl, __njobvr, &__nn, __na ? __na + offseta : NULL, &__nlda, __nwr ? __nwr + offsetwr : NULL, __nwi ? __nwi + offsetwi : NULL, __nvl ? __nvl + offsetvl : NULL, &__nldvl, __nvr ? __nvr + offsetvr : NULL, &__nldvr, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobvl), (*env)->GetStringUTFLength(env, jobvr));
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nvr) (*env)->ReleasePrimitiveArrayCritical(env, vr, __nvr, __failed ? JNI_ABORT : 0);
-  if (__nvl) (*env)->ReleasePrimitiveArrayCritical(env, vl, __nvl, __failed ? JNI_ABORT : 0);
-  if (__nwi) (*env)->ReleasePrimitiveArrayCritical(env, wi, __nwi, __failed ? JNI_ABORT : 0);
-  if (__nwr) (*env)->ReleasePrimitiveArrayCritical(env, wr, __nwr, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (wr) { __rwr = region(env, wr, offsetwr, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(double) * __rwr.span); }
+    if (wi) { __rwi = region(env, wi, offsetwi, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(double) * __rwi.span); }
+    if (vl) { __rvl = region(env, vl, offsetvl, (NETLIB_LSAME(__njobvl, 'V') ? n : 0), (n), (ldvl)); __size += ARENA_ALIGN(sizeof(double) * __rvl.span); }
+    if (vr) { __rvr = region(env, vr, offsetvr, (NETLIB_LSAME(__njobvr, 'V') ? n : 0), (n), (ldvr)); __size += ARENA_ALIGN(sizeof(double) * __rvr.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (wr) { __nwr = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwr.span); region_get_double(env, wr, offsetwr, __rwr, __nwr); }
+    if (wi) { __nwi = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwi.span); region_get_double(env, wi, offsetwi, __rwi, __nwi); }
+    if (vl) { __nvl = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rvl.span); region_get_double(env, vl, offsetvl, __rvl, __nvl); }
+    if (vr) { __nvr = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rvr.span); region_get_double(env, vr, offsetvr, __rvr, __nvr); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (wr) { if (!(__nwr = (*env)->GetPrimitiveArrayCritical(env, wr, NULL))) { __failed = TRUE; goto done; } }
+    if (wi) { if (!(__nwi = (*env)->GetPrimitiveArrayCritical(env, wi, NULL))) { __failed = TRUE; goto done; } }
+    if (vl) { if (!(__nvl = (*env)->GetPrimitiveArrayCritical(env, vl, NULL))) { __failed = TRUE; goto done; } }
+    if (vr) { if (!(__nvr = (*env)->GetPrimitiveArrayCritical(env, vr, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgeev_(__njobvl, __njobvr, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nwr ? __nwr + (__copy ? 0 : offsetwr) : NULL, __nwi ? __nwi + (__copy ? 0 : offsetwi) : NULL, __nvl ? __nvl + (__copy ? 0 : offsetvl) : NULL, &__nldvl, __nvr ? __nvr + (__copy ? 0 : offsetvr) : NULL, &__nldvr, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobvl), (*env)->GetStringUTFLength(env, jobvr));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nwr && !__failed) region_set_double(env, wr, offsetwr, __rwr, __nwr);
+    if (__nwi && !__failed) region_set_double(env, wi, offsetwi, __rwi, __nwi);
+    if (__nvl && !__failed) region_set_double(env, vl, offsetvl, __rvl, __nvl);
+    if (__nvr && !__failed) region_set_double(env, vr, offsetvr, __rvr, __nvr);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nvr) (*env)->ReleasePrimitiveArrayCritical(env, vr, __nvr, __failed ? JNI_ABORT : 0);
+    if (__nvl) (*env)->ReleasePrimitiveArrayCritical(env, vl, __nvl, __failed ? JNI_ABORT : 0);
+    if (__nwi) (*env)->ReleasePrimitiveArrayCritical(env, wi, __nwi, __failed ? JNI_ABORT : 0);
+    if (__nwr) (*env)->ReleasePrimitiveArrayCritical(env, wr, __nwr, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__njobvr) (*env)->ReleaseStringUTFChars(env, jobvr, __njobvr);
   if (__njobvl) (*env)->ReleaseStringUTFChars(env, jobvl, __njobvl);
@@ -1074,20 +1276,42 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgehrdK(JNIEnv *env, UNUSED jobjec
   double *__na = NULL;
   double *__ntau = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rtau = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   __nn = n;
   __nilo = ilo;
   __nihi = ihi;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dgehrd_(&__nn, &__nilo, &__nihi, __na ? __na + offseta : NULL, &__nlda, __ntau ? __ntau + offsettau : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (tau) { __rtau = region(env, tau, offsettau, (n - 1), (1), (n - 1)); __size += ARENA_ALIGN(sizeof(double) * __rtau.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (tau) { __ntau = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rtau.span); region_get_double(env, tau, offsettau, __rtau, __ntau); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgehrd_(&__nn, &__nilo, &__nihi, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ntau ? __ntau + (__copy ? 0 : offsettau) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo);
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__ntau && !__failed) region_set_double(env, tau, offsettau, __rtau, __ntau);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -1133,19 +1357,41 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgelqfK(JNIEnv *env, UNUSED jobjec
   double *__na = NULL;
   double *__ntau = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rtau = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
   __nm = m;
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dgelqf_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ntau ? __ntau + offsettau : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (tau) { __rtau = region(env, tau, offsettau, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(double) * __rtau.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (tau) { __ntau = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rtau.span); region_get_double(env, tau, offsettau, __rtau, __ntau); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgelqf_(&__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ntau ? __ntau + (__copy ? 0 : offsettau) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo);
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__ntau && !__failed) region_set_double(env, tau, offsettau, __rtau, __ntau);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -1166,6 +1412,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgelsK(JNIEnv *env, UNUSED jobject
   double *__na = NULL;
   double *__nb = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * (NETLIB_MIN(m, n) + nrhs)) >= copy_threshold;
   if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
   __nm = m;
   __nn = n;
@@ -1174,14 +1423,33 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgelsK(JNIEnv *env, UNUSED jobject
   __nldb = ldb;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dgels_(__ntrans, &__nm, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, trans));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (NETLIB_MAX(m, n)), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgels_(__ntrans, &__nm, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, trans));
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_double(env, b, offsetb, __rb, __nb);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -1206,6 +1474,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgelsdK(JNIEnv *env, UNUSED jobjec
   double *__ns = NULL;
   double *__nwork = NULL;
   int *__niwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rs = { 0, 0, 0 }, __rwork = { 0, 0, 0 }, __riwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * (NETLIB_MIN(m, n) + nrhs)) >= copy_threshold;
   __nm = m;
   __nn = n;
   __nnrhs = nrhs;
@@ -1215,18 +1486,43 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgelsdK(JNIEnv *env, UNUSED jobjec
   __nrank = (*env)->GetIntField(env, rank, intW_val_fieldID);
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
-  dgelsd_(&__nm, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, __ns ? __ns + offsets : NULL, &__nrcond, &__nrank, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, &__ninfo);
-done:
-  if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (NETLIB_MAX(m, n)), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (s) { __rs = region(env, s, offsets, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(double) * __rs.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (iwork) { __riwork = region(env, iwork, offsetiwork, ((*env)->GetArrayLength(env, iwork)), (1), ((*env)->GetArrayLength(env, iwork))); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+    if (s) { __ns = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rs.span); region_get_double(env, s, offsets, __rs, __ns); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+    if (iwork) { __niwork = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); region_get_int(env, iwork, offsetiwork, __riwork, __niwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+    if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgelsd_(&__nm, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __ns ? __ns + (__copy ? 0 : offsets) : NULL, &__nrcond, &__nrank, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, __niwork ? __niwork + (__copy ? 0 : offsetiwork) : NULL, &__ninfo);
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_double(env, b, offsetb, __rb, __nb);
+    if (__ns && !__failed) region_set_double(env, s, offsets, __rs, __ns);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__niwork && !__failed) region_set_int(env, iwork, offsetiwork, __riwork, __niwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, rank, intW_val_fieldID, __nrank);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -1250,6 +1546,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgelssK(JNIEnv *env, UNUSED jobjec
   double *__nb = NULL;
   double *__ns = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rs = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * (NETLIB_MIN(m, n) + nrhs)) >= copy_threshold;
   __nm = m;
   __nn = n;
   __nnrhs = nrhs;
@@ -1259,16 +1558,38 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgelssK(JNIEnv *env, UNUSED jobjec
   __nrank = (*env)->GetIntField(env, rank, intW_val_fieldID);
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dgelss_(&__nm, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, __ns ? __ns + offsets : NULL, &__nrcond, &__nrank, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (NETLIB_MAX(m, n)), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (s) { __rs = region(env, s, offsets, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(double) * __rs.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+    if (s) { __ns = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rs.span); region_get_double(env, s, offsets, __rs, __ns); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgelss_(&__nm, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __ns ? __ns + (__copy ? 0 : offsets) : NULL, &__nrcond, &__nrank, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo);
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_double(env, b, offsetb, __rb, __nb);
+    if (__ns && !__failed) region_set_double(env, s, offsets, __rs, __ns);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, rank, intW_val_fieldID, __nrank);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -1428,21 +1749,46 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgeqp3K(JNIEnv *env, UNUSED jobjec
   int *__njpvt = NULL;
   double *__ntau = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rjpvt = { 0, 0, 0 }, __rtau = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
   __nm = m;
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (jpvt) { if (!(__njpvt = (*env)->GetPrimitiveArrayCritical(env, jpvt, NULL))) { __failed = TRUE; goto done; } }
-  if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dgeqp3_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __njpvt ? __njpvt + offsetjpvt : NULL, __ntau ? __ntau + offsettau : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
-  if (__njpvt) (*env)->ReleasePrimitiveArrayCritical(env, jpvt, __njpvt, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (jpvt) { __rjpvt = region(env, jpvt, offsetjpvt, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(int) * __rjpvt.span); }
+    if (tau) { __rtau = region(env, tau, offsettau, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(double) * __rtau.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (jpvt) { __njpvt = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __rjpvt.span); region_get_int(env, jpvt, offsetjpvt, __rjpvt, __njpvt); }
+    if (tau) { __ntau = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rtau.span); region_get_double(env, tau, offsettau, __rtau, __ntau); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (jpvt) { if (!(__njpvt = (*env)->GetPrimitiveArrayCritical(env, jpvt, NULL))) { __failed = TRUE; goto done; } }
+    if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgeqp3_(&__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __njpvt ? __njpvt + (__copy ? 0 : offsetjpvt) : NULL, __ntau ? __ntau + (__copy ? 0 : offsettau) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo);
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__njpvt && !__failed) region_set_int(env, jpvt, offsetjpvt, __rjpvt, __njpvt);
+    if (__ntau && !__failed) region_set_double(env, tau, offsettau, __rtau, __ntau);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
+    if (__njpvt) (*env)->ReleasePrimitiveArrayCritical(env, jpvt, __njpvt, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -1519,19 +1865,41 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgeqrfK(JNIEnv *env, UNUSED jobjec
   double *__na = NULL;
   double *__ntau = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rtau = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
   __nm = m;
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dgeqrf_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ntau ? __ntau + offsettau : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (tau) { __rtau = region(env, tau, offsettau, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(double) * __rtau.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (tau) { __ntau = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rtau.span); region_get_double(env, tau, offsettau, __rtau, __ntau); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgeqrf_(&__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ntau ? __ntau + (__copy ? 0 : offsettau) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo);
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__ntau && !__failed) region_set_double(env, tau, offsettau, __rtau, __ntau);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -1697,6 +2065,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgesddK(JNIEnv *env, UNUSED jobjec
   double *__nvt = NULL;
   double *__nwork = NULL;
   int *__niwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rs = { 0, 0, 0 }, __ru = { 0, 0, 0 }, __rvt = { 0, 0, 0 }, __rwork = { 0, 0, 0 }, __riwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
   if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
   __nm = m;
   __nn = n;
@@ -1705,20 +2076,48 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgesddK(JNIEnv *env, UNUSED jobjec
   __nldvt = ldvt;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
-  if (u) { if (!(__nu = (*env)->GetPrimitiveArrayCritical(env, u, NULL))) { __failed = TRUE; goto done; } }
-  if (vt) { if (!(__nvt = (*env)->GetPrimitiveArrayCritical(env, vt, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
-  dgesdd_(__njobz, &__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ns ? __ns + offsets : NULL, __nu ? __nu + offsetu : NULL, &__nldu, __nvt ? __nvt + offsetvt : NULL, &__nldvt, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, &__ninfo, (*env)->GetStringUTFLength(env, jobz));
-done:
-  if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nvt) (*env)->ReleasePrimitiveArrayCritical(env, vt, __nvt, __failed ? JNI_ABORT : 0);
-  if (__nu) (*env)->ReleasePrimitiveArrayCritical(env, u, __nu, __failed ? JNI_ABORT : 0);
-  if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (s) { __rs = region(env, s, offsets, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(double) * __rs.span); }
+    if (u) { __ru = region(env, u, offsetu, (NETLIB_LSAME(__njobz, 'N') || (NETLIB_LSAME(__njobz, 'O') && m >= n) ? 0 : m), (NETLIB_LSAME(__njobz, 'S') ? NETLIB_MIN(m, n) : m), (ldu)); __size += ARENA_ALIGN(sizeof(double) * __ru.span); }
+    if (vt) { __rvt = region(env, vt, offsetvt, (NETLIB_LSAME(__njobz, 'N') || (NETLIB_LSAME(__njobz, 'O') && m < n) ? 0 : NETLIB_LSAME(__njobz, 'S') ? NETLIB_MIN(m, n) : n), (n), (ldvt)); __size += ARENA_ALIGN(sizeof(double) * __rvt.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (iwork) { __riwork = region(env, iwork, offsetiwork, (8 * NETLIB_MIN(m, n)), (1), (8 * NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (s) { __ns = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rs.span); region_get_double(env, s, offsets, __rs, __ns); }
+    if (u) { __nu = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ru.span); region_get_double(env, u, offsetu, __ru, __nu); }
+    if (vt) { __nvt = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rvt.span); region_get_double(env, vt, offsetvt, __rvt, __nvt); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+    if (iwork) { __niwork = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); region_get_int(env, iwork, offsetiwork, __riwork, __niwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
+    if (u) { if (!(__nu = (*env)->GetPrimitiveArrayCritical(env, u, NULL))) { __failed = TRUE; goto done; } }
+    if (vt) { if (!(__nvt = (*env)->GetPrimitiveArrayCritical(env, vt, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+    if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgesdd_(__njobz, &__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ns ? __ns + (__copy ? 0 : offsets) : NULL, __nu ? __nu + (__copy ? 0 : offsetu) : NULL, &__nldu, __nvt ? __nvt + (__copy ? 0 : offsetvt) : NULL, &__nldvt, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, __niwork ? __niwork + (__copy ? 0 : offsetiwork) : NULL, &__ninfo, (*env)->GetStringUTFLength(env, jobz));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__ns && !__failed) region_set_double(env, s, offsets, __rs, __ns);
+    if (__nu && !__failed) region_set_double(env, u, offsetu, __ru, __nu);
+    if (__nvt && !__failed) region_set_double(env, vt, offsetvt, __rvt, __nvt);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__niwork && !__failed) region_set_int(env, iwork, offsetiwork, __riwork, __niwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nvt) (*env)->ReleasePrimitiveArrayCritical(env, vt, __nvt, __failed ? JNI_ABORT : 0);
+    if (__nu) (*env)->ReleasePrimitiveArrayCritical(env, u, __nu, __failed ? JNI_ABORT : 0);
+    if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -1737,19 +2136,41 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgesvK(JNIEnv *env, UNUSED jobject
   double *__na = NULL;
   int *__nipiv = NULL;
   double *__nb = NULL;
+  region_t __ra = { 0, 0, 0 }, __ripiv = { 0, 0, 0 }, __rb = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * (n + nrhs)) >= copy_threshold;
   __nn = n;
   __nnrhs = nrhs;
   __nlda = lda;
   __nldb = ldb;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  dgesv_(&__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (ipiv) { __ripiv = region(env, ipiv, offsetipiv, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); }
+    if (b) { __rb = region(env, b, offsetb, (n), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (ipiv) { __nipiv = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); region_get_int(env, ipiv, offsetipiv, __ripiv, __nipiv); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgesv_(&__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nipiv ? __nipiv + (__copy ? 0 : offsetipiv) : NULL, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, &__ninfo);
 done:
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nipiv && !__failed) region_set_int(env, ipiv, offsetipiv, __ripiv, __nipiv);
+    if (__nb && !__failed) region_set_double(env, b, offsetb, __rb, __nb);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -1773,6 +2194,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgesvdK(JNIEnv *env, UNUSED jobjec
   double *__nu = NULL;
   double *__nvt = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rs = { 0, 0, 0 }, __ru = { 0, 0, 0 }, __rvt = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
   if (!(__njobu = (*env)->GetStringUTFChars(env, jobu, NULL))) { __failed = TRUE; goto done; }
   if (!(__njobvt = (*env)->GetStringUTFChars(env, jobvt, NULL))) { __failed = TRUE; goto done; }
   __nm = m;
@@ -1782,18 +2206,43 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgesvdK(JNIEnv *env, UNUSED jobjec
   __nldvt = ldvt;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
-  if (u) { if (!(__nu = (*env)->GetPrimitiveArrayCritical(env, u, NULL))) { __failed = TRUE; goto done; } }
-  if (vt) { if (!(__nvt = (*env)->GetPrimitiveArrayCritical(env, vt, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dgesvd_(__njobu, __njobvt, &__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ns ? __ns + offsets : NULL, __nu ? __nu + offsetu : NULL, &__nldu, __nvt ? __nvt + offsetvt : NULL, &__nldvt, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobu), (*env)->GetStringUTFLength(env, jobvt));
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nvt) (*env)->ReleasePrimitiveArrayCritical(env, vt, __nvt, __failed ? JNI_ABORT : 0);
-  if (__nu) (*env)->ReleasePrimitiveArrayCritical(env, u, __nu, __failed ? JNI_ABORT : 0);
-  if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (s) { __rs = region(env, s, offsets, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(double) * __rs.span); }
+    if (u) { __ru = region(env, u, offsetu, (NETLIB_LSAME(__njobu, 'A') || NETLIB_LSAME(__njobu, 'S') ? m : 0), (NETLIB_LSAME(__njobu, 'A') ? m : NETLIB_MIN(m, n)), (ldu)); __size += ARENA_ALIGN(sizeof(double) * __ru.span); }
+    if (vt) { __rvt = region(env, vt, offsetvt, (NETLIB_LSAME(__njobvt, 'A') ? n : NETLIB_LSAME(__njobvt, 'S') ? NETLIB_MIN(m, n) : 0), (n), (ldvt)); __size += ARENA_ALIGN(sizeof(double) * __rvt.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (s) { __ns = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rs.span); region_get_double(env, s, offsets, __rs, __ns); }
+    if (u) { __nu = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ru.span); region_get_double(env, u, offsetu, __ru, __nu); }
+    if (vt) { __nvt = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rvt.span); region_get_double(env, vt, offsetvt, __rvt, __nvt); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
+    if (u) { if (!(__nu = (*env)->GetPrimitiveArrayCritical(env, u, NULL))) { __failed = TRUE; goto done; } }
+    if (vt) { if (!(__nvt = (*env)->GetPrimitiveArrayCritical(env, vt, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgesvd_(__njobu, __njobvt, &__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ns ? __ns + (__copy ? 0 : offsets) : NULL, __nu ? __nu + (__copy ? 0 : offsetu) : NULL, &__nldu, __nvt ? __nvt + (__copy ? 0 : offsetvt) : NULL, &__nldvt, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobu), (*env)->GetStringUTFLength(env, jobvt));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__ns && !__failed) region_set_double(env, s, offsets, __rs, __ns);
+    if (__nu && !__failed) region_set_double(env, u, offsetu, __ru, __nu);
+    if (__nvt && !__failed) region_set_double(env, vt, offsetvt, __rvt, __nvt);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nvt) (*env)->ReleasePrimitiveArrayCritical(env, vt, __nvt, __failed ? JNI_ABORT : 0);
+    if (__nu) (*env)->ReleasePrimitiveArrayCritical(env, u, __nu, __failed ? JNI_ABORT : 0);
+    if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__njobvt) (*env)->ReleaseStringUTFChars(env, jobvt, __njobvt);
   if (__njobu) (*env)->ReleaseStringUTFChars(env, jobu, __njobu);
@@ -1932,16 +2381,35 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgetrfK(JNIEnv *env, UNUSED jobjec
   int __ninfo = 0;
   double *__na = NULL;
   int *__nipiv = NULL;
+  region_t __ra = { 0, 0, 0 }, __ripiv = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
   __nm = m;
   __nn = n;
   __nlda = lda;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
-  dgetrf_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, &__ninfo);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (ipiv) { __ripiv = region(env, ipiv, offsetipiv, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (ipiv) { __nipiv = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); region_get_int(env, ipiv, offsetipiv, __ripiv, __nipiv); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgetrf_(&__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nipiv ? __nipiv + (__copy ? 0 : offsetipiv) : NULL, &__ninfo);
 done:
-  if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nipiv && !__failed) region_set_int(env, ipiv, offsetipiv, __ripiv, __nipiv);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -1958,18 +2426,40 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgetriK(JNIEnv *env, UNUSED jobjec
   double *__na = NULL;
   int *__nipiv = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __ripiv = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dgetri_(&__nn, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (ipiv) { __ripiv = region(env, ipiv, offsetipiv, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (ipiv) { __nipiv = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); region_get_int(env, ipiv, offsetipiv, __ripiv, __nipiv); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgetri_(&__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nipiv ? __nipiv + (__copy ? 0 : offsetipiv) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo);
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nipiv && !__failed) region_set_int(env, ipiv, offsetipiv, __ripiv, __nipiv);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -1988,20 +2478,42 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgetrsK(JNIEnv *env, UNUSED jobjec
   double *__na = NULL;
   int *__nipiv = NULL;
   double *__nb = NULL;
+  region_t __ra = { 0, 0, 0 }, __ripiv = { 0, 0, 0 }, __rb = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * nrhs) >= copy_threshold;
   if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nnrhs = nrhs;
   __nlda = lda;
   __nldb = ldb;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  dgetrs_(__ntrans, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, trans));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (ipiv) { __ripiv = region(env, ipiv, offsetipiv, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); }
+    if (b) { __rb = region(env, b, offsetb, (n), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (ipiv) { __nipiv = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); region_get_int(env, ipiv, offsetipiv, __ripiv, __nipiv); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dgetrs_(__ntrans, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nipiv ? __nipiv + (__copy ? 0 : offsetipiv) : NULL, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, trans));
 done:
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nipiv && !__failed) region_set_int(env, ipiv, offsetipiv, __ripiv, __nipiv);
+    if (__nb && !__failed) region_set_double(env, b, offsetb, __rb, __nb);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -9680,18 +10192,37 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dposvK(JNIEnv *env, UNUSED jobject
   int __ninfo = 0;
   double *__na = NULL;
   double *__nb = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * (n + nrhs)) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nnrhs = nrhs;
   __nlda = lda;
   __nldb = ldb;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  dposv_(__nuplo, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (n), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dposv_(__nuplo, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
 done:
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_double(env, b, offsetb, __rb, __nb);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -9794,14 +10325,30 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dpotrfK(JNIEnv *env, UNUSED jobjec
   int __nlda __attribute__((aligned(8)));
   int __ninfo = 0;
   double *__na = NULL;
+  region_t __ra = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * n) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nlda = lda;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  dpotrf_(__nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dpotrf_(__nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
 done:
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -9817,14 +10364,30 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dpotriK(JNIEnv *env, UNUSED jobjec
   int __nlda __attribute__((aligned(8)));
   int __ninfo = 0;
   double *__na = NULL;
+  region_t __ra = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * n) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nlda = lda;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  dpotri_(__nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dpotri_(__nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
 done:
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -9843,18 +10406,37 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dpotrsK(JNIEnv *env, UNUSED jobjec
   int __ninfo = 0;
   double *__na = NULL;
   double *__nb = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * nrhs) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nnrhs = nrhs;
   __nlda = lda;
   __nldb = ldb;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  dpotrs_(__nuplo, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (n), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dpotrs_(__nuplo, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
 done:
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_double(env, b, offsetb, __rb, __nb);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -12020,20 +12602,42 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsyevK(JNIEnv *env, UNUSED jobject
   double *__na = NULL;
   double *__nw = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rw = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dsyev_(__njobz, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nw ? __nw + offsetw : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(double) * __rw.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (w) { __nw = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rw.span); region_get_double(env, w, offsetw, __rw, __nw); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dsyev_(__njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nw && !__failed) region_set_double(env, w, offsetw, __rw, __nw);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
@@ -12056,6 +12660,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsyevdK(JNIEnv *env, UNUSED jobjec
   double *__nw = NULL;
   double *__nwork = NULL;
   int *__niwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rw = { 0, 0, 0 }, __rwork = { 0, 0, 0 }, __riwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
@@ -12063,16 +12670,38 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsyevdK(JNIEnv *env, UNUSED jobjec
   __nlwork = lwork;
   __nliwork = liwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
-  dsyevd_(__njobz, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nw ? __nw + offsetw : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
-done:
-  if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(double) * __rw.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (iwork) { __riwork = region(env, iwork, offsetiwork, (NETLIB_MAX(liwork, 1)), (1), (NETLIB_MAX(liwork, 1))); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (w) { __nw = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rw.span); region_get_double(env, w, offsetw, __rw, __nw); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+    if (iwork) { __niwork = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); region_get_int(env, iwork, offsetiwork, __riwork, __niwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+    if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dsyevd_(__njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, __niwork ? __niwork + (__copy ? 0 : offsetiwork) : NULL, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nw && !__failed) region_set_double(env, w, offsetw, __rw, __nw);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__niwork && !__failed) region_set_int(env, iwork, offsetiwork, __riwork, __niwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
@@ -12105,6 +12734,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsyevrK(JNIEnv *env, UNUSED jobjec
   int *__nisuppz = NULL;
   double *__nwork = NULL;
   int *__niwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rw = { 0, 0, 0 }, __rz = { 0, 0, 0 }, __risuppz = { 0, 0, 0 }, __rwork = { 0, 0, 0 }, __riwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
   if (!(__nrange = (*env)->GetStringUTFChars(env, range, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
@@ -12120,20 +12752,48 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsyevrK(JNIEnv *env, UNUSED jobjec
   __nlwork = lwork;
   __nliwork = liwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
-  if (z) { if (!(__nz = (*env)->GetPrimitiveArrayCritical(env, z, NULL))) { __failed = TRUE; goto done; } }
-  if (isuppz) { if (!(__nisuppz = (*env)->GetPrimitiveArrayCritical(env, isuppz, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
-  dsyevr_(__njobz, __nrange, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, &__nvl, &__nvu, &__nil, &__niu, &__nabstol, &__nm, __nw ? __nw + offsetw : NULL, __nz ? __nz + offsetz : NULL, &__nldz, __nisuppz ? __nisuppz + offsetisuppz : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, range), (*env)->GetStringUTFLength(env, uplo));
-done:
-  if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nisuppz) (*env)->ReleasePrimitiveArrayCritical(env, isuppz, __nisuppz, __failed ? JNI_ABORT : 0);
-  if (__nz) (*env)->ReleasePrimitiveArrayCritical(env, z, __nz, __failed ? JNI_ABORT : 0);
-  if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(double) * __rw.span); }
+    if (z) { __rz = region(env, z, offsetz, (NETLIB_LSAME(__njobz, 'V') ? n : 0), (NETLIB_LSAME(__nrange, 'I') ? iu - il + 1 : n), (ldz)); __size += ARENA_ALIGN(sizeof(double) * __rz.span); }
+    if (isuppz) { __risuppz = region(env, isuppz, offsetisuppz, (2 * (NETLIB_LSAME(__nrange, 'I') ? iu - il + 1 : n)), (1), (2 * (NETLIB_LSAME(__nrange, 'I') ? iu - il + 1 : n))); __size += ARENA_ALIGN(sizeof(int) * __risuppz.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (iwork) { __riwork = region(env, iwork, offsetiwork, (NETLIB_MAX(liwork, 1)), (1), (NETLIB_MAX(liwork, 1))); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (w) { __nw = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rw.span); region_get_double(env, w, offsetw, __rw, __nw); }
+    if (z) { __nz = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rz.span); region_get_double(env, z, offsetz, __rz, __nz); }
+    if (isuppz) { __nisuppz = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __risuppz.span); region_get_int(env, isuppz, offsetisuppz, __risuppz, __nisuppz); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+    if (iwork) { __niwork = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); region_get_int(env, iwork, offsetiwork, __riwork, __niwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+    if (z) { if (!(__nz = (*env)->GetPrimitiveArrayCritical(env, z, NULL))) { __failed = TRUE; goto done; } }
+    if (isuppz) { if (!(__nisuppz = (*env)->GetPrimitiveArrayCritical(env, isuppz, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+    if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dsyevr_(__njobz, __nrange, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, &__nvl, &__nvu, &__nil, &__niu, &__nabstol, &__nm, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nz ? __nz + (__copy ? 0 : offsetz) : NULL, &__nldz, __nisuppz ? __nisuppz + (__copy ? 0 : offsetisuppz) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, __niwork ? __niwork + (__copy ? 0 : offsetiwork) : NULL, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, range), (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nw && !__failed) region_set_double(env, w, offsetw, __rw, __nw);
+    if (__nz && !__failed) region_set_double(env, z, offsetz, __rz, __nz);
+    if (__nisuppz && !__failed) region_set_int(env, isuppz, offsetisuppz, __risuppz, __nisuppz);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__niwork && !__failed) region_set_int(env, iwork, offsetiwork, __riwork, __niwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nisuppz) (*env)->ReleasePrimitiveArrayCritical(env, isuppz, __nisuppz, __failed ? JNI_ABORT : 0);
+    if (__nz) (*env)->ReleasePrimitiveArrayCritical(env, z, __nz, __failed ? JNI_ABORT : 0);
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, m, intW_val_fieldID, __nm);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
@@ -12167,6 +12827,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsyevxK(JNIEnv *env, UNUSED jobjec
   double *__nwork = NULL;
   int *__niwork = NULL;
   int *__nifail = NULL;
+  region_t __ra = { 0, 0, 0 }, __rw = { 0, 0, 0 }, __rz = { 0, 0, 0 }, __rwork = { 0, 0, 0 }, __riwork = { 0, 0, 0 }, __rifail = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
   if (!(__nrange = (*env)->GetStringUTFChars(env, range, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
@@ -12181,20 +12844,48 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsyevxK(JNIEnv *env, UNUSED jobjec
   __nldz = ldz;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
-  if (z) { if (!(__nz = (*env)->GetPrimitiveArrayCritical(env, z, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
-  if (ifail) { if (!(__nifail = (*env)->GetPrimitiveArrayCritical(env, ifail, NULL))) { __failed = TRUE; goto done; } }
-  dsyevx_(__njobz, __nrange, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, &__nvl, &__nvu, &__nil, &__niu, &__nabstol, &__nm, __nw ? __nw + offsetw : NULL, __nz ? __nz + offsetz : NULL, &__nldz, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, __nifail ? __nifail + offsetifail : NULL, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, range), (*env)->GetStringUTFLength(env, uplo));
-done:
-  if (__nifail) (*env)->ReleasePrimitiveArrayCritical(env, ifail, __nifail, __failed ? JNI_ABORT : 0);
-  if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nz) (*env)->ReleasePrimitiveArrayCritical(env, z, __nz, __failed ? JNI_ABORT : 0);
-  if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(double) * __rw.span); }
+    if (z) { __rz = region(env, z, offsetz, (NETLIB_LSAME(__njobz, 'V') ? n : 0), (NETLIB_LSAME(__nrange, 'I') ? iu - il + 1 : n), (ldz)); __size += ARENA_ALIGN(sizeof(double) * __rz.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (iwork) { __riwork = region(env, iwork, offsetiwork, (5 * n), (1), (5 * n)); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); }
+    if (ifail) { __rifail = region(env, ifail, offsetifail, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(int) * __rifail.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (w) { __nw = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rw.span); region_get_double(env, w, offsetw, __rw, __nw); }
+    if (z) { __nz = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rz.span); region_get_double(env, z, offsetz, __rz, __nz); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+    if (iwork) { __niwork = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); region_get_int(env, iwork, offsetiwork, __riwork, __niwork); }
+    if (ifail) { __nifail = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __rifail.span); region_get_int(env, ifail, offsetifail, __rifail, __nifail); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+    if (z) { if (!(__nz = (*env)->GetPrimitiveArrayCritical(env, z, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+    if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
+    if (ifail) { if (!(__nifail = (*env)->GetPrimitiveArrayCritical(env, ifail, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dsyevx_(__njobz, __nrange, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, &__nvl, &__nvu, &__nil, &__niu, &__nabstol, &__nm, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nz ? __nz + (__copy ? 0 : offsetz) : NULL, &__nldz, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, __niwork ? __niwork + (__copy ? 0 : offsetiwork) : NULL, __nifail ? __nifail + (__copy ? 0 : offsetifail) : NULL, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, range), (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nw && !__failed) region_set_double(env, w, offsetw, __rw, __nw);
+    if (__nz && !__failed) region_set_double(env, z, offsetz, __rz, __nz);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__niwork && !__failed) region_set_int(env, iwork, offsetiwork, __riwork, __niwork);
+    if (__nifail && !__failed) region_set_int(env, ifail, offsetifail, __rifail, __nifail);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nifail) (*env)->ReleasePrimitiveArrayCritical(env, ifail, __nifail, __failed ? JNI_ABORT : 0);
+    if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nz) (*env)->ReleasePrimitiveArrayCritical(env, z, __nz, __failed ? JNI_ABORT : 0);
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, m, intW_val_fieldID, __nm);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
@@ -12280,6 +12971,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsygvK(JNIEnv *env, UNUSED jobject
   double *__nb = NULL;
   double *__nw = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rw = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   __nitype = itype;
   if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
@@ -12288,16 +12982,38 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsygvK(JNIEnv *env, UNUSED jobject
   __nldb = ldb;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dsygv_(&__nitype, __njobz, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, __nw ? __nw + offsetw : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (n), (n), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(double) * __rw.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+    if (w) { __nw = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rw.span); region_get_double(env, w, offsetw, __rw, __nw); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dsygv_(&__nitype, __njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_double(env, b, offsetb, __rb, __nb);
+    if (__nw && !__failed) region_set_double(env, w, offsetw, __rw, __nw);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
@@ -12323,6 +13039,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsygvdK(JNIEnv *env, UNUSED jobjec
   double *__nw = NULL;
   double *__nwork = NULL;
   int *__niwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rw = { 0, 0, 0 }, __rwork = { 0, 0, 0 }, __riwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   __nitype = itype;
   if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
@@ -12332,18 +13051,43 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsygvdK(JNIEnv *env, UNUSED jobjec
   __nlwork = lwork;
   __nliwork = liwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
-  dsygvd_(&__nitype, __njobz, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, __nw ? __nw + offsetw : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
-done:
-  if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (n), (n), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(double) * __rw.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (iwork) { __riwork = region(env, iwork, offsetiwork, (NETLIB_MAX(liwork, 1)), (1), (NETLIB_MAX(liwork, 1))); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+    if (w) { __nw = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rw.span); region_get_double(env, w, offsetw, __rw, __nw); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+    if (iwork) { __niwork = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); region_get_int(env, iwork, offsetiwork, __riwork, __niwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+    if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dsygvd_(&__nitype, __njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, __niwork ? __niwork + (__copy ? 0 : offsetiwork) : NULL, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_double(env, b, offsetb, __rb, __nb);
+    if (__nw && !__failed) region_set_double(env, w, offsetw, __rw, __nw);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__niwork && !__failed) region_set_int(env, iwork, offsetiwork, __riwork, __niwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
@@ -12489,6 +13233,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsysvK(JNIEnv *env, UNUSED jobject
   int *__nipiv = NULL;
   double *__nb = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __ripiv = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * (n + nrhs)) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nnrhs = nrhs;
@@ -12496,16 +13243,38 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsysvK(JNIEnv *env, UNUSED jobject
   __nldb = ldb;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dsysv_(__nuplo, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, &__nldb, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (ipiv) { __ripiv = region(env, ipiv, offsetipiv, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); }
+    if (b) { __rb = region(env, b, offsetb, (n), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (ipiv) { __nipiv = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); region_get_int(env, ipiv, offsetipiv, __ripiv, __nipiv); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dsysv_(__nuplo, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nipiv ? __nipiv + (__copy ? 0 : offsetipiv) : NULL, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nipiv && !__failed) region_set_int(env, ipiv, offsetipiv, __ripiv, __nipiv);
+    if (__nb && !__failed) region_set_double(env, b, offsetb, __rb, __nb);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -12647,23 +13416,51 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsytrdK(JNIEnv *env, UNUSED jobjec
   double *__ne = NULL;
   double *__ntau = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rd = { 0, 0, 0 }, __re = { 0, 0, 0 }, __rtau = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (d) { if (!(__nd = (*env)->GetPrimitiveArrayCritical(env, d, NULL))) { __failed = TRUE; goto done; } }
-  if (e) { if (!(__ne = (*env)->GetPrimitiveArrayCritical(env, e, NULL))) { __failed = TRUE; goto done; } }
-  if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dsytrd_(__nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nd ? __nd + offsetd : NULL, __ne ? __ne + offsete : NULL, __ntau ? __ntau + offsettau : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
-  if (__ne) (*env)->ReleasePrimitiveArrayCritical(env, e, __ne, __failed ? JNI_ABORT : 0);
-  if (__nd) (*env)->ReleasePrimitiveArrayCritical(env, d, __nd, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (d) { __rd = region(env, d, offsetd, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(double) * __rd.span); }
+    if (e) { __re = region(env, e, offsete, (n - 1), (1), (n - 1)); __size += ARENA_ALIGN(sizeof(double) * __re.span); }
+    if (tau) { __rtau = region(env, tau, offsettau, (n - 1), (1), (n - 1)); __size += ARENA_ALIGN(sizeof(double) * __rtau.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (d) { __nd = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rd.span); region_get_double(env, d, offsetd, __rd, __nd); }
+    if (e) { __ne = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __re.span); region_get_double(env, e, offsete, __re, __ne); }
+    if (tau) { __ntau = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rtau.span); region_get_double(env, tau, offsettau, __rtau, __ntau); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (d) { if (!(__nd = (*env)->GetPrimitiveArrayCritical(env, d, NULL))) { __failed = TRUE; goto done; } }
+    if (e) { if (!(__ne = (*env)->GetPrimitiveArrayCritical(env, e, NULL))) { __failed = TRUE; goto done; } }
+    if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dsytrd_(__nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nd ? __nd + (__copy ? 0 : offsetd) : NULL, __ne ? __ne + (__copy ? 0 : offsete) : NULL, __ntau ? __ntau + (__copy ? 0 : offsettau) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nd && !__failed) region_set_double(env, d, offsetd, __rd, __nd);
+    if (__ne && !__failed) region_set_double(env, e, offsete, __re, __ne);
+    if (__ntau && !__failed) region_set_double(env, tau, offsettau, __rtau, __ntau);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
+    if (__ne) (*env)->ReleasePrimitiveArrayCritical(env, e, __ne, __failed ? JNI_ABORT : 0);
+    if (__nd) (*env)->ReleasePrimitiveArrayCritical(env, d, __nd, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -12682,19 +13479,41 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsytrfK(JNIEnv *env, UNUSED jobjec
   double *__na = NULL;
   int *__nipiv = NULL;
   double *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __ripiv = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  dsytrf_(__nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (ipiv) { __ripiv = region(env, ipiv, offsetipiv, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (ipiv) { __nipiv = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); region_get_int(env, ipiv, offsetipiv, __ripiv, __nipiv); }
+    if (work) { __nwork = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwork.span); region_get_double(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  dsytrf_(__nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nipiv ? __nipiv + (__copy ? 0 : offsetipiv) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nipiv && !__failed) region_set_int(env, ipiv, offsetipiv, __ripiv, __nipiv);
+    if (__nwork && !__failed) region_set_double(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -14805,25 +15624,56 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgebrdK(JNIEnv *env, UNUSED jobjec
   float *__ntauq = NULL;
   float *__ntaup = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rd = { 0, 0, 0 }, __re = { 0, 0, 0 }, __rtauq = { 0, 0, 0 }, __rtaup = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
   __nm = m;
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (d) { if (!(__nd = (*env)->GetPrimitiveArrayCritical(env, d, NULL))) { __failed = TRUE; goto done; } }
-  if (e) { if (!(__ne = (*env)->GetPrimitiveArrayCritical(env, e, NULL))) { __failed = TRUE; goto done; } }
-  if (tauq) { if (!(__ntauq = (*env)->GetPrimitiveArrayCritical(env, tauq, NULL))) { __failed = TRUE; goto done; } }
-  if (taup) { if (!(__ntaup = (*env)->GetPrimitiveArrayCritical(env, taup, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  sgebrd_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __nd ? __nd + offsetd : NULL, __ne ? __ne + offsete : NULL, __ntauq ? __ntauq + offsettauq : NULL, __ntaup ? __ntaup + offsettaup : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ntaup) (*env)->ReleasePrimitiveArrayCritical(env, taup, __ntaup, __failed ? JNI_ABORT : 0);
-  if (__ntauq) (*env)->ReleasePrimitiveArrayCritical(env, tauq, __ntauq, __failed ? JNI_ABORT : 0);
-  if (__ne) (*env)->ReleasePrimitiveArrayCritical(env, e, __ne, __failed ? JNI_ABORT : 0);
-  if (__nd) (*env)->ReleasePrimitiveArrayCritical(env, d, __nd, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (d) { __rd = region(env, d, offsetd, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(float) * __rd.span); }
+    if (e) { __re = region(env, e, offsete, (NETLIB_MIN(m, n) - 1), (1), (NETLIB_MIN(m, n) - 1)); __size += ARENA_ALIGN(sizeof(float) * __re.span); }
+    if (tauq) { __rtauq = region(env, tauq, offsettauq, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(float) * __rtauq.span); }
+    if (taup) { __rtaup = region(env, taup, offsettaup, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(float) * __rtaup.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (d) { __nd = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rd.span); region_get_float(env, d, offsetd, __rd, __nd); }
+    if (e) { __ne = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __re.span); region_get_float(env, e, offsete, __re, __ne); }
+    if (tauq) { __ntauq = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rtauq.span); region_get_float(env, tauq, offsettauq, __rtauq, __ntauq); }
+    if (taup) { __ntaup = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rtaup.span); region_get_float(env, taup, offsettaup, __rtaup, __ntaup); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (d) { if (!(__nd = (*env)->GetPrimitiveArrayCritical(env, d, NULL))) { __failed = TRUE; goto done; } }
+    if (e) { if (!(__ne = (*env)->GetPrimitiveArrayCritical(env, e, NULL))) { __failed = TRUE; goto done; } }
+    if (tauq) { if (!(__ntauq = (*env)->GetPrimitiveArrayCritical(env, tauq, NULL))) { __failed = TRUE; goto done; } }
+    if (taup) { if (!(__ntaup = (*env)->GetPrimitiveArrayCritical(env, taup, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgebrd_(&__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nd ? __nd + (__copy ? 0 : offsetd) : NULL, __ne ? __ne + (__copy ? 0 : offsete) : NULL, __ntauq ? __ntauq + (__copy ? 0 : offsettauq) : NULL, __ntaup ? __ntaup + (__copy ? 0 : offsettaup) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo);
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nd && !__failed) region_set_float(env, d, offsetd, __rd, __nd);
+    if (__ne && !__failed) region_set_float(env, e, offsete, __re, __ne);
+    if (__ntauq && !__failed) region_set_float(env, tauq, offsettauq, __rtauq, __ntauq);
+    if (__ntaup && !__failed) region_set_float(env, taup, offsettaup, __rtaup, __ntaup);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ntaup) (*env)->ReleasePrimitiveArrayCritical(env, taup, __ntaup, __failed ? JNI_ABORT : 0);
+    if (__ntauq) (*env)->ReleasePrimitiveArrayCritical(env, tauq, __ntauq, __failed ? JNI_ABORT : 0);
+    if (__ne) (*env)->ReleasePrimitiveArrayCritical(env, e, __ne, __failed ? JNI_ABORT : 0);
+    if (__nd) (*env)->ReleasePrimitiveArrayCritical(env, d, __nd, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -14930,6 +15780,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgeevK(JNIEnv *env, UNUSED jobject
   float *__nvl = NULL;
   float *__nvr = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rwr = { 0, 0, 0 }, __rwi = { 0, 0, 0 }, __rvl = { 0, 0, 0 }, __rvr = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   if (!(__njobvl = (*env)->GetStringUTFChars(env, jobvl, NULL))) { __failed = TRUE; goto done; }
   if (!(__njobvr = (*env)->GetStringUTFChars(env, jobvr, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
@@ -14938,20 +15791,48 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgeevK(JNIEnv *env, UNUSED jobject
   __nldvr = ldvr;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (wr) { if (!(__nwr = (*env)->GetPrimitiveArrayCritical(env, wr, NULL))) { __failed = TRUE; goto done; } }
-  if (wi) { if (!(__nwi = (*env)->GetPrimitiveArrayCritical(env, wi, NULL))) { __failed = TRUE; goto done; } }
-  if (vl) { if (!(__nvl = (*env)->GetPrimitiveArrayCritical(env, vl, NULL))) { __failed = TRUE; goto done; } }
-  if (vr) { if (!(__nvr = (*env)->GetPrimitiveArrayCritical(env, vr, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  sgeev_(__njobvl, __njobvr, &__nn, __na ? __na + offseta : NULL, &__nlda, __nwr ? __nwr + offsetwr : NULL, __nwi ? __nwi + offsetwi : NULL, __nvl ? __nvl + offsetvl : NULL, &__nldvl, __nvr ? __nvr + offsetvr : NULL, &__nldvr, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobvl), (*env)->GetStringUTFLength(env, jobvr));
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nvr) (*env)->ReleasePrimitiveArrayCritical(env, vr, __nvr, __failed ? JNI_ABORT : 0);
-  if (__nvl) (*env)->ReleasePrimitiveArrayCritical(env, vl, __nvl, __failed ? JNI_ABORT : 0);
-  if (__nwi) (*env)->ReleasePrimitiveArrayCritical(env, wi, __nwi, __failed ? JNI_ABORT : 0);
-  if (__nwr) (*env)->ReleasePrimitiveArrayCritical(env, wr, __nwr, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (wr) { __rwr = region(env, wr, offsetwr, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(float) * __rwr.span); }
+    if (wi) { __rwi = region(env, wi, offsetwi, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(float) * __rwi.span); }
+    if (vl) { __rvl = region(env, vl, offsetvl, (NETLIB_LSAME(__njobvl, 'V') ? n : 0), (n), (ldvl)); __size += ARENA_ALIGN(sizeof(float) * __rvl.span); }
+    if (vr) { __rvr = region(env, vr, offsetvr, (NETLIB_LSAME(__njobvr, 'V') ? n : 0), (n), (ldvr)); __size += ARENA_ALIGN(sizeof(float) * __rvr.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (wr) { __nwr = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwr.span); region_get_float(env, wr, offsetwr, __rwr, __nwr); }
+    if (wi) { __nwi = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwi.span); region_get_float(env, wi, offsetwi, __rwi, __nwi); }
+    if (vl) { __nvl = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rvl.span); region_get_float(env, vl, offsetvl, __rvl, __nvl); }
+    if (vr) { __nvr = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rvr.span); region_get_float(env, vr, offsetvr, __rvr, __nvr); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (wr) { if (!(__nwr = (*env)->GetPrimitiveArrayCritical(env, wr, NULL))) { __failed = TRUE; goto done; } }
+    if (wi) { if (!(__nwi = (*env)->GetPrimitiveArrayCritical(env, wi, NULL))) { __failed = TRUE; goto done; } }
+    if (vl) { if (!(__nvl = (*env)->GetPrimitiveArrayCritical(env, vl, NULL))) { __failed = TRUE; goto done; } }
+    if (vr) { if (!(__nvr = (*env)->GetPrimitiveArrayCritical(env, vr, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgeev_(__njobvl, __njobvr, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nwr ? __nwr + (__copy ? 0 : offsetwr) : NULL, __nwi ? __nwi + (__copy ? 0 : offsetwi) : NULL, __nvl ? __nvl + (__copy ? 0 : offsetvl) : NULL, &__nldvl, __nvr ? __nvr + (__copy ? 0 : offsetvr) : NULL, &__nldvr, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobvl), (*env)->GetStringUTFLength(env, jobvr));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nwr && !__failed) region_set_float(env, wr, offsetwr, __rwr, __nwr);
+    if (__nwi && !__failed) region_set_float(env, wi, offsetwi, __rwi, __nwi);
+    if (__nvl && !__failed) region_set_float(env, vl, offsetvl, __rvl, __nvl);
+    if (__nvr && !__failed) region_set_float(env, vr, offsetvr, __rvr, __nvr);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nvr) (*env)->ReleasePrimitiveArrayCritical(env, vr, __nvr, __failed ? JNI_ABORT : 0);
+    if (__nvl) (*env)->ReleasePrimitiveArrayCritical(env, vl, __nvl, __failed ? JNI_ABORT : 0);
+    if (__nwi) (*env)->ReleasePrimitiveArrayCritical(env, wi, __nwi, __failed ? JNI_ABORT : 0);
+    if (__nwr) (*env)->ReleasePrimitiveArrayCritical(env, wr, __nwr, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__njobvr) (*env)->ReleaseStringUTFChars(env, jobvr, __njobvr);
   if (__njobvl) (*env)->ReleaseStringUTFChars(env, jobvl, __njobvl);
@@ -15186,20 +16067,42 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgehrdK(JNIEnv *env, UNUSED jobjec
   float *__na = NULL;
   float *__ntau = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rtau = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   __nn = n;
   __nilo = ilo;
   __nihi = ihi;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  sgehrd_(&__nn, &__nilo, &__nihi, __na ? __na + offseta : NULL, &__nlda, __ntau ? __ntau + offsettau : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (tau) { __rtau = region(env, tau, offsettau, (n - 1), (1), (n - 1)); __size += ARENA_ALIGN(sizeof(float) * __rtau.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (tau) { __ntau = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rtau.span); region_get_float(env, tau, offsettau, __rtau, __ntau); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgehrd_(&__nn, &__nilo, &__nihi, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ntau ? __ntau + (__copy ? 0 : offsettau) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo);
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__ntau && !__failed) region_set_float(env, tau, offsettau, __rtau, __ntau);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -15245,19 +16148,41 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgelqfK(JNIEnv *env, UNUSED jobjec
   float *__na = NULL;
   float *__ntau = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rtau = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
   __nm = m;
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  sgelqf_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ntau ? __ntau + offsettau : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (tau) { __rtau = region(env, tau, offsettau, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(float) * __rtau.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (tau) { __ntau = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rtau.span); region_get_float(env, tau, offsettau, __rtau, __ntau); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgelqf_(&__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ntau ? __ntau + (__copy ? 0 : offsettau) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo);
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__ntau && !__failed) region_set_float(env, tau, offsettau, __rtau, __ntau);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -15278,6 +16203,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgelsK(JNIEnv *env, UNUSED jobject
   float *__na = NULL;
   float *__nb = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * (NETLIB_MIN(m, n) + nrhs)) >= copy_threshold;
   if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
   __nm = m;
   __nn = n;
@@ -15286,14 +16214,33 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgelsK(JNIEnv *env, UNUSED jobject
   __nldb = ldb;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  sgels_(__ntrans, &__nm, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, trans));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (NETLIB_MAX(m, n)), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgels_(__ntrans, &__nm, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, trans));
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_float(env, b, offsetb, __rb, __nb);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -15318,6 +16265,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgelsdK(JNIEnv *env, UNUSED jobjec
   float *__ns = NULL;
   float *__nwork = NULL;
   int *__niwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rs = { 0, 0, 0 }, __rwork = { 0, 0, 0 }, __riwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * (NETLIB_MIN(m, n) + nrhs)) >= copy_threshold;
   __nm = m;
   __nn = n;
   __nnrhs = nrhs;
@@ -15327,18 +16277,43 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgelsdK(JNIEnv *env, UNUSED jobjec
   __nrank = (*env)->GetIntField(env, rank, intW_val_fieldID);
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
-  sgelsd_(&__nm, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, __ns ? __ns + offsets : NULL, &__nrcond, &__nrank, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, &__ninfo);
-done:
-  if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (NETLIB_MAX(m, n)), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (s) { __rs = region(env, s, offsets, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(float) * __rs.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (iwork) { __riwork = region(env, iwork, offsetiwork, ((*env)->GetArrayLength(env, iwork)), (1), ((*env)->GetArrayLength(env, iwork))); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+    if (s) { __ns = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rs.span); region_get_float(env, s, offsets, __rs, __ns); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+    if (iwork) { __niwork = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); region_get_int(env, iwork, offsetiwork, __riwork, __niwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+    if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgelsd_(&__nm, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __ns ? __ns + (__copy ? 0 : offsets) : NULL, &__nrcond, &__nrank, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, __niwork ? __niwork + (__copy ? 0 : offsetiwork) : NULL, &__ninfo);
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_float(env, b, offsetb, __rb, __nb);
+    if (__ns && !__failed) region_set_float(env, s, offsets, __rs, __ns);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__niwork && !__failed) region_set_int(env, iwork, offsetiwork, __riwork, __niwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, rank, intW_val_fieldID, __nrank);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -15362,6 +16337,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgelssK(JNIEnv *env, UNUSED jobjec
   float *__nb = NULL;
   float *__ns = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rs = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * (NETLIB_MIN(m, n) + nrhs)) >= copy_threshold;
   __nm = m;
   __nn = n;
   __nnrhs = nrhs;
@@ -15371,16 +16349,38 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgelssK(JNIEnv *env, UNUSED jobjec
   __nrank = (*env)->GetIntField(env, rank, intW_val_fieldID);
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  sgelss_(&__nm, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, __ns ? __ns + offsets : NULL, &__nrcond, &__nrank, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (NETLIB_MAX(m, n)), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (s) { __rs = region(env, s, offsets, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(float) * __rs.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+    if (s) { __ns = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rs.span); region_get_float(env, s, offsets, __rs, __ns); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgelss_(&__nm, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __ns ? __ns + (__copy ? 0 : offsets) : NULL, &__nrcond, &__nrank, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo);
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_float(env, b, offsetb, __rb, __nb);
+    if (__ns && !__failed) region_set_float(env, s, offsets, __rs, __ns);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, rank, intW_val_fieldID, __nrank);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -15540,21 +16540,46 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgeqp3K(JNIEnv *env, UNUSED jobjec
   int *__njpvt = NULL;
   float *__ntau = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rjpvt = { 0, 0, 0 }, __rtau = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
   __nm = m;
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (jpvt) { if (!(__njpvt = (*env)->GetPrimitiveArrayCritical(env, jpvt, NULL))) { __failed = TRUE; goto done; } }
-  if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  sgeqp3_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __njpvt ? __njpvt + offsetjpvt : NULL, __ntau ? __ntau + offsettau : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
-  if (__njpvt) (*env)->ReleasePrimitiveArrayCritical(env, jpvt, __njpvt, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (jpvt) { __rjpvt = region(env, jpvt, offsetjpvt, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(int) * __rjpvt.span); }
+    if (tau) { __rtau = region(env, tau, offsettau, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(float) * __rtau.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (jpvt) { __njpvt = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __rjpvt.span); region_get_int(env, jpvt, offsetjpvt, __rjpvt, __njpvt); }
+    if (tau) { __ntau = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rtau.span); region_get_float(env, tau, offsettau, __rtau, __ntau); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (jpvt) { if (!(__njpvt = (*env)->GetPrimitiveArrayCritical(env, jpvt, NULL))) { __failed = TRUE; goto done; } }
+    if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgeqp3_(&__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __njpvt ? __njpvt + (__copy ? 0 : offsetjpvt) : NULL, __ntau ? __ntau + (__copy ? 0 : offsettau) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo);
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__njpvt && !__failed) region_set_int(env, jpvt, offsetjpvt, __rjpvt, __njpvt);
+    if (__ntau && !__failed) region_set_float(env, tau, offsettau, __rtau, __ntau);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
+    if (__njpvt) (*env)->ReleasePrimitiveArrayCritical(env, jpvt, __njpvt, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -15631,19 +16656,41 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgeqrfK(JNIEnv *env, UNUSED jobjec
   float *__na = NULL;
   float *__ntau = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rtau = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
   __nm = m;
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  sgeqrf_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ntau ? __ntau + offsettau : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (tau) { __rtau = region(env, tau, offsettau, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(float) * __rtau.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (tau) { __ntau = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rtau.span); region_get_float(env, tau, offsettau, __rtau, __ntau); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgeqrf_(&__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ntau ? __ntau + (__copy ? 0 : offsettau) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo);
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__ntau && !__failed) region_set_float(env, tau, offsettau, __rtau, __ntau);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -15809,6 +16856,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgesddK(JNIEnv *env, UNUSED jobjec
   float *__nvt = NULL;
   float *__nwork = NULL;
   int *__niwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rs = { 0, 0, 0 }, __ru = { 0, 0, 0 }, __rvt = { 0, 0, 0 }, __rwork = { 0, 0, 0 }, __riwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
   if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
   __nm = m;
   __nn = n;
@@ -15817,20 +16867,48 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgesddK(JNIEnv *env, UNUSED jobjec
   __nldvt = ldvt;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
-  if (u) { if (!(__nu = (*env)->GetPrimitiveArrayCritical(env, u, NULL))) { __failed = TRUE; goto done; } }
-  if (vt) { if (!(__nvt = (*env)->GetPrimitiveArrayCritical(env, vt, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
-  sgesdd_(__njobz, &__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ns ? __ns + offsets : NULL, __nu ? __nu + offsetu : NULL, &__nldu, __nvt ? __nvt + offsetvt : NULL, &__nldvt, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, &__ninfo, (*env)->GetStringUTFLength(env, jobz));
-done:
-  if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nvt) (*env)->ReleasePrimitiveArrayCritical(env, vt, __nvt, __failed ? JNI_ABORT : 0);
-  if (__nu) (*env)->ReleasePrimitiveArrayCritical(env, u, __nu, __failed ? JNI_ABORT : 0);
-  if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (s) { __rs = region(env, s, offsets, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(float) * __rs.span); }
+    if (u) { __ru = region(env, u, offsetu, (NETLIB_LSAME(__njobz, 'N') || (NETLIB_LSAME(__njobz, 'O') && m >= n) ? 0 : m), (NETLIB_LSAME(__njobz, 'S') ? NETLIB_MIN(m, n) : m), (ldu)); __size += ARENA_ALIGN(sizeof(float) * __ru.span); }
+    if (vt) { __rvt = region(env, vt, offsetvt, (NETLIB_LSAME(__njobz, 'N') || (NETLIB_LSAME(__njobz, 'O') && m < n) ? 0 : NETLIB_LSAME(__njobz, 'S') ? NETLIB_MIN(m, n) : n), (n), (ldvt)); __size += ARENA_ALIGN(sizeof(float) * __rvt.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (iwork) { __riwork = region(env, iwork, offsetiwork, (8 * NETLIB_MIN(m, n)), (1), (8 * NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (s) { __ns = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rs.span); region_get_float(env, s, offsets, __rs, __ns); }
+    if (u) { __nu = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ru.span); region_get_float(env, u, offsetu, __ru, __nu); }
+    if (vt) { __nvt = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rvt.span); region_get_float(env, vt, offsetvt, __rvt, __nvt); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+    if (iwork) { __niwork = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); region_get_int(env, iwork, offsetiwork, __riwork, __niwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
+    if (u) { if (!(__nu = (*env)->GetPrimitiveArrayCritical(env, u, NULL))) { __failed = TRUE; goto done; } }
+    if (vt) { if (!(__nvt = (*env)->GetPrimitiveArrayCritical(env, vt, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+    if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgesdd_(__njobz, &__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ns ? __ns + (__copy ? 0 : offsets) : NULL, __nu ? __nu + (__copy ? 0 : offsetu) : NULL, &__nldu, __nvt ? __nvt + (__copy ? 0 : offsetvt) : NULL, &__nldvt, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, __niwork ? __niwork + (__copy ? 0 : offsetiwork) : NULL, &__ninfo, (*env)->GetStringUTFLength(env, jobz));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__ns && !__failed) region_set_float(env, s, offsets, __rs, __ns);
+    if (__nu && !__failed) region_set_float(env, u, offsetu, __ru, __nu);
+    if (__nvt && !__failed) region_set_float(env, vt, offsetvt, __rvt, __nvt);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__niwork && !__failed) region_set_int(env, iwork, offsetiwork, __riwork, __niwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nvt) (*env)->ReleasePrimitiveArrayCritical(env, vt, __nvt, __failed ? JNI_ABORT : 0);
+    if (__nu) (*env)->ReleasePrimitiveArrayCritical(env, u, __nu, __failed ? JNI_ABORT : 0);
+    if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -15849,19 +16927,41 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgesvK(JNIEnv *env, UNUSED jobject
   float *__na = NULL;
   int *__nipiv = NULL;
   float *__nb = NULL;
+  region_t __ra = { 0, 0, 0 }, __ripiv = { 0, 0, 0 }, __rb = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * (n + nrhs)) >= copy_threshold;
   __nn = n;
   __nnrhs = nrhs;
   __nlda = lda;
   __nldb = ldb;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  sgesv_(&__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (ipiv) { __ripiv = region(env, ipiv, offsetipiv, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); }
+    if (b) { __rb = region(env, b, offsetb, (n), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (ipiv) { __nipiv = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); region_get_int(env, ipiv, offsetipiv, __ripiv, __nipiv); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgesv_(&__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nipiv ? __nipiv + (__copy ? 0 : offsetipiv) : NULL, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, &__ninfo);
 done:
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nipiv && !__failed) region_set_int(env, ipiv, offsetipiv, __ripiv, __nipiv);
+    if (__nb && !__failed) region_set_float(env, b, offsetb, __rb, __nb);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -15885,6 +16985,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgesvdK(JNIEnv *env, UNUSED jobjec
   float *__nu = NULL;
   float *__nvt = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rs = { 0, 0, 0 }, __ru = { 0, 0, 0 }, __rvt = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
   if (!(__njobu = (*env)->GetStringUTFChars(env, jobu, NULL))) { __failed = TRUE; goto done; }
   if (!(__njobvt = (*env)->GetStringUTFChars(env, jobvt, NULL))) { __failed = TRUE; goto done; }
   __nm = m;
@@ -15894,18 +16997,43 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgesvdK(JNIEnv *env, UNUSED jobjec
   __nldvt = ldvt;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
-  if (u) { if (!(__nu = (*env)->GetPrimitiveArrayCritical(env, u, NULL))) { __failed = TRUE; goto done; } }
-  if (vt) { if (!(__nvt = (*env)->GetPrimitiveArrayCritical(env, vt, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  sgesvd_(__njobu, __njobvt, &__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ns ? __ns + offsets : NULL, __nu ? __nu + offsetu : NULL, &__nldu, __nvt ? __nvt + offsetvt : NULL, &__nldvt, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobu), (*env)->GetStringUTFLength(env, jobvt));
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nvt) (*env)->ReleasePrimitiveArrayCritical(env, vt, __nvt, __failed ? JNI_ABORT : 0);
-  if (__nu) (*env)->ReleasePrimitiveArrayCritical(env, u, __nu, __failed ? JNI_ABORT : 0);
-  if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (s) { __rs = region(env, s, offsets, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(float) * __rs.span); }
+    if (u) { __ru = region(env, u, offsetu, (NETLIB_LSAME(__njobu, 'A') || NETLIB_LSAME(__njobu, 'S') ? m : 0), (NETLIB_LSAME(__njobu, 'A') ? m : NETLIB_MIN(m, n)), (ldu)); __size += ARENA_ALIGN(sizeof(float) * __ru.span); }
+    if (vt) { __rvt = region(env, vt, offsetvt, (NETLIB_LSAME(__njobvt, 'A') ? n : NETLIB_LSAME(__njobvt, 'S') ? NETLIB_MIN(m, n) : 0), (n), (ldvt)); __size += ARENA_ALIGN(sizeof(float) * __rvt.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (s) { __ns = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rs.span); region_get_float(env, s, offsets, __rs, __ns); }
+    if (u) { __nu = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ru.span); region_get_float(env, u, offsetu, __ru, __nu); }
+    if (vt) { __nvt = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rvt.span); region_get_float(env, vt, offsetvt, __rvt, __nvt); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
+    if (u) { if (!(__nu = (*env)->GetPrimitiveArrayCritical(env, u, NULL))) { __failed = TRUE; goto done; } }
+    if (vt) { if (!(__nvt = (*env)->GetPrimitiveArrayCritical(env, vt, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgesvd_(__njobu, __njobvt, &__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ns ? __ns + (__copy ? 0 : offsets) : NULL, __nu ? __nu + (__copy ? 0 : offsetu) : NULL, &__nldu, __nvt ? __nvt + (__copy ? 0 : offsetvt) : NULL, &__nldvt, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobu), (*env)->GetStringUTFLength(env, jobvt));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__ns && !__failed) region_set_float(env, s, offsets, __rs, __ns);
+    if (__nu && !__failed) region_set_float(env, u, offsetu, __ru, __nu);
+    if (__nvt && !__failed) region_set_float(env, vt, offsetvt, __rvt, __nvt);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nvt) (*env)->ReleasePrimitiveArrayCritical(env, vt, __nvt, __failed ? JNI_ABORT : 0);
+    if (__nu) (*env)->ReleasePrimitiveArrayCritical(env, u, __nu, __failed ? JNI_ABORT : 0);
+    if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__njobvt) (*env)->ReleaseStringUTFChars(env, jobvt, __njobvt);
   if (__njobu) (*env)->ReleaseStringUTFChars(env, jobu, __njobu);
@@ -16044,16 +17172,35 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgetrfK(JNIEnv *env, UNUSED jobjec
   int __ninfo = 0;
   float *__na = NULL;
   int *__nipiv = NULL;
+  region_t __ra = { 0, 0, 0 }, __ripiv = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
   __nm = m;
   __nn = n;
   __nlda = lda;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
-  sgetrf_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, &__ninfo);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (ipiv) { __ripiv = region(env, ipiv, offsetipiv, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (ipiv) { __nipiv = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); region_get_int(env, ipiv, offsetipiv, __ripiv, __nipiv); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgetrf_(&__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nipiv ? __nipiv + (__copy ? 0 : offsetipiv) : NULL, &__ninfo);
 done:
-  if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nipiv && !__failed) region_set_int(env, ipiv, offsetipiv, __ripiv, __nipiv);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -16070,18 +17217,40 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgetriK(JNIEnv *env, UNUSED jobjec
   float *__na = NULL;
   int *__nipiv = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __ripiv = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  sgetri_(&__nn, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (ipiv) { __ripiv = region(env, ipiv, offsetipiv, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (ipiv) { __nipiv = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); region_get_int(env, ipiv, offsetipiv, __ripiv, __nipiv); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgetri_(&__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nipiv ? __nipiv + (__copy ? 0 : offsetipiv) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo);
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nipiv && !__failed) region_set_int(env, ipiv, offsetipiv, __ripiv, __nipiv);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -16100,20 +17269,42 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgetrsK(JNIEnv *env, UNUSED jobjec
   float *__na = NULL;
   int *__nipiv = NULL;
   float *__nb = NULL;
+  region_t __ra = { 0, 0, 0 }, __ripiv = { 0, 0, 0 }, __rb = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * nrhs) >= copy_threshold;
   if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nnrhs = nrhs;
   __nlda = lda;
   __nldb = ldb;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  sgetrs_(__ntrans, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, trans));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (ipiv) { __ripiv = region(env, ipiv, offsetipiv, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); }
+    if (b) { __rb = region(env, b, offsetb, (n), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (ipiv) { __nipiv = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); region_get_int(env, ipiv, offsetipiv, __ripiv, __nipiv); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sgetrs_(__ntrans, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nipiv ? __nipiv + (__copy ? 0 : offsetipiv) : NULL, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, trans));
 done:
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nipiv && !__failed) region_set_int(env, ipiv, offsetipiv, __ripiv, __nipiv);
+    if (__nb && !__failed) region_set_float(env, b, offsetb, __rb, __nb);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -23844,18 +25035,37 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sposvK(JNIEnv *env, UNUSED jobject
   int __ninfo = 0;
   float *__na = NULL;
   float *__nb = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * (n + nrhs)) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nnrhs = nrhs;
   __nlda = lda;
   __nldb = ldb;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  sposv_(__nuplo, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (n), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  }
+  sposv_(__nuplo, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
 done:
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_float(env, b, offsetb, __rb, __nb);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -23958,14 +25168,30 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_spotrfK(JNIEnv *env, UNUSED jobjec
   int __nlda __attribute__((aligned(8)));
   int __ninfo = 0;
   float *__na = NULL;
+  region_t __ra = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * n) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nlda = lda;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  spotrf_(__nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  }
+  spotrf_(__nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
 done:
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -23981,14 +25207,30 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_spotriK(JNIEnv *env, UNUSED jobjec
   int __nlda __attribute__((aligned(8)));
   int __ninfo = 0;
   float *__na = NULL;
+  region_t __ra = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * n) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nlda = lda;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  spotri_(__nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  }
+  spotri_(__nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
 done:
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -24007,18 +25249,37 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_spotrsK(JNIEnv *env, UNUSED jobjec
   int __ninfo = 0;
   float *__na = NULL;
   float *__nb = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * nrhs) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nnrhs = nrhs;
   __nlda = lda;
   __nldb = ldb;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  spotrs_(__nuplo, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (n), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  }
+  spotrs_(__nuplo, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
 done:
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_float(env, b, offsetb, __rb, __nb);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -26140,20 +27401,42 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssyevK(JNIEnv *env, UNUSED jobject
   float *__na = NULL;
   float *__nw = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rw = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  ssyev_(__njobz, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nw ? __nw + offsetw : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(float) * __rw.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (w) { __nw = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rw.span); region_get_float(env, w, offsetw, __rw, __nw); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  ssyev_(__njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nw && !__failed) region_set_float(env, w, offsetw, __rw, __nw);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
@@ -26176,6 +27459,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssyevdK(JNIEnv *env, UNUSED jobjec
   float *__nw = NULL;
   float *__nwork = NULL;
   int *__niwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rw = { 0, 0, 0 }, __rwork = { 0, 0, 0 }, __riwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
@@ -26183,16 +27469,38 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssyevdK(JNIEnv *env, UNUSED jobjec
   __nlwork = lwork;
   __nliwork = liwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
-  ssyevd_(__njobz, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nw ? __nw + offsetw : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
-done:
-  if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(float) * __rw.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (iwork) { __riwork = region(env, iwork, offsetiwork, (NETLIB_MAX(liwork, 1)), (1), (NETLIB_MAX(liwork, 1))); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (w) { __nw = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rw.span); region_get_float(env, w, offsetw, __rw, __nw); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+    if (iwork) { __niwork = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); region_get_int(env, iwork, offsetiwork, __riwork, __niwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+    if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
+  }
+  ssyevd_(__njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, __niwork ? __niwork + (__copy ? 0 : offsetiwork) : NULL, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nw && !__failed) region_set_float(env, w, offsetw, __rw, __nw);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__niwork && !__failed) region_set_int(env, iwork, offsetiwork, __riwork, __niwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
@@ -26225,6 +27533,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssyevrK(JNIEnv *env, UNUSED jobjec
   int *__nisuppz = NULL;
   float *__nwork = NULL;
   int *__niwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rw = { 0, 0, 0 }, __rz = { 0, 0, 0 }, __risuppz = { 0, 0, 0 }, __rwork = { 0, 0, 0 }, __riwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
   if (!(__nrange = (*env)->GetStringUTFChars(env, range, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
@@ -26240,20 +27551,48 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssyevrK(JNIEnv *env, UNUSED jobjec
   __nlwork = lwork;
   __nliwork = liwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
-  if (z) { if (!(__nz = (*env)->GetPrimitiveArrayCritical(env, z, NULL))) { __failed = TRUE; goto done; } }
-  if (isuppz) { if (!(__nisuppz = (*env)->GetPrimitiveArrayCritical(env, isuppz, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
-  ssyevr_(__njobz, __nrange, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, &__nvl, &__nvu, &__nil, &__niu, &__nabstol, &__nm, __nw ? __nw + offsetw : NULL, __nz ? __nz + offsetz : NULL, &__nldz, __nisuppz ? __nisuppz + offsetisuppz : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, range), (*env)->GetStringUTFLength(env, uplo));
-done:
-  if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nisuppz) (*env)->ReleasePrimitiveArrayCritical(env, isuppz, __nisuppz, __failed ? JNI_ABORT : 0);
-  if (__nz) (*env)->ReleasePrimitiveArrayCritical(env, z, __nz, __failed ? JNI_ABORT : 0);
-  if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(float) * __rw.span); }
+    if (z) { __rz = region(env, z, offsetz, (NETLIB_LSAME(__njobz, 'V') ? n : 0), (NETLIB_LSAME(__nrange, 'I') ? iu - il + 1 : n), (ldz)); __size += ARENA_ALIGN(sizeof(float) * __rz.span); }
+    if (isuppz) { __risuppz = region(env, isuppz, offsetisuppz, (2 * (NETLIB_LSAME(__nrange, 'I') ? iu - il + 1 : n)), (1), (2 * (NETLIB_LSAME(__nrange, 'I') ? iu - il + 1 : n))); __size += ARENA_ALIGN(sizeof(int) * __risuppz.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (iwork) { __riwork = region(env, iwork, offsetiwork, (NETLIB_MAX(liwork, 1)), (1), (NETLIB_MAX(liwork, 1))); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (w) { __nw = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rw.span); region_get_float(env, w, offsetw, __rw, __nw); }
+    if (z) { __nz = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rz.span); region_get_float(env, z, offsetz, __rz, __nz); }
+    if (isuppz) { __nisuppz = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __risuppz.span); region_get_int(env, isuppz, offsetisuppz, __risuppz, __nisuppz); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+    if (iwork) { __niwork = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); region_get_int(env, iwork, offsetiwork, __riwork, __niwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+    if (z) { if (!(__nz = (*env)->GetPrimitiveArrayCritical(env, z, NULL))) { __failed = TRUE; goto done; } }
+    if (isuppz) { if (!(__nisuppz = (*env)->GetPrimitiveArrayCritical(env, isuppz, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+    if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
+  }
+  ssyevr_(__njobz, __nrange, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, &__nvl, &__nvu, &__nil, &__niu, &__nabstol, &__nm, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nz ? __nz + (__copy ? 0 : offsetz) : NULL, &__nldz, __nisuppz ? __nisuppz + (__copy ? 0 : offsetisuppz) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, __niwork ? __niwork + (__copy ? 0 : offsetiwork) : NULL, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, range), (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nw && !__failed) region_set_float(env, w, offsetw, __rw, __nw);
+    if (__nz && !__failed) region_set_float(env, z, offsetz, __rz, __nz);
+    if (__nisuppz && !__failed) region_set_int(env, isuppz, offsetisuppz, __risuppz, __nisuppz);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__niwork && !__failed) region_set_int(env, iwork, offsetiwork, __riwork, __niwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nisuppz) (*env)->ReleasePrimitiveArrayCritical(env, isuppz, __nisuppz, __failed ? JNI_ABORT : 0);
+    if (__nz) (*env)->ReleasePrimitiveArrayCritical(env, z, __nz, __failed ? JNI_ABORT : 0);
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, m, intW_val_fieldID, __nm);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
@@ -26287,6 +27626,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssyevxK(JNIEnv *env, UNUSED jobjec
   float *__nwork = NULL;
   int *__niwork = NULL;
   int *__nifail = NULL;
+  region_t __ra = { 0, 0, 0 }, __rw = { 0, 0, 0 }, __rz = { 0, 0, 0 }, __rwork = { 0, 0, 0 }, __riwork = { 0, 0, 0 }, __rifail = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
   if (!(__nrange = (*env)->GetStringUTFChars(env, range, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
@@ -26301,20 +27643,48 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssyevxK(JNIEnv *env, UNUSED jobjec
   __nldz = ldz;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
-  if (z) { if (!(__nz = (*env)->GetPrimitiveArrayCritical(env, z, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
-  if (ifail) { if (!(__nifail = (*env)->GetPrimitiveArrayCritical(env, ifail, NULL))) { __failed = TRUE; goto done; } }
-  ssyevx_(__njobz, __nrange, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, &__nvl, &__nvu, &__nil, &__niu, &__nabstol, &__nm, __nw ? __nw + offsetw : NULL, __nz ? __nz + offsetz : NULL, &__nldz, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, __nifail ? __nifail + offsetifail : NULL, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, range), (*env)->GetStringUTFLength(env, uplo));
-done:
-  if (__nifail) (*env)->ReleasePrimitiveArrayCritical(env, ifail, __nifail, __failed ? JNI_ABORT : 0);
-  if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nz) (*env)->ReleasePrimitiveArrayCritical(env, z, __nz, __failed ? JNI_ABORT : 0);
-  if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(float) * __rw.span); }
+    if (z) { __rz = region(env, z, offsetz, (NETLIB_LSAME(__njobz, 'V') ? n : 0), (NETLIB_LSAME(__nrange, 'I') ? iu - il + 1 : n), (ldz)); __size += ARENA_ALIGN(sizeof(float) * __rz.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (iwork) { __riwork = region(env, iwork, offsetiwork, (5 * n), (1), (5 * n)); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); }
+    if (ifail) { __rifail = region(env, ifail, offsetifail, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(int) * __rifail.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (w) { __nw = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rw.span); region_get_float(env, w, offsetw, __rw, __nw); }
+    if (z) { __nz = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rz.span); region_get_float(env, z, offsetz, __rz, __nz); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+    if (iwork) { __niwork = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); region_get_int(env, iwork, offsetiwork, __riwork, __niwork); }
+    if (ifail) { __nifail = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __rifail.span); region_get_int(env, ifail, offsetifail, __rifail, __nifail); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+    if (z) { if (!(__nz = (*env)->GetPrimitiveArrayCritical(env, z, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+    if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
+    if (ifail) { if (!(__nifail = (*env)->GetPrimitiveArrayCritical(env, ifail, NULL))) { __failed = TRUE; goto done; } }
+  }
+  ssyevx_(__njobz, __nrange, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, &__nvl, &__nvu, &__nil, &__niu, &__nabstol, &__nm, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nz ? __nz + (__copy ? 0 : offsetz) : NULL, &__nldz, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, __niwork ? __niwork + (__copy ? 0 : offsetiwork) : NULL, __nifail ? __nifail + (__copy ? 0 : offsetifail) : NULL, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, range), (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nw && !__failed) region_set_float(env, w, offsetw, __rw, __nw);
+    if (__nz && !__failed) region_set_float(env, z, offsetz, __rz, __nz);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__niwork && !__failed) region_set_int(env, iwork, offsetiwork, __riwork, __niwork);
+    if (__nifail && !__failed) region_set_int(env, ifail, offsetifail, __rifail, __nifail);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nifail) (*env)->ReleasePrimitiveArrayCritical(env, ifail, __nifail, __failed ? JNI_ABORT : 0);
+    if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nz) (*env)->ReleasePrimitiveArrayCritical(env, z, __nz, __failed ? JNI_ABORT : 0);
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (!__failed) (*env)->SetIntField(env, m, intW_val_fieldID, __nm);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
@@ -26400,6 +27770,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssygvK(JNIEnv *env, UNUSED jobject
   float *__nb = NULL;
   float *__nw = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rw = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   __nitype = itype;
   if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
@@ -26408,16 +27781,38 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssygvK(JNIEnv *env, UNUSED jobject
   __nldb = ldb;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  ssygv_(&__nitype, __njobz, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, __nw ? __nw + offsetw : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (n), (n), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(float) * __rw.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+    if (w) { __nw = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rw.span); region_get_float(env, w, offsetw, __rw, __nw); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  ssygv_(&__nitype, __njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_float(env, b, offsetb, __rb, __nb);
+    if (__nw && !__failed) region_set_float(env, w, offsetw, __rw, __nw);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
@@ -26443,6 +27838,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssygvdK(JNIEnv *env, UNUSED jobjec
   float *__nw = NULL;
   float *__nwork = NULL;
   int *__niwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rw = { 0, 0, 0 }, __rwork = { 0, 0, 0 }, __riwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   __nitype = itype;
   if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
@@ -26452,18 +27850,43 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssygvdK(JNIEnv *env, UNUSED jobjec
   __nlwork = lwork;
   __nliwork = liwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
-  ssygvd_(&__nitype, __njobz, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, __nw ? __nw + offsetw : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
-done:
-  if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (n), (n), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(float) * __rw.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (iwork) { __riwork = region(env, iwork, offsetiwork, (NETLIB_MAX(liwork, 1)), (1), (NETLIB_MAX(liwork, 1))); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+    if (w) { __nw = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rw.span); region_get_float(env, w, offsetw, __rw, __nw); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+    if (iwork) { __niwork = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __riwork.span); region_get_int(env, iwork, offsetiwork, __riwork, __niwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+    if (iwork) { if (!(__niwork = (*env)->GetPrimitiveArrayCritical(env, iwork, NULL))) { __failed = TRUE; goto done; } }
+  }
+  ssygvd_(&__nitype, __njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, __niwork ? __niwork + (__copy ? 0 : offsetiwork) : NULL, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_float(env, b, offsetb, __rb, __nb);
+    if (__nw && !__failed) region_set_float(env, w, offsetw, __rw, __nw);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__niwork && !__failed) region_set_int(env, iwork, offsetiwork, __riwork, __niwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__niwork) (*env)->ReleasePrimitiveArrayCritical(env, iwork, __niwork, __failed ? JNI_ABORT : 0);
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
@@ -26609,6 +28032,9 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssysvK(JNIEnv *env, UNUSED jobject
   int *__nipiv = NULL;
   float *__nb = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __ripiv = { 0, 0, 0 }, __rb = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * (n + nrhs)) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nnrhs = nrhs;
@@ -26616,16 +28042,38 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssysvK(JNIEnv *env, UNUSED jobject
   __nldb = ldb;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  ssysv_(__nuplo, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, &__nldb, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
-  if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (ipiv) { __ripiv = region(env, ipiv, offsetipiv, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); }
+    if (b) { __rb = region(env, b, offsetb, (n), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (ipiv) { __nipiv = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); region_get_int(env, ipiv, offsetipiv, __ripiv, __nipiv); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  ssysv_(__nuplo, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nipiv ? __nipiv + (__copy ? 0 : offsetipiv) : NULL, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nipiv && !__failed) region_set_int(env, ipiv, offsetipiv, __ripiv, __nipiv);
+    if (__nb && !__failed) region_set_float(env, b, offsetb, __rb, __nb);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -26767,23 +28215,51 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssytrdK(JNIEnv *env, UNUSED jobjec
   float *__ne = NULL;
   float *__ntau = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __rd = { 0, 0, 0 }, __re = { 0, 0, 0 }, __rtau = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (d) { if (!(__nd = (*env)->GetPrimitiveArrayCritical(env, d, NULL))) { __failed = TRUE; goto done; } }
-  if (e) { if (!(__ne = (*env)->GetPrimitiveArrayCritical(env, e, NULL))) { __failed = TRUE; goto done; } }
-  if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  ssytrd_(__nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nd ? __nd + offsetd : NULL, __ne ? __ne + offsete : NULL, __ntau ? __ntau + offsettau : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
-done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
-  if (__ne) (*env)->ReleasePrimitiveArrayCritical(env, e, __ne, __failed ? JNI_ABORT : 0);
-  if (__nd) (*env)->ReleasePrimitiveArrayCritical(env, d, __nd, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (d) { __rd = region(env, d, offsetd, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(float) * __rd.span); }
+    if (e) { __re = region(env, e, offsete, (n - 1), (1), (n - 1)); __size += ARENA_ALIGN(sizeof(float) * __re.span); }
+    if (tau) { __rtau = region(env, tau, offsettau, (n - 1), (1), (n - 1)); __size += ARENA_ALIGN(sizeof(float) * __rtau.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (d) { __nd = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rd.span); region_get_float(env, d, offsetd, __rd, __nd); }
+    if (e) { __ne = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __re.span); region_get_float(env, e, offsete, __re, __ne); }
+    if (tau) { __ntau = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rtau.span); region_get_float(env, tau, offsettau, __rtau, __ntau); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (d) { if (!(__nd = (*env)->GetPrimitiveArrayCritical(env, d, NULL))) { __failed = TRUE; goto done; } }
+    if (e) { if (!(__ne = (*env)->GetPrimitiveArrayCritical(env, e, NULL))) { __failed = TRUE; goto done; } }
+    if (tau) { if (!(__ntau = (*env)->GetPrimitiveArrayCritical(env, tau, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  ssytrd_(__nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nd ? __nd + (__copy ? 0 : offsetd) : NULL, __ne ? __ne + (__copy ? 0 : offsete) : NULL, __ntau ? __ntau + (__copy ? 0 : offsettau) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nd && !__failed) region_set_float(env, d, offsetd, __rd, __nd);
+    if (__ne && !__failed) region_set_float(env, e, offsete, __re, __ne);
+    if (__ntau && !__failed) region_set_float(env, tau, offsettau, __rtau, __ntau);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__ntau) (*env)->ReleasePrimitiveArrayCritical(env, tau, __ntau, __failed ? JNI_ABORT : 0);
+    if (__ne) (*env)->ReleasePrimitiveArrayCritical(env, e, __ne, __failed ? JNI_ABORT : 0);
+    if (__nd) (*env)->ReleasePrimitiveArrayCritical(env, d, __nd, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -26802,19 +28278,41 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssytrfK(JNIEnv *env, UNUSED jobjec
   float *__na = NULL;
   int *__nipiv = NULL;
   float *__nwork = NULL;
+  region_t __ra = { 0, 0, 0 }, __ripiv = { 0, 0, 0 }, __rwork = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)(lwork == -1 ? 0 : (double)n * n * n) >= copy_threshold;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nlda = lda;
   __nlwork = lwork;
   __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
-  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
-  ssytrf_(__nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (ipiv) { __ripiv = region(env, ipiv, offsetipiv, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); }
+    if (work) { __rwork = region(env, work, offsetwork, (NETLIB_MAX(lwork, 1)), (1), (NETLIB_MAX(lwork, 1))); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (ipiv) { __nipiv = (int*)(__arena + __size); __size += ARENA_ALIGN(sizeof(int) * __ripiv.span); region_get_int(env, ipiv, offsetipiv, __ripiv, __nipiv); }
+    if (work) { __nwork = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwork.span); region_get_float(env, work, offsetwork, __rwork, __nwork); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
+    if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  }
+  ssytrf_(__nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nipiv ? __nipiv + (__copy ? 0 : offsetipiv) : NULL, __nwork ? __nwork + (__copy ? 0 : offsetwork) : NULL, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nipiv && !__failed) region_set_int(env, ipiv, offsetipiv, __ripiv, __nipiv);
+    if (__nwork && !__failed) region_set_float(env, work, offsetwork, __rwork, __nwork);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+    if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -28334,20 +29832,1279 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_slamc5K(JNIEnv *env, UNUSED jobjec
   (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "not implemented");
 }
 
-jboolean get_system_property(JNIEnv *env, jstring key, jstring def, jstring *res) {
-  jclass System_class = (*env)->FindClass(env, "java/lang/System");
-  if (!System_class) {
-    return FALSE;
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgeevAllocK(JNIEnv *env, UNUSED jobject obj, jstring jobvl, jstring jobvr, jint n, jdoubleArray a, jint offseta, jint lda, jdoubleArray wr, jint offsetwr, jdoubleArray wi, jint offsetwi, jdoubleArray vl, jint offsetvl, jint ldvl, jdoubleArray vr, jint offsetvr, jint ldvr, jobject info) {
+  if (!dgeev_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobvl = NULL;
+  const char *__njobvr = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldvl __attribute__((aligned(8)));
+  int __nldvr __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__nwr = NULL;
+  double *__nwi = NULL;
+  double *__nvl = NULL;
+  double *__nvr = NULL;
+  double *__nwork = NULL;
+  double __qwork = 0;
+  char *__workspace = NULL;
+  region_t __ra = { 0, 0, 0 }, __rwr = { 0, 0, 0 }, __rwi = { 0, 0, 0 }, __rvl = { 0, 0, 0 }, __rvr = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * n) >= copy_threshold;
+  if (!(__njobvl = (*env)->GetStringUTFChars(env, jobvl, NULL))) { __failed = TRUE; goto done; }
+  if (!(__njobvr = (*env)->GetStringUTFChars(env, jobvr, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __nldvl = ldvl;
+  __nldvr = ldvr;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (wr) { __rwr = region(env, wr, offsetwr, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(double) * __rwr.span); }
+    if (wi) { __rwi = region(env, wi, offsetwi, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(double) * __rwi.span); }
+    if (vl) { __rvl = region(env, vl, offsetvl, (NETLIB_LSAME(__njobvl, 'V') ? n : 0), (n), (ldvl)); __size += ARENA_ALIGN(sizeof(double) * __rvl.span); }
+    if (vr) { __rvr = region(env, vr, offsetvr, (NETLIB_LSAME(__njobvr, 'V') ? n : 0), (n), (ldvr)); __size += ARENA_ALIGN(sizeof(double) * __rvr.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (wr) { __nwr = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwr.span); region_get_double(env, wr, offsetwr, __rwr, __nwr); }
+    if (wi) { __nwi = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rwi.span); region_get_double(env, wi, offsetwi, __rwi, __nwi); }
+    if (vl) { __nvl = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rvl.span); region_get_double(env, vl, offsetvl, __rvl, __nvl); }
+    if (vr) { __nvr = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rvr.span); region_get_double(env, vr, offsetvr, __rvr, __nvr); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (wr) { if (!(__nwr = (*env)->GetPrimitiveArrayCritical(env, wr, NULL))) { __failed = TRUE; goto done; } }
+    if (wi) { if (!(__nwi = (*env)->GetPrimitiveArrayCritical(env, wi, NULL))) { __failed = TRUE; goto done; } }
+    if (vl) { if (!(__nvl = (*env)->GetPrimitiveArrayCritical(env, vl, NULL))) { __failed = TRUE; goto done; } }
+    if (vr) { if (!(__nvr = (*env)->GetPrimitiveArrayCritical(env, vr, NULL))) { __failed = TRUE; goto done; } }
   }
-  jmethodID System_getProperty_methodID = (*env)->GetStaticMethodID(env, System_class, "getProperty", "(Ljava/lang/String;Ljava/lang/String;)Ljava/lang/String;");
-  if (!System_getProperty_methodID) {
-    return FALSE;
+  // Query the optimal workspace, then allocate it in the arena
+  __nwork = &__qwork;
+  __nlwork = -1;
+  dgeev_(__njobvl, __njobvr, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nwr ? __nwr + (__copy ? 0 : offsetwr) : NULL, __nwi ? __nwi + (__copy ? 0 : offsetwi) : NULL, __nvl ? __nvl + (__copy ? 0 : offsetvl) : NULL, &__nldvl, __nvr ? __nvr + (__copy ? 0 : offsetvr) : NULL, &__nldvr, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobvl), (*env)->GetStringUTFLength(env, jobvr));
+  if (__ninfo != 0) goto done;
+  __nlwork = workspace_length(__qwork);
+  if (!(__workspace = arena_acquire(ARENA_WORK, ARENA_ALIGN(sizeof(double) * __nlwork)))) { __failed = TRUE; goto done; }
+  __nwork = (double*)(__workspace);
+  dgeev_(__njobvl, __njobvr, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nwr ? __nwr + (__copy ? 0 : offsetwr) : NULL, __nwi ? __nwi + (__copy ? 0 : offsetwi) : NULL, __nvl ? __nvl + (__copy ? 0 : offsetvl) : NULL, &__nldvl, __nvr ? __nvr + (__copy ? 0 : offsetvr) : NULL, &__nldvr, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobvl), (*env)->GetStringUTFLength(env, jobvr));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nwr && !__failed) region_set_double(env, wr, offsetwr, __rwr, __nwr);
+    if (__nwi && !__failed) region_set_double(env, wi, offsetwi, __rwi, __nwi);
+    if (__nvl && !__failed) region_set_double(env, vl, offsetvl, __rvl, __nvl);
+    if (__nvr && !__failed) region_set_double(env, vr, offsetvr, __rvr, __nvr);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nvr) (*env)->ReleasePrimitiveArrayCritical(env, vr, __nvr, __failed ? JNI_ABORT : 0);
+    if (__nvl) (*env)->ReleasePrimitiveArrayCritical(env, vl, __nvl, __failed ? JNI_ABORT : 0);
+    if (__nwi) (*env)->ReleasePrimitiveArrayCritical(env, wi, __nwi, __failed ? JNI_ABORT : 0);
+    if (__nwr) (*env)->ReleasePrimitiveArrayCritical(env, wr, __nwr, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
   }
-  *res = (jstring)(*env)->CallStaticObjectMethod(env, System_class, System_getProperty_methodID, key, def);
-  return TRUE;
+  if (__workspace) arena_release(ARENA_WORK, __workspace);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__njobvr) (*env)->ReleaseStringUTFChars(env, jobvr, __njobvr);
+  if (__njobvl) (*env)->ReleaseStringUTFChars(env, jobvl, __njobvl);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
-jboolean load_symbols(void *libhandle) {
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgelsAllocK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jint nrhs, jdoubleArray a, jint offseta, jint lda, jdoubleArray b, jint offsetb, jint ldb, jobject info) {
+  if (!dgels_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__nb = NULL;
+  double *__nwork = NULL;
+  double __qwork = 0;
+  char *__workspace = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * (NETLIB_MIN(m, n) + nrhs)) >= copy_threshold;
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (NETLIB_MAX(m, n)), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(double) * __rb.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rb.span); region_get_double(env, b, offsetb, __rb, __nb); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  }
+  // Query the optimal workspace, then allocate it in the arena
+  __nwork = &__qwork;
+  __nlwork = -1;
+  dgels_(__ntrans, &__nm, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, trans));
+  if (__ninfo != 0) goto done;
+  __nlwork = workspace_length(__qwork);
+  if (!(__workspace = arena_acquire(ARENA_WORK, ARENA_ALIGN(sizeof(double) * __nlwork)))) { __failed = TRUE; goto done; }
+  __nwork = (double*)(__workspace);
+  dgels_(__ntrans, &__nm, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, trans));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_double(env, b, offsetb, __rb, __nb);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
+  if (__workspace) arena_release(ARENA_WORK, __workspace);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgesddAllocK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jint m, jint n, jdoubleArray a, jint offseta, jint lda, jdoubleArray s, jint offsets, jdoubleArray u, jint offsetu, jint ldu, jdoubleArray vt, jint offsetvt, jint ldvt, jobject info) {
+  if (!dgesdd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobz = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldu __attribute__((aligned(8)));
+  int __nldvt __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__ns = NULL;
+  double *__nu = NULL;
+  double *__nvt = NULL;
+  double *__nwork = NULL;
+  int *__niwork = NULL;
+  double __qwork = 0;
+  int __qiwork = 0;
+  char *__workspace = NULL;
+  region_t __ra = { 0, 0, 0 }, __rs = { 0, 0, 0 }, __ru = { 0, 0, 0 }, __rvt = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
+  if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nlda = lda;
+  __nldu = ldu;
+  __nldvt = ldvt;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (s) { __rs = region(env, s, offsets, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(double) * __rs.span); }
+    if (u) { __ru = region(env, u, offsetu, (NETLIB_LSAME(__njobz, 'N') || (NETLIB_LSAME(__njobz, 'O') && m >= n) ? 0 : m), (NETLIB_LSAME(__njobz, 'S') ? NETLIB_MIN(m, n) : m), (ldu)); __size += ARENA_ALIGN(sizeof(double) * __ru.span); }
+    if (vt) { __rvt = region(env, vt, offsetvt, (NETLIB_LSAME(__njobz, 'N') || (NETLIB_LSAME(__njobz, 'O') && m < n) ? 0 : NETLIB_LSAME(__njobz, 'S') ? NETLIB_MIN(m, n) : n), (n), (ldvt)); __size += ARENA_ALIGN(sizeof(double) * __rvt.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (s) { __ns = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rs.span); region_get_double(env, s, offsets, __rs, __ns); }
+    if (u) { __nu = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ru.span); region_get_double(env, u, offsetu, __ru, __nu); }
+    if (vt) { __nvt = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rvt.span); region_get_double(env, vt, offsetvt, __rvt, __nvt); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
+    if (u) { if (!(__nu = (*env)->GetPrimitiveArrayCritical(env, u, NULL))) { __failed = TRUE; goto done; } }
+    if (vt) { if (!(__nvt = (*env)->GetPrimitiveArrayCritical(env, vt, NULL))) { __failed = TRUE; goto done; } }
+  }
+  // Query the optimal workspace, then allocate it in the arena
+  __nwork = &__qwork;
+  __nlwork = -1;
+  __niwork = &__qiwork;
+  dgesdd_(__njobz, &__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ns ? __ns + (__copy ? 0 : offsets) : NULL, __nu ? __nu + (__copy ? 0 : offsetu) : NULL, &__nldu, __nvt ? __nvt + (__copy ? 0 : offsetvt) : NULL, &__nldvt, __nwork, &__nlwork, __niwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz));
+  if (__ninfo != 0) goto done;
+  __nlwork = workspace_length(__qwork);
+  if (!(__workspace = arena_acquire(ARENA_WORK, ARENA_ALIGN(sizeof(double) * __nlwork) + ARENA_ALIGN(sizeof(int) * NETLIB_MAX(8 * NETLIB_MIN(m, n), 1))))) { __failed = TRUE; goto done; }
+  __nwork = (double*)(__workspace);
+  __niwork = (int*)(__workspace + ARENA_ALIGN(sizeof(double) * __nlwork));
+  dgesdd_(__njobz, &__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ns ? __ns + (__copy ? 0 : offsets) : NULL, __nu ? __nu + (__copy ? 0 : offsetu) : NULL, &__nldu, __nvt ? __nvt + (__copy ? 0 : offsetvt) : NULL, &__nldvt, __nwork, &__nlwork, __niwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__ns && !__failed) region_set_double(env, s, offsets, __rs, __ns);
+    if (__nu && !__failed) region_set_double(env, u, offsetu, __ru, __nu);
+    if (__nvt && !__failed) region_set_double(env, vt, offsetvt, __rvt, __nvt);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nvt) (*env)->ReleasePrimitiveArrayCritical(env, vt, __nvt, __failed ? JNI_ABORT : 0);
+    if (__nu) (*env)->ReleasePrimitiveArrayCritical(env, u, __nu, __failed ? JNI_ABORT : 0);
+    if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
+  if (__workspace) arena_release(ARENA_WORK, __workspace);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgesvdAllocK(JNIEnv *env, UNUSED jobject obj, jstring jobu, jstring jobvt, jint m, jint n, jdoubleArray a, jint offseta, jint lda, jdoubleArray s, jint offsets, jdoubleArray u, jint offsetu, jint ldu, jdoubleArray vt, jint offsetvt, jint ldvt, jobject info) {
+  if (!dgesvd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobu = NULL;
+  const char *__njobvt = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldu __attribute__((aligned(8)));
+  int __nldvt __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__ns = NULL;
+  double *__nu = NULL;
+  double *__nvt = NULL;
+  double *__nwork = NULL;
+  double __qwork = 0;
+  char *__workspace = NULL;
+  region_t __ra = { 0, 0, 0 }, __rs = { 0, 0, 0 }, __ru = { 0, 0, 0 }, __rvt = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
+  if (!(__njobu = (*env)->GetStringUTFChars(env, jobu, NULL))) { __failed = TRUE; goto done; }
+  if (!(__njobvt = (*env)->GetStringUTFChars(env, jobvt, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nlda = lda;
+  __nldu = ldu;
+  __nldvt = ldvt;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (s) { __rs = region(env, s, offsets, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(double) * __rs.span); }
+    if (u) { __ru = region(env, u, offsetu, (NETLIB_LSAME(__njobu, 'A') || NETLIB_LSAME(__njobu, 'S') ? m : 0), (NETLIB_LSAME(__njobu, 'A') ? m : NETLIB_MIN(m, n)), (ldu)); __size += ARENA_ALIGN(sizeof(double) * __ru.span); }
+    if (vt) { __rvt = region(env, vt, offsetvt, (NETLIB_LSAME(__njobvt, 'A') ? n : NETLIB_LSAME(__njobvt, 'S') ? NETLIB_MIN(m, n) : 0), (n), (ldvt)); __size += ARENA_ALIGN(sizeof(double) * __rvt.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (s) { __ns = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rs.span); region_get_double(env, s, offsets, __rs, __ns); }
+    if (u) { __nu = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ru.span); region_get_double(env, u, offsetu, __ru, __nu); }
+    if (vt) { __nvt = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rvt.span); region_get_double(env, vt, offsetvt, __rvt, __nvt); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
+    if (u) { if (!(__nu = (*env)->GetPrimitiveArrayCritical(env, u, NULL))) { __failed = TRUE; goto done; } }
+    if (vt) { if (!(__nvt = (*env)->GetPrimitiveArrayCritical(env, vt, NULL))) { __failed = TRUE; goto done; } }
+  }
+  // Query the optimal workspace, then allocate it in the arena
+  __nwork = &__qwork;
+  __nlwork = -1;
+  dgesvd_(__njobu, __njobvt, &__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ns ? __ns + (__copy ? 0 : offsets) : NULL, __nu ? __nu + (__copy ? 0 : offsetu) : NULL, &__nldu, __nvt ? __nvt + (__copy ? 0 : offsetvt) : NULL, &__nldvt, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobu), (*env)->GetStringUTFLength(env, jobvt));
+  if (__ninfo != 0) goto done;
+  __nlwork = workspace_length(__qwork);
+  if (!(__workspace = arena_acquire(ARENA_WORK, ARENA_ALIGN(sizeof(double) * __nlwork)))) { __failed = TRUE; goto done; }
+  __nwork = (double*)(__workspace);
+  dgesvd_(__njobu, __njobvt, &__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ns ? __ns + (__copy ? 0 : offsets) : NULL, __nu ? __nu + (__copy ? 0 : offsetu) : NULL, &__nldu, __nvt ? __nvt + (__copy ? 0 : offsetvt) : NULL, &__nldvt, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobu), (*env)->GetStringUTFLength(env, jobvt));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__ns && !__failed) region_set_double(env, s, offsets, __rs, __ns);
+    if (__nu && !__failed) region_set_double(env, u, offsetu, __ru, __nu);
+    if (__nvt && !__failed) region_set_double(env, vt, offsetvt, __rvt, __nvt);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nvt) (*env)->ReleasePrimitiveArrayCritical(env, vt, __nvt, __failed ? JNI_ABORT : 0);
+    if (__nu) (*env)->ReleasePrimitiveArrayCritical(env, u, __nu, __failed ? JNI_ABORT : 0);
+    if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
+  if (__workspace) arena_release(ARENA_WORK, __workspace);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__njobvt) (*env)->ReleaseStringUTFChars(env, jobvt, __njobvt);
+  if (__njobu) (*env)->ReleaseStringUTFChars(env, jobu, __njobu);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsyevAllocK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jstring uplo, jint n, jdoubleArray a, jint offseta, jint lda, jdoubleArray w, jint offsetw, jobject info) {
+  if (!dsyev_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobz = NULL;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__nw = NULL;
+  double *__nwork = NULL;
+  double __qwork = 0;
+  char *__workspace = NULL;
+  region_t __ra = { 0, 0, 0 }, __rw = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * n) >= copy_threshold;
+  if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(double) * __rw.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (w) { __nw = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rw.span); region_get_double(env, w, offsetw, __rw, __nw); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+  }
+  // Query the optimal workspace, then allocate it in the arena
+  __nwork = &__qwork;
+  __nlwork = -1;
+  dsyev_(__njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+  if (__ninfo != 0) goto done;
+  __nlwork = workspace_length(__qwork);
+  if (!(__workspace = arena_acquire(ARENA_WORK, ARENA_ALIGN(sizeof(double) * __nlwork)))) { __failed = TRUE; goto done; }
+  __nwork = (double*)(__workspace);
+  dsyev_(__njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nw && !__failed) region_set_double(env, w, offsetw, __rw, __nw);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
+  if (__workspace) arena_release(ARENA_WORK, __workspace);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsyevdAllocK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jstring uplo, jint n, jdoubleArray a, jint offseta, jint lda, jdoubleArray w, jint offsetw, jobject info) {
+  if (!dsyevd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobz = NULL;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __nliwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__nw = NULL;
+  double *__nwork = NULL;
+  int *__niwork = NULL;
+  double __qwork = 0;
+  int __qiwork = 0;
+  char *__workspace = NULL;
+  region_t __ra = { 0, 0, 0 }, __rw = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * n) >= copy_threshold;
+  if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(double) * __ra.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(double) * __rw.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __ra.span); region_get_double(env, a, offseta, __ra, __na); }
+    if (w) { __nw = (double*)(__arena + __size); __size += ARENA_ALIGN(sizeof(double) * __rw.span); region_get_double(env, w, offsetw, __rw, __nw); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+  }
+  // Query the optimal workspace, then allocate it in the arena
+  __nwork = &__qwork;
+  __nlwork = -1;
+  __niwork = &__qiwork;
+  __nliwork = -1;
+  dsyevd_(__njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork, &__nlwork, __niwork, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+  if (__ninfo != 0) goto done;
+  __nlwork = workspace_length(__qwork);
+  __nliwork = workspace_length(__qiwork);
+  if (!(__workspace = arena_acquire(ARENA_WORK, ARENA_ALIGN(sizeof(double) * __nlwork) + ARENA_ALIGN(sizeof(int) * __nliwork)))) { __failed = TRUE; goto done; }
+  __nwork = (double*)(__workspace);
+  __niwork = (int*)(__workspace + ARENA_ALIGN(sizeof(double) * __nlwork));
+  dsyevd_(__njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork, &__nlwork, __niwork, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_double(env, a, offseta, __ra, __na);
+    if (__nw && !__failed) region_set_double(env, w, offsetw, __rw, __nw);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
+  if (__workspace) arena_release(ARENA_WORK, __workspace);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgeevAllocK(JNIEnv *env, UNUSED jobject obj, jstring jobvl, jstring jobvr, jint n, jfloatArray a, jint offseta, jint lda, jfloatArray wr, jint offsetwr, jfloatArray wi, jint offsetwi, jfloatArray vl, jint offsetvl, jint ldvl, jfloatArray vr, jint offsetvr, jint ldvr, jobject info) {
+  if (!sgeev_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobvl = NULL;
+  const char *__njobvr = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldvl __attribute__((aligned(8)));
+  int __nldvr __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__nwr = NULL;
+  float *__nwi = NULL;
+  float *__nvl = NULL;
+  float *__nvr = NULL;
+  float *__nwork = NULL;
+  float __qwork = 0;
+  char *__workspace = NULL;
+  region_t __ra = { 0, 0, 0 }, __rwr = { 0, 0, 0 }, __rwi = { 0, 0, 0 }, __rvl = { 0, 0, 0 }, __rvr = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * n) >= copy_threshold;
+  if (!(__njobvl = (*env)->GetStringUTFChars(env, jobvl, NULL))) { __failed = TRUE; goto done; }
+  if (!(__njobvr = (*env)->GetStringUTFChars(env, jobvr, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __nldvl = ldvl;
+  __nldvr = ldvr;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (wr) { __rwr = region(env, wr, offsetwr, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(float) * __rwr.span); }
+    if (wi) { __rwi = region(env, wi, offsetwi, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(float) * __rwi.span); }
+    if (vl) { __rvl = region(env, vl, offsetvl, (NETLIB_LSAME(__njobvl, 'V') ? n : 0), (n), (ldvl)); __size += ARENA_ALIGN(sizeof(float) * __rvl.span); }
+    if (vr) { __rvr = region(env, vr, offsetvr, (NETLIB_LSAME(__njobvr, 'V') ? n : 0), (n), (ldvr)); __size += ARENA_ALIGN(sizeof(float) * __rvr.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (wr) { __nwr = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwr.span); region_get_float(env, wr, offsetwr, __rwr, __nwr); }
+    if (wi) { __nwi = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rwi.span); region_get_float(env, wi, offsetwi, __rwi, __nwi); }
+    if (vl) { __nvl = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rvl.span); region_get_float(env, vl, offsetvl, __rvl, __nvl); }
+    if (vr) { __nvr = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rvr.span); region_get_float(env, vr, offsetvr, __rvr, __nvr); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (wr) { if (!(__nwr = (*env)->GetPrimitiveArrayCritical(env, wr, NULL))) { __failed = TRUE; goto done; } }
+    if (wi) { if (!(__nwi = (*env)->GetPrimitiveArrayCritical(env, wi, NULL))) { __failed = TRUE; goto done; } }
+    if (vl) { if (!(__nvl = (*env)->GetPrimitiveArrayCritical(env, vl, NULL))) { __failed = TRUE; goto done; } }
+    if (vr) { if (!(__nvr = (*env)->GetPrimitiveArrayCritical(env, vr, NULL))) { __failed = TRUE; goto done; } }
+  }
+  // Query the optimal workspace, then allocate it in the arena
+  __nwork = &__qwork;
+  __nlwork = -1;
+  sgeev_(__njobvl, __njobvr, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nwr ? __nwr + (__copy ? 0 : offsetwr) : NULL, __nwi ? __nwi + (__copy ? 0 : offsetwi) : NULL, __nvl ? __nvl + (__copy ? 0 : offsetvl) : NULL, &__nldvl, __nvr ? __nvr + (__copy ? 0 : offsetvr) : NULL, &__nldvr, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobvl), (*env)->GetStringUTFLength(env, jobvr));
+  if (__ninfo != 0) goto done;
+  __nlwork = workspace_length(__qwork);
+  if (!(__workspace = arena_acquire(ARENA_WORK, ARENA_ALIGN(sizeof(float) * __nlwork)))) { __failed = TRUE; goto done; }
+  __nwork = (float*)(__workspace);
+  sgeev_(__njobvl, __njobvr, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nwr ? __nwr + (__copy ? 0 : offsetwr) : NULL, __nwi ? __nwi + (__copy ? 0 : offsetwi) : NULL, __nvl ? __nvl + (__copy ? 0 : offsetvl) : NULL, &__nldvl, __nvr ? __nvr + (__copy ? 0 : offsetvr) : NULL, &__nldvr, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobvl), (*env)->GetStringUTFLength(env, jobvr));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nwr && !__failed) region_set_float(env, wr, offsetwr, __rwr, __nwr);
+    if (__nwi && !__failed) region_set_float(env, wi, offsetwi, __rwi, __nwi);
+    if (__nvl && !__failed) region_set_float(env, vl, offsetvl, __rvl, __nvl);
+    if (__nvr && !__failed) region_set_float(env, vr, offsetvr, __rvr, __nvr);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nvr) (*env)->ReleasePrimitiveArrayCritical(env, vr, __nvr, __failed ? JNI_ABORT : 0);
+    if (__nvl) (*env)->ReleasePrimitiveArrayCritical(env, vl, __nvl, __failed ? JNI_ABORT : 0);
+    if (__nwi) (*env)->ReleasePrimitiveArrayCritical(env, wi, __nwi, __failed ? JNI_ABORT : 0);
+    if (__nwr) (*env)->ReleasePrimitiveArrayCritical(env, wr, __nwr, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
+  if (__workspace) arena_release(ARENA_WORK, __workspace);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__njobvr) (*env)->ReleaseStringUTFChars(env, jobvr, __njobvr);
+  if (__njobvl) (*env)->ReleaseStringUTFChars(env, jobvl, __njobvl);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgelsAllocK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jint nrhs, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb, jobject info) {
+  if (!sgels_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__nb = NULL;
+  float *__nwork = NULL;
+  float __qwork = 0;
+  char *__workspace = NULL;
+  region_t __ra = { 0, 0, 0 }, __rb = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * (NETLIB_MIN(m, n) + nrhs)) >= copy_threshold;
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (b) { __rb = region(env, b, offsetb, (NETLIB_MAX(m, n)), (nrhs), (ldb)); __size += ARENA_ALIGN(sizeof(float) * __rb.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (b) { __nb = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rb.span); region_get_float(env, b, offsetb, __rb, __nb); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  }
+  // Query the optimal workspace, then allocate it in the arena
+  __nwork = &__qwork;
+  __nlwork = -1;
+  sgels_(__ntrans, &__nm, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, trans));
+  if (__ninfo != 0) goto done;
+  __nlwork = workspace_length(__qwork);
+  if (!(__workspace = arena_acquire(ARENA_WORK, ARENA_ALIGN(sizeof(float) * __nlwork)))) { __failed = TRUE; goto done; }
+  __nwork = (float*)(__workspace);
+  sgels_(__ntrans, &__nm, &__nn, &__nnrhs, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nb ? __nb + (__copy ? 0 : offsetb) : NULL, &__nldb, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, trans));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nb && !__failed) region_set_float(env, b, offsetb, __rb, __nb);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
+  if (__workspace) arena_release(ARENA_WORK, __workspace);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgesddAllocK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jint m, jint n, jfloatArray a, jint offseta, jint lda, jfloatArray s, jint offsets, jfloatArray u, jint offsetu, jint ldu, jfloatArray vt, jint offsetvt, jint ldvt, jobject info) {
+  if (!sgesdd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobz = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldu __attribute__((aligned(8)));
+  int __nldvt __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__ns = NULL;
+  float *__nu = NULL;
+  float *__nvt = NULL;
+  float *__nwork = NULL;
+  int *__niwork = NULL;
+  float __qwork = 0;
+  int __qiwork = 0;
+  char *__workspace = NULL;
+  region_t __ra = { 0, 0, 0 }, __rs = { 0, 0, 0 }, __ru = { 0, 0, 0 }, __rvt = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
+  if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nlda = lda;
+  __nldu = ldu;
+  __nldvt = ldvt;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (s) { __rs = region(env, s, offsets, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(float) * __rs.span); }
+    if (u) { __ru = region(env, u, offsetu, (NETLIB_LSAME(__njobz, 'N') || (NETLIB_LSAME(__njobz, 'O') && m >= n) ? 0 : m), (NETLIB_LSAME(__njobz, 'S') ? NETLIB_MIN(m, n) : m), (ldu)); __size += ARENA_ALIGN(sizeof(float) * __ru.span); }
+    if (vt) { __rvt = region(env, vt, offsetvt, (NETLIB_LSAME(__njobz, 'N') || (NETLIB_LSAME(__njobz, 'O') && m < n) ? 0 : NETLIB_LSAME(__njobz, 'S') ? NETLIB_MIN(m, n) : n), (n), (ldvt)); __size += ARENA_ALIGN(sizeof(float) * __rvt.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (s) { __ns = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rs.span); region_get_float(env, s, offsets, __rs, __ns); }
+    if (u) { __nu = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ru.span); region_get_float(env, u, offsetu, __ru, __nu); }
+    if (vt) { __nvt = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rvt.span); region_get_float(env, vt, offsetvt, __rvt, __nvt); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
+    if (u) { if (!(__nu = (*env)->GetPrimitiveArrayCritical(env, u, NULL))) { __failed = TRUE; goto done; } }
+    if (vt) { if (!(__nvt = (*env)->GetPrimitiveArrayCritical(env, vt, NULL))) { __failed = TRUE; goto done; } }
+  }
+  // Query the optimal workspace, then allocate it in the arena
+  __nwork = &__qwork;
+  __nlwork = -1;
+  __niwork = &__qiwork;
+  sgesdd_(__njobz, &__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ns ? __ns + (__copy ? 0 : offsets) : NULL, __nu ? __nu + (__copy ? 0 : offsetu) : NULL, &__nldu, __nvt ? __nvt + (__copy ? 0 : offsetvt) : NULL, &__nldvt, __nwork, &__nlwork, __niwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz));
+  if (__ninfo != 0) goto done;
+  __nlwork = workspace_length(__qwork);
+  if (!(__workspace = arena_acquire(ARENA_WORK, ARENA_ALIGN(sizeof(float) * __nlwork) + ARENA_ALIGN(sizeof(int) * NETLIB_MAX(8 * NETLIB_MIN(m, n), 1))))) { __failed = TRUE; goto done; }
+  __nwork = (float*)(__workspace);
+  __niwork = (int*)(__workspace + ARENA_ALIGN(sizeof(float) * __nlwork));
+  sgesdd_(__njobz, &__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ns ? __ns + (__copy ? 0 : offsets) : NULL, __nu ? __nu + (__copy ? 0 : offsetu) : NULL, &__nldu, __nvt ? __nvt + (__copy ? 0 : offsetvt) : NULL, &__nldvt, __nwork, &__nlwork, __niwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__ns && !__failed) region_set_float(env, s, offsets, __rs, __ns);
+    if (__nu && !__failed) region_set_float(env, u, offsetu, __ru, __nu);
+    if (__nvt && !__failed) region_set_float(env, vt, offsetvt, __rvt, __nvt);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nvt) (*env)->ReleasePrimitiveArrayCritical(env, vt, __nvt, __failed ? JNI_ABORT : 0);
+    if (__nu) (*env)->ReleasePrimitiveArrayCritical(env, u, __nu, __failed ? JNI_ABORT : 0);
+    if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
+  if (__workspace) arena_release(ARENA_WORK, __workspace);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgesvdAllocK(JNIEnv *env, UNUSED jobject obj, jstring jobu, jstring jobvt, jint m, jint n, jfloatArray a, jint offseta, jint lda, jfloatArray s, jint offsets, jfloatArray u, jint offsetu, jint ldu, jfloatArray vt, jint offsetvt, jint ldvt, jobject info) {
+  if (!sgesvd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobu = NULL;
+  const char *__njobvt = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldu __attribute__((aligned(8)));
+  int __nldvt __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__ns = NULL;
+  float *__nu = NULL;
+  float *__nvt = NULL;
+  float *__nwork = NULL;
+  float __qwork = 0;
+  char *__workspace = NULL;
+  region_t __ra = { 0, 0, 0 }, __rs = { 0, 0, 0 }, __ru = { 0, 0, 0 }, __rvt = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)m * n * NETLIB_MIN(m, n)) >= copy_threshold;
+  if (!(__njobu = (*env)->GetStringUTFChars(env, jobu, NULL))) { __failed = TRUE; goto done; }
+  if (!(__njobvt = (*env)->GetStringUTFChars(env, jobvt, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nlda = lda;
+  __nldu = ldu;
+  __nldvt = ldvt;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (m), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (s) { __rs = region(env, s, offsets, (NETLIB_MIN(m, n)), (1), (NETLIB_MIN(m, n))); __size += ARENA_ALIGN(sizeof(float) * __rs.span); }
+    if (u) { __ru = region(env, u, offsetu, (NETLIB_LSAME(__njobu, 'A') || NETLIB_LSAME(__njobu, 'S') ? m : 0), (NETLIB_LSAME(__njobu, 'A') ? m : NETLIB_MIN(m, n)), (ldu)); __size += ARENA_ALIGN(sizeof(float) * __ru.span); }
+    if (vt) { __rvt = region(env, vt, offsetvt, (NETLIB_LSAME(__njobvt, 'A') ? n : NETLIB_LSAME(__njobvt, 'S') ? NETLIB_MIN(m, n) : 0), (n), (ldvt)); __size += ARENA_ALIGN(sizeof(float) * __rvt.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (s) { __ns = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rs.span); region_get_float(env, s, offsets, __rs, __ns); }
+    if (u) { __nu = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ru.span); region_get_float(env, u, offsetu, __ru, __nu); }
+    if (vt) { __nvt = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rvt.span); region_get_float(env, vt, offsetvt, __rvt, __nvt); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (s) { if (!(__ns = (*env)->GetPrimitiveArrayCritical(env, s, NULL))) { __failed = TRUE; goto done; } }
+    if (u) { if (!(__nu = (*env)->GetPrimitiveArrayCritical(env, u, NULL))) { __failed = TRUE; goto done; } }
+    if (vt) { if (!(__nvt = (*env)->GetPrimitiveArrayCritical(env, vt, NULL))) { __failed = TRUE; goto done; } }
+  }
+  // Query the optimal workspace, then allocate it in the arena
+  __nwork = &__qwork;
+  __nlwork = -1;
+  sgesvd_(__njobu, __njobvt, &__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ns ? __ns + (__copy ? 0 : offsets) : NULL, __nu ? __nu + (__copy ? 0 : offsetu) : NULL, &__nldu, __nvt ? __nvt + (__copy ? 0 : offsetvt) : NULL, &__nldvt, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobu), (*env)->GetStringUTFLength(env, jobvt));
+  if (__ninfo != 0) goto done;
+  __nlwork = workspace_length(__qwork);
+  if (!(__workspace = arena_acquire(ARENA_WORK, ARENA_ALIGN(sizeof(float) * __nlwork)))) { __failed = TRUE; goto done; }
+  __nwork = (float*)(__workspace);
+  sgesvd_(__njobu, __njobvt, &__nm, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __ns ? __ns + (__copy ? 0 : offsets) : NULL, __nu ? __nu + (__copy ? 0 : offsetu) : NULL, &__nldu, __nvt ? __nvt + (__copy ? 0 : offsetvt) : NULL, &__nldvt, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobu), (*env)->GetStringUTFLength(env, jobvt));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__ns && !__failed) region_set_float(env, s, offsets, __rs, __ns);
+    if (__nu && !__failed) region_set_float(env, u, offsetu, __ru, __nu);
+    if (__nvt && !__failed) region_set_float(env, vt, offsetvt, __rvt, __nvt);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nvt) (*env)->ReleasePrimitiveArrayCritical(env, vt, __nvt, __failed ? JNI_ABORT : 0);
+    if (__nu) (*env)->ReleasePrimitiveArrayCritical(env, u, __nu, __failed ? JNI_ABORT : 0);
+    if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
+  if (__workspace) arena_release(ARENA_WORK, __workspace);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__njobvt) (*env)->ReleaseStringUTFChars(env, jobvt, __njobvt);
+  if (__njobu) (*env)->ReleaseStringUTFChars(env, jobu, __njobu);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssyevAllocK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jstring uplo, jint n, jfloatArray a, jint offseta, jint lda, jfloatArray w, jint offsetw, jobject info) {
+  if (!ssyev_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobz = NULL;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__nw = NULL;
+  float *__nwork = NULL;
+  float __qwork = 0;
+  char *__workspace = NULL;
+  region_t __ra = { 0, 0, 0 }, __rw = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * n) >= copy_threshold;
+  if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(float) * __rw.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (w) { __nw = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rw.span); region_get_float(env, w, offsetw, __rw, __nw); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+  }
+  // Query the optimal workspace, then allocate it in the arena
+  __nwork = &__qwork;
+  __nlwork = -1;
+  ssyev_(__njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+  if (__ninfo != 0) goto done;
+  __nlwork = workspace_length(__qwork);
+  if (!(__workspace = arena_acquire(ARENA_WORK, ARENA_ALIGN(sizeof(float) * __nlwork)))) { __failed = TRUE; goto done; }
+  __nwork = (float*)(__workspace);
+  ssyev_(__njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork, &__nlwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nw && !__failed) region_set_float(env, w, offsetw, __rw, __nw);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
+  if (__workspace) arena_release(ARENA_WORK, __workspace);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssyevdAllocK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jstring uplo, jint n, jfloatArray a, jint offseta, jint lda, jfloatArray w, jint offsetw, jobject info) {
+  if (!ssyevd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobz = NULL;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __nliwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__nw = NULL;
+  float *__nwork = NULL;
+  int *__niwork = NULL;
+  float __qwork = 0;
+  int __qiwork = 0;
+  char *__workspace = NULL;
+  region_t __ra = { 0, 0, 0 }, __rw = { 0, 0, 0 };
+  char *__arena = NULL;
+  jboolean __copy = (double)((double)n * n * n) >= copy_threshold;
+  if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (__copy) {
+    size_t __size = 0;
+    if (a) { __ra = region(env, a, offseta, (n), (n), (lda)); __size += ARENA_ALIGN(sizeof(float) * __ra.span); }
+    if (w) { __rw = region(env, w, offsetw, (n), (1), (n)); __size += ARENA_ALIGN(sizeof(float) * __rw.span); }
+    if (!(__arena = arena_acquire(ARENA_COPY, __size))) { __failed = TRUE; goto done; }
+    __size = 0;
+    if (a) { __na = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __ra.span); region_get_float(env, a, offseta, __ra, __na); }
+    if (w) { __nw = (float*)(__arena + __size); __size += ARENA_ALIGN(sizeof(float) * __rw.span); region_get_float(env, w, offsetw, __rw, __nw); }
+  } else {
+    if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+    if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+  }
+  // Query the optimal workspace, then allocate it in the arena
+  __nwork = &__qwork;
+  __nlwork = -1;
+  __niwork = &__qiwork;
+  __nliwork = -1;
+  ssyevd_(__njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork, &__nlwork, __niwork, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+  if (__ninfo != 0) goto done;
+  __nlwork = workspace_length(__qwork);
+  __nliwork = workspace_length(__qiwork);
+  if (!(__workspace = arena_acquire(ARENA_WORK, ARENA_ALIGN(sizeof(float) * __nlwork) + ARENA_ALIGN(sizeof(int) * __nliwork)))) { __failed = TRUE; goto done; }
+  __nwork = (float*)(__workspace);
+  __niwork = (int*)(__workspace + ARENA_ALIGN(sizeof(float) * __nlwork));
+  ssyevd_(__njobz, __nuplo, &__nn, __na ? __na + (__copy ? 0 : offseta) : NULL, &__nlda, __nw ? __nw + (__copy ? 0 : offsetw) : NULL, __nwork, &__nlwork, __niwork, &__nliwork, &__ninfo, (*env)->GetStringUTFLength(env, jobz), (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (__copy) {
+    if (__na && !__failed) region_set_float(env, a, offseta, __ra, __na);
+    if (__nw && !__failed) region_set_float(env, w, offsetw, __rw, __nw);
+    if (__arena) arena_release(ARENA_COPY, __arena);
+  } else {
+    if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+    if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  }
+  if (__workspace) arena_release(ARENA_WORK, __workspace);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgesvDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject ipiv, jint offsetipiv, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!dgesv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  int *__nipiv = NULL;
+  double *__nb = NULL;
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetDirectBufferAddress(env, ipiv))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  dgesv_(&__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgetrfDirectK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jobject a, jint offseta, jint lda, jobject ipiv, jint offsetipiv, jobject info) {
+  if (!dgetrf_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  int *__nipiv = NULL;
+  __nm = m;
+  __nn = n;
+  __nlda = lda;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetDirectBufferAddress(env, ipiv))) { __failed = TRUE; goto done; } }
+  dgetrf_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgetrsDirectK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject ipiv, jint offsetipiv, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!dgetrs_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  int *__nipiv = NULL;
+  double *__nb = NULL;
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetDirectBufferAddress(env, ipiv))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  dgetrs_(__ntrans, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, trans));
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dposvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!dposv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__nb = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  dposv_(__nuplo, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dpotrfDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jobject a, jint offseta, jint lda, jobject info) {
+  if (!dpotrf_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  dpotrf_(__nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dpotrsDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!dpotrs_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__nb = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  dpotrs_(__nuplo, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgesvDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject ipiv, jint offsetipiv, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!sgesv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  int *__nipiv = NULL;
+  float *__nb = NULL;
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetDirectBufferAddress(env, ipiv))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  sgesv_(&__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgetrfDirectK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jobject a, jint offseta, jint lda, jobject ipiv, jint offsetipiv, jobject info) {
+  if (!sgetrf_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  int *__nipiv = NULL;
+  __nm = m;
+  __nn = n;
+  __nlda = lda;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetDirectBufferAddress(env, ipiv))) { __failed = TRUE; goto done; } }
+  sgetrf_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgetrsDirectK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject ipiv, jint offsetipiv, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!sgetrs_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  int *__nipiv = NULL;
+  float *__nb = NULL;
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetDirectBufferAddress(env, ipiv))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  sgetrs_(__ntrans, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, trans));
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sposvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!sposv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__nb = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  sposv_(__nuplo, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_spotrfDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jobject a, jint offseta, jint lda, jobject info) {
+  if (!spotrf_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  spotrf_(__nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_spotrsDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!spotrs_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__nb = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  spotrs_(__nuplo, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo, (*env)->GetStringUTFLength(env, uplo));
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+#define LAPACK_ROW_MAJOR 101
+
+static int (*LAPACKE_dgesv_work)(int matrix_layout, int n, int nrhs, double *a, int lda, int *ipiv, double *b, int ldb);
+
+jint Java_dev_ludovic_netlib_lapack_JNILAPACK_lapackeDgesvK(JNIEnv *env, UNUSED jobject obj, jint n, jint nrhs, jdoubleArray a, jint offseta, jint lda, jintArray ipiv, jint offsetipiv, jdoubleArray b, jint offsetb, jint ldb) {
+  jboolean __failed = FALSE;
+  jint __info = 0;
+  double *__na = NULL;
+  int *__nipiv = NULL;
+  double *__nb = NULL;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  __info = LAPACKE_dgesv_work(LAPACK_ROW_MAJOR, n, nrhs, __na ? __na + offseta : NULL, lda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, ldb);
+done:
+  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+  if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __info;
+}
+
+static int (*LAPACKE_dposv_work)(int matrix_layout, char uplo, int n, int nrhs, double *a, int lda, double *b, int ldb);
+
+jint Java_dev_ludovic_netlib_lapack_JNILAPACK_lapackeDposvK(JNIEnv *env, UNUSED jobject obj, jchar uplo, jint n, jint nrhs, jdoubleArray a, jint offseta, jint lda, jdoubleArray b, jint offsetb, jint ldb) {
+  jboolean __failed = FALSE;
+  jint __info = 0;
+  double *__na = NULL;
+  double *__nb = NULL;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  __info = LAPACKE_dposv_work(LAPACK_ROW_MAJOR, (char)uplo, n, nrhs, __na ? __na + offseta : NULL, lda, __nb ? __nb + offsetb : NULL, ldb);
+done:
+  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __info;
+}
+
+static int (*LAPACKE_dsyev_work)(int matrix_layout, char jobz, char uplo, int n, double *a, int lda, double *w, double *work, int lwork);
+
+jint Java_dev_ludovic_netlib_lapack_JNILAPACK_lapackeDsyevK(JNIEnv *env, UNUSED jobject obj, jchar jobz, jchar uplo, jint n, jdoubleArray a, jint offseta, jint lda, jdoubleArray w, jint offsetw, jdoubleArray work, jint offsetwork, jint lwork) {
+  jboolean __failed = FALSE;
+  jint __info = 0;
+  double *__na = NULL;
+  double *__nw = NULL;
+  double *__nwork = NULL;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  __info = LAPACKE_dsyev_work(LAPACK_ROW_MAJOR, (char)jobz, (char)uplo, n, __na ? __na + offseta : NULL, lda, __nw ? __nw + offsetw : NULL, __nwork ? __nwork + offsetwork : NULL, lwork);
+done:
+  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+  if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __info;
+}
+
+static int (*LAPACKE_sgesv_work)(int matrix_layout, int n, int nrhs, float *a, int lda, int *ipiv, float *b, int ldb);
+
+jint Java_dev_ludovic_netlib_lapack_JNILAPACK_lapackeSgesvK(JNIEnv *env, UNUSED jobject obj, jint n, jint nrhs, jfloatArray a, jint offseta, jint lda, jintArray ipiv, jint offsetipiv, jfloatArray b, jint offsetb, jint ldb) {
+  jboolean __failed = FALSE;
+  jint __info = 0;
+  float *__na = NULL;
+  int *__nipiv = NULL;
+  float *__nb = NULL;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetPrimitiveArrayCritical(env, ipiv, NULL))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  __info = LAPACKE_sgesv_work(LAPACK_ROW_MAJOR, n, nrhs, __na ? __na + offseta : NULL, lda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, ldb);
+done:
+  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+  if (__nipiv) (*env)->ReleasePrimitiveArrayCritical(env, ipiv, __nipiv, __failed ? JNI_ABORT : 0);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __info;
+}
+
+static int (*LAPACKE_sposv_work)(int matrix_layout, char uplo, int n, int nrhs, float *a, int lda, float *b, int ldb);
+
+jint Java_dev_ludovic_netlib_lapack_JNILAPACK_lapackeSposvK(JNIEnv *env, UNUSED jobject obj, jchar uplo, jint n, jint nrhs, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb) {
+  jboolean __failed = FALSE;
+  jint __info = 0;
+  float *__na = NULL;
+  float *__nb = NULL;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  __info = LAPACKE_sposv_work(LAPACK_ROW_MAJOR, (char)uplo, n, nrhs, __na ? __na + offseta : NULL, lda, __nb ? __nb + offsetb : NULL, ldb);
+done:
+  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, __failed ? JNI_ABORT : 0);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __info;
+}
+
+static int (*LAPACKE_ssyev_work)(int matrix_layout, char jobz, char uplo, int n, float *a, int lda, float *w, float *work, int lwork);
+
+jint Java_dev_ludovic_netlib_lapack_JNILAPACK_lapackeSsyevK(JNIEnv *env, UNUSED jobject obj, jchar jobz, jchar uplo, jint n, jfloatArray a, jint offseta, jint lda, jfloatArray w, jint offsetw, jfloatArray work, jint offsetwork, jint lwork) {
+  jboolean __failed = FALSE;
+  jint __info = 0;
+  float *__na = NULL;
+  float *__nw = NULL;
+  float *__nwork = NULL;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (w) { if (!(__nw = (*env)->GetPrimitiveArrayCritical(env, w, NULL))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
+  __info = LAPACKE_ssyev_work(LAPACK_ROW_MAJOR, (char)jobz, (char)uplo, n, __na ? __na + offseta : NULL, lda, __nw ? __nw + offsetw : NULL, __nwork ? __nwork + offsetwork : NULL, lwork);
+done:
+  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+  if (__nw) (*env)->ReleasePrimitiveArrayCritical(env, w, __nw, __failed ? JNI_ABORT : 0);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __info;
+}
+
+// Whether the native library exports the LAPACKE row-major entry points
+jboolean Java_dev_ludovic_netlib_lapack_JNILAPACK_lapackeK(UNUSED JNIEnv *env, UNUSED jobject obj) {
+  return LAPACKE_dgesv_work && LAPACKE_dposv_work && LAPACKE_dsyev_work && LAPACKE_sgesv_work && LAPACKE_sposv_work && LAPACKE_ssyev_work;
+}
+
+jboolean get_system_property(JNIEnv *env, jstring key, jstring def, jstring *res) {
+  jclass System_class = (*env)->FindClass(env, "java/lang/System");
+  if (!System_class) {
+    return FALSE;
+  }
+  jmethodID System_getProperty_methodID = (*env)->GetStaticMethodID(env, System_class, "getProperty", "(Ljava/lang/String;Ljava/lang/String;)Ljava/lang/String;");
+  if (!System_getProperty_methodID) {
+    return FALSE;
+  }
+  *res = (jstring)(*env)->CallStaticObjectMethod(env, System_class, System_getProperty_methodID, key, def);
+  return TRUE;
+}
+
+jboolean load_symbols(void *libhandle) {
 #define LOAD_SYMBOL(name) \
   name = dlsym(libhandle, #name);
 
@@ -29074,6 +31831,12 @@ jboolean load_symbols(void *libhandle) {
   LOAD_SYMBOL(slamc3_);
   // LOAD_SYMBOL(slamc4_);
   // LOAD_SYMBOL(slamc5_);
+  LOAD_SYMBOL(LAPACKE_dgesv_work);
+  LOAD_SYMBOL(LAPACKE_dposv_work);
+  LOAD_SYMBOL(LAPACKE_dsyev_work);
+  LOAD_SYMBOL(LAPACKE_sgesv_work);
+  LOAD_SYMBOL(LAPACKE_sposv_work);
+  LOAD_SYMBOL(LAPACKE_ssyev_work);
 
 #undef LOAD_SYMBOL
  return TRUE;
@@ -29187,9 +31950,35 @@ jint JNI_OnLoad(JavaVM *vm, UNUSED void *reserved) {
     return -1;
   }
 
+  jstring property_jniCopyThreshold;
+  if (!get_system_property(env, (*env)->NewStringUTF(env, "dev.ludovic.netlib.lapack.jniCopyThreshold"), NULL, &property_jniCopyThreshold)) {
+    fprintf(stderr, "netlib-lapack: JNI_OnLoad: get_system_property jniCopyThreshold failed\n");
+    return -1;
+  }
+  if (property_jniCopyThreshold) {
+    const char *utf = (*env)->GetStringUTFChars(env, property_jniCopyThreshold, NULL);
+    char *end;
+    double threshold = strtod(utf, &end);
+    if (end != utf && *end == '\0') {
+      copy_threshold = threshold;
+    } else {
+      fprintf(stderr, "netlib-lapack: JNI_OnLoad: ignoring invalid jniCopyThreshold %s\n", utf);
+    }
+    (*env)->ReleaseStringUTFChars(env, property_jniCopyThreshold, utf);
+  }
+#ifndef _WIN32
+  if (pthread_key_create(&arena_key, arena_destroy)) {
+    fprintf(stderr, "netlib-lapack: JNI_OnLoad: pthread_key_create failed\n");
+    return -1;
+  }
+#endif
+
   return JNI_VERSION_1_8;
 }
 
 void JNI_OnUnload(UNUSED JavaVM *vm, UNUSED void *reserved) {
+#ifndef _WIN32
+  pthread_key_delete(arena_key);
+#endif
   dlclose(libhandle);
 }
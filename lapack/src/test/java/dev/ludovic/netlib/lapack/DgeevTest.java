@@ -65,4 +65,34 @@ public class DgeevTest extends LAPACKTest {
         java.util.Arrays.sort(wr_actual);
         assertArrayEquals(wr_expected, wr_actual, depsilon * 100);
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testWithoutWorkspace(LAPACK lapack) {
+        int offset = 2;
+        int n = N;
+        double[] a_expected = copyOf(generatePositiveDefiniteMatrix(n), n * n, offset);
+        double[] a_actual = a_expected.clone();
+        double[] wr_expected = new double[offset + n], wr_actual = new double[offset + n];
+        double[] wi_expected = new double[offset + n], wi_actual = new double[offset + n];
+        double[] vl = new double[1];
+        double[] vr_expected = new double[offset + n * n], vr_actual = new double[offset + n * n];
+
+        // Reference with a workspace queried and allocated by the caller
+        double[] query = new double[1];
+        intW info_expected = new intW(0);
+        lapack.dgeev("N", "V", n, a_expected, offset, n, wr_expected, offset, wi_expected, offset, vl, 0, 1, vr_expected, offset, n, query, 0, -1, info_expected);
+        assertEquals(0, info_expected.val);
+        int lwork = (int)query[0];
+        lapack.dgeev("N", "V", n, a_expected, offset, n, wr_expected, offset, wi_expected, offset, vl, 0, 1, vr_expected, offset, n, new double[lwork], 0, lwork, info_expected);
+        assertEquals(0, info_expected.val);
+
+        intW info_actual = new intW(0);
+        lapack.dgeev("N", "V", n, a_actual, offset, n, wr_actual, offset, wi_actual, offset, vl, 0, 1, vr_actual, offset, n, info_actual);
+        assertEquals(0, info_actual.val);
+
+        assertArrayEquals(wr_expected, wr_actual, depsilon * N);
+        assertArrayEquals(wi_expected, wi_actual, depsilon * N);
+        assertArrayEquals(vr_expected, vr_actual, depsilon * N);
+    }
 }
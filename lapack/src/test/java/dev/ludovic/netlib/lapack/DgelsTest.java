@@ -90,4 +90,31 @@ public class DgelsTest extends LAPACKTest {
         System.arraycopy(b_actual, 0, x_actual, 0, n);
         assertArrayEquals(x_expected, x_actual, Math.scalb(depsilon, Math.getExponent(getMaxValue(x_expected)) + 2));
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testWithoutWorkspace(LAPACK lapack) {
+        int offset = 2;
+        int m = N, n = M, nrhs = 2;
+        double[] a_expected = copyOf(generatePositiveDefiniteMatrix(m), m * n, offset);
+        double[] a_actual = a_expected.clone();
+        double[] b_expected = copyOf(generateMatrix(m, nrhs, 1.0), m * nrhs, offset);
+        double[] b_actual = b_expected.clone();
+
+        // Reference with a workspace queried and allocated by the caller
+        double[] query = new double[1];
+        intW info_expected = new intW(0);
+        lapack.dgels("N", m, n, nrhs, a_expected, offset, m, b_expected, offset, m, query, 0, -1, info_expected);
+        assertEquals(0, info_expected.val);
+        int lwork = (int)query[0];
+        lapack.dgels("N", m, n, nrhs, a_expected, offset, m, b_expected, offset, m, new double[lwork], 0, lwork, info_expected);
+        assertEquals(0, info_expected.val);
+
+        intW info_actual = new intW(0);
+        lapack.dgels("N", m, n, nrhs, a_actual, offset, m, b_actual, offset, m, info_actual);
+        assertEquals(0, info_actual.val);
+
+        assertArrayEquals(a_expected, a_actual, depsilon * N);
+        assertArrayEquals(b_expected, b_actual, depsilon * N);
+    }
 }
@@ -128,4 +128,33 @@ public class DgesvdTest extends LAPACKTest {
 
         assertRelArrayEquals(s_expected, s_actual, depsilon * 10);
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testWithoutWorkspace(LAPACK lapack) {
+        int offset = 2;
+        int m = N, n = M;
+        double[] a_expected = copyOf(generatePositiveDefiniteMatrix(m), m * n, offset);
+        double[] a_actual = a_expected.clone();
+        double[] s_expected = new double[offset + n], s_actual = new double[offset + n];
+        double[] u_expected = new double[offset + m * m], u_actual = new double[offset + m * m];
+        double[] vt_expected = new double[offset + n * n], vt_actual = new double[offset + n * n];
+
+        // Reference with a workspace queried and allocated by the caller
+        double[] query = new double[1];
+        intW info_expected = new intW(0);
+        lapack.dgesvd("S", "S", m, n, a_expected, offset, m, s_expected, offset, u_expected, offset, m, vt_expected, offset, n, query, 0, -1, info_expected);
+        assertEquals(0, info_expected.val);
+        int lwork = (int)query[0];
+        lapack.dgesvd("S", "S", m, n, a_expected, offset, m, s_expected, offset, u_expected, offset, m, vt_expected, offset, n, new double[lwork], 0, lwork, info_expected);
+        assertEquals(0, info_expected.val);
+
+        intW info_actual = new intW(0);
+        lapack.dgesvd("S", "S", m, n, a_actual, offset, m, s_actual, offset, u_actual, offset, m, vt_actual, offset, n, info_actual);
+        assertEquals(0, info_actual.val);
+
+        assertArrayEquals(s_expected, s_actual, depsilon * N);
+        assertArrayEquals(u_expected, u_actual, depsilon * N);
+        assertArrayEquals(vt_expected, vt_actual, depsilon * N);
+    }
 }
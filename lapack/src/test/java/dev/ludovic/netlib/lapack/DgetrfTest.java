@@ -25,6 +25,9 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
@@ -44,4 +47,71 @@ public class DgetrfTest extends LAPACKTest {
 
         assertEquals(0, info.val, "LU factorization should succeed");
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBlocked(LAPACK lapack) {
+        // large enough for the blocked implementations to go through more than one panel
+        int[][] shapes = {{200, 150}, {150, 200}, {200, 200}};
+        for (int[] shape : shapes) {
+            int m = shape[0], n = shape[1];
+            java.util.Random rand = new java.util.Random(42);
+            double[] a = new double[m * n];
+            for (int i = 0; i < a.length; i++) {
+                a[i] = rand.nextDouble() - 0.5;
+            }
+
+            int[] expectedIpiv = new int[Math.min(m, n)];
+            intW expectedInfo = new intW(0);
+            double[] expected = a.clone();
+            f2j.dgetrf(m, n, expected, 0, m, expectedIpiv, 0, expectedInfo);
+
+            int[] ipiv = new int[Math.min(m, n)];
+            intW info = new intW(0);
+            double[] actual = a.clone();
+            lapack.dgetrf(m, n, actual, 0, m, ipiv, 0, info);
+
+            assertEquals(expectedInfo.val, info.val);
+            assertArrayEquals(expectedIpiv, ipiv);
+            assertRelArrayEquals(expected, actual, 1e-10);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testSingular(LAPACK lapack) {
+        int n = 150;
+        double[] a = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < n; i++) {
+                // column 100 is zero, every other column is diagonally dominant
+                a[i + j * n] = j == 100 ? 0.0 : (i == j ? n : 1.0 / (i + j + 1));
+            }
+        }
+        int[] ipiv = new int[n];
+        intW info = new intW(0);
+        lapack.dgetrf(n, n, a, 0, n, ipiv, 0, info);
+
+        assertEquals(101, info.val, "U(101,101) should be exactly zero");
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffer(LAPACK lapack) {
+        double[] a_expected = dPositiveDefiniteMatrix.clone();
+        int[] ipiv_expected = new int[N];
+        intW info = new intW(0);
+        f2j.dgetrf(N, N, a_expected, 0, N, ipiv_expected, 0, info);
+        assertEquals(0, info.val, "Reference factorization should succeed");
+
+        for (Buffers buffers : Buffers.values()) {
+            DoubleBuffer a_actual = buffers.of(dPositiveDefiniteMatrix);
+            IntBuffer ipiv_actual = buffers.of(new int[N]);
+            info.val = 0;
+            lapack.dgetrf(N, N, a_actual, 0, N, ipiv_actual, 0, info);
+            assertEquals(0, info.val, "Factorization should succeed");
+            assertArrayEquals(ipiv_expected, toArray(ipiv_actual));
+            assertRelArrayEquals(a_expected, toArray(a_actual), 1e-10);
+        }
+    }
 }
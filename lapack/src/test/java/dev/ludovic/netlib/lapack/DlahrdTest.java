@@ -47,10 +47,11 @@ public class DlahrdTest extends LAPACKTest {
         int nb = 2;
         int ncols = n - k + 1;
 
+        // full rank, so that the Householder vectors do not depend on rounding noise
         double[] a_expected = new double[n * ncols];
         for (int j = 0; j < ncols; j++) {
             for (int i = 0; i < n; i++) {
-                a_expected[i + j * n] = (i + 1.0) * (j + 1.0);
+                a_expected[i + j * n] = (i + 1.0) * (j + 1.0) + (i == j ? n : 0.0);
             }
         }
 
@@ -64,7 +65,7 @@ public class DlahrdTest extends LAPACKTest {
         double[] a_actual = new double[n * ncols];
         for (int j = 0; j < ncols; j++) {
             for (int i = 0; i < n; i++) {
-                a_actual[i + j * n] = (i + 1.0) * (j + 1.0);
+                a_actual[i + j * n] = (i + 1.0) * (j + 1.0) + (i == j ? n : 0.0);
             }
         }
 
@@ -39,8 +39,8 @@ public class Dlasq3Test extends LAPACKTest {
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
         // dlasq3 is an internal LAPACK routine that calls other internal routines.
-        // Native LAPACK 3.12 has complex interdependencies. Test only with F2j.
-        org.junit.jupiter.api.Assumptions.assumeTrue(lapack instanceof F2jLAPACK);
+        // Native LAPACK 3.12 has complex interdependencies. Test only with the Java implementations.
+        org.junit.jupiter.api.Assumptions.assumeTrue(lapack instanceof JavaLAPACK);
 
         // dlasq3 is an internal routine called by dlasq2.
         // Construct a well-formed Z array for a small 4x4 case.
@@ -39,8 +39,8 @@ public class Dlasq5Test extends LAPACKTest {
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
         // dlasq5 is an internal LAPACK routine. Native LAPACK 3.12 may have
-        // complex interdependencies. Test only with F2j.
-        org.junit.jupiter.api.Assumptions.assumeTrue(lapack instanceof F2jLAPACK);
+        // complex interdependencies. Test only with the Java implementations.
+        org.junit.jupiter.api.Assumptions.assumeTrue(lapack instanceof JavaLAPACK);
 
         // dlasq5 computes one dqds transform step
         int n = 4;
@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.DoubleBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -44,4 +46,71 @@ public class DpotrfTest extends LAPACKTest {
 
         assertEquals(0, info.val, "Cholesky factorization should succeed");
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBlocked(LAPACK lapack) {
+        // large enough for the blocked implementations to go through more than one panel
+        int n = 200;
+        java.util.Random rand = new java.util.Random(42);
+        double[] a = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                // symmetric and diagonally dominant, hence positive definite
+                a[i + j * n] = a[j + i * n] = i == j ? n : rand.nextDouble() - 0.5;
+            }
+        }
+
+        for (String uplo : new String[] {"U", "L"}) {
+            intW expectedInfo = new intW(0);
+            double[] expected = a.clone();
+            f2j.dpotrf(uplo, n, expected, 0, n, expectedInfo);
+
+            intW info = new intW(0);
+            double[] actual = a.clone();
+            lapack.dpotrf(uplo, n, actual, 0, n, info);
+
+            assertEquals(expectedInfo.val, info.val);
+            assertRelArrayEquals(expected, actual, 1e-10);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testNotPositiveDefinite(LAPACK lapack) {
+        int n = 150;
+        java.util.Random rand = new java.util.Random(42);
+        double[] a = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                // symmetric and diagonally dominant, hence positive definite
+                a[i + j * n] = a[j + i * n] = i == j ? n : rand.nextDouble() - 0.5;
+            }
+        }
+        a[100 + 100 * n] = -n;
+
+        for (String uplo : new String[] {"U", "L"}) {
+            intW info = new intW(0);
+            lapack.dpotrf(uplo, n, a.clone(), 0, n, info);
+
+            assertEquals(101, info.val, "The leading minor of order 101 should not be positive definite");
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffer(LAPACK lapack) {
+        double[] a_expected = dPositiveDefiniteMatrix.clone();
+        intW info = new intW(0);
+        f2j.dpotrf("U", N, a_expected, 0, N, info);
+        assertEquals(0, info.val, "Reference factorization should succeed");
+
+        for (Buffers buffers : Buffers.values()) {
+            DoubleBuffer a_actual = buffers.of(dPositiveDefiniteMatrix);
+            info.val = 0;
+            lapack.dpotrf("U", N, a_actual, 0, N, info);
+            assertEquals(0, info.val, "Factorization should succeed");
+            assertRelArrayEquals(a_expected, toArray(a_actual), 1e-10);
+        }
+    }
 }
@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.DoubleBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -67,4 +69,30 @@ public class DpotrsTest extends LAPACKTest {
         // Compare solutions (small tolerance increase for O(N²) operations in solve)
         assertArrayEquals(b_expected, b_actual, Math.scalb(depsilon, Math.getExponent(getMaxValue(b_expected)) + 1));
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffer(LAPACK lapack) {
+        double[] a = dPositiveDefiniteMatrix.clone();
+        intW info = new intW(0);
+        f2j.dpotrf("U", N, a, 0, N, info);
+        assertEquals(0, info.val, "Reference factorization should succeed");
+
+        double[] b_expected = generateDoubleArray(N, 1.0);
+        info.val = 0;
+        f2j.dpotrs("U", N, 1, a, 0, N, b_expected, 0, N, info);
+        assertEquals(0, info.val, "Reference solve should succeed");
+
+        for (Buffers buffers : Buffers.values()) {
+            DoubleBuffer b_actual = buffers.of(generateDoubleArray(N, 1.0));
+            info.val = 0;
+            lapack.dpotrs("U", N, 1, buffers.of(a).asReadOnlyBuffer(), 0, N, b_actual, 0, N, info);
+            assertEquals(0, info.val, "Solve should succeed");
+            assertArrayEquals(b_expected, toArray(b_actual), Math.scalb(depsilon, Math.getExponent(getMaxValue(b_expected)) + 1));
+
+            assertThrows(java.nio.ReadOnlyBufferException.class, () -> {
+                lapack.dpotrs("U", N, 1, buffers.of(a), 0, N, buffers.of(generateDoubleArray(N, 1.0)).asReadOnlyBuffer(), 0, N, new intW(0));
+            });
+        }
+    }
 }
@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.lapack;
 
+import dev.ludovic.netlib.blas.Layout;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -94,4 +96,121 @@ public class DsyevTest extends LAPACKTest {
 
         assertRelArrayEquals(w_expected, w_actual, depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testWithoutWorkspace(LAPACK lapack) {
+        int offset = 2;
+        int n = N;
+        double[] a_expected = copyOf(generatePositiveDefiniteMatrix(n), n * n, offset);
+        double[] a_actual = a_expected.clone();
+        double[] w_expected = new double[offset + n], w_actual = new double[offset + n];
+
+        // Reference with a workspace queried and allocated by the caller
+        double[] query = new double[1];
+        intW info_expected = new intW(0);
+        lapack.dsyev("V", "U", n, a_expected, offset, n, w_expected, offset, query, 0, -1, info_expected);
+        assertEquals(0, info_expected.val);
+        int lwork = (int)query[0];
+        lapack.dsyev("V", "U", n, a_expected, offset, n, w_expected, offset, new double[lwork], 0, lwork, info_expected);
+        assertEquals(0, info_expected.val);
+
+        intW info_actual = new intW(0);
+        lapack.dsyev("V", "U", n, a_actual, offset, n, w_actual, offset, info_actual);
+        assertEquals(0, info_actual.val);
+
+        assertArrayEquals(w_expected, w_actual, depsilon * N);
+        assertArrayEquals(a_expected, a_actual, depsilon * N);
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testRowMajor(LAPACK lapack) {
+        int n = N_SMALL;
+        java.util.Random rand = new java.util.Random(42);
+        double[] a = new double[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                a[i + j * n] = a[j + i * n] = rand.nextDouble() - 0.5;
+            }
+        }
+        int lwork = 3 * n - 1;
+
+        double[] a_expected = a.clone();
+        double[] w_expected = new double[n];
+        intW info = new intW(0);
+        f2j.dsyev("V", "L", n, a_expected, 0, n, w_expected, 0, new double[lwork], 0, lwork, info);
+        assertEquals(0, info.val);
+
+        // a is stored row after row, only its lower triangle is referenced
+        double[] a_actual = a.clone();
+        for (int row = 0; row < n; row++) {
+            for (int col = row + 1; col < n; col++) {
+                a_actual[col + row * n] = Double.NaN;
+            }
+        }
+        double[] w_actual = new double[n];
+        double[] query = new double[1];
+        lapack.dsyev(Layout.ROW_MAJOR, "V", "L", n, a_actual, n, w_actual, query, -1, info);
+        assertEquals(0, info.val);
+        assertTrue(query[0] >= lwork);
+        lapack.dsyev(Layout.ROW_MAJOR, "V", "L", n, a_actual, n, w_actual, new double[lwork], lwork, info);
+        assertEquals(0, info.val);
+
+        assertRelArrayEquals(w_expected, w_actual, depsilon * n);
+        // the eigenvectors are the columns of a, up to their sign
+        double[] z_actual = transpose(a_actual, n, n);
+        for (int i = 0; i < n * n; i++) {
+            assertEquals(Math.abs(a_expected[i]), Math.abs(z_actual[i]), depsilon * N);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testRowMajorWorkspaceQuery(LAPACK lapack) {
+        int n = N_SMALL;
+        // a isn't referenced by a workspace query
+        double[] query = new double[1];
+        intW info = new intW(0);
+        lapack.dsyev(Layout.ROW_MAJOR, "V", "L", n, null, n, new double[n], query, -1, info);
+        assertEquals(0, info.val);
+        assertTrue(query[0] >= 3 * n - 1);
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testRowMajorEmpty(LAPACK lapack) {
+        intW info = new intW(0);
+        lapack.dsyev(Layout.ROW_MAJOR, "V", "L", 0, null, 1, new double[0], new double[1], 1, info);
+        assertEquals(0, info.val);
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testWithoutWorkspaceInvalidArguments(LAPACK lapack) {
+        int n = N_SMALL;
+        double[] a = new double[n * n];
+        double[] w = new double[n];
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.dsyev("X", "U", n, a, n, w, new intW(0));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.dsyev("V", "X", n, a, n, w, new intW(0));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.dsyev("V", "U", -1, a, n, w, new intW(0));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.dsyev("V", "U", n, a, n - 1, w, new intW(0));
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            lapack.dsyev("V", "U", n, new double[n * n - 1], n, w, new intW(0));
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            lapack.dsyev("V", "U", n, a, 1, n, w, 0, new intW(0));
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            lapack.dsyev("V", "U", n, a, n, new double[n - 1], new intW(0));
+        });
+    }
 }
@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -101,4 +103,100 @@ public class DsyevdTest extends LAPACKTest {
 
         assertArrayEquals(w_expected, w_actual, depsilon * 100);
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testLargeMatrix(LAPACK lapack) {
+        // Large enough for the JNI wrappers to copy the arrays rather than pinning them
+        int n = 256, offset = 3;
+        Random rand = new Random(0);
+        double[] a_expected = new double[offset + n * n];
+        double[] a_actual = new double[offset + n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                double value = rand.nextDouble() + (i == j ? n : 0);
+                a_expected[offset + i + j * n] = a_expected[offset + j + i * n] = value;
+                a_actual[offset + i + j * n] = a_actual[offset + j + i * n] = value;
+            }
+        }
+
+        double[] w_expected = new double[offset + n];
+        double[] w_actual = new double[offset + n];
+        int lwork = 1 + 6 * n + 2 * n * n;
+        int liwork = 3 + 5 * n;
+        double[] work_expected = new double[lwork];
+        double[] work_actual = new double[lwork];
+        int[] iwork_expected = new int[liwork];
+        int[] iwork_actual = new int[liwork];
+        intW info_expected = new intW(0);
+        intW info_actual = new intW(0);
+
+        f2j.dsyevd("V", "U", n, a_expected, offset, n, w_expected, offset, work_expected, 0, lwork, iwork_expected, 0, liwork, info_expected);
+        assertEquals(0, info_expected.val);
+
+        lapack.dsyevd("V", "U", n, a_actual, offset, n, w_actual, offset, work_actual, 0, lwork, iwork_actual, 0, liwork, info_actual);
+        assertEquals(0, info_actual.val);
+
+        assertRelArrayEquals(w_expected, w_actual, depsilon * n);
+        for (int i = 0; i < offset; i++) {
+            assertEquals(0.0, w_actual[i]);
+            assertEquals(0.0, a_actual[i]);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testWithoutWorkspace(LAPACK lapack) {
+        int offset = 2;
+        int n = N;
+        double[] a_expected = copyOf(generatePositiveDefiniteMatrix(n), n * n, offset);
+        double[] a_actual = a_expected.clone();
+        double[] w_expected = new double[offset + n], w_actual = new double[offset + n];
+
+        // Reference with a workspace queried and allocated by the caller
+        double[] query = new double[1];
+        int[] iquery = new int[1];
+        intW info_expected = new intW(0);
+        lapack.dsyevd("V", "U", n, a_expected, offset, n, w_expected, offset, query, 0, -1, iquery, 0, -1, info_expected);
+        assertEquals(0, info_expected.val);
+        int lwork = (int)query[0];
+        lapack.dsyevd("V", "U", n, a_expected, offset, n, w_expected, offset, new double[lwork], 0, lwork, new int[iquery[0]], 0, iquery[0], info_expected);
+        assertEquals(0, info_expected.val);
+
+        intW info_actual = new intW(0);
+        lapack.dsyevd("V", "U", n, a_actual, offset, n, w_actual, offset, info_actual);
+        assertEquals(0, info_actual.val);
+
+        assertArrayEquals(w_expected, w_actual, depsilon * N);
+        assertArrayEquals(a_expected, a_actual, depsilon * N);
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testWithoutWorkspaceInvalidArguments(LAPACK lapack) {
+        int n = N_SMALL;
+        double[] a = new double[n * n];
+        double[] w = new double[n];
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.dsyevd("X", "U", n, a, n, w, new intW(0));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.dsyevd("V", "X", n, a, n, w, new intW(0));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.dsyevd("V", "U", -1, a, n, w, new intW(0));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.dsyevd("V", "U", n, a, n - 1, w, new intW(0));
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            lapack.dsyevd("V", "U", n, new double[n * n - 1], n, w, new intW(0));
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            lapack.dsyevd("V", "U", n, a, 1, n, w, 0, new intW(0));
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            lapack.dsyevd("V", "U", n, a, n, new double[n - 1], new intW(0));
+        });
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class F2jClassLoaderTest {
+
+    @Test
+    void testJavaLAPACKUsesJavaBLAS() throws Exception {
+        ClassLoader loader = JavaLAPACK.getInstance().getClass().getClassLoader();
+        assertTrue(loader instanceof F2jClassLoader, "JavaLAPACK should be loaded with its BLAS calls redirected");
+
+        // the F2J routines are redefined too, so that they link against JavaBLASBridge
+        assertSame(loader, Class.forName("org.netlib.lapack.Dgesdd", false, loader).getClassLoader());
+        // everything else is shared with the parent
+        assertSame(LAPACK.class, Class.forName(LAPACK.class.getName(), false, loader));
+        assertSame(org.netlib.util.intW.class, Class.forName("org.netlib.util.intW", false, loader));
+    }
+}
@@ -70,6 +70,40 @@ public class LAPACKTest {
   protected final float[] sSymmetricMatrix = generateSymmetricMatrixFloat(N);
   protected final float[] sPositiveDefiniteMatrix = generatePositiveDefiniteMatrixFloat(N);
 
+  // Returns the n by m transpose of the m by n matrix a, that is a stored row after row
+  protected static double[] transpose(double[] a, int m, int n) {
+    double[] result = new double[n * m];
+    for (int col = 0; col < n; col += 1) {
+      for (int row = 0; row < m; row += 1) {
+        result[col + row * n] = a[row + col * m];
+      }
+    }
+    return result;
+  }
+
+  protected static float[] transpose(float[] a, int m, int n) {
+    float[] result = new float[n * m];
+    for (int col = 0; col < n; col += 1) {
+      for (int row = 0; row < m; row += 1) {
+        result[col + row * n] = a[row + col * m];
+      }
+    }
+    return result;
+  }
+
+  // Returns a copy of the first length elements of matrix, starting at offset
+  protected static double[] copyOf(double[] matrix, int length, int offset) {
+    double[] copy = new double[offset + length];
+    System.arraycopy(matrix, 0, copy, offset, length);
+    return copy;
+  }
+
+  protected static float[] copyOf(float[] matrix, int length, int offset) {
+    float[] copy = new float[offset + length];
+    System.arraycopy(matrix, 0, copy, offset, length);
+    return copy;
+  }
+
   private static Stream<Arguments> LAPACKImplementations() {
     Stream instances = Stream.of(
       Arguments.of(Named.of("LAPACK", LAPACK.getInstance())),
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.netlib.util.intW;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+// Offloading is enabled through the surefire configuration, and only takes effect on Java 21+
+public class OffloadTest {
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(Offload.enabled(), "offloading isn't enabled");
+    }
+
+    static void runInVirtualThread(Runnable body) throws Throwable {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Method start = Thread.class.getMethod("startVirtualThread", Runnable.class);
+        Thread thread = (Thread)start.invoke(null, (Runnable)() -> {
+            try {
+                body.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        thread.join();
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    @Test
+    void testOffload() throws Throwable {
+        assertFalse(Offload.offload(Long.MAX_VALUE));
+        runInVirtualThread(() -> {
+            assertTrue(Offload.offload(Long.MAX_VALUE));
+            AtomicReference<Thread> ran = new AtomicReference<>();
+            Offload.run(() -> ran.set(Thread.currentThread()));
+            assertTrue(ran.get().getName().startsWith("netlib-lapack-offload-"));
+        });
+    }
+
+    @Test
+    void testDgesv() throws Throwable {
+        int n = 128;
+        Random rand = new Random(0);
+        double[] a = new double[n * n];
+        double[] b = new double[n];
+        for (int i = 0; i < n * n; i++) {
+            a[i] = rand.nextDouble() + (i % (n + 1) == 0 ? n : 0);
+        }
+        for (int i = 0; i < n; i++) {
+            b[i] = rand.nextDouble();
+        }
+        double[] expecteda = a.clone();
+        double[] expectedb = b.clone();
+        intW expectedinfo = new intW(0);
+        F2jLAPACK.getInstance().dgesv(n, 1, expecteda, n, new int[n], expectedb, n, expectedinfo);
+
+        intW info = new intW(0);
+        runInVirtualThread(() -> OffloadingJNILAPACK.getInstance().dgesv(n, 1, a, n, new int[n], b, n, info));
+        assertEquals(expectedinfo.val, info.val);
+        assertArrayEquals(expectedb, b, 1e-10);
+    }
+}
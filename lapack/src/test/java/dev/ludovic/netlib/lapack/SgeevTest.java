@@ -65,4 +65,34 @@ public class SgeevTest extends LAPACKTest {
         java.util.Arrays.sort(wr_actual);
         assertArrayEquals(wr_expected, wr_actual, sepsilon * 100);
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testWithoutWorkspace(LAPACK lapack) {
+        int offset = 2;
+        int n = N;
+        float[] a_expected = copyOf(generatePositiveDefiniteMatrixFloat(n), n * n, offset);
+        float[] a_actual = a_expected.clone();
+        float[] wr_expected = new float[offset + n], wr_actual = new float[offset + n];
+        float[] wi_expected = new float[offset + n], wi_actual = new float[offset + n];
+        float[] vl = new float[1];
+        float[] vr_expected = new float[offset + n * n], vr_actual = new float[offset + n * n];
+
+        // Reference with a workspace queried and allocated by the caller
+        float[] query = new float[1];
+        intW info_expected = new intW(0);
+        lapack.sgeev("N", "V", n, a_expected, offset, n, wr_expected, offset, wi_expected, offset, vl, 0, 1, vr_expected, offset, n, query, 0, -1, info_expected);
+        assertEquals(0, info_expected.val);
+        int lwork = (int)query[0];
+        lapack.sgeev("N", "V", n, a_expected, offset, n, wr_expected, offset, wi_expected, offset, vl, 0, 1, vr_expected, offset, n, new float[lwork], 0, lwork, info_expected);
+        assertEquals(0, info_expected.val);
+
+        intW info_actual = new intW(0);
+        lapack.sgeev("N", "V", n, a_actual, offset, n, wr_actual, offset, wi_actual, offset, vl, 0, 1, vr_actual, offset, n, info_actual);
+        assertEquals(0, info_actual.val);
+
+        assertArrayEquals(wr_expected, wr_actual, sepsilon * N);
+        assertArrayEquals(wi_expected, wi_actual, sepsilon * N);
+        assertArrayEquals(vr_expected, vr_actual, sepsilon * N);
+    }
 }
@@ -134,4 +134,33 @@ public class SgesddTest extends LAPACKTest {
 
         assertRelArrayEquals(s_expected, s_actual, sepsilon * 100);
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testWithoutWorkspace(LAPACK lapack) {
+        int offset = 2;
+        int m = N, n = M;
+        float[] a_expected = copyOf(generatePositiveDefiniteMatrixFloat(m), m * n, offset);
+        float[] a_actual = a_expected.clone();
+        float[] s_expected = new float[offset + n], s_actual = new float[offset + n];
+        float[] u_expected = new float[offset + m * m], u_actual = new float[offset + m * m];
+        float[] vt_expected = new float[offset + n * n], vt_actual = new float[offset + n * n];
+
+        // Reference with a workspace queried and allocated by the caller
+        float[] query = new float[1];
+        intW info_expected = new intW(0);
+        lapack.sgesdd("S", m, n, a_expected, offset, m, s_expected, offset, u_expected, offset, m, vt_expected, offset, n, query, 0, -1, new int[8 * n], 0, info_expected);
+        assertEquals(0, info_expected.val);
+        int lwork = (int)query[0];
+        lapack.sgesdd("S", m, n, a_expected, offset, m, s_expected, offset, u_expected, offset, m, vt_expected, offset, n, new float[lwork], 0, lwork, new int[8 * n], 0, info_expected);
+        assertEquals(0, info_expected.val);
+
+        intW info_actual = new intW(0);
+        lapack.sgesdd("S", m, n, a_actual, offset, m, s_actual, offset, u_actual, offset, m, vt_actual, offset, n, info_actual);
+        assertEquals(0, info_actual.val);
+
+        assertArrayEquals(s_expected, s_actual, sepsilon * N);
+        assertArrayEquals(u_expected, u_actual, sepsilon * N);
+        assertArrayEquals(vt_expected, vt_actual, sepsilon * N);
+    }
 }
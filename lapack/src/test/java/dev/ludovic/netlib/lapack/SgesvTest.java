@@ -25,6 +25,11 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import dev.ludovic.netlib.blas.Layout;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -61,4 +66,68 @@ public class SgesvTest extends LAPACKTest {
         // Compare solutions
         assertArrayEquals(b_expected, b_actual, Math.scalb(sepsilon, Math.getExponent(getMaxValue(b_expected)) + 2));
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffer(LAPACK lapack) {
+        float[] a_expected = sPositiveDefiniteMatrix.clone();
+        float[] b_expected = generateFloatArray(N, 1.0f);
+        int[] ipiv_expected = new int[N];
+        intW info = new intW(0);
+        f2j.sgesv(N, 1, a_expected, 0, N, ipiv_expected, 0, b_expected, 0, N, info);
+        assertEquals(0, info.val, "Reference solve should succeed");
+
+        for (Buffers buffers : Buffers.values()) {
+            FloatBuffer a_actual = buffers.of(sPositiveDefiniteMatrix);
+            FloatBuffer b_actual = buffers.of(generateFloatArray(N, 1.0f));
+            IntBuffer ipiv_actual = buffers.of(new int[N]);
+            info.val = 0;
+            lapack.sgesv(N, 1, a_actual, 0, N, ipiv_actual, 0, b_actual, 0, N, info);
+            assertEquals(0, info.val, "Solve should succeed");
+            assertArrayEquals(ipiv_expected, toArray(ipiv_actual));
+            assertArrayEquals(b_expected, toArray(b_actual), Math.scalb(sepsilon, Math.getExponent(getMaxValue(b_expected)) + 2));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testRowMajor(LAPACK lapack) {
+        int n = N, nrhs = 3;
+        java.util.Random rand = new java.util.Random(42);
+        // not symmetric for the transposition to matter, diagonally dominant hence not singular
+        float[] a = new float[n * n];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = i % (n + 1) == 0 ? n : rand.nextFloat() - 0.5f;
+        }
+        float[] b = new float[n * nrhs];
+        for (int i = 0; i < b.length; i++) {
+            b[i] = rand.nextFloat() - 0.5f;
+        }
+
+        float[] a_expected = a.clone();
+        float[] b_expected = b.clone();
+        int[] ipiv_expected = new int[n];
+        intW info = new intW(0);
+        f2j.sgesv(n, nrhs, a_expected, 0, n, ipiv_expected, 0, b_expected, 0, n, info);
+        assertEquals(0, info.val);
+
+        // a and b are stored row after row, their leading dimension is their number of columns
+        float[] a_actual = transpose(a, n, n);
+        float[] b_actual = transpose(b, n, nrhs);
+        int[] ipiv_actual = new int[n];
+        lapack.sgesv(Layout.ROW_MAJOR, n, nrhs, a_actual, n, ipiv_actual, b_actual, nrhs, info);
+        assertEquals(0, info.val);
+
+        assertArrayEquals(ipiv_expected, ipiv_actual);
+        assertArrayEquals(a_expected, transpose(a_actual, n, n), Math.scalb(sepsilon, Math.getExponent(getMaxValue(a_expected)) + 2));
+        assertArrayEquals(b_expected, transpose(b_actual, nrhs, n), Math.scalb(sepsilon, Math.getExponent(getMaxValue(b_expected)) + 2));
+
+        // a single right-hand side is contiguous in both layouts
+        float[] x_expected = b.clone();
+        f2j.sgesv(n, 1, a_expected = a.clone(), 0, n, ipiv_expected, 0, x_expected, 0, n, info);
+        float[] x_actual = b.clone();
+        lapack.sgesv(Layout.ROW_MAJOR, n, 1, a_actual = transpose(a, n, n), n, ipiv_actual, x_actual, 1, info);
+        assertEquals(0, info.val);
+        assertArrayEquals(x_expected, x_actual, Math.scalb(sepsilon, Math.getExponent(getMaxValue(x_expected)) + 2));
+    }
 }
@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.FloatBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -69,4 +71,27 @@ public class SgetrsTest extends LAPACKTest {
         // Compare solutions
         assertArrayEquals(b_expected, b_actual, Math.scalb(sepsilon, Math.getExponent(getMaxValue(b_expected))));
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffer(LAPACK lapack) {
+        float[] a = sPositiveDefiniteMatrix.clone();
+        int[] ipiv = new int[N];
+        intW info = new intW(0);
+        f2j.sgetrf(N, N, a, 0, N, ipiv, 0, info);
+        assertEquals(0, info.val, "Reference factorization should succeed");
+
+        float[] b_expected = generateFloatArray(N, 1.0f);
+        info.val = 0;
+        f2j.sgetrs("N", N, 1, a, 0, N, ipiv, 0, b_expected, 0, N, info);
+        assertEquals(0, info.val, "Reference solve should succeed");
+
+        for (Buffers buffers : Buffers.values()) {
+            FloatBuffer b_actual = buffers.of(generateFloatArray(N, 1.0f));
+            info.val = 0;
+            lapack.sgetrs("N", N, 1, buffers.of(a).asReadOnlyBuffer(), 0, N, buffers.of(ipiv).asReadOnlyBuffer(), 0, b_actual, 0, N, info);
+            assertEquals(0, info.val, "Solve should succeed");
+            assertArrayEquals(b_expected, toArray(b_actual), Math.scalb(sepsilon, Math.getExponent(getMaxValue(b_expected))));
+        }
+    }
 }
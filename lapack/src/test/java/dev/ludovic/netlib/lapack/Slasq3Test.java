@@ -39,8 +39,8 @@ public class Slasq3Test extends LAPACKTest {
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
         // slasq3 is an internal LAPACK routine that calls other internal routines.
-        // Native LAPACK 3.12 has complex interdependencies. Test only with F2j.
-        org.junit.jupiter.api.Assumptions.assumeTrue(lapack instanceof F2jLAPACK);
+        // Native LAPACK 3.12 has complex interdependencies. Test only with the Java implementations.
+        org.junit.jupiter.api.Assumptions.assumeTrue(lapack instanceof JavaLAPACK);
 
         int n = 4;
         float[] d = {10.0f, 8.0f, 6.0f, 4.0f};
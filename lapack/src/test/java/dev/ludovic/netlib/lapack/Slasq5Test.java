@@ -39,8 +39,8 @@ public class Slasq5Test extends LAPACKTest {
     @MethodSource("LAPACKImplementations")
     void testSanity(LAPACK lapack) {
         // slasq5 is an internal LAPACK routine. Native LAPACK 3.12 may have
-        // complex interdependencies. Test only with F2j.
-        org.junit.jupiter.api.Assumptions.assumeTrue(lapack instanceof F2jLAPACK);
+        // complex interdependencies. Test only with the Java implementations.
+        org.junit.jupiter.api.Assumptions.assumeTrue(lapack instanceof JavaLAPACK);
 
         int n = 4;
         float[] d = {10.0f, 8.0f, 6.0f, 4.0f};
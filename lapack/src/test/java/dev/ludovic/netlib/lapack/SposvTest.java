@@ -25,6 +25,10 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.FloatBuffer;
+
+import dev.ludovic.netlib.blas.Layout;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -59,4 +63,91 @@ public class SposvTest extends LAPACKTest {
         // Compare solutions
         assertArrayEquals(b_expected, b_actual, Math.scalb(sepsilon, Math.getExponent(getMaxValue(b_expected)) + 2));
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBlocked(LAPACK lapack) {
+        // large enough for the blocked implementations to go through more than one panel
+        int n = 200, nrhs = 3;
+        java.util.Random rand = new java.util.Random(42);
+        float[] a = new float[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                // symmetric and diagonally dominant, hence positive definite
+                a[i + j * n] = a[j + i * n] = i == j ? n : (float)rand.nextDouble() - 0.5f;
+            }
+        }
+        float[] b = new float[n * nrhs];
+        for (int i = 0; i < b.length; i++) {
+            b[i] = (float)rand.nextDouble() - 0.5f;
+        }
+
+        for (String uplo : new String[] {"U", "L"}) {
+            intW expectedInfo = new intW(0);
+            float[] bExpected = b.clone();
+            f2j.sposv(uplo, n, nrhs, a.clone(), 0, n, bExpected, 0, n, expectedInfo);
+
+            intW info = new intW(0);
+            float[] bActual = b.clone();
+            lapack.sposv(uplo, n, nrhs, a.clone(), 0, n, bActual, 0, n, info);
+
+            assertEquals(expectedInfo.val, info.val);
+            assertRelArrayEquals(bExpected, bActual, 1e-3f);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffer(LAPACK lapack) {
+        float[] a_expected = sPositiveDefiniteMatrix.clone();
+        float[] b_expected = generateFloatArray(N, 1.0f);
+        intW info = new intW(0);
+        f2j.sposv("U", N, 1, a_expected, 0, N, b_expected, 0, N, info);
+        assertEquals(0, info.val, "Reference solve should succeed");
+
+        for (Buffers buffers : Buffers.values()) {
+            FloatBuffer a_actual = buffers.of(sPositiveDefiniteMatrix);
+            FloatBuffer b_actual = buffers.of(generateFloatArray(N, 1.0f));
+            info.val = 0;
+            lapack.sposv("U", N, 1, a_actual, 0, N, b_actual, 0, N, info);
+            assertEquals(0, info.val, "Solve should succeed");
+            assertArrayEquals(b_expected, toArray(b_actual), Math.scalb(sepsilon, Math.getExponent(getMaxValue(b_expected)) + 2));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testRowMajor(LAPACK lapack) {
+        int n = N, nrhs = 3;
+        java.util.Random rand = new java.util.Random(42);
+        float[] b = new float[n * nrhs];
+        for (int i = 0; i < b.length; i++) {
+            b[i] = rand.nextFloat() - 0.5f;
+        }
+
+        float[] a_expected = sPositiveDefiniteMatrix.clone();
+        float[] b_expected = b.clone();
+        intW info = new intW(0);
+        f2j.sposv("U", n, nrhs, a_expected, 0, n, b_expected, 0, n, info);
+        assertEquals(0, info.val);
+
+        // a and b are stored row after row, only the upper triangle of a is referenced
+        float[] a_actual = sPositiveDefiniteMatrix.clone();
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < row; col++) {
+                a_actual[col + row * n] = Float.NaN;
+            }
+        }
+        float[] b_actual = transpose(b, n, nrhs);
+        lapack.sposv(Layout.ROW_MAJOR, "U", n, nrhs, a_actual, n, b_actual, nrhs, info);
+        assertEquals(0, info.val);
+
+        assertArrayEquals(b_expected, transpose(b_actual, nrhs, n), Math.scalb(sepsilon, Math.getExponent(getMaxValue(b_expected)) + 2));
+        // the Cholesky factor U is returned row after row
+        for (int row = 0; row < n; row++) {
+            for (int col = row; col < n; col++) {
+                assertEquals(a_expected[row + col * n], a_actual[col + row * n], Math.scalb(sepsilon, Math.getExponent(getMaxValue(a_expected)) + 2));
+            }
+        }
+    }
 }
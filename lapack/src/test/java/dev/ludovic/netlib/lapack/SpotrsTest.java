@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.FloatBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -67,4 +69,30 @@ public class SpotrsTest extends LAPACKTest {
         // Compare solutions
         assertArrayEquals(b_expected, b_actual, Math.scalb(sepsilon, Math.getExponent(getMaxValue(b_expected))));
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffer(LAPACK lapack) {
+        float[] a = sPositiveDefiniteMatrix.clone();
+        intW info = new intW(0);
+        f2j.spotrf("U", N, a, 0, N, info);
+        assertEquals(0, info.val, "Reference factorization should succeed");
+
+        float[] b_expected = generateFloatArray(N, 1.0f);
+        info.val = 0;
+        f2j.spotrs("U", N, 1, a, 0, N, b_expected, 0, N, info);
+        assertEquals(0, info.val, "Reference solve should succeed");
+
+        for (Buffers buffers : Buffers.values()) {
+            FloatBuffer b_actual = buffers.of(generateFloatArray(N, 1.0f));
+            info.val = 0;
+            lapack.spotrs("U", N, 1, buffers.of(a).asReadOnlyBuffer(), 0, N, b_actual, 0, N, info);
+            assertEquals(0, info.val, "Solve should succeed");
+            assertArrayEquals(b_expected, toArray(b_actual), Math.scalb(sepsilon, Math.getExponent(getMaxValue(b_expected)) + 1));
+
+            assertThrows(java.nio.ReadOnlyBufferException.class, () -> {
+                lapack.spotrs("U", N, 1, buffers.of(a), 0, N, buffers.of(generateFloatArray(N, 1.0f)).asReadOnlyBuffer(), 0, N, new intW(0));
+            });
+        }
+    }
 }
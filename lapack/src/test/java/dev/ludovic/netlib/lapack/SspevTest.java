@@ -65,6 +65,6 @@ public class SspevTest extends LAPACKTest {
         lapack.sspev("N", "U", n, ap_actual, 0, w_actual, 0, z_actual, 0, n, work_actual, 0, info_actual);
         assertEquals(0, info_actual.val);
 
-        assertArrayEquals(w_expected, w_actual, sepsilon);
+        assertArrayEquals(w_expected, w_actual, Math.scalb(sepsilon, Math.getExponent(getMaxValue(w_expected))));
     }
 }
@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.lapack;
 
+import dev.ludovic.netlib.blas.Layout;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -62,7 +64,7 @@ public class SsyevTest extends LAPACKTest {
         lapack.ssyev("N", "U", n, a_actual, 0, n, w_actual, 0, work_actual, 0, lwork, info_actual);
         assertEquals(0, info_actual.val, "ssyev should succeed");
 
-        assertArrayEquals(w_expected, w_actual, sepsilon);
+        assertArrayEquals(w_expected, w_actual, Math.scalb(sepsilon, Math.getExponent(getMaxValue(w_expected))));
     }
 
     @ParameterizedTest
@@ -92,6 +94,123 @@ public class SsyevTest extends LAPACKTest {
         lapack.ssyev("V", "U", n, a_actual, 0, n, w_actual, 0, work_actual, 0, lwork, info_actual);
         assertEquals(0, info_actual.val);
 
-        assertArrayEquals(w_expected, w_actual, sepsilon);
+        assertArrayEquals(w_expected, w_actual, Math.scalb(sepsilon, Math.getExponent(getMaxValue(w_expected))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testWithoutWorkspace(LAPACK lapack) {
+        int offset = 2;
+        int n = N;
+        float[] a_expected = copyOf(generatePositiveDefiniteMatrixFloat(n), n * n, offset);
+        float[] a_actual = a_expected.clone();
+        float[] w_expected = new float[offset + n], w_actual = new float[offset + n];
+
+        // Reference with a workspace queried and allocated by the caller
+        float[] query = new float[1];
+        intW info_expected = new intW(0);
+        lapack.ssyev("V", "U", n, a_expected, offset, n, w_expected, offset, query, 0, -1, info_expected);
+        assertEquals(0, info_expected.val);
+        int lwork = (int)query[0];
+        lapack.ssyev("V", "U", n, a_expected, offset, n, w_expected, offset, new float[lwork], 0, lwork, info_expected);
+        assertEquals(0, info_expected.val);
+
+        intW info_actual = new intW(0);
+        lapack.ssyev("V", "U", n, a_actual, offset, n, w_actual, offset, info_actual);
+        assertEquals(0, info_actual.val);
+
+        assertArrayEquals(w_expected, w_actual, sepsilon * N);
+        assertArrayEquals(a_expected, a_actual, sepsilon * N);
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testRowMajor(LAPACK lapack) {
+        int n = N_SMALL;
+        java.util.Random rand = new java.util.Random(42);
+        float[] a = new float[n * n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i <= j; i++) {
+                a[i + j * n] = a[j + i * n] = rand.nextFloat() - 0.5f;
+            }
+        }
+        int lwork = 3 * n - 1;
+
+        float[] a_expected = a.clone();
+        float[] w_expected = new float[n];
+        intW info = new intW(0);
+        f2j.ssyev("V", "L", n, a_expected, 0, n, w_expected, 0, new float[lwork], 0, lwork, info);
+        assertEquals(0, info.val);
+
+        // a is stored row after row, only its lower triangle is referenced
+        float[] a_actual = a.clone();
+        for (int row = 0; row < n; row++) {
+            for (int col = row + 1; col < n; col++) {
+                a_actual[col + row * n] = Float.NaN;
+            }
+        }
+        float[] w_actual = new float[n];
+        float[] query = new float[1];
+        lapack.ssyev(Layout.ROW_MAJOR, "V", "L", n, a_actual, n, w_actual, query, -1, info);
+        assertEquals(0, info.val);
+        assertTrue(query[0] >= lwork);
+        lapack.ssyev(Layout.ROW_MAJOR, "V", "L", n, a_actual, n, w_actual, new float[lwork], lwork, info);
+        assertEquals(0, info.val);
+
+        assertRelArrayEquals(w_expected, w_actual, sepsilon * n);
+        // the eigenvectors are the columns of a, up to their sign
+        float[] z_actual = transpose(a_actual, n, n);
+        for (int i = 0; i < n * n; i++) {
+            assertEquals(Math.abs(a_expected[i]), Math.abs(z_actual[i]), sepsilon * N);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testRowMajorWorkspaceQuery(LAPACK lapack) {
+        int n = N_SMALL;
+        // a isn't referenced by a workspace query
+        float[] query = new float[1];
+        intW info = new intW(0);
+        lapack.ssyev(Layout.ROW_MAJOR, "V", "L", n, null, n, new float[n], query, -1, info);
+        assertEquals(0, info.val);
+        assertTrue(query[0] >= 3 * n - 1);
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testRowMajorEmpty(LAPACK lapack) {
+        intW info = new intW(0);
+        lapack.ssyev(Layout.ROW_MAJOR, "V", "L", 0, null, 1, new float[0], new float[1], 1, info);
+        assertEquals(0, info.val);
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testWithoutWorkspaceInvalidArguments(LAPACK lapack) {
+        int n = N_SMALL;
+        float[] a = new float[n * n];
+        float[] w = new float[n];
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.ssyev("X", "U", n, a, n, w, new intW(0));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.ssyev("V", "X", n, a, n, w, new intW(0));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.ssyev("V", "U", -1, a, n, w, new intW(0));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.ssyev("V", "U", n, a, n - 1, w, new intW(0));
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            lapack.ssyev("V", "U", n, new float[n * n - 1], n, w, new intW(0));
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            lapack.ssyev("V", "U", n, a, 1, n, w, 0, new intW(0));
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            lapack.ssyev("V", "U", n, a, n, new float[n - 1], new intW(0));
+        });
     }
 }
@@ -67,4 +67,60 @@ public class SsyevdTest extends LAPACKTest {
 
         assertRelArrayEquals(w_expected, w_actual, sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testWithoutWorkspace(LAPACK lapack) {
+        int offset = 2;
+        int n = N;
+        float[] a_expected = copyOf(generatePositiveDefiniteMatrixFloat(n), n * n, offset);
+        float[] a_actual = a_expected.clone();
+        float[] w_expected = new float[offset + n], w_actual = new float[offset + n];
+
+        // Reference with a workspace queried and allocated by the caller
+        float[] query = new float[1];
+        int[] iquery = new int[1];
+        intW info_expected = new intW(0);
+        lapack.ssyevd("V", "U", n, a_expected, offset, n, w_expected, offset, query, 0, -1, iquery, 0, -1, info_expected);
+        assertEquals(0, info_expected.val);
+        int lwork = (int)query[0];
+        lapack.ssyevd("V", "U", n, a_expected, offset, n, w_expected, offset, new float[lwork], 0, lwork, new int[iquery[0]], 0, iquery[0], info_expected);
+        assertEquals(0, info_expected.val);
+
+        intW info_actual = new intW(0);
+        lapack.ssyevd("V", "U", n, a_actual, offset, n, w_actual, offset, info_actual);
+        assertEquals(0, info_actual.val);
+
+        assertArrayEquals(w_expected, w_actual, sepsilon * N);
+        assertArrayEquals(a_expected, a_actual, sepsilon * N);
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testWithoutWorkspaceInvalidArguments(LAPACK lapack) {
+        int n = N_SMALL;
+        float[] a = new float[n * n];
+        float[] w = new float[n];
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.ssyevd("X", "U", n, a, n, w, new intW(0));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.ssyevd("V", "X", n, a, n, w, new intW(0));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.ssyevd("V", "U", -1, a, n, w, new intW(0));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            lapack.ssyevd("V", "U", n, a, n - 1, w, new intW(0));
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            lapack.ssyevd("V", "U", n, new float[n * n - 1], n, w, new intW(0));
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            lapack.ssyevd("V", "U", n, a, 1, n, w, 0, new intW(0));
+        });
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            lapack.ssyevd("V", "U", n, a, n, new float[n - 1], new intW(0));
+        });
+    }
 }
@@ -75,6 +75,6 @@ public class SsyevxTest extends LAPACKTest {
         assertEquals(0, info_actual.val, "ssyevx should succeed");
 
         assertEquals(m_expected.val, m_actual.val);
-        assertArrayEquals(w_expected, w_actual, sepsilon);
+        assertArrayEquals(w_expected, w_actual, Math.scalb(sepsilon, Math.getExponent(getMaxValue(w_expected))));
     }
 }
@@ -25,6 +25,12 @@
 
 package dev.ludovic.netlib.test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -441,4 +447,71 @@ public class TestHelpers {
     }
     return h;
   }
+
+  // ---- NIO buffer helpers ----
+
+  // Direct buffers in the native byte order, heap buffers with a non-zero array offset, and direct
+  // buffers in the other byte order, which no native implementation can read without a copy
+  public enum Buffers {
+    DIRECT, HEAP, SWAPPED;
+
+    private ByteBuffer allocate(int size) {
+      ByteOrder order = ByteOrder.nativeOrder();
+      if (this == SWAPPED) {
+        order = order == ByteOrder.LITTLE_ENDIAN ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+      }
+      return ByteBuffer.allocateDirect(size).order(order);
+    }
+
+    public DoubleBuffer of(double[] arr) {
+      if (this == HEAP) {
+        double[] padded = new double[arr.length + 1];
+        System.arraycopy(arr, 0, padded, 1, arr.length);
+        return DoubleBuffer.wrap(padded, 1, arr.length).slice();
+      }
+      return allocate(arr.length * Double.BYTES).asDoubleBuffer().put(arr);
+    }
+
+    public FloatBuffer of(float[] arr) {
+      if (this == HEAP) {
+        float[] padded = new float[arr.length + 1];
+        System.arraycopy(arr, 0, padded, 1, arr.length);
+        return FloatBuffer.wrap(padded, 1, arr.length).slice();
+      }
+      return allocate(arr.length * Float.BYTES).asFloatBuffer().put(arr);
+    }
+
+    public IntBuffer of(int[] arr) {
+      if (this == HEAP) {
+        int[] padded = new int[arr.length + 1];
+        System.arraycopy(arr, 0, padded, 1, arr.length);
+        return IntBuffer.wrap(padded, 1, arr.length).slice();
+      }
+      return allocate(arr.length * Integer.BYTES).asIntBuffer().put(arr);
+    }
+  }
+
+  public static double[] toArray(DoubleBuffer buffer) {
+    double[] result = new double[buffer.limit()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = buffer.get(i);
+    }
+    return result;
+  }
+
+  public static float[] toArray(FloatBuffer buffer) {
+    float[] result = new float[buffer.limit()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = buffer.get(i);
+    }
+    return result;
+  }
+
+  public static int[] toArray(IntBuffer buffer) {
+    int[] result = new int[buffer.limit()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = buffer.get(i);
+    }
+    return result;
+  }
 }